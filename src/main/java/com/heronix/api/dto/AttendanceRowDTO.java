@@ -0,0 +1,12 @@
+package com.heronix.api.dto;
+
+import com.heronix.model.domain.AttendanceRecord.AttendanceStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Attendance list row
+ */
+public record AttendanceRowDTO(Long id, Long studentId, Long courseId, LocalDate date,
+                               Integer periodNumber, AttendanceStatus status) {
+}
@@ -0,0 +1,13 @@
+package com.heronix.api.dto;
+
+import com.heronix.model.domain.AuditLog.AuditAction;
+import com.heronix.model.domain.AuditLog.AuditSeverity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Audit log list row; details, user agent and session are left out
+ */
+public record AuditLogRowDTO(Long id, LocalDateTime timestamp, String username, AuditAction action,
+                             String entityType, Long entityId, boolean success, AuditSeverity severity) {
+}
@@ -0,0 +1,9 @@
+package com.heronix.api.dto;
+
+/**
+ * Course list row, with the assigned teacher's ID and name
+ */
+public record CourseRowDTO(Long id, String courseCode, String courseName, String subject,
+                           Double credits, Integer maxStudents, Integer currentEnrollment,
+                           boolean active, Long teacherId, String teacherName) {
+}
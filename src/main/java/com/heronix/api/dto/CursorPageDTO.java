@@ -0,0 +1,12 @@
+package com.heronix.api.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated list
+ *
+ * nextCursor is opaque: pass it back unchanged as the cursor parameter to
+ * get the following page. It is null on the last page.
+ */
+public record CursorPageDTO<T>(List<T> items, String nextCursor, boolean hasMore, int limit) {
+}
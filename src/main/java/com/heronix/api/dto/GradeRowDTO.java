@@ -0,0 +1,11 @@
+package com.heronix.api.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Student grade list row, with the course code
+ */
+public record GradeRowDTO(Long id, Long studentId, Long courseId, String courseCode, String term,
+                          String letterGrade, Double numericalGrade, Double credits,
+                          LocalDate gradeDate, Boolean isFinal) {
+}
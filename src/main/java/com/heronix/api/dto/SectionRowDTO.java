@@ -0,0 +1,12 @@
+package com.heronix.api.dto;
+
+import com.heronix.model.domain.CourseSection.SectionStatus;
+
+/**
+ * Course section list row, with its course, teacher and room
+ */
+public record SectionRowDTO(Long id, Long courseId, String courseCode, String sectionNumber,
+                            Long teacherId, String teacherName, String roomNumber,
+                            Integer period, Integer currentEnrollment, Integer maxEnrollment,
+                            SectionStatus status) {
+}
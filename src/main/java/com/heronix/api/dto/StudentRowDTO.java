@@ -0,0 +1,8 @@
+package com.heronix.api.dto;
+
+/**
+ * Student list row: the columns of a roster, without the student's associations
+ */
+public record StudentRowDTO(Long id, String studentId, String firstName, String lastName,
+                            String gradeLevel, String email, boolean active) {
+}
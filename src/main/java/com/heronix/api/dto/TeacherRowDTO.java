@@ -0,0 +1,8 @@
+package com.heronix.api.dto;
+
+/**
+ * Teacher list row: the columns of a staff directory, without the teacher's associations
+ */
+public record TeacherRowDTO(Long id, String employeeId, String firstName, String lastName,
+                            String email, String department, boolean active) {
+}
@@ -4,6 +4,10 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Application Configuration Properties
  * Location: src/main/java/com/heronix/config/ApplicationProperties.java
@@ -26,6 +30,7 @@ public class ApplicationProperties {
     private Export export = new Export();
     private Duty duty = new Duty();
     private Print print = new Print();
+    private Cache cache = new Cache();
 
     @Data
     public static class Schedule {
@@ -87,4 +92,29 @@ public class ApplicationProperties {
             }
         }
     }
+
+    @Data
+    public static class Cache {
+        // Settings for caches without their own entry in specs
+        private CacheSpec defaults = new CacheSpec();
+        // Per-cache settings by cache name; unset values fall back to defaults
+        private Map<String, CacheSpec> specs = new LinkedHashMap<>();
+        private Spill spill = new Spill();
+
+        @Data
+        public static class CacheSpec {
+            // Roughly one unit per cached element (collection entry, KB of text)
+            private Long maximumWeight;
+            private Duration expireAfterWrite;
+            private Duration refreshAfterWrite;
+            // Write entries evicted for size to the disk tier
+            private Boolean spill;
+        }
+
+        @Data
+        public static class Spill {
+            private String directory = System.getProperty("java.io.tmpdir") + "/heronix-cache";
+            private long maxBytes = 256L * 1024 * 1024;
+        }
+    }
 }
@@ -1,9 +1,12 @@
 package com.heronix.config;
 
+import com.heronix.monitoring.SqlActivity;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -51,6 +54,9 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(30);
 
+        // Count each task's SQL statements (see SqlActivityRecorder)
+        executor.setTaskDecorator(sqlActivity("taskExecutor"));
+
         executor.initialize();
 
         log.info("Task executor initialized: core={}, max={}, queue={}",
@@ -73,6 +79,7 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(10);
+        executor.setTaskDecorator(sqlActivity("uiTaskExecutor"));
         executor.initialize();
 
         log.info("UI task executor initialized: core={}, max={}, queue={}",
@@ -95,6 +102,7 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(15);
+        executor.setTaskDecorator(sqlActivity("scheduledTaskExecutor"));
         executor.initialize();
 
         log.info("Scheduled task executor initialized: core={}, max={}, queue={}",
@@ -120,6 +128,7 @@ public class AsyncConfig implements AsyncConfigurer {
         executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
         executor.setWaitForTasksToCompleteOnShutdown(true);
         executor.setAwaitTerminationSeconds(60);
+        executor.setTaskDecorator(sqlActivity("reportExecutor"));
         executor.initialize();
 
         log.info("Report executor initialized: core={}, max={}, queue={}",
@@ -128,6 +137,42 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * Report card batch executor
+     * Renders chunks of report cards in parallel; kept small so an end-of-term
+     * run for the whole school can't take every database connection
+     *
+     * @since Phase 15 - Performance Optimizations
+     */
+    @Bean(name = "reportCardExecutor")
+    public Executor reportCardExecutor(
+            @Value("${heronix.report-cards.batch.threads:4}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("Heronix-ReportCard-");
+        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.setTaskDecorator(sqlActivity("reportCardExecutor"));
+        executor.initialize();
+
+        log.info("Report card executor initialized: core={}, max={}, queue={}",
+                executor.getCorePoolSize(), executor.getMaxPoolSize(), executor.getQueueCapacity());
+
+        return executor;
+    }
+
+    /**
+     * Runs each task in its own SqlActivity scope, named after the executor
+     *
+     * @since Phase 15 - Performance Optimizations
+     */
+    private static TaskDecorator sqlActivity(String executorName) {
+        return task -> SqlActivity.wrap(SqlActivity.Kind.ASYNC, executorName, task);
+    }
+
     @Override
     public Executor getAsyncExecutor() {
         return taskExecutor();
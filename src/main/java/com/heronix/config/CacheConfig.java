@@ -1,19 +1,18 @@
 package com.heronix.config;
 
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
-import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.Arrays;
+import java.util.List;
 
 /**
  * Cache Configuration
  *
  * Configures Spring Cache for dashboard metrics and other frequently accessed data.
- * Uses simple in-memory caching with ConcurrentHashMap backend.
+ * Uses bounded, expiring Caffeine caches ({@link TieredCacheManager}) sized from
+ * the heronix.cache.* properties, with statistics exposed through actuator and an
+ * optional disk tier for large entries.
  *
  * Location: src/main/java/com/heronix/config/CacheConfig.java
  *
@@ -46,33 +45,44 @@ public class CacheConfig {
      * - behaviorAnalytics: Behavior analytics data (Phase 59)
      * - incidentCategories: Incident category data (Phase 59)
      * - incidentLocations: Incident location data (Phase 59)
+     * - chronicAbsenteeism: Chronic absenteeism data (Phase 59)
+     * - enrollmentTrends: Enrollment trend data (Phase 59)
+     * - demographics: Demographics breakdown (Phase 59)
+     * - specialNeeds: Special needs breakdown (Phase 59)
+     * - letterGradeDistribution: Letter grade distribution (Phase 59)
+     *
+     * Size bounds, TTLs and refresh intervals are set per cache with
+     * heronix.cache.specs[name].* (see application.properties).
      *
      * @return configured CacheManager
      */
     @Bean
-    public CacheManager cacheManager() {
-        SimpleCacheManager cacheManager = new SimpleCacheManager();
-        cacheManager.setCaches(Arrays.asList(
+    public TieredCacheManager cacheManager(ApplicationProperties applicationProperties) {
+        return new TieredCacheManager(applicationProperties.getCache(), List.of(
             // Existing caches
-            new ConcurrentMapCache("dashboardMetrics"),
-            new ConcurrentMapCache("attendanceAnalytics"),
-            new ConcurrentMapCache("behaviorReports"),
-            new ConcurrentMapCache("assignmentReports"),
-            new ConcurrentMapCache("conflictAnalysis"),
-            new ConcurrentMapCache("studentData"),
-            new ConcurrentMapCache("courseData"),
+            "dashboardMetrics",
+            "attendanceAnalytics",
+            "behaviorReports",
+            "assignmentReports",
+            "conflictAnalysis",
+            "studentData",
+            "courseData",
             // Phase 59 - Comprehensive Analytics Module caches
-            new ConcurrentMapCache("analyticsSummary"),
-            new ConcurrentMapCache("studentAnalytics"),
-            new ConcurrentMapCache("academicPerformance"),
-            new ConcurrentMapCache("gpaDistribution"),
-            new ConcurrentMapCache("staffAnalytics"),
-            new ConcurrentMapCache("experienceDistribution"),
-            new ConcurrentMapCache("departmentBreakdown"),
-            new ConcurrentMapCache("behaviorAnalytics"),
-            new ConcurrentMapCache("incidentCategories"),
-            new ConcurrentMapCache("incidentLocations")
+            "analyticsSummary",
+            "studentAnalytics",
+            "academicPerformance",
+            "gpaDistribution",
+            "staffAnalytics",
+            "experienceDistribution",
+            "departmentBreakdown",
+            "behaviorAnalytics",
+            "incidentCategories",
+            "incidentLocations",
+            "chronicAbsenteeism",
+            "enrollmentTrends",
+            "demographics",
+            "specialNeeds",
+            "letterGradeDistribution"
         ));
-        return cacheManager;
     }
 }
@@ -0,0 +1,206 @@
+package com.heronix.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache Spill Store
+ * Disk tier of one {@link TieredCache}: entries the heap tier evicts for size are
+ * serialized to files here and promoted back to the heap on their next read.
+ *
+ * Only the file index lives in memory. Files are written once and read (then
+ * deleted) once; the directory is cleared when the store is created, so spilled
+ * entries never outlive the process. Values that aren't Serializable are not
+ * spilled. When the byte budget is exceeded the oldest files go first.
+ *
+ * Location: src/main/java/com/heronix/config/CacheSpillStore.java
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@Slf4j
+public class CacheSpillStore {
+
+    private final Path directory;
+    private final long maxBytes;
+    private final long expireAfterWriteMillis;
+
+    private final Map<Object, SpillFile> files = new ConcurrentHashMap<>();
+    private final Queue<Object> spillOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicLong fileSequence = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    private record SpillFile(Path path, long size) {
+    }
+
+    /**
+     * @param directory              directory for this cache's files (cleared on creation)
+     * @param maxBytes               byte budget for the directory
+     * @param expireAfterWriteMillis drop entries older than this on read (0 = never)
+     */
+    public CacheSpillStore(Path directory, long maxBytes, long expireAfterWriteMillis) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.expireAfterWriteMillis = expireAfterWriteMillis;
+
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> stale = Files.newDirectoryStream(directory, "*.bin")) {
+                for (Path file : stale) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Cache spill directory {} is not usable: {}", directory, e.getMessage());
+        }
+    }
+
+    // ========================================================================
+    // OPERATIONS
+    // ========================================================================
+
+    /**
+     * Write an evicted entry to disk; skipped when it isn't serializable or
+     * doesn't fit the byte budget
+     */
+    public void put(Object key, TieredCache.StoredValue stored) {
+        if (key == null || stored == null || !(stored.value() instanceof Serializable)) {
+            return;
+        }
+
+        byte[] data;
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(buffer)) {
+                out.writeObject(stored);
+            }
+            data = buffer.toByteArray();
+        } catch (IOException e) {
+            // A nested field isn't serializable; keep the eviction
+            failures.increment();
+            log.debug("Not spilling cache entry {}: {}", key, e.getMessage());
+            return;
+        }
+        if (data.length > maxBytes) {
+            return;
+        }
+
+        Path path = directory.resolve(fileSequence.incrementAndGet() + ".bin");
+        try {
+            Files.write(path, data);
+        } catch (IOException e) {
+            failures.increment();
+            log.warn("Failed to spill cache entry to {}: {}", path, e.getMessage());
+            return;
+        }
+
+        release(files.put(key, new SpillFile(path, data.length)));
+        bytes.addAndGet(data.length);
+        spillOrder.add(key);
+        writes.increment();
+
+        while (bytes.get() > maxBytes) {
+            Object oldest = spillOrder.poll();
+            if (oldest == null) {
+                break;
+            }
+            if (release(files.remove(oldest))) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Remove an entry from disk and return it, or null if it isn't spilled or has expired
+     */
+    public TieredCache.StoredValue take(Object key) {
+        SpillFile file = files.remove(key);
+        if (file == null) {
+            return null;
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(Files.readAllBytes(file.path())))) {
+            TieredCache.StoredValue stored = (TieredCache.StoredValue) in.readObject();
+            if (expireAfterWriteMillis > 0
+                    && System.currentTimeMillis() - stored.writtenAt() >= expireAfterWriteMillis) {
+                return null;
+            }
+            hits.increment();
+            return stored;
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            failures.increment();
+            log.warn("Failed to read spilled cache entry {}: {}", file.path(), e.getMessage());
+            return null;
+        } finally {
+            release(file);
+        }
+    }
+
+    public void remove(Object key) {
+        release(files.remove(key));
+    }
+
+    public void clear() {
+        for (Object key : files.keySet()) {
+            remove(key);
+        }
+        spillOrder.clear();
+    }
+
+    private boolean release(SpillFile file) {
+        if (file == null) {
+            return false;
+        }
+        bytes.addAndGet(-file.size());
+        try {
+            Files.deleteIfExists(file.path());
+        } catch (IOException e) {
+            log.debug("Failed to delete spill file {}: {}", file.path(), e.getMessage());
+        }
+        return true;
+    }
+
+    // ========================================================================
+    // STATISTICS
+    // ========================================================================
+
+    public long getEntryCount() {
+        return files.size();
+    }
+
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    public long getWrites() {
+        return writes.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+}
@@ -80,6 +80,10 @@ public class DatabaseConfig {
         // Performance tuning
         config.setAutoCommit(false);
         config.setConnectionTestQuery("SELECT 1");
+        if (url.startsWith("jdbc:postgresql:")) {
+            // Send JDBC batches as multi-row INSERTs (BulkWriteService)
+            config.addDataSourceProperty("reWriteBatchedInserts", "true");
+        }
 
         return new HikariDataSource(config);
     }
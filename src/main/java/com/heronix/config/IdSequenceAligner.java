@@ -0,0 +1,120 @@
+package com.heronix.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * ID Sequence Aligner
+ * Moves the pooled ID sequences of the bulk-write tables past the IDs already
+ * in those tables.
+ *
+ * These tables used IDENTITY columns before they switched to pooled sequences,
+ * so an existing database has rows but a new sequence starting at 1. Runs once
+ * when the context is refreshed, before any CommandLineRunner writes data.
+ *
+ * A sequence is only ever moved forward: one value is drawn, and only if the
+ * block it hands out would overlap existing rows is the sequence restarted.
+ *
+ * Location: src/main/java/com/heronix/config/IdSequenceAligner.java
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@Slf4j
+@Component
+public class IdSequenceAligner {
+
+    /**
+     * Must match the allocationSize of the entities' @SequenceGenerator
+     */
+    static final int ALLOCATION_SIZE = 500;
+
+    /**
+     * Sequence name -> table it allocates IDs for
+     */
+    static final Map<String, String> SEQUENCES = new LinkedHashMap<>();
+
+    static {
+        SEQUENCES.put("attendance_records_seq", "attendance_records");
+        SEQUENCES.put("assignment_grades_seq", "assignment_grades");
+        SEQUENCES.put("student_enrollments_seq", "student_enrollments");
+        SEQUENCES.put("audit_logs_seq", "audit_logs");
+        SEQUENCES.put("qr_attendance_log_seq", "qr_attendance_log");
+        SEQUENCES.put("students_seq", "students");
+        SEQUENCES.put("teachers_seq", "teachers");
+        SEQUENCES.put("courses_seq", "courses");
+        SEQUENCES.put("rooms_seq", "rooms");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean aligned = new AtomicBoolean();
+
+    public IdSequenceAligner(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onContextRefreshed() {
+        if (aligned.compareAndSet(false, true)) {
+            alignAll();
+        }
+    }
+
+    /**
+     * Align every bulk-write sequence, each in its own transaction; failures are
+     * logged and don't stop startup
+     */
+    public void alignAll() {
+        boolean postgres = isPostgres();
+        for (Map.Entry<String, String> entry : SEQUENCES.entrySet()) {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        align(entry.getKey(), entry.getValue(), postgres));
+            } catch (Exception e) {
+                log.warn("Could not align sequence {} with table {}: {}",
+                        entry.getKey(), entry.getValue(), e.getMessage());
+            }
+        }
+    }
+
+    private void align(String sequence, String table, boolean postgres) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        if (maxId == null) {
+            return;
+        }
+
+        String nextValueSql = postgres
+                ? "SELECT nextval('" + sequence + "')"
+                : "SELECT NEXT VALUE FOR " + sequence;
+        Long next = jdbcTemplate.queryForObject(nextValueSql, Long.class);
+
+        // The pooled optimizer hands out (next - ALLOCATION_SIZE, next]
+        if (next == null || next - ALLOCATION_SIZE < maxId) {
+            long restartWith = maxId + ALLOCATION_SIZE;
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + restartWith);
+            log.info("Restarted sequence {} at {} (max {}.id = {})", sequence, restartWith, table, maxId);
+        }
+    }
+
+    private boolean isPostgres() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase().contains("postgres");
+    }
+}
@@ -0,0 +1,193 @@
+package com.heronix.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.io.Serializable;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tiered Cache
+ * Caffeine heap tier with write timestamps, refresh-after-write and an optional
+ * disk tier for entries evicted for size.
+ *
+ * Size bounds, expiry and hit/miss/eviction statistics come from the Caffeine
+ * cache. On top of that:
+ * - Refresh: a loader lookup ({@code @Cacheable(sync = true)}) that finds an
+ *   entry older than the refresh interval returns it and reloads it in the
+ *   background, one reload per key at a time. Plain lookups only expire.
+ * - Spill: with a {@link CacheSpillStore}, a heap miss checks the disk tier and
+ *   promotes the entry back to the heap.
+ *
+ * Location: src/main/java/com/heronix/config/TieredCache.java
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@Slf4j
+public class TieredCache extends CaffeineCache {
+
+    private final long refreshAfterWriteMillis;
+    private final CacheSpillStore spillStore;
+    private final Executor refreshExecutor;
+
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    /**
+     * Cached value with the time it was written
+     */
+    public record StoredValue(Object value, long writtenAt) implements Serializable {
+    }
+
+    /**
+     * @param refreshAfterWriteMillis reload entries older than this on loader lookups (0 = never)
+     * @param spillStore              disk tier, or null for a heap-only cache
+     */
+    public TieredCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+                       long refreshAfterWriteMillis, CacheSpillStore spillStore, Executor refreshExecutor) {
+        super(name, cache, true);
+        this.refreshAfterWriteMillis = refreshAfterWriteMillis;
+        this.spillStore = spillStore;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    // ========================================================================
+    // LOOKUP
+    // ========================================================================
+
+    @Override
+    protected Object lookup(Object key) {
+        Object stored = super.lookup(key);
+        if (stored == null && spillStore != null) {
+            stored = spillStore.take(key);
+            if (stored != null) {
+                getNativeCache().put(key, stored);
+            }
+        }
+        return stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object stored = lookup(key);
+        if (stored == null) {
+            // Concurrent misses on one key share a single load
+            return super.get(key, valueLoader);
+        }
+        if (refreshAfterWriteMillis > 0 && stored instanceof StoredValue value
+                && System.currentTimeMillis() - value.writtenAt() >= refreshAfterWriteMillis) {
+            refresh(key, valueLoader);
+        }
+        return (T) fromStoreValue(stored);
+    }
+
+    private void refresh(Object key, Callable<?> valueLoader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    put(key, valueLoader.call());
+                    refreshes.increment();
+                } catch (Exception e) {
+                    // Keep serving the current value until it expires
+                    refreshFailures.increment();
+                    log.warn("Failed to refresh {} entry {}: {}", getName(), key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.remove(key);
+            log.warn("Failed to schedule refresh of {} entry {}: {}", getName(), key, e.getMessage());
+        }
+    }
+
+    // ========================================================================
+    // UPDATES
+    // ========================================================================
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        if (spillStore != null) {
+            spillStore.remove(key);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        // Promote a spilled entry first so it counts as present
+        lookup(key);
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        if (spillStore != null) {
+            spillStore.remove(key);
+        }
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = super.evictIfPresent(key);
+        if (spillStore != null) {
+            spillStore.remove(key);
+        }
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        if (spillStore != null) {
+            spillStore.clear();
+        }
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = super.invalidate();
+        if (spillStore != null) {
+            spillStore.clear();
+        }
+        return invalidated;
+    }
+
+    // ========================================================================
+    // STORE VALUES
+    // ========================================================================
+
+    @Override
+    protected Object toStoreValue(Object userValue) {
+        return new StoredValue(super.toStoreValue(userValue), System.currentTimeMillis());
+    }
+
+    @Override
+    protected Object fromStoreValue(Object storeValue) {
+        return super.fromStoreValue(storeValue instanceof StoredValue stored ? stored.value() : storeValue);
+    }
+
+    public CacheSpillStore getSpillStore() {
+        return spillStore;
+    }
+
+    public long getRefreshCount() {
+        return refreshes.sum();
+    }
+
+    public long getRefreshFailureCount() {
+        return refreshFailures.sum();
+    }
+}
@@ -0,0 +1,206 @@
+package com.heronix.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractCacheManager;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Tiered Cache Manager
+ * Builds a {@link TieredCache} per cache name from the heronix.cache.* settings.
+ *
+ * Every cache is bounded by weight (roughly one unit per cached element, see
+ * {@link #weigh}) and expires after write. Caches record Caffeine statistics,
+ * which Spring Boot publishes as the cache.gets / cache.puts / cache.evictions
+ * meters and under /actuator/caches; the disk tier and refreshes are published
+ * by {@link #bindTo} as cache.spill.* and cache.refreshes.
+ *
+ * Unknown cache names still get a cache (with the default settings) so a new
+ * {@code @Cacheable} doesn't fail at runtime, but a warning is logged: register
+ * the name in CacheConfig so it's bound to metrics at startup.
+ *
+ * Location: src/main/java/com/heronix/config/TieredCacheManager.java
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@Slf4j
+public class TieredCacheManager extends AbstractCacheManager implements MeterBinder {
+
+    static final long DEFAULT_MAXIMUM_WEIGHT = 10_000;
+    static final Duration DEFAULT_EXPIRE_AFTER_WRITE = Duration.ofMinutes(30);
+
+    // Strings and byte arrays weigh one unit per KB
+    private static final int BYTES_PER_UNIT = 1024;
+
+    private final ApplicationProperties.Cache settings;
+    private final Collection<String> cacheNames;
+    private final Executor refreshExecutor;
+
+    public TieredCacheManager(ApplicationProperties.Cache settings, Collection<String> cacheNames) {
+        this(settings, cacheNames, ForkJoinPool.commonPool());
+    }
+
+    public TieredCacheManager(ApplicationProperties.Cache settings, Collection<String> cacheNames,
+                              Executor refreshExecutor) {
+        this.settings = settings;
+        this.cacheNames = cacheNames;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    // ========================================================================
+    // CACHE CREATION
+    // ========================================================================
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        Set<String> names = new LinkedHashSet<>(cacheNames);
+        names.addAll(settings.getSpecs().keySet());
+
+        List<Cache> caches = new ArrayList<>(names.size());
+        for (String name : names) {
+            caches.add(createCache(name));
+        }
+        return caches;
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        log.warn("Cache '{}' is not registered in CacheConfig; using default cache settings", name);
+        return createCache(name);
+    }
+
+    TieredCache createCache(String name) {
+        ApplicationProperties.Cache.CacheSpec spec = settings.getSpecs().get(name);
+        ApplicationProperties.Cache.CacheSpec defaults = settings.getDefaults();
+
+        long maximumWeight = resolve(spec, defaults, ApplicationProperties.Cache.CacheSpec::getMaximumWeight,
+            DEFAULT_MAXIMUM_WEIGHT);
+        Duration expireAfterWrite = resolve(spec, defaults, ApplicationProperties.Cache.CacheSpec::getExpireAfterWrite,
+            DEFAULT_EXPIRE_AFTER_WRITE);
+        Duration refreshAfterWrite = resolve(spec, defaults, ApplicationProperties.Cache.CacheSpec::getRefreshAfterWrite,
+            Duration.ZERO);
+        boolean spill = resolve(spec, defaults, ApplicationProperties.Cache.CacheSpec::getSpill, false);
+
+        CacheSpillStore spillStore = spill
+            ? new CacheSpillStore(Path.of(settings.getSpill().getDirectory(), name),
+                settings.getSpill().getMaxBytes(), expireAfterWrite.toMillis())
+            : null;
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+            .recordStats()
+            .maximumWeight(maximumWeight)
+            .weigher((Object key, Object value) -> weigh(value));
+        if (!expireAfterWrite.isZero()) {
+            builder.expireAfterWrite(expireAfterWrite);
+        }
+        if (spillStore != null) {
+            builder.evictionListener((Object key, Object value, RemovalCause cause) -> {
+                if (cause == RemovalCause.SIZE && value instanceof TieredCache.StoredValue stored) {
+                    spillStore.put(key, stored);
+                }
+            });
+        }
+
+        log.debug("Cache '{}': maximum weight {}, expire after {}, refresh after {}, spill {}",
+            name, maximumWeight, expireAfterWrite, refreshAfterWrite, spill);
+
+        return new TieredCache(name, builder.build(), refreshAfterWrite.toMillis(), spillStore, refreshExecutor);
+    }
+
+    private static <T> T resolve(ApplicationProperties.Cache.CacheSpec spec,
+                                 ApplicationProperties.Cache.CacheSpec defaults,
+                                 Function<ApplicationProperties.Cache.CacheSpec, T> property,
+                                 T fallback) {
+        T value = spec != null ? property.apply(spec) : null;
+        if (value == null && defaults != null) {
+            value = property.apply(defaults);
+        }
+        return value != null ? value : fallback;
+    }
+
+    /**
+     * Approximate weight of a cached value: one unit per collection, map or
+     * array element, one per KB of text or bytes, otherwise one
+     */
+    static int weigh(Object value) {
+        Object userValue = value instanceof TieredCache.StoredValue stored ? stored.value() : value;
+        long weight;
+        if (userValue instanceof Collection<?> collection) {
+            weight = 1L + collection.size();
+        } else if (userValue instanceof Map<?, ?> map) {
+            weight = 1L + map.size();
+        } else if (userValue instanceof CharSequence text) {
+            weight = 1L + text.length() / BYTES_PER_UNIT;
+        } else if (userValue instanceof byte[] bytes) {
+            weight = 1L + bytes.length / BYTES_PER_UNIT;
+        } else if (userValue instanceof Object[] array) {
+            weight = 1L + array.length;
+        } else {
+            weight = 1;
+        }
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    // ========================================================================
+    // METRICS
+    // ========================================================================
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String name : getCacheNames()) {
+            if (!(getCache(name) instanceof TieredCache cache)) {
+                continue;
+            }
+
+            counter(registry, "cache.refreshes", "Background refreshes of stale entries", cache,
+                TieredCache::getRefreshCount, "result", "success");
+            counter(registry, "cache.refreshes", "Background refreshes of stale entries", cache,
+                TieredCache::getRefreshFailureCount, "result", "failure");
+
+            CacheSpillStore spill = cache.getSpillStore();
+            if (spill == null) {
+                continue;
+            }
+            counter(registry, "cache.spill.writes", "Entries written to the disk tier", cache,
+                c -> c.getSpillStore().getWrites());
+            counter(registry, "cache.spill.hits", "Entries promoted from the disk tier", cache,
+                c -> c.getSpillStore().getHits());
+            counter(registry, "cache.spill.evictions", "Entries dropped from the disk tier", cache,
+                c -> c.getSpillStore().getEvictions());
+            counter(registry, "cache.spill.failures", "Disk tier serialization or I/O failures", cache,
+                c -> c.getSpillStore().getFailures());
+            Gauge.builder("cache.spill.size", spill, CacheSpillStore::getEntryCount)
+                .description("Entries in the disk tier")
+                .tag("cache", name)
+                .register(registry);
+            Gauge.builder("cache.spill.bytes", spill, CacheSpillStore::getBytes)
+                .description("Bytes in the disk tier")
+                .tag("cache", name)
+                .register(registry);
+        }
+    }
+
+    private static void counter(MeterRegistry registry, String meter, String description, TieredCache cache,
+                                ToDoubleFunction<TieredCache> count, String... tags) {
+        FunctionCounter.builder(meter, cache, count)
+            .description(description)
+            .tag("cache", cache.getName())
+            .tags(tags)
+            .register(registry);
+    }
+}
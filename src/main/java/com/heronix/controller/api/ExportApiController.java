@@ -10,8 +10,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,10 +36,6 @@ public class ExportApiController {
 
     private final ExportService exportService;
     private final ScheduleRepository scheduleRepository;
-    private final TeacherRepository teacherRepository;
-    private final StudentRepository studentRepository;
-    private final CourseRepository courseRepository;
-    private final RoomRepository roomRepository;
     private final EventRepository eventRepository;
 
     // ==================== Schedule Exports ====================
@@ -139,153 +137,49 @@ public class ExportApiController {
     // ==================== Teachers Export ====================
 
     @GetMapping("/teachers/excel")
-    public ResponseEntity<byte[]> exportTeachersToExcel() {
-        try {
-            List<Teacher> teachers = teacherRepository.findAll();
-            byte[] exportData = exportService.exportTeachersToExcel(teachers);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
-            headers.setContentDispositionFormData("attachment", "teachers.xlsx");
-
-            return ResponseEntity.ok()
-                .headers(headers)
-                .body(exportData);
-        } catch (IOException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public ResponseEntity<StreamingResponseBody> exportTeachersToExcel() {
+        return streamExport("teachers", ExportFormat.EXCEL, exportService::streamTeachers);
     }
 
     @GetMapping("/teachers/csv")
-    public ResponseEntity<byte[]> exportTeachersToCSV() {
-        try {
-            List<Teacher> teachers = teacherRepository.findAll();
-            byte[] exportData = exportService.exportTeachersToCSV(teachers);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("text/csv"));
-            headers.setContentDispositionFormData("attachment", "teachers.csv");
-
-            return ResponseEntity.ok()
-                .headers(headers)
-                .body(exportData);
-        } catch (IOException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public ResponseEntity<StreamingResponseBody> exportTeachersToCSV() {
+        return streamExport("teachers", ExportFormat.CSV, exportService::streamTeachers);
     }
 
     // ==================== Students Export ====================
 
     @GetMapping("/students/excel")
-    public ResponseEntity<byte[]> exportStudentsToExcel() {
-        try {
-            List<Student> students = studentRepository.findAll();
-            byte[] exportData = exportService.exportStudentsToExcel(students);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
-            headers.setContentDispositionFormData("attachment", "students.xlsx");
-
-            return ResponseEntity.ok()
-                .headers(headers)
-                .body(exportData);
-        } catch (IOException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public ResponseEntity<StreamingResponseBody> exportStudentsToExcel() {
+        return streamExport("students", ExportFormat.EXCEL, exportService::streamStudents);
     }
 
     @GetMapping("/students/csv")
-    public ResponseEntity<byte[]> exportStudentsToCSV() {
-        try {
-            List<Student> students = studentRepository.findAll();
-            byte[] exportData = exportService.exportStudentsToCSV(students);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("text/csv"));
-            headers.setContentDispositionFormData("attachment", "students.csv");
-
-            return ResponseEntity.ok()
-                .headers(headers)
-                .body(exportData);
-        } catch (IOException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public ResponseEntity<StreamingResponseBody> exportStudentsToCSV() {
+        return streamExport("students", ExportFormat.CSV, exportService::streamStudents);
     }
 
     // ==================== Courses Export ====================
 
     @GetMapping("/courses/excel")
-    public ResponseEntity<byte[]> exportCoursesToExcel() {
-        try {
-            List<Course> courses = courseRepository.findAll();
-            byte[] exportData = exportService.exportCoursesToExcel(courses);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
-            headers.setContentDispositionFormData("attachment", "courses.xlsx");
-
-            return ResponseEntity.ok()
-                .headers(headers)
-                .body(exportData);
-        } catch (IOException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public ResponseEntity<StreamingResponseBody> exportCoursesToExcel() {
+        return streamExport("courses", ExportFormat.EXCEL, exportService::streamCourses);
     }
 
     @GetMapping("/courses/csv")
-    public ResponseEntity<byte[]> exportCoursesToCSV() {
-        try {
-            List<Course> courses = courseRepository.findAll();
-            byte[] exportData = exportService.exportCoursesToCSV(courses);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("text/csv"));
-            headers.setContentDispositionFormData("attachment", "courses.csv");
-
-            return ResponseEntity.ok()
-                .headers(headers)
-                .body(exportData);
-        } catch (IOException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public ResponseEntity<StreamingResponseBody> exportCoursesToCSV() {
+        return streamExport("courses", ExportFormat.CSV, exportService::streamCourses);
     }
 
     // ==================== Rooms Export ====================
 
     @GetMapping("/rooms/excel")
-    public ResponseEntity<byte[]> exportRoomsToExcel() {
-        try {
-            List<Room> rooms = roomRepository.findAll();
-            byte[] exportData = exportService.exportRoomsToExcel(rooms);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
-            headers.setContentDispositionFormData("attachment", "rooms.xlsx");
-
-            return ResponseEntity.ok()
-                .headers(headers)
-                .body(exportData);
-        } catch (IOException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public ResponseEntity<StreamingResponseBody> exportRoomsToExcel() {
+        return streamExport("rooms", ExportFormat.EXCEL, exportService::streamRooms);
     }
 
     @GetMapping("/rooms/csv")
-    public ResponseEntity<byte[]> exportRoomsToCSV() {
-        try {
-            List<Room> rooms = roomRepository.findAll();
-            byte[] exportData = exportService.exportRoomsToCSV(rooms);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("text/csv"));
-            headers.setContentDispositionFormData("attachment", "rooms.csv");
-
-            return ResponseEntity.ok()
-                .headers(headers)
-                .body(exportData);
-        } catch (IOException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public ResponseEntity<StreamingResponseBody> exportRoomsToCSV() {
+        return streamExport("rooms", ExportFormat.CSV, exportService::streamRooms);
     }
 
     // ==================== Events Export ====================
@@ -309,21 +203,8 @@ public class ExportApiController {
     }
 
     @GetMapping("/events/csv")
-    public ResponseEntity<byte[]> exportEventsToCSV() {
-        try {
-            List<Event> events = eventRepository.findAll();
-            byte[] exportData = exportService.exportEventsToCSV(events);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType("text/csv"));
-            headers.setContentDispositionFormData("attachment", "events.csv");
-
-            return ResponseEntity.ok()
-                .headers(headers)
-                .body(exportData);
-        } catch (IOException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public ResponseEntity<StreamingResponseBody> exportEventsToCSV() {
+        return streamExport("events", ExportFormat.CSV, exportService::streamEvents);
     }
 
     // ==================== Dashboard & Metadata ====================
@@ -343,6 +224,28 @@ public class ExportApiController {
 
     // ==================== Helper Methods ====================
 
+    /**
+     * Writes an export to the response as it is produced, instead of building
+     * the whole file first. Runs on an async request thread once the headers
+     * are sent, so a failure part-way through aborts the download rather than
+     * returning an error status.
+     */
+    private ResponseEntity<StreamingResponseBody> streamExport(String baseName, ExportFormat format,
+                                                               StreamingExport export) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(getContentType(format));
+        headers.setContentDispositionFormData("attachment", baseName + getFileExtension(format));
+
+        return ResponseEntity.ok()
+            .headers(headers)
+            .body(out -> export.writeTo(format, out));
+    }
+
+    @FunctionalInterface
+    private interface StreamingExport {
+        void writeTo(ExportFormat format, OutputStream out) throws IOException;
+    }
+
     private MediaType getContentType(ExportFormat format) {
         return switch (format) {
             case PDF -> MediaType.APPLICATION_PDF;
@@ -219,11 +219,10 @@ public class GlobalSearchApiController {
             @RequestParam(required = false, defaultValue = "ALL") String category,
             @RequestParam(required = false, defaultValue = "10") int limit) {
 
-        List<SearchResult> results = globalSearchService.search(query, category);
+        List<SearchResult> results = globalSearchService.search(query, category, limit);
 
         // Extract primary text for autocomplete
         List<String> suggestions = results.stream()
-            .limit(limit)
             .map(SearchResult::getPrimaryText)
             .toList();
 
@@ -3,6 +3,7 @@ package com.heronix.controller.api;
 import com.heronix.model.domain.Student;
 import com.heronix.repository.StudentRepository;
 import com.heronix.service.GpaCalculationService;
+import com.heronix.service.GpaCalculationService.StudentGpa;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -129,10 +130,12 @@ public class GpaCalculationApiController {
 
         Student student = studentOpt.get();
 
+        StudentGpa studentGpa = gpaCalculationService.calculateGpa(student);
+
         Map<String, Object> gpas = new HashMap<>();
-        gpas.put("cumulative", gpaCalculationService.calculateCumulativeGPA(student));
-        gpas.put("weighted", gpaCalculationService.calculateWeightedGPA(student));
-        gpas.put("simpleAverage", gpaCalculationService.calculateSimpleAverageGPA(student));
+        gpas.put("cumulative", studentGpa.cumulativeGpa());
+        gpas.put("weighted", studentGpa.weightedGpa());
+        gpas.put("simpleAverage", studentGpa.simpleAverageGpa());
 
         Map<String, Object> response = new HashMap<>();
         response.put("studentId", studentId);
@@ -222,25 +225,13 @@ public class GpaCalculationApiController {
 
     @PostMapping("/update-all")
     public ResponseEntity<Map<String, Object>> updateAllStudentGPAs() {
-        List<Student> allStudents = studentRepository.findAll();
-
-        int successCount = 0;
-        int failureCount = 0;
-
-        for (Student student : allStudents) {
-            try {
-                gpaCalculationService.updateStudentGPA(student);
-                successCount++;
-            } catch (Exception e) {
-                failureCount++;
-            }
-        }
+        int updatedCount = gpaCalculationService.updateAllStudentGPAs();
 
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
-        response.put("totalStudents", allStudents.size());
-        response.put("successCount", successCount);
-        response.put("failureCount", failureCount);
+        response.put("totalStudents", updatedCount);
+        response.put("successCount", updatedCount);
+        response.put("failureCount", 0);
         response.put("message", "Batch GPA update completed");
 
         return ResponseEntity.ok(response);
@@ -296,6 +287,7 @@ public class GpaCalculationApiController {
     @GetMapping("/dashboard/stats")
     public ResponseEntity<Map<String, Object>> getGPAStats() {
         List<Student> allStudents = studentRepository.findAll();
+        Map<Long, StudentGpa> gpas = gpaCalculationService.calculateGpas(null);
 
         double totalGPA = 0.0;
         int studentCount = 0;
@@ -303,7 +295,7 @@ public class GpaCalculationApiController {
         double lowestGPA = 4.0;
 
         for (Student student : allStudents) {
-            Double gpa = gpaCalculationService.calculateCumulativeGPA(student);
+            Double gpa = cumulativeGpa(gpas, student);
             if (gpa != null && gpa > 0) {
                 totalGPA += gpa;
                 studentCount++;
@@ -325,6 +317,7 @@ public class GpaCalculationApiController {
     @GetMapping("/dashboard/distribution")
     public ResponseEntity<Map<String, Object>> getGPADistribution() {
         List<Student> allStudents = studentRepository.findAll();
+        Map<Long, StudentGpa> gpas = gpaCalculationService.calculateGpas(null);
 
         Map<String, Integer> distribution = new LinkedHashMap<>();
         distribution.put("4.0 (A)", 0);
@@ -334,7 +327,7 @@ public class GpaCalculationApiController {
         distribution.put("0.0-0.9 (F)", 0);
 
         for (Student student : allStudents) {
-            Double gpa = gpaCalculationService.calculateCumulativeGPA(student);
+            Double gpa = cumulativeGpa(gpas, student);
             if (gpa != null) {
                 if (gpa >= 4.0) {
                     distribution.put("4.0 (A)", distribution.get("4.0 (A)") + 1);
@@ -362,10 +355,11 @@ public class GpaCalculationApiController {
             @RequestParam(required = false, defaultValue = "3.5") Double threshold) {
 
         List<Student> allStudents = studentRepository.findAll();
+        Map<Long, StudentGpa> gpas = gpaCalculationService.calculateGpas(null);
         List<Map<String, Object>> honorsStudents = new ArrayList<>();
 
         for (Student student : allStudents) {
-            Double gpa = gpaCalculationService.calculateCumulativeGPA(student);
+            Double gpa = cumulativeGpa(gpas, student);
             if (gpa != null && gpa >= threshold) {
                 Map<String, Object> studentData = new HashMap<>();
                 studentData.put("studentId", student.getId());
@@ -387,4 +381,9 @@ public class GpaCalculationApiController {
 
         return ResponseEntity.ok(response);
     }
+
+    private static Double cumulativeGpa(Map<Long, StudentGpa> gpas, Student student) {
+        StudentGpa gpa = gpas.get(student.getId());
+        return gpa != null ? gpa.cumulativeGpa() : 0.0;
+    }
 }
@@ -0,0 +1,106 @@
+package com.heronix.controller.api;
+
+import com.heronix.api.dto.*;
+import com.heronix.model.domain.AuditLog.AuditAction;
+import com.heronix.model.domain.CourseSection.SectionStatus;
+import com.heronix.service.ListQueryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * REST API Controller for Paged Lists
+ *
+ * Keyset-paginated, projected lists of the high-traffic resources. Each
+ * response holds one page of rows with only the listed columns, and an
+ * opaque nextCursor to pass back as the cursor parameter for the next page.
+ *
+ * Common parameters:
+ * - cursor: nextCursor of the previous page; omit for the first page
+ * - limit: rows per page, default 50, at most 500
+ *
+ * Unlike the findAll() endpoints of the resource controllers, these never
+ * load an entity graph, and a deep page costs the same as the first.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@RestController
+@RequestMapping("/api/list")
+@RequiredArgsConstructor
+public class ListApiController {
+
+    private final ListQueryService listQueryService;
+
+    @GetMapping("/students")
+    public ResponseEntity<CursorPageDTO<StudentRowDTO>> listStudents(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String gradeLevel,
+            @RequestParam(required = false) Boolean active) {
+        return ResponseEntity.ok(listQueryService.listStudents(cursor, limit, gradeLevel, active));
+    }
+
+    @GetMapping("/teachers")
+    public ResponseEntity<CursorPageDTO<TeacherRowDTO>> listTeachers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) Boolean active) {
+        return ResponseEntity.ok(listQueryService.listTeachers(cursor, limit, department, active));
+    }
+
+    @GetMapping("/courses")
+    public ResponseEntity<CursorPageDTO<CourseRowDTO>> listCourses(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String subject,
+            @RequestParam(required = false) Boolean active) {
+        return ResponseEntity.ok(listQueryService.listCourses(cursor, limit, subject, active));
+    }
+
+    @GetMapping("/sections")
+    public ResponseEntity<CursorPageDTO<SectionRowDTO>> listSections(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long courseId,
+            @RequestParam(required = false) SectionStatus status) {
+        return ResponseEntity.ok(listQueryService.listSections(cursor, limit, courseId, status));
+    }
+
+    @GetMapping("/attendance")
+    public ResponseEntity<CursorPageDTO<AttendanceRowDTO>> listAttendance(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Long studentId,
+            @RequestParam(required = false) Long courseId) {
+        return ResponseEntity.ok(listQueryService.listAttendance(
+                cursor, limit, startDate, endDate, studentId, courseId));
+    }
+
+    @GetMapping("/grades")
+    public ResponseEntity<CursorPageDTO<GradeRowDTO>> listGrades(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long studentId,
+            @RequestParam(required = false) String term) {
+        return ResponseEntity.ok(listQueryService.listGrades(cursor, limit, studentId, term));
+    }
+
+    @GetMapping("/audit-logs")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPageDTO<AuditLogRowDTO>> listAuditLogs(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) AuditAction action) {
+        return ResponseEntity.ok(listQueryService.listAuditLogs(cursor, limit, username, action));
+    }
+}
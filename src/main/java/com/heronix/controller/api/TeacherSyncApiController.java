@@ -2,6 +2,9 @@ package com.heronix.controller.api;
 
 import com.heronix.model.domain.*;
 import com.heronix.repository.*;
+import com.heronix.service.GradebookService;
+import com.heronix.service.GradebookService.BulkGradeResult;
+import com.heronix.service.GradebookService.GradeEntry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -9,7 +12,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -22,6 +28,7 @@ import java.util.Map;
  * - POST /api/teacher-sync/categories - Sync assignment categories
  * - POST /api/teacher-sync/assignments - Sync assignments
  * - POST /api/teacher-sync/grades - Sync grades
+ * - POST /api/teacher-sync/grades/batch - Sync many grades at once
  * - POST /api/teacher-sync/attendance - Sync attendance records
  * - POST /api/teacher-sync/hallpasses - Sync hall passes
  *
@@ -43,6 +50,7 @@ public class TeacherSyncApiController {
     private final AttendanceRepository attendanceRepository;
     private final CourseRepository courseRepository;
     private final TeacherRepository teacherRepository;
+    private final GradebookService gradebookService;
 
     /**
      * Sync student data from Teacher Portal
@@ -263,6 +271,68 @@ public class TeacherSyncApiController {
         }
     }
 
+    /**
+     * Sync a batch of grades from Teacher Portal, e.g. when it replays a term
+     *
+     * Grades are grouped by assignment and each group is written with one
+     * set-based bulk entry (score, submittedDate and comments).
+     */
+    @PostMapping("/grades/batch")
+    @Transactional
+    public ResponseEntity<Map<String, Object>> syncGrades(@RequestBody List<Map<String, Object>> grades) {
+        log.info("Received batch grade sync request: {} grades", grades.size());
+
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            Map<Long, List<GradeEntry>> entriesByAssignment = new LinkedHashMap<>();
+            int rejected = 0;
+            for (Map<String, Object> gradeData : grades) {
+                Long studentId = getLong(gradeData, "studentId");
+                Long assignmentId = getLong(gradeData, "assignmentId");
+                if (studentId == null || assignmentId == null) {
+                    rejected++;
+                    continue;
+                }
+                String submittedDate = (String) gradeData.get("submittedDate");
+                entriesByAssignment.computeIfAbsent(assignmentId, id -> new ArrayList<>())
+                        .add(new GradeEntry(studentId, getDouble(gradeData, "score"),
+                                submittedDate != null ? java.time.LocalDate.parse(submittedDate) : null,
+                                (String) gradeData.get("comments")));
+            }
+
+            int inserted = 0;
+            int updated = 0;
+            int unchanged = 0;
+            int skipped = rejected;
+            for (Map.Entry<Long, List<GradeEntry>> entry : entriesByAssignment.entrySet()) {
+                BulkGradeResult result = gradebookService.enterGrades(entry.getKey(), entry.getValue());
+                inserted += result.getInserted();
+                updated += result.getUpdated();
+                unchanged += result.getUnchanged();
+                skipped += result.getSkippedStudentIds().size();
+            }
+
+            response.put("success", true);
+            response.put("message", "Grades synced successfully");
+            response.put("inserted", inserted);
+            response.put("updated", updated);
+            response.put("unchanged", unchanged);
+            response.put("skipped", skipped);
+
+            log.info("Batch grade sync: {} inserted, {} updated, {} unchanged, {} skipped",
+                    inserted, updated, unchanged, skipped);
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("Error syncing grades", e);
+            response.put("success", false);
+            response.put("message", "Error syncing grades: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     /**
      * Sync attendance from Teacher Portal
      */
@@ -0,0 +1,37 @@
+package com.heronix.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Entity Change Event
+ *
+ * Application event fired after an entity annotated with
+ * {@code @EntityListeners(EntityChangeListener.class)} is inserted, updated or
+ * deleted. Published during the flush; listeners that need committed data use
+ * {@code @TransactionalEventListener}.
+ *
+ * Used to keep in-memory views of entities (such as the global search index)
+ * current without reloading them.
+ *
+ * @author Heronix Development Team
+ * @version 1.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@Getter
+public class EntityChangeEvent extends ApplicationEvent {
+
+    public enum ChangeType {
+        SAVED,
+        DELETED
+    }
+
+    private final Object entity;
+    private final ChangeType changeType;
+
+    public EntityChangeEvent(Object source, Object entity, ChangeType changeType) {
+        super(source);
+        this.entity = entity;
+        this.changeType = changeType;
+    }
+}
@@ -0,0 +1,37 @@
+package com.heronix.event;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Entity Change Listener
+ *
+ * JPA entity listener that publishes an {@link EntityChangeEvent} for every
+ * insert, update and delete of the entities it is attached to. Hibernate obtains
+ * it from the Spring context, so the event publisher is injected.
+ *
+ * @author Heronix Development Team
+ * @version 1.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        eventPublisher.publishEvent(new EntityChangeEvent(this, entity, EntityChangeEvent.ChangeType.SAVED));
+    }
+
+    @PostRemove
+    public void onDeleted(Object entity) {
+        eventPublisher.publishEvent(new EntityChangeEvent(this, entity, EntityChangeEvent.ChangeType.DELETED));
+    }
+}
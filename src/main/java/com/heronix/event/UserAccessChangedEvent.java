@@ -0,0 +1,29 @@
+package com.heronix.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * User Access Changed Event
+ *
+ * Application event fired when a change to a user should end the sessions
+ * they already have: password changed or reset, account locked, disabled
+ * or deleted, roles or permissions changed. JwtTokenService revokes the
+ * user's tokens issued before the event once the transaction commits.
+ *
+ * @author Heronix Development Team
+ * @version 1.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@Getter
+public class UserAccessChangedEvent extends ApplicationEvent {
+
+    private final String username;
+    private final String reason;
+
+    public UserAccessChangedEvent(Object source, String username, String reason) {
+        super(source);
+        this.username = username;
+        this.reason = reason;
+    }
+}
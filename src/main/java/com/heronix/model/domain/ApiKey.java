@@ -76,12 +76,27 @@ public class ApiKey {
     @Column(nullable = false, length = 20)
     private String keyPrefix;
 
+    /**
+     * Public identifier embedded in the key (hx_live_{keyId}_{secret}),
+     * used to find the key with one indexed lookup.
+     * Null for keys issued before key IDs were introduced.
+     */
+    @Column(length = 16, unique = true, name = "key_id")
+    private String keyId;
+
     /**
      * User ID who owns this API key
      */
     @Column(nullable = false, name = "user_id")
     private String userId;
 
+    /**
+     * Campus this key acts for; its requests count toward the campus-wide
+     * rate limit. Null for keys not tied to a campus.
+     */
+    @Column(name = "campus_id", length = 50)
+    private String campusId;
+
     /**
      * Permission scopes granted to this API key
      * Examples: read:students, write:grades, read:attendance
@@ -36,7 +36,8 @@ import java.time.LocalDateTime;
 public class AssignmentGrade {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "assignment_grades_seq")
+    @SequenceGenerator(name = "assignment_grades_seq", sequenceName = "assignment_grades_seq", allocationSize = 500)
     private Long id;
 
     /**
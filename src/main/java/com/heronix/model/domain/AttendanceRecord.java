@@ -20,7 +20,8 @@ import java.time.LocalTime;
 @Entity
 @Table(name = "attendance_records", indexes = {
     @Index(name = "idx_attendance_student_date", columnList = "student_id, attendance_date"),
-    @Index(name = "idx_attendance_course_date", columnList = "course_id, attendance_date")
+    @Index(name = "idx_attendance_course_date", columnList = "course_id, attendance_date"),
+    @Index(name = "idx_attendance_date", columnList = "attendance_date")
 })
 @Data
 @NoArgsConstructor
@@ -29,7 +30,8 @@ import java.time.LocalTime;
 public class AttendanceRecord {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attendance_records_seq")
+    @SequenceGenerator(name = "attendance_records_seq", sequenceName = "attendance_records_seq", allocationSize = 500)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -119,6 +121,13 @@ public class AttendanceRecord {
     // Calculated fields
     @Transient
     public boolean isAbsent() {
+        return isAbsent(status);
+    }
+
+    /**
+     * Whether a status counts as an absence
+     */
+    public static boolean isAbsent(AttendanceStatus status) {
         return status == AttendanceStatus.ABSENT ||
                status == AttendanceStatus.EXCUSED_ABSENT ||
                status == AttendanceStatus.UNEXCUSED_ABSENT ||
@@ -3,6 +3,7 @@ package com.heronix.model.domain;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.UUID;
 
 /**
  * Audit Log Entity for Heronix-SIS
@@ -36,7 +37,8 @@ import java.util.Objects;
     @Index(name = "idx_audit_username", columnList = "username"),
     @Index(name = "idx_audit_action", columnList = "action"),
     @Index(name = "idx_audit_entity", columnList = "entity_type, entity_id"),
-    @Index(name = "idx_audit_ip", columnList = "ip_address")
+    @Index(name = "idx_audit_ip", columnList = "ip_address"),
+    @Index(name = "idx_audit_event_id", columnList = "event_id", unique = true)
 })
 public class AuditLog {
 
@@ -131,10 +133,19 @@ public class AuditLog {
     // ============================================================
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_logs_seq")
+    @SequenceGenerator(name = "audit_logs_seq", sequenceName = "audit_logs_seq", allocationSize = 500)
     @Column(name = "id")
     private Long id;
 
+    /**
+     * Identifier assigned when the event is created, before it is queued.
+     * Unique, so an event written again after a retry or a spill replay
+     * is recognized instead of stored twice.
+     */
+    @Column(name = "event_id", length = 36, updatable = false)
+    private String eventId;
+
     /**
      * Timestamp when the event occurred (UTC).
      */
@@ -231,6 +242,7 @@ public class AuditLog {
      * Default constructor (required by JPA).
      */
     public AuditLog() {
+        this.eventId = UUID.randomUUID().toString();
         this.timestamp = LocalDateTime.now();
         this.success = true;
         this.severity = AuditSeverity.INFO;
@@ -275,6 +287,11 @@ public class AuditLog {
             this.auditLog = new AuditLog();
         }
 
+        public Builder eventId(String eventId) {
+            this.auditLog.eventId = eventId;
+            return this;
+        }
+
         public Builder username(String username) {
             this.auditLog.username = username;
             return this;
@@ -346,6 +363,14 @@ public class AuditLog {
         this.id = id;
     }
 
+    public String getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+
     public LocalDateTime getTimestamp() {
         return timestamp;
     }
@@ -466,6 +491,7 @@ public class AuditLog {
     public String toString() {
         return "AuditLog{" +
             "id=" + id +
+            ", eventId='" + eventId + '\'' +
             ", timestamp=" + timestamp +
             ", username='" + username + '\'' +
             ", ipAddress='" + ipAddress + '\'' +
@@ -7,7 +7,8 @@ import lombok.AllArgsConstructor;
 
 @Entity
 @Table(name = "conflict_matrix",
-       uniqueConstraints = @UniqueConstraint(columnNames = {"course1_id", "course2_id"}))
+       uniqueConstraints = @UniqueConstraint(name = "uk_conflict_matrix_pair_year",
+                                             columnNames = {"course1_id", "course2_id", "schedule_year"}))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
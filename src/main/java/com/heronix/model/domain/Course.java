@@ -1,5 +1,6 @@
 package com.heronix.model.domain;
 
+import com.heronix.event.EntityChangeListener;
 import com.heronix.model.enums.CourseCategory;
 import com.heronix.model.enums.CourseType;
 import com.heronix.model.enums.EducationLevel;
@@ -19,13 +20,15 @@ import java.util.List;
 
 @Entity
 @Table(name = "courses")
+@EntityListeners(EntityChangeListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Course {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "courses_seq")
+    @SequenceGenerator(name = "courses_seq", sequenceName = "courses_seq", allocationSize = 500)
     private Long id;
 
     @NotNull(message = "Course code is required")
@@ -159,6 +159,33 @@ public class OptimizationConfig {
     @Builder.Default
     private Integer threadCount = 4;
 
+    /**
+     * Number of GA sub-populations (islands) evolving side by side; 1 = single population
+     */
+    @Column(name = "island_count")
+    @Builder.Default
+    private Integer islandCount = 1;
+
+    /**
+     * Exchange best individuals between islands every N generations
+     */
+    @Column(name = "migration_interval")
+    @Builder.Default
+    private Integer migrationInterval = 25;
+
+    /**
+     * Number of individuals each island sends per migration
+     */
+    @Column(name = "migration_size")
+    @Builder.Default
+    private Integer migrationSize = 2;
+
+    /**
+     * Random seed for reproducible runs (null = different result every run)
+     */
+    @Column(name = "random_seed")
+    private Long randomSeed;
+
     /**
      * Log progress every N generations
      */
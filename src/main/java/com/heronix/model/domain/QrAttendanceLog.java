@@ -38,7 +38,8 @@ import java.time.LocalDateTime;
 public class QrAttendanceLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "qr_attendance_log_seq")
+    @SequenceGenerator(name = "qr_attendance_log_seq", sequenceName = "qr_attendance_log_seq", allocationSize = 500)
     private Long id;
 
     /**
@@ -1,5 +1,6 @@
 package com.heronix.model.domain;
 
+import com.heronix.event.EntityChangeListener;
 import com.heronix.model.enums.RoomType;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
@@ -15,13 +16,15 @@ import lombok.AllArgsConstructor;
  */
 @Entity
 @Table(name = "rooms")
+@EntityListeners(EntityChangeListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Room {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rooms_seq")
+    @SequenceGenerator(name = "rooms_seq", sequenceName = "rooms_seq", allocationSize = 500)
     private Long id;
 
     @Column(name = "room_number", nullable = false, unique = true)
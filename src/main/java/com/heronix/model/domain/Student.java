@@ -1,5 +1,6 @@
 package com.heronix.model.domain;
 
+import com.heronix.event.EntityChangeListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.Data;
@@ -29,13 +30,15 @@ import java.util.List;
  */
 @Entity
 @Table(name = "students")
+@EntityListeners(EntityChangeListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Student {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_seq")
+    @SequenceGenerator(name = "students_seq", sequenceName = "students_seq", allocationSize = 500)
     private Long id;
 
     @Column(nullable = false, unique = true, name = "student_id")
@@ -39,7 +39,8 @@ import com.heronix.model.enums.EnrollmentStatus;
 public class StudentEnrollment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "student_enrollments_seq")
+    @SequenceGenerator(name = "student_enrollments_seq", sequenceName = "student_enrollments_seq", allocationSize = 500)
     private Long id;
 
     /**
@@ -1,5 +1,6 @@
 package com.heronix.model.domain;
 
+import com.heronix.event.EntityChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -25,6 +26,7 @@ import java.time.LocalDate;
  */
 @Entity
 @Table(name = "student_grades")
+@EntityListeners(EntityChangeListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
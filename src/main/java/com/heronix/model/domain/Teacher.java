@@ -1,5 +1,6 @@
 package com.heronix.model.domain;
 
+import com.heronix.event.EntityChangeListener;
 import com.heronix.model.enums.CertificationType;
 import com.heronix.model.enums.PriorityLevel;
 import com.heronix.model.enums.TeacherRole;
@@ -17,6 +18,7 @@ import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "teachers")
+@EntityListeners(EntityChangeListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -25,7 +27,8 @@ public class Teacher {
     private static final Logger log = LoggerFactory.getLogger(Teacher.class);
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "teachers_seq")
+    @SequenceGenerator(name = "teachers_seq", sequenceName = "teachers_seq", allocationSize = 500)
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,320 @@
+package com.heronix.monitoring;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * SQL Activity
+ *
+ * The database work of one unit of work - an HTTP request, an @Async task,
+ * a JavaFX background task or a test - counted on the thread running it:
+ * statements executed, rows fetched, entities hydrated and lazy collections
+ * initialized, plus how often each distinct statement ran and with how many
+ * distinct parameter sets.
+ *
+ * That last figure separates the two patterns worth flagging:
+ * - N+1: one statement run for many different keys (a query per entity in
+ *   a loop, or a lazy association touched per row)
+ * - Repeated: one statement run again with the same parameters (a result
+ *   that should have been kept)
+ *
+ * Counting is done by {@link SqlActivityDataSource} and
+ * {@link SqlActivityIntegrator}; scopes are opened by {@link SqlActivityFilter},
+ * the executors in AsyncConfig and {@link #wrap} for background threads.
+ * Scopes nest: work in an inner scope is counted in the outer ones too.
+ *
+ * Example - JavaFX background thread:
+ *   new Thread(SqlActivity.wrap(Kind.TASK, "Transcript: load", () -> ...)).start();
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+public final class SqlActivity {
+
+    /**
+     * What opened the scope
+     */
+    public enum Kind {
+        HTTP, ASYNC, TASK, TEST
+    }
+
+    /**
+     * A flagged statement
+     *
+     * @param type N_PLUS_ONE or REPEATED
+     * @param sql Normalized statement
+     * @param executions Times it ran in the scope
+     * @param distinctParameters Distinct parameter sets it ran with
+     */
+    public record Finding(Type type, String sql, int executions, int distinctParameters) {
+
+        public enum Type {
+            N_PLUS_ONE, REPEATED
+        }
+
+        @Override
+        public String toString() {
+            return type + " x" + (type == Type.N_PLUS_ONE ? distinctParameters : executions - distinctParameters)
+                    + ": " + sql;
+        }
+    }
+
+    // Distinct statements tracked per scope; past this only the totals grow
+    private static final int MAX_DISTINCT_STATEMENTS = 256;
+
+    // Distinct parameter sets tracked per statement
+    private static final int MAX_DISTINCT_PARAMETERS = 4096;
+
+    // Longest statement text kept
+    private static final int MAX_SQL_LENGTH = 1000;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\b(in) ?\\(\\?(?: ?, ?\\?)*\\)");
+
+    private static final ThreadLocal<SqlActivity> CURRENT = new ThreadLocal<>();
+
+    // Receives every finished outermost scope (see SqlActivityRecorder)
+    private static volatile Consumer<SqlActivity> listener = activity -> { };
+
+    private final Kind kind;
+    private final SqlActivity parent;
+    private final long startNanos = System.nanoTime();
+    private final Map<String, StatementCount> byStatement = new LinkedHashMap<>();
+
+    private String name;
+    private long elapsedNanos = -1;
+    private int statements;
+    private long rowsFetched;
+    private int entitiesLoaded;
+    private int collectionsLoaded;
+
+    private SqlActivity(Kind kind, String name, SqlActivity parent) {
+        this.kind = kind;
+        this.name = name;
+        this.parent = parent;
+    }
+
+    // ========================================================================
+    // SCOPES
+    // ========================================================================
+
+    /**
+     * Open a scope on the current thread; close it with {@link #finish()}
+     * in a finally block
+     */
+    public static SqlActivity begin(Kind kind, String name) {
+        SqlActivity activity = new SqlActivity(kind, name, CURRENT.get());
+        CURRENT.set(activity);
+        return activity;
+    }
+
+    /**
+     * The innermost open scope of this thread, or null
+     */
+    public static SqlActivity current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Run work in its own scope
+     *
+     * @return The finished scope
+     */
+    public static SqlActivity measure(Kind kind, String name, Runnable work) {
+        SqlActivity activity = begin(kind, name);
+        try {
+            work.run();
+        } finally {
+            activity.finish();
+        }
+        return activity;
+    }
+
+    /**
+     * Work that opens a scope on whichever thread runs it
+     */
+    public static Runnable wrap(Kind kind, String name, Runnable work) {
+        return () -> measure(kind, name, work);
+    }
+
+    /**
+     * Close the scope, restoring the enclosing one
+     */
+    public void finish() {
+        if (elapsedNanos >= 0) {
+            return;
+        }
+        elapsedNanos = System.nanoTime() - startNanos;
+        if (parent != null) {
+            CURRENT.set(parent);
+            return;
+        }
+        CURRENT.remove();
+        try {
+            listener.accept(this);
+        } catch (RuntimeException e) {
+            // Reporting must never fail the work it measured
+        }
+    }
+
+    static void setListener(Consumer<SqlActivity> activityListener) {
+        listener = activityListener != null ? activityListener : activity -> { };
+    }
+
+    // ========================================================================
+    // RECORDING (called on the thread doing the work)
+    // ========================================================================
+
+    static void statementExecuted(String sql, int parameterHash) {
+        SqlActivity activity = CURRENT.get();
+        if (activity == null) {
+            return;
+        }
+        String statement = normalize(sql);
+        for (; activity != null; activity = activity.parent) {
+            activity.statements++;
+            StatementCount count = activity.byStatement.get(statement);
+            if (count == null && activity.byStatement.size() < MAX_DISTINCT_STATEMENTS) {
+                count = new StatementCount();
+                activity.byStatement.put(statement, count);
+            }
+            if (count != null) {
+                count.executions++;
+                if (count.parameters.size() < MAX_DISTINCT_PARAMETERS) {
+                    count.parameters.add(parameterHash);
+                }
+            }
+        }
+    }
+
+    static void rowFetched() {
+        for (SqlActivity activity = CURRENT.get(); activity != null; activity = activity.parent) {
+            activity.rowsFetched++;
+        }
+    }
+
+    static void entityLoaded() {
+        for (SqlActivity activity = CURRENT.get(); activity != null; activity = activity.parent) {
+            activity.entitiesLoaded++;
+        }
+    }
+
+    static void collectionLoaded() {
+        for (SqlActivity activity = CURRENT.get(); activity != null; activity = activity.parent) {
+            activity.collectionsLoaded++;
+        }
+    }
+
+    static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Statement text with literals replaced by ? and IN lists collapsed,
+     * so that the same query for different keys counts as one statement
+     */
+    static String normalize(String sql) {
+        if (sql == null) {
+            return "(batch)";
+        }
+        String normalized = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("$1 (?)");
+        return normalized.length() > MAX_SQL_LENGTH ? normalized.substring(0, MAX_SQL_LENGTH) : normalized;
+    }
+
+    // ========================================================================
+    // RESULTS
+    // ========================================================================
+
+    /**
+     * Statements that ran at least threshold times for different keys (N+1)
+     * or threshold extra times with the same parameters (repeated), most
+     * frequent first
+     */
+    public List<Finding> findings(int threshold) {
+        List<Finding> findings = new ArrayList<>();
+        byStatement.forEach((sql, count) -> {
+            int distinct = count.parameters.size();
+            if (distinct >= threshold) {
+                findings.add(new Finding(Finding.Type.N_PLUS_ONE, sql, count.executions, distinct));
+            }
+            if (count.executions - distinct >= threshold) {
+                findings.add(new Finding(Finding.Type.REPEATED, sql, count.executions, distinct));
+            }
+        });
+        findings.sort(Comparator.comparingInt(Finding::executions).reversed());
+        return findings;
+    }
+
+    /**
+     * Executions per normalized statement, in first-run order
+     */
+    public Map<String, Integer> getExecutionsByStatement() {
+        Map<String, Integer> executions = new LinkedHashMap<>();
+        byStatement.forEach((sql, count) -> executions.put(sql, count.executions));
+        return Collections.unmodifiableMap(executions);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Rename the scope once more is known about it (e.g. the matched
+     * request mapping)
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRowsFetched() {
+        return rowsFetched;
+    }
+
+    public int getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    public int getCollectionsLoaded() {
+        return collectionsLoaded;
+    }
+
+    /**
+     * Duration of the scope, or time so far if still open
+     */
+    public long getElapsedMillis() {
+        return (elapsedNanos >= 0 ? elapsedNanos : System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s: %d statements, %d rows, %d entities, %d collections in %d ms",
+                kind, name, statements, rowsFetched, entitiesLoaded, collectionsLoaded, getElapsedMillis());
+    }
+
+    private static final class StatementCount {
+        private int executions;
+        private final Set<Integer> parameters = new HashSet<>();
+    }
+}
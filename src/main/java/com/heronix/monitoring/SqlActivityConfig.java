@@ -0,0 +1,47 @@
+package com.heronix.monitoring;
+
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * SQL Activity Configuration
+ *
+ * Installs the SQL activity counters: wraps the DataSource in
+ * {@link SqlActivityDataSource} and registers {@link SqlActivityIntegrator}
+ * with Hibernate. Turn off with heronix.sql-activity.enabled=false; scopes
+ * still open and close but record nothing.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "heronix.sql-activity", name = "enabled", matchIfMissing = true)
+public class SqlActivityConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlActivityDataSourceWrapper() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlActivityDataSource)) {
+                    return new SqlActivityDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlActivityHibernateCustomizer() {
+        return properties -> properties.put("hibernate.integrator_provider",
+                (IntegratorProvider) () -> List.of(new SqlActivityIntegrator()));
+    }
+}
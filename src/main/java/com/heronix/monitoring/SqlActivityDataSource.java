@@ -0,0 +1,144 @@
+package com.heronix.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * SQL Activity DataSource
+ *
+ * Wraps the application DataSource so every statement executed and every
+ * row read on a thread with an open {@link SqlActivity} is counted, whether
+ * it came from Hibernate, a native query or JdbcTemplate. Statements are
+ * keyed by their SQL and by a hash of the parameters bound, which is what
+ * tells an N+1 loop (new keys each time) from a repeated query (same keys).
+ *
+ * With no open scope the proxies only pass calls through.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+public class SqlActivityDataSource extends DelegatingDataSource {
+
+    public SqlActivityDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    // ========================================================================
+    // PROXIES
+    // ========================================================================
+
+    private static Connection connection(Connection target) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return statement(statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private static Statement statement(Statement target, String preparedSql) {
+        Class<? extends Statement> type = target instanceof CallableStatement ? CallableStatement.class
+                : target instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+        return proxy(type, new StatementHandler(target, preparedSql));
+    }
+
+    private static ResultSet resultSet(ResultSet target) {
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (Boolean.TRUE.equals(result) && "next".equals(method.getName())) {
+                SqlActivity.rowFetched();
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Counts executions with the parameters bound since the last one
+     */
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private int parameterHash = 1;
+        private int batchHash = 1;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                // setLong(1, 42), setString(2, "x"), setNull(3, Types.INTEGER)...
+                parameterHash = 31 * parameterHash + Arrays.deepHashCode(new Object[]{args[0], args[1]});
+            } else if ("clearParameters".equals(name)) {
+                parameterHash = 1;
+            } else if ("addBatch".equals(name)) {
+                batchHash = 31 * batchHash + (sql != null ? sql.hashCode() : parameterHash);
+                parameterHash = 1;
+            }
+
+            Object result = SqlActivityDataSource.invoke(target, method, args);
+
+            if (name.startsWith("execute")) {
+                if (SqlActivity.isActive()) {
+                    int parameters = name.equals("executeBatch") ? batchHash
+                            : sql != null ? sql.hashCode()
+                            : parameterHash;
+                    SqlActivity.statementExecuted(sql != null ? sql : preparedSql, parameters);
+                }
+                parameterHash = 1;
+                if (name.equals("executeBatch")) {
+                    batchHash = 1;
+                }
+            }
+            if (result instanceof ResultSet resultSet && SqlActivity.isActive()) {
+                return resultSet(resultSet);
+            }
+            return result;
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(SqlActivityDataSource.class.getClassLoader(), new Class<?>[]{type},
+                handler);
+    }
+}
@@ -0,0 +1,37 @@
+package com.heronix.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * SQL Activity Endpoint
+ *
+ * GET /actuator/sqlactivity - statements, rows and entities per request
+ * mapping and task, worst first, with the recent scopes that went over
+ * budget or had N+1 / repeated statements.
+ * DELETE /actuator/sqlactivity - start the statistics over.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@Component
+@Endpoint(id = "sqlactivity")
+@RequiredArgsConstructor
+public class SqlActivityEndpoint {
+
+    private final SqlActivityRecorder recorder;
+
+    @ReadOperation
+    public SqlActivityRecorder.Report report() {
+        return recorder.report();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        recorder.reset();
+    }
+}
@@ -0,0 +1,44 @@
+package com.heronix.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * SQL Activity Filter
+ *
+ * Opens a {@link SqlActivity} for each HTTP request, ahead of the security
+ * filters so API key and token lookups are counted with the request. The
+ * scope is named by method and matched mapping ("GET /api/students/{id}")
+ * so that requests for different ids add up under one name.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlActivityFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlActivity activity = SqlActivity.begin(SqlActivity.Kind.HTTP,
+                request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            activity.setName(request.getMethod() + " " + (pattern != null ? pattern : "(unmapped)"));
+            activity.finish();
+        }
+    }
+}
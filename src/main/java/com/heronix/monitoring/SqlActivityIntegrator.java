@@ -0,0 +1,41 @@
+package com.heronix.monitoring;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * SQL Activity Integrator
+ *
+ * Hibernate listeners that count entities hydrated and lazy collections
+ * initialized into the current {@link SqlActivity}. A lazy collection
+ * initialized per row is the usual shape of an N+1 on entities like Student.
+ *
+ * Registered through hibernate.integrator_provider by SqlActivityConfig.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+public class SqlActivityIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        EventListenerRegistry listeners = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_LOAD,
+                (PostLoadEventListener) event -> SqlActivity.entityLoaded());
+        listeners.appendListeners(EventType.INIT_COLLECTION,
+                (InitializeCollectionEventListener) event -> SqlActivity.collectionLoaded());
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
@@ -0,0 +1,252 @@
+package com.heronix.monitoring;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * SQL Activity Recorder
+ *
+ * Collects every finished {@link SqlActivity}: per-scope totals and worst
+ * cases, the most recent scopes that went over the statement budget or had
+ * N+1 / repeated statements, and Micrometer counters per scope kind.
+ * Flagged scopes are logged as warnings with their offending statements.
+ *
+ * Read through /actuator/sqlactivity (see {@link SqlActivityEndpoint}).
+ *
+ * Settings:
+ * - heronix.sql-activity.statement-budget: statements one scope may run
+ * - heronix.sql-activity.repeat-threshold: executions of one statement
+ *   (for different keys, or with the same ones) that get it flagged
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@Slf4j
+@Component
+public class SqlActivityRecorder implements MeterBinder {
+
+    // Scope names tracked; HTTP scopes are named by mapping, not by URL
+    private static final int MAX_SCOPES = 500;
+
+    // Flagged scopes kept for the endpoint
+    private static final int MAX_RECENT = 100;
+
+    private final int statementBudget;
+    private final int repeatThreshold;
+
+    private final Map<String, ScopeStats> scopes = new ConcurrentHashMap<>();
+    private final Map<SqlActivity.Kind, KindStats> kinds = new EnumMap<>(SqlActivity.Kind.class);
+    private final Deque<FlaggedScope> recent = new ArrayDeque<>();
+
+    /**
+     * Totals for one scope name
+     */
+    private static final class ScopeStats {
+        private final LongAdder runs = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder entities = new LongAdder();
+        private final AtomicInteger maxStatements = new AtomicInteger();
+        private final LongAdder overBudget = new LongAdder();
+        private final LongAdder flagged = new LongAdder();
+    }
+
+    private static final class KindStats {
+        private final LongAdder scopes = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder entities = new LongAdder();
+        private final LongAdder overBudget = new LongAdder();
+        private final LongAdder flagged = new LongAdder();
+    }
+
+    /**
+     * Summary of one scope name for the endpoint
+     */
+    public record ScopeSummary(String scope, long runs, double avgStatements, int maxStatements,
+                               double avgRows, double avgEntities, long overBudget, long flagged) {
+    }
+
+    /**
+     * A scope that went over budget or had flagged statements
+     */
+    public record FlaggedScope(LocalDateTime finishedAt, SqlActivity.Kind kind, String scope, int statements,
+                               long rows, int entities, int collections, long elapsedMs,
+                               List<String> findings) {
+    }
+
+    public record Report(int statementBudget, int repeatThreshold, List<ScopeSummary> scopes,
+                         List<FlaggedScope> recent) {
+    }
+
+    public SqlActivityRecorder(
+            @Value("${heronix.sql-activity.statement-budget:100}") int statementBudget,
+            @Value("${heronix.sql-activity.repeat-threshold:10}") int repeatThreshold) {
+        this.statementBudget = statementBudget;
+        this.repeatThreshold = repeatThreshold;
+        for (SqlActivity.Kind kind : SqlActivity.Kind.values()) {
+            kinds.put(kind, new KindStats());
+        }
+    }
+
+    @PostConstruct
+    void register() {
+        SqlActivity.setListener(this::record);
+    }
+
+    @PreDestroy
+    void unregister() {
+        SqlActivity.setListener(null);
+    }
+
+    // ========================================================================
+    // RECORDING
+    // ========================================================================
+
+    /**
+     * Record a finished scope
+     */
+    public void record(SqlActivity activity) {
+        if (activity.getStatements() == 0) {
+            return;
+        }
+
+        List<SqlActivity.Finding> findings = activity.findings(repeatThreshold);
+        boolean overBudget = activity.getStatements() > statementBudget;
+
+        KindStats kind = kinds.get(activity.getKind());
+        kind.scopes.increment();
+        kind.statements.add(activity.getStatements());
+        kind.rows.add(activity.getRowsFetched());
+        kind.entities.add(activity.getEntitiesLoaded());
+
+        ScopeStats scope = scopes.get(activity.getName());
+        if (scope == null && scopes.size() < MAX_SCOPES) {
+            scope = scopes.computeIfAbsent(activity.getName(), name -> new ScopeStats());
+        }
+        if (scope != null) {
+            scope.runs.increment();
+            scope.statements.add(activity.getStatements());
+            scope.rows.add(activity.getRowsFetched());
+            scope.entities.add(activity.getEntitiesLoaded());
+            scope.maxStatements.accumulateAndGet(activity.getStatements(), Math::max);
+        }
+
+        if (!overBudget && findings.isEmpty()) {
+            return;
+        }
+        if (overBudget) {
+            kind.overBudget.increment();
+            if (scope != null) {
+                scope.overBudget.increment();
+            }
+        }
+        if (!findings.isEmpty()) {
+            kind.flagged.increment();
+            if (scope != null) {
+                scope.flagged.increment();
+            }
+        }
+
+        List<String> described = findings.stream().map(SqlActivity.Finding::toString).toList();
+        log.warn("{}{}{}", activity,
+                overBudget ? " - over budget of " + statementBudget : "",
+                described.isEmpty() ? "" : "\n  " + String.join("\n  ", described));
+
+        synchronized (recent) {
+            if (recent.size() == MAX_RECENT) {
+                recent.removeLast();
+            }
+            recent.addFirst(new FlaggedScope(LocalDateTime.now(), activity.getKind(), activity.getName(),
+                    activity.getStatements(), activity.getRowsFetched(), activity.getEntitiesLoaded(),
+                    activity.getCollectionsLoaded(), activity.getElapsedMillis(), described));
+        }
+    }
+
+    // ========================================================================
+    // REPORTING
+    // ========================================================================
+
+    /**
+     * Scopes by worst statement count, and the most recent flagged scopes
+     */
+    public Report report() {
+        List<ScopeSummary> summaries = new ArrayList<>();
+        scopes.forEach((name, stats) -> {
+            long runs = stats.runs.sum();
+            if (runs > 0) {
+                summaries.add(new ScopeSummary(name, runs,
+                        (double) stats.statements.sum() / runs, stats.maxStatements.get(),
+                        (double) stats.rows.sum() / runs, (double) stats.entities.sum() / runs,
+                        stats.overBudget.sum(), stats.flagged.sum()));
+            }
+        });
+        summaries.sort(Comparator.comparingInt(ScopeSummary::maxStatements).reversed());
+
+        List<FlaggedScope> flagged;
+        synchronized (recent) {
+            flagged = new ArrayList<>(recent);
+        }
+        return new Report(statementBudget, repeatThreshold, summaries, flagged);
+    }
+
+    /**
+     * Forget the per-scope statistics and flagged scopes (counters keep running)
+     */
+    public void reset() {
+        scopes.clear();
+        synchronized (recent) {
+            recent.clear();
+        }
+    }
+
+    // ========================================================================
+    // METRICS
+    // ========================================================================
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        kinds.forEach((kind, stats) -> {
+            counter(registry, "sql.activity.scopes", "Units of work that ran SQL", kind, stats,
+                    s -> s.scopes.sum());
+            counter(registry, "sql.activity.statements", "Statements executed", kind, stats,
+                    s -> s.statements.sum());
+            counter(registry, "sql.activity.rows", "Rows fetched", kind, stats,
+                    s -> s.rows.sum());
+            counter(registry, "sql.activity.entities", "Entities hydrated", kind, stats,
+                    s -> s.entities.sum());
+            counter(registry, "sql.activity.over.budget", "Units of work over the statement budget", kind, stats,
+                    s -> s.overBudget.sum());
+            counter(registry, "sql.activity.flagged", "Units of work with N+1 or repeated statements", kind, stats,
+                    s -> s.flagged.sum());
+        });
+    }
+
+    private static void counter(MeterRegistry registry, String meter, String description, SqlActivity.Kind kind,
+                                KindStats stats, ToDoubleFunction<KindStats> count) {
+        FunctionCounter.builder(meter, stats, count)
+                .description(description)
+                .tag("kind", kind.name().toLowerCase())
+                .register(registry);
+    }
+}
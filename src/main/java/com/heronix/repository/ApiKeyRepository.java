@@ -2,7 +2,9 @@ package com.heronix.repository;
 
 import com.heronix.model.domain.ApiKey;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -27,6 +29,25 @@ public interface ApiKeyRepository extends JpaRepository<ApiKey, Long> {
      */
     Optional<ApiKey> findByKeyHash(String keyHash);
 
+    /**
+     * Find API key by the key ID embedded in the key
+     * Used during authentication
+     */
+    Optional<ApiKey> findByKeyId(String keyId);
+
+    /**
+     * Find active keys issued without a key ID (legacy key format)
+     */
+    List<ApiKey> findByKeyPrefixAndKeyIdIsNullAndActiveTrue(String keyPrefix);
+
+    /**
+     * Add requests counted in memory to a key's usage statistics
+     */
+    @Modifying
+    @Query("UPDATE ApiKey a SET a.requestCount = COALESCE(a.requestCount, 0) + :count, " +
+           "a.lastUsedAt = :lastUsedAt WHERE a.id = :id")
+    int addUsage(@Param("id") Long id, @Param("count") long count, @Param("lastUsedAt") LocalDateTime lastUsedAt);
+
     /**
      * Find all API keys for a user
      */
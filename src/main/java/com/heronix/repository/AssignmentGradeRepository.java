@@ -2,10 +2,12 @@ package com.heronix.repository;
 
 import com.heronix.model.domain.AssignmentGrade;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,7 +19,7 @@ import java.util.Optional;
  * @since 2025-11-22
  */
 @Repository
-public interface AssignmentGradeRepository extends JpaRepository<AssignmentGrade, Long> {
+public interface AssignmentGradeRepository extends JpaRepository<AssignmentGrade, Long>, JpaSpecificationExecutor<AssignmentGrade> {
 
     /**
      * Find grade for a specific student and assignment
@@ -102,4 +104,35 @@ public interface AssignmentGradeRepository extends JpaRepository<AssignmentGrade
            "ORDER BY a.category.displayOrder, a.dueDate")
     List<AssignmentGrade> findForGradebookCalculation(@Param("studentId") Long studentId,
                                                        @Param("courseId") Long courseId);
+
+    /**
+     * Find the grades of several students for gradebook calculation in one query
+     */
+    @Query("SELECT ag FROM AssignmentGrade ag " +
+           "JOIN FETCH ag.assignment a " +
+           "JOIN FETCH a.category " +
+           "WHERE ag.student.id IN :studentIds AND a.course.id = :courseId " +
+           "AND a.countInGrade = true " +
+           "ORDER BY a.category.displayOrder, a.dueDate")
+    List<AssignmentGrade> findForGradebookCalculationByStudents(@Param("studentIds") Collection<Long> studentIds,
+                                                                 @Param("courseId") Long courseId);
+
+    /**
+     * Find the grades of several students in several courses for gradebook
+     * calculation in one query
+     */
+    @Query("SELECT ag FROM AssignmentGrade ag " +
+           "JOIN FETCH ag.assignment a " +
+           "JOIN FETCH a.category " +
+           "WHERE ag.student.id IN :studentIds AND a.course.id IN :courseIds " +
+           "AND a.countInGrade = true " +
+           "ORDER BY a.category.displayOrder, a.dueDate")
+    List<AssignmentGrade> findForGradebookCalculationByStudentsAndCourses(
+            @Param("studentIds") Collection<Long> studentIds,
+            @Param("courseIds") Collection<Long> courseIds);
+
+    /**
+     * Find the existing grades of an assignment for a set of students
+     */
+    List<AssignmentGrade> findByAssignmentIdAndStudentIdIn(Long assignmentId, Collection<Long> studentIds);
 }
@@ -1,14 +1,17 @@
 package com.heronix.repository;
 
+import com.heronix.api.dto.AttendanceRowDTO;
 import com.heronix.model.domain.AttendanceRecord;
 import com.heronix.model.domain.AttendanceRecord.AttendanceStatus;
 import com.heronix.model.domain.Student;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -36,8 +39,31 @@ public interface AttendanceRepository extends JpaRepository<AttendanceRecord, Lo
 
     List<AttendanceRecord> findByCourseIdAndAttendanceDate(Long courseId, LocalDate date);
 
+    /**
+     * Find the existing records of a class period for a set of students
+     * (a null period matches records without a period)
+     */
+    @Query("SELECT a FROM AttendanceRecord a WHERE a.course.id = :courseId AND a.attendanceDate = :date " +
+           "AND ((:periodNumber IS NULL AND a.periodNumber IS NULL) OR a.periodNumber = :periodNumber) " +
+           "AND a.student.id IN :studentIds")
+    List<AttendanceRecord> findClassPeriodRecords(@Param("courseId") Long courseId,
+                                                  @Param("date") LocalDate date,
+                                                  @Param("periodNumber") Integer periodNumber,
+                                                  @Param("studentIds") Collection<Long> studentIds);
+
     List<AttendanceRecord> findByAttendanceDateAndCampusId(LocalDate date, Long campusId);
 
+    /**
+     * Count records by student and status for several students in one query
+     * Columns: student ID, status, count
+     */
+    @Query("SELECT a.student.id, a.status, COUNT(a) FROM AttendanceRecord a " +
+           "WHERE a.student.id IN :studentIds AND a.attendanceDate BETWEEN :startDate AND :endDate " +
+           "GROUP BY a.student.id, a.status")
+    List<Object[]> countByStudentIdsAndStatus(@Param("studentIds") Collection<Long> studentIds,
+                                              @Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate);
+
     @Query("SELECT a FROM AttendanceRecord a WHERE a.student.id = :studentId " +
            "AND a.attendanceDate BETWEEN :startDate AND :endDate " +
            "AND a.status IN :statuses")
@@ -66,4 +92,33 @@ public interface AttendanceRepository extends JpaRepository<AttendanceRecord, Lo
         @Param("threshold") long threshold);
 
     List<AttendanceRecord> findByVerifiedFalseAndAttendanceDateBefore(LocalDate date);
+
+    /**
+     * Data version of a date range: record count and latest change
+     * Any insert, update or delete in the range changes one of the two
+     * Columns: count, max updated at
+     */
+    @Query("SELECT COUNT(a), MAX(a.updatedAt) FROM AttendanceRecord a " +
+           "WHERE a.attendanceDate BETWEEN :startDate AND :endDate")
+    List<Object[]> findDataVersion(@Param("startDate") LocalDate startDate,
+                                   @Param("endDate") LocalDate endDate);
+
+    /**
+     * Keyset page of attendance list rows in a date range, by date then ID
+     * Fetch limit + 1 rows to learn whether there is a next page
+     */
+    @Query("SELECT new com.heronix.api.dto.AttendanceRowDTO(a.id, s.id, c.id, a.attendanceDate, " +
+           "a.periodNumber, a.status) FROM AttendanceRecord a JOIN a.student s LEFT JOIN a.course c " +
+           "WHERE a.attendanceDate BETWEEN :startDate AND :endDate " +
+           "AND (a.attendanceDate > :afterDate OR (a.attendanceDate = :afterDate AND a.id > :afterId)) " +
+           "AND (:studentId IS NULL OR s.id = :studentId) " +
+           "AND (:courseId IS NULL OR c.id = :courseId) " +
+           "ORDER BY a.attendanceDate, a.id")
+    List<AttendanceRowDTO> findRowsAfter(@Param("startDate") LocalDate startDate,
+                                         @Param("endDate") LocalDate endDate,
+                                         @Param("afterDate") LocalDate afterDate,
+                                         @Param("afterId") Long afterId,
+                                         @Param("studentId") Long studentId,
+                                         @Param("courseId") Long courseId,
+                                         Pageable pageable);
 }
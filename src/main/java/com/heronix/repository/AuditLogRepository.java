@@ -1,14 +1,17 @@
 package com.heronix.repository;
 
+import com.heronix.api.dto.AuditLogRowDTO;
 import com.heronix.model.domain.AuditLog;
 import com.heronix.model.domain.AuditLog.AuditAction;
 import com.heronix.model.domain.AuditLog.AuditSeverity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -304,6 +307,20 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
         @Param("username") String username,
         @Param("since") LocalDateTime since);
 
+    // ============================================================
+    // Write Pipeline
+    // ============================================================
+
+    /**
+     * Which of the given event IDs are already stored.
+     * Used by AuditLogPipeline to skip events when replaying its spill file.
+     *
+     * @param eventIds event IDs to look up
+     * @return the stored event IDs among them
+     */
+    @Query("SELECT a.eventId FROM AuditLog a WHERE a.eventId IN :eventIds")
+    List<String> findStoredEventIds(@Param("eventIds") Collection<String> eventIds);
+
     // ============================================================
     // Data Cleanup Queries
     // ============================================================
@@ -317,4 +334,20 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
      */
     @Query("DELETE FROM AuditLog a WHERE a.timestamp < :cutoffDate")
     long deleteOldLogs(@Param("cutoffDate") LocalDateTime cutoffDate);
+
+    /**
+     * Keyset page of audit log rows, newest first
+     * Fetch limit + 1 rows to learn whether there is a next page
+     */
+    @Query("SELECT new com.heronix.api.dto.AuditLogRowDTO(a.id, a.timestamp, a.username, a.action, " +
+           "a.entityType, a.entityId, a.success, a.severity) FROM AuditLog a " +
+           "WHERE (a.timestamp < :beforeTimestamp OR (a.timestamp = :beforeTimestamp AND a.id < :beforeId)) " +
+           "AND (:username IS NULL OR a.username = :username) " +
+           "AND (:action IS NULL OR a.action = :action) " +
+           "ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditLogRowDTO> findRowsBefore(@Param("beforeTimestamp") LocalDateTime beforeTimestamp,
+                                        @Param("beforeId") Long beforeId,
+                                        @Param("username") String username,
+                                        @Param("action") AuditAction action,
+                                        Pageable pageable);
 }
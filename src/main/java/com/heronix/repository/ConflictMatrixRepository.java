@@ -13,7 +13,16 @@ import java.util.Optional;
 @Repository
 public interface ConflictMatrixRepository extends JpaRepository<ConflictMatrix, Long> {
 
-    Optional<ConflictMatrix> findByCourse1AndCourse2(Course course1, Course course2);
+    /**
+     * Find the pair's row of the most recent schedule year (each year has
+     * its own row)
+     */
+    @Query("SELECT cm FROM ConflictMatrix cm WHERE cm.course1 = :course1 AND cm.course2 = :course2 " +
+           "AND NOT EXISTS (SELECT newer.id FROM ConflictMatrix newer WHERE " +
+           "newer.course1 = cm.course1 AND newer.course2 = cm.course2 " +
+           "AND COALESCE(newer.scheduleYear, 0) > COALESCE(cm.scheduleYear, 0))")
+    Optional<ConflictMatrix> findByCourse1AndCourse2(@Param("course1") Course course1,
+                                                     @Param("course2") Course course2);
 
     List<ConflictMatrix> findByCourse1(Course course1);
 
@@ -34,6 +43,13 @@ public interface ConflictMatrixRepository extends JpaRepository<ConflictMatrix,
            "ORDER BY cm.conflictCount DESC")
     List<ConflictMatrix> findByScheduleYear(@Param("year") Integer year);
 
+    /**
+     * Find the ID and course IDs of a year's pair rows: id, course1 ID, course2 ID
+     */
+    @Query("SELECT cm.id, cm.course1.id, cm.course2.id FROM ConflictMatrix cm WHERE " +
+           "cm.scheduleYear = :year OR (:year IS NULL AND cm.scheduleYear IS NULL)")
+    List<Object[]> findCoursePairIdsForYear(@Param("year") Integer year);
+
     @Query("SELECT cm FROM ConflictMatrix cm WHERE " +
            "cm.conflictCount >= :minCount " +
            "ORDER BY cm.conflictCount DESC")
@@ -1,21 +1,30 @@
 package com.heronix.repository;
 
+import com.heronix.api.dto.CourseRowDTO;
 import com.heronix.model.domain.Course;
 import com.heronix.model.enums.EducationLevel;
 import com.heronix.model.enums.ScheduleType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CourseRepository extends JpaRepository<Course, Long> {
+public interface CourseRepository extends JpaRepository<Course, Long>, JpaSpecificationExecutor<Course> {
 
     // Find course by code
     Optional<Course> findByCourseCode(String courseCode);
 
+    // All course codes (duplicate check index for bulk imports)
+    @Query("SELECT c.courseCode FROM Course c WHERE c.courseCode IS NOT NULL")
+    List<String> findAllCourseCodes();
+
     // Find courses by name containing
     List<Course> findByCourseNameContaining(String courseName);
 
@@ -62,6 +71,14 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     @Query("SELECT DISTINCT c FROM Course c LEFT JOIN FETCH c.teacher LEFT JOIN FETCH c.room")
     List<Course> findAllWithTeacherAndRoom();
 
+    /**
+     * Find the enrolled courses of several students, with teachers, in one query
+     * Column 0 is the student ID, column 1 the course
+     */
+    @Query("SELECT s.id, c FROM Course c JOIN c.students s LEFT JOIN FETCH c.teacher " +
+           "WHERE s.id IN :studentIds")
+    List<Object[]> findEnrollmentsByStudentIds(@Param("studentIds") Collection<Long> studentIds);
+
     // ========================================================================
     // SCHOOL COURSE OFFERING QUERIES
     // ========================================================================
@@ -84,4 +101,26 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
            "(c.minGradeLevel IS NULL OR c.minGradeLevel <= :maxGrade) AND " +
            "(c.maxGradeLevel IS NULL OR c.maxGradeLevel >= :minGrade)")
     List<Course> findActiveByGradeRange(int minGrade, int maxGrade);
-}
\ No newline at end of file
+
+    /**
+     * Export columns for the next page of courses after an ID (keyset pagination).
+     * Column 0 is the ID, used as the cursor for the following page.
+     */
+    @Query("SELECT c.id, c.courseCode, c.courseName, c.durationMinutes, c.subject, c.level, c.maxStudents, c.requiresLab, c.active " +
+           "FROM Course c WHERE c.id > :afterId ORDER BY c.id")
+    List<Object[]> findExportRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Keyset page of course list rows, by ID
+     * Fetch limit + 1 rows to learn whether there is a next page
+     */
+    @Query("SELECT new com.heronix.api.dto.CourseRowDTO(c.id, c.courseCode, c.courseName, c.subject, " +
+           "c.credits, c.maxStudents, c.currentEnrollment, c.active, t.id, t.name) " +
+           "FROM Course c LEFT JOIN c.teacher t " +
+           "WHERE c.id > :afterId AND (:subject IS NULL OR c.subject = :subject) " +
+           "AND (:active IS NULL OR c.active = :active) ORDER BY c.id")
+    List<CourseRowDTO> findRowsAfter(@Param("afterId") Long afterId,
+                                     @Param("subject") String subject,
+                                     @Param("active") Boolean active,
+                                     Pageable pageable);
+}
@@ -1,7 +1,9 @@
 package com.heronix.repository;
 
+import com.heronix.api.dto.SectionRowDTO;
 import com.heronix.model.domain.CourseSection;
 import com.heronix.model.domain.Course;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -121,4 +123,19 @@ public interface CourseSectionRepository extends JpaRepository<CourseSection, Lo
     List<CourseSection> findByAssignedTeacherIdAndAssignedPeriod(
             @Param("teacherId") Long teacherId,
             @Param("period") Integer period);
+
+    /**
+     * Keyset page of section list rows, by ID
+     * Fetch limit + 1 rows to learn whether there is a next page
+     */
+    @Query("SELECT new com.heronix.api.dto.SectionRowDTO(cs.id, c.id, c.courseCode, cs.sectionNumber, " +
+           "t.id, t.name, r.roomNumber, cs.assignedPeriod, cs.currentEnrollment, cs.maxEnrollment, " +
+           "cs.sectionStatus) FROM CourseSection cs JOIN cs.course c " +
+           "LEFT JOIN cs.assignedTeacher t LEFT JOIN cs.assignedRoom r " +
+           "WHERE cs.id > :afterId AND (:courseId IS NULL OR c.id = :courseId) " +
+           "AND (:status IS NULL OR cs.sectionStatus = :status) ORDER BY cs.id")
+    List<SectionRowDTO> findRowsAfter(@Param("afterId") Long afterId,
+                                      @Param("courseId") Long courseId,
+                                      @Param("status") CourseSection.SectionStatus status,
+                                      Pageable pageable);
 }
@@ -2,6 +2,7 @@ package com.heronix.repository;
 
 import com.heronix.model.domain.Event;
 import com.heronix.model.enums.EventType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -50,4 +51,12 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     // Find events affecting a specific room
     @Query("SELECT e FROM Event e JOIN e.affectedRooms r WHERE r.id = :roomId")
     List<Event> findByAffectedRoomId(@Param("roomId") Long roomId);
-}
\ No newline at end of file
+
+    /**
+     * Export columns for the next page of events after an ID (keyset pagination).
+     * Column 0 is the ID, used as the cursor for the following page.
+     */
+    @Query("SELECT e.id, e.name, e.eventType, e.startDateTime, e.endDateTime, e.allDay, e.blocksScheduling, e.description " +
+           "FROM Event e WHERE e.id > :afterId ORDER BY e.id")
+    List<Object[]> findExportRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -28,6 +29,11 @@ public interface GradingCategoryRepository extends JpaRepository<GradingCategory
      */
     List<GradingCategory> findByCourseIdAndActiveTrueOrderByDisplayOrder(Long courseId);
 
+    /**
+     * Find active categories for several courses in one query
+     */
+    List<GradingCategory> findByCourseIdInAndActiveTrueOrderByDisplayOrder(Collection<Long> courseIds);
+
     /**
      * Find by course and category type
      */
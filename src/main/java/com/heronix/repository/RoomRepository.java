@@ -2,8 +2,10 @@ package com.heronix.repository;
 
 import com.heronix.model.domain.Room;
 import com.heronix.model.enums.RoomType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,6 +23,10 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
     // Find room by number
     Optional<Room> findByRoomNumber(String roomNumber);
 
+    // All room numbers (duplicate check index for bulk imports)
+    @Query("SELECT r.roomNumber FROM Room r WHERE r.roomNumber IS NOT NULL")
+    List<String> findAllRoomNumbers();
+
     // Find all active rooms
     List<Room> findByActiveTrue();
 
@@ -127,4 +133,12 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
            "AND r.type IN ('CLASSROOM', 'SCIENCE_LAB', 'COMPUTER_LAB', 'ART_ROOM', " +
            "'MUSIC_ROOM', 'GYMNASIUM', 'LIBRARY', 'AUDITORIUM', 'CAFETERIA')")
     List<Room> findAllSchedulableRooms();
-}
\ No newline at end of file
+
+    /**
+     * Export columns for the next page of rooms after an ID (keyset pagination).
+     * Column 0 is the ID, used as the cursor for the following page.
+     */
+    @Query("SELECT r.id, r.roomNumber, r.building, r.capacity, r.type, r.equipment, r.active " +
+           "FROM Room r WHERE r.id > :afterId ORDER BY r.id")
+    List<Object[]> findExportRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+}
@@ -1,16 +1,20 @@
 package com.heronix.repository;
 
+import com.heronix.api.dto.GradeRowDTO;
 import com.heronix.model.domain.Student;
 import com.heronix.model.domain.StudentGrade;
 import com.heronix.model.domain.Course;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Student Grade Repository
@@ -70,6 +74,14 @@ public interface StudentGradeRepository extends JpaRepository<StudentGrade, Long
      */
     List<StudentGrade> findByStudentAndCourse(Student student, Course course);
 
+    /**
+     * Find the teacher comments of several students in one query
+     * Columns: student ID, course ID, comments
+     */
+    @Query("SELECT g.student.id, g.course.id, g.comments FROM StudentGrade g " +
+           "WHERE g.student.id IN :studentIds AND g.comments IS NOT NULL ORDER BY g.id")
+    List<Object[]> findCommentsByStudentIds(@Param("studentIds") Collection<Long> studentIds);
+
     /**
      * Find all grades for a course
      */
@@ -120,6 +132,28 @@ public interface StudentGradeRepository extends JpaRepository<StudentGrade, Long
            "FROM StudentGrade g WHERE g.student.id = :studentId AND g.term = :term AND g.isFinal = true AND g.includeInGPA = true")
     Double calculateTermGPA(@Param("studentId") Long studentId, @Param("term") String term);
 
+    /**
+     * Stream the GPA inputs of every grade, one row per grade:
+     * student ID, grade level, term, letter grade, course credits, course type
+     */
+    @Query("SELECT s.id, s.gradeLevel, g.term, g.letterGrade, c.credits, c.courseType " +
+           "FROM StudentGrade g JOIN g.student s LEFT JOIN g.course c")
+    Stream<Object[]> streamGpaRows();
+
+    /**
+     * Stream the GPA inputs of the grades of students in a grade level
+     */
+    @Query("SELECT s.id, s.gradeLevel, g.term, g.letterGrade, c.credits, c.courseType " +
+           "FROM StudentGrade g JOIN g.student s LEFT JOIN g.course c WHERE s.gradeLevel = :gradeLevel")
+    Stream<Object[]> streamGpaRowsByGradeLevel(@Param("gradeLevel") String gradeLevel);
+
+    /**
+     * Find the GPA inputs of one student's grades
+     */
+    @Query("SELECT s.id, s.gradeLevel, g.term, g.letterGrade, c.credits, c.courseType " +
+           "FROM StudentGrade g JOIN g.student s LEFT JOIN g.course c WHERE s.id = :studentId")
+    List<Object[]> findGpaRowsByStudentId(@Param("studentId") Long studentId);
+
     /**
      * Get total credits earned by student
      */
@@ -237,4 +271,18 @@ public interface StudentGradeRepository extends JpaRepository<StudentGrade, Long
      */
     @Query("DELETE FROM StudentGrade g WHERE g.term = :term")
     void deleteAllByTerm(@Param("term") String term);
+
+    /**
+     * Keyset page of grade list rows, by ID
+     * Fetch limit + 1 rows to learn whether there is a next page
+     */
+    @Query("SELECT new com.heronix.api.dto.GradeRowDTO(g.id, s.id, c.id, c.courseCode, g.term, " +
+           "g.letterGrade, g.numericalGrade, g.credits, g.gradeDate, g.isFinal) " +
+           "FROM StudentGrade g JOIN g.student s JOIN g.course c " +
+           "WHERE g.id > :afterId AND (:studentId IS NULL OR s.id = :studentId) " +
+           "AND (:term IS NULL OR g.term = :term) ORDER BY g.id")
+    List<GradeRowDTO> findRowsAfter(@Param("afterId") Long afterId,
+                                    @Param("studentId") Long studentId,
+                                    @Param("term") String term,
+                                    Pageable pageable);
 }
@@ -1,6 +1,8 @@
 package com.heronix.repository;
 
+import com.heronix.api.dto.StudentRowDTO;
 import com.heronix.model.domain.Student;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -14,6 +16,10 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     // Find student by student ID
     Optional<Student> findByStudentId(String studentId);
 
+    // All student IDs (duplicate check index for bulk imports)
+    @Query("SELECT s.studentId FROM Student s WHERE s.studentId IS NOT NULL")
+    List<String> findAllStudentIds();
+
     // Find student by email
     Optional<Student> findByEmail(String email);
 
@@ -272,4 +278,34 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
            "WHERE s.active = true AND s.currentGPA IS NOT NULL AND (s.deleted = false OR s.deleted IS NULL) " +
            "AND (:campusId IS NULL OR s.campus.id = :campusId)")
     Double getAverageGPA(@org.springframework.data.repository.query.Param("campusId") Long campusId);
-}
\ No newline at end of file
+
+    /**
+     * Export columns for the next page of students after an ID (keyset pagination).
+     * Column 0 is the ID, used as the cursor for the following page.
+     */
+    @Query("SELECT s.id, s.studentId, s.firstName, s.lastName, s.email, s.gradeLevel, s.active " +
+           "FROM Student s WHERE s.id > :afterId ORDER BY s.id")
+    List<Object[]> findExportRowsAfter(@org.springframework.data.repository.query.Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Data version of the student table: row count and latest change
+     * Columns: count, max updated at
+     */
+    @Query("SELECT COUNT(s), MAX(s.updatedAt) FROM Student s")
+    List<Object[]> findDataVersion();
+
+    /**
+     * Keyset page of student list rows, by ID; deleted students are left out
+     * Fetch limit + 1 rows to learn whether there is a next page
+     */
+    @Query("SELECT new com.heronix.api.dto.StudentRowDTO(s.id, s.studentId, s.firstName, s.lastName, " +
+           "s.gradeLevel, s.email, s.active) FROM Student s " +
+           "WHERE s.id > :afterId AND (s.deleted = false OR s.deleted IS NULL) " +
+           "AND (:gradeLevel IS NULL OR s.gradeLevel = :gradeLevel) " +
+           "AND (:active IS NULL OR s.active = :active) ORDER BY s.id")
+    List<StudentRowDTO> findRowsAfter(
+            @org.springframework.data.repository.query.Param("afterId") Long afterId,
+            @org.springframework.data.repository.query.Param("gradeLevel") String gradeLevel,
+            @org.springframework.data.repository.query.Param("active") Boolean active,
+            Pageable pageable);
+}
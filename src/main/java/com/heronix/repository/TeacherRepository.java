@@ -1,9 +1,12 @@
 package com.heronix.repository;
 
+import com.heronix.api.dto.TeacherRowDTO;
 import com.heronix.model.domain.Teacher;
 import com.heronix.model.enums.PriorityLevel;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
@@ -17,11 +20,15 @@ import java.util.Optional;
  * Location: src/main/java/com/heronix/repository/TeacherRepository.java
  */
 @Repository
-public interface TeacherRepository extends JpaRepository<Teacher, Long> {
+public interface TeacherRepository extends JpaRepository<Teacher, Long>, JpaSpecificationExecutor<Teacher> {
 
     // Find teacher by employee ID
     Optional<Teacher> findByEmployeeId(String employeeId);
 
+    // All employee IDs (duplicate check index for bulk imports)
+    @Query("SELECT t.employeeId FROM Teacher t WHERE t.employeeId IS NOT NULL")
+    List<String> findAllEmployeeIds();
+
     // Find teacher by ID with eager loading of collections
     // NOTE: We fetch collections separately to avoid Hibernate's MultipleBagFetchException
     // which occurs when fetching multiple List collections simultaneously with JOIN FETCH.
@@ -314,4 +321,26 @@ public interface TeacherRepository extends JpaRepository<Teacher, Long> {
            "WHERE t.active = true AND (t.deleted = false OR t.deleted IS NULL) " +
            "AND (:campusId IS NULL OR t.primaryCampus.id = :campusId)")
     Long countActiveTeachers(@Param("campusId") Long campusId);
-}
\ No newline at end of file
+
+    /**
+     * Export columns for the next page of teachers after an ID (keyset pagination).
+     * Column 0 is the ID, used as the cursor for the following page.
+     */
+    @Query("SELECT t.id, t.employeeId, t.name, t.email, t.department, t.phoneNumber, t.maxHoursPerWeek, t.active " +
+           "FROM Teacher t WHERE t.id > :afterId ORDER BY t.id")
+    List<Object[]> findExportRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Keyset page of teacher list rows, by ID; deleted teachers are left out
+     * Fetch limit + 1 rows to learn whether there is a next page
+     */
+    @Query("SELECT new com.heronix.api.dto.TeacherRowDTO(t.id, t.employeeId, t.firstName, t.lastName, " +
+           "t.email, t.department, t.active) FROM Teacher t " +
+           "WHERE t.id > :afterId AND (t.deleted = false OR t.deleted IS NULL) " +
+           "AND (:department IS NULL OR t.department = :department) " +
+           "AND (:active IS NULL OR t.active = :active) ORDER BY t.id")
+    List<TeacherRowDTO> findRowsAfter(@Param("afterId") Long afterId,
+                                      @Param("department") String department,
+                                      @Param("active") Boolean active,
+                                      Pageable pageable);
+}
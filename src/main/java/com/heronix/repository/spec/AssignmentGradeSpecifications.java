@@ -0,0 +1,37 @@
+package com.heronix.repository.spec;
+
+import com.heronix.model.domain.Assignment;
+import com.heronix.model.domain.AssignmentGrade;
+import jakarta.persistence.criteria.Join;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+/**
+ * Assignment Grade Specifications
+ *
+ * Query predicates on assignment grades.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+public final class AssignmentGradeSpecifications {
+
+    private AssignmentGradeSpecifications() {
+    }
+
+    public static Specification<AssignmentGrade> forStudent(Long studentId) {
+        return (root, query, cb) -> cb.equal(root.get("student").get("id"), studentId);
+    }
+
+    /**
+     * Grades of assignments due in the date range, inclusive
+     */
+    public static Specification<AssignmentGrade> dueBetween(LocalDate startDate, LocalDate endDate) {
+        return (root, query, cb) -> {
+            Join<AssignmentGrade, Assignment> assignment = root.join("assignment");
+            return cb.between(assignment.get("dueDate"), startDate, endDate);
+        };
+    }
+}
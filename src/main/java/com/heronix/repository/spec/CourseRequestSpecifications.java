@@ -0,0 +1,25 @@
+package com.heronix.repository.spec;
+
+import com.heronix.model.domain.CourseRequest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+/**
+ * Course Request Specifications
+ *
+ * Query predicates on course requests.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+public final class CourseRequestSpecifications {
+
+    private CourseRequestSpecifications() {
+    }
+
+    public static Specification<CourseRequest> requestedIn(Collection<Integer> years) {
+        return (root, query, cb) -> root.get("requestYear").in(years);
+    }
+}
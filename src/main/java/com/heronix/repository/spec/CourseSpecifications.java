@@ -0,0 +1,177 @@
+package com.heronix.repository.spec;
+
+import com.heronix.model.domain.Course;
+import com.heronix.model.domain.Room;
+import com.heronix.model.domain.Student;
+import com.heronix.model.domain.SubjectCertification;
+import com.heronix.model.enums.EducationLevel;
+import com.heronix.model.enums.RoomType;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Course Specifications
+ *
+ * Query predicates on courses for JpaSpecificationExecutor and
+ * AggregateQueries. Each one is the database-side equivalent of a filter
+ * the services used to apply to courseRepository.findAll(), so that
+ * counting or selecting courses reads only the matching rows.
+ *
+ * Combine with {@link Specification#and} / {@link Specification#or}.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+public final class CourseSpecifications {
+
+    // Room types a lab course can be taught in
+    private static final List<RoomType> LAB_ROOM_TYPES =
+            List.of(RoomType.LAB, RoomType.SCIENCE_LAB, RoomType.COMPUTER_LAB);
+
+    // Subject keywords of courses that need a lab room
+    private static final List<String> LAB_SUBJECT_KEYWORDS =
+            List.of("science", "chemistry", "biology", "physics", "lab");
+
+    private CourseSpecifications() {
+    }
+
+    // ========================================================================
+    // STATUS
+    // ========================================================================
+
+    public static Specification<Course> active() {
+        return (root, query, cb) -> cb.isTrue(root.get("active"));
+    }
+
+    public static Specification<Course> atLevel(EducationLevel level) {
+        return (root, query, cb) -> cb.equal(root.get("level"), level);
+    }
+
+    public static Specification<Course> subjectIn(Collection<String> subjects) {
+        return (root, query, cb) -> root.get("subject").in(subjects);
+    }
+
+    /**
+     * Subject is set and not one of the given subjects
+     */
+    public static Specification<Course> subjectNotIn(Collection<String> subjects) {
+        return (root, query, cb) -> cb.and(
+                cb.isNotNull(root.get("subject")),
+                cb.not(root.get("subject").in(subjects)));
+    }
+
+    // ========================================================================
+    // ASSIGNMENT STATUS (see Course.isFullyAssigned() and friends)
+    // ========================================================================
+
+    /**
+     * Teacher and room assigned
+     */
+    public static Specification<Course> fullyAssigned() {
+        return (root, query, cb) -> cb.and(
+                cb.isNotNull(root.get("teacher")),
+                cb.isNotNull(root.get("room")));
+    }
+
+    /**
+     * Teacher or room assigned, but not both
+     */
+    public static Specification<Course> partiallyAssigned() {
+        return (root, query, cb) -> cb.or(
+                cb.and(cb.isNotNull(root.get("teacher")), cb.isNull(root.get("room"))),
+                cb.and(cb.isNull(root.get("teacher")), cb.isNotNull(root.get("room"))));
+    }
+
+    /**
+     * Neither teacher nor room assigned
+     */
+    public static Specification<Course> unassigned() {
+        return (root, query, cb) -> cb.and(
+                cb.isNull(root.get("teacher")),
+                cb.isNull(root.get("room")));
+    }
+
+    public static Specification<Course> hasTeacher() {
+        return (root, query, cb) -> cb.isNotNull(root.get("teacher"));
+    }
+
+    // ========================================================================
+    // ENROLLMENT
+    // ========================================================================
+
+    /**
+     * Courses a student is enrolled in
+     */
+    public static Specification<Course> enrolls(Long studentId) {
+        return (root, query, cb) -> {
+            query.distinct(true);
+            Join<Course, Student> students = root.join("students");
+            return cb.equal(students.get("id"), studentId);
+        };
+    }
+
+    // ========================================================================
+    // DASHBOARD ISSUES
+    // ========================================================================
+
+    /**
+     * Courses whose teacher holds no valid certification in the course subject
+     * (see Teacher.getCertifiedSubjects() and SubjectCertification.isValid())
+     */
+    public static Specification<Course> certificationMismatch() {
+        return (root, query, cb) -> {
+            LocalDate today = LocalDate.now();
+            Subquery<Long> certification = query.subquery(Long.class);
+            Root<SubjectCertification> sc = certification.from(SubjectCertification.class);
+            certification.select(sc.get("id")).where(
+                    cb.equal(sc.get("teacher"), root.get("teacher")),
+                    cb.equal(sc.get("subject"), root.get("subject")),
+                    cb.isTrue(sc.get("active")),
+                    cb.or(
+                            cb.isNull(sc.get("expirationDate")),
+                            cb.greaterThanOrEqualTo(sc.get("expirationDate"), today)));
+
+            return cb.and(
+                    cb.isNotNull(root.get("teacher")),
+                    cb.isNotNull(root.get("subject")),
+                    cb.not(cb.exists(certification)));
+        };
+    }
+
+    /**
+     * Lab-subject courses in a room that isn't a lab
+     */
+    public static Specification<Course> labCourseOutsideLab() {
+        return (root, query, cb) -> {
+            Join<Course, Room> room = root.join("room", JoinType.INNER);
+            Expression<String> subject = cb.lower(root.get("subject"));
+            return cb.and(
+                    cb.or(LAB_SUBJECT_KEYWORDS.stream()
+                            .map(keyword -> cb.like(subject, "%" + keyword + "%"))
+                            .toArray(Predicate[]::new)),
+                    cb.or(
+                            cb.isNull(room.get("type")),
+                            cb.not(room.get("type").in(LAB_ROOM_TYPES))));
+        };
+    }
+
+    /**
+     * Courses whose maximum enrollment is more than their room holds
+     */
+    public static Specification<Course> exceedsRoomCapacity() {
+        return (root, query, cb) -> {
+            Join<Course, Room> room = root.join("room", JoinType.INNER);
+            return cb.greaterThan(root.get("maxStudents"), room.<Integer>get("capacity"));
+        };
+    }
+}
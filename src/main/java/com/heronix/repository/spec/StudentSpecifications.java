@@ -0,0 +1,27 @@
+package com.heronix.repository.spec;
+
+import com.heronix.model.domain.Student;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Student Specifications
+ *
+ * Query predicates on students.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+public final class StudentSpecifications {
+
+    private StudentSpecifications() {
+    }
+
+    public static Specification<Student> active() {
+        return (root, query, cb) -> cb.isTrue(root.get("active"));
+    }
+
+    public static Specification<Student> hasGradeLevel() {
+        return (root, query, cb) -> cb.isNotNull(root.get("gradeLevel"));
+    }
+}
@@ -0,0 +1,38 @@
+package com.heronix.repository.spec;
+
+import com.heronix.model.domain.Teacher;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+
+/**
+ * Teacher Specifications
+ *
+ * Query predicates on teachers. Course-load predicates compare the size of
+ * the courses collection in the database (a correlated count), so teachers
+ * can be filtered by workload without fetching every teacher's courses.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+public final class TeacherSpecifications {
+
+    private TeacherSpecifications() {
+    }
+
+    /**
+     * Teachers assigned at least the given number of courses
+     * (see Teacher.isOverloaded())
+     */
+    public static Specification<Teacher> courseCountAtLeast(int courses) {
+        return (root, query, cb) -> cb.ge(cb.size(root.<Collection<?>>get("courses")), courses);
+    }
+
+    /**
+     * Teachers with no courses (see Teacher.isUnderutilized())
+     */
+    public static Specification<Teacher> withoutCourses() {
+        return (root, query, cb) -> cb.isEmpty(root.get("courses"));
+    }
+}
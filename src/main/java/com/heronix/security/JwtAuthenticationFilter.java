@@ -16,7 +16,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,8 +27,10 @@ import java.util.Optional;
  *
  * Authentication Flow:
  * 1. Extract JWT token from Authorization header
- * 2. Validate JWT signature and expiration
+ * 2. Validate JWT signature, expiration and revocation
  * 3. Extract user ID, roles, and permissions from token claims
+ *    (steps 2-3 are one JwtTokenService.verify call; a token seen before is
+ *    served from its verified-token cache without re-parsing)
  * 4. Create Spring Security authentication
  * 5. Set authentication in SecurityContext
  *
@@ -81,28 +82,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (jwtToken.isPresent()) {
                 String token = jwtToken.get();
 
-                // Validate JWT token
-                if (jwtTokenService.validateToken(token)) {
-                    // Extract claims from token
-                    String userId = jwtTokenService.getUserIdFromToken(token);
-                    String[] roles = jwtTokenService.getRolesFromToken(token);
-                    String[] permissions = jwtTokenService.getPermissionsFromToken(token);
+                // Validate JWT token and read its claims (one parse, cached)
+                Optional<JwtTokenService.VerifiedToken> verified = jwtTokenService.verify(token);
+                if (verified.isPresent()) {
+                    String userId = verified.get().userId();
 
                     // Create authorities list
-                    List<SimpleGrantedAuthority> authorities = new ArrayList<>();
+                    List<SimpleGrantedAuthority> authorities = new ArrayList<>(
+                        verified.get().roles().size() + verified.get().permissions().size());
 
                     // Add roles as ROLE_ authorities
-                    if (roles != null) {
-                        Arrays.stream(roles)
-                            .forEach(role -> authorities.add(
-                                new SimpleGrantedAuthority("ROLE_" + role)));
+                    for (String role : verified.get().roles()) {
+                        authorities.add(new SimpleGrantedAuthority("ROLE_" + role));
                     }
 
                     // Add permissions as SCOPE_ authorities
-                    if (permissions != null) {
-                        Arrays.stream(permissions)
-                            .forEach(permission -> authorities.add(
-                                new SimpleGrantedAuthority("SCOPE_" + permission)));
+                    for (String permission : verified.get().permissions()) {
+                        authorities.add(new SimpleGrantedAuthority("SCOPE_" + permission));
                     }
 
                     // Create authentication object
@@ -8,12 +8,18 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import com.heronix.service.JwtTokenService;
+import com.heronix.service.RateLimitService.Decision;
+import com.heronix.service.RateLimitService.Limit;
+import com.heronix.service.RateLimitService.Tier;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -22,13 +28,18 @@ import java.util.Optional;
  * HTTP filter that enforces rate limits on API requests.
  * Uses token bucket algorithm to limit requests per hour.
  *
- * Rate Limiting Strategy:
- * - Per API Key: Each API key has its own rate limit
- * - Per User: Authenticated users have default rate limits
- * - Global: Unauthenticated requests have strict global limits
+ * Rate Limiting Strategy (every applicable limit must allow the request):
+ * - Per API Key: Each API key has its own rate limit (capped at api.ratelimit.max)
+ * - Per Owner: All API keys of one user share api.ratelimit.max
+ * - Per User: JWT-authenticated users have default rate limits
+ * - Per IP: Unauthenticated requests have strict limits
+ * - Per Campus: API keys and JWT users acting for a campus share a
+ *   campus-wide limit (heronix.rate-limit.campus-per-hour). The campus comes
+ *   from the verified key (campus_id) or token (campusId claim), never from
+ *   the request, so callers can't spend another campus's limit
  *
  * HTTP Response Headers:
- * - X-RateLimit-Limit: Maximum requests allowed per hour
+ * - X-RateLimit-Limit: Limit closest to running out (requests per hour)
  * - X-RateLimit-Remaining: Remaining requests in current window
  * - X-RateLimit-Reset: Unix timestamp when limit resets
  *
@@ -51,15 +62,38 @@ import java.util.Optional;
  */
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class RateLimitFilter extends OncePerRequestFilter {
 
     private final RateLimitService rateLimitService;
     private final ApiKeyService apiKeyService;
+    private final JwtTokenService jwtTokenService;
     private final SecurityAuditService auditService;
 
-    private static final int DEFAULT_RATE_LIMIT = 1000; // Default: 1000 req/hour
-    private static final int UNAUTHENTICATED_RATE_LIMIT = 100; // Unauthenticated: 100 req/hour
+    private final long maxRateLimit;
+    private final Limit ownerLimit;
+    private final Limit userLimit;
+    private final Limit unauthenticatedLimit;
+    private final Limit campusLimit;
+
+    public RateLimitFilter(
+            RateLimitService rateLimitService,
+            ApiKeyService apiKeyService,
+            JwtTokenService jwtTokenService,
+            SecurityAuditService auditService,
+            @Value("${api.ratelimit.default:1000}") long defaultRateLimit,
+            @Value("${api.ratelimit.unauthenticated:100}") long unauthenticatedRateLimit,
+            @Value("${api.ratelimit.max:10000}") long maxRateLimit,
+            @Value("${heronix.rate-limit.campus-per-hour:50000}") long campusRateLimit) {
+        this.rateLimitService = rateLimitService;
+        this.apiKeyService = apiKeyService;
+        this.jwtTokenService = jwtTokenService;
+        this.auditService = auditService;
+        this.maxRateLimit = maxRateLimit;
+        this.ownerLimit = Limit.perHour("owner", maxRateLimit);
+        this.userLimit = Limit.perHour("user", defaultRateLimit);
+        this.unauthenticatedLimit = Limit.perHour("ip", unauthenticatedRateLimit);
+        this.campusLimit = Limit.perHour("campus", campusRateLimit);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -74,78 +108,95 @@ public class RateLimitFilter extends OncePerRequestFilter {
         }
 
         try {
-            // Determine rate limit identifier and limit
-            RateLimitInfo rateLimitInfo = getRateLimitInfo(request);
+            // Determine the limits that apply to this request
+            List<Tier> tiers = getRateLimitTiers(request);
 
-            // Check rate limit
-            RateLimitService.RateLimitResult result = rateLimitService.checkRateLimit(
-                rateLimitInfo.identifier(),
-                rateLimitInfo.limit()
-            );
+            // Check all of them
+            Decision decision = rateLimitService.tryAcquire(tiers);
 
             // Add rate limit headers to response
-            addRateLimitHeaders(response, result);
+            addRateLimitHeaders(response, decision);
 
-            if (result.allowed()) {
-                // Request allowed - proceed
-                filterChain.doFilter(request, response);
-            } else {
+            if (!decision.allowed()) {
                 // Rate limit exceeded
-                handleRateLimitExceeded(request, response, rateLimitInfo, result);
+                handleRateLimitExceeded(request, response, tiers, decision);
+                return;
             }
-
         } catch (Exception e) {
             log.error("Error in rate limit filter: {}", e.getMessage(), e);
             // On error, allow request to proceed (fail open)
-            filterChain.doFilter(request, response);
         }
+
+        // Request allowed - proceed
+        filterChain.doFilter(request, response);
     }
 
     /**
-     * Determine rate limit identifier and limit
+     * Determine the limits that apply to a request, most specific first
      */
-    private RateLimitInfo getRateLimitInfo(HttpServletRequest request) {
-        // Try to get API key from header
+    private List<Tier> getRateLimitTiers(HttpServletRequest request) {
+        List<Tier> tiers = new ArrayList<>(3);
+        String token = null;
+        String campusId = null;
+
+        // Try to get API key from header (extracted as ApiKeyAuthenticationFilter does)
         String apiKeyHeader = request.getHeader("X-API-Key");
-        if (apiKeyHeader == null) {
+        if (apiKeyHeader != null && !apiKeyHeader.isBlank()) {
+            apiKeyHeader = apiKeyHeader.trim();
+        } else {
+            apiKeyHeader = null;
             String authHeader = request.getHeader("Authorization");
-            if (authHeader != null && authHeader.startsWith("Bearer ") &&
-                authHeader.substring(7).startsWith("hx_")) {
-                apiKeyHeader = authHeader.substring(7);
+            if (authHeader != null && authHeader.startsWith("Bearer ")) {
+                token = authHeader.substring(7).trim();
+                if (token.startsWith("hx_")) {
+                    apiKeyHeader = token;
+                }
             }
         }
 
         if (apiKeyHeader != null) {
-            // Rate limit by API key
-            Optional<ApiKey> apiKey = apiKeyService.validateApiKey(apiKeyHeader);
+            // Rate limit by API key, and all keys of its owner together; the
+            // result is kept for ApiKeyAuthenticationFilter
+            Optional<ApiKey> apiKey = ApiKeyAuthenticationFilter.resolveApiKey(request, apiKeyHeader, apiKeyService);
             if (apiKey.isPresent()) {
-                return new RateLimitInfo(
-                    "apikey_" + apiKey.get().getId(),
-                    apiKey.get().getRateLimit()
-                );
+                ApiKey key = apiKey.get();
+                long keyRateLimit = key.getRateLimit() != null ? key.getRateLimit() : userLimit.capacity();
+                tiers.add(new Tier(Limit.perHour("apikey", Math.min(keyRateLimit, maxRateLimit)), String.valueOf(key.getId())));
+                if (key.getUserId() != null) {
+                    tiers.add(new Tier(ownerLimit, key.getUserId()));
+                }
+                campusId = key.getCampusId();
+            }
+        } else if (token != null) {
+            // Rate limit JWT users by user ID (the token is verified once and cached)
+            Optional<JwtTokenService.VerifiedToken> verified = jwtTokenService.verify(token);
+            if (verified.isPresent()) {
+                tiers.add(new Tier(userLimit, verified.get().userId()));
+                campusId = verified.get().campusId();
             }
         }
 
-        // Check if user is authenticated (JWT)
-        // For now, use IP-based rate limiting for JWT users
-        String userId = request.getRemoteUser();
-        if (userId != null) {
-            return new RateLimitInfo("user_" + userId, DEFAULT_RATE_LIMIT);
+        if (tiers.isEmpty()) {
+            String userId = request.getRemoteUser();
+            tiers.add(userId != null
+                ? new Tier(userLimit, userId)
+                : new Tier(unauthenticatedLimit, getClientIp(request)));
         }
 
-        // Unauthenticated requests - use IP address
-        String ipAddress = getClientIp(request);
-        return new RateLimitInfo("ip_" + ipAddress, UNAUTHENTICATED_RATE_LIMIT);
+        // Campus-wide ceiling shared by every verified principal of a campus
+        if (campusId != null && !campusId.isBlank()) {
+            tiers.add(new Tier(campusLimit, campusId));
+        }
+        return tiers;
     }
 
     /**
      * Add rate limit headers to response
      */
-    private void addRateLimitHeaders(HttpServletResponse response,
-                                    RateLimitService.RateLimitResult result) {
-        response.setHeader("X-RateLimit-Limit", String.valueOf(result.limit()));
-        response.setHeader("X-RateLimit-Remaining", String.valueOf(result.remaining()));
-        response.setHeader("X-RateLimit-Reset", String.valueOf(result.resetTime()));
+    private void addRateLimitHeaders(HttpServletResponse response, Decision decision) {
+        response.setHeader("X-RateLimit-Limit", String.valueOf(decision.limit().capacity()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("X-RateLimit-Reset", String.valueOf(decision.resetTime()));
     }
 
     /**
@@ -154,18 +205,23 @@ public class RateLimitFilter extends OncePerRequestFilter {
     private void handleRateLimitExceeded(
             HttpServletRequest request,
             HttpServletResponse response,
-            RateLimitInfo rateLimitInfo,
-            RateLimitService.RateLimitResult result) throws IOException {
+            List<Tier> tiers,
+            Decision decision) throws IOException {
 
         String ipAddress = getClientIp(request);
         String endpoint = request.getRequestURI();
 
-        // Audit logging
+        // Audit logging, against the limit that denied the request
+        String identifier = tiers.stream()
+            .filter(tier -> tier.limit().equals(decision.limit()))
+            .map(tier -> tier.limit().name() + "_" + tier.identifier())
+            .findFirst()
+            .orElse(decision.limit().name());
         auditService.logRateLimitViolation(
-            rateLimitInfo.identifier(),
+            identifier,
             endpoint,
-            0, // Current count not easily available
-            result.limit(),
+            decision.limit().capacity(),
+            decision.limit().capacity(),
             ipAddress
         );
 
@@ -176,9 +232,9 @@ public class RateLimitFilter extends OncePerRequestFilter {
         // Build JSON response
         String jsonResponse = String.format(
             "{\"success\":false,\"error\":\"Rate limit exceeded\",\"limit\":%d,\"remaining\":%d,\"resetAt\":%d}",
-            result.limit(),
-            result.remaining(),
-            result.resetTime()
+            decision.limit().capacity(),
+            decision.remaining(),
+            decision.resetTime()
         );
 
         response.getWriter().write(jsonResponse);
@@ -206,9 +262,4 @@ public class RateLimitFilter extends OncePerRequestFilter {
         }
         return request.getRemoteAddr();
     }
-
-    /**
-     * Rate limit information
-     */
-    private record RateLimitInfo(String identifier, int limit) {}
 }
@@ -1,29 +1,27 @@
 package com.heronix.security;
 
 import com.heronix.service.AuditService;
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
+import com.heronix.service.RateLimitService;
+import com.heronix.service.RateLimitService.Limit;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.time.Duration;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Rate Limiting Filter for Heronix-SIS
  *
- * Implements rate limiting using the token bucket algorithm (Bucket4j library)
+ * Implements rate limiting using the token bucket algorithm (RateLimitService)
  * to protect against brute force attacks and abuse.
  *
- * RATE LIMITS:
+ * RATE LIMITS (defaults, configurable with rate-limit.* properties):
  * - Login attempts: 5 per minute per IP address
  * - Password reset: 3 per hour per IP address
  * - General API calls: 100 per minute per user
@@ -35,6 +33,8 @@ import java.util.concurrent.ConcurrentHashMap;
  * 3. Each request consumes 1 token
  * 4. If bucket is empty, request is rejected with HTTP 429 (Too Many Requests)
  * 5. Failed attempts are logged for security monitoring
+ * 6. Idle buckets expire once full again; the number held is bounded
+ *    (heronix.rate-limit.max-keys)
  *
  * TOKEN BUCKET ALGORITHM:
  * - Capacity: Maximum number of tokens (burst capacity)
@@ -55,40 +55,36 @@ public class RateLimitingFilter implements Filter {
     // Rate Limit Configuration
     // ============================================================
 
-    // Login attempts: 5 per minute per IP
-    private static final int LOGIN_CAPACITY = 5;
-    private static final Duration LOGIN_REFILL_PERIOD = Duration.ofMinutes(1);
-
-    // Password reset: 3 per hour per IP
-    private static final int PASSWORD_RESET_CAPACITY = 3;
-    private static final Duration PASSWORD_RESET_REFILL_PERIOD = Duration.ofHours(1);
-
-    // General API: 100 per minute per user
-    private static final int API_CAPACITY = 100;
-    private static final Duration API_REFILL_PERIOD = Duration.ofMinutes(1);
-
-    // Report generation: 10 per hour per user
-    private static final int REPORT_CAPACITY = 10;
-    private static final Duration REPORT_REFILL_PERIOD = Duration.ofHours(1);
-
-    // ============================================================
-    // Bucket Storage (In-Memory)
-    // ============================================================
-
-    // Map: IP Address -> Bucket
-    private final Map<String, Bucket> loginBuckets = new ConcurrentHashMap<>();
-    private final Map<String, Bucket> passwordResetBuckets = new ConcurrentHashMap<>();
-
-    // Map: Username -> Bucket
-    private final Map<String, Bucket> apiBuckets = new ConcurrentHashMap<>();
-    private final Map<String, Bucket> reportBuckets = new ConcurrentHashMap<>();
-
-    // Cleanup tracking
-    private long lastCleanupTime = System.currentTimeMillis();
-    private static final long CLEANUP_INTERVAL_MS = 3600000; // 1 hour
-
-    @Autowired
-    private AuditService auditService;
+    private final Limit loginLimit;
+    private final Limit passwordResetLimit;
+    private final Limit apiLimit;
+    private final Limit reportLimit;
+
+    private final RateLimitService rateLimitService;
+    private final AuditService auditService;
+
+    public RateLimitingFilter(
+            RateLimitService rateLimitService,
+            AuditService auditService,
+            // Login attempts: 5 per minute per IP
+            @Value("${rate-limit.login.capacity:5}") long loginCapacity,
+            @Value("${rate-limit.login.refill-minutes:1}") long loginRefillMinutes,
+            // Password reset: 3 per hour per IP
+            @Value("${rate-limit.password-reset.capacity:3}") long passwordResetCapacity,
+            @Value("${rate-limit.password-reset.refill-hours:1}") long passwordResetRefillHours,
+            // General API: 100 per minute per user
+            @Value("${rate-limit.api.capacity:100}") long apiCapacity,
+            @Value("${rate-limit.api.refill-minutes:1}") long apiRefillMinutes,
+            // Report generation: 10 per hour per user
+            @Value("${rate-limit.report.capacity:10}") long reportCapacity,
+            @Value("${rate-limit.report.refill-hours:1}") long reportRefillHours) {
+        this.rateLimitService = rateLimitService;
+        this.auditService = auditService;
+        this.loginLimit = new Limit("login", loginCapacity, Duration.ofMinutes(loginRefillMinutes));
+        this.passwordResetLimit = new Limit("password_reset", passwordResetCapacity, Duration.ofHours(passwordResetRefillHours));
+        this.apiLimit = new Limit("api", apiCapacity, Duration.ofMinutes(apiRefillMinutes));
+        this.reportLimit = new Limit("report", reportCapacity, Duration.ofHours(reportRefillHours));
+    }
 
     // ============================================================
     // Filter Implementation
@@ -109,9 +105,6 @@ public class RateLimitingFilter implements Filter {
         String requestURI = request.getRequestURI();
         String ipAddress = getClientIpAddress(request);
 
-        // Periodic cleanup of old buckets
-        performPeriodicCleanup();
-
         try {
             // Apply rate limiting based on request type
             if (requestURI.contains("/login") || requestURI.contains("/perform_login")) {
@@ -151,10 +144,6 @@ public class RateLimitingFilter implements Filter {
     @Override
     public void destroy() {
         logger.info("Rate Limiting Filter destroyed");
-        loginBuckets.clear();
-        passwordResetBuckets.clear();
-        apiBuckets.clear();
-        reportBuckets.clear();
     }
 
     // ============================================================
@@ -171,9 +160,7 @@ public class RateLimitingFilter implements Filter {
     private boolean checkLoginRateLimit(String ipAddress, HttpServletResponse response)
         throws IOException {
 
-        Bucket bucket = loginBuckets.computeIfAbsent(ipAddress, k -> createLoginBucket());
-
-        if (bucket.tryConsume(1)) {
+        if (rateLimitService.tryAcquire(loginLimit, ipAddress).allowed()) {
             return true; // Request allowed
         } else {
             // Rate limit exceeded
@@ -195,9 +182,7 @@ public class RateLimitingFilter implements Filter {
     private boolean checkPasswordResetRateLimit(String ipAddress, HttpServletResponse response)
         throws IOException {
 
-        Bucket bucket = passwordResetBuckets.computeIfAbsent(ipAddress, k -> createPasswordResetBucket());
-
-        if (bucket.tryConsume(1)) {
+        if (rateLimitService.tryAcquire(passwordResetLimit, ipAddress).allowed()) {
             return true;
         } else {
             logger.warn("Password reset rate limit exceeded for IP: {}", ipAddress);
@@ -218,9 +203,7 @@ public class RateLimitingFilter implements Filter {
     private boolean checkApiRateLimit(String username, HttpServletResponse response)
         throws IOException {
 
-        Bucket bucket = apiBuckets.computeIfAbsent(username, k -> createApiBucket());
-
-        if (bucket.tryConsume(1)) {
+        if (rateLimitService.tryAcquire(apiLimit, username).allowed()) {
             return true;
         } else {
             logger.warn("API rate limit exceeded for user: {}", username);
@@ -241,9 +224,7 @@ public class RateLimitingFilter implements Filter {
     private boolean checkReportRateLimit(String username, HttpServletResponse response)
         throws IOException {
 
-        Bucket bucket = reportBuckets.computeIfAbsent(username, k -> createReportBucket());
-
-        if (bucket.tryConsume(1)) {
+        if (rateLimitService.tryAcquire(reportLimit, username).allowed()) {
             return true;
         } else {
             logger.warn("Report generation rate limit exceeded for user: {}", username);
@@ -258,66 +239,6 @@ public class RateLimitingFilter implements Filter {
         }
     }
 
-    // ============================================================
-    // Bucket Creation Methods
-    // ============================================================
-
-    /**
-     * Create a bucket for login attempts.
-     * Capacity: 5 tokens, Refill: 5 tokens per minute
-     */
-    private Bucket createLoginBucket() {
-        Bandwidth limit = Bandwidth.classic(
-            LOGIN_CAPACITY,
-            Refill.intervally(LOGIN_CAPACITY, LOGIN_REFILL_PERIOD)
-        );
-        return Bucket.builder()
-            .addLimit(limit)
-            .build();
-    }
-
-    /**
-     * Create a bucket for password reset requests.
-     * Capacity: 3 tokens, Refill: 3 tokens per hour
-     */
-    private Bucket createPasswordResetBucket() {
-        Bandwidth limit = Bandwidth.classic(
-            PASSWORD_RESET_CAPACITY,
-            Refill.intervally(PASSWORD_RESET_CAPACITY, PASSWORD_RESET_REFILL_PERIOD)
-        );
-        return Bucket.builder()
-            .addLimit(limit)
-            .build();
-    }
-
-    /**
-     * Create a bucket for general API calls.
-     * Capacity: 100 tokens, Refill: 100 tokens per minute
-     */
-    private Bucket createApiBucket() {
-        Bandwidth limit = Bandwidth.classic(
-            API_CAPACITY,
-            Refill.intervally(API_CAPACITY, API_REFILL_PERIOD)
-        );
-        return Bucket.builder()
-            .addLimit(limit)
-            .build();
-    }
-
-    /**
-     * Create a bucket for report generation.
-     * Capacity: 10 tokens, Refill: 10 tokens per hour
-     */
-    private Bucket createReportBucket() {
-        Bandwidth limit = Bandwidth.classic(
-            REPORT_CAPACITY,
-            Refill.intervally(REPORT_CAPACITY, REPORT_REFILL_PERIOD)
-        );
-        return Bucket.builder()
-            .addLimit(limit)
-            .build();
-    }
-
     // ============================================================
     // Helper Methods
     // ============================================================
@@ -345,34 +266,6 @@ public class RateLimitingFilter implements Filter {
         return request.getRemoteAddr();
     }
 
-    /**
-     * Periodically clean up old bucket entries to prevent memory leaks.
-     * Runs once per hour to remove unused buckets.
-     */
-    private void performPeriodicCleanup() {
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastCleanupTime > CLEANUP_INTERVAL_MS) {
-            synchronized (this) {
-                if (currentTime - lastCleanupTime > CLEANUP_INTERVAL_MS) {
-                    logger.info("Performing rate limit bucket cleanup");
-
-                    // For simplicity, clear all buckets
-                    // In production, you might want to check bucket age and only clear old ones
-                    int totalBuckets = loginBuckets.size() + passwordResetBuckets.size()
-                        + apiBuckets.size() + reportBuckets.size();
-
-                    loginBuckets.clear();
-                    passwordResetBuckets.clear();
-                    apiBuckets.clear();
-                    reportBuckets.clear();
-
-                    logger.info("Cleared {} rate limit buckets", totalBuckets);
-                    lastCleanupTime = currentTime;
-                }
-            }
-        }
-    }
-
     // ============================================================
     // Rate Limit Status Methods (for monitoring)
     // ============================================================
@@ -382,19 +275,13 @@ public class RateLimitingFilter implements Filter {
      * Used for monitoring/debugging.
      */
     public long getAvailableLoginTokens(String ipAddress) {
-        Bucket bucket = loginBuckets.get(ipAddress);
-        return bucket != null ? bucket.getAvailableTokens() : LOGIN_CAPACITY;
+        return rateLimitService.getRemainingRequests(loginLimit, ipAddress);
     }
 
     /**
      * Get rate limiting statistics.
      */
-    public Map<String, Integer> getStatistics() {
-        return Map.of(
-            "loginBuckets", loginBuckets.size(),
-            "passwordResetBuckets", passwordResetBuckets.size(),
-            "apiBuckets", apiBuckets.size(),
-            "reportBuckets", reportBuckets.size()
-        );
+    public Map<String, Long> getStatistics() {
+        return Map.of("buckets", rateLimitService.getBucketCount());
     }
 }
@@ -237,15 +237,17 @@ public class ApiAuthenticationService {
             return null;
         }
 
-        String userId = jwtTokenService.getUserIdFromToken(accessToken);
-        String[] roles = jwtTokenService.getRolesFromToken(accessToken);
-        String[] permissions = jwtTokenService.getPermissionsFromToken(accessToken);
+        // Parsed once, and usually already cached by the authentication filter
+        JwtTokenService.VerifiedToken token = jwtTokenService.verify(accessToken).orElse(null);
+        if (token == null) {
+            return null;
+        }
 
         Map<String, Object> userInfo = new HashMap<>();
-        userInfo.put("userId", userId);
-        userInfo.put("roles", roles);
-        userInfo.put("permissions", permissions);
-        userInfo.put("expiresAt", jwtTokenService.getExpirationFromToken(accessToken));
+        userInfo.put("userId", token.userId());
+        userInfo.put("roles", token.roles().toArray(new String[0]));
+        userInfo.put("permissions", token.permissions().toArray(new String[0]));
+        userInfo.put("expiresAt", token.expiresAt() != null ? java.util.Date.from(token.expiresAt()) : null);
 
         return userInfo;
     }
@@ -275,6 +277,8 @@ public class ApiAuthenticationService {
 
             // Add to in-memory blacklist with expiration
             blacklistedTokens.put(token, expiration);
+            // Rejected by the authentication filter from now on
+            jwtTokenService.revoke(token);
             log.debug("Token blacklisted until {}", expiration);
 
             // Optionally persist to database for recovery across restarts
@@ -298,6 +302,7 @@ public class ApiAuthenticationService {
             log.error("Error blacklisting token: {}", e.getMessage());
             // Still add to in-memory as fallback
             blacklistedTokens.put(token, LocalDateTime.now().plusHours(24));
+            jwtTokenService.revoke(token);
         }
     }
 
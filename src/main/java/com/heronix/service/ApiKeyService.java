@@ -1,9 +1,11 @@
 package com.heronix.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.heronix.model.domain.ApiKey;
 import com.heronix.repository.ApiKeyRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,7 +15,12 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
@@ -26,9 +33,24 @@ import java.util.*;
  *
  * Key Generation:
  * - Cryptographically secure random key generation
- * - Format: {prefix}_{random_base64}
- * - Example: hx_live_a1b2c3d4e5f6g7h8i9j0k1l2m3n4o5p6
- * - Keys are 32 bytes (256 bits) of entropy
+ * - Format: {prefix}_{key_id}_{random_base64}
+ * - Example: hx_live_3f9a0c1b7d2e4a68_a1b2c3d4e5f6g7h8i9j0k1l2m3n4o5p6
+ * - The key ID (16 hex characters) is public and stored in plain text;
+ *   the random part is 32 bytes (256 bits) of entropy
+ * - Keys issued before key IDs ({prefix}_{random_base64}) remain valid
+ *
+ * Validation (Phase 15 - Performance Optimizations):
+ * - The key ID finds the key with one indexed lookup, so only one BCrypt
+ *   hash is checked. Only keys without a key ID are checked against the
+ *   legacy keys with their prefix; a key with a key ID that fails is rejected
+ * - Successful verifications are cached for
+ *   {@code heronix.api-key.verified-cache.ttl} (default 60 s), keyed by an
+ *   HMAC-SHA256 of the key under a per-process random secret, so repeat
+ *   requests skip BCrypt and the database. Revoking, deactivating or
+ *   changing a key evicts it at once on this instance
+ * - Rejections are cached under the same digest for
+ *   {@code heronix.api-key.rejected-cache.ttl} (default 10 s), so a forged,
+ *   revoked or expired key sent repeatedly costs one check per ttl
  *
  * Security:
  * - Keys are hashed with BCrypt before storage
@@ -56,17 +78,44 @@ import java.util.*;
  */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class ApiKeyService {
 
     private final ApiKeyRepository apiKeyRepository;
     private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(12);
     private final SecureRandom secureRandom = new SecureRandom();
 
+    // Cache key digest -> detached copy of the verified key
+    private final Cache<String, ApiKey> verifiedKeys;
+
+    // Digests of keys that failed validation
+    private final Cache<String, Boolean> rejectedKeys;
+
+    // Never leaves the process, so cache keys can't be checked offline
+    private final byte[] digestSecret = new byte[32];
+    private final ThreadLocal<Mac> hmac = ThreadLocal.withInitial(this::newHmac);
+
     private static final int KEY_LENGTH_BYTES = 32; // 256 bits
+    private static final int KEY_ID_BYTES = 8; // 16 hex characters
     private static final String KEY_PREFIX_LIVE = "hx_live";
     private static final String KEY_PREFIX_TEST = "hx_test";
 
+    public ApiKeyService(
+            ApiKeyRepository apiKeyRepository,
+            @Value("${heronix.api-key.verified-cache.ttl:60s}") Duration verifiedCacheTtl,
+            @Value("${heronix.api-key.verified-cache.max-size:10000}") long verifiedCacheSize,
+            @Value("${heronix.api-key.rejected-cache.ttl:10s}") Duration rejectedCacheTtl) {
+        this.apiKeyRepository = apiKeyRepository;
+        this.verifiedKeys = Caffeine.newBuilder()
+            .maximumSize(verifiedCacheSize)
+            .expireAfterWrite(verifiedCacheTtl)
+            .build();
+        this.rejectedKeys = Caffeine.newBuilder()
+            .maximumSize(verifiedCacheSize)
+            .expireAfterWrite(rejectedCacheTtl)
+            .build();
+        secureRandom.nextBytes(digestSecret);
+    }
+
     /**
      * Generate a new API key with secure random generation
      *
@@ -96,9 +145,14 @@ public class ApiKeyService {
         secureRandom.nextBytes(keyBytes);
         String randomPart = Base64.getUrlEncoder().withoutPadding().encodeToString(keyBytes);
 
-        // Create key with prefix
+        // Public key ID for indexed lookup
+        byte[] keyIdBytes = new byte[KEY_ID_BYTES];
+        secureRandom.nextBytes(keyIdBytes);
+        String keyId = HexFormat.of().formatHex(keyIdBytes);
+
+        // Create key with prefix and key ID
         String prefix = isTestKey ? KEY_PREFIX_TEST : KEY_PREFIX_LIVE;
-        String plainTextKey = prefix + "_" + randomPart;
+        String plainTextKey = prefix + "_" + keyId + "_" + randomPart;
 
         // Hash the key for storage
         String keyHash = passwordEncoder.encode(plainTextKey);
@@ -109,6 +163,7 @@ public class ApiKeyService {
             .description(description)
             .keyHash(keyHash)
             .keyPrefix(prefix)
+            .keyId(keyId)
             .userId(userId)
             .scopes(scopes)
             .ipWhitelist(ipWhitelist != null ? ipWhitelist : Set.of())
@@ -132,30 +187,61 @@ public class ApiKeyService {
      * Validate an API key
      *
      * @param plainTextKey Plain text API key from request
-     * @return Optional ApiKey entity if valid
+     * @return Optional ApiKey entity if valid (a detached copy; its usage
+     *         statistics are not current)
      */
+    @Transactional(readOnly = true)
     public Optional<ApiKey> validateApiKey(String plainTextKey) {
         if (plainTextKey == null || plainTextKey.isBlank()) {
             return Optional.empty();
         }
 
-        // Extract prefix for faster lookup (future optimization)
-        String prefix = plainTextKey.split("_")[0] + "_" + plainTextKey.split("_")[1];
+        String digest = digest(plainTextKey);
+        ApiKey cached = verifiedKeys.getIfPresent(digest);
+        if (cached != null) {
+            if (cached.isValid()) {
+                return Optional.of(cached);
+            }
+            verifiedKeys.invalidate(digest);
+            rejectedKeys.put(digest, Boolean.TRUE);
+            return Optional.empty();
+        }
+        if (rejectedKeys.getIfPresent(digest) != null) {
+            return Optional.empty();
+        }
 
-        // Find all active keys and check hash
-        // Note: This is a simple implementation. For production with many keys,
-        // consider adding a key ID to the key format for direct lookup
-        List<ApiKey> activeKeys = apiKeyRepository.findAll().stream()
-            .filter(key -> key.getActive() && !key.isExpired())
-            .filter(key -> key.getKeyPrefix().equals(prefix))
-            .toList();
+        // {prefix}_{key_id}_{secret} or legacy {prefix}_{secret}; the secret may contain '_'
+        String[] parts = plainTextKey.split("_", 4);
+        if (parts.length < 3) {
+            return Optional.empty();
+        }
+        String prefix = parts[0] + "_" + parts[1];
+
+        Optional<ApiKey> verified = parts.length == 4 && isKeyId(parts[2])
+            ? apiKeyRepository.findByKeyId(parts[2])
+                .filter(key -> key.getKeyPrefix().equals(prefix))
+                .filter(ApiKey::isValid)
+                .filter(key -> passwordEncoder.matches(plainTextKey, key.getKeyHash()))
+            : validateLegacyKey(plainTextKey, prefix);
 
-        for (ApiKey apiKey : activeKeys) {
-            if (passwordEncoder.matches(plainTextKey, apiKey.getKeyHash())) {
+        if (verified.isEmpty()) {
+            rejectedKeys.put(digest, Boolean.TRUE);
+            return Optional.empty();
+        }
+        ApiKey result = detachedCopy(verified.get());
+        verifiedKeys.put(digest, result);
+        return Optional.of(result);
+    }
+
+    /**
+     * Keys issued before key IDs: check each active key with the prefix
+     */
+    private Optional<ApiKey> validateLegacyKey(String plainTextKey, String prefix) {
+        for (ApiKey apiKey : apiKeyRepository.findByKeyPrefixAndKeyIdIsNullAndActiveTrue(prefix)) {
+            if (!apiKey.isExpired() && passwordEncoder.matches(plainTextKey, apiKey.getKeyHash())) {
                 return Optional.of(apiKey);
             }
         }
-
         return Optional.empty();
     }
 
@@ -183,6 +269,7 @@ public class ApiKeyService {
             apiKey.setActive(false);
             apiKey.setUpdatedAt(LocalDateTime.now());
             apiKeyRepository.save(apiKey);
+            evictVerified(apiKeyId);
             log.info("Revoked API key: {} (ID: {})", apiKey.getName(), apiKeyId);
         });
     }
@@ -216,6 +303,7 @@ public class ApiKeyService {
     public int deleteExpiredKeys() {
         List<ApiKey> expiredKeys = apiKeyRepository.findExpiredKeys(LocalDateTime.now());
         apiKeyRepository.deleteAll(expiredKeys);
+        expiredKeys.forEach(key -> evictVerified(key.getId()));
         log.info("Deleted {} expired API keys", expiredKeys.size());
         return expiredKeys.size();
     }
@@ -235,6 +323,7 @@ public class ApiKeyService {
         oldKey.setActive(false);
         oldKey.setUpdatedAt(LocalDateTime.now());
         apiKeyRepository.save(oldKey);
+        evictVerified(oldApiKeyId);
 
         // Generate new key with same settings
         return generateApiKey(
@@ -301,6 +390,7 @@ public class ApiKeyService {
 
         apiKey.setUpdatedAt(LocalDateTime.now());
         ApiKey savedKey = apiKeyRepository.save(apiKey);
+        evictVerified(apiKeyId);
 
         log.info("Updated API key: {} (ID: {}) by user: {}", apiKey.getName(), apiKeyId, userId);
 
@@ -327,6 +417,7 @@ public class ApiKeyService {
         apiKey.setActive(active);
         apiKey.setUpdatedAt(LocalDateTime.now());
         ApiKey savedKey = apiKeyRepository.save(apiKey);
+        evictVerified(apiKeyId);
 
         log.info("{} API key: {} (ID: {})", active ? "Activated" : "Deactivated",
                 apiKey.getName(), apiKeyId);
@@ -700,6 +791,73 @@ public class ApiKeyService {
         return logs;
     }
 
+    // ========================================================================
+    // VERIFIED KEY CACHE
+    // ========================================================================
+
+    /**
+     * Drop cached verifications of a key after it changes; rejections are
+     * dropped too, as the change may have made a rejected key valid again
+     */
+    private void evictVerified(Long apiKeyId) {
+        verifiedKeys.asMap().values().removeIf(key -> Objects.equals(key.getId(), apiKeyId));
+        rejectedKeys.invalidateAll();
+    }
+
+    private static boolean isKeyId(String candidate) {
+        if (candidate.length() != KEY_ID_BYTES * 2) {
+            return false;
+        }
+        for (int i = 0; i < candidate.length(); i++) {
+            if (Character.digit(candidate.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Cache key of an API key: fast keyed digest, so the cache holds no keys
+     */
+    private String digest(String plainTextKey) {
+        byte[] mac = hmac.get().doFinal(plainTextKey.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(mac);
+    }
+
+    private Mac newHmac() {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(digestSecret, "HmacSHA256"));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+
+    /**
+     * Copy of the fields authentication reads, with its collections loaded,
+     * safe to share between request threads
+     */
+    private static ApiKey detachedCopy(ApiKey apiKey) {
+        return ApiKey.builder()
+            .id(apiKey.getId())
+            .name(apiKey.getName())
+            .keyPrefix(apiKey.getKeyPrefix())
+            .keyId(apiKey.getKeyId())
+            .userId(apiKey.getUserId())
+            .campusId(apiKey.getCampusId())
+            .scopes(apiKey.getScopes() != null ? Set.copyOf(apiKey.getScopes()) : Set.of())
+            .ipWhitelist(apiKey.getIpWhitelist() != null ? Set.copyOf(apiKey.getIpWhitelist()) : Set.of())
+            .rateLimit(apiKey.getRateLimit())
+            .active(apiKey.getActive())
+            .createdAt(apiKey.getCreatedAt())
+            .updatedAt(apiKey.getUpdatedAt())
+            .lastUsedAt(apiKey.getLastUsedAt())
+            .requestCount(apiKey.getRequestCount())
+            .expiresAt(apiKey.getExpiresAt())
+            .build();
+    }
+
     // ========================================================================
     // RESULT CLASSES
     // ========================================================================
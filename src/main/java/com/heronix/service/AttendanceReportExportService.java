@@ -4,14 +4,17 @@ import com.heronix.model.domain.AttendanceRecord;
 import com.heronix.model.domain.Student;
 import com.heronix.repository.AttendanceRepository;
 import com.heronix.repository.StudentRepository;
+import com.heronix.service.export.StreamingSpreadsheetWriter;
+import com.heronix.service.export.StreamingSpreadsheetWriter.JobStats;
+import com.heronix.service.export.StreamingSpreadsheetWriter.SheetWriter;
+import com.heronix.service.export.StreamingSpreadsheetWriter.Style;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -32,7 +35,9 @@ import java.util.stream.Collectors;
  * - Class/Section Attendance Report
  *
  * Export Formats:
- * - Excel (.xlsx) - Full formatting, charts, multiple sheets
+ * - Excel (.xlsx) - Written through StreamingSpreadsheetWriter, so only a
+ *   window of rows is in memory; the write* methods stream to any output
+ *   stream (file or response) and report the job's memory use
  * - PDF - Print-ready reports with headers/footers
  * - CSV - Raw data for external analysis
  * - JSON - API integration format
@@ -65,52 +70,42 @@ public class AttendanceReportExportService {
      * @return Excel file as byte array
      */
     public byte[] exportDailyAttendanceExcel(LocalDate date) throws IOException {
-        log.info("Generating daily attendance Excel report for {}", date);
-
-        List<AttendanceRecord> records = attendanceRepository.findByAttendanceDate(date);
-
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Daily Attendance - " + date.format(DATE_FORMATTER));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeDailyAttendanceExcel(date, outputStream);
+        return outputStream.toByteArray();
+    }
 
-            // Create header style
-            CellStyle headerStyle = createHeaderStyle(workbook);
-            CellStyle dataStyle = createDataStyle(workbook);
+    /**
+     * Write daily attendance report to Excel, streamed to a file or response
+     *
+     * @param date Report date
+     * @param out Destination; flushed but not closed
+     * @return Rows, size and memory used
+     */
+    public JobStats writeDailyAttendanceExcel(LocalDate date, OutputStream out) throws IOException {
+        log.info("Generating daily attendance Excel report for {}", date);
 
-            // Create header row
-            Row headerRow = sheet.createRow(0);
-            String[] headers = {"Student ID", "Student Name", "Grade", "Status", "Time", "Notes"};
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
-                cell.setCellStyle(headerStyle);
-            }
+        try (StreamingSpreadsheetWriter writer = new StreamingSpreadsheetWriter("Daily attendance " + date)) {
+            SheetWriter sheet = writer.sheet("Daily Attendance - " + date.format(DATE_FORMATTER));
+            List<AttendanceRecord> records = attendanceRepository.findByAttendanceDate(date);
 
-            // Populate data rows
-            int rowNum = 1;
+            sheet.header("Student ID", "Student Name", "Grade", "Status", "Time", "Notes");
             for (AttendanceRecord record : records) {
-                Row row = sheet.createRow(rowNum++);
                 Student student = record.getStudent();
-
-                createCell(row, 0, student.getId().toString(), dataStyle);
-                createCell(row, 1, student.getFullName(), dataStyle);
-                createCell(row, 2, student.getGradeLevel() != null ? student.getGradeLevel().toString() : "N/A", dataStyle);
-                createCell(row, 3, record.getStatus().name(), dataStyle);
-                createCell(row, 4, record.getCreatedAt() != null ? record.getCreatedAt().toString() : "", dataStyle);
-                createCell(row, 5, record.getNotes() != null ? record.getNotes() : "", dataStyle);
-            }
-
-            // Auto-size columns
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
+                sheet.row(Style.DATA,
+                    student.getId(),
+                    student.getFullName(),
+                    student.getGradeLevel() != null ? student.getGradeLevel() : "N/A",
+                    record.getStatus().name(),
+                    record.getCreatedAt() != null ? record.getCreatedAt().toString() : "",
+                    record.getNotes() != null ? record.getNotes() : "");
             }
 
             // Add summary section
-            addSummarySection(sheet, records, rowNum + 2);
+            sheet.blankRow().blankRow();
+            addSummarySection(sheet, records);
 
-            // Write to byte array
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            workbook.write(outputStream);
-            return outputStream.toByteArray();
+            return writer.writeTo(out);
         }
     }
 
@@ -122,30 +117,30 @@ public class AttendanceReportExportService {
      * @return Excel file as byte array
      */
     public byte[] exportStudentAttendanceSummary(LocalDate startDate, LocalDate endDate) throws IOException {
-        log.info("Generating student attendance summary Excel report from {} to {}", startDate, endDate);
-
-        List<Student> students = studentRepository.findAll();
-
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Attendance Summary");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeStudentAttendanceSummary(startDate, endDate, outputStream);
+        return outputStream.toByteArray();
+    }
 
-            // Create styles
-            CellStyle headerStyle = createHeaderStyle(workbook);
-            CellStyle dataStyle = createDataStyle(workbook);
-            CellStyle percentStyle = createPercentStyle(workbook);
+    /**
+     * Write student attendance summary to Excel, streamed to a file or response
+     *
+     * @param startDate Start date
+     * @param endDate End date
+     * @param out Destination; flushed but not closed
+     * @return Rows, size and memory used
+     */
+    public JobStats writeStudentAttendanceSummary(LocalDate startDate, LocalDate endDate,
+                                                  OutputStream out) throws IOException {
+        log.info("Generating student attendance summary Excel report from {} to {}", startDate, endDate);
 
-            // Create header row
-            Row headerRow = sheet.createRow(0);
-            String[] headers = {"Student ID", "Student Name", "Grade", "Total Days", "Present", "Absent", "Tardy", "Excused", "Attendance Rate"};
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
-                cell.setCellStyle(headerStyle);
-            }
+        try (StreamingSpreadsheetWriter writer = new StreamingSpreadsheetWriter(
+                "Attendance summary " + startDate + " to " + endDate)) {
+            SheetWriter sheet = writer.sheet("Attendance Summary");
+            sheet.header("Student ID", "Student Name", "Grade", "Total Days", "Present", "Absent", "Tardy",
+                "Excused", "Attendance Rate");
 
-            // Populate data rows
-            int rowNum = 1;
-            for (Student student : students) {
+            for (Student student : studentRepository.findAll()) {
                 List<AttendanceRecord> records = attendanceRepository
                     .findByStudentAndDateBetween(student, startDate, endDate);
 
@@ -153,41 +148,26 @@ public class AttendanceReportExportService {
                     continue; // Skip students with no attendance records
                 }
 
-                Row row = sheet.createRow(rowNum++);
-
                 Map<AttendanceRecord.AttendanceStatus, Long> statusCounts = records.stream()
                     .collect(Collectors.groupingBy(AttendanceRecord::getStatus, Collectors.counting()));
 
                 long presentCount = statusCounts.getOrDefault(AttendanceRecord.AttendanceStatus.PRESENT, 0L);
-                long absentCount = statusCounts.getOrDefault(AttendanceRecord.AttendanceStatus.ABSENT, 0L);
-                long tardyCount = statusCounts.getOrDefault(AttendanceRecord.AttendanceStatus.TARDY, 0L);
-                long excusedCount = statusCounts.getOrDefault(AttendanceRecord.AttendanceStatus.EXCUSED_ABSENT, 0L);
                 long totalDays = records.size();
                 double attendanceRate = totalDays > 0 ? (presentCount * 100.0 / totalDays) : 0.0;
 
-                createCell(row, 0, student.getId().toString(), dataStyle);
-                createCell(row, 1, student.getFullName(), dataStyle);
-                createCell(row, 2, student.getGradeLevel() != null ? student.getGradeLevel().toString() : "N/A", dataStyle);
-                createCell(row, 3, String.valueOf(totalDays), dataStyle);
-                createCell(row, 4, String.valueOf(presentCount), dataStyle);
-                createCell(row, 5, String.valueOf(absentCount), dataStyle);
-                createCell(row, 6, String.valueOf(tardyCount), dataStyle);
-                createCell(row, 7, String.valueOf(excusedCount), dataStyle);
-
-                Cell rateCell = row.createCell(8);
-                rateCell.setCellValue(attendanceRate / 100.0);
-                rateCell.setCellStyle(percentStyle);
+                sheet.row(Style.DATA,
+                    student.getId(),
+                    student.getFullName(),
+                    student.getGradeLevel() != null ? student.getGradeLevel() : "N/A",
+                    totalDays,
+                    presentCount,
+                    statusCounts.getOrDefault(AttendanceRecord.AttendanceStatus.ABSENT, 0L),
+                    statusCounts.getOrDefault(AttendanceRecord.AttendanceStatus.TARDY, 0L),
+                    statusCounts.getOrDefault(AttendanceRecord.AttendanceStatus.EXCUSED_ABSENT, 0L),
+                    StreamingSpreadsheetWriter.styled(attendanceRate / 100.0, Style.PERCENT));
             }
 
-            // Auto-size columns
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
-            }
-
-            // Write to byte array
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            workbook.write(outputStream);
-            return outputStream.toByteArray();
+            return writer.writeTo(out);
         }
     }
 
@@ -200,31 +180,30 @@ public class AttendanceReportExportService {
      * @return Excel file as byte array
      */
     public byte[] exportChronicAbsenteeismReport(LocalDate startDate, LocalDate endDate, double thresholdPercent) throws IOException {
-        log.info("Generating chronic absenteeism Excel report from {} to {}", startDate, endDate);
-
-        List<Student> students = studentRepository.findAll();
-
-        try (Workbook workbook = new XSSFWorkbook()) {
-            Sheet sheet = workbook.createSheet("Chronic Absenteeism");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeChronicAbsenteeismReport(startDate, endDate, thresholdPercent, outputStream);
+        return outputStream.toByteArray();
+    }
 
-            // Create styles
-            CellStyle headerStyle = createHeaderStyle(workbook);
-            CellStyle dataStyle = createDataStyle(workbook);
-            CellStyle warningStyle = createWarningStyle(workbook);
-            CellStyle percentStyle = createPercentStyle(workbook);
+    /**
+     * Write chronic absenteeism report to Excel, streamed to a file or response
+     *
+     * @param startDate Start date
+     * @param endDate End date
+     * @param thresholdPercent Chronic absenteeism threshold (default 10%)
+     * @param out Destination; flushed but not closed
+     * @return Rows, size and memory used
+     */
+    public JobStats writeChronicAbsenteeismReport(LocalDate startDate, LocalDate endDate, double thresholdPercent,
+                                                  OutputStream out) throws IOException {
+        log.info("Generating chronic absenteeism Excel report from {} to {}", startDate, endDate);
 
-            // Create header row
-            Row headerRow = sheet.createRow(0);
-            String[] headers = {"Student ID", "Student Name", "Grade", "Total Days", "Absent Days", "Absence Rate", "At Risk"};
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
-                cell.setCellStyle(headerStyle);
-            }
+        try (StreamingSpreadsheetWriter writer = new StreamingSpreadsheetWriter(
+                "Chronic absenteeism " + startDate + " to " + endDate)) {
+            SheetWriter sheet = writer.sheet("Chronic Absenteeism");
+            sheet.header("Student ID", "Student Name", "Grade", "Total Days", "Absent Days", "Absence Rate", "At Risk");
 
-            // Populate data rows
-            int rowNum = 1;
-            for (Student student : students) {
+            for (Student student : studentRepository.findAll()) {
                 List<AttendanceRecord> records = attendanceRepository
                     .findByStudentAndDateBetween(student, startDate, endDate);
 
@@ -243,125 +222,32 @@ public class AttendanceReportExportService {
                     continue;
                 }
 
-                Row row = sheet.createRow(rowNum++);
-                boolean isAtRisk = absenceRate >= thresholdPercent;
-
-                createCell(row, 0, student.getId().toString(), isAtRisk ? warningStyle : dataStyle);
-                createCell(row, 1, student.getFullName(), isAtRisk ? warningStyle : dataStyle);
-                createCell(row, 2, student.getGradeLevel() != null ? student.getGradeLevel().toString() : "N/A", isAtRisk ? warningStyle : dataStyle);
-                createCell(row, 3, String.valueOf(totalDays), isAtRisk ? warningStyle : dataStyle);
-                createCell(row, 4, String.valueOf(absentCount), isAtRisk ? warningStyle : dataStyle);
-
-                Cell rateCell = row.createCell(5);
-                rateCell.setCellValue(absenceRate / 100.0);
-                rateCell.setCellStyle(percentStyle);
-
-                createCell(row, 6, isAtRisk ? "YES" : "NO", isAtRisk ? warningStyle : dataStyle);
-            }
-
-            // Auto-size columns
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
+                sheet.row(Style.WARNING,
+                    student.getId(),
+                    student.getFullName(),
+                    student.getGradeLevel() != null ? student.getGradeLevel() : "N/A",
+                    totalDays,
+                    absentCount,
+                    StreamingSpreadsheetWriter.styled(absenceRate / 100.0, Style.PERCENT),
+                    "YES");
             }
 
-            // Write to byte array
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            workbook.write(outputStream);
-            return outputStream.toByteArray();
+            return writer.writeTo(out);
         }
     }
 
-    /**
-     * Create header cell style
-     */
-    private CellStyle createHeaderStyle(Workbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        Font font = workbook.createFont();
-        font.setBold(true);
-        font.setColor(IndexedColors.WHITE.getIndex());
-        style.setFont(font);
-        style.setFillForegroundColor(IndexedColors.DARK_BLUE.getIndex());
-        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        style.setBorderBottom(BorderStyle.THIN);
-        style.setBorderTop(BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
-        style.setAlignment(HorizontalAlignment.CENTER);
-        return style;
-    }
-
-    /**
-     * Create data cell style
-     */
-    private CellStyle createDataStyle(Workbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        style.setBorderBottom(BorderStyle.THIN);
-        style.setBorderTop(BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
-        return style;
-    }
-
-    /**
-     * Create warning cell style (for at-risk students)
-     */
-    private CellStyle createWarningStyle(Workbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        style.setFillForegroundColor(IndexedColors.LIGHT_ORANGE.getIndex());
-        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        style.setBorderBottom(BorderStyle.THIN);
-        style.setBorderTop(BorderStyle.THIN);
-        style.setBorderLeft(BorderStyle.THIN);
-        style.setBorderRight(BorderStyle.THIN);
-        return style;
-    }
-
-    /**
-     * Create percent cell style
-     */
-    private CellStyle createPercentStyle(Workbook workbook) {
-        CellStyle style = createDataStyle(workbook);
-        style.setDataFormat(workbook.createDataFormat().getFormat("0.00%"));
-        return style;
-    }
-
-    /**
-     * Create cell with value and style
-     */
-    private void createCell(Row row, int column, String value, CellStyle style) {
-        Cell cell = row.createCell(column);
-        cell.setCellValue(value);
-        cell.setCellStyle(style);
-    }
-
     /**
      * Add summary section to sheet
      */
-    private void addSummarySection(Sheet sheet, List<AttendanceRecord> records, int startRow) {
+    private void addSummarySection(SheetWriter sheet, List<AttendanceRecord> records) {
         Map<AttendanceRecord.AttendanceStatus, Long> statusCounts = records.stream()
             .collect(Collectors.groupingBy(AttendanceRecord::getStatus, Collectors.counting()));
 
-        Row summaryLabelRow = sheet.createRow(startRow);
-        summaryLabelRow.createCell(0).setCellValue("Summary:");
-
-        Row totalRow = sheet.createRow(startRow + 1);
-        totalRow.createCell(0).setCellValue("Total Records:");
-        totalRow.createCell(1).setCellValue(records.size());
-
-        Row presentRow = sheet.createRow(startRow + 2);
-        presentRow.createCell(0).setCellValue("Present:");
-        presentRow.createCell(1).setCellValue(statusCounts.getOrDefault(AttendanceRecord.AttendanceStatus.PRESENT, 0L));
-
-        Row absentRow = sheet.createRow(startRow + 3);
-        absentRow.createCell(0).setCellValue("Absent:");
-        absentRow.createCell(1).setCellValue(statusCounts.getOrDefault(AttendanceRecord.AttendanceStatus.ABSENT, 0L));
-
-        Row tardyRow = sheet.createRow(startRow + 4);
-        tardyRow.createCell(0).setCellValue("Tardy:");
-        tardyRow.createCell(1).setCellValue(statusCounts.getOrDefault(AttendanceRecord.AttendanceStatus.TARDY, 0L));
-
-        Row excusedRow = sheet.createRow(startRow + 5);
-        excusedRow.createCell(0).setCellValue("Excused:");
-        excusedRow.createCell(1).setCellValue(statusCounts.getOrDefault(AttendanceRecord.AttendanceStatus.EXCUSED_ABSENT, 0L));
+        sheet.row("Summary:");
+        sheet.row("Total Records:", records.size());
+        sheet.row("Present:", statusCounts.getOrDefault(AttendanceRecord.AttendanceStatus.PRESENT, 0L));
+        sheet.row("Absent:", statusCounts.getOrDefault(AttendanceRecord.AttendanceStatus.ABSENT, 0L));
+        sheet.row("Tardy:", statusCounts.getOrDefault(AttendanceRecord.AttendanceStatus.TARDY, 0L));
+        sheet.row("Excused:", statusCounts.getOrDefault(AttendanceRecord.AttendanceStatus.EXCUSED_ABSENT, 0L));
     }
 }
@@ -0,0 +1,695 @@
+package com.heronix.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.heronix.model.domain.AuditLog;
+import com.heronix.model.domain.AuditLog.AuditAction;
+import com.heronix.model.domain.AuditLog.AuditSeverity;
+import com.heronix.repository.AuditLogRepository;
+import com.heronix.util.MpscRingBuffer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Audit Log Pipeline
+ *
+ * Write-behind path from {@link AuditService} to the audit_logs table.
+ * Request threads hand finished AuditLog rows to a bounded lock-free ring
+ * buffer and return; one writer thread drains it and inserts the rows in
+ * JDBC batches through {@link BulkWriteService}, when a batch fills up or
+ * the flush interval passes, whichever comes first.
+ *
+ * Rows never go back onto the request thread as database work:
+ * - Buffer full (backpressure): the row is appended to the local spill file
+ *   on the caller's thread instead
+ * - Batch insert fails: the batch is appended to the spill file
+ * - Shutdown: the buffer is flushed, and spilled if the database is gone
+ * The spill file is replayed into the table once writes succeed again,
+ * including on the next start. Rows are only dropped (and counted) when the
+ * spill file is over its size limit or can't be written.
+ *
+ * The spill file holds one JSON row per line and is forced to disk on every
+ * append; a line torn by a crash is skipped on replay. Replay streams the
+ * file in batches of batch-size. A batch that fails is retried one row at a
+ * time: rows the database rejects (data or constraint errors) are moved to
+ * the quarantine file (audit-spill.jsonl.rejected) for inspection instead
+ * of holding up the rows behind them, while any other failure stops the
+ * replay until the database takes writes again.
+ *
+ * Every row carries the event ID it was given when created. Replay skips
+ * rows whose event ID is already stored (and the column is unique), so a
+ * batch that was committed but reported as failed, or a replay cut short by
+ * a crash, is not inserted twice.
+ *
+ * Crash loss window:
+ * - Durable actions (heronix.audit.durable-actions, by default failed logins
+ *   and rate limit violations) skip the buffer: they are appended to the
+ *   spill file on the caller's thread, so they are on disk before submit
+ *   returns, and inserted by the writer's next replay (about one flush
+ *   interval later). They take the buffer path only if the spill file is full
+ * - Everything else waits in memory until it is inserted. A crash (not an
+ *   orderly shutdown, which flushes) loses the rows submitted since the last
+ *   flush: normally one flush interval's worth plus those submitted during
+ *   one batch insert, and never more than the buffer capacity, since rows
+ *   beyond that go to the spill file
+ *
+ * Metrics: audit.pipeline.* (submitted, written, durable, overflowed,
+ * spilled, replayed, duplicates, quarantined, dropped, batch.failures,
+ * queue.size, spill.bytes).
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@Slf4j
+@Component
+public class AuditLogPipeline implements MeterBinder {
+
+    // Wait before retrying a spill replay that failed
+    private static final Duration REPLAY_BACKOFF = Duration.ofSeconds(30);
+
+    private final BulkWriteService bulkWriteService;
+    private final AuditLogRepository auditLogRepository;
+    private final Set<AuditAction> durableActions;
+    private final MpscRingBuffer<AuditLog> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Path spillFile;
+    private final Path replayFile;
+    private final Path quarantineFile;
+    private final long maxSpillBytes;
+    private final ObjectMapper objectMapper;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Object spillLock = new Object();
+    private final AtomicLong spillBytes = new AtomicLong();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder durable = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder replayed = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder quarantined = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder batchFailures = new LongAdder();
+
+    private volatile Thread writer;
+    private volatile boolean running;
+    // Rows are waiting in the spill or replay file
+    private volatile boolean spillPending;
+    private long nextReplayNanos;
+
+    /**
+     * One spilled row
+     */
+    record SpilledEntry(String eventId, LocalDateTime timestamp, String username, String ipAddress,
+                        AuditAction action, String entityType, Long entityId, String details, boolean success,
+                        AuditSeverity severity, String userAgent, String sessionId) {
+
+        static SpilledEntry of(AuditLog auditLog) {
+            return new SpilledEntry(auditLog.getEventId(), auditLog.getTimestamp(), auditLog.getUsername(),
+                    auditLog.getIpAddress(), auditLog.getAction(), auditLog.getEntityType(), auditLog.getEntityId(),
+                    auditLog.getDetails(), auditLog.isSuccess(), auditLog.getSeverity(), auditLog.getUserAgent(),
+                    auditLog.getSessionId());
+        }
+
+        AuditLog toAuditLog() {
+            AuditLog auditLog = AuditLog.builder()
+                    .username(username)
+                    .ipAddress(ipAddress)
+                    .action(action)
+                    .entityType(entityType)
+                    .entityId(entityId)
+                    .details(details)
+                    .success(success)
+                    .severity(severity)
+                    .userAgent(userAgent)
+                    .sessionId(sessionId)
+                    .build();
+            // Lines spilled before event IDs existed keep the freshly generated one
+            if (eventId != null) {
+                auditLog.setEventId(eventId);
+            }
+            auditLog.setTimestamp(timestamp);
+            return auditLog;
+        }
+    }
+
+    public AuditLogPipeline(
+            BulkWriteService bulkWriteService,
+            AuditLogRepository auditLogRepository,
+            @Value("${heronix.audit.durable-actions:LOGIN_FAILURE,RATE_LIMIT_EXCEEDED}") Set<AuditAction> durableActions,
+            @Value("${heronix.audit.buffer-capacity:8192}") int bufferCapacity,
+            @Value("${heronix.audit.batch-size:500}") int batchSize,
+            @Value("${heronix.audit.flush-interval:1s}") Duration flushInterval,
+            @Value("${heronix.audit.spill.file:${user.home}/Heronix/audit-spill.jsonl}") Path spillFile,
+            @Value("${heronix.audit.spill.max-bytes:67108864}") long maxSpillBytes) {
+        this.bulkWriteService = bulkWriteService;
+        this.auditLogRepository = auditLogRepository;
+        this.durableActions = durableActions.isEmpty()
+                ? EnumSet.noneOf(AuditAction.class) : EnumSet.copyOf(durableActions);
+        this.buffer = new MpscRingBuffer<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.spillFile = spillFile;
+        this.replayFile = spillFile.resolveSibling(spillFile.getFileName() + ".replay");
+        this.quarantineFile = spillFile.resolveSibling(spillFile.getFileName() + ".rejected");
+        this.maxSpillBytes = maxSpillBytes;
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        try {
+            Files.createDirectories(spillFile.toAbsolutePath().getParent());
+            if (Files.exists(spillFile)) {
+                spillBytes.set(Files.size(spillFile));
+            }
+            spillPending = Files.exists(spillFile) || Files.exists(replayFile);
+        } catch (IOException e) {
+            log.warn("Audit spill file {} is not usable: {}", spillFile, e.getMessage());
+        }
+    }
+
+    // ========================================================================
+    // PRODUCERS
+    // ========================================================================
+
+    /**
+     * Queue a row for writing; never blocks on the database. Durable actions
+     * are forced to the spill file before this returns
+     */
+    public void submit(AuditLog auditLog) {
+        submitted.increment();
+        if (durableActions.contains(auditLog.getAction())) {
+            if (append(List.of(auditLog))) {
+                durable.increment();
+                return;
+            }
+            log.warn("Spill file full, buffering durable audit event {} {}",
+                    auditLog.getAction(), auditLog.getEventId());
+        }
+
+        if (buffer.offer(auditLog)) {
+            Thread current = writer;
+            if (current != null && buffer.size() >= batchSize) {
+                LockSupport.unpark(current);
+            }
+            return;
+        }
+
+        overflowed.increment();
+        if (!spill(List.of(auditLog))) {
+            dropped.increment();
+            log.error("Audit log dropped, buffer and spill file full: {} {} by {}",
+                    auditLog.getAction(), auditLog.getEntityType(), auditLog.getUsername());
+        }
+    }
+
+    // ========================================================================
+    // WRITER
+    // ========================================================================
+
+    /**
+     * Start the writer once the schema is in place; rows submitted earlier
+     * wait in the buffer
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        Thread thread = new Thread(this::runWriter, "Heronix-AuditWriter");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+        log.info("Audit log pipeline started: buffer={}, batch={}, flush every {} ms, spill file {}",
+                buffer.capacity(), batchSize, TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos), spillFile);
+    }
+
+    private void runWriter() {
+        while (running) {
+            if (buffer.size() < batchSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log.error("Audit log writer failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Stop the writer and write out what is left, to the database if it's
+     * still reachable and to the spill file otherwise
+     */
+    @PreDestroy
+    public void stop() {
+        Thread thread;
+        synchronized (this) {
+            running = false;
+            thread = writer;
+            writer = null;
+        }
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+        log.info("Audit log pipeline stopped: {} written, {} spilled, {} dropped",
+                written.sum(), spilled.sum(), dropped.sum());
+    }
+
+    /**
+     * Write everything in the buffer in batches, then replay the spill file
+     * if the database is taking writes
+     */
+    public void flush() {
+        writeLock.lock();
+        try {
+            boolean healthy = true;
+            List<AuditLog> batch = new ArrayList<>(batchSize);
+            while (buffer.drainTo(batch::add, batchSize) > 0) {
+                healthy &= write(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+            if (healthy) {
+                replaySpill();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private boolean write(List<AuditLog> batch) {
+        try {
+            bulkWriteService.insertAll(batch);
+            written.add(batch.size());
+            return true;
+        } catch (RuntimeException e) {
+            batchFailures.increment();
+            log.warn("Audit batch of {} could not be written, spilling to {}: {}",
+                    batch.size(), spillFile, e.getMessage());
+            if (!spill(batch)) {
+                dropped.add(batch.size());
+                log.error("Audit batch of {} dropped, spill file full or unwritable", batch.size());
+            }
+            return false;
+        }
+    }
+
+    // ========================================================================
+    // SPILL FILE
+    // ========================================================================
+
+    /**
+     * Append rows that could not be buffered or inserted to the spill file
+     *
+     * @return false if they don't fit or couldn't be written
+     */
+    private boolean spill(List<AuditLog> auditLogs) {
+        if (!append(auditLogs)) {
+            return false;
+        }
+        spilled.add(auditLogs.size());
+        return true;
+    }
+
+    /**
+     * Append rows to the spill file and force them to disk
+     *
+     * @return false if they don't fit or couldn't be written
+     */
+    private boolean append(List<AuditLog> auditLogs) {
+        StringBuilder lines = new StringBuilder();
+        try {
+            for (AuditLog auditLog : auditLogs) {
+                lines.append(toLine(auditLog)).append('\n');
+            }
+        } catch (IOException e) {
+            log.warn("Audit rows could not be serialized for spilling: {}", e.getMessage());
+            return false;
+        }
+        byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+
+        synchronized (spillLock) {
+            if (spillBytes.get() + bytes.length > maxSpillBytes) {
+                return false;
+            }
+            try (FileChannel channel = FileChannel.open(spillFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer data = ByteBuffer.wrap(bytes);
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                log.warn("Audit spill file {} could not be written: {}", spillFile, e.getMessage());
+                return false;
+            }
+            spillBytes.addAndGet(bytes.length);
+            spillPending = true;
+        }
+        return true;
+    }
+
+    /**
+     * Insert the spilled rows in batches, skipping rows whose event ID is
+     * already stored. The spill file is first moved aside, so new spills go
+     * to a fresh file meanwhile; if the database stops taking writes, the
+     * rows not yet inserted are written back for the next attempt.
+     */
+    private void replaySpill() {
+        if (!spillPending || System.nanoTime() - nextReplayNanos < 0) {
+            return;
+        }
+        synchronized (spillLock) {
+            spillPending = false;
+            if (!Files.exists(replayFile)) {
+                if (!Files.exists(spillFile)) {
+                    return;
+                }
+                try {
+                    Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+                    spillBytes.set(0);
+                } catch (IOException e) {
+                    retryReplayLater();
+                    log.warn("Audit spill file {} could not be moved for replay: {}", spillFile, e.getMessage());
+                    return;
+                }
+            }
+        }
+
+        Path kept = replayFile.resolveSibling(replayFile.getFileName() + ".tmp");
+        int inserted = 0;
+        boolean stopped = false;
+        try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            List<AuditLog> batch;
+            while ((batch = readBatch(reader)) != null) {
+                List<AuditLog> unwritten;
+                try {
+                    unwritten = replayBatch(batch);
+                } catch (RuntimeException e) {
+                    log.warn("Audit spill replay could not check stored rows: {}", e.getMessage());
+                    unwritten = batch;
+                }
+                if (!unwritten.isEmpty()) {
+                    stopped = true;
+                    keepForReplay(unwritten, reader, kept);
+                    break;
+                }
+                inserted += batch.size();
+            }
+        } catch (IOException e) {
+            retryReplayLater();
+            log.warn("Audit spill file {} could not be read: {}", replayFile, e.getMessage());
+            return;
+        }
+
+        if (stopped) {
+            retryReplayLater();
+            try {
+                Files.move(kept, replayFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                log.warn("Audit spill file {} could not be rewritten, inserted rows will be skipped on the next replay: {}",
+                        replayFile, e.getMessage());
+            }
+            log.warn("Audit spill replay stopped after {} rows", inserted);
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(replayFile);
+        } catch (IOException e) {
+            log.warn("Audit spill file {} could not be deleted: {}", replayFile, e.getMessage());
+        }
+        log.debug("Replayed {} spilled audit rows", inserted);
+
+        // Rows spilled while an earlier replay file was pending go next
+        synchronized (spillLock) {
+            if (Files.exists(spillFile)) {
+                spillPending = true;
+            }
+        }
+    }
+
+    private void retryReplayLater() {
+        spillPending = true;
+        nextReplayNanos = System.nanoTime() + REPLAY_BACKOFF.toNanos();
+    }
+
+    /**
+     * Read up to a batch of rows from the replay file
+     *
+     * @return The rows, or null at the end of the file
+     */
+    private List<AuditLog> readBatch(BufferedReader reader) throws IOException {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        int lines = 0;
+        String line;
+        while (lines < batchSize && (line = reader.readLine()) != null) {
+            lines++;
+            try {
+                batch.add(objectMapper.readValue(line, SpilledEntry.class).toAuditLog());
+            } catch (IOException e) {
+                // Torn write from a crash
+                dropped.increment();
+                log.warn("Skipping unreadable audit spill line: {}", e.getMessage());
+            }
+        }
+        return lines > 0 ? batch : null;
+    }
+
+    /**
+     * Insert one batch of spilled rows. If the batch fails, insert its rows
+     * one at a time and quarantine the ones the database rejects, so one bad
+     * row doesn't hold up the spill behind it
+     *
+     * @return The rows not written because the database failed; empty when
+     *         every row was inserted, already stored or quarantined
+     */
+    private List<AuditLog> replayBatch(List<AuditLog> batch) {
+        List<AuditLog> fresh = withoutStored(batch);
+        if (fresh.isEmpty()) {
+            return List.of();
+        }
+        try {
+            bulkWriteService.insertAll(fresh);
+            replayed.add(fresh.size());
+            written.add(fresh.size());
+            return List.of();
+        } catch (RuntimeException e) {
+            batchFailures.increment();
+            log.warn("Replaying {} spilled audit rows in one batch failed ({}), inserting them one at a time",
+                    fresh.size(), e.getMessage());
+        }
+
+        for (int i = 0; i < fresh.size(); i++) {
+            AuditLog auditLog = fresh.get(i);
+            // ID handed out by the rolled back batch
+            auditLog.setId(null);
+            try {
+                bulkWriteService.insertAll(List.of(auditLog));
+                replayed.increment();
+                written.increment();
+            } catch (RuntimeException e) {
+                if (!isRejectedRow(e)) {
+                    log.warn("Audit spill replay failed: {}", e.getMessage());
+                    return fresh.subList(i, fresh.size());
+                }
+                quarantine(auditLog, e);
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * Whether the database refused the row itself (SQLSTATE class 22, data
+     * exception, or 23, integrity constraint violation) rather than failing
+     */
+    private static boolean isRejectedRow(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataIntegrityViolationException) {
+                return true;
+            }
+            if (cause instanceof SQLException sql && sql.getSQLState() != null
+                    && (sql.getSQLState().startsWith("22") || sql.getSQLState().startsWith("23"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Move a row the database rejects to the quarantine file
+     */
+    private void quarantine(AuditLog auditLog, RuntimeException failure) {
+        try {
+            Files.writeString(quarantineFile, toLine(auditLog) + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND,
+                    StandardOpenOption.SYNC);
+            quarantined.increment();
+            log.error("Audit row {} rejected by the database, moved to {}: {}",
+                    auditLog.getEventId(), quarantineFile, failure.getMessage());
+        } catch (IOException e) {
+            dropped.increment();
+            log.error("Audit row {} rejected by the database and could not be quarantined: {}",
+                    auditLog.getEventId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Drop rows already in the table (and repeats within the batch)
+     */
+    private List<AuditLog> withoutStored(List<AuditLog> batch) {
+        if (batch.isEmpty()) {
+            return batch;
+        }
+        Set<String> eventIds = new HashSet<>();
+        for (AuditLog auditLog : batch) {
+            eventIds.add(auditLog.getEventId());
+        }
+        Set<String> seen = new HashSet<>(auditLogRepository.findStoredEventIds(eventIds));
+        List<AuditLog> fresh = new ArrayList<>(batch.size());
+        for (AuditLog auditLog : batch) {
+            if (seen.add(auditLog.getEventId())) {
+                fresh.add(auditLog);
+            } else {
+                duplicates.increment();
+            }
+        }
+        return fresh;
+    }
+
+    /**
+     * Write the rows not yet inserted, then the rest of the replay file, to
+     * {@code kept}; moved over the replay file once the reader is closed
+     */
+    private void keepForReplay(List<AuditLog> unwritten, BufferedReader rest, Path kept) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(kept, StandardCharsets.UTF_8)) {
+            for (AuditLog auditLog : unwritten) {
+                writer.write(toLine(auditLog));
+                writer.newLine();
+            }
+            String line;
+            while ((line = rest.readLine()) != null) {
+                writer.write(line);
+                writer.newLine();
+            }
+        }
+    }
+
+    private String toLine(AuditLog auditLog) throws IOException {
+        return objectMapper.writeValueAsString(SpilledEntry.of(auditLog));
+    }
+
+    // ========================================================================
+    // METRICS
+    // ========================================================================
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "audit.pipeline.submitted", "Audit rows submitted", p -> p.submitted.sum());
+        counter(registry, "audit.pipeline.written", "Audit rows inserted", p -> p.written.sum());
+        counter(registry, "audit.pipeline.durable", "Durable audit rows forced to the spill file on submit",
+                p -> p.durable.sum());
+        counter(registry, "audit.pipeline.overflowed", "Audit rows spilled because the buffer was full",
+                p -> p.overflowed.sum());
+        counter(registry, "audit.pipeline.spilled", "Audit rows written to the spill file", p -> p.spilled.sum());
+        counter(registry, "audit.pipeline.replayed", "Spilled audit rows inserted", p -> p.replayed.sum());
+        counter(registry, "audit.pipeline.duplicates", "Spilled audit rows skipped as already stored",
+                p -> p.duplicates.sum());
+        counter(registry, "audit.pipeline.quarantined", "Spilled audit rows the database rejected",
+                p -> p.quarantined.sum());
+        counter(registry, "audit.pipeline.dropped", "Audit rows lost", p -> p.dropped.sum());
+        counter(registry, "audit.pipeline.batch.failures", "Audit batch inserts that failed",
+                p -> p.batchFailures.sum());
+        Gauge.builder("audit.pipeline.queue.size", buffer, MpscRingBuffer::size)
+                .description("Audit rows waiting in the buffer")
+                .register(registry);
+        Gauge.builder("audit.pipeline.spill.bytes", spillBytes, AtomicLong::get)
+                .description("Bytes in the audit spill file")
+                .register(registry);
+    }
+
+    private void counter(MeterRegistry registry, String meter, String description,
+                         ToDoubleFunction<AuditLogPipeline> count) {
+        FunctionCounter.builder(meter, this, count)
+                .description(description)
+                .register(registry);
+    }
+
+    // ========================================================================
+    // STATISTICS
+    // ========================================================================
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getSpilledCount() {
+        return spilled.sum();
+    }
+
+    public long getDurableCount() {
+        return durable.sum();
+    }
+
+    public long getDuplicateCount() {
+        return duplicates.sum();
+    }
+
+    public long getQuarantinedCount() {
+        return quarantined.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public int getQueueSize() {
+        return buffer.size();
+    }
+}
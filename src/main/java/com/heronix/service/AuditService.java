@@ -8,12 +8,9 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -53,7 +50,10 @@ import java.util.List;
  *
  * ASYNCHRONOUS LOGGING:
  * All audit log writes are asynchronous to avoid impacting application performance.
- * Uses @Async with separate thread pool to ensure non-blocking operation.
+ * The row, with the user and request details, is built on the calling thread and
+ * handed to {@link AuditLogPipeline}, which inserts rows in batches on its own
+ * writer thread (write-behind) and spills them to a local file if the database
+ * can't keep up.
  *
  * @author Heronix Development Team
  * @version 1.0.0
@@ -65,10 +65,12 @@ public class AuditService {
     private static final Logger logger = LoggerFactory.getLogger(AuditService.class);
 
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogPipeline auditLogPipeline;
 
     @Autowired
-    public AuditService(AuditLogRepository auditLogRepository) {
+    public AuditService(AuditLogRepository auditLogRepository, AuditLogPipeline auditLogPipeline) {
         this.auditLogRepository = auditLogRepository;
+        this.auditLogPipeline = auditLogPipeline;
     }
 
     // ============================================================
@@ -78,6 +80,7 @@ public class AuditService {
     /**
      * Log an audit event with full details.
      * This is the main method that all other audit methods delegate to.
+     * Returns once the row is queued; the insert happens on the pipeline's writer thread.
      *
      * @param action the action being audited
      * @param entityType type of entity (Student, Grade, User, etc.)
@@ -86,8 +89,6 @@ public class AuditService {
      * @param success whether the action succeeded
      * @param severity severity level of the event
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void log(AuditAction action, String entityType, Long entityId,
                    String details, boolean success, AuditSeverity severity) {
         try {
@@ -109,7 +110,7 @@ public class AuditService {
                 .sessionId(sessionId)
                 .build();
 
-            auditLogRepository.save(auditLog);
+            auditLogPipeline.submit(auditLog);
 
             // Also log to application log for immediate visibility
             if (severity == AuditSeverity.CRITICAL || severity == AuditSeverity.ERROR) {
@@ -128,8 +129,6 @@ public class AuditService {
     /**
      * Simplified audit log for successful actions without details.
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void log(AuditAction action, String entityType, Long entityId) {
         log(action, entityType, entityId, null, true, AuditSeverity.INFO);
     }
@@ -137,8 +136,6 @@ public class AuditService {
     /**
      * Audit log for actions without a specific entity.
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void log(AuditAction action, String details, boolean success, AuditSeverity severity) {
         log(action, null, null, details, success, severity);
     }
@@ -146,8 +143,6 @@ public class AuditService {
     /**
      * Simplified audit log for successful system events.
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void log(AuditAction action) {
         log(action, null, null, null, true, AuditSeverity.INFO);
     }
@@ -42,6 +42,31 @@ public interface ConflictDetectorService {
      */
     boolean hasConflicts(Schedule schedule);
 
+    // ========================================================================
+    // CONFLICT INDEX
+    // ========================================================================
+
+    /**
+     * Load a schedule into an in-memory conflict index and keep it open.
+     * While open, all detection for the schedule runs without database access.
+     * Re-opening an open index reloads it.
+     * @param schedule The schedule being edited
+     */
+    void openConflictIndex(Schedule schedule);
+
+    /**
+     * Re-bucket a slot in its schedule's open index after its teacher, room,
+     * day or time changed. Does nothing if no index is open for the schedule.
+     * @param slot The slot that changed
+     */
+    void updateConflictIndex(ScheduleSlot slot);
+
+    /**
+     * Release a schedule's open conflict index
+     * @param schedule The schedule no longer being edited
+     */
+    void closeConflictIndex(Schedule schedule);
+
     // ========================================================================
     // TIME-BASED DETECTION
     // ========================================================================
@@ -1,16 +1,19 @@
 package com.heronix.service;
 
-import com.heronix.model.domain.Course;
-import com.heronix.model.domain.Room;
 import com.heronix.model.domain.Teacher;
 import com.heronix.model.dto.DashboardMetrics;
-import com.heronix.model.enums.RoomType;
 import com.heronix.repository.CourseRepository;
 import com.heronix.repository.TeacherRepository;
+import com.heronix.repository.spec.CourseSpecifications;
+import com.heronix.repository.spec.TeacherSpecifications;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,15 +30,25 @@ import java.util.stream.Collectors;
  * NOTE: Metrics are cached for 5 minutes to improve dashboard performance.
  * Cache is automatically invalidated when courses or teachers are modified.
  *
- * @version 1.1.0
+ * All counts are computed by the database from the predicates in
+ * CourseSpecifications and TeacherSpecifications.
+ *
+ * @version 1.2.0
  * @since 2025-11-19
  * @updated 2025-12-10 - Added caching for performance
+ * @updated 2026-10-16 - Counts pushed down to the database
  */
 @Slf4j
 @Service
 @Transactional(readOnly = true)
 public class DashboardMetricsService {
 
+    // Teacher.isOverloaded()
+    private static final int OVERLOADED_COURSE_COUNT = 6;
+
+    // Teachers named in an issue message
+    private static final Pageable NAMED_TEACHERS = PageRequest.of(0, 2, Sort.by("name"));
+
     @Autowired
     private CourseRepository courseRepository;
 
@@ -79,21 +92,11 @@ public class DashboardMetricsService {
      * Calculate course assignment status metrics
      */
     private void calculateCourseAssignmentMetrics(DashboardMetrics metrics) {
-        List<Course> allCourses = courseRepository.findAll();
-        long totalCourses = allCourses.size();
-
-        // Count courses by assignment status
-        long fullyAssigned = allCourses.stream()
-            .filter(Course::isFullyAssigned)
-            .count();
-
-        long partiallyAssigned = allCourses.stream()
-            .filter(Course::isPartiallyAssigned)
-            .count();
-
-        long unassigned = allCourses.stream()
-            .filter(Course::isUnassigned)
-            .count();
+        // Counted in the database; no course is loaded
+        long totalCourses = courseRepository.count();
+        long fullyAssigned = courseRepository.count(CourseSpecifications.fullyAssigned());
+        long unassigned = courseRepository.count(CourseSpecifications.unassigned());
+        long partiallyAssigned = totalCourses - fullyAssigned - unassigned;
 
         // Set counts
         metrics.setTotalCourses(totalCourses);
@@ -120,68 +123,57 @@ public class DashboardMetricsService {
 
     /**
      * Calculate issue metrics for "Attention Required" section
+     *
+     * Every issue is counted in the database; only the (at most two)
+     * teachers named in each message are loaded.
      */
     private void calculateIssueMetrics(DashboardMetrics metrics) {
-        // Get all teachers with courses loaded
-        List<Teacher> allTeachers = teacherRepository.findAllWithCourses();
-        List<Course> allCourses = courseRepository.findAll();
-
         // 1. Overloaded teachers (6+ courses)
-        List<Teacher> overloadedTeachers = allTeachers.stream()
-            .filter(Teacher::isOverloaded)
-            .collect(Collectors.toList());
+        Page<Teacher> overloadedTeachers = teacherRepository.findAll(
+            TeacherSpecifications.courseCountAtLeast(OVERLOADED_COURSE_COUNT), NAMED_TEACHERS);
+        long overloadedCount = overloadedTeachers.getTotalElements();
 
-        metrics.setOverloadedTeachersCount(overloadedTeachers.size());
-        if (overloadedTeachers.isEmpty()) {
+        metrics.setOverloadedTeachersCount(overloadedCount);
+        if (overloadedCount == 0) {
             metrics.setOverloadedTeachersMessage("✓ No teachers overloaded");
         } else {
             String teacherNames = overloadedTeachers.stream()
-                .limit(2)
                 .map(t -> t.getName() + " (" + t.getCourseCount() + " courses)")
                 .collect(Collectors.joining(", "));
 
-            if (overloadedTeachers.size() > 2) {
+            if (overloadedCount > 2) {
                 metrics.setOverloadedTeachersMessage(String.format("• %d teachers overloaded: %s, and %d more",
-                    overloadedTeachers.size(), teacherNames, overloadedTeachers.size() - 2));
+                    overloadedCount, teacherNames, overloadedCount - 2));
             } else {
                 metrics.setOverloadedTeachersMessage(String.format("• %d teacher(s) overloaded: %s",
-                    overloadedTeachers.size(), teacherNames));
+                    overloadedCount, teacherNames));
             }
         }
 
         // 2. Underutilized teachers (0 courses)
-        List<Teacher> underutilizedTeachers = allTeachers.stream()
-            .filter(Teacher::isUnderutilized)
-            .collect(Collectors.toList());
+        Page<Teacher> underutilizedTeachers = teacherRepository.findAll(
+            TeacherSpecifications.withoutCourses(), NAMED_TEACHERS);
+        long underutilizedCount = underutilizedTeachers.getTotalElements();
 
-        metrics.setUnderutilizedTeachersCount(underutilizedTeachers.size());
-        if (underutilizedTeachers.isEmpty()) {
+        metrics.setUnderutilizedTeachersCount(underutilizedCount);
+        if (underutilizedCount == 0) {
             metrics.setUnderutilizedTeachersMessage("✓ All teachers have course assignments");
         } else {
             String teacherNames = underutilizedTeachers.stream()
-                .limit(2)
                 .map(Teacher::getName)
                 .collect(Collectors.joining(", "));
 
-            if (underutilizedTeachers.size() > 2) {
+            if (underutilizedCount > 2) {
                 metrics.setUnderutilizedTeachersMessage(String.format("• %d teachers unassigned: %s, and %d more",
-                    underutilizedTeachers.size(), teacherNames, underutilizedTeachers.size() - 2));
+                    underutilizedCount, teacherNames, underutilizedCount - 2));
             } else {
                 metrics.setUnderutilizedTeachersMessage(String.format("• %d teacher(s) available: %s",
-                    underutilizedTeachers.size(), teacherNames));
+                    underutilizedCount, teacherNames));
             }
         }
 
         // 3. Certification mismatches (courses taught by non-certified teachers)
-        long certificationMismatches = allCourses.stream()
-            .filter(c -> c.getTeacher() != null)
-            .filter(c -> c.getSubject() != null)
-            .filter(c -> {
-                Teacher teacher = c.getTeacher();
-                List<String> certifications = teacher.getCertifiedSubjects();
-                return certifications != null && !certifications.contains(c.getSubject());
-            })
-            .count();
+        long certificationMismatches = courseRepository.count(CourseSpecifications.certificationMismatch());
 
         metrics.setCertificationMismatchCount(certificationMismatches);
         if (certificationMismatches == 0) {
@@ -192,11 +184,7 @@ public class DashboardMetricsService {
         }
 
         // 4. Lab room issues (lab courses without lab rooms)
-        long labRoomIssues = allCourses.stream()
-            .filter(c -> c.getRoom() != null)
-            .filter(c -> requiresLab(c))
-            .filter(c -> !isLabRoom(c.getRoom()))
-            .count();
+        long labRoomIssues = courseRepository.count(CourseSpecifications.labCourseOutsideLab());
 
         metrics.setLabRoomIssuesCount(labRoomIssues);
         if (labRoomIssues == 0) {
@@ -206,10 +194,7 @@ public class DashboardMetricsService {
         }
 
         // 5. Capacity issues (rooms too small for enrollment)
-        long capacityIssues = allCourses.stream()
-            .filter(c -> c.getRoom() != null)
-            .filter(c -> c.getMaxStudents() > c.getRoom().getCapacity())
-            .count();
+        long capacityIssues = courseRepository.count(CourseSpecifications.exceedsRoomCapacity());
 
         metrics.setCapacityIssuesCount(capacityIssues);
         if (capacityIssues == 0) {
@@ -219,48 +204,17 @@ public class DashboardMetricsService {
         }
 
         log.debug("Issue metrics: {} overloaded, {} underutilized, {} cert mismatches, {} lab issues, {} capacity issues",
-            overloadedTeachers.size(), underutilizedTeachers.size(),
+            overloadedCount, underutilizedCount,
             certificationMismatches, labRoomIssues, capacityIssues);
     }
 
-    /**
-     * Check if a course requires a lab
-     */
-    private boolean requiresLab(Course course) {
-        if (course.getSubject() == null) {
-            return false;
-        }
-
-        String subject = course.getSubject().toLowerCase();
-        return subject.contains("science") ||
-               subject.contains("chemistry") ||
-               subject.contains("biology") ||
-               subject.contains("physics") ||
-               subject.contains("lab");
-    }
-
-    /**
-     * Check if a room is a lab room
-     */
-    private boolean isLabRoom(Room room) {
-        if (room.getRoomType() == null) {
-            return false;
-        }
-
-        return room.getRoomType() == RoomType.LAB ||
-               room.getRoomType() == RoomType.SCIENCE_LAB ||
-               room.getRoomType() == RoomType.COMPUTER_LAB;
-    }
-
     /**
      * Get the count of fully assigned courses
      *
      * @return count of courses with both teacher and room assigned
      */
     public long countFullyAssignedCourses() {
-        return courseRepository.findAll().stream()
-            .filter(Course::isFullyAssigned)
-            .count();
+        return courseRepository.count(CourseSpecifications.fullyAssigned());
     }
 
     /**
@@ -269,9 +223,7 @@ public class DashboardMetricsService {
      * @return count of courses with only teacher OR room assigned
      */
     public long countPartiallyAssignedCourses() {
-        return courseRepository.findAll().stream()
-            .filter(Course::isPartiallyAssigned)
-            .count();
+        return courseRepository.count(CourseSpecifications.partiallyAssigned());
     }
 
     /**
@@ -280,9 +232,7 @@ public class DashboardMetricsService {
      * @return count of courses with neither teacher nor room assigned
      */
     public long countUnassignedCourses() {
-        return courseRepository.findAll().stream()
-            .filter(Course::isUnassigned)
-            .count();
+        return courseRepository.count(CourseSpecifications.unassigned());
     }
 
     /**
@@ -291,9 +241,7 @@ public class DashboardMetricsService {
      * @return list of overloaded teachers
      */
     public List<Teacher> getOverloadedTeachers() {
-        return teacherRepository.findAllWithCourses().stream()
-            .filter(Teacher::isOverloaded)
-            .collect(Collectors.toList());
+        return teacherRepository.findAll(TeacherSpecifications.courseCountAtLeast(OVERLOADED_COURSE_COUNT));
     }
 
     /**
@@ -302,9 +250,7 @@ public class DashboardMetricsService {
      * @return list of underutilized teachers
      */
     public List<Teacher> getUnderutilizedTeachers() {
-        return teacherRepository.findAllWithCourses().stream()
-            .filter(Teacher::isUnderutilized)
-            .collect(Collectors.toList());
+        return teacherRepository.findAll(TeacherSpecifications.withoutCourses());
     }
 
     /**
@@ -1,6 +1,11 @@
 package com.heronix.service;
 
-import com.heronix.dto.CacheConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.heronix.dto.CacheStatistics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -8,9 +13,9 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 /**
  * Enhanced Cache Service
@@ -18,12 +23,12 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * Advanced caching service with performance optimization features.
  *
  * Features:
- * - Multi-level caching (memory, disk)
- * - LRU/LFU/TTL eviction policies
- * - Cache statistics and monitoring
+ * - W-TinyLFU eviction (Caffeine): O(1) per operation, no scan for a victim
+ * - Per-entry weights (estimated bytes, computed once per put) bounding total memory
+ * - Per-entry TTL, enforced on read; expired entries are never returned
+ * - Lock-free statistics
+ * - Single-flight loading: concurrent misses for one key run the supplier once
  * - Pattern-based invalidation
- * - Thread-safe operations
- * - Automatic cleanup
  *
  * @author Heronix Development Team
  * @version 1.0
@@ -36,50 +41,62 @@ public class EnhancedCacheService {
     /**
      * Cache entry wrapper
      */
-    private static class CacheEntry<T> {
-        final T value;
-        final LocalDateTime createdAt;
-        final LocalDateTime expiresAt;
-        LocalDateTime lastAccessedAt;
-        long accessCount;
-        long sizeBytes;
-
-        CacheEntry(T value, Long ttlSeconds, long sizeBytes) {
-            this.value = value;
-            this.createdAt = LocalDateTime.now();
-            this.lastAccessedAt = LocalDateTime.now();
-            this.expiresAt = ttlSeconds != null ?
-                    LocalDateTime.now().plusSeconds(ttlSeconds) : null;
-            this.accessCount = 0;
-            this.sizeBytes = sizeBytes;
-        }
-
-        boolean isExpired() {
-            return expiresAt != null && LocalDateTime.now().isAfter(expiresAt);
-        }
-
-        void markAccessed() {
-            this.lastAccessedAt = LocalDateTime.now();
-            this.accessCount++;
-        }
+    private record CacheEntry(Object value, long ttlNanos, int weight) {
     }
 
+    // Configuration
+    private static final long DEFAULT_TTL_SECONDS = 3600; // 1 hour
+    private static final long DEFAULT_MAX_MEMORY_BYTES = 64L * 1024 * 1024;
+
     // Cache storage
-    private final Map<String, CacheEntry<?>> cache = new ConcurrentHashMap<>();
-    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Cache<String, CacheEntry> cache;
+    private final long maxMemoryBytes;
 
-    // Statistics
-    private long hitCount = 0;
-    private long missCount = 0;
-    private long evictionCount = 0;
-    private long loadCount = 0;
-    private long totalLoadTimeMs = 0;
+    // Statistics (hits, misses, loads and load time are recorded by the cache)
+    private final LongAdder evictionBySizeCount = new LongAdder();
+    private final LongAdder evictionByTtlCount = new LongAdder();
+    private final LongAdder evictionByInvalidationCount = new LongAdder();
     private final LocalDateTime statsStartTime = LocalDateTime.now();
 
-    // Configuration
-    private static final int DEFAULT_MAX_SIZE = 1000;
-    private static final long DEFAULT_TTL_SECONDS = 3600; // 1 hour
-    private int maxSize = DEFAULT_MAX_SIZE;
+    public EnhancedCacheService() {
+        this(DEFAULT_MAX_MEMORY_BYTES, Ticker.systemTicker());
+    }
+
+    EnhancedCacheService(long maxMemoryBytes, Ticker ticker) {
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxMemoryBytes)
+                .weigher((String key, CacheEntry entry) -> entry.weight())
+                .expireAfter(new Expiry<String, CacheEntry>() {
+                    @Override
+                    public long expireAfterCreate(String key, CacheEntry entry, long currentTime) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CacheEntry entry, long currentTime,
+                                                  long currentDuration) {
+                        return entry.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CacheEntry entry, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .evictionListener((String key, CacheEntry entry, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        evictionBySizeCount.increment();
+                    } else if (cause == RemovalCause.EXPIRED) {
+                        evictionByTtlCount.increment();
+                    }
+                })
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
 
     /**
      * Put value in cache
@@ -90,22 +107,13 @@ public class EnhancedCacheService {
 
     /**
      * Put value in cache with TTL
+     *
+     * @param ttlSeconds time to live, or null to keep the entry until it is evicted
      */
     public <T> void put(String key, T value, Long ttlSeconds) {
-        lock.writeLock().lock();
-        try {
-            // Check size limit and evict if necessary
-            if (cache.size() >= maxSize) {
-                evictLRU();
-            }
-
-            long sizeBytes = estimateSize(value);
-            cache.put(key, new CacheEntry<>(value, ttlSeconds, sizeBytes));
-            log.debug("Cached: {} (TTL: {}s, Size: {} bytes)", key, ttlSeconds, sizeBytes);
-
-        } finally {
-            lock.writeLock().unlock();
-        }
+        CacheEntry entry = newEntry(value, ttlSeconds);
+        cache.put(key, entry);
+        log.debug("Cached: {} (TTL: {}s, Size: {} bytes)", key, ttlSeconds, entry.weight());
     }
 
     /**
@@ -113,69 +121,29 @@ public class EnhancedCacheService {
      */
     @SuppressWarnings("unchecked")
     public <T> Optional<T> get(String key) {
-        lock.readLock().lock();
-        try {
-            CacheEntry<?> entry = cache.get(key);
-
-            if (entry == null) {
-                missCount++;
-                return Optional.empty();
-            }
-
-            if (entry.isExpired()) {
-                lock.readLock().unlock();
-                lock.writeLock().lock();
-                try {
-                    cache.remove(key);
-                    evictionCount++;
-                    missCount++;
-                    return Optional.empty();
-                } finally {
-                    lock.readLock().lock();
-                    lock.writeLock().unlock();
-                }
-            }
-
-            entry.markAccessed();
-            hitCount++;
-            return Optional.of((T) entry.value);
-
-        } finally {
-            lock.readLock().unlock();
-        }
+        CacheEntry entry = cache.getIfPresent(key);
+        return entry != null ? Optional.ofNullable((T) entry.value()) : Optional.empty();
     }
 
     /**
      * Get or compute value
+     *
+     * Concurrent callers missing the same key wait for one supplier call and
+     * share its result. If the supplier throws, nothing is cached and every
+     * waiting caller sees the exception.
      */
-    public <T> T getOrCompute(String key, java.util.function.Supplier<T> supplier, Long ttlSeconds) {
-        Optional<T> cached = get(key);
-        if (cached.isPresent()) {
-            return cached.get();
-        }
-
-        long startTime = System.currentTimeMillis();
-        T value = supplier.get();
-        long loadTime = System.currentTimeMillis() - startTime;
-
-        loadCount++;
-        totalLoadTimeMs += loadTime;
-
-        put(key, value, ttlSeconds);
-        return value;
+    @SuppressWarnings("unchecked")
+    public <T> T getOrCompute(String key, Supplier<T> supplier, Long ttlSeconds) {
+        CacheEntry entry = cache.get(key, k -> newEntry(supplier.get(), ttlSeconds));
+        return (T) entry.value();
     }
 
     /**
      * Invalidate cache entry
      */
     public void invalidate(String key) {
-        lock.writeLock().lock();
-        try {
-            if (cache.remove(key) != null) {
-                evictionCount++;
-            }
-        } finally {
-            lock.writeLock().unlock();
+        if (cache.asMap().remove(key) != null) {
+            evictionByInvalidationCount.increment();
         }
     }
 
@@ -183,115 +151,81 @@ public class EnhancedCacheService {
      * Invalidate by pattern
      */
     public int invalidateByPattern(String pattern) {
-        lock.writeLock().lock();
-        try {
-            List<String> keysToRemove = cache.keySet().stream()
-                    .filter(key -> key.matches(pattern))
-                    .toList();
-
-            for (String key : keysToRemove) {
-                cache.remove(key);
-                evictionCount++;
+        int removed = 0;
+        for (String key : cache.asMap().keySet()) {
+            if (key.matches(pattern) && cache.asMap().remove(key) != null) {
+                removed++;
             }
-
-            return keysToRemove.size();
-        } finally {
-            lock.writeLock().unlock();
         }
+        evictionByInvalidationCount.add(removed);
+        return removed;
     }
 
     /**
      * Clear entire cache
      */
     public void clear() {
-        lock.writeLock().lock();
-        try {
-            int size = cache.size();
-            cache.clear();
-            evictionCount += size;
-            log.info("Cache cleared ({} entries)", size);
-        } finally {
-            lock.writeLock().unlock();
-        }
-    }
-
-    /**
-     * Evict LRU entry
-     */
-    private void evictLRU() {
-        String lruKey = null;
-        LocalDateTime oldestAccess = LocalDateTime.now();
-
-        for (Map.Entry<String, CacheEntry<?>> entry : cache.entrySet()) {
-            if (lruKey == null || entry.getValue().lastAccessedAt.isBefore(oldestAccess)) {
-                lruKey = entry.getKey();
-                oldestAccess = entry.getValue().lastAccessedAt;
-            }
-        }
-
-        if (lruKey != null) {
-            cache.remove(lruKey);
-            evictionCount++;
-        }
+        long size = cache.estimatedSize();
+        cache.invalidateAll();
+        evictionByInvalidationCount.add(size);
+        log.info("Cache cleared ({} entries)", size);
     }
 
     /**
-     * Cleanup expired entries (runs every 5 minutes)
+     * Run pending cache maintenance (runs every 5 minutes)
+     *
+     * Expired entries are already treated as absent on read and removed as the
+     * cache is used; this only reclaims their memory in an idle cache.
      */
     @Scheduled(fixedRate = 300000)
     public void cleanupExpired() {
-        lock.writeLock().lock();
-        try {
-            List<String> expiredKeys = cache.entrySet().stream()
-                    .filter(e -> e.getValue().isExpired())
-                    .map(Map.Entry::getKey)
-                    .toList();
-
-            for (String key : expiredKeys) {
-                cache.remove(key);
-                evictionCount++;
-            }
-
-            if (!expiredKeys.isEmpty()) {
-                log.info("Cleaned up {} expired entries", expiredKeys.size());
-            }
-        } finally {
-            lock.writeLock().unlock();
-        }
+        cache.cleanUp();
     }
 
     /**
      * Get cache statistics
      */
     public CacheStatistics getStatistics() {
-        lock.readLock().lock();
-        try {
-            long currentMemoryBytes = cache.values().stream()
-                    .mapToLong(e -> e.sizeBytes)
-                    .sum();
-
-            CacheStatistics stats = CacheStatistics.builder()
-                    .cacheName("EnhancedCache")
-                    .startTime(statsStartTime)
-                    .endTime(LocalDateTime.now())
-                    .hitCount(hitCount)
-                    .missCount(missCount)
-                    .loadCount(loadCount)
-                    .totalLoadTimeMs(totalLoadTimeMs)
-                    .evictionCount(evictionCount)
-                    .currentSize((long) cache.size())
-                    .maxSize((long) maxSize)
-                    .currentMemoryBytes(currentMemoryBytes)
-                    .totalRequests(hitCount + missCount)
-                    .build();
-
-            stats.calculateRates();
-            stats.calculateAverages();
+        CacheStats stats = cache.stats();
+        long currentMemoryBytes = cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+
+        long bySize = evictionBySizeCount.sum();
+        long byTtl = evictionByTtlCount.sum();
+        long byInvalidation = evictionByInvalidationCount.sum();
+
+        CacheStatistics statistics = CacheStatistics.builder()
+                .cacheName("EnhancedCache")
+                .startTime(statsStartTime)
+                .endTime(LocalDateTime.now())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .loadCount(stats.loadCount())
+                .loadSuccessCount(stats.loadSuccessCount())
+                .loadFailureCount(stats.loadFailureCount())
+                .totalLoadTimeMs(TimeUnit.NANOSECONDS.toMillis(stats.totalLoadTime()))
+                .evictionCount(bySize + byTtl + byInvalidation)
+                .evictionBySizeCount(bySize)
+                .evictionByTtlCount(byTtl)
+                .evictionByInvalidationCount(byInvalidation)
+                .currentSize(cache.estimatedSize())
+                .currentMemoryBytes(currentMemoryBytes)
+                .maxMemoryBytes(maxMemoryBytes)
+                .totalRequests(stats.requestCount())
+                .build();
+
+        statistics.calculateRates();
+        statistics.calculateAverages();
+        // Bounded by memory rather than entry count
+        statistics.setFillPercentage(maxMemoryBytes > 0 ? currentMemoryBytes * 100.0 / maxMemoryBytes : 0.0);
+
+        return statistics;
+    }
 
-            return stats;
-        } finally {
-            lock.readLock().unlock();
-        }
+    private CacheEntry newEntry(Object value, Long ttlSeconds) {
+        long ttlNanos = ttlSeconds != null ? TimeUnit.SECONDS.toNanos(Math.max(0, ttlSeconds)) : Long.MAX_VALUE;
+        return new CacheEntry(value, ttlNanos, (int) Math.min(Integer.MAX_VALUE, Math.max(1, estimateSize(value))));
     }
 
     /**
@@ -309,13 +243,13 @@ public class EnhancedCacheService {
      * Get cache size
      */
     public int size() {
-        return cache.size();
+        return (int) cache.estimatedSize();
     }
 
     /**
      * Get all cache keys
      */
     public Set<String> getKeys() {
-        return new HashSet<>(cache.keySet());
+        return new HashSet<>(cache.asMap().keySet());
     }
 }
@@ -4,6 +4,7 @@ import com.heronix.model.domain.*;
 import com.heronix.model.enums.ExportFormat;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface ExportService {
@@ -46,4 +47,16 @@ public interface ExportService {
     byte[] exportStudentsToCSV(List<Student> students) throws IOException;
 
     byte[] exportStudentsToExcel(List<Student> students) throws IOException;
-}
\ No newline at end of file
+
+    // Streaming entity exports (CSV or EXCEL): rows are read a page at a time
+    // and written straight to the stream, so memory doesn't grow with the row count
+    void streamTeachers(ExportFormat format, OutputStream out) throws IOException;
+
+    void streamStudents(ExportFormat format, OutputStream out) throws IOException;
+
+    void streamCourses(ExportFormat format, OutputStream out) throws IOException;
+
+    void streamRooms(ExportFormat format, OutputStream out) throws IOException;
+
+    void streamEvents(ExportFormat format, OutputStream out) throws IOException;
+}
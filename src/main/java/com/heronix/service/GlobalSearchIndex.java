@@ -0,0 +1,822 @@
+package com.heronix.service;
+
+import com.heronix.event.EntityChangeEvent;
+import com.heronix.model.domain.Course;
+import com.heronix.model.domain.Room;
+import com.heronix.model.domain.Student;
+import com.heronix.model.domain.Teacher;
+import com.heronix.repository.CourseRepository;
+import com.heronix.repository.RoomRepository;
+import com.heronix.repository.StudentRepository;
+import com.heronix.repository.TeacherRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Global Search Index
+ *
+ * In-memory inverted index over students, teachers, courses and rooms for the
+ * Command Palette (Ctrl+K), so a keystroke doesn't load and scan every table.
+ *
+ * Field values are split into lowercase alphanumeric tokens. Every token is
+ * posted under its trigrams and its one- and two-character prefixes; posting
+ * lists are int arrays of document numbers in ascending order.
+ *
+ * A query is split into terms the same way. Candidates are the intersection of
+ * the postings of the terms' trigrams (or of the prefixes, when every term is
+ * shorter than three characters) and are then scored on the stored fields with
+ * the same field order and scores as the original scans. Exact matches on the
+ * first field are looked up directly; only the top {@code limit} hits are kept,
+ * and the scan stops once no remaining candidate could displace them.
+ * If that leaves room, a typo-tolerant pass accepts words of four or more
+ * letters within one edit (two from eight letters) of a token or token prefix,
+ * at half the score.
+ *
+ * The index is built once from the repositories (in the background at startup,
+ * or on the first search) and then kept current by {@link EntityChangeEvent}s
+ * after each commit.
+ *
+ * @author Heronix Development Team
+ * @version 1.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@Component
+@Slf4j
+public class GlobalSearchIndex {
+
+    /**
+     * Indexed entity types, with their field scores in match order: the first
+     * field also scores {@code exactScore} on an exact match, and the first
+     * field containing the query gives the score
+     */
+    public enum Kind {
+        // studentId, full name, first name, last name, email, grade level
+        STUDENT(1.0, 0.9, 0.8, 0.7, 0.7, 0.6, 0.5),
+        // full name, first name, last name, email, department
+        TEACHER(1.0, 0.8, 0.7, 0.7, 0.6, 0.5),
+        // course code, course name, description, subject
+        COURSE(1.0, 0.9, 0.8, 0.6, 0.5),
+        // room number, building, room type
+        ROOM(1.0, 0.9, 0.7, 0.6);
+
+        private final double exactScore;
+        private final double[] fieldScores;
+
+        Kind(double exactScore, double... fieldScores) {
+            this.exactScore = exactScore;
+            this.fieldScores = fieldScores;
+        }
+    }
+
+    /**
+     * One search hit: the entity type and ID, and its relevance (0.0 - 1.0)
+     */
+    public record Hit(Kind kind, Long id, double score) {
+    }
+
+    private static final double MAX_SCORE = 1.0;
+    // Scores of documents matching every term, but not the query as a whole
+    private static final double ALL_TERMS_FACTOR = 0.9;
+    private static final double FUZZY_FACTOR = 0.5;
+    private static final int MIN_FUZZY_TERM_LENGTH = 4;
+    private static final int TWO_EDIT_TERM_LENGTH = 8;
+    // Rebuild the postings once this share of the documents has been replaced or removed
+    private static final int COMPACT_MIN_REMOVED = 1000;
+
+    private final StudentRepository studentRepository;
+    private final TeacherRepository teacherRepository;
+    private final CourseRepository courseRepository;
+    private final RoomRepository roomRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private final List<Document> documents = new ArrayList<>();
+    private final Map<Kind, Map<Long, Integer>> documentIds = new EnumMap<>(Kind.class);
+    private final Map<String, Postings> trigrams = new HashMap<>();
+    private final Map<String, Postings> prefixes = new HashMap<>();
+    // Documents by their first field (student ID, teacher name, course code, room number)
+    private final Map<String, Postings> exactKeys = new HashMap<>();
+    private int removedCount;
+    private boolean built;
+    // Changes committed while a build is loading, replayed when it finishes
+    private List<EntityChangeEvent> pendingChanges;
+
+    /**
+     * Indexed copy of one entity's searchable fields (lowercase, null when
+     * absent) and their tokens
+     */
+    private record Document(Kind kind, Long id, String[] fields, String[][] tokens) {
+    }
+
+    /**
+     * Growable posting list of ascending document numbers
+     */
+    private static final class Postings {
+        int[] docs = new int[4];
+        int size;
+
+        void add(int doc) {
+            if (size > 0 && docs[size - 1] == doc) {
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+    }
+
+    public GlobalSearchIndex(StudentRepository studentRepository, TeacherRepository teacherRepository,
+                             CourseRepository courseRepository, RoomRepository roomRepository) {
+        this.studentRepository = studentRepository;
+        this.teacherRepository = teacherRepository;
+        this.courseRepository = courseRepository;
+        this.roomRepository = roomRepository;
+        for (Kind kind : Kind.values()) {
+            documentIds.put(kind, new HashMap<>());
+        }
+    }
+
+    // ========================================================================
+    // BUILDING AND UPDATES
+    // ========================================================================
+
+    /**
+     * Build the index in the background once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Async("taskExecutor")
+    public void warmUp() {
+        try {
+            ensureBuilt();
+        } catch (Exception e) {
+            log.error("Failed to build global search index: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Build the index from the repositories if it hasn't been built yet
+     */
+    public void ensureBuilt() {
+        if (isBuilt()) {
+            return;
+        }
+        synchronized (this) {
+            if (!isBuilt()) {
+                load();
+            }
+        }
+    }
+
+    private boolean isBuilt() {
+        lock.readLock().lock();
+        try {
+            return built;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void load() {
+        long startTime = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<Student> students;
+        List<Teacher> teachers;
+        List<Course> courses;
+        List<Room> rooms;
+        try {
+            students = studentRepository.findAll();
+            teachers = teacherRepository.findAllActive();
+            courses = courseRepository.findAll();
+            rooms = roomRepository.findAll();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            List<EntityChangeEvent> changes = pendingChanges;
+            pendingChanges = null;
+            rebuildLocked(students, teachers, courses, rooms);
+            for (EntityChangeEvent change : changes) {
+                applyLocked(change);
+            }
+            log.info("Global search index built: {} documents, {} trigrams in {}ms",
+                    documents.size(), trigrams.size(), System.currentTimeMillis() - startTime);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replace the index contents with the given entities
+     */
+    public void rebuild(Collection<Student> students, Collection<Teacher> teachers,
+                        Collection<Course> courses, Collection<Room> rooms) {
+        lock.writeLock().lock();
+        try {
+            rebuildLocked(students, teachers, courses, rooms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void rebuildLocked(Collection<Student> students, Collection<Teacher> teachers,
+                               Collection<Course> courses, Collection<Room> rooms) {
+        clearLocked();
+        for (Collection<?> entities : List.of(students, teachers, courses, rooms)) {
+            for (Object entity : entities) {
+                indexLocked(entity);
+            }
+        }
+        built = true;
+    }
+
+    /**
+     * Apply a committed insert, update or delete
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangeEvent event) {
+        if (kindOf(event.getEntity()) == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.add(event);
+            } else if (built) {
+                applyLocked(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyLocked(EntityChangeEvent event) {
+        Object entity = event.getEntity();
+        if (event.getChangeType() == EntityChangeEvent.ChangeType.DELETED) {
+            removeLocked(kindOf(entity), idOf(entity));
+        } else {
+            indexLocked(entity);
+        }
+    }
+
+    private void indexLocked(Object entity) {
+        Kind kind = kindOf(entity);
+        Long id = idOf(entity);
+        if (kind == null || id == null) {
+            return;
+        }
+        removeLocked(kind, id);
+
+        Document document = documentOf(kind, id, entity);
+        if (document == null) {
+            return;
+        }
+
+        addLocked(document);
+    }
+
+    private void addLocked(Document document) {
+        int doc = documents.size();
+        documents.add(document);
+        documentIds.get(document.kind()).put(document.id(), doc);
+
+        if (document.fields()[0] != null) {
+            exactKeys.computeIfAbsent(document.fields()[0], k -> new Postings()).add(doc);
+        }
+        for (String[] fieldTokens : document.tokens()) {
+            for (String token : fieldTokens) {
+                for (int length = 1; length <= Math.min(2, token.length()); length++) {
+                    prefixes.computeIfAbsent(token.substring(0, length), k -> new Postings()).add(doc);
+                }
+                for (int i = 0; i + 3 <= token.length(); i++) {
+                    trigrams.computeIfAbsent(token.substring(i, i + 3), k -> new Postings()).add(doc);
+                }
+            }
+        }
+    }
+
+    private void removeLocked(Kind kind, Long id) {
+        if (kind == null || id == null) {
+            return;
+        }
+        Integer doc = documentIds.get(kind).remove(id);
+        if (doc == null) {
+            return;
+        }
+        // Postings keep the number; the null document is skipped on search
+        documents.set(doc, null);
+        removedCount++;
+        if (removedCount >= COMPACT_MIN_REMOVED && removedCount * 4 >= documents.size()) {
+            compactLocked();
+        }
+    }
+
+    private void compactLocked() {
+        List<Document> live = new ArrayList<>(documents.size() - removedCount);
+        for (Document document : documents) {
+            if (document != null) {
+                live.add(document);
+            }
+        }
+        clearLocked();
+        for (Document document : live) {
+            addLocked(document);
+        }
+    }
+
+    private void clearLocked() {
+        documents.clear();
+        for (Map<Long, Integer> ids : documentIds.values()) {
+            ids.clear();
+        }
+        trigrams.clear();
+        prefixes.clear();
+        exactKeys.clear();
+        removedCount = 0;
+    }
+
+    // ========================================================================
+    // SEARCH
+    // ========================================================================
+
+    /**
+     * Top hits for a query, best first
+     *
+     * @param query search text (case-insensitive)
+     * @param kinds entity types to search
+     * @param limit maximum number of hits
+     * @return up to {@code limit} hits, by descending score
+     */
+    public List<Hit> search(String query, Set<Kind> kinds, int limit) {
+        if (query == null || kinds.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String normalized = query.toLowerCase().trim();
+        List<String> terms = tokenize(normalized);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        ensureBuilt();
+
+        lock.readLock().lock();
+        try {
+            TopHits top = new TopHits(limit);
+            BitSet matched = new BitSet(documents.size());
+
+            // Exact matches on the first field come from their own map...
+            Postings exact = exactKeys.get(normalized);
+            for (int p = 0; exact != null && p < exact.size; p++) {
+                Document document = documents.get(exact.docs[p]);
+                if (document != null && kinds.contains(document.kind()) && normalized.equals(document.fields()[0])) {
+                    matched.set(exact.docs[p]);
+                    top.offer(exact.docs[p], document.kind().exactScore);
+                }
+            }
+
+            // ...so the scan can stop as soon as no remaining document can do better
+            double bestRemaining = 0;
+            for (Kind kind : kinds) {
+                bestRemaining = Math.max(bestRemaining, kind.fieldScores[0]);
+            }
+            for (int doc : exactCandidates(terms)) {
+                if (top.isFull() && top.minScore() >= bestRemaining) {
+                    break;
+                }
+                Document document = documents.get(doc);
+                if (document == null || matched.get(doc) || !kinds.contains(document.kind())) {
+                    continue;
+                }
+                double score = score(document, normalized, terms);
+                if (score > 0) {
+                    matched.set(doc);
+                    top.offer(doc, score);
+                }
+            }
+
+            if (!top.isFull() || top.minScore() < bestRemaining * FUZZY_FACTOR) {
+                fuzzySearch(terms, kinds, matched, top, bestRemaining * FUZZY_FACTOR);
+            }
+
+            List<Hit> hits = new ArrayList<>();
+            for (Scored scored : top.sorted()) {
+                Document document = documents.get(scored.doc());
+                hits.add(new Hit(document.kind(), document.id(), scored.score()));
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Documents containing every term of three or more characters (by their
+     * trigrams), or, when all terms are shorter, a token starting with each term
+     */
+    private int[] exactCandidates(List<String> terms) {
+        List<Postings> lists = new ArrayList<>();
+        boolean hasLongTerm = terms.stream().anyMatch(term -> term.length() >= 3);
+        for (String term : terms) {
+            if (hasLongTerm) {
+                if (term.length() < 3) {
+                    continue;
+                }
+                for (int i = 0; i + 3 <= term.length(); i++) {
+                    lists.add(trigrams.get(term.substring(i, i + 3)));
+                }
+            } else {
+                lists.add(prefixes.get(term));
+            }
+        }
+        return intersect(lists);
+    }
+
+    private static int[] intersect(List<Postings> lists) {
+        if (lists.isEmpty() || lists.contains(null)) {
+            return new int[0];
+        }
+        lists.sort(Comparator.comparingInt(postings -> postings.size));
+
+        Postings smallest = lists.get(0);
+        int[] result = Arrays.copyOf(smallest.docs, smallest.size);
+        int size = result.length;
+        for (int l = 1; l < lists.size() && size > 0; l++) {
+            Postings other = lists.get(l);
+            int kept = 0;
+            int j = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = result[i];
+                while (j < other.size && other.docs[j] < doc) {
+                    j++;
+                }
+                if (j < other.size && other.docs[j] == doc) {
+                    result[kept++] = doc;
+                }
+            }
+            size = kept;
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Score of a document that isn't an exact match: the first field (in the
+     * kind's order) containing the whole query, else a lower score if every term
+     * is found in some field
+     */
+    private static double score(Document document, String query, List<String> terms) {
+        String[] fields = document.fields();
+        double[] fieldScores = document.kind().fieldScores;
+
+        for (int f = 0; f < fields.length; f++) {
+            if (fields[f] != null && fields[f].contains(query)) {
+                return fieldScores[f];
+            }
+        }
+        if (terms.size() < 2) {
+            return 0;
+        }
+
+        double score = MAX_SCORE;
+        for (String term : terms) {
+            double termScore = 0;
+            for (int f = 0; f < fields.length; f++) {
+                if (fields[f] != null && fields[f].contains(term)) {
+                    termScore = fieldScores[f];
+                    break;
+                }
+            }
+            if (termScore == 0) {
+                return 0;
+            }
+            score = Math.min(score, termScore);
+        }
+        return score * ALL_TERMS_FACTOR;
+    }
+
+    /**
+     * Typo-tolerant pass: documents sharing enough trigrams with the longest
+     * word, accepted when every word of four or more letters is within the edit
+     * limit of one of their tokens and every other term is contained in a field
+     */
+    private void fuzzySearch(List<String> terms, Set<Kind> kinds, BitSet matched, TopHits top,
+                             double bestScore) {
+        String longest = terms.stream()
+                .filter(GlobalSearchIndex::isFuzzyTerm)
+                .max(Comparator.comparingInt(String::length))
+                .orElse(null);
+        if (longest == null) {
+            return;
+        }
+
+        int[] shared = new int[documents.size()];
+        int gramCount = longest.length() - 2;
+        int minShared = Math.max(1, gramCount - 3 * maxEdits(longest));
+        for (int i = 0; i < gramCount; i++) {
+            Postings postings = trigrams.get(longest.substring(i, i + 3));
+            if (postings != null) {
+                for (int p = 0; p < postings.size; p++) {
+                    shared[postings.docs[p]]++;
+                }
+            }
+        }
+
+        for (int doc = 0; doc < shared.length; doc++) {
+            if (top.isFull() && top.minScore() >= bestScore) {
+                break;
+            }
+            if (shared[doc] < minShared || matched.get(doc)) {
+                continue;
+            }
+            Document document = documents.get(doc);
+            if (document == null || !kinds.contains(document.kind())) {
+                continue;
+            }
+            double score = fuzzyScore(document, terms);
+            if (score > 0) {
+                top.offer(doc, score);
+            }
+        }
+    }
+
+    private static double fuzzyScore(Document document, List<String> terms) {
+        String[] fields = document.fields();
+        double[] fieldScores = document.kind().fieldScores;
+
+        double score = MAX_SCORE;
+        for (String term : terms) {
+            double termScore = 0;
+            for (int f = 0; f < fields.length && termScore == 0; f++) {
+                if (fields[f] == null) {
+                    continue;
+                }
+                if (!isFuzzyTerm(term)) {
+                    if (fields[f].contains(term)) {
+                        termScore = fieldScores[f];
+                    }
+                    continue;
+                }
+                for (String token : document.tokens()[f]) {
+                    if (withinEdits(term, token, maxEdits(term))) {
+                        termScore = fieldScores[f];
+                        break;
+                    }
+                }
+            }
+            if (termScore == 0) {
+                return 0;
+            }
+            score = Math.min(score, termScore);
+        }
+        return score * FUZZY_FACTOR;
+    }
+
+    /**
+     * Typos are only tolerated in words (IDs, codes and numbers must match)
+     */
+    private static boolean isFuzzyTerm(String term) {
+        return term.length() >= MIN_FUZZY_TERM_LENGTH && term.chars().allMatch(Character::isLetter);
+    }
+
+    private static int maxEdits(String term) {
+        return term.length() >= TWO_EDIT_TERM_LENGTH ? 2 : 1;
+    }
+
+    /**
+     * Whether the term is within {@code maxEdits} edits (insertions, deletions,
+     * substitutions, adjacent transpositions) of the token or a prefix of it
+     */
+    static boolean withinEdits(String term, String token, int maxEdits) {
+        int minLength = Math.max(1, term.length() - maxEdits);
+        int maxLength = Math.min(token.length(), term.length() + maxEdits);
+        for (int length = minLength; length <= maxLength; length++) {
+            if (editDistance(term, token, length, maxEdits) <= maxEdits) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Optimal string alignment distance between {@code a} and the first
+     * {@code bLength} characters of {@code b}, or {@code maxEdits + 1} if larger
+     */
+    private static int editDistance(String a, String b, int bLength, int maxEdits) {
+        int aLength = a.length();
+        if (Math.abs(aLength - bLength) > maxEdits) {
+            return maxEdits + 1;
+        }
+        int[] previous2 = new int[bLength + 1];
+        int[] previous = new int[bLength + 1];
+        int[] current = new int[bLength + 1];
+        for (int j = 0; j <= bLength; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= aLength; i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= bLength; j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[bLength];
+    }
+
+    /**
+     * Bounded min-heap keeping the best {@code limit} hits; ties go to the
+     * lower document number
+     */
+    private static final class TopHits {
+        private static final Comparator<Scored> WORST_FIRST = Comparator.comparingDouble(Scored::score)
+                .thenComparing(Comparator.comparingInt(Scored::doc).reversed());
+
+        private final int limit;
+        private final PriorityQueue<Scored> heap;
+
+        TopHits(int limit) {
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(Math.min(limit, 64) + 1, WORST_FIRST);
+        }
+
+        void offer(int doc, double score) {
+            Scored scored = new Scored(doc, score);
+            if (heap.size() < limit) {
+                heap.add(scored);
+            } else if (WORST_FIRST.compare(scored, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(scored);
+            }
+        }
+
+        boolean isFull() {
+            return heap.size() >= limit;
+        }
+
+        double minScore() {
+            return heap.isEmpty() ? 0 : heap.peek().score();
+        }
+
+        List<Scored> sorted() {
+            List<Scored> entries = new ArrayList<>(heap);
+            entries.sort(WORST_FIRST.reversed());
+            return entries;
+        }
+    }
+
+    private record Scored(int doc, double score) {
+    }
+
+    // ========================================================================
+    // DOCUMENTS
+    // ========================================================================
+
+    private static Kind kindOf(Object entity) {
+        if (entity instanceof Student) return Kind.STUDENT;
+        if (entity instanceof Teacher) return Kind.TEACHER;
+        if (entity instanceof Course) return Kind.COURSE;
+        if (entity instanceof Room) return Kind.ROOM;
+        return null;
+    }
+
+    private static Long idOf(Object entity) {
+        if (entity instanceof Student student) return student.getId();
+        if (entity instanceof Teacher teacher) return teacher.getId();
+        if (entity instanceof Course course) return course.getId();
+        if (entity instanceof Room room) return room.getId();
+        return null;
+    }
+
+    /**
+     * Searchable fields of an entity in its kind's field order, or null if the
+     * entity isn't searchable (inactive or deleted teachers)
+     */
+    private static Document documentOf(Kind kind, Long id, Object entity) {
+        switch (kind) {
+            case STUDENT -> {
+                Student student = (Student) entity;
+                return document(kind, id,
+                        student.getStudentId(),
+                        fullName(student.getFirstName(), student.getLastName()),
+                        student.getFirstName(),
+                        student.getLastName(),
+                        student.getEmail(),
+                        student.getGradeLevel());
+            }
+            case TEACHER -> {
+                Teacher teacher = (Teacher) entity;
+                if (!teacher.isActive() || Boolean.TRUE.equals(teacher.getDeleted())) {
+                    return null;
+                }
+                return document(kind, id,
+                        fullName(teacher.getFirstName(), teacher.getLastName()),
+                        teacher.getFirstName(),
+                        teacher.getLastName(),
+                        teacher.getEmail(),
+                        teacher.getDepartment());
+            }
+            case COURSE -> {
+                Course course = (Course) entity;
+                return document(kind, id,
+                        course.getCourseCode(),
+                        course.getCourseName(),
+                        course.getDescription(),
+                        course.getSubject());
+            }
+            case ROOM -> {
+                Room room = (Room) entity;
+                return document(kind, id,
+                        room.getRoomNumber(),
+                        room.getBuilding(),
+                        room.getType() != null ? room.getType().toString() : null);
+            }
+            default -> {
+                return null;
+            }
+        }
+    }
+
+    private static String fullName(String firstName, String lastName) {
+        if (firstName == null && lastName == null) {
+            return null;
+        }
+        return (firstName != null ? firstName : "") + " " + (lastName != null ? lastName : "");
+    }
+
+    private static Document document(Kind kind, Long id, String... values) {
+        String[] fields = new String[values.length];
+        String[][] tokens = new String[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            fields[i] = values[i] != null ? values[i].toLowerCase() : null;
+            tokens[i] = tokenize(fields[i]).toArray(new String[0]);
+        }
+        return new Document(kind, id, fields, tokens);
+    }
+
+    /**
+     * Lowercase alphanumeric runs of a value
+     */
+    static List<String> tokenize(String value) {
+        List<String> tokens = new ArrayList<>();
+        if (value == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= value.length(); i++) {
+            boolean wordChar = i < value.length() && Character.isLetterOrDigit(value.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(value.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Number of live documents
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size() - removedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -8,20 +8,25 @@ import com.heronix.repository.StudentRepository;
 import com.heronix.repository.TeacherRepository;
 import com.heronix.repository.CourseRepository;
 import com.heronix.repository.RoomRepository;
+import com.heronix.service.GlobalSearchIndex.Hit;
+import com.heronix.service.GlobalSearchIndex.Kind;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Global Search Service - Searches across all entities
  * Powers the Command Palette (Ctrl+K) feature
  *
+ * Entities are matched in the in-memory {@link GlobalSearchIndex}; only the
+ * top results are loaded from the database.
+ *
  * @author Heronix Scheduler Team
  * @version 1.0
  */
@@ -31,10 +36,13 @@ public class GlobalSearchService {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalSearchService.class);
 
+    private static final int DEFAULT_RESULT_LIMIT = 50;
+
     private final StudentRepository studentRepository;
     private final TeacherRepository teacherRepository;
     private final CourseRepository courseRepository;
     private final RoomRepository roomRepository;
+    private final GlobalSearchIndex searchIndex;
 
     /**
      * Search Result DTO - represents a single search result
@@ -77,6 +85,18 @@ public class GlobalSearchService {
      * @return List of search results sorted by relevance
      */
     public List<SearchResult> search(String query, String category) {
+        return search(query, category, DEFAULT_RESULT_LIMIT);
+    }
+
+    /**
+     * Search across all entities, returning at most {@code limit} results
+     *
+     * @param query Search query string
+     * @param category Filter category ("ALL", "STUDENTS", "TEACHERS", "COURSES", "ROOMS", "ACTIONS")
+     * @param limit Maximum number of results
+     * @return List of search results sorted by relevance
+     */
+    public List<SearchResult> search(String query, String category, int limit) {
         if (query == null || query.trim().isEmpty()) {
             return getDefaultSuggestions(category);
         }
@@ -85,20 +105,30 @@ public class GlobalSearchService {
         List<SearchResult> results = new ArrayList<>();
 
         // Search based on category filter
+        Set<Kind> kinds = EnumSet.noneOf(Kind.class);
         if ("ALL".equals(category) || "STUDENTS".equals(category)) {
-            results.addAll(searchStudents(normalizedQuery));
+            kinds.add(Kind.STUDENT);
         }
 
         if ("ALL".equals(category) || "TEACHERS".equals(category)) {
-            results.addAll(searchTeachers(normalizedQuery));
+            kinds.add(Kind.TEACHER);
         }
 
         if ("ALL".equals(category) || "COURSES".equals(category)) {
-            results.addAll(searchCourses(normalizedQuery));
+            kinds.add(Kind.COURSE);
         }
 
         if ("ALL".equals(category) || "ROOMS".equals(category)) {
-            results.addAll(searchRooms(normalizedQuery));
+            kinds.add(Kind.ROOM);
+        }
+
+        if (!kinds.isEmpty()) {
+            try {
+                results.addAll(toResults(searchIndex.search(normalizedQuery, kinds, limit)));
+            } catch (Exception e) {
+                // Log error but don't fail the search
+                log.error("Error searching entities: {}", e.getMessage(), e);
+            }
         }
 
         if ("ALL".equals(category) || "ACTIONS".equals(category)) {
@@ -108,262 +138,99 @@ public class GlobalSearchService {
         // Sort by relevance score (highest first)
         results.sort((a, b) -> Double.compare(b.getRelevanceScore(), a.getRelevanceScore()));
 
-        return results;
+        return results.size() > limit ? new ArrayList<>(results.subList(0, limit)) : results;
     }
 
     /**
-     * Search students by ID, name, email, grade
+     * Load the entities of index hits (one query per entity type) and build
+     * their results, in hit order. Entities deleted since they were indexed are skipped.
      */
-    private List<SearchResult> searchStudents(String query) {
-        List<SearchResult> results = new ArrayList<>();
-
-        try {
-            List<Student> students = studentRepository.findAll();
-
-            for (Student student : students) {
-                double score = calculateStudentRelevance(student, query);
-                if (score > 0) {
-                    String primaryText = String.format("%s %s (ID: %s)",
-                            student.getFirstName(),
-                            student.getLastName(),
-                            student.getStudentId());
-
-                    String secondaryText = String.format("Grade %s • %s • %s",
-                            student.getGradeLevel() != null ? student.getGradeLevel() : "N/A",
-                            student.getEmail() != null ? student.getEmail() : "No email",
-                            student.isActive() ? "Active" : "Inactive");
-
-                    results.add(new SearchResult(
-                            "STUDENT",
-                            "👨‍🎓",
-                            primaryText,
-                            secondaryText,
-                            student,
-                            score
-                    ));
-                }
-            }
-        } catch (Exception e) {
-            // Log error but don't fail the search
-            log.error("Error searching students: {}", e.getMessage(), e);
-        }
-
-        return results;
-    }
-
-    /**
-     * Calculate relevance score for student
-     */
-    private double calculateStudentRelevance(Student student, String query) {
-        double score = 0.0;
-
-        // Exact match on student ID (highest priority)
-        if (student.getStudentId() != null && student.getStudentId().toLowerCase().equals(query)) {
-            score = 1.0;
-        }
-        // Partial match on student ID
-        else if (student.getStudentId() != null && student.getStudentId().toLowerCase().contains(query)) {
-            score = 0.9;
-        }
-        // Full name match
-        else if ((student.getFirstName() + " " + student.getLastName()).toLowerCase().contains(query)) {
-            score = 0.8;
-        }
-        // First name match
-        else if (student.getFirstName() != null && student.getFirstName().toLowerCase().contains(query)) {
-            score = 0.7;
-        }
-        // Last name match
-        else if (student.getLastName() != null && student.getLastName().toLowerCase().contains(query)) {
-            score = 0.7;
-        }
-        // Email match
-        else if (student.getEmail() != null && student.getEmail().toLowerCase().contains(query)) {
-            score = 0.6;
-        }
-        // Grade level match
-        else if (student.getGradeLevel() != null && student.getGradeLevel().toLowerCase().contains(query)) {
-            score = 0.5;
+    private List<SearchResult> toResults(List<Hit> hits) {
+        Map<Kind, List<Long>> idsByKind = new EnumMap<>(Kind.class);
+        for (Hit hit : hits) {
+            idsByKind.computeIfAbsent(hit.kind(), k -> new ArrayList<>()).add(hit.id());
         }
 
-        return score;
-    }
-
-    /**
-     * Search teachers by name, email, department
-     */
-    private List<SearchResult> searchTeachers(String query) {
-        List<SearchResult> results = new ArrayList<>();
-
-        try {
-            List<Teacher> teachers = teacherRepository.findAllActive();
-
-            for (Teacher teacher : teachers) {
-                double score = calculateTeacherRelevance(teacher, query);
-                if (score > 0) {
-                    String primaryText = String.format("%s %s",
-                            teacher.getFirstName(),
-                            teacher.getLastName());
-
-                    String secondaryText = String.format("%s • %s",
-                            teacher.getEmail() != null ? teacher.getEmail() : "No email",
-                            teacher.getDepartment() != null ? teacher.getDepartment() : "No department");
-
-                    results.add(new SearchResult(
-                            "TEACHER",
-                            "👨‍🏫",
-                            primaryText,
-                            secondaryText,
-                            teacher,
-                            score
-                    ));
-                }
+        Map<Kind, Map<Long, Object>> entities = new EnumMap<>(Kind.class);
+        idsByKind.forEach((kind, ids) -> entities.put(kind, switch (kind) {
+            case STUDENT -> byId(studentRepository.findAllById(ids), Student::getId);
+            case TEACHER -> byId(teacherRepository.findAllById(ids), Teacher::getId);
+            case COURSE -> byId(courseRepository.findAllById(ids), Course::getId);
+            case ROOM -> byId(roomRepository.findAllById(ids), Room::getId);
+        }));
+
+        List<SearchResult> results = new ArrayList<>(hits.size());
+        for (Hit hit : hits) {
+            Object entity = entities.get(hit.kind()).get(hit.id());
+            if (entity == null) {
+                continue;
             }
-        } catch (Exception e) {
-            log.error("Error searching teachers: {}", e.getMessage(), e);
+            results.add(switch (hit.kind()) {
+                case STUDENT -> toResult((Student) entity, hit.score());
+                case TEACHER -> toResult((Teacher) entity, hit.score());
+                case COURSE -> toResult((Course) entity, hit.score());
+                case ROOM -> toResult((Room) entity, hit.score());
+            });
         }
-
         return results;
     }
 
-    /**
-     * Calculate relevance score for teacher
-     */
-    private double calculateTeacherRelevance(Teacher teacher, String query) {
-        double score = 0.0;
-
-        String fullName = (teacher.getFirstName() + " " + teacher.getLastName()).toLowerCase();
-
-        if (fullName.equals(query)) {
-            score = 1.0;
-        } else if (fullName.contains(query)) {
-            score = 0.8;
-        } else if (teacher.getFirstName() != null && teacher.getFirstName().toLowerCase().contains(query)) {
-            score = 0.7;
-        } else if (teacher.getLastName() != null && teacher.getLastName().toLowerCase().contains(query)) {
-            score = 0.7;
-        } else if (teacher.getEmail() != null && teacher.getEmail().toLowerCase().contains(query)) {
-            score = 0.6;
-        } else if (teacher.getDepartment() != null &&
-                   teacher.getDepartment().toLowerCase().contains(query)) {
-            score = 0.5;
+    private static <T> Map<Long, Object> byId(List<T> entities, Function<T, Long> id) {
+        Map<Long, Object> map = new HashMap<>();
+        for (T entity : entities) {
+            map.put(id.apply(entity), entity);
         }
-
-        return score;
+        return map;
     }
 
-    /**
-     * Search courses by code, name, description
-     */
-    private List<SearchResult> searchCourses(String query) {
-        List<SearchResult> results = new ArrayList<>();
+    private SearchResult toResult(Student student, double score) {
+        String primaryText = String.format("%s %s (ID: %s)",
+                student.getFirstName(),
+                student.getLastName(),
+                student.getStudentId());
 
-        try {
-            List<Course> courses = courseRepository.findAll();
-
-            for (Course course : courses) {
-                double score = calculateCourseRelevance(course, query);
-                if (score > 0) {
-                    String primaryText = String.format("%s - %s",
-                            course.getCourseCode(),
-                            course.getCourseName());
-
-                    String secondaryText = String.format("%s • %d min",
-                            course.getSubject() != null ? course.getSubject() : "No subject",
-                            course.getDurationMinutes() != null ? course.getDurationMinutes() : 0);
-
-                    results.add(new SearchResult(
-                            "COURSE",
-                            "📚",
-                            primaryText,
-                            secondaryText,
-                            course,
-                            score
-                    ));
-                }
-            }
-        } catch (Exception e) {
-            log.error("Error searching courses: {}", e.getMessage(), e);
-        }
+        String secondaryText = String.format("Grade %s • %s • %s",
+                student.getGradeLevel() != null ? student.getGradeLevel() : "N/A",
+                student.getEmail() != null ? student.getEmail() : "No email",
+                student.isActive() ? "Active" : "Inactive");
 
-        return results;
+        return new SearchResult("STUDENT", "👨‍🎓", primaryText, secondaryText, student, score);
     }
 
-    /**
-     * Calculate relevance score for course
-     */
-    private double calculateCourseRelevance(Course course, String query) {
-        double score = 0.0;
-
-        if (course.getCourseCode() != null && course.getCourseCode().toLowerCase().equals(query)) {
-            score = 1.0;
-        } else if (course.getCourseCode() != null && course.getCourseCode().toLowerCase().contains(query)) {
-            score = 0.9;
-        } else if (course.getCourseName() != null && course.getCourseName().toLowerCase().contains(query)) {
-            score = 0.8;
-        } else if (course.getDescription() != null && course.getDescription().toLowerCase().contains(query)) {
-            score = 0.6;
-        } else if (course.getSubject() != null && course.getSubject().toLowerCase().contains(query)) {
-            score = 0.5;
-        }
+    private SearchResult toResult(Teacher teacher, double score) {
+        String primaryText = String.format("%s %s",
+                teacher.getFirstName(),
+                teacher.getLastName());
 
-        return score;
+        String secondaryText = String.format("%s • %s",
+                teacher.getEmail() != null ? teacher.getEmail() : "No email",
+                teacher.getDepartment() != null ? teacher.getDepartment() : "No department");
+
+        return new SearchResult("TEACHER", "👨‍🏫", primaryText, secondaryText, teacher, score);
     }
 
-    /**
-     * Search rooms by room number, building, capacity
-     */
-    private List<SearchResult> searchRooms(String query) {
-        List<SearchResult> results = new ArrayList<>();
+    private SearchResult toResult(Course course, double score) {
+        String primaryText = String.format("%s - %s",
+                course.getCourseCode(),
+                course.getCourseName());
 
-        try {
-            List<Room> rooms = roomRepository.findAll();
-
-            for (Room room : rooms) {
-                double score = calculateRoomRelevance(room, query);
-                if (score > 0) {
-                    String primaryText = String.format("Room %s",
-                            room.getRoomNumber());
-
-                    String secondaryText = String.format("%s • Capacity: %d • %s",
-                            room.getBuilding() != null ? room.getBuilding() : "No building",
-                            room.getCapacity() != null ? room.getCapacity() : 0,
-                            room.getType() != null ? room.getType().toString() : "Standard");
-
-                    results.add(new SearchResult(
-                            "ROOM",
-                            "🚪",
-                            primaryText,
-                            secondaryText,
-                            room,
-                            score
-                    ));
-                }
-            }
-        } catch (Exception e) {
-            log.error("Error searching rooms: {}", e.getMessage(), e);
-        }
+        String secondaryText = String.format("%s • %d min",
+                course.getSubject() != null ? course.getSubject() : "No subject",
+                course.getDurationMinutes() != null ? course.getDurationMinutes() : 0);
 
-        return results;
+        return new SearchResult("COURSE", "📚", primaryText, secondaryText, course, score);
     }
 
-    /**
-     * Calculate relevance score for room
-     */
-    private double calculateRoomRelevance(Room room, String query) {
-        double score = 0.0;
-
-        if (room.getRoomNumber() != null && room.getRoomNumber().toLowerCase().equals(query)) {
-            score = 1.0;
-        } else if (room.getRoomNumber() != null && room.getRoomNumber().toLowerCase().contains(query)) {
-            score = 0.9;
-        } else if (room.getBuilding() != null && room.getBuilding().toLowerCase().contains(query)) {
-            score = 0.7;
-        } else if (room.getType() != null && room.getType().toString().toLowerCase().contains(query)) {
-            score = 0.6;
-        }
+    private SearchResult toResult(Room room, double score) {
+        String primaryText = String.format("Room %s",
+                room.getRoomNumber());
+
+        String secondaryText = String.format("%s • Capacity: %d • %s",
+                room.getBuilding() != null ? room.getBuilding() : "No building",
+                room.getCapacity() != null ? room.getCapacity() : 0,
+                room.getType() != null ? room.getType().toString() : "Standard");
 
-        return score;
+        return new SearchResult("ROOM", "🚪", primaryText, secondaryText, room, score);
     }
 
     /**
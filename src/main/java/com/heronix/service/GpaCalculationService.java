@@ -3,15 +3,16 @@ package com.heronix.service;
 import com.heronix.model.domain.Student;
 import com.heronix.model.domain.StudentGrade;
 import com.heronix.model.domain.Course;
+import com.heronix.model.enums.CourseType;
 import com.heronix.repository.StudentGradeRepository;
+import com.heronix.repository.StudentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.stream.Stream;
 
 /**
  * GPA Calculation Service
@@ -19,6 +20,10 @@ import java.util.Map;
  * Centralized service for calculating student GPAs in various ways.
  * Provides cumulative, weighted, and term-based GPA calculations.
  *
+ * Every variant is computed in the same pass over a student's grades
+ * ({@link StudentGpa}); {@link #calculateGpas(String)} does that for a whole
+ * grade level or campus in one streaming pass over the grade rows.
+ *
  * Location: src/main/java/com/heronix/service/GpaCalculationService.java
  *
  * @author Heronix Scheduling System Team
@@ -31,7 +36,37 @@ import java.util.Map;
 @Transactional(readOnly = true)
 public class GpaCalculationService {
 
+    private static final Map<String, Double> GRADE_SCALE = Map.ofEntries(
+        Map.entry("A+", 4.0),
+        Map.entry("A", 4.0),
+        Map.entry("A-", 3.7),
+        Map.entry("B+", 3.3),
+        Map.entry("B", 3.0),
+        Map.entry("B-", 2.7),
+        Map.entry("C+", 2.3),
+        Map.entry("C", 2.0),
+        Map.entry("C-", 1.7),
+        Map.entry("D+", 1.3),
+        Map.entry("D", 1.0),
+        Map.entry("D-", 0.7),
+        Map.entry("F", 0.0)
+    );
+
     private final StudentGradeRepository studentGradeRepository;
+    private final StudentRepository studentRepository;
+
+    /**
+     * All GPAs of one student, computed together
+     *
+     * @param termGpas unweighted GPA by term
+     */
+    public record StudentGpa(Long studentId, String gradeLevel, double cumulativeGpa, double weightedGpa,
+                             double simpleAverageGpa, Map<String, Double> termGpas) {
+
+        public double termGpa(String term) {
+            return termGpas.getOrDefault(term, 0.0);
+        }
+    }
 
     /**
      * Calculate cumulative GPA for student (unweighted)
@@ -40,26 +75,7 @@ public class GpaCalculationService {
      * @return Cumulative unweighted GPA
      */
     public Double calculateCumulativeGPA(Student student) {
-        List<StudentGrade> allGrades = studentGradeRepository.findByStudentOrderByGradeDateDesc(student);
-
-        if (allGrades.isEmpty()) {
-            return 0.0;
-        }
-
-        double totalPoints = 0.0;
-        double totalCredits = 0.0;
-
-        for (StudentGrade grade : allGrades) {
-            Double gradePoints = convertLetterGradeToGPA(grade.getLetterGrade());
-            Double credits = getCourseCredits(grade.getCourse());
-
-            if (gradePoints != null && credits != null) {
-                totalPoints += gradePoints * credits;
-                totalCredits += credits;
-            }
-        }
-
-        return totalCredits > 0 ? totalPoints / totalCredits : 0.0;
+        return calculateGpa(student).cumulativeGpa();
     }
 
     /**
@@ -69,27 +85,7 @@ public class GpaCalculationService {
      * @return Weighted GPA
      */
     public Double calculateWeightedGPA(Student student) {
-        List<StudentGrade> allGrades = studentGradeRepository.findByStudentOrderByGradeDateDesc(student);
-
-        if (allGrades.isEmpty()) {
-            return 0.0;
-        }
-
-        double totalPoints = 0.0;
-        double totalCredits = 0.0;
-
-        for (StudentGrade grade : allGrades) {
-            Double gradePoints = convertLetterGradeToGPA(grade.getLetterGrade());
-            Double credits = getCourseCredits(grade.getCourse());
-            Double weightBonus = getCourseWeightBonus(grade.getCourse());
-
-            if (gradePoints != null && credits != null) {
-                totalPoints += (gradePoints + weightBonus) * credits;
-                totalCredits += credits;
-            }
-        }
-
-        return totalCredits > 0 ? totalPoints / totalCredits : 0.0;
+        return calculateGpa(student).weightedGpa();
     }
 
     /**
@@ -101,30 +97,67 @@ public class GpaCalculationService {
      * @return Term GPA
      */
     public Double calculateTermGPA(Student student, String academicYear, String term) {
-        // Use repository method if available
-        List<StudentGrade> termGrades = studentGradeRepository
-            .findByStudentOrderByGradeDateDesc(student).stream()
-            .filter(g -> term.equals(g.getTerm()))
-            .toList();
+        return calculateGpa(student).termGpa(term);
+    }
 
-        if (termGrades.isEmpty()) {
-            return 0.0;
+    /**
+     * Calculate every GPA variant of a student from one load of their grades
+     *
+     * @param student The student
+     * @return Cumulative, weighted, simple average and term GPAs
+     */
+    public StudentGpa calculateGpa(Student student) {
+        GpaAccumulator accumulator = new GpaAccumulator(student.getId(), student.getGradeLevel());
+        for (StudentGrade grade : studentGradeRepository.findByStudentOrderByGradeDateDesc(student)) {
+            Course course = grade.getCourse();
+            accumulator.add(grade.getTerm(), grade.getLetterGrade(),
+                course != null ? course.getCredits() : null, course != null ? course.getCourseType() : null);
         }
+        return accumulator.toStudentGpa();
+    }
 
-        double totalPoints = 0.0;
-        double totalCredits = 0.0;
-
-        for (StudentGrade grade : termGrades) {
-            Double gradePoints = convertLetterGradeToGPA(grade.getLetterGrade());
-            Double credits = getCourseCredits(grade.getCourse());
+    /**
+     * Calculate every GPA variant of a student by ID, reading only the grade
+     * columns the calculation needs
+     *
+     * @param studentId The student ID
+     * @return The student's GPAs, or empty if they have no grades
+     */
+    public Optional<StudentGpa> calculateGpaById(Long studentId) {
+        Map<Long, GpaAccumulator> accumulators = new HashMap<>();
+        studentGradeRepository.findGpaRowsByStudentId(studentId).forEach(row -> accumulate(accumulators, row));
+        return accumulators.values().stream().map(GpaAccumulator::toStudentGpa).findFirst();
+    }
 
-            if (gradePoints != null && credits != null) {
-                totalPoints += gradePoints * credits;
-                totalCredits += credits;
-            }
+    /**
+     * Calculate the GPAs of every student with grades in one streaming pass over
+     * the grade rows
+     *
+     * @param gradeLevel Grade level to calculate, or null for the whole campus
+     * @return GPAs by student ID
+     */
+    public Map<Long, StudentGpa> calculateGpas(String gradeLevel) {
+        long startTime = System.currentTimeMillis();
+        Map<Long, GpaAccumulator> accumulators = new HashMap<>();
+
+        try (Stream<Object[]> rows = gradeLevel != null
+                ? studentGradeRepository.streamGpaRowsByGradeLevel(gradeLevel)
+                : studentGradeRepository.streamGpaRows()) {
+            rows.forEach(row -> accumulate(accumulators, row));
         }
 
-        return totalCredits > 0 ? totalPoints / totalCredits : 0.0;
+        Map<Long, StudentGpa> gpas = new HashMap<>(accumulators.size() * 4 / 3 + 1);
+        accumulators.forEach((studentId, accumulator) -> gpas.put(studentId, accumulator.toStudentGpa()));
+
+        log.debug("Calculated GPAs for {} students (grade level {}) in {}ms",
+            gpas.size(), gradeLevel != null ? gradeLevel : "all", System.currentTimeMillis() - startTime);
+        return gpas;
+    }
+
+    private void accumulate(Map<Long, GpaAccumulator> accumulators, Object[] row) {
+        // student ID, grade level, term, letter grade, course credits, course type
+        accumulators.computeIfAbsent((Long) row[0], id -> new GpaAccumulator(id, (String) row[1]))
+            .add((String) row[2], (String) row[3], (Double) row[4], (CourseType) row[5]);
     }
 
     /**
@@ -138,51 +171,32 @@ public class GpaCalculationService {
             return null;
         }
 
-        Map<String, Double> gradeScale = new HashMap<>();
-        gradeScale.put("A+", 4.0);
-        gradeScale.put("A", 4.0);
-        gradeScale.put("A-", 3.7);
-        gradeScale.put("B+", 3.3);
-        gradeScale.put("B", 3.0);
-        gradeScale.put("B-", 2.7);
-        gradeScale.put("C+", 2.3);
-        gradeScale.put("C", 2.0);
-        gradeScale.put("C-", 1.7);
-        gradeScale.put("D+", 1.3);
-        gradeScale.put("D", 1.0);
-        gradeScale.put("D-", 0.7);
-        gradeScale.put("F", 0.0);
-
-        return gradeScale.getOrDefault(letterGrade.toUpperCase().trim(), null);
+        return GRADE_SCALE.get(letterGrade.toUpperCase().trim());
     }
 
     /**
      * Get course credits from the Course entity
      * Uses the credits field added December 12, 2025
      *
-     * @param course The course
+     * @param credits The course's credits, or null when the course or its credits are missing
      * @return Credits for the course (defaults to 1.0 if null)
      */
-    private Double getCourseCredits(Course course) {
-        if (course == null) {
-            return 1.0;
-        }
-        // Use the credits field from Course entity
-        return course.getCredits() != null ? course.getCredits() : 1.0;
+    private static double getCourseCredits(Double credits) {
+        return credits != null ? credits : 1.0;
     }
 
     /**
      * Get weight bonus for honors/AP courses
      *
-     * @param course The course
+     * @param courseType The course type
      * @return Weight bonus (0.0 for regular, 0.5 for honors, 1.0 for AP/IB)
      */
-    private Double getCourseWeightBonus(Course course) {
-        if (course == null || course.getCourseType() == null) {
+    private static double getCourseWeightBonus(CourseType courseType) {
+        if (courseType == null) {
             return 0.0;
         }
 
-        switch (course.getCourseType()) {
+        switch (courseType) {
             case AP:
             case IB:
                 return 1.0; // +1.0 for AP/IB
@@ -200,15 +214,38 @@ public class GpaCalculationService {
      */
     @Transactional
     public void updateStudentGPA(Student student) {
-        Double cumulativeGPA = calculateCumulativeGPA(student);
-        Double weightedGPA = calculateWeightedGPA(student);
+        StudentGpa gpa = calculateGpa(student);
 
-        student.setCurrentGPA(cumulativeGPA);
-        student.setUnweightedGPA(cumulativeGPA);
-        student.setWeightedGPA(weightedGPA);
+        student.setCurrentGPA(gpa.cumulativeGpa());
+        student.setUnweightedGPA(gpa.cumulativeGpa());
+        student.setWeightedGPA(gpa.weightedGpa());
 
         log.info("Updated GPA for student {}: unweighted={}, weighted={}",
-                student.getStudentId(), cumulativeGPA, weightedGPA);
+                student.getStudentId(), gpa.cumulativeGpa(), gpa.weightedGpa());
+    }
+
+    /**
+     * Update the GPA fields of every student from one pass over all grades
+     *
+     * @return Number of students updated
+     */
+    @Transactional
+    public int updateAllStudentGPAs() {
+        Map<Long, StudentGpa> gpas = calculateGpas(null);
+        List<Student> students = studentRepository.findAll();
+
+        for (Student student : students) {
+            StudentGpa gpa = gpas.get(student.getId());
+            double cumulativeGPA = gpa != null ? gpa.cumulativeGpa() : 0.0;
+            double weightedGPA = gpa != null ? gpa.weightedGpa() : 0.0;
+
+            student.setCurrentGPA(cumulativeGPA);
+            student.setUnweightedGPA(cumulativeGPA);
+            student.setWeightedGPA(weightedGPA);
+        }
+
+        log.info("Updated GPA for {} students", students.size());
+        return students.size();
     }
 
     /**
@@ -218,23 +255,55 @@ public class GpaCalculationService {
      * @return Simple average GPA
      */
     public Double calculateSimpleAverageGPA(Student student) {
-        List<StudentGrade> allGrades = studentGradeRepository.findByStudentOrderByGradeDateDesc(student);
+        return calculateGpa(student).simpleAverageGpa();
+    }
 
-        if (allGrades.isEmpty()) {
-            return 0.0;
+    /**
+     * Running totals of one student's grades for every GPA variant
+     */
+    private final class GpaAccumulator {
+        private final Long studentId;
+        private final String gradeLevel;
+        private double points;
+        private double weightedPoints;
+        private double credits;
+        private double simplePoints;
+        private int simpleCount;
+        // term -> {points, credits}
+        private final Map<String, double[]> terms = new HashMap<>();
+
+        GpaAccumulator(Long studentId, String gradeLevel) {
+            this.studentId = studentId;
+            this.gradeLevel = gradeLevel;
         }
 
-        double totalPoints = 0.0;
-        int count = 0;
-
-        for (StudentGrade grade : allGrades) {
-            Double gradePoints = convertLetterGradeToGPA(grade.getLetterGrade());
-            if (gradePoints != null) {
-                totalPoints += gradePoints;
-                count++;
+        void add(String term, String letterGrade, Double courseCredits, CourseType courseType) {
+            Double gradePoints = convertLetterGradeToGPA(letterGrade);
+            if (gradePoints == null) {
+                return;
             }
+            double gradeCredits = getCourseCredits(courseCredits);
+
+            points += gradePoints * gradeCredits;
+            weightedPoints += (gradePoints + getCourseWeightBonus(courseType)) * gradeCredits;
+            credits += gradeCredits;
+            simplePoints += gradePoints;
+            simpleCount++;
+
+            double[] termTotals = terms.computeIfAbsent(term, t -> new double[2]);
+            termTotals[0] += gradePoints * gradeCredits;
+            termTotals[1] += gradeCredits;
         }
 
-        return count > 0 ? totalPoints / count : 0.0;
+        StudentGpa toStudentGpa() {
+            Map<String, Double> termGpas = new HashMap<>();
+            terms.forEach((term, totals) -> termGpas.put(term, totals[1] > 0 ? totals[0] / totals[1] : 0.0));
+
+            return new StudentGpa(studentId, gradeLevel,
+                credits > 0 ? points / credits : 0.0,
+                credits > 0 ? weightedPoints / credits : 0.0,
+                simpleCount > 0 ? simplePoints / simpleCount : 0.0,
+                termGpas);
+        }
     }
 }
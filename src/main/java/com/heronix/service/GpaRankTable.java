@@ -0,0 +1,362 @@
+package com.heronix.service;
+
+import com.heronix.event.EntityChangeEvent;
+import com.heronix.model.domain.Student;
+import com.heronix.model.domain.StudentGrade;
+import com.heronix.service.GpaCalculationService.StudentGpa;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * GPA Rank Table
+ *
+ * Materialized class ranks by weighted GPA, one table per grade level, so a
+ * rank lookup doesn't recalculate the GPA of every classmate.
+ *
+ * The table is built from one streaming pass over all grades
+ * ({@link GpaCalculationService#calculateGpas(String)}) and then refreshed
+ * incrementally: a committed grade only marks its student as changed, and
+ * every refresh-interval-ms each changed student's GPA is recalculated once,
+ * however many of their grades were saved meanwhile (a whole transcript in
+ * one transaction costs one recalculation, off the request thread). A grade
+ * level change moves the student between tables right away.
+ *
+ * Each grade level keeps a Fenwick tree of student counts by weighted GPA in
+ * thousandths (0.000 - 5.000), so both looking up a rank and moving a student
+ * take O(log n). Students with the same GPA (to three decimals) share a rank:
+ * the rank is one more than the number of classmates with a higher GPA.
+ *
+ * @author Heronix Development Team
+ * @version 1.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@Component
+@Slf4j
+public class GpaRankTable {
+
+    private static final int GPA_SCALE = 1000;
+    private static final int MAX_BUCKET = 5 * GPA_SCALE;
+
+    /**
+     * A student's position in their grade level
+     */
+    public record Standing(Long studentId, String gradeLevel, int rank, int classSize,
+                           double weightedGpa, double cumulativeGpa) {
+    }
+
+    private final GpaCalculationService gpaCalculationService;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Guarded by lock
+    private final Map<Long, StudentGpa> students = new HashMap<>();
+    private final Map<String, RankTree> gradeLevels = new HashMap<>();
+    private boolean built;
+    // Students whose grades changed while a build was loading, refreshed when it finishes
+    private Set<Long> pendingStudents;
+
+    // Students with committed grade changes, recalculated by refreshChanged()
+    private final Set<Long> changedStudents = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Fenwick tree of student counts by GPA bucket
+     */
+    private static final class RankTree {
+        private final int[] tree = new int[MAX_BUCKET + 2];
+        private int size;
+
+        void add(int bucket, int delta) {
+            size += delta;
+            for (int i = bucket + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        /**
+         * Number of students in this bucket or below
+         */
+        int countAtOrBelow(int bucket) {
+            int count = 0;
+            for (int i = bucket + 1; i > 0; i -= i & -i) {
+                count += tree[i];
+            }
+            return count;
+        }
+    }
+
+    public GpaRankTable(GpaCalculationService gpaCalculationService) {
+        this.gpaCalculationService = gpaCalculationService;
+    }
+
+    // ========================================================================
+    // LOOKUPS
+    // ========================================================================
+
+    /**
+     * Get a student's class rank within their grade level
+     *
+     * @return The standing, or empty if the student has no grades
+     */
+    public Optional<Standing> getStanding(Long studentId) {
+        ensureBuilt();
+
+        lock.readLock().lock();
+        try {
+            StudentGpa gpa = students.get(studentId);
+            if (gpa == null) {
+                return Optional.empty();
+            }
+            RankTree tree = gradeLevels.get(gpa.gradeLevel());
+            if (tree == null) {
+                return Optional.empty();
+            }
+            int higher = tree.size - tree.countAtOrBelow(bucketOf(gpa));
+            return Optional.of(new Standing(studentId, gpa.gradeLevel(), higher + 1, tree.size,
+                    gpa.weightedGpa(), gpa.cumulativeGpa()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get the number of ranked students (students with grades) in a grade level
+     */
+    public int getClassSize(String gradeLevel) {
+        ensureBuilt();
+
+        lock.readLock().lock();
+        try {
+            RankTree tree = gradeLevels.get(gradeLevel);
+            return tree != null ? tree.size : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ========================================================================
+    // BUILDING AND UPDATES
+    // ========================================================================
+
+    /**
+     * Build the table in the background once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Async("taskExecutor")
+    public void warmUp() {
+        try {
+            ensureBuilt();
+        } catch (Exception e) {
+            log.error("Failed to build GPA rank table: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Build the table from all grades if it hasn't been built yet
+     */
+    public void ensureBuilt() {
+        if (isBuilt()) {
+            return;
+        }
+        synchronized (this) {
+            if (!isBuilt()) {
+                load();
+            }
+        }
+    }
+
+    private boolean isBuilt() {
+        lock.readLock().lock();
+        try {
+            return built;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void load() {
+        long startTime = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            pendingStudents = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Long, StudentGpa> gpas;
+        try {
+            gpas = gpaCalculationService.calculateGpas(null);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingStudents = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        Set<Long> changed;
+        lock.writeLock().lock();
+        try {
+            changed = pendingStudents;
+            pendingStudents = null;
+            rebuildLocked(gpas.values());
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        for (Long studentId : changed) {
+            refresh(studentId);
+        }
+        log.info("GPA rank table built: {} students in {} grade levels in {}ms",
+                gpas.size(), gradeLevels.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Replace the table contents with the given GPAs
+     */
+    public void rebuild(Collection<StudentGpa> gpas) {
+        lock.writeLock().lock();
+        try {
+            rebuildLocked(gpas);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void rebuildLocked(Collection<StudentGpa> gpas) {
+        students.clear();
+        gradeLevels.clear();
+        for (StudentGpa gpa : gpas) {
+            putLocked(gpa.studentId(), gpa);
+        }
+        built = true;
+    }
+
+    /**
+     * Apply a committed grade or student change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityChangeEvent event) {
+        if (event.getEntity() instanceof StudentGrade grade) {
+            Long studentId = grade.getStudent() != null ? grade.getStudent().getId() : null;
+            if (studentId != null && markChanged(studentId)) {
+                changedStudents.add(studentId);
+            }
+        } else if (event.getEntity() instanceof Student student && student.getId() != null) {
+            lock.writeLock().lock();
+            try {
+                if (pendingStudents != null) {
+                    pendingStudents.add(student.getId());
+                } else if (event.getChangeType() == EntityChangeEvent.ChangeType.DELETED) {
+                    putLocked(student.getId(), null);
+                } else {
+                    moveLocked(student.getId(), student.getGradeLevel());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Recalculate the GPA of each student whose grades changed since the last
+     * run, once per student
+     *
+     * @return Students refreshed
+     */
+    @Scheduled(fixedDelayString = "${heronix.gpa-rank.refresh-interval-ms:1000}")
+    public int refreshChanged() {
+        if (changedStudents.isEmpty()) {
+            return 0;
+        }
+        int refreshed = 0;
+        for (Long studentId : new ArrayList<>(changedStudents)) {
+            // Removed first, so a grade committed during the refresh marks the student again
+            if (!changedStudents.remove(studentId)) {
+                continue;
+            }
+            try {
+                refresh(studentId);
+                refreshed++;
+            } catch (RuntimeException e) {
+                changedStudents.add(studentId);
+                log.warn("Could not refresh GPA rank of student {}, will retry: {}", studentId, e.getMessage());
+                break;
+            }
+        }
+        log.debug("Refreshed GPA ranks of {} students", refreshed);
+        return refreshed;
+    }
+
+    /**
+     * Record a change during a build, or check that there is a built table to refresh
+     */
+    private boolean markChanged(Long studentId) {
+        lock.writeLock().lock();
+        try {
+            if (pendingStudents != null) {
+                pendingStudents.add(studentId);
+                return false;
+            }
+            return built;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Recalculate one student's GPA and move them to their new rank.
+     * Serialized, so a later refresh never applies an older GPA.
+     */
+    private synchronized void refresh(Long studentId) {
+        StudentGpa gpa = gpaCalculationService.calculateGpaById(studentId).orElse(null);
+
+        lock.writeLock().lock();
+        try {
+            putLocked(studentId, gpa);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void moveLocked(Long studentId, String gradeLevel) {
+        StudentGpa gpa = students.get(studentId);
+        if (gpa != null && !Objects.equals(gpa.gradeLevel(), gradeLevel)) {
+            putLocked(studentId, new StudentGpa(studentId, gradeLevel, gpa.cumulativeGpa(), gpa.weightedGpa(),
+                    gpa.simpleAverageGpa(), gpa.termGpas()));
+        }
+    }
+
+    /**
+     * Replace a student's entry; a null GPA removes it
+     */
+    private void putLocked(Long studentId, StudentGpa gpa) {
+        StudentGpa previous = gpa != null ? students.put(studentId, gpa) : students.remove(studentId);
+        if (previous != null && previous.gradeLevel() != null) {
+            RankTree tree = gradeLevels.get(previous.gradeLevel());
+            tree.add(bucketOf(previous), -1);
+            if (tree.size == 0) {
+                gradeLevels.remove(previous.gradeLevel());
+            }
+        }
+        if (gpa != null && gpa.gradeLevel() != null) {
+            gradeLevels.computeIfAbsent(gpa.gradeLevel(), level -> new RankTree()).add(bucketOf(gpa), 1);
+        }
+    }
+
+    private static int bucketOf(StudentGpa gpa) {
+        long bucket = Math.round(gpa.weightedGpa() * GPA_SCALE);
+        return (int) Math.max(0, Math.min(MAX_BUCKET, bucket));
+    }
+}
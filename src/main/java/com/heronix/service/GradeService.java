@@ -406,6 +406,34 @@ public class GradeService {
         return 0;
     }
 
+    /**
+     * Get the class ranks of several students from one load of the student
+     * table, instead of one load and sort per student
+     *
+     * @return Rank by student ID; students without a GPA or rank are left out
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> calculateClassRanks(Collection<Long> studentIds) {
+        Map<Long, Integer> ranks = new HashMap<>();
+        if (studentIds == null || studentIds.isEmpty()) return ranks;
+
+        Set<Long> wanted = new HashSet<>(studentIds);
+        Map<String, List<Student>> byGradeLevel = studentRepository.findAll().stream()
+            .filter(s -> s.getActive() && s.getGradeLevel() != null)
+            .filter(s -> s.getCurrentGPA() != null)
+            .collect(Collectors.groupingBy(Student::getGradeLevel));
+
+        for (List<Student> classmates : byGradeLevel.values()) {
+            classmates.sort((s1, s2) -> Double.compare(s2.getCurrentGPA(), s1.getCurrentGPA())); // Descending
+            for (int i = 0; i < classmates.size(); i++) {
+                if (wanted.contains(classmates.get(i).getId())) {
+                    ranks.put(classmates.get(i).getId(), i + 1);
+                }
+            }
+        }
+        return ranks;
+    }
+
     /**
      * Update class ranks for all students in a grade level
      */
@@ -2,10 +2,13 @@ package com.heronix.service;
 
 import com.heronix.model.domain.*;
 import com.heronix.repository.*;
+import com.heronix.repository.spec.AssignmentGradeSpecifications;
+import com.heronix.repository.spec.CourseSpecifications;
 import lombok.Builder;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -55,6 +58,9 @@ public class GradebookService {
     @Autowired
     private StudentGradeRepository studentGradeRepository;
 
+    @Autowired
+    private BulkWriteService bulkWriteService;
+
     // ========================================================================
     // CATEGORY MANAGEMENT
     // ========================================================================
@@ -227,20 +233,7 @@ public class GradebookService {
                 .assignment(assignment)
                 .build());
 
-        grade.setScore(score);
-        grade.setSubmittedDate(submittedDate != null ? submittedDate : LocalDate.now());
-        grade.setComments(comments);
-        grade.setGradedDate(LocalDate.now());
-        grade.setStatus(AssignmentGrade.GradeStatus.GRADED);
-
-        // Calculate late penalty if applicable
-        if (submittedDate != null && assignment.getDueDate() != null) {
-            double penalty = assignment.calculateLatePenalty(submittedDate);
-            grade.setLatePenalty(penalty);
-            if (penalty > 0) {
-                grade.setStatus(AssignmentGrade.GradeStatus.LATE);
-            }
-        }
+        applyScore(grade, assignment, score, submittedDate, comments, LocalDate.now());
 
         grade = gradeRepository.save(grade);
         log.info("Entered grade {} for student {} on assignment {}",
@@ -251,18 +244,155 @@ public class GradebookService {
 
     /**
      * Bulk enter grades for an assignment
+     *
+     * @return Number of grades entered (inserted, updated or already up to date)
      */
     public int bulkEnterGrades(Long assignmentId, Map<Long, Double> studentScores) {
-        int count = 0;
-        for (Map.Entry<Long, Double> entry : studentScores.entrySet()) {
-            try {
-                enterGrade(entry.getKey(), assignmentId, entry.getValue(), LocalDate.now(), null);
-                count++;
-            } catch (Exception e) {
-                log.error("Failed to enter grade for student {}: {}", entry.getKey(), e.getMessage());
+        LocalDate today = LocalDate.now();
+        List<GradeEntry> entries = new ArrayList<>(studentScores.size());
+        studentScores.forEach((studentId, score) -> entries.add(new GradeEntry(studentId, score, today, null)));
+        return enterGrades(assignmentId, entries).getGradesEntered();
+    }
+
+    /**
+     * Bulk enter grades for an assignment, set-based.
+     *
+     * Loads the assignment, the students and the assignment's existing grades
+     * for those students with one query each, compares them in memory, inserts
+     * the new grades as a JDBC batch ({@link BulkWriteService}) and lets the
+     * changed ones flush as batched updates. Grades whose score, dates and
+     * comments are already up to date aren't written. Each affected student's
+     * course grade is then recalculated once, from one query for all of them.
+     *
+     * When a student appears more than once, the last entry wins.
+     *
+     * @param assignmentId The assignment
+     * @param entries      One entry per student
+     * @return Counts, skipped students and the recalculated course grades
+     */
+    public BulkGradeResult enterGrades(Long assignmentId, List<GradeEntry> entries) {
+        long startTime = System.currentTimeMillis();
+
+        Map<Long, GradeEntry> entriesByStudent = new LinkedHashMap<>();
+        List<Long> skippedStudentIds = new ArrayList<>();
+        for (GradeEntry entry : entries) {
+            if (entry == null || entry.studentId() == null) {
+                skippedStudentIds.add(null);
+            } else {
+                entriesByStudent.put(entry.studentId(), entry);
+            }
+        }
+
+        Assignment assignment = assignmentId != null && !entriesByStudent.isEmpty()
+            ? assignmentRepository.findById(assignmentId).orElse(null)
+            : null;
+        if (assignment == null) {
+            if (!entriesByStudent.isEmpty()) {
+                log.error("Failed to enter grades: assignment not found: {}", assignmentId);
+                skippedStudentIds.addAll(entriesByStudent.keySet());
             }
+            return BulkGradeResult.builder()
+                .assignmentId(assignmentId)
+                .skippedStudentIds(skippedStudentIds)
+                .courseGrades(Map.of())
+                .build();
+        }
+
+        Map<Long, Student> roster = new HashMap<>();
+        for (Student student : studentRepository.findAllById(entriesByStudent.keySet())) {
+            roster.put(student.getId(), student);
         }
-        return count;
+        Map<Long, AssignmentGrade> existingGrades = new HashMap<>();
+        for (AssignmentGrade grade : gradeRepository.findByAssignmentIdAndStudentIdIn(assignmentId, entriesByStudent.keySet())) {
+            existingGrades.put(grade.getStudent().getId(), grade);
+        }
+
+        // Diff in memory
+        LocalDate today = LocalDate.now();
+        List<AssignmentGrade> newGrades = new ArrayList<>();
+        Set<Long> changedStudentIds = new LinkedHashSet<>();
+        int updated = 0;
+        int unchanged = 0;
+        for (GradeEntry entry : entriesByStudent.values()) {
+            AssignmentGrade grade = existingGrades.get(entry.studentId());
+            if (grade == null) {
+                Student student = roster.get(entry.studentId());
+                if (student == null) {
+                    log.error("Failed to enter grade for student {}: student not found", entry.studentId());
+                    skippedStudentIds.add(entry.studentId());
+                    continue;
+                }
+                grade = AssignmentGrade.builder()
+                    .student(student)
+                    .assignment(assignment)
+                    .build();
+                applyScore(grade, assignment, entry.score(), entry.submittedDate(), entry.comments(), today);
+                newGrades.add(grade);
+                changedStudentIds.add(entry.studentId());
+            } else if (applyScore(grade, assignment, entry.score(), entry.submittedDate(), entry.comments(), today)) {
+                updated++;
+                changedStudentIds.add(entry.studentId());
+            } else {
+                unchanged++;
+            }
+        }
+
+        bulkWriteService.insertAll(newGrades);
+
+        Map<Long, StudentCourseGrade> courseGrades = changedStudentIds.isEmpty() || assignment.getCourse() == null
+            ? Map.of()
+            : calculateCourseGrades(changedStudentIds, assignment.getCourse().getId());
+
+        log.info("Bulk entered grades for assignment '{}': {} inserted, {} updated, {} unchanged, {} skipped in {}ms",
+            assignment.getTitle(), newGrades.size(), updated, unchanged, skippedStudentIds.size(),
+            System.currentTimeMillis() - startTime);
+
+        return BulkGradeResult.builder()
+            .assignmentId(assignmentId)
+            .inserted(newGrades.size())
+            .updated(updated)
+            .unchanged(unchanged)
+            .skippedStudentIds(skippedStudentIds)
+            .courseGrades(courseGrades)
+            .build();
+    }
+
+    /**
+     * Set the score of a grade, its submission date (today if null), comments,
+     * late penalty and status
+     *
+     * @return Whether anything changed; an unchanged grade keeps its graded date
+     */
+    private boolean applyScore(AssignmentGrade grade, Assignment assignment, Double score,
+                               LocalDate submittedDate, String comments, LocalDate today) {
+        LocalDate submitted = submittedDate != null ? submittedDate : today;
+        AssignmentGrade.GradeStatus status = AssignmentGrade.GradeStatus.GRADED;
+        Double latePenalty = grade.getLatePenalty();
+
+        // Calculate late penalty if applicable
+        if (submittedDate != null && assignment.getDueDate() != null) {
+            latePenalty = assignment.calculateLatePenalty(submittedDate);
+            if (latePenalty > 0) {
+                status = AssignmentGrade.GradeStatus.LATE;
+            }
+        }
+
+        if (grade.getId() != null
+                && Objects.equals(grade.getScore(), score)
+                && Objects.equals(grade.getSubmittedDate(), submitted)
+                && Objects.equals(grade.getComments(), comments)
+                && Objects.equals(grade.getLatePenalty(), latePenalty)
+                && grade.getStatus() == status) {
+            return false;
+        }
+
+        grade.setScore(score);
+        grade.setSubmittedDate(submitted);
+        grade.setComments(comments);
+        grade.setGradedDate(today);
+        grade.setStatus(status);
+        grade.setLatePenalty(latePenalty);
+        return true;
     }
 
     /**
@@ -298,7 +428,31 @@ public class GradebookService {
     public StudentCourseGrade calculateCourseGrade(Long studentId, Long courseId) {
         List<GradingCategory> categories = getCategoriesForCourse(courseId);
         List<AssignmentGrade> grades = gradeRepository.findForGradebookCalculation(studentId, courseId);
+        return buildCourseGrade(studentId, courseId, categories, grades);
+    }
 
+    /**
+     * Calculate the weighted course grades of several students from one load of
+     * the course's categories and one query for all of their grades
+     *
+     * @return Course grade by student ID
+     */
+    public Map<Long, StudentCourseGrade> calculateCourseGrades(Collection<Long> studentIds, Long courseId) {
+        List<GradingCategory> categories = getCategoriesForCourse(courseId);
+        Map<Long, List<AssignmentGrade>> gradesByStudent = gradeRepository
+            .findForGradebookCalculationByStudents(studentIds, courseId).stream()
+            .collect(Collectors.groupingBy(g -> g.getStudent().getId()));
+
+        Map<Long, StudentCourseGrade> courseGrades = new LinkedHashMap<>();
+        for (Long studentId : studentIds) {
+            courseGrades.put(studentId, buildCourseGrade(studentId, courseId, categories,
+                gradesByStudent.getOrDefault(studentId, List.of())));
+        }
+        return courseGrades;
+    }
+
+    private StudentCourseGrade buildCourseGrade(Long studentId, Long courseId,
+                                                List<GradingCategory> categories, List<AssignmentGrade> grades) {
         if (categories.isEmpty()) {
             return StudentCourseGrade.builder()
                 .studentId(studentId)
@@ -472,6 +626,29 @@ public class GradebookService {
         private int missingAssignments;
     }
 
+    /**
+     * One student's score in a bulk grade entry
+     *
+     * @param submittedDate Submission date for the late penalty; today if null
+     */
+    public record GradeEntry(Long studentId, Double score, LocalDate submittedDate, String comments) {
+    }
+
+    @Data
+    @Builder
+    public static class BulkGradeResult {
+        private Long assignmentId;
+        private int inserted;
+        private int updated;
+        private int unchanged;
+        private List<Long> skippedStudentIds;
+        private Map<Long, StudentCourseGrade> courseGrades;
+
+        public int getGradesEntered() {
+            return inserted + updated + unchanged;
+        }
+    }
+
     @Data
     @Builder
     public static class CategoryGrade {
@@ -509,9 +686,7 @@ public class GradebookService {
                 .orElseThrow(() -> new IllegalArgumentException("Student not found: " + studentId));
 
         // Get all courses for student
-        List<Course> courses = courseRepository.findAll().stream()
-                .filter(c -> c.getStudents() != null && c.getStudents().contains(student))
-                .collect(Collectors.toList());
+        List<Course> courses = courseRepository.findAll(CourseSpecifications.enrolls(studentId));
 
         // Calculate grade for each course
         List<StudentCourseGrade> courseGrades = courses.stream()
@@ -542,9 +717,7 @@ public class GradebookService {
         List<MissingAssignment> missingAssignments = new ArrayList<>();
 
         // Get all assignments for student's courses
-        List<Course> courses = courseRepository.findAll().stream()
-                .filter(c -> c.getStudents() != null && c.getStudents().contains(student))
-                .collect(Collectors.toList());
+        List<Course> courses = courseRepository.findAll(CourseSpecifications.enrolls(studentId));
 
         for (Course course : courses) {
             List<Assignment> assignments = assignmentRepository.findByCourseIdAndPublishedTrueOrderByDueDateDesc(course.getId());
@@ -585,9 +758,7 @@ public class GradebookService {
                 .orElseThrow(() -> new IllegalArgumentException("Student not found: " + studentId));
 
         // Get all course grades
-        List<Course> courses = courseRepository.findAll().stream()
-                .filter(c -> c.getStudents() != null && c.getStudents().contains(student))
-                .collect(Collectors.toList());
+        List<Course> courses = courseRepository.findAll(CourseSpecifications.enrolls(studentId));
 
         for (Course course : courses) {
             StudentCourseGrade grade = calculateCourseGrade(studentId, course.getId());
@@ -638,14 +809,16 @@ public class GradebookService {
                 .orElseThrow(() -> new IllegalArgumentException("Student not found: " + studentId));
 
         // Get all course grades
-        List<Course> courses = courseRepository.findAll().stream()
-                .filter(c -> c.getStudents() != null && c.getStudents().contains(student))
-                .collect(Collectors.toList());
+        List<Course> courses = courseRepository.findAll(CourseSpecifications.enrolls(studentId));
 
         List<StudentCourseGrade> courseGrades = courses.stream()
                 .map(c -> calculateCourseGrade(studentId, c.getId()))
                 .collect(Collectors.toList());
 
+        return buildGpaData(studentId, courseGrades);
+    }
+
+    private StudentGPAData buildGpaData(Long studentId, List<StudentCourseGrade> courseGrades) {
         // Calculate weighted GPA
         double totalGpaPoints = 0.0;
         int totalCourses = 0;
@@ -672,7 +845,10 @@ public class GradebookService {
      * Get academic standing for a student
      */
     public AcademicStanding getStudentAcademicStanding(Long studentId) {
-        StudentGPAData gpaData = calculateStudentGPA(studentId);
+        return buildAcademicStanding(studentId, calculateStudentGPA(studentId));
+    }
+
+    private AcademicStanding buildAcademicStanding(Long studentId, StudentGPAData gpaData) {
         double gpa = gpaData.getCurrentGPA();
 
         String standing;
@@ -721,18 +897,10 @@ public class GradebookService {
                 .orElseThrow(() -> new IllegalArgumentException("Student not found: " + studentId));
 
         // Get all assignments for this student within the date range
-        List<AssignmentGrade> grades = gradeRepository.findAll().stream()
-                .filter(g -> g.getStudent().getId().equals(studentId))
-                .filter(g -> {
-                    Assignment assignment = g.getAssignment();
-                    if (assignment.getDueDate() == null) {
-                        return false;
-                    }
-                    return !assignment.getDueDate().isBefore(startDate) &&
-                           !assignment.getDueDate().isAfter(endDate);
-                })
-                .sorted(Comparator.comparing(g -> g.getAssignment().getDueDate()))
-                .toList();
+        List<AssignmentGrade> grades = gradeRepository.findAll(
+                AssignmentGradeSpecifications.forStudent(studentId)
+                        .and(AssignmentGradeSpecifications.dueBetween(startDate, endDate)),
+                Sort.by("assignment.dueDate"));
 
         // Group by course for per-course trends
         Map<Long, List<AssignmentGrade>> gradesByCourse = grades.stream()
@@ -1168,19 +1336,106 @@ public class GradebookService {
                 log.debug("Could not load comments for student {} course {}: {}", studentId, course.getId(), e.getMessage());
             }
 
-            entries.add(ReportCardEntry.builder()
-                    .courseId(course.getId())
-                    .courseName(course.getCourseName())
-                    .courseCode(course.getCourseCode())
-                    .credits(course.getCredits())
-                    .finalGrade(courseGrade.getFinalPercentage())
-                    .letterGrade(courseGrade.getLetterGrade())
-                    .gpaPoints(courseGrade.getGpaPoints())
-                    .teacher(course.getTeacher() != null ? course.getTeacher().getFullName() : "N/A")
-                    .comments(comments)
-                    .build());
+            entries.add(buildReportCardEntry(course, courseGrade, comments));
+        }
+
+        return buildReportCard(student, termId, entries, gpaData, standing);
+    }
+
+    /**
+     * Generate the report cards of a chunk of students from a few set-based
+     * queries - enrollments, grading categories, assignment grades and
+     * comments are each loaded once for the whole chunk rather than per
+     * student and course
+     *
+     * @param studentIds Students of the chunk; unknown IDs are skipped
+     * @param termId Term, or null for the current term
+     * @return Report card by student ID, in the order given
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ReportCard> generateReportCards(Collection<Long> studentIds, Long termId) {
+        Map<Long, ReportCard> reportCards = new LinkedHashMap<>();
+        if (studentIds == null || studentIds.isEmpty()) return reportCards;
+
+        Map<Long, Student> students = studentRepository.findAllById(studentIds).stream()
+                .collect(Collectors.toMap(Student::getId, s -> s));
+
+        // Enrolled courses by student, in a stable order
+        Map<Long, Course> courses = new HashMap<>();
+        Map<Long, List<Course>> coursesByStudent = new HashMap<>();
+        for (Object[] row : courseRepository.findEnrollmentsByStudentIds(studentIds)) {
+            Course course = (Course) row[1];
+            courses.putIfAbsent(course.getId(), course);
+            coursesByStudent.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add(course);
+        }
+
+        Map<Long, List<GradingCategory>> categoriesByCourse = courses.isEmpty() ? Map.of() :
+                categoryRepository.findByCourseIdInAndActiveTrueOrderByDisplayOrder(courses.keySet()).stream()
+                        .collect(Collectors.groupingBy(c -> c.getCourse().getId()));
+
+        // Grades by student, then course
+        Map<Long, Map<Long, List<AssignmentGrade>>> grades = courses.isEmpty() ? Map.of() :
+                gradeRepository.findForGradebookCalculationByStudentsAndCourses(studentIds, courses.keySet()).stream()
+                        .collect(Collectors.groupingBy(g -> g.getStudent().getId(),
+                                Collectors.groupingBy(g -> g.getAssignment().getCourse().getId())));
+
+        // First non-blank comment by student and course
+        Map<Long, Map<Long, String>> comments = new HashMap<>();
+        for (Object[] row : studentGradeRepository.findCommentsByStudentIds(studentIds)) {
+            String comment = (String) row[2];
+            if (comment != null && !comment.trim().isEmpty()) {
+                comments.computeIfAbsent((Long) row[0], id -> new HashMap<>()).putIfAbsent((Long) row[1], comment);
+            }
         }
 
+        for (Long studentId : studentIds) {
+            Student student = students.get(studentId);
+            if (student == null) {
+                log.warn("Skipping report card for unknown student {}", studentId);
+                continue;
+            }
+
+            List<Course> studentCourses = coursesByStudent.getOrDefault(studentId, List.of()).stream()
+                    .sorted(Comparator.comparing(Course::getId))
+                    .collect(Collectors.toList());
+            Map<Long, List<AssignmentGrade>> studentGrades = grades.getOrDefault(studentId, Map.of());
+            Map<Long, String> studentComments = comments.getOrDefault(studentId, Map.of());
+
+            List<StudentCourseGrade> courseGrades = new ArrayList<>();
+            List<ReportCardEntry> entries = new ArrayList<>();
+            for (Course course : studentCourses) {
+                StudentCourseGrade courseGrade = buildCourseGrade(studentId, course.getId(),
+                        categoriesByCourse.getOrDefault(course.getId(), List.of()),
+                        studentGrades.getOrDefault(course.getId(), List.of()));
+                courseGrades.add(courseGrade);
+                entries.add(buildReportCardEntry(course, courseGrade, studentComments.get(course.getId())));
+            }
+
+            StudentGPAData gpaData = buildGpaData(studentId, courseGrades);
+            reportCards.put(studentId, buildReportCard(student, termId, entries, gpaData,
+                    buildAcademicStanding(studentId, gpaData)));
+        }
+
+        log.debug("Generated {} report cards for term {}", reportCards.size(), termId);
+        return reportCards;
+    }
+
+    private ReportCardEntry buildReportCardEntry(Course course, StudentCourseGrade courseGrade, String comments) {
+        return ReportCardEntry.builder()
+                .courseId(course.getId())
+                .courseName(course.getCourseName())
+                .courseCode(course.getCourseCode())
+                .credits(course.getCredits())
+                .finalGrade(courseGrade.getFinalPercentage())
+                .letterGrade(courseGrade.getLetterGrade())
+                .gpaPoints(courseGrade.getGpaPoints())
+                .teacher(course.getTeacher() != null ? course.getTeacher().getFullName() : "N/A")
+                .comments(comments)
+                .build();
+    }
+
+    private ReportCard buildReportCard(Student student, Long termId, List<ReportCardEntry> entries,
+                                       StudentGPAData gpaData, AcademicStanding standing) {
         // Calculate credits
         double totalCredits = entries.stream()
                 .filter(e -> e.getFinalGrade() >= 60)
@@ -1194,7 +1449,7 @@ public class GradebookService {
         else if (gpaData.getCurrentGPA() >= 3.0) honorRoll = "MERIT";
 
         return ReportCard.builder()
-                .studentId(studentId)
+                .studentId(student.getId())
                 .studentName(student.getFullName())
                 .studentNumber(student.getStudentId())
                 .gradeLevel(student.getGradeLevel())
@@ -1,18 +1,29 @@
 package com.heronix.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.heronix.event.UserAccessChangedEvent;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * JWT Token Service
@@ -43,10 +54,21 @@ import java.util.Map;
  * - Signature validation
  * - Clock skew tolerance (30 seconds)
  *
+ * Verification (Phase 15 - Performance Optimizations):
+ * - {@link #verify} parses and checks a token once and returns all its claims
+ * - Verified tokens are cached by SHA-256 digest (the token itself is not kept),
+ *   bounded in size and never past the token's own expiration
+ * - Revocation: {@link #revoke} for one token (logout), and
+ *   {@link #revokeTokensIssuedBefore} for every token of a user, applied when
+ *   a UserAccessChangedEvent reports a password, role or account change.
+ *   Both are checked on every call, cached or not
+ *
  * Configuration (application.properties):
  * - jwt.secret: Secret key for signing tokens (min 32 characters)
  * - jwt.access-token-validity: Access token validity in hours (default: 1)
  * - jwt.refresh-token-validity: Refresh token validity in days (default: 7)
+ * - jwt.verified-cache.max-size: Verified tokens cached (default: 10000)
+ * - jwt.verified-cache.ttl: Longest a verification is reused (default: 15m)
  *
  * @author Heronix Development Team
  * @version 1.0
@@ -60,13 +82,54 @@ public class JwtTokenService {
     private final long accessTokenValidityHours;
     private final long refreshTokenValidityDays;
 
+    // Thread-safe; built once instead of per call
+    private final JwtParser parser;
+
+    // Token digest -> verified claims
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    // Token digest -> token expiration, for revoked tokens until they expire
+    private final Cache<String, Instant> revokedTokens;
+
+    // User ID -> tokens issued before this instant are revoked
+    private final Cache<String, Instant> revokedBefore;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    /**
+     * Claims of a token whose signature and expiration have been checked
+     *
+     * @param userId Subject
+     * @param roles Role names, empty if none
+     * @param permissions Permission strings, empty if none
+     * @param tokenType "access" or "refresh"
+     * @param campusId Campus the token was issued for, or null
+     * @param issuedAt Issued-at time (second precision), or null
+     * @param expiresAt Expiration time, or null
+     */
+    public record VerifiedToken(String userId, List<String> roles, List<String> permissions,
+                                String tokenType, String campusId, Instant issuedAt, Instant expiresAt) {
+
+        public boolean isExpired(Instant now) {
+            return expiresAt != null && !now.isBefore(expiresAt);
+        }
+    }
+
     /**
      * Constructor with JWT configuration from application properties
      */
     public JwtTokenService(
             @Value("${jwt.secret:heronix-secret-key-minimum-32-characters-required-for-security}") String secret,
             @Value("${jwt.access-token-validity:1}") long accessTokenValidityHours,
-            @Value("${jwt.refresh-token-validity:7}") long refreshTokenValidityDays) {
+            @Value("${jwt.refresh-token-validity:7}") long refreshTokenValidityDays,
+            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheSize,
+            @Value("${jwt.verified-cache.ttl:15m}") Duration verifiedCacheTtl) {
 
         // Ensure secret key is at least 256 bits (32 characters)
         if (secret.length() < 32) {
@@ -76,6 +139,19 @@ public class JwtTokenService {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenValidityHours = accessTokenValidityHours;
         this.refreshTokenValidityDays = refreshTokenValidityDays;
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
+
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(verifiedCacheSize)
+            .expireAfter(new UntilTokenExpires(verifiedCacheTtl))
+            .build();
+        this.revokedTokens = Caffeine.newBuilder()
+            .expireAfter(Expiry.<String, Instant>creating((digest, expiresAt) ->
+                Duration.ofMillis(Math.max(0, Duration.between(Instant.now(), expiresAt).toMillis()))))
+            .build();
+        this.revokedBefore = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofDays(refreshTokenValidityDays))
+            .build();
 
         log.info("JwtTokenService initialized - Access token validity: {} hours, Refresh token validity: {} days",
             accessTokenValidityHours, refreshTokenValidityDays);
@@ -90,6 +166,19 @@ public class JwtTokenService {
      * @return JWT access token string
      */
     public String generateAccessToken(String userId, String[] roles, String[] permissions) {
+        return generateAccessToken(userId, roles, permissions, null);
+    }
+
+    /**
+     * Generate access token for a user acting for a campus
+     *
+     * @param userId User identifier (subject)
+     * @param roles User roles (ADMIN, TEACHER, etc.)
+     * @param permissions API permissions (read:students, write:grades, etc.)
+     * @param campusId Campus the user acts for (campusId claim), or null
+     * @return JWT access token string
+     */
+    public String generateAccessToken(String userId, String[] roles, String[] permissions, String campusId) {
         Instant now = Instant.now();
         Instant expiration = now.plus(accessTokenValidityHours, ChronoUnit.HOURS);
 
@@ -97,6 +186,9 @@ public class JwtTokenService {
         claims.put("roles", roles);
         claims.put("permissions", permissions);
         claims.put("tokenType", "access");
+        if (campusId != null) {
+            claims.put("campusId", campusId);
+        }
 
         return Jwts.builder()
             .subject(userId)
@@ -129,35 +221,51 @@ public class JwtTokenService {
             .compact();
     }
 
+    // ========================================================================
+    // VERIFICATION
+    // ========================================================================
+
+    /**
+     * Verify a token and read its claims: signature, expiration and
+     * revocation are checked, and the token is parsed at most once while
+     * it stays in the cache
+     *
+     * @param token JWT token string
+     * @return Claims, or empty if the token is invalid, expired or revoked
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        String digest = digest(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(digest);
+        if (verified == null) {
+            verified = parse(token);
+            if (verified == null) {
+                return Optional.empty();
+            }
+            verifiedTokens.put(digest, verified);
+        }
+
+        if (verified.isExpired(Instant.now())) {
+            verifiedTokens.invalidate(digest);
+            return Optional.empty();
+        }
+        if (isRevoked(digest, verified)) {
+            log.debug("Rejected revoked JWT token for user: {}", verified.userId());
+            return Optional.empty();
+        }
+        return Optional.of(verified);
+    }
+
     /**
      * Validate JWT token and check expiration
      *
      * @param token JWT token string
-     * @return true if token is valid and not expired
+     * @return true if token is valid, not expired and not revoked
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
-            return true;
-        } catch (ExpiredJwtException e) {
-            log.warn("JWT token expired: {}", e.getMessage());
-            return false;
-        } catch (UnsupportedJwtException e) {
-            log.error("Unsupported JWT token: {}", e.getMessage());
-            return false;
-        } catch (MalformedJwtException e) {
-            log.error("Malformed JWT token: {}", e.getMessage());
-            return false;
-        } catch (SecurityException e) {
-            log.error("Invalid JWT signature: {}", e.getMessage());
-            return false;
-        } catch (IllegalArgumentException e) {
-            log.error("JWT token compact format is invalid: {}", e.getMessage());
-            return false;
-        }
+        return verify(token).isPresent();
     }
 
     /**
@@ -167,12 +275,7 @@ public class JwtTokenService {
      * @return User ID
      */
     public String getUserIdFromToken(String token) {
-        return Jwts.parser()
-            .verifyWith(secretKey)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload()
-            .getSubject();
+        return verified(token).userId();
     }
 
     /**
@@ -181,19 +284,8 @@ public class JwtTokenService {
      * @param token JWT token string
      * @return Array of role names
      */
-    @SuppressWarnings("unchecked")
     public String[] getRolesFromToken(String token) {
-        Claims claims = Jwts.parser()
-            .verifyWith(secretKey)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
-
-        Object roles = claims.get("roles");
-        if (roles instanceof java.util.List) {
-            return ((java.util.List<String>) roles).toArray(new String[0]);
-        }
-        return new String[0];
+        return verified(token).roles().toArray(new String[0]);
     }
 
     /**
@@ -202,19 +294,8 @@ public class JwtTokenService {
      * @param token JWT token string
      * @return Array of permission strings
      */
-    @SuppressWarnings("unchecked")
     public String[] getPermissionsFromToken(String token) {
-        Claims claims = Jwts.parser()
-            .verifyWith(secretKey)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
-
-        Object permissions = claims.get("permissions");
-        if (permissions instanceof java.util.List) {
-            return ((java.util.List<String>) permissions).toArray(new String[0]);
-        }
-        return new String[0];
+        return verified(token).permissions().toArray(new String[0]);
     }
 
     /**
@@ -224,12 +305,8 @@ public class JwtTokenService {
      * @return Expiration date
      */
     public Date getExpirationFromToken(String token) {
-        return Jwts.parser()
-            .verifyWith(secretKey)
-            .build()
-            .parseSignedClaims(token)
-            .getPayload()
-            .getExpiration();
+        Instant expiresAt = verified(token).expiresAt();
+        return expiresAt != null ? Date.from(expiresAt) : null;
     }
 
     /**
@@ -246,4 +323,145 @@ public class JwtTokenService {
             return true;
         }
     }
+
+    // ========================================================================
+    // REVOCATION
+    // ========================================================================
+
+    /**
+     * Revoke one token (logout) until it expires
+     *
+     * @param token JWT token string
+     */
+    public void revoke(String token) {
+        String digest = digest(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(digest);
+        if (verified == null) {
+            verified = parse(token);
+        }
+        Instant expiresAt = verified != null && verified.expiresAt() != null
+            ? verified.expiresAt()
+            : Instant.now().plus(refreshTokenValidityDays, ChronoUnit.DAYS);
+
+        revokedTokens.put(digest, expiresAt);
+        verifiedTokens.invalidate(digest);
+    }
+
+    /**
+     * Revoke every token of a user issued before an instant. Token issue
+     * times have second precision, so tokens from the same second survive:
+     * a login right after a password change keeps working.
+     *
+     * @param userId User ID (token subject)
+     * @param instant Revocation time
+     */
+    public void revokeTokensIssuedBefore(String userId, Instant instant) {
+        revokedBefore.asMap().merge(userId, instant.truncatedTo(ChronoUnit.SECONDS),
+            (current, added) -> added.isAfter(current) ? added : current);
+        log.info("Revoked JWT tokens of user {} issued before {}", userId, instant);
+    }
+
+    /**
+     * Password, role, permission or account status changes invalidate the
+     * user's outstanding tokens
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccessChanged(UserAccessChangedEvent event) {
+        revokeTokensIssuedBefore(event.getUsername(), Instant.ofEpochMilli(event.getTimestamp()));
+    }
+
+    private boolean isRevoked(String digest, VerifiedToken verified) {
+        if (revokedTokens.getIfPresent(digest) != null) {
+            return true;
+        }
+        Instant before = verified.userId() != null ? revokedBefore.getIfPresent(verified.userId()) : null;
+        return before != null && (verified.issuedAt() == null || verified.issuedAt().isBefore(before));
+    }
+
+    // ========================================================================
+    // HELPER METHODS
+    // ========================================================================
+
+    /**
+     * Parse and verify a token
+     *
+     * @return Claims, or null if the token is invalid or expired
+     */
+    private VerifiedToken parse(String token) {
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            return new VerifiedToken(
+                claims.getSubject(),
+                stringList(claims.get("roles")),
+                stringList(claims.get("permissions")),
+                claims.get("tokenType", String.class),
+                claims.get("campusId", String.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+        } catch (ExpiredJwtException e) {
+            log.warn("JWT token expired: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            log.error("Unsupported JWT token: {}", e.getMessage());
+        } catch (MalformedJwtException e) {
+            log.error("Malformed JWT token: {}", e.getMessage());
+        } catch (SecurityException e) {
+            log.error("Invalid JWT signature: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.error("JWT token compact format is invalid: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    private VerifiedToken verified(String token) {
+        return verify(token).orElseThrow(() -> new JwtException("JWT token is invalid, expired or revoked"));
+    }
+
+    private static List<String> stringList(Object value) {
+        if (value instanceof List<?> list) {
+            return list.stream().map(String::valueOf).toList();
+        }
+        return List.of();
+    }
+
+    /**
+     * Cache key of a token: its SHA-256, so cached entries don't hold
+     * usable tokens
+     */
+    private static String digest(String token) {
+        MessageDigest sha256 = SHA_256.get();
+        sha256.reset();
+        byte[] hash = sha256.digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    /**
+     * Cached verifications expire with the token, and after the TTL at most
+     */
+    private static final class UntilTokenExpires implements Expiry<String, VerifiedToken> {
+
+        private final long ttlNanos;
+
+        private UntilTokenExpires(Duration ttl) {
+            this.ttlNanos = ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String digest, VerifiedToken token, long currentTime) {
+            if (token.expiresAt() == null) {
+                return ttlNanos;
+            }
+            long untilExpiry = Duration.between(Instant.now(), token.expiresAt()).toNanos();
+            return Math.max(0, Math.min(ttlNanos, untilExpiry));
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(digest, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String digest, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
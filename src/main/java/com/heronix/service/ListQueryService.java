@@ -0,0 +1,172 @@
+package com.heronix.service;
+
+import com.heronix.api.dto.*;
+import com.heronix.model.domain.AuditLog.AuditAction;
+import com.heronix.model.domain.CourseSection.SectionStatus;
+import com.heronix.repository.*;
+import com.heronix.util.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * List Query Service
+ *
+ * Paged, projected reads behind the list endpoints of the REST API:
+ * students, teachers, courses, sections, attendance, grades and audit logs.
+ *
+ * Every list is read with keyset (seek) pagination on an indexed sort key
+ * and a constructor projection of only the columns the list returns, so a
+ * page costs one short query however deep the client pages, and no entity
+ * graph or lazy collection is ever loaded or serialized.
+ *
+ * Sort keys:
+ * - Students, teachers, courses, sections, grades: ID
+ * - Attendance: date, then ID (within the requested date range)
+ * - Audit logs: timestamp, then ID, newest first
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ListQueryService {
+
+    // First page of a newest-first list: before any real timestamp
+    private static final LocalDateTime END_OF_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final StudentRepository studentRepository;
+    private final TeacherRepository teacherRepository;
+    private final CourseRepository courseRepository;
+    private final CourseSectionRepository courseSectionRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final StudentGradeRepository studentGradeRepository;
+    private final AuditLogRepository auditLogRepository;
+
+    // ========================================================================
+    // ID-ORDERED LISTS
+    // ========================================================================
+
+    public CursorPageDTO<StudentRowDTO> listStudents(String cursor, Integer limit,
+                                                     String gradeLevel, Boolean active) {
+        int size = KeysetCursor.clampLimit(limit);
+        List<StudentRowDTO> rows = studentRepository.findRowsAfter(
+                afterId(cursor), gradeLevel, active, fetch(size));
+        return KeysetCursor.page(rows, size, row -> KeysetCursor.of(row.id()));
+    }
+
+    public CursorPageDTO<TeacherRowDTO> listTeachers(String cursor, Integer limit,
+                                                     String department, Boolean active) {
+        int size = KeysetCursor.clampLimit(limit);
+        List<TeacherRowDTO> rows = teacherRepository.findRowsAfter(
+                afterId(cursor), department, active, fetch(size));
+        return KeysetCursor.page(rows, size, row -> KeysetCursor.of(row.id()));
+    }
+
+    public CursorPageDTO<CourseRowDTO> listCourses(String cursor, Integer limit,
+                                                   String subject, Boolean active) {
+        int size = KeysetCursor.clampLimit(limit);
+        List<CourseRowDTO> rows = courseRepository.findRowsAfter(
+                afterId(cursor), subject, active, fetch(size));
+        return KeysetCursor.page(rows, size, row -> KeysetCursor.of(row.id()));
+    }
+
+    public CursorPageDTO<SectionRowDTO> listSections(String cursor, Integer limit,
+                                                     Long courseId, SectionStatus status) {
+        int size = KeysetCursor.clampLimit(limit);
+        List<SectionRowDTO> rows = courseSectionRepository.findRowsAfter(
+                afterId(cursor), courseId, status, fetch(size));
+        return KeysetCursor.page(rows, size, row -> KeysetCursor.of(row.id()));
+    }
+
+    public CursorPageDTO<GradeRowDTO> listGrades(String cursor, Integer limit,
+                                                 Long studentId, String term) {
+        int size = KeysetCursor.clampLimit(limit);
+        List<GradeRowDTO> rows = studentGradeRepository.findRowsAfter(
+                afterId(cursor), studentId, term, fetch(size));
+        return KeysetCursor.page(rows, size, row -> KeysetCursor.of(row.id()));
+    }
+
+    // ========================================================================
+    // COMPOUND-KEY LISTS
+    // ========================================================================
+
+    /**
+     * Attendance in a date range, by date then ID
+     *
+     * @param startDate First day, default today
+     * @param endDate Last day, default startDate
+     */
+    public CursorPageDTO<AttendanceRowDTO> listAttendance(String cursor, Integer limit,
+                                                          LocalDate startDate, LocalDate endDate,
+                                                          Long studentId, Long courseId) {
+        int size = KeysetCursor.clampLimit(limit);
+        LocalDate start = startDate != null ? startDate : LocalDate.now();
+        LocalDate end = endDate != null ? endDate : start;
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("endDate is before startDate");
+        }
+
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        LocalDate afterDate = position != null ? parse(position.sortValue(), LocalDate::parse) : start;
+        long afterId = position != null ? position.id() : 0L;
+
+        List<AttendanceRowDTO> rows = attendanceRepository.findRowsAfter(
+                start, end, afterDate, afterId, studentId, courseId, fetch(size));
+        return KeysetCursor.page(rows, size, row -> KeysetCursor.of(row.date(), row.id()));
+    }
+
+    /**
+     * Audit log, newest first
+     */
+    public CursorPageDTO<AuditLogRowDTO> listAuditLogs(String cursor, Integer limit,
+                                                       String username, AuditAction action) {
+        int size = KeysetCursor.clampLimit(limit);
+
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        LocalDateTime beforeTimestamp = position != null
+                ? parse(position.sortValue(), LocalDateTime::parse)
+                : END_OF_TIME;
+        long beforeId = position != null ? position.id() : Long.MAX_VALUE;
+
+        List<AuditLogRowDTO> rows = auditLogRepository.findRowsBefore(
+                beforeTimestamp, beforeId, username, action, fetch(size));
+        return KeysetCursor.page(rows, size, row -> KeysetCursor.of(row.timestamp(), row.id()));
+    }
+
+    // ========================================================================
+    // HELPER METHODS
+    // ========================================================================
+
+    /**
+     * One row more than the page, to learn whether there is a next page
+     */
+    private static PageRequest fetch(int size) {
+        return PageRequest.of(0, size + 1);
+    }
+
+    private static long afterId(String cursor) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        return position != null ? position.id() : 0L;
+    }
+
+    private static <T> T parse(String value, Function<String, T> parser) {
+        if (value == null) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        try {
+            return parser.apply(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.heronix.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Rate Limit Lease Store
+ *
+ * Shared token buckets in the rate_limit_buckets table, for deployments with
+ * more than one application node (heronix.rate-limit.shared.enabled=true).
+ *
+ * Nodes don't go to the database per request: each node leases a block of
+ * tokens (a few percent of the limit) and spends it locally, returning for
+ * another block when it runs out. A limit can therefore be exceeded by at
+ * most one unspent lease per node, and a node's unspent lease is lost if it
+ * goes idle long enough for its local bucket to expire.
+ *
+ * A lease locks the bucket's row for the length of one short transaction
+ * (SELECT ... FOR UPDATE); the row refills from its refilled_at time the
+ * same way {@link com.heronix.util.LockFreeTokenBucket} does.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "heronix.rate-limit.shared.enabled", havingValue = "true")
+public class RateLimitLeaseStore {
+
+    private static final String CREATE_TABLE =
+            "CREATE TABLE IF NOT EXISTS rate_limit_buckets (" +
+            "bucket_key VARCHAR(255) PRIMARY KEY, " +
+            "tokens BIGINT NOT NULL, " +
+            "refilled_at BIGINT NOT NULL)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public RateLimitLeaseStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Create the table where Flyway doesn't manage the schema (V4 creates it)
+     */
+    @PostConstruct
+    public void createTable() {
+        jdbcTemplate.execute(CREATE_TABLE);
+        log.info("Rate limits shared through the rate_limit_buckets table");
+    }
+
+    /**
+     * Take up to wanted tokens from a shared bucket
+     *
+     * @param key Bucket key (limit and identifier)
+     * @param capacity Limit
+     * @param periodMillis Time to refill from empty
+     * @param wanted Tokens to lease
+     * @param nowMillis Current time
+     * @return Tokens granted, 0 if the bucket is empty
+     */
+    public long lease(String key, long capacity, long periodMillis, long wanted, long nowMillis) {
+        try {
+            return transactionTemplate.execute(status -> leaseInTransaction(key, capacity, periodMillis, wanted, nowMillis));
+        } catch (DuplicateKeyException e) {
+            // Another node created the row first
+            return transactionTemplate.execute(status -> leaseInTransaction(key, capacity, periodMillis, wanted, nowMillis));
+        }
+    }
+
+    private long leaseInTransaction(String key, long capacity, long periodMillis, long wanted, long nowMillis) {
+        List<long[]> rows = jdbcTemplate.query(
+                "SELECT tokens, refilled_at FROM rate_limit_buckets WHERE bucket_key = ? FOR UPDATE",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, key);
+
+        if (rows.isEmpty()) {
+            long granted = Math.min(wanted, capacity);
+            jdbcTemplate.update("INSERT INTO rate_limit_buckets (bucket_key, tokens, refilled_at) VALUES (?, ?, ?)",
+                    key, capacity - granted, nowMillis);
+            return granted;
+        }
+
+        long tokens = rows.get(0)[0];
+        long refilledAt = rows.get(0)[1];
+        long elapsed = Math.max(0, nowMillis - refilledAt);
+        if (tokens >= capacity || elapsed >= periodMillis) {
+            tokens = capacity;
+            refilledAt = nowMillis;
+        } else {
+            long earned = elapsed * capacity / periodMillis;
+            if (earned > 0) {
+                tokens = Math.min(capacity, tokens + earned);
+                refilledAt = tokens == capacity ? nowMillis : refilledAt + earned * periodMillis / capacity;
+            }
+        }
+
+        long granted = Math.min(wanted, tokens);
+        jdbcTemplate.update("UPDATE rate_limit_buckets SET tokens = ?, refilled_at = ? WHERE bucket_key = ?",
+                tokens - granted, refilledAt, key);
+        return granted;
+    }
+
+    /**
+     * Remove a shared bucket (admin reset)
+     */
+    public void delete(String key) {
+        jdbcTemplate.update("DELETE FROM rate_limit_buckets WHERE bucket_key = ?", key);
+    }
+}
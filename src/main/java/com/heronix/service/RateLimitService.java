@@ -1,49 +1,57 @@
 package com.heronix.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.heronix.util.LockFreeTokenBucket;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
 
 /**
  * Rate Limiting Service
  *
- * Implements token bucket algorithm for API rate limiting.
- * Prevents API abuse by limiting the number of requests per time window.
+ * The rate limiter behind RateLimitFilter (API keys, users, campuses) and
+ * RateLimitingFilter (login, password reset, API and report requests).
  *
  * Token Bucket Algorithm:
- * - Each client has a bucket with a maximum capacity (rate limit)
- * - Bucket starts full and refills at a constant rate
- * - Each request consumes one token
- * - If bucket is empty, request is rejected (HTTP 429 Too Many Requests)
- * - Tokens refill over time up to maximum capacity
+ * - Each key (limit + identifier) has a bucket holding up to the limit
+ * - Bucket starts full and refills continuously: empty to full in the
+ *   limit's period
+ * - Each request consumes one token; an empty bucket rejects the request
+ *   (HTTP 429 Too Many Requests)
  *
- * Rate Limiting Strategies:
- * - Per API Key: Each API key has its own rate limit
- * - Per Endpoint: Different endpoints can have different limits
- * - Per User: User-based rate limiting for authenticated requests
- * - Global: Overall system rate limit
+ * Implementation (Phase 15 - Performance Optimizations):
+ * - Buckets are {@link LockFreeTokenBucket}s: one CAS per request, no locks
+ * - Buckets live in a Caffeine table bounded by heronix.rate-limit.max-keys.
+ *   A bucket expires once it has been idle for its limit's period - by then
+ *   it would be full again, so nothing is lost and no cleanup sweep is needed
+ * - Hierarchical limits: {@link #tryAcquire(List)} checks several limits
+ *   (e.g. API key, its owner and the campus) and admits the request only if
+ *   all allow it; tokens already taken are put back when a later one denies
+ * - Shared mode (heronix.rate-limit.shared.enabled=true): buckets are fed by
+ *   token leases from {@link RateLimitLeaseStore} so limits hold across
+ *   nodes. If the database fails, limits fall back to this node's buckets
  *
- * Features:
- * - Thread-safe concurrent implementation
- * - Configurable bucket capacity and refill rate
- * - Automatic cleanup of old buckets
- * - Rate limit headers in responses (X-RateLimit-Remaining, X-RateLimit-Reset)
- *
- * Configuration:
- * - Rate limits are stored per API key in database
- * - Default rate limit: 1000 requests per hour
- * - Burst capacity: Same as rate limit
- *
- * HTTP Headers:
- * - X-RateLimit-Limit: Maximum requests per hour
- * - X-RateLimit-Remaining: Remaining requests in current window
- * - X-RateLimit-Reset: Unix timestamp when limit resets
+ * HTTP Headers (set by the filters from {@link Decision}):
+ * - X-RateLimit-Limit: Limit that is closest to running out
+ * - X-RateLimit-Remaining: Requests left under that limit
+ * - X-RateLimit-Reset: Unix timestamp when that limit is full again
  *
  * Example Usage:
- * if (!rateLimitService.allowRequest(apiKeyId, rateLimit)) {
+ * Decision decision = rateLimitService.tryAcquire(Limit.perHour("apikey", 1000), keyId);
+ * if (!decision.allowed()) {
  *     return ResponseEntity.status(429).body("Too many requests");
  * }
  *
@@ -53,188 +61,264 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 @Service
 @Slf4j
-public class RateLimitService {
-
-    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+public class RateLimitService implements MeterBinder {
 
     /**
-     * Check if request is allowed under rate limit
+     * A rate limit: capacity requests, refilled over period
      *
-     * @param identifier Unique identifier (API key ID, user ID, etc.)
-     * @param maxRequestsPerHour Maximum requests allowed per hour
-     * @return true if request is allowed, false if rate limit exceeded
+     * @param name Distinguishes limits for the same identifier (login, apikey, ...)
+     * @param capacity Requests allowed in a burst
+     * @param period Time to refill from empty to capacity
      */
-    public boolean allowRequest(String identifier, int maxRequestsPerHour) {
-        TokenBucket bucket = buckets.computeIfAbsent(identifier,
-            k -> new TokenBucket(maxRequestsPerHour));
+    public record Limit(String name, long capacity, Duration period) {
 
-        boolean allowed = bucket.tryConsume();
+        public static Limit perMinute(String name, long capacity) {
+            return new Limit(name, capacity, Duration.ofMinutes(1));
+        }
 
-        if (!allowed) {
-            log.warn("Rate limit exceeded for identifier: {} (limit: {} req/hour)",
-                identifier, maxRequestsPerHour);
+        public static Limit perHour(String name, long capacity) {
+            return new Limit(name, capacity, Duration.ofHours(1));
         }
+    }
 
-        return allowed;
+    /**
+     * One limit applied to one identifier
+     */
+    public record Tier(Limit limit, String identifier) {
     }
 
     /**
-     * Get remaining requests for identifier
+     * Outcome of a rate limit check
      *
-     * @param identifier Unique identifier
-     * @param maxRequestsPerHour Maximum requests per hour
-     * @return Number of remaining requests
+     * @param allowed Whether the request may proceed
+     * @param limit The limit that denied the request, or the one closest to running out
+     * @param remaining Requests left under that limit
+     * @param resetTime Unix timestamp (seconds) when that limit is full again
      */
-    public long getRemainingRequests(String identifier, int maxRequestsPerHour) {
-        TokenBucket bucket = buckets.computeIfAbsent(identifier,
-            k -> new TokenBucket(maxRequestsPerHour));
-        return bucket.getAvailableTokens();
+    public record Decision(boolean allowed, Limit limit, long remaining, long resetTime) {
     }
 
+    private record BucketKey(Limit limit, String identifier) {
+
+        String storeKey() {
+            return limit.name() + ":" + limit.capacity() + "/" + limit.period().toSeconds() + ":" + identifier;
+        }
+    }
+
+    // After a failed lease, limit locally for this long before trying the store again
+    private static final long SHARED_RETRY_MILLIS = 5_000;
+
+    // Part of a limit leased from the shared store at a time
+    private final double leaseFraction;
+
+    private final Cache<BucketKey, LockFreeTokenBucket> buckets;
+    private final RateLimitLeaseStore leaseStore;
+    private final LongSupplier clock;
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder leaseFailures = new LongAdder();
+    private volatile long sharedRetryAt;
+
+    @Autowired
+    public RateLimitService(
+            @Value("${heronix.rate-limit.max-keys:100000}") long maxKeys,
+            @Value("${heronix.rate-limit.shared.lease-percent:5}") int leasePercent,
+            Optional<RateLimitLeaseStore> leaseStore) {
+        this(maxKeys, leasePercent, leaseStore.orElse(null), System::currentTimeMillis);
+    }
+
+    RateLimitService(long maxKeys, int leasePercent, RateLimitLeaseStore leaseStore, LongSupplier clock) {
+        this.leaseFraction = Math.max(1, Math.min(100, leasePercent)) / 100.0;
+        this.leaseStore = leaseStore;
+        this.clock = clock;
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maxKeys)
+            .expireAfter(Expiry.<BucketKey, LockFreeTokenBucket>accessing((key, bucket) -> key.limit().period()))
+            .ticker(() -> clock.getAsLong() * 1_000_000L)
+            .build();
+    }
+
+    // ========================================================================
+    // RATE LIMIT CHECKS
+    // ========================================================================
+
     /**
-     * Get reset time for rate limit window
-     *
-     * @param identifier Unique identifier
-     * @return Unix timestamp when rate limit resets
+     * Take one request from a single limit
      */
-    public long getResetTime(String identifier) {
-        TokenBucket bucket = buckets.get(identifier);
-        if (bucket == null) {
-            return Instant.now().plusSeconds(3600).getEpochSecond();
+    public Decision tryAcquire(Limit limit, String identifier) {
+        long now = clock.getAsLong();
+        BucketKey key = new BucketKey(limit, identifier);
+        LockFreeTokenBucket bucket = bucket(key, now);
+        long remaining = acquire(key, bucket, now);
+        if (remaining < 0) {
+            denied.increment();
+            return new Decision(false, limit, 0, resetTime(key, bucket, now));
         }
-        return bucket.getResetTime();
+        allowed.increment();
+        return new Decision(true, limit, remaining, resetTime(key, bucket, now));
     }
 
     /**
-     * Clear rate limit for identifier (admin function)
+     * Take one request from every tier, or from none of them
      *
-     * @param identifier Unique identifier
+     * @param tiers Limits to apply, most specific first
+     * @return The denying tier's decision, or the tightest tier's if allowed
      */
-    public void clearRateLimit(String identifier) {
-        buckets.remove(identifier);
-        log.info("Cleared rate limit for identifier: {}", identifier);
+    public Decision tryAcquire(List<Tier> tiers) {
+        if (tiers.size() == 1) {
+            return tryAcquire(tiers.get(0).limit(), tiers.get(0).identifier());
+        }
+        long now = clock.getAsLong();
+        BucketKey[] keys = new BucketKey[tiers.size()];
+        LockFreeTokenBucket[] taken = new LockFreeTokenBucket[tiers.size()];
+        int tightest = -1;
+        long tightestRemaining = Long.MAX_VALUE;
+
+        for (int i = 0; i < tiers.size(); i++) {
+            keys[i] = new BucketKey(tiers.get(i).limit(), tiers.get(i).identifier());
+            LockFreeTokenBucket bucket = bucket(keys[i], now);
+            long remaining = acquire(keys[i], bucket, now);
+            if (remaining < 0) {
+                for (int j = 0; j < i; j++) {
+                    taken[j].add(1, now);
+                }
+                denied.increment();
+                return new Decision(false, keys[i].limit(), 0, resetTime(keys[i], bucket, now));
+            }
+            taken[i] = bucket;
+            if (remaining < tightestRemaining) {
+                tightest = i;
+                tightestRemaining = remaining;
+            }
+        }
+
+        allowed.increment();
+        return new Decision(true, keys[tightest].limit(), tightestRemaining,
+            resetTime(keys[tightest], taken[tightest], now));
     }
 
     /**
-     * Clean up old buckets that haven't been used recently
-     * Should be called periodically (e.g., via scheduled task)
+     * Requests left under a limit, without taking one
      */
-    public void cleanupOldBuckets() {
-        long now = Instant.now().getEpochSecond();
-        long oneHourAgo = now - 3600;
+    public long getRemainingRequests(Limit limit, String identifier) {
+        LockFreeTokenBucket bucket = buckets.getIfPresent(new BucketKey(limit, identifier));
+        return bucket != null ? bucket.available(clock.getAsLong()) : limit.capacity();
+    }
 
-        buckets.entrySet().removeIf(entry -> {
-            TokenBucket bucket = entry.getValue();
-            return bucket.getLastRefillTime() < oneHourAgo;
+    /**
+     * Clear every limit of an identifier (admin function)
+     *
+     * @param identifier Unique identifier
+     */
+    public void clearRateLimit(String identifier) {
+        buckets.asMap().keySet().removeIf(key -> {
+            if (!key.identifier().equals(identifier)) {
+                return false;
+            }
+            if (leaseStore != null) {
+                leaseStore.delete(key.storeKey());
+            }
+            return true;
         });
-
-        log.debug("Cleaned up old rate limit buckets. Current buckets: {}", buckets.size());
+        log.info("Cleared rate limit for identifier: {}", identifier);
     }
 
     /**
-     * Token Bucket Implementation
-     * Thread-safe token bucket for rate limiting
+     * Buckets currently held (approximate)
      */
-    private static class TokenBucket {
-        private final long capacity;
-        private final double refillRate; // tokens per second
-        private volatile long availableTokens;
-        private volatile long lastRefillTimestamp;
-
-        /**
-         * Create token bucket with capacity in requests per hour
-         *
-         * @param requestsPerHour Maximum requests per hour
-         */
-        public TokenBucket(int requestsPerHour) {
-            this.capacity = requestsPerHour;
-            this.refillRate = requestsPerHour / 3600.0; // Convert to tokens per second
-            this.availableTokens = requestsPerHour; // Start with full bucket
-            this.lastRefillTimestamp = Instant.now().getEpochSecond();
-        }
+    public long getBucketCount() {
+        return buckets.estimatedSize();
+    }
 
-        /**
-         * Try to consume one token from bucket
-         *
-         * @return true if token was consumed, false if bucket is empty
-         */
-        public synchronized boolean tryConsume() {
-            refill();
-
-            if (availableTokens > 0) {
-                availableTokens--;
-                return true;
-            }
+    // ========================================================================
+    // METRICS
+    // ========================================================================
 
-            return false;
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "rate.limit.requests", "allowed", "Requests admitted by the rate limiter", allowed);
+        counter(registry, "rate.limit.requests", "denied", "Requests rejected by the rate limiter", denied);
+        if (leaseStore != null) {
+            counter(registry, "rate.limit.leases", "granted", "Token leases taken from the shared store", leases);
+            counter(registry, "rate.limit.leases", "failed", "Token leases that failed", leaseFailures);
         }
+        Gauge.builder("rate.limit.buckets", buckets, Cache::estimatedSize)
+            .description("Rate limit buckets held in memory")
+            .register(registry);
+    }
 
-        /**
-         * Get number of available tokens
-         */
-        public synchronized long getAvailableTokens() {
-            refill();
-            return availableTokens;
-        }
+    private void counter(MeterRegistry registry, String meter, String outcome, String description, LongAdder count) {
+        FunctionCounter.builder(meter, count, LongAdder::sum)
+            .tag("outcome", outcome)
+            .description(description)
+            .register(registry);
+    }
 
-        /**
-         * Get reset time (when bucket will be full again)
-         */
-        public synchronized long getResetTime() {
-            refill();
-            if (availableTokens >= capacity) {
-                return Instant.now().getEpochSecond();
-            }
+    // ========================================================================
+    // HELPER METHODS
+    // ========================================================================
 
-            long tokensNeeded = capacity - availableTokens;
-            long secondsToRefill = (long) (tokensNeeded / refillRate);
-            return Instant.now().getEpochSecond() + secondsToRefill;
+    private LockFreeTokenBucket bucket(BucketKey key, long now) {
+        LockFreeTokenBucket bucket = buckets.getIfPresent(key);
+        if (bucket != null) {
+            return bucket;
         }
+        return buckets.get(key, k -> leaseStore != null
+            ? LockFreeTokenBucket.leased(leaseSize(k.limit()), now)
+            : LockFreeTokenBucket.full(k.limit().capacity(), k.limit().period().toMillis(), now));
+    }
 
-        /**
-         * Get last refill timestamp
-         */
-        public long getLastRefillTime() {
-            return lastRefillTimestamp;
+    /**
+     * Take one token; in shared mode lease more from the store when the
+     * local bucket is empty
+     *
+     * @return Tokens left, or -1 if denied
+     */
+    private long acquire(BucketKey key, LockFreeTokenBucket bucket, long now) {
+        long remaining = bucket.tryAcquire(1, now);
+        if (remaining >= 0 || leaseStore == null) {
+            return remaining;
         }
-
-        /**
-         * Refill tokens based on elapsed time
-         */
-        private void refill() {
-            long now = Instant.now().getEpochSecond();
-            long elapsedSeconds = now - lastRefillTimestamp;
-
-            if (elapsedSeconds > 0) {
-                long tokensToAdd = (long) (elapsedSeconds * refillRate);
-                availableTokens = Math.min(capacity, availableTokens + tokensToAdd);
-                lastRefillTimestamp = now;
+        if (now < sharedRetryAt) {
+            return acquireLocally(key, now);
+        }
+        try {
+            long granted = leaseStore.lease(key.storeKey(), key.limit().capacity(),
+                key.limit().period().toMillis(), bucket.capacity(), now);
+            if (granted == 0) {
+                return -1;
             }
+            leases.increment();
+            bucket.add(granted, now);
+            return bucket.tryAcquire(1, now);
+        } catch (RuntimeException e) {
+            leaseFailures.increment();
+            sharedRetryAt = now + SHARED_RETRY_MILLIS;
+            log.warn("Shared rate limits unavailable, limiting on this node for {} ms: {}",
+                SHARED_RETRY_MILLIS, e.getMessage());
+            return acquireLocally(key, now);
         }
     }
 
     /**
-     * Rate limit result with details for HTTP headers
+     * Same limit kept on this node while the shared store is unavailable;
+     * the name keeps it apart from the leased bucket
      */
-    public record RateLimitResult(
-        boolean allowed,
-        long limit,
-        long remaining,
-        long resetTime
-    ) {}
+    private long acquireLocally(BucketKey key, long now) {
+        Limit local = new Limit(key.limit().name() + "@local", key.limit().capacity(), key.limit().period());
+        return buckets.get(new BucketKey(local, key.identifier()),
+                k -> LockFreeTokenBucket.full(local.capacity(), local.period().toMillis(), now))
+            .tryAcquire(1, now);
+    }
 
-    /**
-     * Check rate limit and return detailed result
-     *
-     * @param identifier Unique identifier
-     * @param maxRequestsPerHour Maximum requests per hour
-     * @return Rate limit result with details
-     */
-    public RateLimitResult checkRateLimit(String identifier, int maxRequestsPerHour) {
-        boolean allowed = allowRequest(identifier, maxRequestsPerHour);
-        long remaining = getRemainingRequests(identifier, maxRequestsPerHour);
-        long resetTime = getResetTime(identifier);
+    private long leaseSize(Limit limit) {
+        return Math.max(1, Math.min(LockFreeTokenBucket.MAX_CAPACITY, (long) (limit.capacity() * leaseFraction)));
+    }
 
-        return new RateLimitResult(allowed, maxRequestsPerHour, remaining, resetTime);
+    private long resetTime(BucketKey key, LockFreeTokenBucket bucket, long now) {
+        long millis = leaseStore != null ? key.limit().period().toMillis() : bucket.millisUntilFull(now);
+        return (now + millis + 999) / 1000;
     }
 }
@@ -0,0 +1,371 @@
+package com.heronix.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Report Artifact Store
+ *
+ * Content-addressed, size-bounded disk store for generated reports. The
+ * persistent tier of {@link ReportCacheService}.
+ *
+ * Layout under the store directory:
+ * - blobs/ab/abcdef...  report content, named by its SHA-256
+ * - keys/&lt;sha256 of key&gt;.ref  cache key, content hash, size and time cached
+ *
+ * Reports with identical content share one blob, whatever their keys. The
+ * ref files are the index: it's rebuilt from them on startup, so cached
+ * reports survive a restart. Least recently used keys are evicted once the
+ * blobs exceed the capacity; a blob is deleted with its last key.
+ *
+ * Reads map the blob into memory or transfer it straight to a channel, so
+ * large reports are never copied through the Java heap on the way out.
+ *
+ * Thread-safe: the index is guarded by the store's lock; hashing and
+ * writing content happen outside it.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@Slf4j
+public class ReportArtifactStore {
+
+    private static final String REF_SUFFIX = ".ref";
+
+    private final Path blobsDir;
+    private final Path keysDir;
+    private final Path tempDir;
+    private final long capacityBytes;
+
+    // Access-ordered: iteration starts at the least recently used key
+    private final LinkedHashMap<String, Artifact> index = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<String, Integer> blobReferences = new HashMap<>();
+    private long blobBytes;
+
+    /**
+     * A cached report on disk
+     */
+    public record Artifact(String key, String contentHash, long size, Instant cachedAt, Path file) {
+    }
+
+    public ReportArtifactStore(Path directory, long capacityBytes) throws IOException {
+        this.blobsDir = directory.resolve("blobs");
+        this.keysDir = directory.resolve("keys");
+        this.tempDir = directory.resolve("tmp");
+        this.capacityBytes = capacityBytes;
+
+        Files.createDirectories(blobsDir);
+        Files.createDirectories(keysDir);
+        Files.createDirectories(tempDir);
+        loadIndex();
+    }
+
+    // ========================================================================
+    // LOOKUP
+    // ========================================================================
+
+    /**
+     * Find a cached report and mark it recently used
+     */
+    public synchronized Optional<Artifact> get(String key) {
+        return Optional.ofNullable(index.get(key));
+    }
+
+    /**
+     * Read a report into memory through a read-only mapping of its blob
+     *
+     * @throws NoSuchFileException if the report was evicted meanwhile
+     */
+    public byte[] read(Artifact artifact) throws IOException {
+        if (artifact.size() > Integer.MAX_VALUE - 8) {
+            throw new IOException("Report too large to read into memory: " + artifact.size() + " bytes");
+        }
+        try (FileChannel channel = FileChannel.open(artifact.file(), StandardOpenOption.READ)) {
+            byte[] data = new byte[(int) artifact.size()];
+            if (data.length > 0) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, data.length);
+                buffer.get(data);
+            }
+            return data;
+        }
+    }
+
+    /**
+     * Copy a report to a channel without staging it on the heap
+     *
+     * @return Bytes transferred
+     * @throws NoSuchFileException if the report was evicted meanwhile
+     */
+    public long transferTo(Artifact artifact, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(artifact.file(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+            return position;
+        }
+    }
+
+    // ========================================================================
+    // STORAGE
+    // ========================================================================
+
+    /**
+     * Store report content under a key, replacing any previous content
+     */
+    public Artifact put(String key, byte[] data) throws IOException {
+        Path temp = Files.createTempFile(tempDir, "report", ".tmp");
+        try {
+            Files.write(temp, data);
+            return commit(key, temp, sha256(data), data.length);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Store a report that was written to a file, such as a streamed
+     * spreadsheet export; the source file is left in place
+     */
+    public Artifact put(String key, Path source) throws IOException {
+        Path temp = Files.createTempFile(tempDir, "report", ".tmp");
+        try {
+            MessageDigest digest = newDigest();
+            try (InputStream in = Files.newInputStream(source);
+                 OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                in.transferTo(out);
+            }
+            return commit(key, temp, HexFormat.of().formatHex(digest.digest()), Files.size(temp));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Remove a key; its blob goes too unless another key shares it
+     */
+    public synchronized boolean remove(String key) {
+        Artifact removed = index.remove(key);
+        if (removed == null) {
+            return false;
+        }
+        deleteQuietly(refFile(key));
+        release(removed);
+        return true;
+    }
+
+    /**
+     * Remove every key cached before a point in time
+     *
+     * @return Number of keys removed
+     */
+    public synchronized int removeOlderThan(Instant cutoff) {
+        List<String> expired = index.values().stream()
+                .filter(artifact -> artifact.cachedAt().isBefore(cutoff))
+                .map(Artifact::key)
+                .toList();
+        expired.forEach(this::remove);
+        try {
+            deleteUnreferencedBlobs();
+        } catch (IOException e) {
+            log.warn("Could not sweep report cache directory: {}", e.getMessage());
+        }
+        return expired.size();
+    }
+
+    public synchronized void clear() {
+        new ArrayList<>(index.keySet()).forEach(this::remove);
+    }
+
+    public synchronized int getEntryCount() {
+        return index.size();
+    }
+
+    /**
+     * Bytes on disk; content shared by several keys is counted once
+     */
+    public synchronized long getSizeBytes() {
+        return blobBytes;
+    }
+
+    // ========================================================================
+    // INDEX MAINTENANCE
+    // ========================================================================
+
+    /**
+     * Move written content into place and point the key at it
+     */
+    private Artifact commit(String key, Path temp, String hash, long size) throws IOException {
+        Path blob = blobFile(hash);
+        Artifact artifact = new Artifact(key, hash, size, Instant.now(), blob);
+
+        synchronized (this) {
+            if (!blobReferences.containsKey(hash)) {
+                Files.createDirectories(blob.getParent());
+                Files.move(temp, blob, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                blobBytes += size;
+            }
+            writeRef(artifact);
+
+            Artifact previous = index.put(key, artifact);
+            blobReferences.merge(hash, 1, Integer::sum);
+            if (previous != null) {
+                release(previous);
+            }
+            evictToCapacity(key);
+        }
+        return artifact;
+    }
+
+    /**
+     * Evict least recently used keys until the blobs fit; the key just
+     * stored is kept even if it alone exceeds the capacity
+     */
+    private void evictToCapacity(String keep) {
+        Iterator<Artifact> lru = new ArrayList<>(index.values()).iterator();
+        while (blobBytes > capacityBytes && lru.hasNext()) {
+            Artifact oldest = lru.next();
+            if (!oldest.key().equals(keep)) {
+                remove(oldest.key());
+                log.debug("Evicted report from disk cache: {} ({} bytes)", oldest.key(), oldest.size());
+            }
+        }
+    }
+
+    private void release(Artifact artifact) {
+        int remaining = blobReferences.merge(artifact.contentHash(), -1, Integer::sum);
+        if (remaining <= 0) {
+            blobReferences.remove(artifact.contentHash());
+            deleteQuietly(artifact.file());
+            blobBytes -= artifact.size();
+        }
+    }
+
+    /**
+     * Rebuild the index from the ref files, oldest first, and delete blobs
+     * and refs that don't match
+     */
+    private void loadIndex() throws IOException {
+        List<Artifact> artifacts = new ArrayList<>();
+        try (Stream<Path> refs = Files.list(keysDir)) {
+            for (Path ref : refs.filter(p -> p.toString().endsWith(REF_SUFFIX)).toList()) {
+                Artifact artifact = readRef(ref);
+                if (artifact != null && Files.isRegularFile(artifact.file())) {
+                    artifacts.add(artifact);
+                } else {
+                    deleteQuietly(ref);
+                }
+            }
+        }
+        artifacts.sort(Comparator.comparing(Artifact::cachedAt));
+
+        for (Artifact artifact : artifacts) {
+            index.put(artifact.key(), artifact);
+            if (blobReferences.merge(artifact.contentHash(), 1, Integer::sum) == 1) {
+                blobBytes += artifact.size();
+            }
+        }
+
+        deleteUnreferencedBlobs();
+        try (Stream<Path> temps = Files.list(tempDir)) {
+            temps.forEach(ReportArtifactStore::deleteQuietly);
+        }
+
+        if (!index.isEmpty()) {
+            log.info("Loaded {} cached reports from disk ({} KB)", index.size(), blobBytes / 1024);
+        }
+        evictToCapacity(null);
+    }
+
+    /**
+     * Delete blobs no key refers to: left behind by a crash between writing
+     * content and its ref, or still open by a reader when they were evicted
+     * on a platform that can't delete open files
+     */
+    private void deleteUnreferencedBlobs() throws IOException {
+        try (Stream<Path> blobs = Files.walk(blobsDir)) {
+            blobs.filter(Files::isRegularFile)
+                    .filter(blob -> !blobReferences.containsKey(blob.getFileName().toString()))
+                    .forEach(ReportArtifactStore::deleteQuietly);
+        }
+    }
+
+    private void writeRef(Artifact artifact) throws IOException {
+        Properties ref = new Properties();
+        ref.setProperty("key", artifact.key());
+        ref.setProperty("hash", artifact.contentHash());
+        ref.setProperty("size", Long.toString(artifact.size()));
+        ref.setProperty("cachedAt", Long.toString(artifact.cachedAt().toEpochMilli()));
+
+        Path temp = Files.createTempFile(tempDir, "ref", ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            ref.store(writer, null);
+        }
+        Files.move(temp, refFile(artifact.key()), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Artifact readRef(Path file) {
+        Properties ref = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            ref.load(reader);
+            String hash = ref.getProperty("hash");
+            return new Artifact(ref.getProperty("key"), hash,
+                    Long.parseLong(ref.getProperty("size")),
+                    Instant.ofEpochMilli(Long.parseLong(ref.getProperty("cachedAt"))),
+                    blobFile(hash));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Discarding unreadable report cache entry {}: {}", file.getFileName(), e.getMessage());
+            return null;
+        }
+    }
+
+    // ========================================================================
+    // HELPER METHODS
+    // ========================================================================
+
+    private Path blobFile(String hash) {
+        return blobsDir.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private Path refFile(String key) {
+        return keysDir.resolve(sha256(key.getBytes(StandardCharsets.UTF_8)) + REF_SUFFIX);
+    }
+
+    static String sha256(byte[] data) {
+        return HexFormat.of().formatHex(newDigest().digest(data));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete report cache file {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -1,17 +1,27 @@
 package com.heronix.service;
 
 import com.heronix.model.domain.ReportHistory;
+import com.heronix.repository.AttendanceRepository;
+import com.heronix.repository.StudentRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.nio.file.Files;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.LocalDateTime;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Report Cache Service
@@ -20,17 +30,22 @@ import java.util.concurrent.ConcurrentHashMap;
  * and reduce redundant report generation.
  *
  * Features:
- * - In-memory cache for recently generated reports
- * - Cache key based on report type, format, and date parameters
- * - Automatic cache expiration (15 minutes default)
+ * - Cache key based on report type, format, date parameters and a stamp of
+ *   the data the report reads
+ * - Two tiers: a bounded in-memory tier for small reports over a persistent,
+ *   content-addressed disk tier ({@link ReportArtifactStore})
+ * - Size-based LRU eviction in both tiers
+ * - Automatic cache expiration (report.cache.ttl-minutes)
  * - Cache statistics and monitoring
- * - File-based cache for large reports
  * - Thread-safe concurrent access
  *
  * Cache Strategy:
- * - Small reports (<1MB): In-memory byte array cache
- * - Large reports (>=1MB): File path cache with disk storage
- * - Cache invalidation: Time-based (15 min) and manual
+ * - Every report is written through to disk, so cached reports survive a restart
+ * - Small reports (&lt; report.cache.max-memory-size) are also kept in memory
+ * - Large reports are read back from disk through a memory mapping, or sent
+ *   straight to an output stream with {@link #writeCachedReport}
+ * - Cache invalidation: a change to attendance in the report's date range, or
+ *   to any student, changes the key; time-based (TTL) and manual
  *
  * Performance Impact:
  * - Eliminates redundant database queries
@@ -43,59 +58,113 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class ReportCacheService {
 
-    private static final int DEFAULT_CACHE_TTL_MINUTES = 15;
-    private static final long MAX_MEMORY_CACHE_SIZE = 1024 * 1024; // 1MB
-    private static final int MAX_CACHE_ENTRIES = 100;
+    // Date range used for the data version when a report has no dates
+    private static final LocalDate EARLIEST_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate LATEST_DATE = LocalDate.of(9999, 12, 31);
 
-    // Cache storage
-    private final Map<String, CachedReport> memoryCache = new ConcurrentHashMap<>();
-    private final Map<String, CacheStatistics> statistics = new ConcurrentHashMap<>();
+    private final AttendanceRepository attendanceRepository;
+    private final StudentRepository studentRepository;
 
-    /**
-     * Cache entry wrapper
-     */
-    private static class CachedReport {
-        final byte[] data;
-        final String filePath;
-        final LocalDateTime cachedAt;
-        final long size;
+    @Value("${report.cache.enabled:true}")
+    private boolean enabled = true;
 
-        CachedReport(byte[] data, String filePath, long size) {
-            this.data = data;
-            this.filePath = filePath;
-            this.cachedAt = LocalDateTime.now();
-            this.size = size;
-        }
+    @Value("${report.cache.ttl-minutes:15}")
+    private int ttlMinutes = 15;
 
-        boolean isExpired(int ttlMinutes) {
-            return LocalDateTime.now().isAfter(cachedAt.plusMinutes(ttlMinutes));
-        }
+    @Value("${report.cache.max-entries:100}")
+    private int maxMemoryEntries = 100;
+
+    @Value("${report.cache.max-memory-size:1048576}")
+    private long maxMemoryReportSize = 1024 * 1024;
+
+    @Value("${report.cache.memory-capacity:67108864}")
+    private long memoryCapacity = 64L * 1024 * 1024;
+
+    @Value("${report.cache.disk.directory:${user.home}/Heronix/ReportCache}")
+    private String diskDirectory;
+
+    @Value("${report.cache.disk.capacity:1073741824}")
+    private long diskCapacity = 1024L * 1024 * 1024;
+
+    // Memory tier: access-ordered, bounded by entry count and total bytes
+    private final LinkedHashMap<String, CachedReport> memoryCache = new LinkedHashMap<>(64, 0.75f, true);
+    private long memoryBytes;
+
+    // Disk tier; null when the directory is unusable, leaving memory only
+    private ReportArtifactStore diskStore;
+
+    private final CacheStatistics statistics = new CacheStatistics();
+
+    /**
+     * Memory tier entry
+     */
+    private record CachedReport(byte[] data, Instant cachedAt) {
     }
 
     /**
-     * Cache statistics
+     * Cache statistics, safe to update from concurrent report threads
      */
     public static class CacheStatistics {
-        private long hits = 0;
-        private long misses = 0;
-        private long evictions = 0;
+        private final LongAdder memoryHits = new LongAdder();
+        private final LongAdder diskHits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
 
-        public void recordHit() { hits++; }
-        public void recordMiss() { misses++; }
-        public void recordEviction() { evictions++; }
+        public void recordMemoryHit() { memoryHits.increment(); }
+        public void recordDiskHit() { diskHits.increment(); }
+        public void recordMiss() { misses.increment(); }
+        public void recordEviction() { evictions.increment(); }
 
         public double getHitRate() {
-            long total = hits + misses;
+            long hits = getHits();
+            long total = hits + misses.sum();
             return total == 0 ? 0.0 : (double) hits / total * 100;
         }
 
-        public long getHits() { return hits; }
-        public long getMisses() { return misses; }
-        public long getEvictions() { return evictions; }
+        public long getHits() { return memoryHits.sum() + diskHits.sum(); }
+        public long getMemoryHits() { return memoryHits.sum(); }
+        public long getDiskHits() { return diskHits.sum(); }
+        public long getMisses() { return misses.sum(); }
+        public long getEvictions() { return evictions.sum(); }
+
+        void reset() {
+            memoryHits.reset();
+            diskHits.reset();
+            misses.reset();
+            evictions.reset();
+        }
+    }
+
+    @PostConstruct
+    public void initialize() {
+        if (!enabled) {
+            log.info("Report cache disabled");
+            return;
+        }
+        openDiskStore(Paths.get(diskDirectory));
+    }
+
+    /**
+     * Open the disk tier; on failure the cache runs from memory only
+     */
+    void openDiskStore(Path directory) {
+        try {
+            diskStore = new ReportArtifactStore(directory, diskCapacity);
+            log.info("Report cache disk tier at {} ({} MB capacity)", directory, diskCapacity / (1024 * 1024));
+        } catch (IOException | RuntimeException e) {
+            diskStore = null;
+            log.warn("Report cache disk tier unavailable at {}, caching in memory only: {}",
+                    directory, e.getMessage());
+        }
     }
 
+    // ========================================================================
+    // LOOKUP
+    // ========================================================================
+
     /**
      * Get cached report data
      *
@@ -103,75 +172,216 @@ public class ReportCacheService {
      * @return Cached report data or null if not found/expired
      */
     public byte[] getCachedReport(String cacheKey) {
-        CachedReport cached = memoryCache.get(cacheKey);
-
-        if (cached == null) {
-            recordMiss(cacheKey);
-            log.debug("Cache MISS: {}", cacheKey);
+        if (!enabled) {
             return null;
         }
 
-        if (cached.isExpired(DEFAULT_CACHE_TTL_MINUTES)) {
-            log.debug("Cache EXPIRED: {}", cacheKey);
-            memoryCache.remove(cacheKey);
-            recordMiss(cacheKey);
-            return null;
+        byte[] data = getFromMemory(cacheKey);
+        if (data != null) {
+            statistics.recordMemoryHit();
+            log.debug("Cache HIT (memory): {}", cacheKey);
+            return data;
+        }
+
+        Optional<ReportArtifactStore.Artifact> artifact = getFromDisk(cacheKey);
+        if (artifact.isPresent()) {
+            try {
+                data = diskStore.read(artifact.get());
+                statistics.recordDiskHit();
+                log.debug("Cache HIT (disk): {}", cacheKey);
+                // Promote small reports so the next read skips the disk
+                if (data.length < maxMemoryReportSize) {
+                    putInMemory(cacheKey, data, artifact.get().cachedAt());
+                }
+                return data;
+            } catch (IOException e) {
+                log.warn("Failed to load cached report from disk: {}", cacheKey, e);
+                diskStore.remove(cacheKey);
+            }
         }
 
-        recordHit(cacheKey);
-        log.debug("Cache HIT: {}", cacheKey);
+        statistics.recordMiss();
+        log.debug("Cache MISS: {}", cacheKey);
+        return null;
+    }
+
+    /**
+     * Write a cached report to a stream; reports on disk are transferred
+     * without being loaded onto the heap
+     *
+     * @param cacheKey Cache key
+     * @param out Destination, left open
+     * @return true if the report was cached and written, false on a miss
+     */
+    public boolean writeCachedReport(String cacheKey, OutputStream out) throws IOException {
+        if (!enabled) {
+            return false;
+        }
 
-        // If data is in memory, return it
-        if (cached.data != null) {
-            return cached.data;
+        byte[] data = getFromMemory(cacheKey);
+        if (data != null) {
+            statistics.recordMemoryHit();
+            out.write(data);
+            return true;
         }
 
-        // If data is on disk, load it
-        if (cached.filePath != null) {
+        Optional<ReportArtifactStore.Artifact> artifact = getFromDisk(cacheKey);
+        if (artifact.isPresent()) {
             try {
-                return Files.readAllBytes(Paths.get(cached.filePath));
-            } catch (IOException e) {
-                log.warn("Failed to load cached report from disk: {}", cached.filePath, e);
-                memoryCache.remove(cacheKey);
+                diskStore.transferTo(artifact.get(), Channels.newChannel(out));
+                statistics.recordDiskHit();
+                return true;
+            } catch (java.nio.file.NoSuchFileException e) {
+                // Evicted between lookup and read; nothing was written yet
+                diskStore.remove(cacheKey);
+            }
+        }
+
+        statistics.recordMiss();
+        return false;
+    }
+
+    private byte[] getFromMemory(String cacheKey) {
+        synchronized (memoryCache) {
+            CachedReport cached = memoryCache.get(cacheKey);
+            if (cached == null) {
+                return null;
+            }
+            if (isExpired(cached.cachedAt())) {
+                removeFromMemory(cacheKey);
                 return null;
             }
+            return cached.data();
         }
+    }
 
-        return null;
+    private Optional<ReportArtifactStore.Artifact> getFromDisk(String cacheKey) {
+        if (diskStore == null) {
+            return Optional.empty();
+        }
+        Optional<ReportArtifactStore.Artifact> artifact = diskStore.get(cacheKey);
+        if (artifact.isPresent() && isExpired(artifact.get().cachedAt())) {
+            log.debug("Cache EXPIRED: {}", cacheKey);
+            diskStore.remove(cacheKey);
+            return Optional.empty();
+        }
+        return artifact;
     }
 
+    // ========================================================================
+    // STORAGE
+    // ========================================================================
+
     /**
      * Cache report data
      *
      * @param cacheKey Cache key
      * @param data Report data
-     * @param filePath Optional file path for large reports
+     * @param filePath Optional file the report was written to; cached from
+     *                 the file when data is null
      */
     public void cacheReport(String cacheKey, byte[] data, String filePath) {
-        // Check cache size limit
-        if (memoryCache.size() >= MAX_CACHE_ENTRIES) {
-            evictOldestEntry();
+        if (!enabled) {
+            return;
+        }
+        if (data == null) {
+            if (filePath != null) {
+                cacheReportFile(cacheKey, Paths.get(filePath));
+            }
+            return;
+        }
+
+        Instant cachedAt = Instant.now();
+        if (diskStore != null) {
+            try {
+                cachedAt = diskStore.put(cacheKey, data).cachedAt();
+            } catch (IOException e) {
+                log.warn("Failed to write report to disk cache: {}", cacheKey, e);
+            }
         }
 
-        // Decide caching strategy based on size
-        if (data.length < MAX_MEMORY_CACHE_SIZE) {
-            // Small report - cache in memory
-            memoryCache.put(cacheKey, new CachedReport(data, null, data.length));
-            log.debug("Cached report in memory: {} ({} bytes)", cacheKey, data.length);
+        if (data.length < maxMemoryReportSize) {
+            putInMemory(cacheKey, data, cachedAt);
+            log.debug("Cached report in memory and on disk: {} ({} bytes)", cacheKey, data.length);
         } else {
-            // Large report - cache file path only
-            memoryCache.put(cacheKey, new CachedReport(null, filePath, data.length));
-            log.debug("Cached report path: {} ({} bytes)", cacheKey, data.length);
+            // Drop any smaller, older version of the report
+            removeFromMemory(cacheKey);
+            log.debug("Cached report on disk: {} ({} bytes)", cacheKey, data.length);
         }
     }
 
+    /**
+     * Cache a report that was streamed to a file, without reading it into memory
+     *
+     * @param cacheKey Cache key
+     * @param file Report file; copied into the cache and left in place
+     */
+    public void cacheReportFile(String cacheKey, Path file) {
+        if (!enabled || diskStore == null) {
+            return;
+        }
+        try {
+            ReportArtifactStore.Artifact artifact = diskStore.put(cacheKey, file);
+            removeFromMemory(cacheKey);
+            log.debug("Cached report file on disk: {} ({} bytes)", cacheKey, artifact.size());
+        } catch (IOException e) {
+            log.warn("Failed to write report file to disk cache: {}", cacheKey, e);
+        }
+    }
+
+    private void putInMemory(String cacheKey, byte[] data, Instant cachedAt) {
+        synchronized (memoryCache) {
+            CachedReport previous = memoryCache.put(cacheKey, new CachedReport(data, cachedAt));
+            if (previous != null) {
+                memoryBytes -= previous.data().length;
+            }
+            memoryBytes += data.length;
+
+            // Least recently used first; reports evicted here stay on disk
+            Iterator<Map.Entry<String, CachedReport>> lru = memoryCache.entrySet().iterator();
+            while ((memoryBytes > memoryCapacity || memoryCache.size() > maxMemoryEntries) && lru.hasNext()) {
+                Map.Entry<String, CachedReport> oldest = lru.next();
+                if (oldest.getKey().equals(cacheKey)) {
+                    continue;
+                }
+                memoryBytes -= oldest.getValue().data().length;
+                lru.remove();
+                statistics.recordEviction();
+                log.debug("Evicted report from memory cache: {}", oldest.getKey());
+            }
+        }
+    }
+
+    private void removeFromMemory(String cacheKey) {
+        synchronized (memoryCache) {
+            CachedReport removed = memoryCache.remove(cacheKey);
+            if (removed != null) {
+                memoryBytes -= removed.data().length;
+            }
+        }
+    }
+
+    private boolean isExpired(Instant cachedAt) {
+        return Instant.now().isAfter(cachedAt.plus(Duration.ofMinutes(ttlMinutes)));
+    }
+
+    // ========================================================================
+    // CACHE KEYS
+    // ========================================================================
+
     /**
      * Generate cache key from report parameters
      *
+     * The key ends with a version of the data the report reads: attendance
+     * in the date range and the student table. Recording, correcting or
+     * deleting attendance in the range, or changing a student, produces a new
+     * key, so a stale report is never served; reports for other dates stay
+     * cached.
+     *
      * @param reportType Report type
      * @param format Report format
-     * @param startDate Start date
-     * @param endDate End date
+     * @param startDate Start date (yyyy-MM-dd)
+     * @param endDate End date (yyyy-MM-dd)
      * @param additionalParams Additional parameters (e.g., threshold)
      * @return Cache key
      */
@@ -193,17 +403,63 @@ public class ReportCacheService {
             key.append("_").append(param);
         }
 
+        key.append("@").append(dataVersion(startDate, endDate));
         return key.toString();
     }
 
+    /**
+     * Stamp of the attendance in a date range and of the student table,
+     * from two indexed aggregate queries
+     */
+    private String dataVersion(String startDate, String endDate) {
+        try {
+            LocalDate start = parseDate(startDate, EARLIEST_DATE);
+            LocalDate end = parseDate(endDate, start.equals(EARLIEST_DATE) ? LATEST_DATE : start);
+
+            String stamp = Arrays.toString(firstRow(attendanceRepository.findDataVersion(start, end)))
+                    + Arrays.toString(firstRow(studentRepository.findDataVersion()));
+            return ReportArtifactStore.sha256(stamp.getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+        } catch (RuntimeException e) {
+            // A key that can't match anything: the report is regenerated, never stale
+            log.warn("Could not read report data version, bypassing cache: {}", e.getMessage());
+            return "unversioned-" + UUID.randomUUID();
+        }
+    }
+
+    private static LocalDate parseDate(String value, LocalDate defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            return defaultValue;
+        }
+    }
+
+    private static Object[] firstRow(List<Object[]> rows) {
+        return rows.isEmpty() ? new Object[0] : rows.get(0);
+    }
+
+    // ========================================================================
+    // INVALIDATION
+    // ========================================================================
+
     /**
      * Invalidate specific cache entry
      *
      * @param cacheKey Cache key
      */
     public void invalidateCache(String cacheKey) {
-        CachedReport removed = memoryCache.remove(cacheKey);
-        if (removed != null) {
+        boolean removed;
+        synchronized (memoryCache) {
+            removed = memoryCache.containsKey(cacheKey);
+            removeFromMemory(cacheKey);
+        }
+        if (diskStore != null) {
+            removed |= diskStore.remove(cacheKey);
+        }
+        if (removed) {
             log.info("Invalidated cache entry: {}", cacheKey);
         }
     }
@@ -212,111 +468,93 @@ public class ReportCacheService {
      * Invalidate all cache entries
      */
     public void invalidateAllCache() {
-        int size = memoryCache.size();
-        memoryCache.clear();
-        statistics.clear();
-        log.info("Invalidated all cache entries ({})", size);
-    }
-
-    /**
-     * Evict oldest cache entry
-     */
-    private void evictOldestEntry() {
-        if (memoryCache.isEmpty()) {
-            return;
-        }
-
-        String oldestKey = null;
-        LocalDateTime oldestTime = LocalDateTime.now();
-
-        for (Map.Entry<String, CachedReport> entry : memoryCache.entrySet()) {
-            if (entry.getValue().cachedAt.isBefore(oldestTime)) {
-                oldestTime = entry.getValue().cachedAt;
-                oldestKey = entry.getKey();
-            }
+        int size = getCacheSize();
+        synchronized (memoryCache) {
+            memoryCache.clear();
+            memoryBytes = 0;
         }
-
-        if (oldestKey != null) {
-            memoryCache.remove(oldestKey);
-            recordEviction(oldestKey);
-            log.debug("Evicted oldest cache entry: {}", oldestKey);
+        if (diskStore != null) {
+            diskStore.clear();
         }
+        statistics.reset();
+        log.info("Invalidated all cache entries ({})", size);
     }
 
+    // ========================================================================
+    // STATISTICS
+    // ========================================================================
+
     /**
      * Get cache statistics
      *
-     * @return Overall cache statistics
+     * @return Overall cache statistics, updated live
      */
     public CacheStatistics getOverallStatistics() {
-        CacheStatistics overall = new CacheStatistics();
-        for (CacheStatistics stat : statistics.values()) {
-            overall.hits += stat.hits;
-            overall.misses += stat.misses;
-            overall.evictions += stat.evictions;
-        }
-        return overall;
+        return statistics;
     }
 
     /**
      * Get cache size
      *
-     * @return Number of cached entries
+     * @return Number of cached reports; every report is on disk when the
+     *         disk tier is available
      */
     public int getCacheSize() {
-        return memoryCache.size();
+        if (diskStore != null) {
+            return diskStore.getEntryCount();
+        }
+        synchronized (memoryCache) {
+            return memoryCache.size();
+        }
     }
 
     /**
      * Get total cached memory size
      *
-     * @return Total size in bytes
+     * @return Total size in bytes of the memory tier
      */
     public long getCachedMemorySize() {
-        return memoryCache.values().stream()
-            .mapToLong(cached -> cached.size)
-            .sum();
-    }
-
-    /**
-     * Record cache hit
-     */
-    private void recordHit(String cacheKey) {
-        statistics.computeIfAbsent(cacheKey, k -> new CacheStatistics()).recordHit();
+        synchronized (memoryCache) {
+            return memoryBytes;
+        }
     }
 
     /**
-     * Record cache miss
+     * Get total cached disk size
+     *
+     * @return Total size in bytes of the disk tier
      */
-    private void recordMiss(String cacheKey) {
-        statistics.computeIfAbsent(cacheKey, k -> new CacheStatistics()).recordMiss();
+    public long getCachedDiskSize() {
+        return diskStore != null ? diskStore.getSizeBytes() : 0;
     }
 
-    /**
-     * Record cache eviction
-     */
-    private void recordEviction(String cacheKey) {
-        CacheStatistics stat = statistics.get(cacheKey);
-        if (stat != null) {
-            stat.recordEviction();
-        }
-    }
+    // ========================================================================
+    // SCHEDULED MAINTENANCE
+    // ========================================================================
 
     /**
      * Scheduled cache cleanup
-     * Runs every 30 minutes to remove expired entries
+     * Removes expired entries from both tiers
      */
-    @Scheduled(fixedRate = 1800000) // 30 minutes
+    @Scheduled(fixedRateString = "${report.cache.cleanup-interval:1800000}")
     public void cleanupExpiredCache() {
         log.info("Running scheduled cache cleanup");
         int removed = 0;
 
-        for (Map.Entry<String, CachedReport> entry : memoryCache.entrySet()) {
-            if (entry.getValue().isExpired(DEFAULT_CACHE_TTL_MINUTES)) {
-                memoryCache.remove(entry.getKey());
-                removed++;
+        synchronized (memoryCache) {
+            Iterator<Map.Entry<String, CachedReport>> entries = memoryCache.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<String, CachedReport> entry = entries.next();
+                if (isExpired(entry.getValue().cachedAt())) {
+                    memoryBytes -= entry.getValue().data().length;
+                    entries.remove();
+                    removed++;
+                }
             }
         }
+        if (diskStore != null) {
+            removed += diskStore.removeOlderThan(Instant.now().minus(Duration.ofMinutes(ttlMinutes)));
+        }
 
         if (removed > 0) {
             log.info("Removed {} expired cache entries", removed);
@@ -326,17 +564,19 @@ public class ReportCacheService {
     /**
      * Log cache statistics
      */
-    @Scheduled(fixedRate = 3600000) // 1 hour
+    @Scheduled(fixedRateString = "${report.cache.stats-interval:3600000}")
     public void logCacheStatistics() {
         CacheStatistics overall = getOverallStatistics();
-        long memorySize = getCachedMemorySize();
 
-        log.info("Cache Statistics - Entries: {}, Memory: {} KB, Hit Rate: {:.2f}%, " +
-                "Hits: {}, Misses: {}, Evictions: {}",
+        log.info("Cache Statistics - Entries: {}, Memory: {} KB, Disk: {} KB, Hit Rate: {}%, " +
+                "Hits: {} (memory {}, disk {}), Misses: {}, Evictions: {}",
             getCacheSize(),
-            memorySize / 1024,
-            overall.getHitRate(),
+            getCachedMemorySize() / 1024,
+            getCachedDiskSize() / 1024,
+            String.format("%.2f", overall.getHitRate()),
             overall.getHits(),
+            overall.getMemoryHits(),
+            overall.getDiskHits(),
             overall.getMisses(),
             overall.getEvictions());
     }
@@ -349,6 +589,7 @@ public class ReportCacheService {
         // Cache warmup is deferred — reports are cached on first request.
         // Pre-generating reports here would require injecting report services,
         // creating a circular dependency. Use lazy caching instead.
+        // Reports cached before a restart are served from the disk tier.
         log.info("Report cache initialized (lazy warmup — reports cached on first access)");
     }
 }
@@ -0,0 +1,355 @@
+package com.heronix.service;
+
+import com.heronix.model.domain.Student;
+import com.heronix.repository.StudentRepository;
+import com.heronix.service.ReportCardPdfService.RenderContext;
+import com.heronix.service.ReportCardPdfService.ReportCardOptions;
+import com.heronix.service.impl.AttendanceService;
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.pdf.PdfReader;
+import com.itextpdf.text.pdf.PdfSmartCopy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Report Card Batch Service
+ *
+ * Generates the report cards of many students - a grade level or the whole
+ * school at the end of a term - into one ZIP of PDFs or one merged PDF on disk.
+ *
+ * Pipeline:
+ * - Students are split into chunks, which run in parallel on the bounded
+ *   report card executor
+ * - Each chunk loads its students' enrollments, grades, comments and
+ *   attendance in a few set-based queries, in one short read-only
+ *   transaction, then renders its PDFs outside the transaction
+ * - District settings, the school logo and class ranks are loaded once per
+ *   run and shared by every document
+ * - Finished chunks are written to the output in student order; only a few
+ *   chunks are held in memory at a time
+ *
+ * Progress is reported after each chunk, and each run logs its throughput
+ * in cards per second.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@Slf4j
+@Service
+public class ReportCardBatchService {
+
+    @Autowired
+    private GradebookService gradebookService;
+
+    @Autowired
+    private ReportCardPdfService reportCardPdfService;
+
+    @Autowired
+    private AttendanceService attendanceService;
+
+    @Autowired
+    private GradeService gradeService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("reportCardExecutor")
+    private Executor reportCardExecutor;
+
+    @Value("${heronix.report-cards.batch.chunk-size:50}")
+    private int chunkSize = 50;
+
+    @Value("${heronix.report-cards.batch.max-chunks-in-flight:8}")
+    private int maxChunksInFlight = 8;
+
+    public enum OutputFormat {
+        /** One PDF per student in a ZIP archive */
+        ZIP,
+        /** Every report card in one PDF, in student order, for printing */
+        MERGED_PDF
+    }
+
+    /**
+     * Receives progress after each chunk
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(int completed, int total);
+    }
+
+    /**
+     * Outcome of one run
+     */
+    public record BatchResult(int requested, int generated, List<Long> failedStudentIds,
+                              long bytesWritten, long elapsedMs) {
+
+        public double cardsPerSecond() {
+            return elapsedMs > 0 ? generated * 1000.0 / elapsedMs : generated;
+        }
+    }
+
+    private record RenderedCard(Long studentId, String fileName, byte[] pdf) {
+    }
+
+    private record ChunkResult(int size, List<RenderedCard> cards, List<Long> failedStudentIds) {
+    }
+
+    // ========================================================================
+    // BATCH GENERATION
+    // ========================================================================
+
+    /**
+     * Generate report cards for a list of students into a file
+     *
+     * @param studentIds Students, in output order
+     * @param termId Term, or null for the current term
+     * @param format ZIP or merged PDF
+     * @param output File to create or replace
+     * @param listener Progress callback, called on the calling thread; may be null
+     * @return Counts, failures and throughput
+     */
+    public BatchResult generateBatch(List<Long> studentIds, Long termId, ReportCardOptions options,
+                                     OutputFormat format, Path output, ProgressListener listener) throws IOException {
+        long startTime = System.currentTimeMillis();
+        int total = studentIds.size();
+        log.info("Starting report card batch: {} students, term {}, {} to {}", total, termId, format, output);
+
+        // Loaded once and shared by every chunk
+        RenderContext context = reportCardPdfService.createRenderContext(options);
+        Map<Long, Integer> classRanks = options.isShowClassRank()
+                ? gradeService.calculateClassRanks(studentIds)
+                : Map.of();
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        int completed = 0;
+        int generated = 0;
+        List<Long> failed = new ArrayList<>();
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(output), 64 * 1024);
+             CardSink sink = format == OutputFormat.ZIP ? new ZipSink(out) : new MergedPdfSink(out)) {
+
+            Iterator<List<Long>> chunks = partition(studentIds, chunkSize).iterator();
+            Deque<CompletableFuture<ChunkResult>> inFlight = new ArrayDeque<>();
+
+            while (chunks.hasNext() || !inFlight.isEmpty()) {
+                // Keep the pool busy, but hold at most a few chunks of PDFs in memory
+                while (chunks.hasNext() && inFlight.size() < maxChunksInFlight) {
+                    List<Long> chunk = chunks.next();
+                    inFlight.add(CompletableFuture.supplyAsync(
+                            () -> generateChunk(chunk, termId, options, context, classRanks, readOnly),
+                            reportCardExecutor));
+                }
+
+                ChunkResult result = inFlight.poll().join();
+                for (RenderedCard card : result.cards()) {
+                    sink.add(card);
+                    generated++;
+                }
+                failed.addAll(result.failedStudentIds());
+                completed += result.size();
+
+                if (listener != null) {
+                    listener.onProgress(completed, total);
+                }
+            }
+        }
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        BatchResult result = new BatchResult(total, generated, failed, Files.size(output), elapsed);
+        log.info("Report card batch complete: {} of {} cards in {}ms ({} cards/s), {} failed, {} KB",
+                generated, total, elapsed, String.format("%.1f", result.cardsPerSecond()),
+                failed.size(), result.bytesWritten() / 1024);
+        return result;
+    }
+
+    // ========================================================================
+    // CHUNK PROCESSING
+    // ========================================================================
+
+    /**
+     * Load and render one chunk; never throws, failures are returned by student
+     */
+    private ChunkResult generateChunk(List<Long> studentIds, Long termId, ReportCardOptions options,
+                                      RenderContext context, Map<Long, Integer> classRanks,
+                                      TransactionTemplate readOnly) {
+        long startTime = System.currentTimeMillis();
+        List<RenderedCard> cards = new ArrayList<>();
+        List<Long> failed = new ArrayList<>();
+
+        ChunkData data;
+        try {
+            data = readOnly.execute(status -> loadChunk(studentIds, termId, options));
+        } catch (Exception e) {
+            log.error("Could not load report card data for {} students: {}", studentIds.size(), e.getMessage(), e);
+            return new ChunkResult(studentIds.size(), cards, new ArrayList<>(studentIds));
+        }
+
+        for (Long studentId : studentIds) {
+            GradebookService.ReportCard reportCard = data.reportCards().get(studentId);
+            Student student = data.students().get(studentId);
+            if (reportCard == null || student == null) {
+                failed.add(studentId);
+                continue;
+            }
+
+            try {
+                ByteArrayOutputStream pdf = new ByteArrayOutputStream(32 * 1024);
+                reportCardPdfService.writeReportCardPdf(reportCard, student,
+                        data.attendance().get(studentId), classRanks.getOrDefault(studentId, 0),
+                        options, context, pdf);
+                cards.add(new RenderedCard(studentId, fileName(reportCard), pdf.toByteArray()));
+            } catch (Exception e) {
+                log.warn("Failed to render report card for student {}: {}", studentId, e.getMessage());
+                failed.add(studentId);
+            }
+        }
+
+        log.debug("Report card chunk of {} rendered in {}ms", studentIds.size(),
+                System.currentTimeMillis() - startTime);
+        return new ChunkResult(studentIds.size(), cards, failed);
+    }
+
+    private record ChunkData(Map<Long, GradebookService.ReportCard> reportCards, Map<Long, Student> students,
+                             Map<Long, AttendanceService.AttendanceSummary> attendance) {
+    }
+
+    private ChunkData loadChunk(List<Long> studentIds, Long termId, ReportCardOptions options) {
+        Map<Long, GradebookService.ReportCard> reportCards = gradebookService.generateReportCards(studentIds, termId);
+        Map<Long, Student> students = studentRepository.findAllById(studentIds).stream()
+                .collect(Collectors.toMap(Student::getId, Function.identity()));
+
+        Map<Long, AttendanceService.AttendanceSummary> attendance = Map.of();
+        if (options.isShowAttendance()) {
+            try {
+                attendance = attendanceService.getStudentAttendanceSummaries(
+                        studentIds, LocalDate.now().withDayOfYear(1), LocalDate.now());
+            } catch (Exception e) {
+                log.warn("Could not load attendance for {} students: {}", studentIds.size(), e.getMessage());
+            }
+        }
+        return new ChunkData(reportCards, students, attendance);
+    }
+
+    // ========================================================================
+    // OUTPUT
+    // ========================================================================
+
+    private interface CardSink extends Closeable {
+        void add(RenderedCard card) throws IOException;
+    }
+
+    /**
+     * One PDF per student; PDF content is already compressed, so entries are
+     * only lightly deflated
+     */
+    private static final class ZipSink implements CardSink {
+
+        private final ZipOutputStream zip;
+        private final Set<String> names = new HashSet<>();
+
+        private ZipSink(OutputStream out) {
+            this.zip = new ZipOutputStream(out);
+            this.zip.setLevel(Deflater.BEST_SPEED);
+        }
+
+        @Override
+        public void add(RenderedCard card) throws IOException {
+            String name = names.add(card.fileName()) ? card.fileName()
+                    : card.studentId() + "_" + card.fileName();
+            zip.putNextEntry(new ZipEntry(name));
+            zip.write(card.pdf());
+            zip.closeEntry();
+        }
+
+        @Override
+        public void close() throws IOException {
+            zip.finish();
+        }
+    }
+
+    /**
+     * All report cards in one PDF; identical resources such as the school
+     * logo are stored once rather than once per student
+     */
+    private static final class MergedPdfSink implements CardSink {
+
+        private final OutputStream out;
+        private Document document;
+        private PdfSmartCopy copy;
+
+        private MergedPdfSink(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void add(RenderedCard card) throws IOException {
+            try {
+                if (document == null) {
+                    document = new Document();
+                    copy = new PdfSmartCopy(document, out);
+                    copy.setCloseStream(false);
+                    document.open();
+                }
+                PdfReader reader = new PdfReader(card.pdf());
+                copy.addDocument(reader);
+                copy.freeReader(reader);
+                reader.close();
+            } catch (DocumentException e) {
+                throw new IOException("Could not merge report card for student " + card.studentId(), e);
+            }
+        }
+
+        @Override
+        public void close() {
+            // A document without pages can't be closed; nothing was written
+            if (document != null) {
+                document.close();
+            }
+        }
+    }
+
+    // ========================================================================
+    // HELPER METHODS
+    // ========================================================================
+
+    private static String fileName(GradebookService.ReportCard reportCard) {
+        String number = reportCard.getStudentNumber() != null
+                ? reportCard.getStudentNumber().replaceAll("[^A-Za-z0-9_-]", "_")
+                : "student-" + reportCard.getStudentId();
+        return number + "_ReportCard.pdf";
+    }
+
+    private static <T> List<List<T>> partition(List<T> items, int size) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += size) {
+            chunks.add(items.subList(i, Math.min(i + size, items.size())));
+        }
+        return chunks;
+    }
+}
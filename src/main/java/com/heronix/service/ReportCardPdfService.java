@@ -15,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -22,6 +23,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service for generating student report card PDFs using iText.
@@ -77,6 +80,9 @@ public class ReportCardPdfService {
     private static final BaseColor GRADE_D_COLOR = new BaseColor(255, 87, 34);
     private static final BaseColor GRADE_F_COLOR = new BaseColor(244, 67, 54);
 
+    // Grade cell fonts by color, shared by every document
+    private static final Map<BaseColor, Font> GRADE_CELL_FONTS = new ConcurrentHashMap<>();
+
     // ========================================================================
     // PUBLIC API
     // ========================================================================
@@ -91,8 +97,6 @@ public class ReportCardPdfService {
         Student student = studentRepository.findById(reportCard.getStudentId())
                 .orElseThrow(() -> new IllegalArgumentException("Student not found: " + reportCard.getStudentId()));
 
-        DistrictSettings settings = districtSettingsService.getOrCreateDistrictSettings();
-
         // Attendance data
         AttendanceService.AttendanceSummary attendance = null;
         if (options.isShowAttendance()) {
@@ -116,17 +120,67 @@ public class ReportCardPdfService {
             }
         }
 
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writeReportCardPdf(reportCard, student, attendance, classRank, options, createRenderContext(options), baos);
+        log.info("Successfully generated report card PDF for student {}", reportCard.getStudentId());
+        return baos.toByteArray();
+    }
+
+    /**
+     * Generate a report card PDF by student ID and term ID.
+     */
+    @Transactional(readOnly = true)
+    public byte[] generateReportCardPdf(Long studentId, Long termId, ReportCardOptions options) {
+        GradebookService.ReportCard reportCard = gradebookService.generateReportCard(studentId, termId);
+        return generateReportCardPdf(reportCard, options);
+    }
+
+    /**
+     * Load the district settings and school logo once, for rendering many
+     * report cards with {@link #writeReportCardPdf}
+     */
+    public RenderContext createRenderContext(ReportCardOptions options) {
+        DistrictSettings settings = districtSettingsService.getOrCreateDistrictSettings();
+
+        Image logo = null;
+        if (options.isShowSchoolLogo() && settings.getLogoPath() != null && !settings.getLogoPath().trim().isEmpty()) {
+            try {
+                Path logoPath = Paths.get(settings.getLogoPath());
+                if (Files.exists(logoPath)) {
+                    logo = Image.getInstance(logoPath.toAbsolutePath().toString());
+                    logo.scaleToFit(80, 80);
+                    logo.setAlignment(Element.ALIGN_CENTER);
+                }
+            } catch (IOException | BadElementException e) {
+                log.warn("Could not load school logo from {}: {}", settings.getLogoPath(), e.getMessage());
+            }
+        }
+        return new RenderContext(settings, logo);
+    }
+
+    /**
+     * Render a report card from data that has already been loaded, so a batch
+     * can prefetch a whole chunk of students and render outside the database
+     * transaction. Safe to call from several threads with the same context.
+     *
+     * @param attendance Attendance summary, or null to leave the section out
+     * @param classRank  Class rank, or 0 if unknown
+     * @param out        Destination; not closed
+     */
+    public void writeReportCardPdf(GradebookService.ReportCard reportCard, Student student,
+                                   AttendanceService.AttendanceSummary attendance, int classRank,
+                                   ReportCardOptions options, RenderContext context, OutputStream out) {
         try {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
             Document document = new Document(PageSize.LETTER, 36, 36, 36, 36);
-            PdfWriter writer = PdfWriter.getInstance(document, baos);
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            writer.setCloseStream(false);
             document.open();
 
             if (options.isDraft()) {
                 addWatermark(writer, document);
             }
 
-            addSchoolHeader(document, settings, options);
+            addSchoolHeader(document, context);
             addReportTitle(document, reportCard);
             addStudentInfoSection(document, reportCard, student, classRank, options);
             addCourseGradesTable(document, reportCard.getCourseGrades(), options);
@@ -147,8 +201,6 @@ public class ReportCardPdfService {
             addFooter(document, options.isDraft());
 
             document.close();
-            log.info("Successfully generated report card PDF for student {}", reportCard.getStudentId());
-            return baos.toByteArray();
 
         } catch (DocumentException e) {
             log.error("Error generating report card PDF for student {}: {}", reportCard.getStudentId(), e.getMessage(), e);
@@ -156,34 +208,17 @@ public class ReportCardPdfService {
         }
     }
 
-    /**
-     * Generate a report card PDF by student ID and term ID.
-     */
-    @Transactional(readOnly = true)
-    public byte[] generateReportCardPdf(Long studentId, Long termId, ReportCardOptions options) {
-        GradebookService.ReportCard reportCard = gradebookService.generateReportCard(studentId, termId);
-        return generateReportCardPdf(reportCard, options);
-    }
-
     // ========================================================================
     // PDF LAYOUT SECTIONS
     // ========================================================================
 
-    private void addSchoolHeader(Document document, DistrictSettings settings, ReportCardOptions options) throws DocumentException {
-        // Logo
-        if (options.isShowSchoolLogo() && settings.getLogoPath() != null && !settings.getLogoPath().trim().isEmpty()) {
-            try {
-                Path logoPath = Paths.get(settings.getLogoPath());
-                if (Files.exists(logoPath)) {
-                    Image logo = Image.getInstance(logoPath.toAbsolutePath().toString());
-                    logo.scaleToFit(80, 80);
-                    logo.setAlignment(Element.ALIGN_CENTER);
-                    document.add(logo);
-                    document.add(new Paragraph(" ", new Font(Font.FontFamily.HELVETICA, 4)));
-                }
-            } catch (IOException | BadElementException e) {
-                log.warn("Could not load school logo from {}: {}", settings.getLogoPath(), e.getMessage());
-            }
+    private void addSchoolHeader(Document document, RenderContext context) throws DocumentException {
+        DistrictSettings settings = context.settings();
+
+        // Logo - a copy of the shared image, so documents don't share layout state
+        if (context.logo() != null) {
+            document.add(Image.getInstance(context.logo()));
+            document.add(new Paragraph(" ", new Font(Font.FontFamily.HELVETICA, 4)));
         }
 
         // District/School name
@@ -578,8 +613,8 @@ public class ReportCardPdfService {
             displayText = letterGrade != null ? letterGrade : "-";
         }
 
-        BaseColor gradeColor = getGradeColor(letterGrade);
-        Font gradeFont = new Font(Font.FontFamily.HELVETICA, 9, Font.BOLD, gradeColor);
+        Font gradeFont = GRADE_CELL_FONTS.computeIfAbsent(getGradeColor(letterGrade),
+                color -> new Font(Font.FontFamily.HELVETICA, 9, Font.BOLD, color));
 
         PdfPCell cell = new PdfPCell(new Phrase(displayText, gradeFont));
         cell.setBackgroundColor(rowColor);
@@ -639,6 +674,14 @@ public class ReportCardPdfService {
     // OPTIONS CLASS
     // ========================================================================
 
+    /**
+     * Settings and images shared by every report card of a run
+     *
+     * @param logo Scaled school logo, or null for none
+     */
+    public record RenderContext(DistrictSettings settings, Image logo) {
+    }
+
     public enum GradeFormat {
         LETTER, PERCENTAGE, BOTH
     }
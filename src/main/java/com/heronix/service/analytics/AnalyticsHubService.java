@@ -40,7 +40,7 @@ public class AnalyticsHubService {
      * Get comprehensive analytics summary for the hub dashboard
      */
     @Transactional(readOnly = true)
-    @Cacheable(value = "analyticsSummary", key = "#filter.campusId + '_' + T(java.time.LocalDate).now()")
+    @Cacheable(value = "analyticsSummary", key = "#filter.campusId + '_' + T(java.time.LocalDate).now()", sync = true)
     public AnalyticsSummaryDTO getHubSummary(AnalyticsFilterDTO filter) {
         log.info("Generating analytics hub summary for campus: {}", filter.getCampusId());
 
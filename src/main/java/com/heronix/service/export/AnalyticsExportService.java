@@ -5,6 +5,8 @@ import com.heronix.dto.analytics.StudentAnalyticsDTO;
 import com.heronix.model.domain.CounselingReferral;
 import com.heronix.model.domain.NetworkDevice;
 import com.heronix.model.domain.Student;
+import com.heronix.service.export.StreamingSpreadsheetWriter.JobStats;
+import com.heronix.service.export.StreamingSpreadsheetWriter.SheetWriter;
 import com.itextpdf.text.*;
 import com.itextpdf.text.pdf.*;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +37,9 @@ import java.util.Map;
  * - At-Risk student list export
  * - Honor Roll list export
  *
+ * The student and referral lists are written with StreamingSpreadsheetWriter;
+ * the write* variants stream them to a file or response instead of a byte[].
+ *
  * @author Heronix SIS Team
  * @version 1.0.0
  * @since Phase 60 - Analytics Export Implementation
@@ -575,60 +580,42 @@ public class AnalyticsExportService {
      * @return Excel file as byte array
      */
     public byte[] exportAtRiskStudentsExcel(List<Student> students) throws IOException {
-        log.info("Generating At-Risk Students Excel report: {} students", students.size());
-
-        try (Workbook workbook = new XSSFWorkbook()) {
-            CellStyle headerStyle = createExcelHeaderStyle(workbook);
-            CellStyle titleStyle = createExcelTitleStyle(workbook);
-
-            Sheet sheet = workbook.createSheet("At-Risk Students");
-            int rowNum = 0;
-
-            // Title
-            Row titleRow = sheet.createRow(rowNum++);
-            Cell titleCell = titleRow.createCell(0);
-            titleCell.setCellValue("At-Risk Students Report");
-            titleCell.setCellStyle(titleStyle);
-            sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, 5));
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writeAtRiskStudentsExcel(students, baos);
+        return baos.toByteArray();
+    }
 
-            // Generated date
-            Row dateRow = sheet.createRow(rowNum++);
-            dateRow.createCell(0).setCellValue("Generated: " + LocalDateTime.now().format(DATETIME_FORMATTER));
-            dateRow.createCell(3).setCellValue("Total Students: " + students.size());
-            rowNum++; // Empty row
+    /**
+     * Write at-risk students list to Excel, streamed to a file or response
+     *
+     * @param students List of at-risk students
+     * @param out Destination; flushed but not closed
+     * @return Rows, size and memory used
+     */
+    public JobStats writeAtRiskStudentsExcel(List<Student> students, OutputStream out) throws IOException {
+        log.info("Generating At-Risk Students Excel report: {} students", students.size());
 
-            // Headers
-            Row headerRow = sheet.createRow(rowNum++);
-            createExcelHeaderCell(headerRow, 0, "Student ID", headerStyle);
-            createExcelHeaderCell(headerRow, 1, "Name", headerStyle);
-            createExcelHeaderCell(headerRow, 2, "Grade", headerStyle);
-            createExcelHeaderCell(headerRow, 3, "GPA", headerStyle);
-            createExcelHeaderCell(headerRow, 4, "Risk Level", headerStyle);
-            createExcelHeaderCell(headerRow, 5, "Risk Factors", headerStyle);
+        try (StreamingSpreadsheetWriter writer = new StreamingSpreadsheetWriter("At-risk students")) {
+            SheetWriter sheet = writer.sheet("At-Risk Students");
+            sheet.title("At-Risk Students Report", 6);
+            sheet.row("Generated: " + LocalDateTime.now().format(DATETIME_FORMATTER), null, null,
+                    "Total Students: " + students.size());
+            sheet.blankRow();
 
-            // Data rows
+            sheet.header("Student ID", "Name", "Grade", "GPA", "Risk Level", "Risk Factors");
             for (Student student : students) {
-                Row dataRow = sheet.createRow(rowNum++);
-                dataRow.createCell(0).setCellValue(student.getStudentId() != null ? student.getStudentId() : "");
-                dataRow.createCell(1).setCellValue(student.getFullName());
-                dataRow.createCell(2).setCellValue(student.getGradeLevel() != null ?
-                        student.getGradeLevel().toString() : "N/A");
-                dataRow.createCell(3).setCellValue(student.getCurrentGPA() != null ?
-                        String.format("%.2f", student.getCurrentGPA()) : "N/A");
-                dataRow.createCell(4).setCellValue(determineRiskLevel(student));
-                dataRow.createCell(5).setCellValue(getRiskFactors(student));
+                sheet.row(
+                        student.getStudentId() != null ? student.getStudentId() : "",
+                        student.getFullName(),
+                        student.getGradeLevel() != null ? student.getGradeLevel() : "N/A",
+                        student.getCurrentGPA() != null ? String.format("%.2f", student.getCurrentGPA()) : "N/A",
+                        determineRiskLevel(student),
+                        getRiskFactors(student));
             }
 
-            // Auto-size columns
-            for (int i = 0; i < 6; i++) {
-                sheet.autoSizeColumn(i);
-            }
-
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            workbook.write(baos);
-
+            JobStats stats = writer.writeTo(out);
             log.info("At-Risk Students Excel generated successfully");
-            return baos.toByteArray();
+            return stats;
         }
     }
 
@@ -639,58 +626,41 @@ public class AnalyticsExportService {
      * @return Excel file as byte array
      */
     public byte[] exportHonorRollExcel(List<Student> students) throws IOException {
-        log.info("Generating Honor Roll Excel report: {} students", students.size());
-
-        try (Workbook workbook = new XSSFWorkbook()) {
-            CellStyle headerStyle = createExcelHeaderStyle(workbook);
-            CellStyle titleStyle = createExcelTitleStyle(workbook);
-
-            Sheet sheet = workbook.createSheet("Honor Roll");
-            int rowNum = 0;
-
-            // Title
-            Row titleRow = sheet.createRow(rowNum++);
-            Cell titleCell = titleRow.createCell(0);
-            titleCell.setCellValue("Honor Roll Report");
-            titleCell.setCellStyle(titleStyle);
-            sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, 4));
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writeHonorRollExcel(students, baos);
+        return baos.toByteArray();
+    }
 
-            // Generated date
-            Row dateRow = sheet.createRow(rowNum++);
-            dateRow.createCell(0).setCellValue("Generated: " + LocalDateTime.now().format(DATETIME_FORMATTER));
-            dateRow.createCell(3).setCellValue("Total Students: " + students.size());
-            rowNum++; // Empty row
+    /**
+     * Write honor roll students list to Excel, streamed to a file or response
+     *
+     * @param students List of honor roll students
+     * @param out Destination; flushed but not closed
+     * @return Rows, size and memory used
+     */
+    public JobStats writeHonorRollExcel(List<Student> students, OutputStream out) throws IOException {
+        log.info("Generating Honor Roll Excel report: {} students", students.size());
 
-            // Headers
-            Row headerRow = sheet.createRow(rowNum++);
-            createExcelHeaderCell(headerRow, 0, "Student ID", headerStyle);
-            createExcelHeaderCell(headerRow, 1, "Name", headerStyle);
-            createExcelHeaderCell(headerRow, 2, "Grade", headerStyle);
-            createExcelHeaderCell(headerRow, 3, "GPA", headerStyle);
-            createExcelHeaderCell(headerRow, 4, "Honor Tier", headerStyle);
+        try (StreamingSpreadsheetWriter writer = new StreamingSpreadsheetWriter("Honor roll")) {
+            SheetWriter sheet = writer.sheet("Honor Roll");
+            sheet.title("Honor Roll Report", 5);
+            sheet.row("Generated: " + LocalDateTime.now().format(DATETIME_FORMATTER), null, null,
+                    "Total Students: " + students.size());
+            sheet.blankRow();
 
-            // Data rows
+            sheet.header("Student ID", "Name", "Grade", "GPA", "Honor Tier");
             for (Student student : students) {
-                Row dataRow = sheet.createRow(rowNum++);
-                dataRow.createCell(0).setCellValue(student.getStudentId() != null ? student.getStudentId() : "");
-                dataRow.createCell(1).setCellValue(student.getFullName());
-                dataRow.createCell(2).setCellValue(student.getGradeLevel() != null ?
-                        student.getGradeLevel().toString() : "N/A");
-                dataRow.createCell(3).setCellValue(student.getCurrentGPA() != null ?
-                        String.format("%.2f", student.getCurrentGPA()) : "N/A");
-                dataRow.createCell(4).setCellValue(determineHonorTier(student));
-            }
-
-            // Auto-size columns
-            for (int i = 0; i < 5; i++) {
-                sheet.autoSizeColumn(i);
+                sheet.row(
+                        student.getStudentId() != null ? student.getStudentId() : "",
+                        student.getFullName(),
+                        student.getGradeLevel() != null ? student.getGradeLevel() : "N/A",
+                        student.getCurrentGPA() != null ? String.format("%.2f", student.getCurrentGPA()) : "N/A",
+                        determineHonorTier(student));
             }
 
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            workbook.write(baos);
-
+            JobStats stats = writer.writeTo(out);
             log.info("Honor Roll Excel generated successfully");
-            return baos.toByteArray();
+            return stats;
         }
     }
 
@@ -708,84 +678,46 @@ public class AnalyticsExportService {
      */
     public byte[] exportCounselingReferralsExcel(List<CounselingReferral> referrals,
                                                   LocalDate startDate, LocalDate endDate) throws IOException {
-        log.info("Generating Counseling Referrals Excel report: {} referrals", referrals.size());
-
-        try (Workbook workbook = new XSSFWorkbook()) {
-            CellStyle headerStyle = createExcelHeaderStyle(workbook);
-            CellStyle titleStyle = createExcelTitleStyle(workbook);
-
-            Sheet sheet = workbook.createSheet("Counseling Referrals");
-            int rowNum = 0;
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writeCounselingReferralsExcel(referrals, startDate, endDate, baos);
+        return baos.toByteArray();
+    }
 
-            // Title
-            Row titleRow = sheet.createRow(rowNum++);
-            Cell titleCell = titleRow.createCell(0);
-            titleCell.setCellValue("Counseling Referrals Report");
-            titleCell.setCellStyle(titleStyle);
-            sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, 9));
+    /**
+     * Write counseling referrals to Excel, streamed to a file or response
+     *
+     * @param referrals List of counseling referrals
+     * @param startDate Report period start date
+     * @param endDate Report period end date
+     * @param out Destination; flushed but not closed
+     * @return Rows, size and memory used
+     */
+    public JobStats writeCounselingReferralsExcel(List<CounselingReferral> referrals, LocalDate startDate,
+                                                  LocalDate endDate, OutputStream out) throws IOException {
+        log.info("Generating Counseling Referrals Excel report: {} referrals", referrals.size());
 
-            // Subtitle with date range
-            Row subRow = sheet.createRow(rowNum++);
-            subRow.createCell(0).setCellValue("Period: " + startDate.format(DATE_FORMATTER) +
-                    " to " + endDate.format(DATE_FORMATTER));
-            subRow.createCell(4).setCellValue("Generated: " + LocalDateTime.now().format(DATETIME_FORMATTER));
-            subRow.createCell(7).setCellValue("Total Referrals: " + referrals.size());
-            rowNum++; // Empty row
+        try (StreamingSpreadsheetWriter writer = new StreamingSpreadsheetWriter("Counseling referrals")) {
+            SheetWriter sheet = writer.sheet("Counseling Referrals");
+            sheet.title("Counseling Referrals Report", 10);
+            sheet.row("Period: " + startDate.format(DATE_FORMATTER) + " to " + endDate.format(DATE_FORMATTER),
+                    null, null, null,
+                    "Generated: " + LocalDateTime.now().format(DATETIME_FORMATTER),
+                    null, null,
+                    "Total Referrals: " + referrals.size());
+            sheet.blankRow();
 
-            // Headers
-            Row headerRow = sheet.createRow(rowNum++);
-            createExcelHeaderCell(headerRow, 0, "Referral Date", headerStyle);
-            createExcelHeaderCell(headerRow, 1, "Student Name", headerStyle);
-            createExcelHeaderCell(headerRow, 2, "Grade", headerStyle);
-            createExcelHeaderCell(headerRow, 3, "Urgency", headerStyle);
-            createExcelHeaderCell(headerRow, 4, "Primary Concern", headerStyle);
-            createExcelHeaderCell(headerRow, 5, "Referral Type", headerStyle);
-            createExcelHeaderCell(headerRow, 6, "Assigned Counselor", headerStyle);
-            createExcelHeaderCell(headerRow, 7, "Status", headerStyle);
-            createExcelHeaderCell(headerRow, 8, "Risk Indicators", headerStyle);
-            createExcelHeaderCell(headerRow, 9, "Parent Contacted", headerStyle);
+            sheet.header("Referral Date", "Student Name", "Grade", "Urgency", "Primary Concern", "Referral Type",
+                    "Assigned Counselor", "Status", "Risk Indicators", "Parent Contacted");
 
-            // Data rows
             for (CounselingReferral referral : referrals) {
-                Row dataRow = sheet.createRow(rowNum++);
-
-                // Date
-                dataRow.createCell(0).setCellValue(referral.getReferralDate() != null ?
-                        referral.getReferralDate().format(DATE_FORMATTER) : "");
-
-                // Student Name
                 String studentName = referral.getStudent() != null ?
                         referral.getStudent().getFirstName() + " " + referral.getStudent().getLastName() : "Unknown";
-                dataRow.createCell(1).setCellValue(studentName);
-
-                // Grade
                 String grade = referral.getStudent() != null && referral.getStudent().getGradeLevel() != null ?
                         referral.getStudent().getGradeLevel() : "N/A";
-                dataRow.createCell(2).setCellValue(grade);
-
-                // Urgency
-                dataRow.createCell(3).setCellValue(referral.getUrgencyLevel() != null ?
-                        referral.getUrgencyLevel().toString() : "");
-
-                // Primary Concern
-                dataRow.createCell(4).setCellValue(referral.getPrimaryConcern() != null ?
-                        referral.getPrimaryConcern().toString().replace("_", " ") : "");
-
-                // Referral Type
-                dataRow.createCell(5).setCellValue(referral.getReferralType() != null ?
-                        referral.getReferralType().toString().replace("_", " ") : "");
-
-                // Assigned Counselor
                 String counselor = referral.getAssignedCounselor() != null ?
                         referral.getAssignedCounselor().getFirstName() + " " +
                                 referral.getAssignedCounselor().getLastName() : "Unassigned";
-                dataRow.createCell(6).setCellValue(counselor);
-
-                // Status
-                dataRow.createCell(7).setCellValue(referral.getReferralStatus() != null ?
-                        referral.getReferralStatus().toString() : "");
 
-                // Risk Indicators
                 StringBuilder risks = new StringBuilder();
                 if (referral.getSuicideRiskIndicated() != null && referral.getSuicideRiskIndicated()) {
                     risks.append("Suicide Risk; ");
@@ -796,22 +728,25 @@ public class AnalyticsExportService {
                 if (referral.getImmediateSafetyConcerns() != null && referral.getImmediateSafetyConcerns()) {
                     risks.append("Safety Concern; ");
                 }
-                dataRow.createCell(8).setCellValue(risks.length() > 0 ? risks.toString().trim() : "None");
-
-                // Parent Contacted
-                dataRow.createCell(9).setCellValue(referral.isParentContacted() ? "Yes" : "No");
-            }
 
-            // Auto-size columns
-            for (int i = 0; i < 10; i++) {
-                sheet.autoSizeColumn(i);
+                sheet.row(
+                        referral.getReferralDate() != null ? referral.getReferralDate().format(DATE_FORMATTER) : "",
+                        studentName,
+                        grade,
+                        referral.getUrgencyLevel() != null ? referral.getUrgencyLevel().toString() : "",
+                        referral.getPrimaryConcern() != null ?
+                                referral.getPrimaryConcern().toString().replace("_", " ") : "",
+                        referral.getReferralType() != null ?
+                                referral.getReferralType().toString().replace("_", " ") : "",
+                        counselor,
+                        referral.getReferralStatus() != null ? referral.getReferralStatus().toString() : "",
+                        risks.length() > 0 ? risks.toString().trim() : "None",
+                        referral.isParentContacted() ? "Yes" : "No");
             }
 
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            workbook.write(baos);
-
+            JobStats stats = writer.writeTo(out);
             log.info("Counseling Referrals Excel generated successfully");
-            return baos.toByteArray();
+            return stats;
         }
     }
 
@@ -5,17 +5,16 @@ import com.heronix.model.domain.HallPassSession.SessionStatus;
 import com.heronix.model.domain.Student;
 import com.heronix.repository.HallPassSessionRepository;
 import com.heronix.repository.StudentRepository;
+import com.heronix.service.export.StreamingSpreadsheetWriter.JobStats;
+import com.heronix.service.export.StreamingSpreadsheetWriter.SheetWriter;
 import com.itextpdf.text.*;
 import com.itextpdf.text.pdf.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.ss.usermodel.Font;
-import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -58,6 +57,10 @@ public class HallPassReportService {
     private static final com.itextpdf.text.Font GRADE_FONT =
             new com.itextpdf.text.Font(com.itextpdf.text.Font.FontFamily.HELVETICA, 36, com.itextpdf.text.Font.BOLD);
 
+    // Excel date/time formats, shared by every row
+    private static final DateTimeFormatter EXCEL_DATE_FORMAT = DateTimeFormatter.ofPattern("MM/dd/yyyy");
+    private static final DateTimeFormatter EXCEL_TIME_FORMAT = DateTimeFormatter.ofPattern("h:mm a");
+
     // ==================== Student Report PDF ====================
 
     /**
@@ -247,6 +250,19 @@ public class HallPassReportService {
      * Generate student hall pass Excel report
      */
     public ByteArrayOutputStream generateStudentReportExcel(Long studentId, LocalDate startDate, LocalDate endDate) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeStudentReportExcel(studentId, startDate, endDate, outputStream);
+        return outputStream;
+    }
+
+    /**
+     * Write student hall pass Excel report, streamed to a file or response
+     *
+     * @param out Destination; flushed but not closed
+     * @return Rows, size and memory used
+     */
+    public JobStats writeStudentReportExcel(Long studentId, LocalDate startDate, LocalDate endDate,
+                                            OutputStream out) {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new IllegalArgumentException("Student not found: " + studentId));
 
@@ -262,36 +278,37 @@ public class HallPassReportService {
 
         log.info("Generating hall pass Excel report for student {} with {} sessions", studentId, sessions.size());
 
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-
-        try (Workbook workbook = new XSSFWorkbook()) {
-            // Summary sheet
-            Sheet summarySheet = workbook.createSheet("Summary");
-            createSummarySheet(workbook, summarySheet, student, sessions, startDate, endDate);
-
-            // Details sheet
-            Sheet detailsSheet = workbook.createSheet("Details");
-            createDetailsSheet(workbook, detailsSheet, sessions);
-
-            // Analytics sheet
-            Sheet analyticsSheet = workbook.createSheet("Analytics");
-            createAnalyticsSheet(workbook, analyticsSheet, sessions);
+        try (StreamingSpreadsheetWriter writer = new StreamingSpreadsheetWriter("Hall pass report " + studentId)) {
+            createSummarySheet(writer.sheet("Summary"), student, sessions, startDate, endDate);
+            createDetailsSheet(writer.sheet("Details"), sessions);
+            createAnalyticsSheet(writer.sheet("Analytics"), sessions);
 
-            workbook.write(outputStream);
+            JobStats stats = writer.writeTo(out);
             log.info("Excel report generated successfully");
+            return stats;
 
         } catch (Exception e) {
             log.error("Failed to generate Excel report", e);
             throw new RuntimeException("Failed to generate Excel report: " + e.getMessage());
         }
-
-        return outputStream;
     }
 
     /**
      * Generate school-wide Excel report
      */
     public ByteArrayOutputStream generateSchoolReportExcel(LocalDate startDate, LocalDate endDate) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeSchoolReportExcel(startDate, endDate, outputStream);
+        return outputStream;
+    }
+
+    /**
+     * Write school-wide Excel report, streamed to a file or response
+     *
+     * @param out Destination; flushed but not closed
+     * @return Rows, size and memory used
+     */
+    public JobStats writeSchoolReportExcel(LocalDate startDate, LocalDate endDate, OutputStream out) {
         LocalDateTime start = startDate.atStartOfDay();
         LocalDateTime end = endDate.atTime(LocalTime.MAX);
 
@@ -299,34 +316,21 @@ public class HallPassReportService {
 
         log.info("Generating school Excel report with {} sessions", sessions.size());
 
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-
-        try (Workbook workbook = new XSSFWorkbook()) {
-            // Daily summary sheet
-            Sheet dailySheet = workbook.createSheet("Daily Summary");
-            createDailySummarySheet(workbook, dailySheet, sessions, startDate, endDate);
+        try (StreamingSpreadsheetWriter writer = new StreamingSpreadsheetWriter(
+                "Hall pass school report " + startDate + " to " + endDate)) {
+            createDailySummarySheet(writer.sheet("Daily Summary"), sessions, startDate, endDate);
+            createAllSessionsSheet(writer.sheet("All Sessions"), sessions);
+            createByStudentSheet(writer.sheet("By Student"), sessions);
+            createByDestinationSheet(writer.sheet("By Destination"), sessions);
 
-            // All sessions sheet
-            Sheet allSessionsSheet = workbook.createSheet("All Sessions");
-            createAllSessionsSheet(workbook, allSessionsSheet, sessions);
-
-            // By student sheet
-            Sheet byStudentSheet = workbook.createSheet("By Student");
-            createByStudentSheet(workbook, byStudentSheet, sessions);
-
-            // By destination sheet
-            Sheet byDestinationSheet = workbook.createSheet("By Destination");
-            createByDestinationSheet(workbook, byDestinationSheet, sessions);
-
-            workbook.write(outputStream);
+            JobStats stats = writer.writeTo(out);
             log.info("School Excel report generated successfully");
+            return stats;
 
         } catch (Exception e) {
             log.error("Failed to generate school Excel report", e);
             throw new RuntimeException("Failed to generate Excel report: " + e.getMessage());
         }
-
-        return outputStream;
     }
 
     // ==================== PDF Helper Methods ====================
@@ -659,110 +663,42 @@ public class HallPassReportService {
 
     // ==================== Excel Helper Methods ====================
 
-    private void createSummarySheet(Workbook workbook, Sheet sheet, Student student,
-                                     List<HallPassSession> sessions, LocalDate startDate, LocalDate endDate) {
-        CellStyle headerStyle = createHeaderStyle(workbook);
-        CellStyle titleStyle = createTitleStyle(workbook);
-
-        int rowNum = 0;
-
-        // Title
-        Row titleRow = sheet.createRow(rowNum++);
-        Cell titleCell = titleRow.createCell(0);
-        titleCell.setCellValue("Hall Pass Report - " + student.getFirstName() + " " + student.getLastName());
-        titleCell.setCellStyle(titleStyle);
-        sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, 3));
-
-        rowNum++; // Blank row
-
-        // Date range
-        Row dateRow = sheet.createRow(rowNum++);
-        dateRow.createCell(0).setCellValue("Report Period:");
-        dateRow.createCell(1).setCellValue(formatDateRange(startDate, endDate));
-
-        rowNum++; // Blank row
+    private void createSummarySheet(SheetWriter sheet, Student student, List<HallPassSession> sessions,
+                                    LocalDate startDate, LocalDate endDate) {
+        sheet.title("Hall Pass Report - " + student.getFirstName() + " " + student.getLastName(), 4);
+        sheet.blankRow();
+        sheet.row("Report Period:", formatDateRange(startDate, endDate));
+        sheet.blankRow();
 
         // Statistics
         long completed = sessions.stream().filter(s -> s.getStatus() == SessionStatus.COMPLETED).count();
         long overdue = sessions.stream().filter(s -> s.getStatus() == SessionStatus.OVERDUE).count();
 
-        Row headerRow = sheet.createRow(rowNum++);
-        headerRow.createCell(0).setCellValue("Metric");
-        headerRow.createCell(1).setCellValue("Value");
-        headerRow.getCell(0).setCellStyle(headerStyle);
-        headerRow.getCell(1).setCellStyle(headerStyle);
-
-        createStatRow(sheet, rowNum++, "Total Passes", sessions.size());
-        createStatRow(sheet, rowNum++, "Completed On Time", (int) completed);
-        createStatRow(sheet, rowNum++, "Overdue", (int) overdue);
-
-        OptionalDouble avgDuration = sessions.stream()
-                .filter(s -> s.getDurationMinutes() != null)
-                .mapToInt(HallPassSession::getDurationMinutes)
-                .average();
-        Row avgRow = sheet.createRow(rowNum++);
-        avgRow.createCell(0).setCellValue("Average Duration (min)");
-        avgRow.createCell(1).setCellValue(String.format("%.1f", avgDuration.orElse(0)));
-
-        // Auto-size columns
-        sheet.autoSizeColumn(0);
-        sheet.autoSizeColumn(1);
+        sheet.header("Metric", "Value");
+        sheet.row("Total Passes", sessions.size());
+        sheet.row("Completed On Time", completed);
+        sheet.row("Overdue", overdue);
+        sheet.row("Average Duration (min)", String.format("%.1f", averageDuration(sessions)));
     }
 
-    private void createDetailsSheet(Workbook workbook, Sheet sheet, List<HallPassSession> sessions) {
-        CellStyle headerStyle = createHeaderStyle(workbook);
-        CellStyle dateStyle = createDateStyle(workbook);
-
-        // Headers
-        Row headerRow = sheet.createRow(0);
-        String[] headers = {"Date", "Departure Time", "Return Time", "Destination", "Duration (min)", "Status", "Period"};
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(headerStyle);
-        }
-
-        // Data rows
-        int rowNum = 1;
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("MM/dd/yyyy");
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("h:mm a");
+    private void createDetailsSheet(SheetWriter sheet, List<HallPassSession> sessions) {
+        sheet.header("Date", "Departure Time", "Return Time", "Destination", "Duration (min)", "Status", "Period");
 
         for (HallPassSession session : sessions) {
-            Row row = sheet.createRow(rowNum++);
-
-            row.createCell(0).setCellValue(session.getDepartureTime() != null ?
-                    session.getDepartureTime().format(dateFormatter) : "");
-            row.createCell(1).setCellValue(session.getDepartureTime() != null ?
-                    session.getDepartureTime().format(timeFormatter) : "");
-            row.createCell(2).setCellValue(session.getReturnTime() != null ?
-                    session.getReturnTime().format(timeFormatter) : "Active");
-            row.createCell(3).setCellValue(session.getDestination().getDisplayName());
-            row.createCell(4).setCellValue(session.getDurationMinutes() != null ?
-                    session.getDurationMinutes() : 0);
-            row.createCell(5).setCellValue(session.getStatus().name());
-            row.createCell(6).setCellValue(session.getPeriod() != null ? session.getPeriod() : 0);
-        }
-
-        // Auto-size columns
-        for (int i = 0; i < headers.length; i++) {
-            sheet.autoSizeColumn(i);
+            sheet.row(
+                    session.getDepartureTime() != null ? session.getDepartureTime().format(EXCEL_DATE_FORMAT) : "",
+                    session.getDepartureTime() != null ? session.getDepartureTime().format(EXCEL_TIME_FORMAT) : "",
+                    session.getReturnTime() != null ? session.getReturnTime().format(EXCEL_TIME_FORMAT) : "Active",
+                    session.getDestination().getDisplayName(),
+                    session.getDurationMinutes() != null ? session.getDurationMinutes() : 0,
+                    session.getStatus().name(),
+                    session.getPeriod() != null ? session.getPeriod() : 0);
         }
     }
 
-    private void createAnalyticsSheet(Workbook workbook, Sheet sheet, List<HallPassSession> sessions) {
-        CellStyle headerStyle = createHeaderStyle(workbook);
-
-        int rowNum = 0;
-
-        // By Destination
-        Row destTitle = sheet.createRow(rowNum++);
-        destTitle.createCell(0).setCellValue("Passes by Destination");
-
-        Row destHeader = sheet.createRow(rowNum++);
-        destHeader.createCell(0).setCellValue("Destination");
-        destHeader.createCell(1).setCellValue("Count");
-        destHeader.getCell(0).setCellStyle(headerStyle);
-        destHeader.getCell(1).setCellStyle(headerStyle);
+    private void createAnalyticsSheet(SheetWriter sheet, List<HallPassSession> sessions) {
+        sheet.row("Passes by Destination");
+        sheet.header("Destination", "Count");
 
         Map<String, Long> byDestination = sessions.stream()
                 .collect(Collectors.groupingBy(
@@ -770,197 +706,89 @@ public class HallPassReportService {
                         Collectors.counting()));
 
         for (Map.Entry<String, Long> entry : byDestination.entrySet()) {
-            Row row = sheet.createRow(rowNum++);
-            row.createCell(0).setCellValue(entry.getKey());
-            row.createCell(1).setCellValue(entry.getValue());
+            sheet.row(entry.getKey(), entry.getValue());
         }
-
-        sheet.autoSizeColumn(0);
-        sheet.autoSizeColumn(1);
     }
 
-    private void createDailySummarySheet(Workbook workbook, Sheet sheet, List<HallPassSession> sessions,
-                                          LocalDate startDate, LocalDate endDate) {
-        CellStyle headerStyle = createHeaderStyle(workbook);
+    private void createDailySummarySheet(SheetWriter sheet, List<HallPassSession> sessions,
+                                         LocalDate startDate, LocalDate endDate) {
+        sheet.header("Date", "Total", "Completed", "Overdue", "Avg Duration");
 
-        Row headerRow = sheet.createRow(0);
-        String[] headers = {"Date", "Total", "Completed", "Overdue", "Avg Duration"};
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(headerStyle);
-        }
+        // Group once rather than scanning every session for every day of the range
+        Map<LocalDate, List<HallPassSession>> byDate = sessions.stream()
+                .filter(s -> s.getDepartureTime() != null)
+                .collect(Collectors.groupingBy(s -> s.getDepartureTime().toLocalDate()));
 
-        int rowNum = 1;
         LocalDate current = startDate;
         while (!current.isAfter(endDate)) {
-            LocalDate date = current;
-            List<HallPassSession> daySessions = sessions.stream()
-                    .filter(s -> s.getDepartureTime() != null &&
-                            s.getDepartureTime().toLocalDate().equals(date))
-                    .toList();
-
-            Row row = sheet.createRow(rowNum++);
-            row.createCell(0).setCellValue(date.format(DateTimeFormatter.ofPattern("MM/dd/yyyy")));
-            row.createCell(1).setCellValue(daySessions.size());
-            row.createCell(2).setCellValue(daySessions.stream()
-                    .filter(s -> s.getStatus() == SessionStatus.COMPLETED).count());
-            row.createCell(3).setCellValue(daySessions.stream()
-                    .filter(s -> s.getStatus() == SessionStatus.OVERDUE).count());
-
-            OptionalDouble avg = daySessions.stream()
-                    .filter(s -> s.getDurationMinutes() != null)
-                    .mapToInt(HallPassSession::getDurationMinutes)
-                    .average();
-            row.createCell(4).setCellValue(String.format("%.1f", avg.orElse(0)));
+            List<HallPassSession> daySessions = byDate.getOrDefault(current, List.of());
 
-            current = current.plusDays(1);
-        }
+            sheet.row(
+                    current.format(EXCEL_DATE_FORMAT),
+                    daySessions.size(),
+                    daySessions.stream().filter(s -> s.getStatus() == SessionStatus.COMPLETED).count(),
+                    daySessions.stream().filter(s -> s.getStatus() == SessionStatus.OVERDUE).count(),
+                    String.format("%.1f", averageDuration(daySessions)));
 
-        for (int i = 0; i < headers.length; i++) {
-            sheet.autoSizeColumn(i);
+            current = current.plusDays(1);
         }
     }
 
-    private void createAllSessionsSheet(Workbook workbook, Sheet sheet, List<HallPassSession> sessions) {
-        CellStyle headerStyle = createHeaderStyle(workbook);
-
-        Row headerRow = sheet.createRow(0);
-        String[] headers = {"Date", "Student", "Departure", "Return", "Destination", "Duration", "Status"};
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(headerStyle);
-        }
-
-        int rowNum = 1;
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("MM/dd/yyyy");
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("h:mm a");
+    private void createAllSessionsSheet(SheetWriter sheet, List<HallPassSession> sessions) {
+        sheet.header("Date", "Student", "Departure", "Return", "Destination", "Duration", "Status");
 
         for (HallPassSession session : sessions) {
-            Row row = sheet.createRow(rowNum++);
-            row.createCell(0).setCellValue(session.getDepartureTime() != null ?
-                    session.getDepartureTime().format(dateFormatter) : "");
-            row.createCell(1).setCellValue(session.getStudent() != null ?
-                    session.getStudent().getFirstName() + " " + session.getStudent().getLastName() : "");
-            row.createCell(2).setCellValue(session.getDepartureTime() != null ?
-                    session.getDepartureTime().format(timeFormatter) : "");
-            row.createCell(3).setCellValue(session.getReturnTime() != null ?
-                    session.getReturnTime().format(timeFormatter) : "Active");
-            row.createCell(4).setCellValue(session.getDestination().getDisplayName());
-            row.createCell(5).setCellValue(session.getDurationMinutes() != null ?
-                    session.getDurationMinutes() : 0);
-            row.createCell(6).setCellValue(session.getStatus().name());
-        }
-
-        for (int i = 0; i < headers.length; i++) {
-            sheet.autoSizeColumn(i);
+            sheet.row(
+                    session.getDepartureTime() != null ? session.getDepartureTime().format(EXCEL_DATE_FORMAT) : "",
+                    session.getStudent() != null ?
+                            session.getStudent().getFirstName() + " " + session.getStudent().getLastName() : "",
+                    session.getDepartureTime() != null ? session.getDepartureTime().format(EXCEL_TIME_FORMAT) : "",
+                    session.getReturnTime() != null ? session.getReturnTime().format(EXCEL_TIME_FORMAT) : "Active",
+                    session.getDestination().getDisplayName(),
+                    session.getDurationMinutes() != null ? session.getDurationMinutes() : 0,
+                    session.getStatus().name());
         }
     }
 
-    private void createByStudentSheet(Workbook workbook, Sheet sheet, List<HallPassSession> sessions) {
-        CellStyle headerStyle = createHeaderStyle(workbook);
-
-        Row headerRow = sheet.createRow(0);
-        String[] headers = {"Student", "Total Passes", "Completed", "Overdue", "Avg Duration"};
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(headerStyle);
-        }
+    private void createByStudentSheet(SheetWriter sheet, List<HallPassSession> sessions) {
+        sheet.header("Student", "Total Passes", "Completed", "Overdue", "Avg Duration");
 
         Map<String, List<HallPassSession>> byStudent = sessions.stream()
                 .filter(s -> s.getStudent() != null)
                 .collect(Collectors.groupingBy(
                         s -> s.getStudent().getFirstName() + " " + s.getStudent().getLastName()));
 
-        int rowNum = 1;
         for (Map.Entry<String, List<HallPassSession>> entry : byStudent.entrySet()) {
             List<HallPassSession> studentSessions = entry.getValue();
-            Row row = sheet.createRow(rowNum++);
-
-            row.createCell(0).setCellValue(entry.getKey());
-            row.createCell(1).setCellValue(studentSessions.size());
-            row.createCell(2).setCellValue(studentSessions.stream()
-                    .filter(s -> s.getStatus() == SessionStatus.COMPLETED).count());
-            row.createCell(3).setCellValue(studentSessions.stream()
-                    .filter(s -> s.getStatus() == SessionStatus.OVERDUE).count());
-
-            OptionalDouble avg = studentSessions.stream()
-                    .filter(s -> s.getDurationMinutes() != null)
-                    .mapToInt(HallPassSession::getDurationMinutes)
-                    .average();
-            row.createCell(4).setCellValue(String.format("%.1f", avg.orElse(0)));
-        }
-
-        for (int i = 0; i < headers.length; i++) {
-            sheet.autoSizeColumn(i);
+            sheet.row(
+                    entry.getKey(),
+                    studentSessions.size(),
+                    studentSessions.stream().filter(s -> s.getStatus() == SessionStatus.COMPLETED).count(),
+                    studentSessions.stream().filter(s -> s.getStatus() == SessionStatus.OVERDUE).count(),
+                    String.format("%.1f", averageDuration(studentSessions)));
         }
     }
 
-    private void createByDestinationSheet(Workbook workbook, Sheet sheet, List<HallPassSession> sessions) {
-        CellStyle headerStyle = createHeaderStyle(workbook);
-
-        Row headerRow = sheet.createRow(0);
-        String[] headers = {"Destination", "Total", "Avg Duration"};
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-            cell.setCellStyle(headerStyle);
-        }
+    private void createByDestinationSheet(SheetWriter sheet, List<HallPassSession> sessions) {
+        sheet.header("Destination", "Total", "Avg Duration");
 
         Map<String, List<HallPassSession>> byDest = sessions.stream()
                 .collect(Collectors.groupingBy(s -> s.getDestination().getDisplayName()));
 
-        int rowNum = 1;
         for (Map.Entry<String, List<HallPassSession>> entry : byDest.entrySet()) {
-            Row row = sheet.createRow(rowNum++);
-            row.createCell(0).setCellValue(entry.getKey());
-            row.createCell(1).setCellValue(entry.getValue().size());
-
-            OptionalDouble avg = entry.getValue().stream()
-                    .filter(s -> s.getDurationMinutes() != null)
-                    .mapToInt(HallPassSession::getDurationMinutes)
-                    .average();
-            row.createCell(2).setCellValue(String.format("%.1f", avg.orElse(0)));
-        }
-
-        for (int i = 0; i < headers.length; i++) {
-            sheet.autoSizeColumn(i);
+            sheet.row(
+                    entry.getKey(),
+                    entry.getValue().size(),
+                    String.format("%.1f", averageDuration(entry.getValue())));
         }
     }
 
-    // ==================== Style Helpers ====================
-
-    private CellStyle createHeaderStyle(Workbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        Font font = workbook.createFont();
-        font.setBold(true);
-        style.setFont(font);
-        style.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        return style;
-    }
-
-    private CellStyle createTitleStyle(Workbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        Font font = workbook.createFont();
-        font.setBold(true);
-        font.setFontHeightInPoints((short) 14);
-        style.setFont(font);
-        return style;
-    }
-
-    private CellStyle createDateStyle(Workbook workbook) {
-        CellStyle style = workbook.createCellStyle();
-        style.setDataFormat(workbook.createDataFormat().getFormat("mm/dd/yyyy"));
-        return style;
-    }
-
-    private void createStatRow(Sheet sheet, int rowNum, String label, int value) {
-        Row row = sheet.createRow(rowNum);
-        row.createCell(0).setCellValue(label);
-        row.createCell(1).setCellValue(value);
+    private double averageDuration(List<HallPassSession> sessions) {
+        return sessions.stream()
+                .filter(s -> s.getDurationMinutes() != null)
+                .mapToInt(HallPassSession::getDurationMinutes)
+                .average()
+                .orElse(0);
     }
 
     // ==================== PDF Cell Helpers ====================
@@ -0,0 +1,376 @@
+package com.heronix.service.export;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Streaming Spreadsheet Writer
+ *
+ * Shared low-memory Excel writer for reports. Backed by SXSSF: each sheet
+ * keeps only its last {@value #ROW_WINDOW} rows on the heap and spills older
+ * rows to a compressed temp file, so a year-long report needs about as much
+ * memory as a one-day report.
+ *
+ * - Cell styles are created once per workbook ({@link Style}) and shared by
+ *   every cell that uses them
+ * - Column widths are sized from the first window of rows of each sheet
+ * - Rows are written in order; a row can't be changed once it has left the
+ *   window
+ * - writeTo() logs and returns the job's statistics, including the bytes
+ *   allocated by the writing thread and the peak heap seen while writing
+ *
+ * Usage:
+ * <code>
+ * try (StreamingSpreadsheetWriter writer = new StreamingSpreadsheetWriter("Daily attendance")) {
+ *     SheetWriter sheet = writer.sheet("Attendance");
+ *     sheet.header("Student ID", "Student Name");
+ *     sheet.row(42L, "Jane Smith");
+ *     writer.writeTo(outputStream);
+ * }
+ * </code>
+ *
+ * Not thread-safe; one writer per report.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@Slf4j
+public class StreamingSpreadsheetWriter implements Closeable {
+
+    /**
+     * Rows of each sheet kept in memory
+     */
+    public static final int ROW_WINDOW = 100;
+
+    /**
+     * Cell styles shared across the workbook
+     */
+    public enum Style {
+        TITLE,
+        HEADER,
+        DATA,
+        WARNING,
+        PERCENT,
+        DECIMAL
+    }
+
+    /**
+     * A cell value with its own style, for rows that mix styles
+     */
+    public record Styled(Object value, Style style) {
+    }
+
+    /**
+     * Statistics for one report
+     *
+     * @param allocatedBytes Bytes allocated by the writing thread, or -1 if
+     *                       the JVM doesn't measure it
+     * @param peakHeapBytes  Highest heap use seen while writing; the heap is
+     *                       shared with everything else running, so this is
+     *                       an upper bound for the report itself
+     */
+    public record JobStats(String job, int sheets, long rows, long bytesWritten, long elapsedMs,
+                           long allocatedBytes, long peakHeapBytes) {
+    }
+
+    private final String jobName;
+    private final SXSSFWorkbook workbook;
+    private final Map<Style, CellStyle> styles = new EnumMap<>(Style.class);
+    private final long startTime = System.currentTimeMillis();
+    private final long startAllocatedBytes = currentThreadAllocatedBytes();
+    private long peakHeapBytes;
+    private int sheetCount;
+    private long rowCount;
+    private SheetWriter currentSheet;
+
+    /**
+     * @param jobName Report name, used in the statistics
+     */
+    public StreamingSpreadsheetWriter(String jobName) {
+        this.jobName = jobName;
+        this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+        // Keep the spilled rows small on disk
+        this.workbook.setCompressTempFiles(true);
+        sampleHeap();
+    }
+
+    /**
+     * Styled cell value
+     */
+    public static Styled styled(Object value, Style style) {
+        return new Styled(value, style);
+    }
+
+    /**
+     * Start a new sheet; the previous sheet is finished and can't be written to
+     */
+    public SheetWriter sheet(String name) {
+        if (currentSheet != null) {
+            currentSheet.finish();
+        }
+        currentSheet = new SheetWriter(workbook.createSheet(name));
+        sheetCount++;
+        return currentSheet;
+    }
+
+    /**
+     * Shared style, created on first use
+     */
+    public CellStyle style(Style style) {
+        return styles.computeIfAbsent(style, this::createStyle);
+    }
+
+    /**
+     * Finish the workbook and write it to a stream; the stream is flushed but
+     * not closed
+     */
+    public JobStats writeTo(OutputStream out) throws IOException {
+        if (currentSheet != null) {
+            currentSheet.finish();
+        }
+        CountingOutputStream counting = new CountingOutputStream(out);
+        workbook.write(counting);
+        counting.flush();
+        sampleHeap();
+
+        long allocated = startAllocatedBytes >= 0 ? currentThreadAllocatedBytes() - startAllocatedBytes : -1;
+        JobStats stats = new JobStats(jobName, sheetCount, rowCount, counting.count,
+            System.currentTimeMillis() - startTime, allocated, peakHeapBytes);
+        log.info("Spreadsheet '{}': {} rows in {} sheets, {} KB in {}ms (allocated {} MB, peak heap {} MB)",
+            jobName, rowCount, sheetCount, stats.bytesWritten() / 1024, stats.elapsedMs(),
+            allocated >= 0 ? allocated / (1024 * 1024) : "n/a", peakHeapBytes / (1024 * 1024));
+        return stats;
+    }
+
+    /**
+     * Finish the workbook and write it to a file
+     */
+    public JobStats writeTo(Path file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            return writeTo(out);
+        }
+    }
+
+    /**
+     * Finish the workbook and return it as bytes, for callers that still need
+     * a byte[]; only the compressed file is held, never the whole workbook
+     */
+    public byte[] toByteArray() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeTo(out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Delete the temp files
+     */
+    @Override
+    public void close() throws IOException {
+        workbook.dispose();
+        workbook.close();
+    }
+
+    // ========================================================================
+    // SHEET
+    // ========================================================================
+
+    /**
+     * Writes the rows of one sheet, top to bottom
+     */
+    public final class SheetWriter {
+
+        private final SXSSFSheet sheet;
+        private int nextRow;
+        private int columnCount;
+        private boolean columnsSized;
+
+        private SheetWriter(SXSSFSheet sheet) {
+            this.sheet = sheet;
+            this.sheet.trackAllColumnsForAutoSizing();
+        }
+
+        /**
+         * Title row, merged across the given number of columns
+         */
+        public SheetWriter title(String text, int columns) {
+            int rowNum = nextRow;
+            writeRow(Style.TITLE, new Object[] {text});
+            if (columns > 1) {
+                sheet.addMergedRegion(new CellRangeAddress(rowNum, rowNum, 0, columns - 1));
+            }
+            return this;
+        }
+
+        public SheetWriter header(String... columns) {
+            writeRow(Style.HEADER, columns);
+            return this;
+        }
+
+        /**
+         * Row of unstyled values; null leaves a cell empty
+         */
+        public SheetWriter row(Object... values) {
+            writeRow(null, values);
+            return this;
+        }
+
+        /**
+         * Row with one style for every cell (a {@link Styled} value keeps its own)
+         */
+        public SheetWriter row(Style style, Object... values) {
+            writeRow(style, values);
+            return this;
+        }
+
+        public SheetWriter blankRow() {
+            nextRow++;
+            return this;
+        }
+
+        /**
+         * Index of the next row to be written
+         */
+        public int getRowNum() {
+            return nextRow;
+        }
+
+        private void writeRow(Style rowStyle, Object[] values) {
+            Row row = sheet.createRow(nextRow++);
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                Style cellStyle = rowStyle;
+                if (value instanceof Styled styledValue) {
+                    value = styledValue.value();
+                    cellStyle = styledValue.style();
+                }
+                if (value == null && cellStyle == null) continue;
+
+                Cell cell = row.createCell(i);
+                if (value instanceof Number number) {
+                    cell.setCellValue(number.doubleValue());
+                } else if (value instanceof Boolean bool) {
+                    cell.setCellValue(bool);
+                } else if (value != null) {
+                    cell.setCellValue(value.toString());
+                }
+                if (cellStyle != null) {
+                    cell.setCellStyle(style(cellStyle));
+                }
+            }
+            columnCount = Math.max(columnCount, values.length);
+            rowCount++;
+
+            if (nextRow % ROW_WINDOW == 0) {
+                // Size the columns once, from the rows still in memory, rather
+                // than measuring every cell of a large report
+                sizeColumns();
+                sampleHeap();
+            }
+        }
+
+        private void finish() {
+            sizeColumns();
+        }
+
+        private void sizeColumns() {
+            if (columnsSized) return;
+            for (int i = 0; i < columnCount; i++) {
+                sheet.autoSizeColumn(i);
+            }
+            sheet.untrackAllColumnsForAutoSizing();
+            columnsSized = true;
+        }
+    }
+
+    // ========================================================================
+    // HELPER METHODS
+    // ========================================================================
+
+    private CellStyle createStyle(Style style) {
+        CellStyle cellStyle = workbook.createCellStyle();
+        switch (style) {
+            case TITLE -> {
+                Font font = workbook.createFont();
+                font.setBold(true);
+                font.setFontHeightInPoints((short) 14);
+                cellStyle.setFont(font);
+            }
+            case HEADER -> {
+                Font font = workbook.createFont();
+                font.setBold(true);
+                cellStyle.setFont(font);
+                cellStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+                cellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+                setThinBorders(cellStyle);
+            }
+            case DATA -> setThinBorders(cellStyle);
+            case WARNING -> {
+                cellStyle.setFillForegroundColor(IndexedColors.LIGHT_ORANGE.getIndex());
+                cellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+                setThinBorders(cellStyle);
+            }
+            case PERCENT -> {
+                setThinBorders(cellStyle);
+                cellStyle.setDataFormat(workbook.createDataFormat().getFormat("0.00%"));
+            }
+            case DECIMAL -> cellStyle.setDataFormat(workbook.createDataFormat().getFormat("0.0"));
+        }
+        return cellStyle;
+    }
+
+    private static void setThinBorders(CellStyle style) {
+        style.setBorderBottom(BorderStyle.THIN);
+        style.setBorderTop(BorderStyle.THIN);
+        style.setBorderLeft(BorderStyle.THIN);
+        style.setBorderRight(BorderStyle.THIN);
+    }
+
+    private void sampleHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        peakHeapBytes = Math.max(peakHeapBytes, runtime.totalMemory() - runtime.freeMemory());
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /**
+     * Counts the bytes of the finished file
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -3,7 +3,10 @@ package com.heronix.service.impl;
 import com.heronix.model.domain.*;
 import com.heronix.model.domain.AttendanceRecord.AttendanceStatus;
 import com.heronix.repository.AttendanceRepository;
+import com.heronix.repository.CourseRepository;
 import com.heronix.repository.StudentRepository;
+import com.heronix.service.BulkWriteService;
+import com.heronix.websocket.AttendanceWebSocketHandler;
 import lombok.Data;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
@@ -12,6 +15,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -33,6 +38,9 @@ public class AttendanceService {
 
     private final AttendanceRepository attendanceRepository;
     private final StudentRepository studentRepository;
+    private final CourseRepository courseRepository;
+    private final BulkWriteService bulkWriteService;
+    private final AttendanceWebSocketHandler attendanceWebSocketHandler;
 
     /**
      * Record attendance for a student in a class
@@ -68,6 +76,12 @@ public class AttendanceService {
 
     /**
      * Bulk record attendance for a class
+     *
+     * Resolves the roster with one findAllById and the period's existing
+     * records with one query, inserts the new records as a JDBC batch
+     * ({@link BulkWriteService}) and updates changed statuses in place, so
+     * submitting a period again corrects it instead of duplicating it. One
+     * aggregated message is broadcast once the transaction commits.
      */
     @Transactional
     public List<AttendanceRecord> recordClassAttendance(Long courseId, LocalDate date,
@@ -81,27 +95,74 @@ public class AttendanceService {
             return records;
         }
 
-        for (Map.Entry<Long, AttendanceStatus> entry : studentStatuses.entrySet()) {
-            // ✅ NULL SAFE: Skip null entries or null keys/values
-            if (entry == null || entry.getKey() == null || entry.getValue() == null) continue;
+        // ✅ NULL SAFE: Skip null keys/values
+        Map<Long, AttendanceStatus> statuses = new LinkedHashMap<>();
+        studentStatuses.forEach((studentId, status) -> {
+            if (studentId != null && status != null) {
+                statuses.put(studentId, status);
+            }
+        });
+        if (statuses.isEmpty()) {
+            return records;
+        }
 
-            Student student = studentRepository.findById(entry.getKey()).orElse(null);
-            if (student != null) {
-                AttendanceRecord record = AttendanceRecord.builder()
+        Map<Long, Student> roster = new HashMap<>();
+        for (Student student : studentRepository.findAllById(statuses.keySet())) {
+            roster.put(student.getId(), student);
+        }
+        if (roster.isEmpty()) {
+            return records;
+        }
+
+        Map<Long, AttendanceRecord> existingRecords = new HashMap<>();
+        if (courseId != null) {
+            for (AttendanceRecord record : attendanceRepository.findClassPeriodRecords(
+                    courseId, date, periodNumber, roster.keySet())) {
+                existingRecords.put(record.getStudent().getId(), record);
+            }
+        }
+        Course course = courseId != null ? courseRepository.getReferenceById(courseId) : null;
+
+        List<AttendanceRecord> newRecords = new ArrayList<>();
+        int updated = 0;
+        for (Map.Entry<Long, AttendanceStatus> entry : statuses.entrySet()) {
+            Student student = roster.get(entry.getKey());
+            if (student == null) continue;
+
+            AttendanceRecord record = existingRecords.get(entry.getKey());
+            if (record == null) {
+                record = AttendanceRecord.builder()
                     .student(student)
+                    .course(course)
                     .attendanceDate(date)
                     .periodNumber(periodNumber)
                     .status(entry.getValue())
                     .recordedBy(recordedBy)
                     .build();
-                records.add(attendanceRepository.save(record));
+                newRecords.add(record);
+            } else if (record.getStatus() != entry.getValue()) {
+                record.setStatus(entry.getValue());
+                record.setRecordedBy(recordedBy);
+                updated++;
             }
+            records.add(record);
         }
 
+        bulkWriteService.insertAll(newRecords);
+
         // ✅ NULL SAFE: Safe extraction of courseId
         String courseIdStr = (courseId != null) ? courseId.toString() : "Unknown";
-        log.info("Recorded attendance for {} students in course {} on {}",
-            records.size(), courseIdStr, date);
+        log.info("Recorded attendance for {} students in course {} on {} ({} new, {} updated)",
+            records.size(), courseIdStr, date, newRecords.size(), updated);
+
+        if (!newRecords.isEmpty() || updated > 0) {
+            int inserted = newRecords.size();
+            int changed = updated;
+            Map<String, Long> statusCounts = records.stream()
+                .collect(Collectors.groupingBy(r -> r.getStatus().name(), TreeMap::new, Collectors.counting()));
+            afterCommit(() -> attendanceWebSocketHandler.broadcastClassAttendanceRecorded(
+                courseId, date.toString(), periodNumber, inserted, changed, statusCounts));
+        }
 
         return records;
     }
@@ -158,6 +219,51 @@ public class AttendanceService {
             .build();
     }
 
+    /**
+     * Get the attendance summaries of several students from one grouped count
+     * query, for batch reports
+     *
+     * @return Summary by student ID, for every requested student
+     */
+    public Map<Long, AttendanceSummary> getStudentAttendanceSummaries(Collection<Long> studentIds,
+            LocalDate startDate, LocalDate endDate) {
+
+        Map<Long, AttendanceSummary> summaries = new LinkedHashMap<>();
+        // ✅ NULL SAFE: Validate parameters
+        if (studentIds == null || studentIds.isEmpty() || startDate == null || endDate == null) {
+            return summaries;
+        }
+
+        Map<Long, long[]> counts = new HashMap<>();
+        for (Object[] row : attendanceRepository.countByStudentIdsAndStatus(studentIds, startDate, endDate)) {
+            AttendanceStatus status = (AttendanceStatus) row[1];
+            long count = ((Number) row[2]).longValue();
+            // total, present, absent, tardy
+            long[] studentCounts = counts.computeIfAbsent((Long) row[0], id -> new long[4]);
+            studentCounts[0] += count;
+            if (status == AttendanceStatus.PRESENT) studentCounts[1] += count;
+            if (AttendanceRecord.isAbsent(status)) studentCounts[2] += count;
+            if (status == AttendanceStatus.TARDY) studentCounts[3] += count;
+        }
+
+        for (Long studentId : studentIds) {
+            long[] c = counts.getOrDefault(studentId, new long[4]);
+            double attendanceRate = c[0] > 0 ? (double) c[1] / c[0] * 100 : 0;
+            summaries.put(studentId, AttendanceSummary.builder()
+                .studentId(studentId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .totalDays((int) c[0])
+                .daysPresent((int) c[1])
+                .daysAbsent((int) c[2])
+                .daysTardy((int) c[3])
+                .attendanceRate(attendanceRate)
+                .isChronicAbsent(attendanceRate < 90)
+                .build());
+        }
+        return summaries;
+    }
+
     /**
      * Get students with chronic absences
      */
@@ -244,6 +350,22 @@ public class AttendanceService {
             .build();
     }
 
+    /**
+     * Run once the current transaction commits, or now if there is none
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
     // DTOs
 
     @Data
@@ -3,8 +3,10 @@ package com.heronix.service.impl;
 import com.heronix.model.domain.*;
 import com.heronix.model.enums.EducationLevel;
 import com.heronix.repository.*;
+import com.heronix.repository.spec.CourseSpecifications;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -75,6 +77,10 @@ public class AutomatedStudentSchedulingService {
         "English", "Mathematics", "Science", "Social Studies", "History"
     );
 
+    // Active high school courses, filtered in the database
+    private static final Specification<Course> HIGH_SCHOOL_COURSES =
+        CourseSpecifications.active().and(CourseSpecifications.atLevel(EducationLevel.HIGH_SCHOOL));
+
     // Grade-specific course sequences (based on state/federal requirements)
     // Source: College admission requirements and state standards (2025)
     private static final Map<String, GradeSpecificCourses> GRADE_COURSE_PATTERNS = Map.of(
@@ -361,14 +367,8 @@ public class AutomatedStudentSchedulingService {
         String gradeLevel = student.getGradeLevel();
 
         // Get all core courses for this grade level (HIGH_SCHOOL level filter)
-        // ✅ NULL SAFE: Filter null courses and null subjects
-        List<Course> availableCoreCourses = courseRepository.findAll().stream()
-            .filter(Objects::nonNull)
-            .filter(c -> c.isActive())
-            .filter(c -> c.getSubject() != null)
-            .filter(c -> CORE_SUBJECTS.contains(c.getSubject()))
-            .filter(c -> c.getLevel() == EducationLevel.HIGH_SCHOOL) // High school courses
-            .collect(Collectors.toList());
+        List<Course> availableCoreCourses = courseRepository.findAll(
+            HIGH_SCHOOL_COURSES.and(CourseSpecifications.subjectIn(CORE_SUBJECTS)));
 
         // Get grade-specific course patterns
         GradeSpecificCourses gradePatterns = GRADE_COURSE_PATTERNS.get(gradeLevel);
@@ -557,14 +557,8 @@ public class AutomatedStudentSchedulingService {
         String gradeLevel = student.getGradeLevel();
 
         // Get all elective courses for this grade level (HIGH_SCHOOL level filter)
-        // ✅ NULL SAFE: Filter null courses and null subjects
-        List<Course> availableElectives = courseRepository.findAll().stream()
-            .filter(Objects::nonNull)
-            .filter(c -> c.isActive())
-            .filter(c -> c.getSubject() != null)
-            .filter(c -> !CORE_SUBJECTS.contains(c.getSubject()))
-            .filter(c -> c.getLevel() == EducationLevel.HIGH_SCHOOL) // High school courses
-            .collect(Collectors.toList());
+        List<Course> availableElectives = courseRepository.findAll(
+            HIGH_SCHOOL_COURSES.and(CourseSpecifications.subjectNotIn(CORE_SUBJECTS)));
 
         // Get grade-specific recommended electives
         GradeSpecificCourses gradePatterns = GRADE_COURSE_PATTERNS.get(gradeLevel);
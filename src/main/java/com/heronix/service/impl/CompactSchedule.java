@@ -0,0 +1,328 @@
+package com.heronix.service.impl;
+
+import com.heronix.model.domain.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Compact Schedule
+ * Detached, primitive-array encoding of a schedule's slot placements shared by
+ * the schedule optimizers (genetic algorithm, simulated annealing, tabu search,
+ * island model and the reinforcement learning schedulers).
+ *
+ * Each slot is held as a day code, start and end (seconds of day) and a room
+ * index in parallel int arrays. Teachers never move during optimization, so
+ * slots, teachers and rooms are indexed once in an {@link Index} shared by every
+ * copy of the same schedule.
+ *
+ * Optimizers work on copies only and never touch the entities. Copying is an
+ * array copy, and {@link #copyFrom} reuses an existing copy so search loops can
+ * keep a fixed set of working schedules without allocating. The entities are
+ * written once, by {@link #applyTo()} on the solution that is kept.
+ *
+ * Not thread-safe; give each thread its own copy.
+ *
+ * Location: src/main/java/com/heronix/service/impl/CompactSchedule.java
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 14 - Solver Optimizations
+ */
+public final class CompactSchedule {
+
+    /** Day code for slots with no day of week */
+    public static final int NO_DAY = 7;
+
+    /** Time value for slots with no start or end time */
+    public static final int NO_TIME = -1;
+
+    /** Index value for slots with no room (or no teacher) */
+    public static final int NONE = -1;
+
+    final Index index;
+
+    final int[] day;
+    final int[] start;
+    final int[] end;
+    final int[] room;
+
+    // ========================================================================
+    // CONSTRUCTION
+    // ========================================================================
+
+    /**
+     * Encode a list of slots; these are the slots {@link #applyTo()} writes back to
+     *
+     * @param slots the slots to encode (null entries are skipped)
+     */
+    public static CompactSchedule of(List<ScheduleSlot> slots) {
+        return new CompactSchedule(new Index(slots != null ? slots : List.of()));
+    }
+
+    private CompactSchedule(Index index) {
+        this.index = index;
+
+        int slotCount = index.slots.size();
+        day = new int[slotCount];
+        start = new int[slotCount];
+        end = new int[slotCount];
+        room = index.slotRoom.clone();
+
+        for (int i = 0; i < slotCount; i++) {
+            ScheduleSlot slot = index.slots.get(i);
+            day[i] = dayCode(slot.getDayOfWeek());
+            start[i] = timeCode(slot.getStartTime());
+            end[i] = timeCode(slot.getEndTime());
+        }
+    }
+
+    private CompactSchedule(CompactSchedule other) {
+        this.index = other.index;
+        this.day = other.day.clone();
+        this.start = other.start.clone();
+        this.end = other.end.clone();
+        this.room = other.room.clone();
+    }
+
+    /**
+     * Independent copy of this schedule (shares the immutable index)
+     */
+    public CompactSchedule copy() {
+        return new CompactSchedule(this);
+    }
+
+    /**
+     * Overwrite this schedule with another copy of the same schedule, without allocating
+     */
+    public void copyFrom(CompactSchedule other) {
+        copyRange(other, 0, day.length);
+    }
+
+    /**
+     * Overwrite slots {@code [from, to)} with the placements of another copy of the same schedule
+     */
+    public void copyRange(CompactSchedule other, int from, int to) {
+        if (other.index != index) {
+            throw new IllegalArgumentException("Schedules were encoded from different slots");
+        }
+        int length = to - from;
+        System.arraycopy(other.day, from, day, from, length);
+        System.arraycopy(other.start, from, start, from, length);
+        System.arraycopy(other.end, from, end, from, length);
+        System.arraycopy(other.room, from, room, from, length);
+    }
+
+    // ========================================================================
+    // PLACEMENTS
+    // ========================================================================
+
+    public int size() {
+        return day.length;
+    }
+
+    public int getRoomCount() {
+        return index.rooms.length;
+    }
+
+    public int getDay(int slot) {
+        return day[slot];
+    }
+
+    public int getStart(int slot) {
+        return start[slot];
+    }
+
+    public int getEnd(int slot) {
+        return end[slot];
+    }
+
+    public int getRoom(int slot) {
+        return room[slot];
+    }
+
+    /**
+     * Move a slot to a new day and time
+     *
+     * @param dayCode  {@link DayOfWeek#ordinal()} or {@link #NO_DAY}
+     * @param startSec start as seconds of day, or {@link #NO_TIME}
+     * @param endSec   end as seconds of day, or {@link #NO_TIME}
+     */
+    public void setTime(int slot, int dayCode, int startSec, int endSec) {
+        day[slot] = dayCode;
+        start[slot] = startSec;
+        end[slot] = endSec;
+    }
+
+    /**
+     * Move a slot to another day, keeping its time
+     */
+    public void setDay(int slot, int dayCode) {
+        day[slot] = dayCode;
+    }
+
+    /**
+     * Move a slot to another room
+     *
+     * @param roomIndex index in this schedule's room table, or {@link #NONE}
+     */
+    public void setRoom(int slot, int roomIndex) {
+        room[slot] = roomIndex;
+    }
+
+    /**
+     * Exchange the day and time of two slots (rooms stay put)
+     */
+    public void swapTimes(int slot1, int slot2) {
+        int tempDay = day[slot1];
+        int tempStart = start[slot1];
+        int tempEnd = end[slot1];
+
+        day[slot1] = day[slot2];
+        start[slot1] = start[slot2];
+        end[slot1] = end[slot2];
+
+        day[slot2] = tempDay;
+        start[slot2] = tempStart;
+        end[slot2] = tempEnd;
+    }
+
+    // ========================================================================
+    // DECODING
+    // ========================================================================
+
+    /**
+     * The encoded slot entities, in encoding order
+     */
+    public List<ScheduleSlot> getSlots() {
+        return index.slots;
+    }
+
+    /**
+     * Write the placements back to the encoded slot entities
+     *
+     * @return the updated slots, in encoding order
+     */
+    public List<ScheduleSlot> applyTo() {
+        for (int i = 0; i < day.length; i++) {
+            ScheduleSlot slot = index.slots.get(i);
+            slot.setDayOfWeek(day[i] != NO_DAY ? DayOfWeek.values()[day[i]] : null);
+            slot.setStartTime(start[i] != NO_TIME ? LocalTime.ofSecondOfDay(start[i]) : null);
+            slot.setEndTime(end[i] != NO_TIME ? LocalTime.ofSecondOfDay(end[i]) : null);
+            // Slots that keep their room keep their own room instance
+            slot.setRoom(room[i] == index.slotRoom[i] ? index.slotRoomEntities[i]
+                : room[i] != NONE ? index.rooms[room[i]] : null);
+        }
+        return index.slots;
+    }
+
+    public static int dayCode(DayOfWeek dayOfWeek) {
+        return dayOfWeek != null ? dayOfWeek.ordinal() : NO_DAY;
+    }
+
+    public static int timeCode(LocalTime time) {
+        return time != null ? time.toSecondOfDay() : NO_TIME;
+    }
+
+    // ========================================================================
+    // INDEX
+    // ========================================================================
+
+    /**
+     * Slot, teacher and room tables of one encoded schedule; immutable and
+     * shared by all its copies
+     */
+    static final class Index {
+        final List<ScheduleSlot> slots;
+
+        // Teachers with an ID, by ID; slots of unsaved teachers map to NONE
+        final Teacher[] teachers;
+        final int[] slotTeacher;
+        // Like slotTeacher, but all unsaved teachers share key teachers.length
+        // (they are equal by their null ID)
+        final int[] slotTeacherKey;
+
+        // Rooms with an ID by ID, unsaved rooms by instance
+        final Room[] rooms;
+        final boolean[] roomIndexed;
+        // Room compared by ID: a room's own index, or one shared key for all unsaved rooms
+        final int[] roomKey;
+        final int[] slotRoom;
+        final Room[] slotRoomEntities;
+
+        private Index(List<ScheduleSlot> scheduleSlots) {
+            List<ScheduleSlot> slotList = new ArrayList<>(scheduleSlots.size());
+            for (ScheduleSlot slot : scheduleSlots) {
+                if (slot != null) { // ✅ NULL SAFE: Skip null slots
+                    slotList.add(slot);
+                }
+            }
+            this.slots = Collections.unmodifiableList(slotList);
+
+            int n = slotList.size();
+            slotTeacher = new int[n];
+            slotTeacherKey = new int[n];
+            slotRoom = new int[n];
+            slotRoomEntities = new Room[n];
+
+            Map<Long, Integer> teacherIndex = new HashMap<>();
+            List<Teacher> teacherList = new ArrayList<>();
+            Map<Long, Integer> roomIndex = new HashMap<>();
+            Map<Room, Integer> unsavedRoomIndex = new IdentityHashMap<>();
+            List<Room> roomList = new ArrayList<>();
+
+            for (int i = 0; i < n; i++) {
+                ScheduleSlot slot = slotList.get(i);
+
+                Teacher teacher = slot.getTeacher();
+                if (teacher != null && teacher.getId() != null) {
+                    slotTeacher[i] = teacherIndex.computeIfAbsent(teacher.getId(), id -> {
+                        teacherList.add(teacher);
+                        return teacherList.size() - 1;
+                    });
+                } else {
+                    slotTeacher[i] = NONE;
+                }
+
+                Room slotRoomEntity = slot.getRoom();
+                slotRoomEntities[i] = slotRoomEntity;
+                if (slotRoomEntity != null) {
+                    // Unsaved rooms are kept apart so decoding restores the right instance
+                    slotRoom[i] = slotRoomEntity.getId() != null
+                        ? roomIndex.computeIfAbsent(slotRoomEntity.getId(), id -> addRoom(roomList, slotRoomEntity))
+                        : unsavedRoomIndex.computeIfAbsent(slotRoomEntity, r -> addRoom(roomList, r));
+                } else {
+                    slotRoom[i] = NONE;
+                }
+            }
+
+            teachers = teacherList.toArray(new Teacher[0]);
+            for (int i = 0; i < n; i++) {
+                slotTeacherKey[i] = slotTeacher[i] != NONE ? slotTeacher[i]
+                    : slotList.get(i).getTeacher() != null ? teachers.length : NONE;
+            }
+
+            rooms = roomList.toArray(new Room[0]);
+            roomIndexed = new boolean[rooms.length];
+            roomKey = new int[rooms.length];
+            int unsavedKey = NONE;
+            for (int r = 0; r < rooms.length; r++) {
+                roomIndexed[r] = rooms[r].getId() != null;
+                if (roomIndexed[r]) {
+                    roomKey[r] = r;
+                } else {
+                    if (unsavedKey == NONE) {
+                        unsavedKey = r;
+                    }
+                    roomKey[r] = unsavedKey;
+                }
+            }
+        }
+
+        private static int addRoom(List<Room> roomList, Room room) {
+            roomList.add(room);
+            return roomList.size() - 1;
+        }
+    }
+}
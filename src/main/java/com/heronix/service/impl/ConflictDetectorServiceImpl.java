@@ -14,12 +14,18 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Conflict Detector Service Implementation
  * Implements comprehensive conflict detection algorithms
  *
+ * All checks run against a {@link ScheduleConflictIndex} of the schedule, loaded
+ * with one query each for slots, enrollments and sections. Interactive editors
+ * can keep an index open so repeated checks never go back to the database.
+ *
  * Location: src/main/java/com/heronix/service/impl/ConflictDetectorServiceImpl.java
  *
  * @author Heronix Scheduling System Team
@@ -52,6 +58,12 @@ public class ConflictDetectorServiceImpl implements ConflictDetectorService {
     @Autowired
     private CourseRepository courseRepository;
 
+    /**
+     * Conflict indexes kept open for schedules being edited interactively,
+     * keyed by schedule ID. See {@link #openConflictIndex(Schedule)}.
+     */
+    private final Map<Long, ScheduleConflictIndex> openIndexes = new ConcurrentHashMap<>();
+
     // ========================================================================
     // COMPREHENSIVE DETECTION
     // ========================================================================
@@ -61,30 +73,33 @@ public class ConflictDetectorServiceImpl implements ConflictDetectorService {
         log.info("Detecting all conflicts for schedule: {}", schedule.getScheduleName());
 
         List<Conflict> allConflicts = new ArrayList<>();
-
-        // Time-based conflicts
-        allConflicts.addAll(detectTimeOverlaps(schedule));
-        allConflicts.addAll(detectBackToBackViolations(schedule));
-        allConflicts.addAll(detectMissingLunchBreaks(schedule));
-        allConflicts.addAll(detectExcessiveConsecutiveClasses(schedule));
-
-        // Room-based conflicts
-        allConflicts.addAll(detectRoomDoubleBookings(schedule));
-        allConflicts.addAll(detectRoomCapacityViolations(schedule));
-        allConflicts.addAll(detectRoomTypeMismatches(schedule));
-
-        // Teacher-based conflicts
-        allConflicts.addAll(detectTeacherOverloads(schedule));
-        allConflicts.addAll(detectExcessiveTeachingHours(schedule));
-        allConflicts.addAll(detectMissingPreparationPeriods(schedule));
-        allConflicts.addAll(detectSubjectMismatches(schedule));
-
-        // Student-based conflicts
-        allConflicts.addAll(detectStudentScheduleConflicts(schedule));
-
-        // Course-based conflicts
-        allConflicts.addAll(detectSectionOverEnrollment(schedule));
-        allConflicts.addAll(detectSectionUnderEnrollment(schedule));
+        ScheduleConflictIndex index = conflictIndex(schedule);
+
+        synchronized (index) {
+            // Time-based conflicts
+            allConflicts.addAll(detectTimeOverlaps(index));
+            allConflicts.addAll(detectBackToBackViolations(index));
+            allConflicts.addAll(detectMissingLunchBreaks(index));
+            allConflicts.addAll(detectExcessiveConsecutiveClasses(index));
+
+            // Room-based conflicts
+            allConflicts.addAll(detectRoomDoubleBookings(index));
+            allConflicts.addAll(detectRoomCapacityViolations(index));
+            allConflicts.addAll(detectRoomTypeMismatches(index));
+
+            // Teacher-based conflicts
+            allConflicts.addAll(detectTeacherOverloads(index));
+            allConflicts.addAll(detectExcessiveTeachingHours(index));
+            allConflicts.addAll(detectMissingPreparationPeriods(index));
+            allConflicts.addAll(detectSubjectMismatches(index));
+
+            // Student-based conflicts
+            allConflicts.addAll(detectStudentScheduleConflicts(index));
+
+            // Course-based conflicts
+            allConflicts.addAll(detectSectionOverEnrollment(index));
+            allConflicts.addAll(detectSectionUnderEnrollment(index));
+        }
 
         log.info("Total conflicts detected: {}", allConflicts.size());
         return allConflicts;
@@ -96,50 +111,50 @@ public class ConflictDetectorServiceImpl implements ConflictDetectorService {
 
         List<Conflict> conflicts = new ArrayList<>();
 
-        // Check time overlaps with other slots
-        List<ScheduleSlot> overlappingSlots = findOverlappingSlots(slot);
-
-        for (ScheduleSlot overlapping : overlappingSlots) {
-            // Check for teacher conflicts
-            if (slot.getTeacher() != null && overlapping.getTeacher() != null &&
-                slot.getTeacher().getId().equals(overlapping.getTeacher().getId())) {
-
-                Conflict conflict = createConflict(
-                    ConflictType.TEACHER_OVERLOAD,
-                    ConflictSeverity.CRITICAL,
-                    "Teacher Double-Booked",
-                    String.format("Teacher %s is assigned to multiple classes at the same time",
-                        slot.getTeacher().getName()),
-                    slot.getSchedule()
-                );
-                conflict.getAffectedSlots().add(slot);
-                conflict.getAffectedSlots().add(overlapping);
-                conflict.getAffectedTeachers().add(slot.getTeacher());
-                conflicts.add(conflict);
-            }
+        // ✅ NULL SAFE: Slots not attached to a schedule have nothing to overlap with
+        ScheduleConflictIndex index = slot.getSchedule() != null
+            ? conflictIndex(slot.getSchedule(), false)
+            : null;
 
-            // Check for room conflicts
-            if (slot.getRoom() != null && overlapping.getRoom() != null &&
-                slot.getRoom().getId().equals(overlapping.getRoom().getId())) {
+        if (index != null) {
+            synchronized (index) {
+                // Check for teacher conflicts (same teacher, same day, overlapping times)
+                for (ScheduleSlot overlapping : index.findTeacherOverlaps(slot)) {
+                    Conflict conflict = createConflict(
+                        ConflictType.TEACHER_OVERLOAD,
+                        ConflictSeverity.CRITICAL,
+                        "Teacher Double-Booked",
+                        String.format("Teacher %s is assigned to multiple classes at the same time",
+                            slot.getTeacher().getName()),
+                        slot.getSchedule()
+                    );
+                    conflict.getAffectedSlots().add(slot);
+                    conflict.getAffectedSlots().add(overlapping);
+                    conflict.getAffectedTeachers().add(slot.getTeacher());
+                    conflicts.add(conflict);
+                }
 
-                Conflict conflict = createConflict(
-                    ConflictType.ROOM_DOUBLE_BOOKING,
-                    ConflictSeverity.CRITICAL,
-                    "Room Double-Booked",
-                    String.format("Room %s is assigned to multiple classes at the same time",
-                        slot.getRoom().getRoomNumber()),
-                    slot.getSchedule()
-                );
-                conflict.getAffectedSlots().add(slot);
-                conflict.getAffectedSlots().add(overlapping);
-                conflict.getAffectedRooms().add(slot.getRoom());
-                conflicts.add(conflict);
+                // Check for room conflicts (same room, same day, overlapping times)
+                for (ScheduleSlot overlapping : index.findRoomOverlaps(slot)) {
+                    Conflict conflict = createConflict(
+                        ConflictType.ROOM_DOUBLE_BOOKING,
+                        ConflictSeverity.CRITICAL,
+                        "Room Double-Booked",
+                        String.format("Room %s is assigned to multiple classes at the same time",
+                            slot.getRoom().getRoomNumber()),
+                        slot.getSchedule()
+                    );
+                    conflict.getAffectedSlots().add(slot);
+                    conflict.getAffectedSlots().add(overlapping);
+                    conflict.getAffectedRooms().add(slot.getRoom());
+                    conflicts.add(conflict);
+                }
             }
         }
 
         // Check room capacity
-        if (slot.getRoom() != null && slot.getCourse() != null) {
-            int enrollmentCount = getEnrollmentCount(slot);
+        if (slot.getRoom() != null && slot.getCourse() != null && slot.getRoom().getCapacity() != null) {
+            int enrollmentCount = index != null ? index.getEnrollmentCount(slot) : getEnrollmentCount(slot);
             if (enrollmentCount > slot.getRoom().getCapacity()) {
                 Conflict conflict = createConflict(
                     ConflictType.ROOM_CAPACITY_EXCEEDED,
@@ -165,95 +180,113 @@ public class ConflictDetectorServiceImpl implements ConflictDetectorService {
     }
 
     // ========================================================================
-    // TIME-BASED DETECTION
+    // CONFLICT INDEX
     // ========================================================================
 
     @Override
-    public List<Conflict> detectTimeOverlaps(Schedule schedule) {
-        log.debug("Detecting time overlaps for schedule: {}", schedule.getScheduleName());
-        List<Conflict> conflicts = new ArrayList<>();
+    public void openConflictIndex(Schedule schedule) {
+        // ✅ NULL SAFE: Only persisted schedules can be looked up again by ID
+        if (schedule == null || schedule.getId() == null) {
+            log.warn("Cannot open conflict index for unsaved schedule");
+            return;
+        }
 
-        List<ScheduleSlot> slots = scheduleSlotRepository.findAll().stream()
-            .filter(slot -> slot.getSchedule() != null && slot.getSchedule().getId().equals(schedule.getId()))
-            .collect(Collectors.toList());
+        ScheduleConflictIndex index = buildConflictIndex(schedule, true);
+        openIndexes.put(schedule.getId(), index);
+        log.debug("Opened conflict index for schedule {} ({} slots)", schedule.getId(), index.size());
+    }
 
-        // Group by day and check for overlaps
-        Map<String, List<ScheduleSlot>> slotsByDay = slots.stream()
-            .collect(Collectors.groupingBy(slot ->
-                slot.getDayOfWeek() != null ? slot.getDayOfWeek().toString() : "UNKNOWN"));
+    @Override
+    public void updateConflictIndex(ScheduleSlot slot) {
+        if (slot == null || slot.getSchedule() == null || slot.getSchedule().getId() == null) {
+            return;
+        }
 
-        for (Map.Entry<String, List<ScheduleSlot>> entry : slotsByDay.entrySet()) {
-            List<ScheduleSlot> daySlots = entry.getValue();
+        ScheduleConflictIndex index = openIndexes.get(slot.getSchedule().getId());
+        if (index != null) {
+            synchronized (index) {
+                index.updateSlot(slot);
+            }
+        }
+    }
 
-            for (int i = 0; i < daySlots.size(); i++) {
-                for (int j = i + 1; j < daySlots.size(); j++) {
-                    ScheduleSlot slot1 = daySlots.get(i);
-                    ScheduleSlot slot2 = daySlots.get(j);
+    @Override
+    public void closeConflictIndex(Schedule schedule) {
+        if (schedule != null && schedule.getId() != null &&
+            openIndexes.remove(schedule.getId()) != null) {
+            log.debug("Closed conflict index for schedule {}", schedule.getId());
+        }
+    }
 
-                    if (timesOverlap(slot1, slot2)) {
-                        // Check if same teacher or room
-                        boolean sameTeacher = slot1.getTeacher() != null && slot2.getTeacher() != null &&
-                            slot1.getTeacher().getId().equals(slot2.getTeacher().getId());
+    // ========================================================================
+    // TIME-BASED DETECTION
+    // ========================================================================
 
-                        boolean sameRoom = slot1.getRoom() != null && slot2.getRoom() != null &&
-                            slot1.getRoom().getId().equals(slot2.getRoom().getId());
+    @Override
+    public List<Conflict> detectTimeOverlaps(Schedule schedule) {
+        return withConflictIndex(schedule, this::detectTimeOverlaps);
+    }
 
-                        if (sameTeacher || sameRoom) {
-                            String entity = sameTeacher ? "Teacher" : "Room";
-                            String name = sameTeacher ? slot1.getTeacher().getName() : slot1.getRoom().getRoomNumber();
+    private List<Conflict> detectTimeOverlaps(ScheduleConflictIndex index) {
+        Schedule schedule = index.getSchedule();
+        log.debug("Detecting time overlaps for schedule: {}", schedule.getScheduleName());
+        List<Conflict> conflicts = new ArrayList<>();
 
-                            Conflict conflict = createConflict(
-                                sameTeacher ? ConflictType.TEACHER_OVERLOAD : ConflictType.ROOM_DOUBLE_BOOKING,
-                                ConflictSeverity.CRITICAL,
-                                entity + " Time Overlap",
-                                String.format("%s %s has overlapping assignments on %s", entity, name, entry.getKey()),
-                                schedule
-                            );
-                            conflict.getAffectedSlots().add(slot1);
-                            conflict.getAffectedSlots().add(slot2);
-                            if (sameTeacher) {
-                                conflict.getAffectedTeachers().add(slot1.getTeacher());
-                            } else {
-                                conflict.getAffectedRooms().add(slot1.getRoom());
-                            }
-                            conflicts.add(conflict);
-                        }
-                    }
-                }
+        // Same teacher with overlapping times (unscheduled slots are compared on time alone)
+        index.forEachTeacherOverlap(true, (slot1, slot2) ->
+            conflicts.add(timeOverlapConflict("Teacher", slot1.getTeacher().getName(), slot1, slot2, schedule)));
+
+        // Same room with overlapping times - pairs sharing a teacher were already reported above
+        index.forEachRoomOverlap(true, (slot1, slot2) -> {
+            if (!sameTeacher(slot1, slot2)) {
+                conflicts.add(timeOverlapConflict("Room", slot1.getRoom().getRoomNumber(), slot1, slot2, schedule));
             }
-        }
+        });
 
         return conflicts;
     }
 
+    private Conflict timeOverlapConflict(String entity, String name,
+                                         ScheduleSlot slot1, ScheduleSlot slot2, Schedule schedule) {
+        boolean teacher = "Teacher".equals(entity);
+        String day = slot1.getDayOfWeek() != null ? slot1.getDayOfWeek().toString() : "UNKNOWN";
+
+        Conflict conflict = createConflict(
+            teacher ? ConflictType.TEACHER_OVERLOAD : ConflictType.ROOM_DOUBLE_BOOKING,
+            ConflictSeverity.CRITICAL,
+            entity + " Time Overlap",
+            String.format("%s %s has overlapping assignments on %s", entity, name, day),
+            schedule
+        );
+        conflict.getAffectedSlots().add(slot1);
+        conflict.getAffectedSlots().add(slot2);
+        if (teacher) {
+            conflict.getAffectedTeachers().add(slot1.getTeacher());
+        } else {
+            conflict.getAffectedRooms().add(slot1.getRoom());
+        }
+        return conflict;
+    }
+
     @Override
     public List<Conflict> detectBackToBackViolations(Schedule schedule) {
+        return withConflictIndex(schedule, this::detectBackToBackViolations);
+    }
+
+    private List<Conflict> detectBackToBackViolations(ScheduleConflictIndex index) {
+        Schedule schedule = index.getSchedule();
         log.debug("Detecting back-to-back violations for schedule: {}", schedule.getScheduleName());
         List<Conflict> conflicts = new ArrayList<>();
 
-        // Get all schedule slots for this schedule
-        List<ScheduleSlot> slots = scheduleSlotRepository.findAll().stream()
-            .filter(slot -> slot.getSchedule() != null && slot.getSchedule().getId().equals(schedule.getId()))
-            .collect(Collectors.toList());
-
-        // Group by teacher
-        Map<Long, List<ScheduleSlot>> slotsByTeacher = slots.stream()
-            .filter(slot -> slot.getTeacher() != null)
-            .collect(Collectors.groupingBy(slot -> slot.getTeacher().getId()));
-
-        for (Map.Entry<Long, List<ScheduleSlot>> entry : slotsByTeacher.entrySet()) {
-            Teacher teacher = entry.getValue().get(0).getTeacher();
-            List<ScheduleSlot> teacherSlots = entry.getValue();
+        for (Teacher teacher : index.getTeachers()) {
+            // Only teachers with a preferred break can have back-to-back violations
+            if (teacher.getPreferredBreakMinutes() == null || teacher.getPreferredBreakMinutes() <= 0) {
+                continue;
+            }
 
-            // Sort by day and time
-            teacherSlots.sort((s1, s2) -> {
-                int dayCompare = s1.getDayOfWeek().compareTo(s2.getDayOfWeek());
-                if (dayCompare != 0) return dayCompare;
-                return s1.getStartTime().compareTo(s2.getStartTime());
-            });
+            // Already sorted by day and time
+            List<ScheduleSlot> teacherSlots = index.getTeacherWeek(teacher);
 
-            // Check for excessive consecutive classes (more than 4 in a row)
-            int consecutiveCount = 1;
             for (int i = 0; i < teacherSlots.size() - 1; i++) {
                 ScheduleSlot current = teacherSlots.get(i);
                 ScheduleSlot next = teacherSlots.get(i + 1);
@@ -261,27 +294,21 @@ public class ConflictDetectorServiceImpl implements ConflictDetectorService {
                 if (current.getDayOfWeek().equals(next.getDayOfWeek()) &&
                     current.getEndTime() != null && next.getStartTime() != null &&
                     current.getEndTime().equals(next.getStartTime())) {
-                    consecutiveCount++;
 
-                    // If preferred break minutes is set and > 0, flag back-to-back classes
-                    if (teacher.getPreferredBreakMinutes() != null && teacher.getPreferredBreakMinutes() > 0) {
-                        Conflict conflict = createConflict(
-                            ConflictType.TEACHER_OVERLOAD,
-                            ConflictSeverity.LOW,
-                            "Back-to-Back Classes Without Break",
-                            String.format("Teacher %s has back-to-back classes on %s without preferred %d minute break",
-                                teacher.getName(),
-                                current.getDayOfWeek(),
-                                teacher.getPreferredBreakMinutes()),
-                            schedule
-                        );
-                        conflict.getAffectedSlots().add(current);
-                        conflict.getAffectedSlots().add(next);
-                        conflict.getAffectedTeachers().add(teacher);
-                        conflicts.add(conflict);
-                    }
-                } else {
-                    consecutiveCount = 1;
+                    Conflict conflict = createConflict(
+                        ConflictType.TEACHER_OVERLOAD,
+                        ConflictSeverity.LOW,
+                        "Back-to-Back Classes Without Break",
+                        String.format("Teacher %s has back-to-back classes on %s without preferred %d minute break",
+                            teacher.getName(),
+                            current.getDayOfWeek(),
+                            teacher.getPreferredBreakMinutes()),
+                        schedule
+                    );
+                    conflict.getAffectedSlots().add(current);
+                    conflict.getAffectedSlots().add(next);
+                    conflict.getAffectedTeachers().add(teacher);
+                    conflicts.add(conflict);
                 }
             }
         }
@@ -292,48 +319,30 @@ public class ConflictDetectorServiceImpl implements ConflictDetectorService {
 
     @Override
     public List<Conflict> detectMissingLunchBreaks(Schedule schedule) {
+        return withConflictIndex(schedule, this::detectMissingLunchBreaks);
+    }
+
+    private List<Conflict> detectMissingLunchBreaks(ScheduleConflictIndex index) {
+        Schedule schedule = index.getSchedule();
         log.debug("Detecting missing lunch breaks for schedule: {}", schedule.getScheduleName());
         List<Conflict> conflicts = new ArrayList<>();
 
-        // Get all schedule slots for this schedule
-        List<ScheduleSlot> slots = scheduleSlotRepository.findAll().stream()
-            .filter(slot -> slot.getSchedule() != null && slot.getSchedule().getId().equals(schedule.getId()))
-            .collect(Collectors.toList());
-
-        // Group by teacher and day
-        Map<Long, Map<DayOfWeek, List<ScheduleSlot>>> slotsByTeacherAndDay = slots.stream()
-            .filter(slot -> slot.getTeacher() != null && slot.getDayOfWeek() != null)
-            .collect(Collectors.groupingBy(
-                slot -> slot.getTeacher().getId(),
-                Collectors.groupingBy(ScheduleSlot::getDayOfWeek)
-            ));
-
-        for (Map.Entry<Long, Map<DayOfWeek, List<ScheduleSlot>>> teacherEntry : slotsByTeacherAndDay.entrySet()) {
-            Teacher teacher = teacherRepository.findById(teacherEntry.getKey()).orElse(null);
-            if (teacher == null) continue;
-
-            for (Map.Entry<DayOfWeek, List<ScheduleSlot>> dayEntry : teacherEntry.getValue().entrySet()) {
-                List<ScheduleSlot> daySlots = dayEntry.getValue();
+        // Lunch window (typically 11:00 AM - 1:00 PM)
+        LocalTime lunchStart = LocalTime.of(11, 0);
+        LocalTime lunchEnd = LocalTime.of(13, 0);
 
-                // Sort by time
-                daySlots.sort((s1, s2) -> s1.getStartTime().compareTo(s2.getStartTime()));
+        for (Teacher teacher : index.getTeachers()) {
+            for (DayOfWeek day : DayOfWeek.values()) {
+                // Already sorted by time
+                List<ScheduleSlot> daySlots = index.getTeacherSlots(teacher, day);
 
-                // Check if there's a lunch break (typically 11:00 AM - 1:00 PM)
-                boolean hasLunchBreak = false;
-                LocalTime lunchStart = LocalTime.of(11, 0);
-                LocalTime lunchEnd = LocalTime.of(13, 0);
-
-                for (ScheduleSlot slot : daySlots) {
-                    // Check if any slot overlaps with lunch time window
-                    if (slot.getStartTime() != null && slot.getEndTime() != null) {
-                        if (slot.getStartTime().isBefore(lunchEnd) && slot.getEndTime().isAfter(lunchStart)) {
-                            // Slot is during lunch window - check if it's a full lunch period
-                            continue;
-                        }
-                    }
+                // Only teachers with 5+ periods that day are flagged
+                if (daySlots.size() < 5) {
+                    continue;
                 }
 
                 // Check if teacher has at least 30-minute gap during lunch time
+                boolean hasLunchBreak = false;
                 for (int i = 0; i < daySlots.size() - 1; i++) {
                     ScheduleSlot current = daySlots.get(i);
                     ScheduleSlot next = daySlots.get(i + 1);
@@ -350,15 +359,14 @@ public class ConflictDetectorServiceImpl implements ConflictDetectorService {
                     }
                 }
 
-                // If no lunch break found and teacher has 5+ periods that day, flag it
-                if (!hasLunchBreak && daySlots.size() >= 5) {
+                if (!hasLunchBreak) {
                     Conflict conflict = createConflict(
                         ConflictType.TEACHER_OVERLOAD,
                         ConflictSeverity.MEDIUM,
                         "Missing Lunch Break",
                         String.format("Teacher %s has no lunch break on %s",
                             teacher.getName(),
-                            dayEntry.getKey()),
+                            day),
                         schedule
                     );
                     conflict.getAffectedTeachers().add(teacher);
@@ -373,31 +381,22 @@ public class ConflictDetectorServiceImpl implements ConflictDetectorService {
 
     @Override
     public List<Conflict> detectExcessiveConsecutiveClasses(Schedule schedule) {
+        return withConflictIndex(schedule, this::detectExcessiveConsecutiveClasses);
+    }
+
+    private List<Conflict> detectExcessiveConsecutiveClasses(ScheduleConflictIndex index) {
+        Schedule schedule = index.getSchedule();
         log.debug("Detecting excessive consecutive classes for schedule: {}", schedule.getScheduleName());
         List<Conflict> conflicts = new ArrayList<>();
 
-        // Get all schedule slots for this schedule
-        List<ScheduleSlot> slots = scheduleSlotRepository.findAll().stream()
-            .filter(slot -> slot.getSchedule() != null && slot.getSchedule().getId().equals(schedule.getId()))
-            .collect(Collectors.toList());
-
-        // Group by teacher
-        Map<Long, List<ScheduleSlot>> slotsByTeacher = slots.stream()
-            .filter(slot -> slot.getTeacher() != null)
-            .collect(Collectors.groupingBy(slot -> slot.getTeacher().getId()));
-
-        for (Map.Entry<Long, List<ScheduleSlot>> entry : slotsByTeacher.entrySet()) {
-            Teacher teacher = entry.getValue().get(0).getTeacher();
-            List<ScheduleSlot> teacherSlots = entry.getValue();
+        for (Teacher teacher : index.getTeachers()) {
+            // Already sorted by day and time
+            List<ScheduleSlot> teacherSlots = index.getTeacherWeek(teacher);
+            if (teacherSlots.isEmpty()) {
+                continue;
+            }
             Integer maxConsecutive = teacher.getMaxConsecutiveHours() != null ? teacher.getMaxConsecutiveHours() : 4;
 
-            // Sort by day and time
-            teacherSlots.sort((s1, s2) -> {
-                int dayCompare = s1.getDayOfWeek().compareTo(s2.getDayOfWeek());
-                if (dayCompare != 0) return dayCompare;
-                return s1.getStartTime().compareTo(s2.getStartTime());
-            });
-
             // Track consecutive classes
             int consecutiveCount = 1;
             List<ScheduleSlot> consecutiveSlots = new ArrayList<>();
@@ -452,60 +451,45 @@ public class ConflictDetectorServiceImpl implements ConflictDetectorService {
 
     @Override
     public List<Conflict> detectRoomDoubleBookings(Schedule schedule) {
+        return withConflictIndex(schedule, this::detectRoomDoubleBookings);
+    }
+
+    private List<Conflict> detectRoomDoubleBookings(ScheduleConflictIndex index) {
+        Schedule schedule = index.getSchedule();
         log.debug("Detecting room double bookings for schedule: {}", schedule.getScheduleName());
         List<Conflict> conflicts = new ArrayList<>();
 
-        List<ScheduleSlot> slots = scheduleSlotRepository.findAll().stream()
-            .filter(slot -> slot.getSchedule() != null && slot.getSchedule().getId().equals(schedule.getId()))
-            .collect(Collectors.toList());
-
-        // Group by room
-        Map<Long, List<ScheduleSlot>> slotsByRoom = slots.stream()
-            .filter(slot -> slot.getRoom() != null)
-            .collect(Collectors.groupingBy(slot -> slot.getRoom().getId()));
-
-        for (Map.Entry<Long, List<ScheduleSlot>> entry : slotsByRoom.entrySet()) {
-            List<ScheduleSlot> roomSlots = entry.getValue();
-
-            // Check for overlapping times
-            for (int i = 0; i < roomSlots.size(); i++) {
-                for (int j = i + 1; j < roomSlots.size(); j++) {
-                    ScheduleSlot slot1 = roomSlots.get(i);
-                    ScheduleSlot slot2 = roomSlots.get(j);
-
-                    if (sameDayAndTimeOverlap(slot1, slot2)) {
-                        Conflict conflict = createConflict(
-                            ConflictType.ROOM_DOUBLE_BOOKING,
-                            ConflictSeverity.CRITICAL,
-                            "Room Double-Booked",
-                            String.format("Room %s is assigned to multiple classes at the same time",
-                                slot1.getRoom().getRoomNumber()),
-                            schedule
-                        );
-                        conflict.getAffectedSlots().add(slot1);
-                        conflict.getAffectedSlots().add(slot2);
-                        conflict.getAffectedRooms().add(slot1.getRoom());
-                        conflicts.add(conflict);
-                    }
-                }
-            }
-        }
+        index.forEachRoomOverlap(false, (slot1, slot2) -> {
+            Conflict conflict = createConflict(
+                ConflictType.ROOM_DOUBLE_BOOKING,
+                ConflictSeverity.CRITICAL,
+                "Room Double-Booked",
+                String.format("Room %s is assigned to multiple classes at the same time",
+                    slot1.getRoom().getRoomNumber()),
+                schedule
+            );
+            conflict.getAffectedSlots().add(slot1);
+            conflict.getAffectedSlots().add(slot2);
+            conflict.getAffectedRooms().add(slot1.getRoom());
+            conflicts.add(conflict);
+        });
 
         return conflicts;
     }
 
     @Override
     public List<Conflict> detectRoomCapacityViolations(Schedule schedule) {
+        return withConflictIndex(schedule, this::detectRoomCapacityViolations);
+    }
+
+    private List<Conflict> detectRoomCapacityViolations(ScheduleConflictIndex index) {
+        Schedule schedule = index.getSchedule();
         log.debug("Detecting room capacity violations for schedule: {}", schedule.getScheduleName());
         List<Conflict> conflicts = new ArrayList<>();
 
-        List<ScheduleSlot> slots = scheduleSlotRepository.findAll().stream()
-            .filter(slot -> slot.getSchedule() != null && slot.getSchedule().getId().equals(schedule.getId()))
-            .collect(Collectors.toList());
-
-        for (ScheduleSlot slot : slots) {
-            if (slot.getRoom() != null && slot.getCourse() != null) {
-                int enrollmentCount = getEnrollmentCount(slot);
+        for (ScheduleSlot slot : index.getSlots()) {
+            if (slot.getRoom() != null && slot.getCourse() != null && slot.getRoom().getCapacity() != null) {
+                int enrollmentCount = index.getEnrollmentCount(slot);
 
                 if (enrollmentCount > slot.getRoom().getCapacity()) {
                     Conflict conflict = createConflict(
@@ -532,16 +516,18 @@ public class ConflictDetectorServiceImpl implements ConflictDetectorService {
 
     @Override
     public List<Conflict> detectRoomTypeMismatches(Schedule schedule) {
+        return withConflictIndex(schedule, this::detectRoomTypeMismatches);
+    }
+
+    private List<Conflict> detectRoomTypeMismatches(ScheduleConflictIndex index) {
+        Schedule schedule = index.getSchedule();
         log.debug("Detecting room type mismatches for schedule: {}", schedule.getScheduleName());
         List<Conflict> conflicts = new ArrayList<>();
 
-        // Get all schedule slots for this schedule
-        List<ScheduleSlot> slots = scheduleSlotRepository.findAll().stream()
-            .filter(slot -> slot.getSchedule() != null && slot.getSchedule().getId().equals(schedule.getId()))
-            .filter(slot -> slot.getRoom() != null && slot.getCourse() != null)
-            .collect(Collectors.toList());
-
-        for (ScheduleSlot slot : slots) {
+        for (ScheduleSlot slot : index.getSlots()) {
+            if (slot.getRoom() == null || slot.getCourse() == null) {
+                continue;
+            }
             Room room = slot.getRoom();
             Course course = slot.getCourse();
 
@@ -623,16 +609,18 @@ public class ConflictDetectorServiceImpl implements ConflictDetectorService {
 
     @Override
     public List<Conflict> detectEquipmentUnavailability(Schedule schedule) {
+        return withConflictIndex(schedule, this::detectEquipmentUnavailability);
+    }
+
+    private List<Conflict> detectEquipmentUnavailability(ScheduleConflictIndex index) {
+        Schedule schedule = index.getSchedule();
         log.debug("Detecting equipment unavailability for schedule: {}", schedule.getScheduleName());
         List<Conflict> conflicts = new ArrayList<>();
 
-        // Get all schedule slots for this schedule
-        List<ScheduleSlot> slots = scheduleSlotRepository.findAll().stream()
-            .filter(slot -> slot.getSchedule() != null && slot.getSchedule().getId().equals(schedule.getId()))
-            .filter(slot -> slot.getRoom() != null && slot.getCourse() != null)
-            .collect(Collectors.toList());
-
-        for (ScheduleSlot slot : slots) {
+        for (ScheduleSlot slot : index.getSlots()) {
+            if (slot.getRoom() == null || slot.getCourse() == null) {
+                continue;
+            }
             Room room = slot.getRoom();
             Course course = slot.getCourse();
 
@@ -703,88 +691,57 @@ public class ConflictDetectorServiceImpl implements ConflictDetectorService {
 
     @Override
     public List<Conflict> detectTeacherOverloads(Schedule schedule) {
+        return withConflictIndex(schedule, this::detectTeacherOverloads);
+    }
+
+    private List<Conflict> detectTeacherOverloads(ScheduleConflictIndex index) {
+        Schedule schedule = index.getSchedule();
         log.debug("Detecting teacher overloads for schedule: {}", schedule.getScheduleName());
         List<Conflict> conflicts = new ArrayList<>();
 
-        List<ScheduleSlot> slots = scheduleSlotRepository.findAll().stream()
-            .filter(slot -> slot.getSchedule() != null && slot.getSchedule().getId().equals(schedule.getId()))
-            .collect(Collectors.toList());
-
-        // Group by teacher
-        Map<Long, List<ScheduleSlot>> slotsByTeacher = slots.stream()
-            .filter(slot -> slot.getTeacher() != null)
-            .collect(Collectors.groupingBy(slot -> slot.getTeacher().getId()));
-
-        for (Map.Entry<Long, List<ScheduleSlot>> entry : slotsByTeacher.entrySet()) {
-            List<ScheduleSlot> teacherSlots = entry.getValue();
-
-            // Check for overlapping times
-            for (int i = 0; i < teacherSlots.size(); i++) {
-                for (int j = i + 1; j < teacherSlots.size(); j++) {
-                    ScheduleSlot slot1 = teacherSlots.get(i);
-                    ScheduleSlot slot2 = teacherSlots.get(j);
-
-                    if (sameDayAndTimeOverlap(slot1, slot2)) {
-                        Conflict conflict = createConflict(
-                            ConflictType.TEACHER_OVERLOAD,
-                            ConflictSeverity.CRITICAL,
-                            "Teacher Double-Booked",
-                            String.format("Teacher %s is assigned to multiple classes at the same time",
-                                slot1.getTeacher().getName()),
-                            schedule
-                        );
-                        conflict.getAffectedSlots().add(slot1);
-                        conflict.getAffectedSlots().add(slot2);
-                        conflict.getAffectedTeachers().add(slot1.getTeacher());
-                        conflicts.add(conflict);
-                    }
-                }
-            }
-        }
+        index.forEachTeacherOverlap(false, (slot1, slot2) -> {
+            Conflict conflict = createConflict(
+                ConflictType.TEACHER_OVERLOAD,
+                ConflictSeverity.CRITICAL,
+                "Teacher Double-Booked",
+                String.format("Teacher %s is assigned to multiple classes at the same time",
+                    slot1.getTeacher().getName()),
+                schedule
+            );
+            conflict.getAffectedSlots().add(slot1);
+            conflict.getAffectedSlots().add(slot2);
+            conflict.getAffectedTeachers().add(slot1.getTeacher());
+            conflicts.add(conflict);
+        });
 
         return conflicts;
     }
 
     @Override
     public List<Conflict> detectExcessiveTeachingHours(Schedule schedule) {
+        return withConflictIndex(schedule, this::detectExcessiveTeachingHours);
+    }
+
+    private List<Conflict> detectExcessiveTeachingHours(ScheduleConflictIndex index) {
+        Schedule schedule = index.getSchedule();
         log.debug("Detecting excessive teaching hours for schedule: {}", schedule.getScheduleName());
         List<Conflict> conflicts = new ArrayList<>();
 
-        // Get all schedule slots for this schedule
-        List<ScheduleSlot> slots = scheduleSlotRepository.findAll().stream()
-            .filter(slot -> slot.getSchedule() != null && slot.getSchedule().getId().equals(schedule.getId()))
-            .collect(Collectors.toList());
-
-        // Group by teacher
-        Map<Long, List<ScheduleSlot>> slotsByTeacher = slots.stream()
-            .filter(slot -> slot.getTeacher() != null)
-            .collect(Collectors.groupingBy(slot -> slot.getTeacher().getId()));
-
-        for (Map.Entry<Long, List<ScheduleSlot>> entry : slotsByTeacher.entrySet()) {
-            Teacher teacher = entry.getValue().get(0).getTeacher();
-            List<ScheduleSlot> teacherSlots = entry.getValue();
-
-            // Calculate total teaching periods per day
-            Map<DayOfWeek, Long> periodsPerDay = teacherSlots.stream()
-                .filter(slot -> slot.getDayOfWeek() != null)
-                .collect(Collectors.groupingBy(
-                    ScheduleSlot::getDayOfWeek,
-                    Collectors.counting()
-                ));
-
+        for (Teacher teacher : index.getTeachers()) {
             // Check against max periods per day
             Integer maxPeriodsPerDay = teacher.getMaxPeriodsPerDay() != null ? teacher.getMaxPeriodsPerDay() : 7;
 
-            for (Map.Entry<DayOfWeek, Long> dayEntry : periodsPerDay.entrySet()) {
-                if (dayEntry.getValue() > maxPeriodsPerDay) {
+            for (DayOfWeek day : DayOfWeek.values()) {
+                int periods = index.getTeacherSlots(teacher, day).size();
+                if (periods > maxPeriodsPerDay) {
                     Conflict conflict = createConflict(
                         ConflictType.TEACHER_OVERLOAD,
                         ConflictSeverity.HIGH,
                         "Excessive Teaching Hours",
                         String.format("Teacher %s has %d periods on %s (max: %d)",
                             teacher.getName(),
-                            dayEntry.getValue(),
-                            dayEntry.getKey(),
+                            periods,
+                            day,
                             maxPeriodsPerDay),
                         schedule
                     );
@@ -800,40 +757,29 @@ public class ConflictDetectorServiceImpl implements ConflictDetectorService {
 
     @Override
     public List<Conflict> detectMissingPreparationPeriods(Schedule schedule) {
+        return withConflictIndex(schedule, this::detectMissingPreparationPeriods);
+    }
+
+    private List<Conflict> detectMissingPreparationPeriods(ScheduleConflictIndex index) {
+        Schedule schedule = index.getSchedule();
         log.debug("Detecting missing preparation periods for schedule: {}", schedule.getScheduleName());
         List<Conflict> conflicts = new ArrayList<>();
 
-        // Get all schedule slots for this schedule
-        List<ScheduleSlot> slots = scheduleSlotRepository.findAll().stream()
-            .filter(slot -> slot.getSchedule() != null && slot.getSchedule().getId().equals(schedule.getId()))
-            .collect(Collectors.toList());
-
-        // Group by teacher and day
-        Map<Long, Map<DayOfWeek, List<ScheduleSlot>>> slotsByTeacherAndDay = slots.stream()
-            .filter(slot -> slot.getTeacher() != null && slot.getDayOfWeek() != null)
-            .collect(Collectors.groupingBy(
-                slot -> slot.getTeacher().getId(),
-                Collectors.groupingBy(ScheduleSlot::getDayOfWeek)
-            ));
-
-        for (Map.Entry<Long, Map<DayOfWeek, List<ScheduleSlot>>> teacherEntry : slotsByTeacherAndDay.entrySet()) {
-            Teacher teacher = teacherRepository.findById(teacherEntry.getKey()).orElse(null);
-            if (teacher == null) continue;
-
-            for (Map.Entry<DayOfWeek, List<ScheduleSlot>> dayEntry : teacherEntry.getValue().entrySet()) {
-                List<ScheduleSlot> daySlots = dayEntry.getValue();
+        for (Teacher teacher : index.getTeachers()) {
+            for (DayOfWeek day : DayOfWeek.values()) {
+                int periods = index.getTeacherSlots(teacher, day).size();
 
                 // Check if teacher has at least one prep period per day (usually 1 out of 7-8 periods)
                 // A full day is typically 7-8 periods, so if teaching 7+ periods, no prep time
-                if (daySlots.size() >= 7) {
+                if (periods >= 7) {
                     Conflict conflict = createConflict(
                         ConflictType.TEACHER_OVERLOAD,
                         ConflictSeverity.MEDIUM,
                         "Missing Preparation Period",
                         String.format("Teacher %s has %d consecutive teaching periods on %s with no prep time",
                             teacher.getName(),
-                            daySlots.size(),
-                            dayEntry.getKey()),
+                            periods,
+                            day),
                         schedule
                     );
                     conflict.getAffectedTeachers().add(teacher);
@@ -848,16 +794,18 @@ public class ConflictDetectorServiceImpl implements ConflictDetectorService {
 
     @Override
     public List<Conflict> detectSubjectMismatches(Schedule schedule) {
+        return withConflictIndex(schedule, this::detectSubjectMismatches);
+    }
+
+    private List<Conflict> detectSubjectMismatches(ScheduleConflictIndex index) {
+        Schedule schedule = index.getSchedule();
         log.debug("Detecting subject mismatches for schedule: {}", schedule.getScheduleName());
         List<Conflict> conflicts = new ArrayList<>();
 
-        // Get all schedule slots for this schedule
-        List<ScheduleSlot> slots = scheduleSlotRepository.findAll().stream()
-            .filter(slot -> slot.getSchedule() != null && slot.getSchedule().getId().equals(schedule.getId()))
-            .filter(slot -> slot.getTeacher() != null && slot.getCourse() != null)
-            .collect(Collectors.toList());
-
-        for (ScheduleSlot slot : slots) {
+        for (ScheduleSlot slot : index.getSlots()) {
+            if (slot.getTeacher() == null || slot.getCourse() == null) {
+                continue;
+            }
             Teacher teacher = slot.getTeacher();
             Course course = slot.getCourse();
 
@@ -893,28 +841,17 @@ public class ConflictDetectorServiceImpl implements ConflictDetectorService {
 
     @Override
     public List<Conflict> detectTeacherTravelTimeIssues(Schedule schedule) {
+        return withConflictIndex(schedule, this::detectTeacherTravelTimeIssues);
+    }
+
+    private List<Conflict> detectTeacherTravelTimeIssues(ScheduleConflictIndex index) {
+        Schedule schedule = index.getSchedule();
         log.debug("Detecting teacher travel time issues for schedule: {}", schedule.getScheduleName());
         List<Conflict> conflicts = new ArrayList<>();
 
-        // Get all schedule slots for this schedule
-        List<ScheduleSlot> slots = scheduleSlotRepository.findAll().stream()
-            .filter(slot -> slot.getSchedule() != null && slot.getSchedule().getId().equals(schedule.getId()))
-            .collect(Collectors.toList());
-
-        // Group by teacher
-        Map<Long, List<ScheduleSlot>> slotsByTeacher = slots.stream()
-            .filter(slot -> slot.getTeacher() != null)
-            .collect(Collectors.groupingBy(slot -> slot.getTeacher().getId()));
-
-        for (Map.Entry<Long, List<ScheduleSlot>> entry : slotsByTeacher.entrySet()) {
-            List<ScheduleSlot> teacherSlots = entry.getValue();
-
-            // Sort by day and time
-            teacherSlots.sort((s1, s2) -> {
-                int dayCompare = s1.getDayOfWeek().compareTo(s2.getDayOfWeek());
-                if (dayCompare != 0) return dayCompare;
-                return s1.getStartTime().compareTo(s2.getStartTime());
-            });
+        for (Teacher teacher : index.getTeachers()) {
+            // Already sorted by day and time
+            List<ScheduleSlot> teacherSlots = index.getTeacherWeek(teacher);
 
             // Check for back-to-back classes in different buildings
             for (int i = 0; i < teacherSlots.size() - 1; i++) {
@@ -963,55 +900,37 @@ public class ConflictDetectorServiceImpl implements ConflictDetectorService {
 
     @Override
     public List<Conflict> detectStudentScheduleConflicts(Schedule schedule) {
+        return withConflictIndex(schedule, this::detectStudentScheduleConflicts);
+    }
+
+    private List<Conflict> detectStudentScheduleConflicts(ScheduleConflictIndex index) {
+        Schedule schedule = index.getSchedule();
         log.debug("Detecting student schedule conflicts for schedule: {}", schedule.getScheduleName());
         List<Conflict> conflicts = new ArrayList<>();
 
-        // Get all enrollments for this schedule
-        List<StudentEnrollment> enrollments = studentEnrollmentRepository.findByScheduleId(schedule.getId());
-
-        // Group by student
-        Map<Long, List<StudentEnrollment>> enrollmentsByStudent = enrollments.stream()
-            .filter(e -> e.getStudent() != null && e.getScheduleSlot() != null && e.isActive())
-            .collect(Collectors.groupingBy(e -> e.getStudent().getId()));
-
-        // Check for time conflicts for each student
-        for (Map.Entry<Long, List<StudentEnrollment>> entry : enrollmentsByStudent.entrySet()) {
-            List<StudentEnrollment> studentEnrollments = entry.getValue();
-
-            // Check each pair of enrollments for this student
-            for (int i = 0; i < studentEnrollments.size(); i++) {
-                for (int j = i + 1; j < studentEnrollments.size(); j++) {
-                    StudentEnrollment enrollment1 = studentEnrollments.get(i);
-                    StudentEnrollment enrollment2 = studentEnrollments.get(j);
-
-                    ScheduleSlot slot1 = enrollment1.getScheduleSlot();
-                    ScheduleSlot slot2 = enrollment2.getScheduleSlot();
-
-                    if (sameDayAndTimeOverlap(slot1, slot2)) {
-                        Conflict conflict = createConflict(
-                            ConflictType.TEACHER_OVERLOAD, // Using closest available type
-                            ConflictSeverity.CRITICAL,
-                            "Student Schedule Conflict",
-                            String.format("Student %s is enrolled in %s and %s at the same time",
-                                enrollment1.getStudentName(),
-                                enrollment1.getCourseName(),
-                                enrollment2.getCourseName()),
-                            schedule
-                        );
-
-                        conflict.getAffectedSlots().add(slot1);
-                        conflict.getAffectedSlots().add(slot2);
-                        if (enrollment1.getCourse() != null) {
-                            conflict.getAffectedCourses().add(enrollment1.getCourse());
-                        }
-                        if (enrollment2.getCourse() != null) {
-                            conflict.getAffectedCourses().add(enrollment2.getCourse());
-                        }
-                        conflicts.add(conflict);
-                    }
-                }
+        // Each pair of a student's active enrollments on the same day with overlapping times
+        index.forEachStudentOverlap((enrollment1, enrollment2) -> {
+            Conflict conflict = createConflict(
+                ConflictType.TEACHER_OVERLOAD, // Using closest available type
+                ConflictSeverity.CRITICAL,
+                "Student Schedule Conflict",
+                String.format("Student %s is enrolled in %s and %s at the same time",
+                    enrollment1.getStudentName(),
+                    enrollment1.getCourseName(),
+                    enrollment2.getCourseName()),
+                schedule
+            );
+
+            conflict.getAffectedSlots().add(enrollment1.getScheduleSlot());
+            conflict.getAffectedSlots().add(enrollment2.getScheduleSlot());
+            if (enrollment1.getCourse() != null) {
+                conflict.getAffectedCourses().add(enrollment1.getCourse());
             }
-        }
+            if (enrollment2.getCourse() != null) {
+                conflict.getAffectedCourses().add(enrollment2.getCourse());
+            }
+            conflicts.add(conflict);
+        });
 
         log.debug("Found {} student schedule conflicts", conflicts.size());
         return conflicts;
@@ -1100,19 +1019,20 @@ public class ConflictDetectorServiceImpl implements ConflictDetectorService {
 
     @Override
     public List<Conflict> detectSectionOverEnrollment(Schedule schedule) {
+        return withConflictIndex(schedule, this::detectSectionOverEnrollment);
+    }
+
+    private List<Conflict> detectSectionOverEnrollment(ScheduleConflictIndex index) {
+        Schedule schedule = index.getSchedule();
         log.debug("Detecting section over-enrollment for schedule: {}", schedule.getScheduleName());
         List<Conflict> conflicts = new ArrayList<>();
 
-        // Get all schedule slots for this schedule
-        List<ScheduleSlot> slots = scheduleSlotRepository.findAll().stream()
-            .filter(slot -> slot.getSchedule() != null && slot.getSchedule().getId().equals(schedule.getId()))
-            .collect(Collectors.toList());
-
-        for (ScheduleSlot slot : slots) {
-            int enrollmentCount = getEnrollmentCount(slot);
+        for (ScheduleSlot slot : index.getSlots()) {
+            int enrollmentCount = index.getEnrollmentCount(slot);
 
             // Check against room capacity
-            if (slot.getRoom() != null && enrollmentCount > slot.getRoom().getCapacity()) {
+            if (slot.getRoom() != null && slot.getRoom().getCapacity() != null &&
+                enrollmentCount > slot.getRoom().getCapacity()) {
                 Conflict conflict = createConflict(
                     ConflictType.ROOM_CAPACITY_EXCEEDED,
                     ConflictSeverity.HIGH,
@@ -1153,15 +1073,15 @@ public class ConflictDetectorServiceImpl implements ConflictDetectorService {
 
     @Override
     public List<Conflict> detectSectionUnderEnrollment(Schedule schedule) {
+        return withConflictIndex(schedule, this::detectSectionUnderEnrollment);
+    }
+
+    private List<Conflict> detectSectionUnderEnrollment(ScheduleConflictIndex index) {
+        Schedule schedule = index.getSchedule();
         log.debug("Detecting section under-enrollment for schedule: {}", schedule.getScheduleName());
         List<Conflict> conflicts = new ArrayList<>();
 
-        // Get all course sections for courses in this schedule
-        List<CourseSection> sections = courseSectionRepository.findAll().stream()
-            .filter(section -> section.getScheduleYear() != null)
-            .collect(Collectors.toList());
-
-        for (CourseSection section : sections) {
+        for (CourseSection section : index.getSections()) {
             // Check if current enrollment is below minimum
             if (section.getMinEnrollment() != null && section.getCurrentEnrollment() != null &&
                 section.getCurrentEnrollment() < section.getMinEnrollment()) {
@@ -1285,6 +1205,12 @@ public class ConflictDetectorServiceImpl implements ConflictDetectorService {
     public List<Conflict> refreshConflicts(Schedule schedule) {
         log.info("Refreshing conflicts for schedule: {}", schedule.getScheduleName());
         clearConflicts(schedule);
+
+        // Reload an open index so it reflects changes made outside the editor
+        if (schedule.getId() != null && openIndexes.containsKey(schedule.getId())) {
+            openConflictIndex(schedule);
+        }
+
         List<Conflict> newConflicts = detectAllConflicts(schedule);
         return saveConflicts(newConflicts);
     }
@@ -1293,6 +1219,57 @@ public class ConflictDetectorServiceImpl implements ConflictDetectorService {
     // HELPER METHODS
     // ========================================================================
 
+    /**
+     * Run one detection pass against the schedule's conflict index
+     */
+    private List<Conflict> withConflictIndex(Schedule schedule,
+                                             Function<ScheduleConflictIndex, List<Conflict>> detection) {
+        ScheduleConflictIndex index = conflictIndex(schedule);
+        synchronized (index) {
+            return detection.apply(index);
+        }
+    }
+
+    private ScheduleConflictIndex conflictIndex(Schedule schedule) {
+        return conflictIndex(schedule, true);
+    }
+
+    /**
+     * Get the open index for a schedule, or build a fresh one
+     *
+     * @param withSections whether course sections are needed (under-enrollment checks)
+     */
+    private ScheduleConflictIndex conflictIndex(Schedule schedule, boolean withSections) {
+        if (schedule.getId() != null) {
+            ScheduleConflictIndex open = openIndexes.get(schedule.getId());
+            if (open != null) {
+                return open;
+            }
+        }
+        return buildConflictIndex(schedule, withSections);
+    }
+
+    /**
+     * Load everything a schedule's conflict checks need in three queries
+     */
+    private ScheduleConflictIndex buildConflictIndex(Schedule schedule, boolean withSections) {
+        List<CourseSection> sections = withSections
+            ? courseSectionRepository.findAll().stream()
+                .filter(section -> section.getScheduleYear() != null)
+                .collect(Collectors.toList())
+            : Collections.emptyList();
+
+        // Unsaved schedules (e.g. optimizer working copies) only exist in memory
+        if (schedule.getId() == null) {
+            return new ScheduleConflictIndex(schedule, schedule.getSlots(), Collections.emptyList(), sections);
+        }
+
+        return new ScheduleConflictIndex(schedule,
+            scheduleSlotRepository.findByScheduleId(schedule.getId()),
+            studentEnrollmentRepository.findByScheduleId(schedule.getId()),
+            sections);
+    }
+
     private Conflict createConflict(ConflictType type, ConflictSeverity severity,
                                     String title, String description, Schedule schedule) {
         return Conflict.builder()
@@ -1306,42 +1283,10 @@ public class ConflictDetectorServiceImpl implements ConflictDetectorService {
             .build();
     }
 
-    private boolean timesOverlap(ScheduleSlot slot1, ScheduleSlot slot2) {
-        if (slot1.getStartTime() == null || slot1.getEndTime() == null ||
-            slot2.getStartTime() == null || slot2.getEndTime() == null) {
-            return false;
-        }
-
-        LocalTime start1 = slot1.getStartTime();
-        LocalTime end1 = slot1.getEndTime();
-        LocalTime start2 = slot2.getStartTime();
-        LocalTime end2 = slot2.getEndTime();
-
-        return start1.isBefore(end2) && start2.isBefore(end1);
-    }
-
-    private boolean sameDayAndTimeOverlap(ScheduleSlot slot1, ScheduleSlot slot2) {
-        if (slot1.getDayOfWeek() == null || slot2.getDayOfWeek() == null ||
-            !slot1.getDayOfWeek().equals(slot2.getDayOfWeek())) {
-            return false;
-        }
-
-        return timesOverlap(slot1, slot2);
-    }
-
-    private List<ScheduleSlot> findOverlappingSlots(ScheduleSlot slot) {
-        if (slot.getSchedule() == null) {
-            return new ArrayList<>();
-        }
-
-        List<ScheduleSlot> allSlots = scheduleSlotRepository.findAll().stream()
-            .filter(s -> s.getSchedule() != null && s.getSchedule().getId().equals(slot.getSchedule().getId()))
-            .collect(Collectors.toList());
-
-        return allSlots.stream()
-            .filter(s -> !s.getId().equals(slot.getId()))
-            .filter(s -> sameDayAndTimeOverlap(slot, s))
-            .collect(Collectors.toList());
+    private boolean sameTeacher(ScheduleSlot slot1, ScheduleSlot slot2) {
+        return slot1.getTeacher() != null && slot2.getTeacher() != null &&
+            slot1.getTeacher().getId() != null &&
+            slot1.getTeacher().getId().equals(slot2.getTeacher().getId());
     }
 
     /**
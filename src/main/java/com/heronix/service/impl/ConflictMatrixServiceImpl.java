@@ -9,76 +9,209 @@ import com.heronix.repository.CourseRepository;
 import com.heronix.service.ConflictMatrixService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Conflict Matrix Service Implementation
+ *
+ * The matrix is generated in memory: each student's requested courses are
+ * counted pairwise into a {@link CoursePairCounts} (in parallel partitions for
+ * large student bodies), singleton flags and percentages are derived from the
+ * courses already loaded with the requests, and the result is written with one
+ * batched insert and one batched update. The last generated matrix is kept in
+ * memory and serves the heatmap for its year.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ConflictMatrixServiceImpl implements ConflictMatrixService {
 
+    // Count students in parallel partitions from this many students
+    private static final int PARALLEL_MIN_STUDENTS = 5000;
+    private static final int SINGLETON_PRIORITY = 10;
+    private static final int DEFAULT_PRIORITY = 1;
+
+    private static final String INSERT_CONFLICT_SQL =
+        "INSERT INTO conflict_matrix (course1_id, course2_id, conflict_count, conflict_percentage, " +
+        "is_singleton_conflict, priority_level, schedule_year, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_CONFLICT_SQL =
+        "UPDATE conflict_matrix SET conflict_count = ?, conflict_percentage = ?, is_singleton_conflict = ?, " +
+        "priority_level = ?, updated_at = ? WHERE id = ?";
+
     private final ConflictMatrixRepository conflictMatrixRepository;
     private final CourseRequestRepository courseRequestRepository;
     private final CourseRepository courseRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // Last generated matrix by schedule year, for the heatmap
+    private final Map<Integer, GeneratedMatrix> generatedMatrices = new ConcurrentHashMap<>();
+
+    /**
+     * Pair counts of a generated matrix and the names of its courses
+     */
+    private record GeneratedMatrix(CoursePairCounts counts, Map<Long, String> courseNames) {
+    }
 
     @Override
     @Transactional
     public void generateConflictMatrix(Integer year) {
         log.info("Generating conflict matrix for year: {}", year);
+        long startTime = System.currentTimeMillis();
 
         // Clear existing matrix for this year
         clearConflictMatrix(year);
+        conflictMatrixRepository.flush();
 
         // Get all course requests for the year
         List<CourseRequest> requests = courseRequestRepository.findPendingRequestsForYear(year);
 
-        // Group requests by student
-        Map<Long, List<CourseRequest>> requestsByStudent = requests.stream()
-            .filter(cr -> cr.getStudent() != null)
-            .collect(Collectors.groupingBy(cr -> cr.getStudent().getId()));
+        // Group requested course IDs by student
+        Map<Long, Course> coursesById = new HashMap<>();
+        Map<Long, Set<Long>> courseIdsByStudent = new HashMap<>();
+        for (CourseRequest request : requests) {
+            Course course = request.getCourse();
+            if (request.getStudent() == null || request.getStudent().getId() == null
+                    || course == null || course.getId() == null) {
+                continue;
+            }
+            coursesById.putIfAbsent(course.getId(), course);
+            courseIdsByStudent.computeIfAbsent(request.getStudent().getId(), id -> new LinkedHashSet<>())
+                .add(course.getId());
+        }
 
-        // For each student, create conflict entries for all course pairs
+        List<long[]> studentCourses = new ArrayList<>(courseIdsByStudent.size());
         int totalConflicts = 0;
-        for (List<CourseRequest> studentRequests : requestsByStudent.values()) {
-            List<Course> courses = studentRequests.stream()
-                .map(CourseRequest::getCourse)
-                .filter(Objects::nonNull)
-                .distinct()
-                .collect(Collectors.toList());
-
-            // Create conflicts for each pair of courses
-            for (int i = 0; i < courses.size(); i++) {
-                for (int j = i + 1; j < courses.size(); j++) {
-                    Course course1 = courses.get(i);
-                    Course course2 = courses.get(j);
-
-                    updateConflictWithYear(course1, course2, 1, year);
-                    totalConflicts++;
+        for (Set<Long> courseIds : courseIdsByStudent.values()) {
+            studentCourses.add(courseIds.stream().mapToLong(Long::longValue).toArray());
+            totalConflicts += courseIds.size() * (courseIds.size() - 1) / 2;
+        }
+
+        // For each student, count every pair of requested courses
+        CoursePairCounts counts = countPairs(studentCourses);
+
+        int written = saveConflicts(counts, coursesById, year);
+
+        log.info("Generated {} conflict entries ({} course pairs) for year {} in {}ms",
+            totalConflicts, written, year, System.currentTimeMillis() - startTime);
+
+        Map<Long, String> courseNames = new HashMap<>();
+        coursesById.forEach((id, course) -> courseNames.put(id, course.getCourseName()));
+        afterCommit(() -> {
+            if (year != null) {
+                generatedMatrices.put(year, new GeneratedMatrix(counts, courseNames));
+            }
+        });
+    }
+
+    private CoursePairCounts countPairs(List<long[]> studentCourses) {
+        if (studentCourses.size() < PARALLEL_MIN_STUDENTS) {
+            return countPartition(studentCourses);
+        }
+
+        int partitions = Runtime.getRuntime().availableProcessors();
+        int partitionSize = (studentCourses.size() + partitions - 1) / partitions;
+        return IntStream.range(0, partitions).parallel()
+            .mapToObj(p -> countPartition(studentCourses.subList(
+                Math.min(studentCourses.size(), p * partitionSize),
+                Math.min(studentCourses.size(), (p + 1) * partitionSize))))
+            .reduce((a, b) -> {
+                a.addAll(b);
+                return a;
+            })
+            .orElseGet(CoursePairCounts::new);
+    }
+
+    private CoursePairCounts countPartition(List<long[]> studentCourses) {
+        CoursePairCounts counts = new CoursePairCounts();
+        for (long[] courseIds : studentCourses) {
+            for (int i = 0; i < courseIds.length; i++) {
+                for (int j = i + 1; j < courseIds.length; j++) {
+                    counts.increment(courseIds[i], courseIds[j]);
                 }
             }
         }
+        return counts;
+    }
+
+    /**
+     * Write every pair count: one batched update of the year's pair rows that
+     * already exist and one batched insert of the rest. Other years' rows are
+     * left alone
+     *
+     * @return number of pairs written
+     */
+    private int saveConflicts(CoursePairCounts counts, Map<Long, Course> coursesById, Integer year) {
+        Map<Long, Map<Long, Long>> existingIds = new HashMap<>();
+        for (Object[] row : conflictMatrixRepository.findCoursePairIdsForYear(year)) {
+            // id, course1 ID, course2 ID
+            Long course1Id = (Long) row[1];
+            Long course2Id = (Long) row[2];
+            existingIds.computeIfAbsent(Math.min(course1Id, course2Id), id -> new HashMap<>())
+                .put(Math.max(course1Id, course2Id), (Long) row[0]);
+        }
 
-        log.info("Generated {} conflict entries for year {}", totalConflicts, year);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+
+        counts.forEach((course1Id, course2Id, count) -> {
+            Course course1 = coursesById.get(course1Id);
+            Course course2 = coursesById.get(course2Id);
+            boolean singleton = Boolean.TRUE.equals(course1.getIsSingleton())
+                || Boolean.TRUE.equals(course2.getIsSingleton());
+            int priority = singleton ? SINGLETON_PRIORITY : DEFAULT_PRIORITY;
+            double percentage = conflictPercentage(count, course1, course2);
+
+            Long id = existingIds.getOrDefault(course1Id, Map.of()).get(course2Id);
+            if (id != null) {
+                updates.add(new Object[] {count, percentage, singleton, priority, now, id});
+            } else {
+                inserts.add(new Object[] {course1Id, course2Id, count, percentage, singleton, priority, year, now});
+            }
+        });
 
-        // Mark singleton conflicts
-        markSingletonConflicts(year);
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_CONFLICT_SQL, updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CONFLICT_SQL, inserts);
+        }
+        return updates.size() + inserts.size();
     }
 
-    private void markSingletonConflicts(Integer year) {
-        List<ConflictMatrix> allConflicts = conflictMatrixRepository.findByScheduleYear(year);
+    private static double conflictPercentage(int conflictCount, Course course1, Course course2) {
+        int course1Enrollment = course1.getCurrentEnrollment() != null ? course1.getCurrentEnrollment() : 0;
+        int course2Enrollment = course2.getCurrentEnrollment() != null ? course2.getCurrentEnrollment() : 0;
 
-        for (ConflictMatrix conflict : allConflicts) {
-            boolean isSingleton = (conflict.getCourse1() != null && Boolean.TRUE.equals(conflict.getCourse1().getIsSingleton())) ||
-                                 (conflict.getCourse2() != null && Boolean.TRUE.equals(conflict.getCourse2().getIsSingleton()));
+        int minEnrollment = Math.min(course1Enrollment, course2Enrollment);
+        if (minEnrollment == 0) return 0.0;
 
-            if (isSingleton) {
-                conflict.setIsSingletonConflict(true);
-                conflict.setPriorityLevel(10); // Highest priority
-                conflictMatrixRepository.save(conflict);
-            }
+        return (conflictCount * 100.0) / minEnrollment;
+    }
+
+    /**
+     * Run once the current transaction commits, or now if there is none
+     */
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
         }
     }
 
@@ -111,6 +244,19 @@ public class ConflictMatrixServiceImpl implements ConflictMatrixService {
 
     @Override
     public Map<String, Map<String, Integer>> getConflictHeatmap(Integer year) {
+        GeneratedMatrix generated = year != null ? generatedMatrices.get(year) : null;
+        if (generated != null) {
+            Map<String, Map<String, Integer>> heatmap = new HashMap<>();
+            generated.counts().forEach((course1Id, course2Id, count) -> {
+                String course1Name = generated.courseNames().get(course1Id);
+                String course2Name = generated.courseNames().get(course2Id);
+
+                heatmap.computeIfAbsent(course1Name, k -> new HashMap<>()).put(course2Name, count);
+                heatmap.computeIfAbsent(course2Name, k -> new HashMap<>()).put(course1Name, count);
+            });
+            return heatmap;
+        }
+
         List<ConflictMatrix> conflicts = conflictMatrixRepository.findByScheduleYear(year);
 
         Map<String, Map<String, Integer>> heatmap = new HashMap<>();
@@ -155,6 +301,7 @@ public class ConflictMatrixServiceImpl implements ConflictMatrixService {
     @Override
     @Transactional
     public ConflictMatrix updateConflict(Course course1, Course course2, Integer count) {
+        generatedMatrices.clear();
         return updateConflictWithYear(course1, course2, count, java.time.Year.now().getValue());
     }
 
@@ -197,6 +344,9 @@ public class ConflictMatrixServiceImpl implements ConflictMatrixService {
     public void clearConflictMatrix(Integer year) {
         List<ConflictMatrix> conflicts = conflictMatrixRepository.findByScheduleYear(year);
         conflictMatrixRepository.deleteAll(conflicts);
+        if (year != null) {
+            generatedMatrices.remove(year);
+        }
         log.info("Cleared {} conflict entries for year {}", conflicts.size(), year);
     }
 }
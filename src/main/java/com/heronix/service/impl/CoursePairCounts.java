@@ -0,0 +1,151 @@
+package com.heronix.service.impl;
+
+/**
+ * Course Pair Counts
+ * Primitive hash map from an unordered pair of course IDs to the number of
+ * students requesting both, used to accumulate the conflict matrix in memory.
+ *
+ * A pair is packed into one long (lower ID in the high 32 bits, higher ID in
+ * the low 32 bits) and stored with open addressing and linear probing in
+ * parallel long and int arrays, so counting a pair allocates nothing.
+ *
+ * Not thread-safe; count each partition of students into its own instance and
+ * {@link #addAll} them together.
+ *
+ * Location: src/main/java/com/heronix/service/impl/CoursePairCounts.java
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+public final class CoursePairCounts {
+
+    /**
+     * Receives each pair with its count
+     */
+    @FunctionalInterface
+    public interface PairConsumer {
+        void accept(long course1Id, long course2Id, int count);
+    }
+
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] counts;
+    private int size;
+
+    public CoursePairCounts() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedPairs number of distinct pairs to size the table for
+     */
+    public CoursePairCounts(int expectedPairs) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedPairs * 2) {
+            capacity <<= 1;
+        }
+        keys = new long[capacity];
+        counts = new int[capacity];
+    }
+
+    /**
+     * Add to the count of a pair; the order of the two IDs doesn't matter
+     */
+    public void add(long courseAId, long courseBId, int delta) {
+        long key = pack(courseAId, courseBId);
+        int slot = find(keys, key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            if (++size * 2 > keys.length) {
+                counts[slot] = delta;
+                resize();
+                return;
+            }
+        }
+        counts[slot] += delta;
+    }
+
+    /**
+     * Count one more student for a pair
+     */
+    public void increment(long courseAId, long courseBId) {
+        add(courseAId, courseBId, 1);
+    }
+
+    /**
+     * Get the count of a pair, or 0 if no student requested both
+     */
+    public int get(long courseAId, long courseBId) {
+        int slot = find(keys, pack(courseAId, courseBId));
+        return keys[slot] == EMPTY ? 0 : counts[slot];
+    }
+
+    /**
+     * Add every count of another instance to this one
+     */
+    public void addAll(CoursePairCounts other) {
+        for (int slot = 0; slot < other.keys.length; slot++) {
+            long key = other.keys[slot];
+            if (key != EMPTY) {
+                add(key >>> 32, key & 0xFFFFFFFFL, other.counts[slot]);
+            }
+        }
+    }
+
+    /**
+     * Visit every pair, lower course ID first, in no particular order
+     */
+    public void forEach(PairConsumer consumer) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            long key = keys[slot];
+            if (key != EMPTY) {
+                consumer.accept(key >>> 32, key & 0xFFFFFFFFL, counts[slot]);
+            }
+        }
+    }
+
+    /**
+     * Number of distinct pairs
+     */
+    public int size() {
+        return size;
+    }
+
+    private static long pack(long courseAId, long courseBId) {
+        if (courseAId <= 0 || courseBId <= 0 || courseAId > 0xFFFFFFFFL || courseBId > 0xFFFFFFFFL) {
+            throw new IllegalArgumentException("Course IDs out of range: " + courseAId + ", " + courseBId);
+        }
+        return courseAId < courseBId ? courseAId << 32 | courseBId : courseBId << 32 | courseAId;
+    }
+
+    private static int find(long[] table, long key) {
+        int mask = table.length - 1;
+        int slot = mix(key) & mask;
+        while (table[slot] != EMPTY && table[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldCounts = counts;
+        keys = new long[oldKeys.length * 2];
+        counts = new int[oldKeys.length * 2];
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != EMPTY) {
+                int newSlot = find(keys, oldKeys[slot]);
+                keys[newSlot] = oldKeys[slot];
+                counts[newSlot] = oldCounts[slot];
+            }
+        }
+    }
+}
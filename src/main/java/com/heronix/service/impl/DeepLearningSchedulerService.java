@@ -28,6 +28,9 @@ import java.util.stream.Collectors;
  * - Q-Learning for conflict resolution
  * - Deep Q-Network (DQN) inspired optimization
  *
+ * The optimizers run on detached {@link CompactSchedule} copies of the slots;
+ * the slot entities are written once, with the best schedule found.
+ *
  * @author Heronix Scheduling System Team
  * @version 1.0.0
  * @since Phase 14 - Deep Learning Integration
@@ -54,6 +57,9 @@ public class DeepLearningSchedulerService {
     private static final double DISCOUNT_FACTOR = 0.95;
     private static final double EXPLORATION_RATE = 0.1;
 
+    private static final int HOUR = 3600;
+    private static final int DAY = 24 * HOUR;
+
     // ========================================================================
     // REINFORCEMENT LEARNING SCHEDULER
     // ========================================================================
@@ -74,9 +80,11 @@ public class DeepLearningSchedulerService {
         log.info("Starting Reinforcement Learning optimization with {} slots", schedule.size());
 
         long startTime = System.currentTimeMillis();
-        List<ScheduleSlot> currentSchedule = new ArrayList<>(schedule);
-        List<ScheduleSlot> bestSchedule = new ArrayList<>(schedule);
-        double bestReward = calculateTotalReward(currentSchedule);
+        CompactSchedule initialSchedule = CompactSchedule.of(schedule);
+        CompactSchedule currentSchedule = initialSchedule.copy();
+        CompactSchedule bestSchedule = initialSchedule.copy();
+        double initialReward = calculateTotalReward(initialSchedule);
+        double bestReward = initialReward;
 
         List<Double> rewardHistory = new ArrayList<>();
         int episodes = config.getEpisodes();
@@ -84,7 +92,7 @@ public class DeepLearningSchedulerService {
         for (int episode = 0; episode < episodes; episode++) {
             // Reset to initial state with some randomization
             if (episode > 0 && Math.random() < 0.3) {
-                currentSchedule = new ArrayList<>(schedule);
+                currentSchedule.copyFrom(initialSchedule);
             }
 
             double episodeReward = 0;
@@ -106,7 +114,7 @@ public class DeepLearningSchedulerService {
             // Track best solution
             double totalReward = calculateTotalReward(currentSchedule);
             if (totalReward > bestReward) {
-                bestSchedule = new ArrayList<>(currentSchedule);
+                bestSchedule.copyFrom(currentSchedule);
                 bestReward = totalReward;
             }
 
@@ -120,18 +128,18 @@ public class DeepLearningSchedulerService {
         long duration = System.currentTimeMillis() - startTime;
 
         return RLOptimizationResult.builder()
-            .initialReward(calculateTotalReward(schedule))
+            .initialReward(initialReward)
             .finalReward(bestReward)
-            .improvement((bestReward - calculateTotalReward(schedule)) / Math.abs(calculateTotalReward(schedule)) * 100)
+            .improvement((bestReward - initialReward) / Math.abs(initialReward) * 100)
             .episodes(episodes)
             .durationMs(duration)
-            .optimizedSchedule(bestSchedule)
+            .optimizedSchedule(bestSchedule.applyTo())
             .rewardHistory(rewardHistory)
             .qTableSize(qTable.size())
             .build();
     }
 
-    private String encodeState(List<ScheduleSlot> schedule, int currentIndex) {
+    private String encodeState(CompactSchedule schedule, int currentIndex) {
         // ✅ NULL SAFE: Validate parameters
         if (schedule == null || currentIndex < 0 || currentIndex >= schedule.size()) {
             return "INVALID_STATE";
@@ -139,15 +147,12 @@ public class DeepLearningSchedulerService {
 
         // Encode schedule state as string
         StringBuilder sb = new StringBuilder();
-        ScheduleSlot current = schedule.get(currentIndex);
-        // ✅ NULL SAFE: Validate current slot
-        if (current == null) {
-            return "NULL_SLOT";
-        }
+        int day = schedule.getDay(currentIndex);
+        int start = schedule.getStart(currentIndex);
 
         // Current slot features
-        sb.append(current.getDayOfWeek() != null ? current.getDayOfWeek().ordinal() : -1).append(",");
-        sb.append(current.getStartTime() != null ? current.getStartTime().getHour() : -1).append(",");
+        sb.append(day != CompactSchedule.NO_DAY ? day : -1).append(",");
+        sb.append(start != CompactSchedule.NO_TIME ? start / HOUR : -1).append(",");
 
         // Count conflicts
         int teacherConflicts = countTeacherConflicts(schedule, currentIndex);
@@ -177,54 +182,43 @@ public class DeepLearningSchedulerService {
         return bestAction;
     }
 
-    private double applyAction(List<ScheduleSlot> schedule, int index, int action) {
+    private double applyAction(CompactSchedule schedule, int index, int action) {
         // ✅ NULL SAFE: Validate parameters
         if (schedule == null || index < 0 || index >= schedule.size()) {
             return 0;
         }
 
-        ScheduleSlot slot = schedule.get(index);
-        // ✅ NULL SAFE: Validate slot
-        if (slot == null) {
-            return 0;
-        }
-
         double oldReward = calculateSlotReward(schedule, index);
 
-        DayOfWeek[] days = {DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
-                          DayOfWeek.THURSDAY, DayOfWeek.FRIDAY};
+        int day = schedule.getDay(index);
+        int start = schedule.getStart(index);
 
         switch (action) {
             case 0 -> { // Move to earlier time
-                if (slot.getStartTime() != null && slot.getStartTime().getHour() > 7) {
-                    slot.setStartTime(slot.getStartTime().minusHours(1));
-                    slot.setEndTime(slot.getEndTime().minusHours(1));
+                if (start != CompactSchedule.NO_TIME && start / HOUR > 7) {
+                    shiftTime(schedule, index, -HOUR);
                 }
             }
             case 1 -> { // Move to later time
-                if (slot.getStartTime() != null && slot.getStartTime().getHour() < 14) {
-                    slot.setStartTime(slot.getStartTime().plusHours(1));
-                    slot.setEndTime(slot.getEndTime().plusHours(1));
+                if (start != CompactSchedule.NO_TIME && start / HOUR < 14) {
+                    shiftTime(schedule, index, HOUR);
                 }
             }
             case 2 -> { // Move to previous day
-                if (slot.getDayOfWeek() != null && slot.getDayOfWeek() != DayOfWeek.MONDAY) {
-                    slot.setDayOfWeek(DayOfWeek.of(slot.getDayOfWeek().getValue() - 1));
+                if (day != CompactSchedule.NO_DAY && day != DayOfWeek.MONDAY.ordinal()) {
+                    schedule.setDay(index, day - 1);
                 }
             }
             case 3 -> { // Move to next day
-                if (slot.getDayOfWeek() != null && slot.getDayOfWeek() != DayOfWeek.FRIDAY) {
-                    slot.setDayOfWeek(DayOfWeek.of(slot.getDayOfWeek().getValue() + 1));
+                if (day != CompactSchedule.NO_DAY && day != DayOfWeek.FRIDAY.ordinal() &&
+                    day != DayOfWeek.SUNDAY.ordinal()) {
+                    schedule.setDay(index, day + 1);
                 }
             }
             case 4 -> { // Swap with random slot
                 int otherIndex = (int)(Math.random() * schedule.size());
                 if (otherIndex != index && otherIndex < schedule.size()) {
-                    ScheduleSlot other = schedule.get(otherIndex);
-                    // ✅ NULL SAFE: Validate other slot before swapping
-                    if (other != null) {
-                        swapSlots(slot, other);
-                    }
+                    schedule.swapTimes(index, otherIndex);
                 }
             }
         }
@@ -233,6 +227,13 @@ public class DeepLearningSchedulerService {
         return newReward - oldReward; // Reward is improvement
     }
 
+    private void shiftTime(CompactSchedule schedule, int index, int seconds) {
+        int end = schedule.getEnd(index);
+        schedule.setTime(index, schedule.getDay(index),
+            Math.floorMod(schedule.getStart(index) + seconds, DAY),
+            end != CompactSchedule.NO_TIME ? Math.floorMod(end + seconds, DAY) : end);
+    }
+
     private void updateQValue(String state, int action, double reward, String newState) {
         double[] qValues = qTable.computeIfAbsent(state, k -> new double[5]);
         double[] newQValues = qTable.getOrDefault(newState, new double[5]);
@@ -415,9 +416,10 @@ public class DeepLearningSchedulerService {
         List<Experience> replayBuffer = new ArrayList<>();
         int bufferSize = config.getReplayBufferSize();
 
-        List<ScheduleSlot> currentSchedule = new ArrayList<>(schedule);
-        List<ScheduleSlot> bestSchedule = new ArrayList<>(schedule);
-        double bestScore = calculateTotalReward(currentSchedule);
+        CompactSchedule currentSchedule = CompactSchedule.of(schedule);
+        CompactSchedule bestSchedule = currentSchedule.copy();
+        double initialScore = calculateTotalReward(currentSchedule);
+        double bestScore = initialScore;
 
         List<Double> scoreHistory = new ArrayList<>();
 
@@ -447,7 +449,7 @@ public class DeepLearningSchedulerService {
             // Track progress
             double score = calculateTotalReward(currentSchedule);
             if (score > bestScore) {
-                bestSchedule = new ArrayList<>(currentSchedule);
+                bestSchedule.copyFrom(currentSchedule);
                 bestScore = score;
             }
             scoreHistory.add(score);
@@ -462,12 +464,12 @@ public class DeepLearningSchedulerService {
         long duration = System.currentTimeMillis() - startTime;
 
         return DQNOptimizationResult.builder()
-            .initialScore(calculateTotalReward(schedule))
+            .initialScore(initialScore)
             .finalScore(bestScore)
-            .improvement((bestScore - calculateTotalReward(schedule)) / Math.abs(calculateTotalReward(schedule)) * 100)
+            .improvement((bestScore - initialScore) / Math.abs(initialScore) * 100)
             .episodes(config.getEpisodes())
             .durationMs(duration)
-            .optimizedSchedule(bestSchedule)
+            .optimizedSchedule(bestSchedule.applyTo())
             .scoreHistory(scoreHistory)
             .experiencesCollected(replayBuffer.size())
             .build();
@@ -492,9 +494,9 @@ public class DeepLearningSchedulerService {
     // HELPER METHODS
     // ========================================================================
 
-    private double calculateTotalReward(List<ScheduleSlot> schedule) {
+    private double calculateTotalReward(CompactSchedule schedule) {
         // ✅ NULL SAFE: Validate schedule
-        if (schedule == null || schedule.isEmpty()) {
+        if (schedule == null || schedule.size() == 0) {
             return 0;
         }
 
@@ -507,102 +509,91 @@ public class DeepLearningSchedulerService {
         }
 
         // Reward even distribution
-        Map<DayOfWeek, Long> dayDistribution = schedule.stream()
-            // ✅ NULL SAFE: Filter null slots before grouping
-            .filter(s -> s != null && s.getDayOfWeek() != null)
-            .collect(Collectors.groupingBy(ScheduleSlot::getDayOfWeek, Collectors.counting()));
+        int[] dayDistribution = new int[CompactSchedule.NO_DAY];
+        for (int i = 0; i < schedule.size(); i++) {
+            if (schedule.getDay(i) != CompactSchedule.NO_DAY) {
+                dayDistribution[schedule.getDay(i)]++;
+            }
+        }
 
-        if (!dayDistribution.isEmpty()) {
-            double avg = dayDistribution.values().stream().mapToLong(Long::longValue).average().orElse(0);
-            double variance = dayDistribution.values().stream()
-                .mapToDouble(v -> Math.pow(v - avg, 2)).average().orElse(0);
-            reward -= Math.sqrt(variance) * 2;
+        int usedDays = 0;
+        double total = 0;
+        for (int count : dayDistribution) {
+            if (count > 0) {
+                usedDays++;
+                total += count;
+            }
+        }
+        if (usedDays > 0) {
+            double avg = total / usedDays;
+            double variance = 0;
+            for (int count : dayDistribution) {
+                if (count > 0) {
+                    variance += Math.pow(count - avg, 2);
+                }
+            }
+            reward -= Math.sqrt(variance / usedDays) * 2;
         }
 
         return reward;
     }
 
-    private double calculateSlotReward(List<ScheduleSlot> schedule, int index) {
+    private double calculateSlotReward(CompactSchedule schedule, int index) {
         double reward = 10;
         reward -= countTeacherConflicts(schedule, index) * 5;
         reward -= countRoomConflicts(schedule, index) * 5;
         return reward;
     }
 
-    private int countTeacherConflicts(List<ScheduleSlot> schedule, int index) {
+    private int countTeacherConflicts(CompactSchedule schedule, int index) {
         // ✅ NULL SAFE: Validate parameters
         if (schedule == null || index < 0 || index >= schedule.size()) {
             return 0;
         }
 
-        ScheduleSlot slot = schedule.get(index);
-        // ✅ NULL SAFE: Validate slot and required fields
-        if (slot == null || slot.getTeacher() == null || slot.getTeacher().getId() == null ||
-            slot.getDayOfWeek() == null || slot.getStartTime() == null) {
+        // Only saved teachers on a scheduled day and time can conflict
+        int teacher = schedule.index.slotTeacher[index];
+        int day = schedule.getDay(index);
+        int start = schedule.getStart(index);
+        if (teacher == CompactSchedule.NONE || day == CompactSchedule.NO_DAY || start == CompactSchedule.NO_TIME) {
             return 0;
         }
 
         int conflicts = 0;
         for (int i = 0; i < schedule.size(); i++) {
-            if (i != index) {
-                ScheduleSlot other = schedule.get(i);
-                // ✅ NULL SAFE: Validate other slot before comparison
-                if (other != null && other.getTeacher() != null && other.getTeacher().getId() != null &&
-                    other.getTeacher().getId().equals(slot.getTeacher().getId()) &&
-                    other.getDayOfWeek() == slot.getDayOfWeek() &&
-                    other.getStartTime() != null &&
-                    other.getStartTime().equals(slot.getStartTime())) {
-                    conflicts++;
-                }
+            if (i != index && schedule.index.slotTeacher[i] == teacher &&
+                schedule.getDay(i) == day && schedule.getStart(i) == start) {
+                conflicts++;
             }
         }
         return conflicts;
     }
 
-    private int countRoomConflicts(List<ScheduleSlot> schedule, int index) {
+    private int countRoomConflicts(CompactSchedule schedule, int index) {
         // ✅ NULL SAFE: Validate parameters
         if (schedule == null || index < 0 || index >= schedule.size()) {
             return 0;
         }
 
-        ScheduleSlot slot = schedule.get(index);
-        // ✅ NULL SAFE: Validate slot and required fields
-        if (slot == null || slot.getRoom() == null || slot.getRoom().getId() == null ||
-            slot.getDayOfWeek() == null || slot.getStartTime() == null) {
+        // Only saved rooms on a scheduled day and time can conflict
+        int room = schedule.getRoom(index);
+        int day = schedule.getDay(index);
+        int start = schedule.getStart(index);
+        if (room == CompactSchedule.NONE || !schedule.index.roomIndexed[room] ||
+            day == CompactSchedule.NO_DAY || start == CompactSchedule.NO_TIME) {
             return 0;
         }
 
         int conflicts = 0;
         for (int i = 0; i < schedule.size(); i++) {
-            if (i != index) {
-                ScheduleSlot other = schedule.get(i);
-                // ✅ NULL SAFE: Validate other slot before comparison
-                if (other != null && other.getRoom() != null && other.getRoom().getId() != null &&
-                    other.getRoom().getId().equals(slot.getRoom().getId()) &&
-                    other.getDayOfWeek() == slot.getDayOfWeek() &&
-                    other.getStartTime() != null &&
-                    other.getStartTime().equals(slot.getStartTime())) {
-                    conflicts++;
-                }
+            if (i != index && schedule.getRoom(i) == room &&
+                schedule.getDay(i) == day && schedule.getStart(i) == start) {
+                conflicts++;
             }
         }
         return conflicts;
     }
 
-    private void swapSlots(ScheduleSlot a, ScheduleSlot b) {
-        DayOfWeek tempDay = a.getDayOfWeek();
-        LocalTime tempStart = a.getStartTime();
-        LocalTime tempEnd = a.getEndTime();
-
-        a.setDayOfWeek(b.getDayOfWeek());
-        a.setStartTime(b.getStartTime());
-        a.setEndTime(b.getEndTime());
-
-        b.setDayOfWeek(tempDay);
-        b.setStartTime(tempStart);
-        b.setEndTime(tempEnd);
-    }
-
     private double sigmoid(double x) {
         return 1.0 / (1.0 + Math.exp(-x));
     }
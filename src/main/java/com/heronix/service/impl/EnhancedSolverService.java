@@ -10,11 +10,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.DayOfWeek;
-import java.time.LocalTime;
 import java.util.*;
 import java.util.concurrent.*;
-import java.util.stream.Collectors;
 
 /**
  * Enhanced Solver Service with Advanced Optimization Techniques
@@ -26,6 +23,12 @@ import java.util.stream.Collectors;
  * - Parallel Island Model optimization
  * - Constraint relaxation strategies
  *
+ * All searches run on detached {@link CompactSchedule} copies of the slots and
+ * reuse a fixed set of working copies per run. Simulated annealing and tabu
+ * search apply, score and undo moves in place against an incremental energy
+ * model, so a step costs O(slots moved) rather than a full rescore. Slot
+ * entities are written once, with the best schedule found.
+ *
  * @author Heronix Scheduling System Team
  * @version 1.0.0
  * @since Phase 14 - Solver Optimizations
@@ -40,6 +43,12 @@ public class EnhancedSolverService {
     private final RoomRepository roomRepository;
     private final CourseRepository courseRepository;
 
+    private static final int HOUR = 3600;
+    private static final int FIRST_HOUR = 7;
+    private static final int HOURS = 8;
+    private static final int SCHOOL_DAYS = 5;
+    private static final double CONFLICT_ENERGY = 100;
+
     // ========================================================================
     // SIMULATED ANNEALING WITH ADAPTIVE COOLING
     // ========================================================================
@@ -59,11 +68,21 @@ public class EnhancedSolverService {
 
         log.info("Starting Simulated Annealing optimization with {} slots", schedule.size());
 
-        long startTime = System.currentTimeMillis();
-        List<ScheduleSlot> currentSolution = new ArrayList<>(schedule);
-        List<ScheduleSlot> bestSolution = new ArrayList<>(schedule);
+        return applied(simulatedAnnealing(CompactSchedule.of(schedule), config));
+    }
+
+    private Solution simulatedAnnealing(CompactSchedule initial, SimulatedAnnealingConfig config) {
+        long startNanos = System.nanoTime();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        // Moves are applied to the current solution in place and undone when rejected
+        CompactSchedule currentSolution = initial.copy();
+        CompactSchedule bestSolution = initial.copy();
+        EnergyModel energy = new EnergyModel(currentSolution);
+        Move move = new Move();
 
-        double currentEnergy = calculateEnergy(currentSolution);
+        double initialEnergy = energy.energy();
+        double currentEnergy = initialEnergy;
         double bestEnergy = currentEnergy;
 
         double temperature = config.getInitialTemperature();
@@ -71,26 +90,28 @@ public class EnhancedSolverService {
         int stagnationCount = 0;
         List<Double> energyHistory = new ArrayList<>();
 
-        while (temperature > config.getMinTemperature() && iteration < config.getMaxIterations()) {
+        while (temperature > config.getMinTemperature() && iteration < config.getMaxIterations()
+                && !timeUp(iteration, startNanos, config.getTimeLimitMs())) {
             // Generate neighbor solution
-            List<ScheduleSlot> neighbor = generateNeighbor(currentSolution);
-            double neighborEnergy = calculateEnergy(neighbor);
+            randomMove(currentSolution, move, random);
+            energy.apply(move);
+            double neighborEnergy = energy.energy();
 
             double deltaE = neighborEnergy - currentEnergy;
 
             // Accept or reject based on Metropolis criterion
-            if (deltaE < 0 || Math.random() < Math.exp(-deltaE / temperature)) {
-                currentSolution = neighbor;
+            if (deltaE < 0 || random.nextDouble() < Math.exp(-deltaE / temperature)) {
                 currentEnergy = neighborEnergy;
 
                 if (currentEnergy < bestEnergy) {
-                    bestSolution = new ArrayList<>(currentSolution);
+                    bestSolution.copyFrom(currentSolution);
                     bestEnergy = currentEnergy;
                     stagnationCount = 0;
                 } else {
                     stagnationCount++;
                 }
             } else {
+                energy.undo(move);
                 stagnationCount++;
             }
 
@@ -109,23 +130,21 @@ public class EnhancedSolverService {
             iteration++;
 
             if (iteration % 1000 == 0) {
-                log.debug("SA Iteration {}: temp={:.2f}, energy={:.2f}, best={:.2f}",
+                log.debug("SA Iteration {}: temp={}, energy={}, best={}",
                     iteration, temperature, currentEnergy, bestEnergy);
             }
         }
 
-        long duration = System.currentTimeMillis() - startTime;
-
-        return OptimizationResult.builder()
+        OptimizationResult result = OptimizationResult.builder()
             .algorithm("Simulated Annealing (Adaptive)")
-            .initialScore(calculateEnergy(schedule))
+            .initialScore(initialEnergy)
             .finalScore(bestEnergy)
-            .improvement((calculateEnergy(schedule) - bestEnergy) / calculateEnergy(schedule) * 100)
+            .improvement((initialEnergy - bestEnergy) / initialEnergy * 100)
             .iterations(iteration)
-            .durationMs(duration)
-            .optimizedSchedule(bestSolution)
             .energyHistory(energyHistory)
             .build();
+        recordRates(result, iteration, iteration, startNanos);
+        return new Solution(result, bestSolution);
     }
 
     // ========================================================================
@@ -147,34 +166,50 @@ public class EnhancedSolverService {
 
         log.info("Starting Tabu Search optimization with {} slots", schedule.size());
 
-        long startTime = System.currentTimeMillis();
-        List<ScheduleSlot> currentSolution = new ArrayList<>(schedule);
-        List<ScheduleSlot> bestSolution = new ArrayList<>(schedule);
+        return applied(tabuSearch(CompactSchedule.of(schedule), config));
+    }
+
+    private Solution tabuSearch(CompactSchedule initial, TabuSearchConfig config) {
+        long startNanos = System.nanoTime();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        // Candidate moves are scored against the current solution without copying it
+        CompactSchedule currentSolution = initial.copy();
+        CompactSchedule bestSolution = initial.copy();
+        EnergyModel energy = new EnergyModel(currentSolution);
 
-        double currentScore = calculateEnergy(currentSolution);
+        double initialScore = energy.energy();
+        double currentScore = initialScore;
         double bestScore = currentScore;
 
         // Tabu list stores move signatures
-        LinkedList<String> tabuList = new LinkedList<>();
         int tabuTenure = config.getInitialTabuTenure();
+        TabuList tabuList = new TabuList(Math.max(tabuTenure,
+            Math.max(config.getMinTabuTenure(), config.getMaxTabuTenure())) + 1);
+
+        // The neighborhood's moves are refilled every iteration
+        Move[] neighborhood = new Move[config.getNeighborhoodSize()];
+        for (int i = 0; i < neighborhood.length; i++) {
+            neighborhood[i] = new Move();
+        }
 
         int iteration = 0;
         int improvementCount = 0;
         List<Double> scoreHistory = new ArrayList<>();
 
-        while (iteration < config.getMaxIterations()) {
+        while (iteration < config.getMaxIterations()
+                && !timeUp(iteration, startNanos, config.getTimeLimitMs())) {
             // Generate neighborhood
-            List<Move> neighborhood = generateNeighborhood(currentSolution, config.getNeighborhoodSize());
+            generateNeighborhood(currentSolution, neighborhood, random);
 
             // Find best non-tabu move (or aspiration)
             Move bestMove = null;
             double bestMoveScore = Double.MAX_VALUE;
 
             for (Move move : neighborhood) {
-                String moveSignature = move.getSignature();
-                double moveScore = evaluateMove(currentSolution, move);
+                double moveScore = energy.score(move);
 
-                boolean isTabu = tabuList.contains(moveSignature);
+                boolean isTabu = tabuList.contains(move.getSignature());
                 boolean aspirationMet = moveScore < bestScore; // Better than global best
 
                 if ((!isTabu || aspirationMet) && moveScore < bestMoveScore) {
@@ -185,8 +220,8 @@ public class EnhancedSolverService {
 
             if (bestMove != null) {
                 // Apply move
-                applyMove(currentSolution, bestMove);
-                currentScore = bestMoveScore;
+                energy.apply(bestMove);
+                currentScore = energy.energy();
 
                 // Update tabu list
                 tabuList.addLast(bestMove.getSignature());
@@ -196,7 +231,7 @@ public class EnhancedSolverService {
 
                 // Update best solution
                 if (currentScore < bestScore) {
-                    bestSolution = new ArrayList<>(currentSolution);
+                    bestSolution.copyFrom(currentSolution);
                     bestScore = currentScore;
                     improvementCount++;
 
@@ -214,18 +249,16 @@ public class EnhancedSolverService {
             iteration++;
         }
 
-        long duration = System.currentTimeMillis() - startTime;
-
-        return OptimizationResult.builder()
+        OptimizationResult result = OptimizationResult.builder()
             .algorithm("Tabu Search (Dynamic Tenure)")
-            .initialScore(calculateEnergy(schedule))
+            .initialScore(initialScore)
             .finalScore(bestScore)
-            .improvement((calculateEnergy(schedule) - bestScore) / calculateEnergy(schedule) * 100)
+            .improvement((initialScore - bestScore) / initialScore * 100)
             .iterations(iteration)
-            .durationMs(duration)
-            .optimizedSchedule(bestSolution)
             .energyHistory(scoreHistory)
             .build();
+        recordRates(result, iteration, (long) iteration * neighborhood.length, startNanos);
+        return new Solution(result, bestSolution);
     }
 
     // ========================================================================
@@ -247,84 +280,89 @@ public class EnhancedSolverService {
 
         log.info("Starting Genetic Algorithm optimization with {} slots", schedule.size());
 
-        long startTime = System.currentTimeMillis();
+        return applied(geneticAlgorithm(CompactSchedule.of(schedule), config));
+    }
 
-        // Initialize population
-        List<List<ScheduleSlot>> population = initializePopulation(schedule, config.getPopulationSize());
+    private Solution geneticAlgorithm(CompactSchedule initial, GeneticAlgorithmConfig config) {
+        long startNanos = System.nanoTime();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        EnergyModel energy = new EnergyModel(initial);
+        Move mutation = new Move();
+        int populationSize = Math.max(1, config.getPopulationSize());
+
+        // Two generations of individuals, reused for the whole run
+        CompactSchedule[] population = initializePopulation(initial, populationSize, random);
+        CompactSchedule[] newPopulation = new CompactSchedule[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            newPopulation[i] = initial.copy();
+        }
+        double[] fitnesses = new double[populationSize];
+        int[] elite = new int[populationSize];
 
+        double initialFitness = energy.energy();
         double bestFitness = Double.MAX_VALUE;
-        List<ScheduleSlot> bestIndividual = null;
+        CompactSchedule bestIndividual = initial.copy();
         List<Double> fitnessHistory = new ArrayList<>();
 
         for (int generation = 0; generation < config.getGenerations(); generation++) {
-            // Evaluate fitness
-            List<Double> fitnesses = population.stream()
-                .map(this::calculateEnergy)
-                .collect(Collectors.toList());
-
-            // Track best
-            for (int i = 0; i < population.size(); i++) {
-                if (fitnesses.get(i) < bestFitness) {
-                    bestFitness = fitnesses.get(i);
-                    bestIndividual = new ArrayList<>(population.get(i));
+            // Evaluate fitness and track best
+            for (int i = 0; i < populationSize; i++) {
+                energy.load(population[i]);
+                fitnesses[i] = energy.energy();
+                if (fitnesses[i] < bestFitness) {
+                    bestFitness = fitnesses[i];
+                    bestIndividual.copyFrom(population[i]);
                 }
             }
             fitnessHistory.add(bestFitness);
 
             // Elitism - keep top individuals
-            List<List<ScheduleSlot>> newPopulation = new ArrayList<>();
-            int eliteCount = (int)(config.getPopulationSize() * config.getElitismRate());
-
-            // Sort by fitness and keep elite
-            List<Integer> indices = new ArrayList<>();
-            for (int i = 0; i < population.size(); i++) indices.add(i);
-            indices.sort((a, b) -> Double.compare(fitnesses.get(a), fitnesses.get(b)));
-
+            int eliteCount = Math.min(populationSize, (int)(config.getPopulationSize() * config.getElitismRate()));
+            selectElite(fitnesses, eliteCount, elite);
             for (int i = 0; i < eliteCount; i++) {
-                newPopulation.add(new ArrayList<>(population.get(indices.get(i))));
+                newPopulation[i].copyFrom(population[elite[i]]);
             }
 
             // Selection, crossover, mutation for rest
-            while (newPopulation.size() < config.getPopulationSize()) {
+            for (int i = eliteCount; i < populationSize; i++) {
                 // Tournament selection
-                List<ScheduleSlot> parent1 = tournamentSelect(population, fitnesses, config.getTournamentSize());
-                List<ScheduleSlot> parent2 = tournamentSelect(population, fitnesses, config.getTournamentSize());
+                CompactSchedule parent1 = population[tournamentSelect(fitnesses, config.getTournamentSize(), random)];
+                CompactSchedule parent2 = population[tournamentSelect(fitnesses, config.getTournamentSize(), random)];
 
                 // Crossover
-                List<ScheduleSlot> child;
-                if (Math.random() < config.getCrossoverRate()) {
-                    child = crossover(parent1, parent2);
+                CompactSchedule child = newPopulation[i];
+                if (random.nextDouble() < config.getCrossoverRate()) {
+                    crossover(parent1, parent2, child, random);
                 } else {
-                    child = new ArrayList<>(Math.random() < 0.5 ? parent1 : parent2);
+                    child.copyFrom(random.nextDouble() < 0.5 ? parent1 : parent2);
                 }
 
                 // Mutation
-                if (Math.random() < config.getMutationRate()) {
-                    mutate(child);
+                if (random.nextDouble() < config.getMutationRate()) {
+                    randomMove(child, mutation, random);
+                    mutation.applyTo(child);
                 }
-
-                newPopulation.add(child);
             }
 
+            CompactSchedule[] previous = population;
             population = newPopulation;
+            newPopulation = previous;
 
             if (generation % 50 == 0) {
-                log.debug("GA Generation {}: best fitness = {:.2f}", generation, bestFitness);
+                log.debug("GA Generation {}: best fitness = {}", generation, bestFitness);
             }
         }
 
-        long duration = System.currentTimeMillis() - startTime;
-
-        return OptimizationResult.builder()
+        OptimizationResult result = OptimizationResult.builder()
             .algorithm("Genetic Algorithm (Elitism)")
-            .initialScore(calculateEnergy(schedule))
+            .initialScore(initialFitness)
             .finalScore(bestFitness)
-            .improvement((calculateEnergy(schedule) - bestFitness) / calculateEnergy(schedule) * 100)
+            .improvement((initialFitness - bestFitness) / initialFitness * 100)
             .iterations(config.getGenerations())
-            .durationMs(duration)
-            .optimizedSchedule(bestIndividual)
             .energyHistory(fitnessHistory)
             .build();
+        recordRates(result, config.getGenerations(), (long) config.getGenerations() * populationSize, startNanos);
+        return new Solution(result, bestIndividual);
     }
 
     // ========================================================================
@@ -345,21 +383,23 @@ public class EnhancedSolverService {
 
         log.info("Starting Island Model optimization with {} islands", finalConfig.getNumIslands());
 
-        long startTime = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        // Islands only read the shared encoding; each searches its own copies
+        CompactSchedule encoded = CompactSchedule.of(schedule);
         ExecutorService executor = Executors.newFixedThreadPool(finalConfig.getNumIslands());
 
         try {
             // Create islands with different algorithms
-            List<Future<OptimizationResult>> futures = new ArrayList<>();
+            List<Future<Solution>> futures = new ArrayList<>();
 
             for (int i = 0; i < finalConfig.getNumIslands(); i++) {
                 final int islandId = i;
-                futures.add(executor.submit(() -> runIsland(schedule, islandId, finalConfig)));
+                futures.add(executor.submit(() -> runIsland(encoded, islandId, finalConfig)));
             }
 
             // Collect results
-            List<OptimizationResult> results = new ArrayList<>();
-            for (Future<OptimizationResult> future : futures) {
+            List<Solution> results = new ArrayList<>();
+            for (Future<Solution> future : futures) {
                 try {
                     results.add(future.get(finalConfig.getTimeoutSeconds(), TimeUnit.SECONDS));
                 } catch (Exception e) {
@@ -367,34 +407,38 @@ public class EnhancedSolverService {
                 }
             }
 
-            // Find best result
-            OptimizationResult best = results.stream()
-                .min(Comparator.comparingDouble(OptimizationResult::getFinalScore))
+            // Find best result; only its schedule is written to the slots
+            Solution best = results.stream()
+                .min(Comparator.comparingDouble(solution -> solution.getResult().getFinalScore()))
                 .orElse(null);
 
-            if (best != null) {
-                best.setAlgorithm("Island Model (Parallel)");
-                best.setDurationMs(System.currentTimeMillis() - startTime);
+            if (best == null) {
+                return null;
             }
 
-            return best;
+            // Iterations stay those of the best island; evaluations count all islands
+            long evaluations = results.stream().mapToLong(solution -> solution.getResult().getEvaluations()).sum();
+            OptimizationResult result = applied(best);
+            result.setAlgorithm("Island Model (Parallel)");
+            recordRates(result, result.getIterations(), evaluations, startNanos);
+            return result;
 
         } finally {
             executor.shutdown();
         }
     }
 
-    private OptimizationResult runIsland(List<ScheduleSlot> schedule, int islandId, IslandModelConfig config) {
+    private Solution runIsland(CompactSchedule schedule, int islandId, IslandModelConfig config) {
         // Each island uses a different algorithm variant
         return switch (islandId % 3) {
-            case 0 -> optimizeWithSimulatedAnnealing(schedule,
+            case 0 -> simulatedAnnealing(schedule,
                 SimulatedAnnealingConfig.builder()
                     .initialTemperature(1000 + islandId * 100)
                     .minTemperature(0.1)
                     .coolingRate(0.995)
                     .maxIterations(config.getIterationsPerIsland())
                     .build());
-            case 1 -> optimizeWithTabuSearch(schedule,
+            case 1 -> tabuSearch(schedule,
                 TabuSearchConfig.builder()
                     .initialTabuTenure(7 + islandId)
                     .minTabuTenure(3)
@@ -402,7 +446,7 @@ public class EnhancedSolverService {
                     .neighborhoodSize(20)
                     .maxIterations(config.getIterationsPerIsland())
                     .build());
-            default -> optimizeWithGeneticAlgorithm(schedule,
+            default -> geneticAlgorithm(schedule,
                 GeneticAlgorithmConfig.builder()
                     .populationSize(50)
                     .generations(config.getIterationsPerIsland() / 50)
@@ -418,167 +462,366 @@ public class EnhancedSolverService {
     // HELPER METHODS
     // ========================================================================
 
-    private double calculateEnergy(List<ScheduleSlot> schedule) {
-        double energy = 0;
+    /**
+     * Write a solution's schedule to the slot entities and return its result
+     */
+    private OptimizationResult applied(Solution solution) {
+        OptimizationResult result = solution.getResult();
+        result.setOptimizedSchedule(solution.getSchedule().applyTo());
+        return result;
+    }
 
-        // Count conflicts
-        Map<String, List<ScheduleSlot>> teacherSlots = new HashMap<>();
-        Map<String, List<ScheduleSlot>> roomSlots = new HashMap<>();
+    /**
+     * Fill {@code move} with a random neighbor of the schedule: a new hour, a new day or a time swap
+     */
+    private void randomMove(CompactSchedule schedule, Move move, ThreadLocalRandom random) {
+        if (schedule.size() == 0) {
+            move.relocate(0, CompactSchedule.NO_DAY, CompactSchedule.NO_TIME, CompactSchedule.NO_TIME);
+            return;
+        }
 
-        for (ScheduleSlot slot : schedule) {
-            if (slot.getTeacher() != null && slot.getDayOfWeek() != null && slot.getStartTime() != null) {
-                String teacherKey = slot.getTeacher().getId() + "-" + slot.getDayOfWeek() + "-" + slot.getStartTime();
-                teacherSlots.computeIfAbsent(teacherKey, k -> new ArrayList<>()).add(slot);
-            }
-            if (slot.getRoom() != null && slot.getDayOfWeek() != null && slot.getStartTime() != null) {
-                String roomKey = slot.getRoom().getId() + "-" + slot.getDayOfWeek() + "-" + slot.getStartTime();
-                roomSlots.computeIfAbsent(roomKey, k -> new ArrayList<>()).add(slot);
+        int idx = random.nextInt(schedule.size());
+
+        // Random modification
+        double r = random.nextDouble();
+        if (r < 0.33) {
+            // Change time
+            int hour = FIRST_HOUR + random.nextInt(HOURS);
+            move.relocate(idx, schedule.getDay(idx), hour * HOUR, (hour + 1) * HOUR);
+        } else if (r < 0.66) {
+            // Change day (Monday - Friday)
+            move.relocate(idx, random.nextInt(SCHOOL_DAYS), schedule.getStart(idx), schedule.getEnd(idx));
+        } else {
+            // Swap with another slot
+            move.swap(idx, random.nextInt(schedule.size()));
+        }
+    }
+
+    private void generateNeighborhood(CompactSchedule schedule, Move[] moves, ThreadLocalRandom random) {
+        for (Move move : moves) {
+            int idx = schedule.size() > 0 ? random.nextInt(schedule.size()) : 0;
+            int hour = FIRST_HOUR + random.nextInt(HOURS);
+            move.relocate(idx, random.nextInt(SCHOOL_DAYS), hour * HOUR, (hour + 1) * HOUR);
+        }
+    }
+
+    private boolean timeUp(int iteration, long startNanos, long timeLimitMs) {
+        // Checked every 1024 iterations to keep the clock off the hot path
+        return timeLimitMs > 0 && (iteration & 1023) == 0 &&
+            System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(timeLimitMs);
+    }
+
+    private void recordRates(OptimizationResult result, long iterations, long evaluations, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        double seconds = elapsedNanos / 1e9;
+
+        result.setDurationMs(TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        result.setEvaluations(evaluations);
+        result.setIterationsPerSecond(seconds > 0 ? iterations / seconds : 0);
+        result.setEvaluationsPerSecond(seconds > 0 ? evaluations / seconds : 0);
+    }
+
+    private CompactSchedule[] initializePopulation(CompactSchedule template, int size, ThreadLocalRandom random) {
+        CompactSchedule[] population = new CompactSchedule[size];
+        population[0] = template.copy();
+        Move move = new Move();
+
+        for (int i = 1; i < size; i++) {
+            CompactSchedule individual = template.copy();
+            // Randomize
+            for (int j = 0; j < individual.size() / 2; j++) {
+                randomMove(individual, move, random);
+                move.applyTo(individual);
             }
+            population[i] = individual;
         }
+        return population;
+    }
 
-        // Teacher conflicts (high penalty)
-        for (List<ScheduleSlot> slots : teacherSlots.values()) {
-            if (slots.size() > 1) {
-                energy += (slots.size() - 1) * 100;
+    /**
+     * Indices of the {@code count} lowest fitnesses, best first (ties keep population order)
+     */
+    private void selectElite(double[] fitnesses, int count, int[] elite) {
+        for (int i = 0; i < fitnesses.length; i++) {
+            elite[i] = i;
+        }
+        for (int i = 0; i < count; i++) {
+            int best = i;
+            for (int j = i + 1; j < fitnesses.length; j++) {
+                if (fitnesses[elite[j]] < fitnesses[elite[best]] ||
+                    (fitnesses[elite[j]] == fitnesses[elite[best]] && elite[j] < elite[best])) {
+                    best = j;
+                }
             }
+            int temp = elite[i];
+            elite[i] = elite[best];
+            elite[best] = temp;
         }
+    }
 
-        // Room conflicts (high penalty)
-        for (List<ScheduleSlot> slots : roomSlots.values()) {
-            if (slots.size() > 1) {
-                energy += (slots.size() - 1) * 100;
+    private int tournamentSelect(double[] fitnesses, int tournamentSize, ThreadLocalRandom random) {
+        int best = random.nextInt(fitnesses.length);
+
+        for (int i = 1; i < tournamentSize; i++) {
+            int idx = random.nextInt(fitnesses.length);
+            if (fitnesses[idx] < fitnesses[best]) {
+                best = idx;
             }
         }
+        return best;
+    }
+
+    private void crossover(CompactSchedule parent1, CompactSchedule parent2, CompactSchedule child,
+                           ThreadLocalRandom random) {
+        int crossPoint = parent1.size() > 0 ? random.nextInt(parent1.size()) : 0;
+
+        child.copyRange(parent1, 0, crossPoint);
+        child.copyRange(parent2, crossPoint, parent2.size());
+    }
+
+    /**
+     * Schedule energy: 100 per teacher or room double-booking (same day and
+     * start time) plus ten times the standard deviation of teacher workloads.
+     *
+     * Bound to one working schedule. Bookings are counted per (teacher or room,
+     * day, start time) key, so applying, undoing or scoring a {@link Move} only
+     * touches the keys of the slots it moves. Teachers never move, so the
+     * workload term is computed once. Not thread-safe; each search run has its own.
+     */
+    private static final class EnergyModel {
+        private static final int TEACHER_BOOKING = 0;
+        private static final int ROOM_BOOKING = 1;
+
+        private final CompactSchedule.Index index;
+        private final double workloadPenalty;
+        private final BookingCounts bookings;
+        private CompactSchedule schedule;
+        private int conflicts;
+
+        private EnergyModel(CompactSchedule schedule) {
+            this.index = schedule.index;
+            this.workloadPenalty = workloadPenalty(index);
+            this.bookings = new BookingCounts(schedule.size() * 2);
+            load(schedule);
+        }
 
-        // Workload balance penalty
-        Map<Long, Integer> teacherLoads = new HashMap<>();
-        for (ScheduleSlot slot : schedule) {
-            if (slot.getTeacher() != null) {
-                teacherLoads.merge(slot.getTeacher().getId(), 1, Integer::sum);
+        /**
+         * Rebind to another copy of the same schedule and recount its bookings
+         */
+        private void load(CompactSchedule schedule) {
+            this.schedule = schedule;
+            bookings.clear();
+            conflicts = 0;
+            for (int i = 0; i < schedule.size(); i++) {
+                book(i, 1);
             }
         }
-        if (!teacherLoads.isEmpty()) {
-            double avgLoad = teacherLoads.values().stream().mapToInt(Integer::intValue).average().orElse(0);
-            double variance = teacherLoads.values().stream()
-                .mapToDouble(load -> Math.pow(load - avgLoad, 2))
-                .average().orElse(0);
-            energy += Math.sqrt(variance) * 10; // Penalize uneven distribution
+
+        private double energy() {
+            return conflicts * CONFLICT_ENERGY + workloadPenalty;
         }
 
-        return energy;
-    }
+        /**
+         * Energy the schedule would have after the move; the schedule is left unchanged
+         */
+        private double score(Move move) {
+            apply(move);
+            double energy = energy();
+            undo(move);
+            return energy;
+        }
 
-    private List<ScheduleSlot> generateNeighbor(List<ScheduleSlot> schedule) {
-        List<ScheduleSlot> neighbor = new ArrayList<>(schedule);
-        if (neighbor.isEmpty()) return neighbor;
+        private void apply(Move move) {
+            if (move.getSlotIndex() >= schedule.size()) {
+                return;
+            }
+            book(move, -1);
+            move.applyTo(schedule);
+            book(move, 1);
+        }
 
-        int idx = (int)(Math.random() * neighbor.size());
-        ScheduleSlot slot = neighbor.get(idx);
+        /**
+         * Revert the last {@link #apply} of this move
+         */
+        private void undo(Move move) {
+            if (move.getSlotIndex() >= schedule.size()) {
+                return;
+            }
+            book(move, -1);
+            move.undo(schedule);
+            book(move, 1);
+        }
 
-        // Random modification
-        double r = Math.random();
-        if (r < 0.33) {
-            // Change time
-            int hour = 7 + (int)(Math.random() * 8);
-            slot.setStartTime(LocalTime.of(hour, 0));
-            slot.setEndTime(LocalTime.of(hour + 1, 0));
-        } else if (r < 0.66) {
-            // Change day
-            DayOfWeek[] days = {DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
-                               DayOfWeek.THURSDAY, DayOfWeek.FRIDAY};
-            slot.setDayOfWeek(days[(int)(Math.random() * days.length)]);
-        } else {
-            // Swap with another slot
-            int idx2 = (int)(Math.random() * neighbor.size());
-            if (idx != idx2) {
-                ScheduleSlot slot2 = neighbor.get(idx2);
-                DayOfWeek tempDay = slot.getDayOfWeek();
-                LocalTime tempStart = slot.getStartTime();
-                LocalTime tempEnd = slot.getEndTime();
+        private void book(Move move, int change) {
+            book(move.getSlotIndex(), change);
+            if (move.isSwap() && move.getOtherSlot() != move.getSlotIndex()) {
+                book(move.getOtherSlot(), change);
+            }
+        }
 
-                slot.setDayOfWeek(slot2.getDayOfWeek());
-                slot.setStartTime(slot2.getStartTime());
-                slot.setEndTime(slot2.getEndTime());
+        private void book(int slot, int change) {
+            int day = schedule.day[slot];
+            int start = schedule.start[slot];
+            if (day == CompactSchedule.NO_DAY || start == CompactSchedule.NO_TIME) {
+                return;
+            }
+            if (index.slotTeacherKey[slot] != CompactSchedule.NONE) {
+                count(bookingKey(TEACHER_BOOKING, index.slotTeacherKey[slot], day, start), change);
+            }
+            if (schedule.room[slot] != CompactSchedule.NONE) {
+                count(bookingKey(ROOM_BOOKING, index.roomKey[schedule.room[slot]], day, start), change);
+            }
+        }
 
-                slot2.setDayOfWeek(tempDay);
-                slot2.setStartTime(tempStart);
-                slot2.setEndTime(tempEnd);
+        private void count(long key, int change) {
+            int before = bookings.add(key, change);
+            // Every booking after the first with the same key is one conflict
+            if (change > 0 ? before >= 1 : before >= 2) {
+                conflicts += change;
             }
         }
 
-        return neighbor;
-    }
+        private static long bookingKey(int kind, int resource, int day, int start) {
+            return ((long) kind << 51) | ((long) resource << 20) | ((long) day << 17) | start;
+        }
 
-    private List<Move> generateNeighborhood(List<ScheduleSlot> schedule, int size) {
-        List<Move> moves = new ArrayList<>();
-        for (int i = 0; i < size; i++) {
-            int idx = (int)(Math.random() * schedule.size());
-            int hour = 7 + (int)(Math.random() * 8);
-            DayOfWeek[] days = {DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY,
-                               DayOfWeek.THURSDAY, DayOfWeek.FRIDAY};
-            moves.add(new Move(idx, days[(int)(Math.random() * days.length)],
-                LocalTime.of(hour, 0), LocalTime.of(hour + 1, 0)));
-        }
-        return moves;
-    }
+        private static double workloadPenalty(CompactSchedule.Index index) {
+            int[] teacherLoads = new int[index.teachers.length + 1];
+            for (int key : index.slotTeacherKey) {
+                if (key != CompactSchedule.NONE) {
+                    teacherLoads[key]++;
+                }
+            }
+            int teacherCount = 0;
+            double totalLoad = 0;
+            for (int load : teacherLoads) {
+                if (load > 0) {
+                    teacherCount++;
+                    totalLoad += load;
+                }
+            }
+            if (teacherCount == 0) {
+                return 0;
+            }
 
-    private double evaluateMove(List<ScheduleSlot> schedule, Move move) {
-        List<ScheduleSlot> temp = new ArrayList<>(schedule);
-        applyMove(temp, move);
-        return calculateEnergy(temp);
+            double avgLoad = totalLoad / teacherCount;
+            double variance = 0;
+            for (int load : teacherLoads) {
+                if (load > 0) {
+                    variance += Math.pow(load - avgLoad, 2);
+                }
+            }
+            return Math.sqrt(variance / teacherCount) * 10; // Penalize uneven distribution
+        }
     }
 
-    private void applyMove(List<ScheduleSlot> schedule, Move move) {
-        if (move.getSlotIndex() < schedule.size()) {
-            ScheduleSlot slot = schedule.get(move.getSlotIndex());
-            slot.setDayOfWeek(move.getNewDay());
-            slot.setStartTime(move.getNewStartTime());
-            slot.setEndTime(move.getNewEndTime());
+    /**
+     * Open-addressing map from booking key to booking count. Keys whose count
+     * drops to zero stay in the table until {@link #clear()}.
+     */
+    private static final class BookingCounts {
+        private static final long EMPTY = -1L; // booking keys are never negative
+
+        private long[] keys;
+        private int[] counts;
+        private int size;
+
+        private BookingCounts(int expectedKeys) {
+            int capacity = Integer.highestOneBit(Math.max(8, expectedKeys) * 2 - 1) << 1;
+            keys = new long[capacity];
+            counts = new int[capacity];
+            Arrays.fill(keys, EMPTY);
         }
-    }
 
-    private List<List<ScheduleSlot>> initializePopulation(List<ScheduleSlot> template, int size) {
-        List<List<ScheduleSlot>> population = new ArrayList<>();
-        population.add(new ArrayList<>(template));
+        private void clear() {
+            Arrays.fill(keys, EMPTY);
+            size = 0;
+        }
 
-        for (int i = 1; i < size; i++) {
-            List<ScheduleSlot> individual = new ArrayList<>(template);
-            // Randomize
-            for (int j = 0; j < individual.size() / 2; j++) {
-                individual = generateNeighbor(individual);
+        /**
+         * Add {@code change} to a key's count
+         *
+         * @return the count before the change
+         */
+        private int add(long key, int change) {
+            int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    int before = counts[slot];
+                    counts[slot] += change;
+                    return before;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            keys[slot] = key;
+            counts[slot] = change;
+            if (++size > keys.length / 2) {
+                grow();
             }
-            population.add(individual);
+            return 0;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldCounts = counts;
+            keys = new long[oldKeys.length * 2];
+            counts = new int[oldCounts.length * 2];
+            Arrays.fill(keys, EMPTY);
+
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    int slot = hash(oldKeys[i]) & mask;
+                    while (keys[slot] != EMPTY) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[i];
+                    counts[slot] = oldCounts[i];
+                }
+            }
+        }
+
+        private static int hash(long key) {
+            return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32);
         }
-        return population;
     }
 
-    private List<ScheduleSlot> tournamentSelect(List<List<ScheduleSlot>> population,
-            List<Double> fitnesses, int tournamentSize) {
-        int best = -1;
-        double bestFitness = Double.MAX_VALUE;
+    /**
+     * Bounded FIFO of move signatures
+     */
+    private static final class TabuList {
+        private final long[] signatures;
+        private int head;
+        private int size;
 
-        for (int i = 0; i < tournamentSize; i++) {
-            int idx = (int)(Math.random() * population.size());
-            if (fitnesses.get(idx) < bestFitness) {
-                bestFitness = fitnesses.get(idx);
-                best = idx;
+        private TabuList(int capacity) {
+            this.signatures = new long[capacity];
+        }
+
+        private boolean contains(long signature) {
+            for (int i = 0; i < size; i++) {
+                if (signatures[(head + i) % signatures.length] == signature) {
+                    return true;
+                }
             }
+            return false;
         }
-        return population.get(best);
-    }
 
-    private List<ScheduleSlot> crossover(List<ScheduleSlot> parent1, List<ScheduleSlot> parent2) {
-        List<ScheduleSlot> child = new ArrayList<>();
-        int crossPoint = (int)(Math.random() * parent1.size());
+        private void addLast(long signature) {
+            signatures[(head + size) % signatures.length] = signature;
+            size++;
+        }
 
-        for (int i = 0; i < parent1.size(); i++) {
-            child.add(i < crossPoint ? parent1.get(i) : parent2.get(i));
+        private void removeFirst() {
+            head = (head + 1) % signatures.length;
+            size--;
         }
-        return child;
-    }
 
-    private void mutate(List<ScheduleSlot> individual) {
-        generateNeighbor(individual); // Apply random change
+        private int size() {
+            return size;
+        }
     }
 
     // ========================================================================
@@ -598,6 +841,11 @@ public class EnhancedSolverService {
         private long durationMs;
         private List<ScheduleSlot> optimizedSchedule;
         private List<Double> energyHistory;
+
+        // Search throughput: an evaluation is one scored neighbor, candidate move or individual
+        private long evaluations;
+        private double iterationsPerSecond;
+        private double evaluationsPerSecond;
     }
 
     @Data
@@ -609,6 +857,7 @@ public class EnhancedSolverService {
         @Builder.Default private double minTemperature = 0.1;
         @Builder.Default private double coolingRate = 0.995;
         @Builder.Default private int maxIterations = 10000;
+        @Builder.Default private long timeLimitMs = 0; // 0 = no limit
     }
 
     @Data
@@ -621,6 +870,7 @@ public class EnhancedSolverService {
         @Builder.Default private int maxTabuTenure = 20;
         @Builder.Default private int neighborhoodSize = 20;
         @Builder.Default private int maxIterations = 5000;
+        @Builder.Default private long timeLimitMs = 0; // 0 = no limit
     }
 
     @Data
@@ -650,14 +900,75 @@ public class EnhancedSolverService {
 
     @Data
     @AllArgsConstructor
+    private static class Solution {
+        private OptimizationResult result;
+        private CompactSchedule schedule;
+    }
+
+    /**
+     * A relocation (slot to a new day and time) or a swap of two slots' times.
+     * Applying a move remembers what it replaced, so it can be undone in place.
+     */
+    @Data
+    @NoArgsConstructor
     private static class Move {
         private int slotIndex;
-        private DayOfWeek newDay;
-        private LocalTime newStartTime;
-        private LocalTime newEndTime;
+        private int otherSlot = CompactSchedule.NONE; // swap partner, NONE for a relocation
+        private int newDay;
+        private int newStart;
+        private int newEnd;
+
+        // Placement replaced by the last applyTo (relocations only)
+        private int oldDay;
+        private int oldStart;
+        private int oldEnd;
+
+        public void relocate(int slotIndex, int newDay, int newStart, int newEnd) {
+            this.slotIndex = slotIndex;
+            this.otherSlot = CompactSchedule.NONE;
+            this.newDay = newDay;
+            this.newStart = newStart;
+            this.newEnd = newEnd;
+        }
+
+        public void swap(int slotIndex, int otherSlot) {
+            this.slotIndex = slotIndex;
+            this.otherSlot = otherSlot;
+        }
+
+        public boolean isSwap() {
+            return otherSlot != CompactSchedule.NONE;
+        }
+
+        public void applyTo(CompactSchedule schedule) {
+            if (slotIndex >= schedule.size()) {
+                return;
+            }
+            if (isSwap()) {
+                schedule.swapTimes(slotIndex, otherSlot);
+            } else {
+                oldDay = schedule.getDay(slotIndex);
+                oldStart = schedule.getStart(slotIndex);
+                oldEnd = schedule.getEnd(slotIndex);
+                schedule.setTime(slotIndex, newDay, newStart, newEnd);
+            }
+        }
+
+        public void undo(CompactSchedule schedule) {
+            if (slotIndex >= schedule.size()) {
+                return;
+            }
+            if (isSwap()) {
+                schedule.swapTimes(slotIndex, otherSlot);
+            } else {
+                schedule.setTime(slotIndex, oldDay, oldStart, oldEnd);
+            }
+        }
 
-        public String getSignature() {
-            return slotIndex + "-" + newDay + "-" + newStartTime;
+        public long getSignature() {
+            return isSwap()
+                ? (1L << 62) | ((long) slotIndex << 31) | otherSlot
+                : ((long) slotIndex << 32) | ((long) newDay << 17) | newStart;
         }
     }
 }
@@ -6,8 +6,10 @@ import com.heronix.model.domain.CourseSection;
 import com.heronix.model.domain.Student;
 import com.heronix.repository.CourseRepository;
 import com.heronix.repository.CourseRequestRepository;
-import com.heronix.repository.CourseSectionRepository;
 import com.heronix.repository.StudentRepository;
+import com.heronix.repository.spec.AggregateQueries;
+import com.heronix.repository.spec.CourseRequestSpecifications;
+import com.heronix.repository.spec.StudentSpecifications;
 import com.heronix.service.EnrollmentForecastingService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,7 +44,7 @@ public class EnrollmentForecastingServiceImpl implements EnrollmentForecastingSe
     private CourseRequestRepository courseRequestRepository;
 
     @Autowired
-    private CourseSectionRepository courseSectionRepository;
+    private AggregateQueries aggregateQueries;
 
     private static final int DEFAULT_SECTION_CAPACITY = 25;
     private static final double CAPACITY_WARNING_THRESHOLD = 0.9; // 90% capacity
@@ -81,13 +83,10 @@ public class EnrollmentForecastingServiceImpl implements EnrollmentForecastingSe
 
         Map<String, Integer> forecast = new HashMap<>();
 
-        // Get current enrollment by grade
-        List<Student> allStudents = studentRepository.findAll();
-        // ✅ NULL SAFE: Filter null students before accessing properties
-        Map<String, Long> currentByGrade = allStudents.stream()
-            .filter(student -> student != null && student.isActive())
-            .filter(student -> student.getGradeLevel() != null)
-            .collect(Collectors.groupingBy(Student::getGradeLevel, Collectors.counting()));
+        // Get current enrollment by grade (active students, counted in the database)
+        Map<String, Long> currentByGrade = aggregateQueries.countBy(Student.class,
+            StudentSpecifications.active().and(StudentSpecifications.hasGradeLevel()),
+            AggregateQueries.Column.attribute("gradeLevel"));
 
         int currentYear = LocalDate.now().getYear();
         int yearsDiff = targetYear - currentYear;
@@ -205,16 +204,13 @@ public class EnrollmentForecastingServiceImpl implements EnrollmentForecastingSe
     public double calculateGrowthRate(Integer year1, Integer year2) {
         log.info("Calculating growth rate between {} and {}", year1, year2);
 
-        // Get all requests and filter by year
-        List<CourseRequest> allRequests = courseRequestRepository.findAll();
+        // Count both years' requests in one grouped query
+        Map<Integer, Long> requestsByYear = aggregateQueries.countBy(CourseRequest.class,
+            CourseRequestSpecifications.requestedIn(Arrays.asList(year1, year2)),
+            AggregateQueries.Column.attribute("requestYear"));
 
-        long count1 = allRequests.stream()
-            .filter(r -> r.getRequestYear() != null && r.getRequestYear().equals(year1))
-            .count();
-
-        long count2 = allRequests.stream()
-            .filter(r -> r.getRequestYear() != null && r.getRequestYear().equals(year2))
-            .count();
+        long count1 = requestsByYear.getOrDefault(year1, 0L);
+        long count2 = requestsByYear.getOrDefault(year2, 0L);
 
         if (count1 == 0 || count2 == 0) {
             return 0.0;
@@ -222,7 +218,7 @@ public class EnrollmentForecastingServiceImpl implements EnrollmentForecastingSe
 
         double growthRate = ((count2 - count1) * 100.0) / count1;
 
-        log.info("Growth rate: {:.2f}% (from {} to {})", growthRate, count1, count2);
+        log.info("Growth rate: {}% (from {} to {})", String.format("%.2f", growthRate), count1, count2);
 
         return growthRate;
     }
@@ -282,21 +278,14 @@ public class EnrollmentForecastingServiceImpl implements EnrollmentForecastingSe
         log.info("Checking capacity adequacy for year: {}", targetYear);
 
         Map<Long, Integer> demand = forecastCourseDemand(targetYear);
-        List<CourseSection> sections = courseSectionRepository.findAll();
-
-        // Group sections by course
-        Map<Long, List<CourseSection>> sectionsByCourse = sections.stream()
-            .collect(Collectors.groupingBy(section -> section.getCourse().getId()));
+        Map<Long, Long> capacityByCourse = sumSectionCapacityByCourse();
 
         // Check each course
         for (Map.Entry<Long, Integer> entry : demand.entrySet()) {
             Long courseId = entry.getKey();
             int predictedDemand = entry.getValue();
 
-            List<CourseSection> courseSections = sectionsByCourse.getOrDefault(courseId, new ArrayList<>());
-            int totalCapacity = courseSections.stream()
-                .mapToInt(section -> section.getMaxEnrollment() != null ? section.getMaxEnrollment() : DEFAULT_SECTION_CAPACITY)
-                .sum();
+            int totalCapacity = capacityByCourse.getOrDefault(courseId, 0L).intValue();
 
             // If demand exceeds 90% of capacity, we don't have adequate capacity
             if (predictedDemand > totalCapacity * CAPACITY_WARNING_THRESHOLD) {
@@ -317,11 +306,7 @@ public class EnrollmentForecastingServiceImpl implements EnrollmentForecastingSe
         Map<String, String> warnings = new HashMap<>();
 
         Map<Long, Integer> demand = forecastCourseDemand(targetYear);
-        List<CourseSection> sections = courseSectionRepository.findAll();
-
-        // Group sections by course
-        Map<Long, List<CourseSection>> sectionsByCourse = sections.stream()
-            .collect(Collectors.groupingBy(section -> section.getCourse().getId()));
+        Map<Long, Long> capacityByCourse = sumSectionCapacityByCourse();
 
         for (Map.Entry<Long, Integer> entry : demand.entrySet()) {
             Long courseId = entry.getKey();
@@ -330,10 +315,7 @@ public class EnrollmentForecastingServiceImpl implements EnrollmentForecastingSe
             Course course = courseRepository.findById(courseId).orElse(null);
             if (course == null) continue;
 
-            List<CourseSection> courseSections = sectionsByCourse.getOrDefault(courseId, new ArrayList<>());
-            int totalCapacity = courseSections.stream()
-                .mapToInt(section -> section.getMaxEnrollment() != null ? section.getMaxEnrollment() : DEFAULT_SECTION_CAPACITY)
-                .sum();
+            int totalCapacity = capacityByCourse.getOrDefault(courseId, 0L).intValue();
 
             // Check for over-capacity
             if (predictedDemand > totalCapacity) {
@@ -360,6 +342,16 @@ public class EnrollmentForecastingServiceImpl implements EnrollmentForecastingSe
         return warnings;
     }
 
+    /**
+     * Total seats per course: the sum of its sections' maximum enrollment,
+     * DEFAULT_SECTION_CAPACITY for sections without one
+     */
+    private Map<Long, Long> sumSectionCapacityByCourse() {
+        return aggregateQueries.sumBy(CourseSection.class, null,
+            AggregateQueries.Column.attribute("course.id"),
+            AggregateQueries.Column.attributeOrDefault("maxEnrollment", DEFAULT_SECTION_CAPACITY));
+    }
+
     @Override
     public int forecastWithLinearRegression(Long courseId, Integer targetYear) {
         log.debug("Forecasting course {} with linear regression for year {}", courseId, targetYear);
@@ -2,10 +2,14 @@ package com.heronix.service.impl;
 
 import com.heronix.model.domain.*;
 import com.heronix.model.enums.ExportFormat;
+import com.heronix.repository.CourseRepository;
+import com.heronix.repository.EventRepository;
 import com.heronix.repository.RoomRepository;
 import com.heronix.repository.ScheduleRepository;
+import com.heronix.repository.StudentRepository;
 import com.heronix.repository.TeacherRepository;
 import com.heronix.service.ExportService;
+import com.heronix.service.export.TabularExportWriter;
 import com.heronix.util.DateTimeUtil;
 import com.itextpdf.text.*;
 import com.itextpdf.text.pdf.*;
@@ -13,14 +17,19 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -31,6 +40,12 @@ public class ExportServiceImpl implements ExportService {
     private final ScheduleRepository scheduleRepository;
     private final TeacherRepository teacherRepository;
     private final RoomRepository roomRepository;
+    private final StudentRepository studentRepository;
+    private final CourseRepository courseRepository;
+    private final EventRepository eventRepository;
+
+    @Value("${heronix.export.page-size:1000}")
+    private int exportPageSize = 1000;
     
     @Override
     @Transactional(readOnly = true)
@@ -751,6 +766,97 @@ public class ExportServiceImpl implements ExportService {
         }
     }
 
+    // ========================================================================
+    // STREAMING ENTITY EXPORTS
+    // ========================================================================
+    // Not @Transactional on purpose: each page is read in its own short
+    // transaction as plain column values, so nothing accumulates in a
+    // persistence context while the file is written.
+
+    @Override
+    public void streamTeachers(ExportFormat format, OutputStream out) throws IOException {
+        try (TabularExportWriter writer = openWriter(format, out, "Teachers")) {
+            writer.header("ID", "Employee ID", "Name", "Email", "Subject", "Phone", "Max Hours/Week", "Active");
+            writePages(writer, teacherRepository::findExportRowsAfter, 7);
+            log.info("Streamed {} teachers to {}", writer.getRowCount(), format);
+        }
+    }
+
+    @Override
+    public void streamStudents(ExportFormat format, OutputStream out) throws IOException {
+        try (TabularExportWriter writer = openWriter(format, out, "Students")) {
+            writer.header("ID", "Student ID", "First Name", "Last Name", "Email", "Level", "Active");
+            writePages(writer, studentRepository::findExportRowsAfter, 6);
+            log.info("Streamed {} students to {}", writer.getRowCount(), format);
+        }
+    }
+
+    @Override
+    public void streamCourses(ExportFormat format, OutputStream out) throws IOException {
+        try (TabularExportWriter writer = openWriter(format, out, "Courses")) {
+            writer.header("ID", "Course Code", "Course Name", "Duration (min)", "Subject", "Level",
+                "Max Students", "Requires Lab", "Active");
+            writePages(writer, courseRepository::findExportRowsAfter, 7, 8);
+            log.info("Streamed {} courses to {}", writer.getRowCount(), format);
+        }
+    }
+
+    @Override
+    public void streamRooms(ExportFormat format, OutputStream out) throws IOException {
+        try (TabularExportWriter writer = openWriter(format, out, "Rooms")) {
+            writer.header("ID", "Room Number", "Building", "Capacity", "Room Type", "Equipment", "Active");
+            writePages(writer, roomRepository::findExportRowsAfter, 6);
+            log.info("Streamed {} rooms to {}", writer.getRowCount(), format);
+        }
+    }
+
+    @Override
+    public void streamEvents(ExportFormat format, OutputStream out) throws IOException {
+        try (TabularExportWriter writer = openWriter(format, out, "Events")) {
+            writer.header("ID", "Name", "Event Type", "Start Date/Time", "End Date/Time", "All Day",
+                "Blocks Scheduling", "Description");
+            writePages(writer, eventRepository::findExportRowsAfter, 5, 6);
+            log.info("Streamed {} events to {}", writer.getRowCount(), format);
+        }
+    }
+
+    private TabularExportWriter openWriter(ExportFormat format, OutputStream out, String sheetName) {
+        return switch (format) {
+            case CSV -> TabularExportWriter.csv(out);
+            case EXCEL -> TabularExportWriter.excel(out, sheetName);
+            default -> throw new IllegalArgumentException(sheetName + " can't be exported as " + format);
+        };
+    }
+
+    /**
+     * Read rows in ID order one page at a time (keyset pagination - each page
+     * starts after the last ID of the previous one, so late pages cost the
+     * same as early ones) and write them as they arrive
+     *
+     * @param nextPage    Loads up to a page of rows with an ID greater than the
+     *                    given one; column 0 of each row is the ID
+     * @param flagColumns Boolean columns; null is written as false
+     */
+    private void writePages(TabularExportWriter writer,
+                            BiFunction<Long, Pageable, java.util.List<Object[]>> nextPage,
+                            int... flagColumns) throws IOException {
+        Pageable page = PageRequest.of(0, exportPageSize);
+        long afterId = 0L;
+        java.util.List<Object[]> rows;
+        do {
+            rows = nextPage.apply(afterId, page);
+            for (Object[] row : rows) {
+                for (int column : flagColumns) {
+                    row[column] = Boolean.TRUE.equals(row[column]);
+                }
+                writer.row(row);
+            }
+            if (!rows.isEmpty()) {
+                afterId = (Long) rows.get(rows.size() - 1)[0];
+            }
+        } while (rows.size() == exportPageSize);
+    }
+
     // ========================================================================
     // HELPER METHODS
     // ========================================================================
@@ -161,13 +161,51 @@ public class FitnessEvaluator {
         }
     }
 
+    // ========================================================================
+    // INCREMENTAL EVALUATION
+    // ========================================================================
+
+    /**
+     * Encode a schedule for incremental evaluation.
+     * The genome scores the same as {@link #evaluate} for an unsaved working copy
+     * (no enrollments), but rescoring after a change only touches the affected
+     * teachers and rooms and never calls the conflict detector.
+     * Conflicts that don't depend on slot placement are detected once here.
+     */
+    public ScheduleGenome encode(Schedule schedule, OptimizationConfig config) {
+        double fixedPenalty = 0.0;
+        int fixedConflicts = 0;
+
+        List<Conflict> fixed = conflictDetector.detectSectionUnderEnrollment(schedule);
+        // ✅ NULL SAFE: Validate conflicts list
+        if (fixed != null) {
+            for (Conflict conflict : fixed) {
+                if (conflict == null || conflict.getIsResolved() || conflict.getIsIgnored()) {
+                    continue;
+                }
+                fixedPenalty += calculateConflictPenalty(conflict, config);
+                fixedConflicts++;
+            }
+        }
+
+        return new ScheduleGenome(schedule,
+            (severity, type, affectedCount) -> conflictPenalty(severity, type, affectedCount, config),
+            fixedPenalty, fixedConflicts);
+    }
+
     // ========================================================================
     // PENALTY CALCULATION
     // ========================================================================
 
     private double calculateConflictPenalty(Conflict conflict, OptimizationConfig config) {
+        return conflictPenalty(conflict.getSeverity(), conflict.getConflictType(),
+            conflict.getAffectedEntitiesCount(), config);
+    }
+
+    private double conflictPenalty(ConflictSeverity severity, ConflictType conflictType,
+                                   int affectedCount, OptimizationConfig config) {
         // Base penalty by severity
-        double basePenalty = switch (conflict.getSeverity()) {
+        double basePenalty = switch (severity) {
             case CRITICAL -> CRITICAL_PENALTY;
             case HIGH -> HIGH_PENALTY;
             case MEDIUM -> MEDIUM_PENALTY;
@@ -176,14 +214,13 @@ public class FitnessEvaluator {
         };
 
         // Apply constraint weight
-        ConstraintType constraintType = mapConflictToConstraint(conflict.getConflictType());
+        ConstraintType constraintType = mapConflictToConstraint(conflictType);
         int weight = config.getConstraintWeight(constraintType);
 
         // Calculate final penalty
         double penalty = basePenalty * (weight / 100.0);
 
         // Multiply by affected entities count (more impact = higher penalty)
-        int affectedCount = conflict.getAffectedEntitiesCount();
         if (affectedCount > 1) {
             penalty *= Math.log(affectedCount + 1);
         }
@@ -1,19 +1,34 @@
 package com.heronix.service.impl;
 
 import com.heronix.model.domain.*;
-import com.heronix.model.enums.ConstraintType;
 import lombok.extern.slf4j.Slf4j;
 
-import java.time.DayOfWeek;
-import java.time.LocalTime;
 import java.util.*;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /**
  * Genetic Algorithm Implementation
  * Evolution-based schedule optimization
  *
+ * Individuals are {@link ScheduleGenome} encodings of the schedule. Operators
+ * edit genes in place and fitness is rescored incrementally, so the conflict
+ * detector is not run per individual.
+ *
+ * The population is split into {@link OptimizationConfig#getIslandCount()}
+ * islands that evolve independently and pass their best individuals to the
+ * next island (ring topology) every {@link OptimizationConfig#getMigrationInterval()}
+ * generations. With parallel processing enabled, offspring are bred and scored
+ * on a ForkJoin pool of {@link OptimizationConfig#getThreadCount()} threads.
+ *
+ * Every offspring gets its own {@link SplittableRandom}, split from its island's
+ * generator in a fixed order before any work is handed out, so a run with
+ * {@link OptimizationConfig#getRandomSeed()} set produces the same schedule
+ * regardless of thread count (unless it is cut short by the runtime limit).
+ *
  * Location: src/main/java/com/heronix/service/impl/GeneticAlgorithm.java
  *
  * @author Heronix Scheduling System Team
@@ -25,13 +40,17 @@ public class GeneticAlgorithm {
 
     private final OptimizationConfig config;
     private final FitnessEvaluator fitnessEvaluator;
-    private final Random random;
+    private final SplittableRandom random;
 
-    private List<Individual> population;
+    private List<Island> islands;
+    private int islandSize;
     private Individual bestSolution;
     private double bestFitness = Double.NEGATIVE_INFINITY;
     private int generationsSinceImprovement = 0;
-    private boolean cancelled = false;
+    private volatile boolean cancelled = false;
+
+    // Null when running on the calling thread only
+    private ForkJoinPool workers;
 
     // ========================================================================
     // CONSTRUCTOR
@@ -40,8 +59,10 @@ public class GeneticAlgorithm {
     public GeneticAlgorithm(OptimizationConfig config, FitnessEvaluator fitnessEvaluator) {
         this.config = config;
         this.fitnessEvaluator = fitnessEvaluator;
-        this.random = new Random();
-        this.population = new ArrayList<>();
+        this.random = config.getRandomSeed() != null
+            ? new SplittableRandom(config.getRandomSeed())
+            : new SplittableRandom();
+        this.islands = new ArrayList<>();
     }
 
     // ========================================================================
@@ -67,16 +88,16 @@ public class GeneticAlgorithm {
         result.setConfig(config);
         result.markStarted();
 
+        workers = createWorkers();
+
         try {
-            // Initialize population
+            // Initialize and evaluate population
             initializePopulation(schedule);
-
-            // Evaluate initial population
-            evaluatePopulation();
             result.setInitialFitness(bestFitness);
-            result.setInitialConflicts(fitnessEvaluator.getConflictCount(bestSolution.getSchedule()));
+            result.setInitialConflicts(bestSolution.getGenome().getConflictCount());
 
             // Evolution loop
+            int generationsExecuted = 0;
             for (int generation = 0; generation < config.getMaxGenerations(); generation++) {
 
                 // Check termination conditions
@@ -93,6 +114,12 @@ public class GeneticAlgorithm {
 
                 // Evolve population
                 evolveGeneration();
+                generationsExecuted++;
+
+                // Exchange individuals between islands
+                if (islands.size() > 1 && generationsExecuted % migrationInterval() == 0) {
+                    migrate();
+                }
 
                 // Report progress
                 if (generation % config.getLogFrequency() == 0) {
@@ -103,8 +130,8 @@ public class GeneticAlgorithm {
             // Finalize result
             result.setFinalFitness(bestFitness);
             result.setBestFitness(bestFitness);
-            result.setFinalConflicts(fitnessEvaluator.getConflictCount(bestSolution.getSchedule()));
-            result.setGenerationsExecuted(Math.min(population.size(), config.getMaxGenerations()));
+            result.setFinalConflicts(bestSolution.getGenome().getConflictCount());
+            result.setGenerationsExecuted(generationsExecuted);
             result.calculateImprovement();
 
             // Apply best solution to schedule
@@ -120,6 +147,11 @@ public class GeneticAlgorithm {
             result.markCompleted(false);
             result.setMessage("Optimization failed: " + e.getMessage());
             result.setErrorDetails(e.toString());
+        } finally {
+            if (workers != null) {
+                workers.shutdownNow();
+                workers = null;
+            }
         }
 
         return result;
@@ -142,144 +174,97 @@ public class GeneticAlgorithm {
             throw new IllegalArgumentException("Cannot initialize population with null schedule");
         }
 
-        log.debug("Initializing population of size {}", config.getPopulationSize());
-
-        population.clear();
-
-        // Add current schedule as first individual
-        population.add(new Individual(cloneSchedule(schedule)));
-
-        // Generate random variations
-        for (int i = 1; i < config.getPopulationSize(); i++) {
-            Schedule variant = cloneSchedule(schedule);
-            randomizeSchedule(variant, 0.3); // 30% random changes
-            population.add(new Individual(variant));
-        }
-    }
-
-    private Schedule cloneSchedule(Schedule original) {
-        // ✅ NULL SAFE: Validate original schedule
-        if (original == null) {
-            throw new IllegalArgumentException("Cannot clone null schedule");
-        }
-
-        // Create a new schedule with same settings but independent slots
-        Schedule clone = new Schedule();
-        clone.setScheduleName(original.getScheduleName() + " (Optimized)");
-        clone.setPeriod(original.getPeriod());
-        clone.setScheduleType(original.getScheduleType());
-        clone.setStatus(original.getStatus());
-        clone.setStartDate(original.getStartDate());
-        clone.setEndDate(original.getEndDate());
-
-        // Clone all schedule slots
-        // ✅ NULL SAFE: Validate slots list and filter nulls
-        List<ScheduleSlot> originalSlots = original.getSlots();
-        if (originalSlots == null) {
-            originalSlots = Collections.emptyList();
+        int islandCount = Math.max(1, config.getIslandCount() != null ? config.getIslandCount() : 1);
+        islandSize = Math.max(2, (config.getPopulationSize() + islandCount - 1) / islandCount);
+
+        log.debug("Initializing {} island(s) of {} individuals on {} thread(s)",
+            islandCount, islandSize, workers != null ? workers.getParallelism() : 1);
+
+        // Encode once; every individual is a copy of the encoded schedule.
+        // Scoring it first leaves it read-only, so workers can copy it concurrently.
+        ScheduleGenome encoded = fitnessEvaluator.encode(schedule, config);
+        encoded.fitness();
+
+        islands = new ArrayList<>();
+        List<Callable<Individual>> tasks = new ArrayList<>();
+        for (int i = 0; i < islandCount; i++) {
+            Island island = new Island(random.split());
+            islands.add(island);
+
+            // Current schedule first, then random variations
+            tasks.add(() -> evaluated(encoded.copy()));
+            for (int j = 1; j < islandSize; j++) {
+                SplittableRandom taskRandom = island.random.split();
+                tasks.add(() -> {
+                    ScheduleGenome variant = encoded.copy();
+                    randomizeGenome(variant, 0.3, taskRandom); // 30% random changes
+                    return evaluated(variant);
+                });
+            }
         }
 
-        List<ScheduleSlot> clonedSlots = originalSlots.stream()
-            .filter(slot -> slot != null) // ✅ NULL SAFE: Filter null slots
-            .map(this::cloneSlot)
-            .collect(Collectors.toList());
-
-        clonedSlots.forEach(slot -> slot.setSchedule(clone));
-        clone.setSlots(clonedSlots);
-
-        return clone;
-    }
-
-    private ScheduleSlot cloneSlot(ScheduleSlot original) {
-        // ✅ NULL SAFE: Validate original slot
-        if (original == null) {
-            return null; // Return null for null input, will be filtered out
+        List<Individual> individuals = runAll(tasks);
+        for (int i = 0; i < islandCount; i++) {
+            islands.get(i).population = new ArrayList<>(
+                individuals.subList(i * islandSize, (i + 1) * islandSize));
         }
 
-        ScheduleSlot clone = new ScheduleSlot();
-        clone.setCourse(original.getCourse());
-        clone.setTeacher(original.getTeacher());
-        clone.setRoom(original.getRoom());
-        clone.setDayOfWeek(original.getDayOfWeek());
-        clone.setStartTime(original.getStartTime());
-        clone.setEndTime(original.getEndTime());
-        clone.setPeriodNumber(original.getPeriodNumber());
-        return clone;
+        trackBestSolution();
     }
 
-    private void randomizeSchedule(Schedule schedule, double changeRate) {
-        // ✅ NULL SAFE: Validate schedule and get slots
-        if (schedule == null) {
-            return;
-        }
-
-        List<ScheduleSlot> slots = schedule.getSlots();
-        // ✅ NULL SAFE: Validate slots list
-        if (slots == null || slots.isEmpty()) {
-            return;
-        }
-
-        for (ScheduleSlot slot : slots) {
-            // ✅ NULL SAFE: Skip null slots
-            if (slot == null) {
-                continue;
-            }
+    private void randomizeGenome(ScheduleGenome genome, double changeRate, SplittableRandom random) {
+        for (int slot = 0; slot < genome.size(); slot++) {
             if (random.nextDouble() < changeRate) {
-                // Randomly change time
-                if (random.nextBoolean()) {
-                    randomizeSlotTime(slot);
-                }
-                // Or randomly change room
-                else {
-                    // Room randomization would require room list
-                    // For now, just change time
-                    randomizeSlotTime(slot);
-                }
+                // Room randomization would require room list
+                // For now, just change time
+                randomizeSlotTime(genome, slot, random);
             }
         }
     }
 
-    private void randomizeSlotTime(ScheduleSlot slot) {
+    private void randomizeSlotTime(ScheduleGenome genome, int slot, SplittableRandom random) {
         // Random day
-        DayOfWeek[] days = DayOfWeek.values();
-        slot.setDayOfWeek(days[random.nextInt(5)]); // Mon-Fri
+        int day = random.nextInt(5); // Mon-Fri
 
         // Random period (8:00 AM to 3:00 PM)
         int hour = 8 + random.nextInt(7); // 8-14
         int minute = random.nextInt(2) * 30; // 0 or 30
-        slot.setStartTime(LocalTime.of(hour, minute));
-        slot.setEndTime(slot.getStartTime().plusMinutes(50)); // 50-minute periods
+        int startSeconds = (hour * 60 + minute) * 60;
+        genome.setTime(slot, day, startSeconds, startSeconds + 50 * 60); // 50-minute periods
     }
 
     // ========================================================================
     // POPULATION EVALUATION
     // ========================================================================
 
-    private void evaluatePopulation() {
-        // ✅ NULL SAFE: Validate population list
-        if (population == null) {
-            population = new ArrayList<>();
-            return;
-        }
-
-        for (Individual individual : population) {
-            // ✅ NULL SAFE: Skip null individuals
-            if (individual == null || individual.getSchedule() == null) {
-                continue;
-            }
-
-            if (individual.getFitness() == null) {
-                double fitness = fitnessEvaluator.evaluate(individual.getSchedule(), config);
-                individual.setFitness(fitness);
+    private Individual evaluated(ScheduleGenome genome) {
+        Individual individual = new Individual(genome);
+        individual.setFitness(genome.fitness());
+        return individual;
+    }
 
-                // Track best solution
-                if (fitness > bestFitness) {
-                    bestFitness = fitness;
+    /**
+     * Update the best solution from all islands
+     * @return true if a better solution was found
+     */
+    private boolean trackBestSolution() {
+        boolean improved = false;
+
+        for (Island island : islands) {
+            for (Individual individual : island.population) {
+                // ✅ NULL SAFE: Skip null individuals
+                if (individual == null || individual.getFitness() == null) {
+                    continue;
+                }
+                if (individual.getFitness() > bestFitness) {
+                    bestFitness = individual.getFitness();
                     bestSolution = individual;
-                    generationsSinceImprovement = 0;
+                    improved = true;
                 }
             }
         }
+
+        return improved;
     }
 
     // ========================================================================
@@ -287,42 +272,67 @@ public class GeneticAlgorithm {
     // ========================================================================
 
     private void evolveGeneration() {
-        List<Individual> newPopulation = new ArrayList<>();
+        int eliteSize = Math.min(config.getEliteSize(), islandSize);
 
-        // Elitism - keep best individuals
-        List<Individual> elite = selectElite();
-        newPopulation.addAll(elite);
+        // Elitism - keep best individuals of each island
+        List<List<Individual>> elites = new ArrayList<>();
+        List<Callable<Individual>> tasks = new ArrayList<>();
 
-        // Generate offspring
-        while (newPopulation.size() < config.getPopulationSize()) {
-            // Selection
-            Individual parent1 = tournamentSelection();
-            Individual parent2 = tournamentSelection();
+        for (Island island : islands) {
+            List<Individual> parents = island.population;
+            elites.add(selectElite(parents, eliteSize));
 
-            // Crossover
-            Individual offspring = crossover(parent1, parent2);
+            // Generate offspring, each with its own random stream
+            for (int i = eliteSize; i < islandSize; i++) {
+                SplittableRandom taskRandom = island.random.split();
+                tasks.add(() -> breed(parents, taskRandom));
+            }
+        }
 
-            // Mutation
-            mutate(offspring);
+        List<Individual> offspring = runAll(tasks);
 
-            // Evaluate offspring
-            offspring.setFitness(fitnessEvaluator.evaluate(offspring.getSchedule(), config));
+        int offspringPerIsland = islandSize - eliteSize;
+        for (int i = 0; i < islands.size(); i++) {
+            List<Individual> newPopulation = new ArrayList<>(islandSize);
+            newPopulation.addAll(elites.get(i));
+            newPopulation.addAll(offspring.subList(i * offspringPerIsland, (i + 1) * offspringPerIsland));
+            islands.get(i).population = newPopulation;
+        }
 
-            newPopulation.add(offspring);
+        if (trackBestSolution()) {
+            generationsSinceImprovement = 0;
+        } else {
+            generationsSinceImprovement++;
         }
+    }
+
+    /**
+     * Produce and score one offspring. Only reads the parent population.
+     */
+    private Individual breed(List<Individual> parents, SplittableRandom random) {
+        // Selection
+        Individual parent1 = tournamentSelection(parents, random);
+        Individual parent2 = tournamentSelection(parents, random);
+
+        // Crossover
+        Individual offspring = crossover(parent1, parent2, random);
 
-        population = newPopulation;
-        generationsSinceImprovement++;
+        // Mutation
+        mutate(offspring, random);
+
+        // Evaluate offspring
+        offspring.setFitness(offspring.getGenome().fitness());
+        return offspring;
     }
 
-    private List<Individual> selectElite() {
+    private List<Individual> selectElite(List<Individual> population, int eliteSize) {
         return population.stream()
             .sorted((a, b) -> Double.compare(b.getFitness(), a.getFitness()))
-            .limit(config.getEliteSize())
+            .limit(eliteSize)
             .collect(Collectors.toList());
     }
 
-    private Individual tournamentSelection() {
+    private Individual tournamentSelection(List<Individual> population, SplittableRandom random) {
         List<Individual> tournament = new ArrayList<>();
 
         for (int i = 0; i < config.getTournamentSize(); i++) {
@@ -335,57 +345,46 @@ public class GeneticAlgorithm {
             .orElse(tournament.get(0));
     }
 
-    private Individual crossover(Individual parent1, Individual parent2) {
+    private Individual crossover(Individual parent1, Individual parent2, SplittableRandom random) {
         if (random.nextDouble() > config.getCrossoverRate()) {
             // No crossover, return copy of parent1
-            return new Individual(cloneSchedule(parent1.getSchedule()));
+            return new Individual(parent1.getGenome().copy());
         }
 
         // Single-point crossover
-        Schedule offspring = cloneSchedule(parent1.getSchedule());
-        List<ScheduleSlot> slots1 = parent1.getSchedule().getSlots();
-        List<ScheduleSlot> slots2 = parent2.getSchedule().getSlots();
-        List<ScheduleSlot> offspringSlots = offspring.getSlots();
-
-        if (slots1.size() == slots2.size() && slots1.size() == offspringSlots.size()) {
-            int crossoverPoint = random.nextInt(slots1.size());
-
-            for (int i = crossoverPoint; i < offspringSlots.size(); i++) {
-                ScheduleSlot slot = offspringSlots.get(i);
-                ScheduleSlot parent2Slot = slots2.get(i);
-
-                // Copy time from parent2
-                slot.setDayOfWeek(parent2Slot.getDayOfWeek());
-                slot.setStartTime(parent2Slot.getStartTime());
-                slot.setEndTime(parent2Slot.getEndTime());
-                slot.setRoom(parent2Slot.getRoom());
+        ScheduleGenome offspring = parent1.getGenome().copy();
+        ScheduleGenome genes2 = parent2.getGenome();
+
+        if (offspring.size() > 0) {
+            int crossoverPoint = random.nextInt(offspring.size());
+
+            for (int i = crossoverPoint; i < offspring.size(); i++) {
+                // Copy time and room from parent2
+                offspring.copyGene(i, genes2);
             }
         }
 
         return new Individual(offspring);
     }
 
-    private void mutate(Individual individual) {
-        Schedule schedule = individual.getSchedule();
-        List<ScheduleSlot> slots = schedule.getSlots();
+    private void mutate(Individual individual, SplittableRandom random) {
+        ScheduleGenome genome = individual.getGenome();
 
-        for (ScheduleSlot slot : slots) {
+        for (int slot = 0; slot < genome.size(); slot++) {
             if (random.nextDouble() < config.getMutationRate()) {
                 // Mutate this slot
                 int mutationType = random.nextInt(3);
 
                 switch (mutationType) {
                     case 0: // Change day
-                        DayOfWeek[] days = DayOfWeek.values();
-                        slot.setDayOfWeek(days[random.nextInt(5)]);
+                        genome.setDay(slot, random.nextInt(5));
                         break;
                     case 1: // Change time
-                        randomizeSlotTime(slot);
+                        randomizeSlotTime(genome, slot, random);
                         break;
                     case 2: // Swap with another slot
-                        if (slots.size() > 1) {
-                            ScheduleSlot other = slots.get(random.nextInt(slots.size()));
-                            swapSlotTimes(slot, other);
+                        if (genome.size() > 1) {
+                            genome.swapTimes(slot, random.nextInt(genome.size()));
                         }
                         break;
                 }
@@ -393,18 +392,87 @@ public class GeneticAlgorithm {
         }
     }
 
-    private void swapSlotTimes(ScheduleSlot slot1, ScheduleSlot slot2) {
-        DayOfWeek tempDay = slot1.getDayOfWeek();
-        LocalTime tempStart = slot1.getStartTime();
-        LocalTime tempEnd = slot1.getEndTime();
+    // ========================================================================
+    // ISLAND MIGRATION
+    // ========================================================================
+
+    /**
+     * Each island sends copies of its best individuals to the next island,
+     * where they replace the worst ones
+     */
+    private void migrate() {
+        int migrants = Math.min(migrationSize(), islandSize - 1);
+        if (migrants <= 0) {
+            return;
+        }
+
+        // Pick all emigrants before any island receives immigrants
+        List<List<Individual>> emigrants = new ArrayList<>();
+        for (Island island : islands) {
+            emigrants.add(selectElite(island.population, migrants));
+        }
+
+        for (int i = 0; i < islands.size(); i++) {
+            Island target = islands.get((i + 1) % islands.size());
+            target.population.sort(Comparator.comparingDouble(Individual::getFitness));
+
+            List<Individual> arriving = emigrants.get(i);
+            for (int j = 0; j < arriving.size(); j++) {
+                Individual migrant = new Individual(arriving.get(j).getGenome().copy());
+                migrant.setFitness(arriving.get(j).getFitness());
+                target.population.set(j, migrant);
+            }
+        }
+
+        log.debug("Migrated {} individual(s) between {} islands", migrants, islands.size());
+    }
+
+    private int migrationInterval() {
+        return Math.max(1, config.getMigrationInterval() != null ? config.getMigrationInterval() : 25);
+    }
+
+    private int migrationSize() {
+        return config.getMigrationSize() != null ? config.getMigrationSize() : 2;
+    }
+
+    // ========================================================================
+    // PARALLEL EXECUTION
+    // ========================================================================
+
+    private ForkJoinPool createWorkers() {
+        int threads = config.getThreadCount() != null ? config.getThreadCount() : 1;
+        if (!Boolean.TRUE.equals(config.getUseParallelProcessing()) || threads <= 1) {
+            return null;
+        }
+        return new ForkJoinPool(threads);
+    }
+
+    /**
+     * Run tasks on the worker pool (or inline) and return their results in task order
+     */
+    private <T> List<T> runAll(List<Callable<T>> tasks) {
+        List<T> results = new ArrayList<>(tasks.size());
 
-        slot1.setDayOfWeek(slot2.getDayOfWeek());
-        slot1.setStartTime(slot2.getStartTime());
-        slot1.setEndTime(slot2.getEndTime());
+        try {
+            if (workers == null) {
+                for (Callable<T> task : tasks) {
+                    results.add(task.call());
+                }
+            } else {
+                for (Future<T> future : workers.invokeAll(tasks)) {
+                    results.add(future.get());
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Genetic algorithm worker failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Genetic algorithm interrupted", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Genetic algorithm task failed", e);
+        }
 
-        slot2.setDayOfWeek(tempDay);
-        slot2.setStartTime(tempStart);
-        slot2.setEndTime(tempEnd);
+        return results;
     }
 
     // ========================================================================
@@ -450,12 +518,13 @@ public class GeneticAlgorithm {
         if (callback == null) return;
 
         long elapsed = (System.currentTimeMillis() - startTime) / 1000;
-        double avgFitness = population.stream()
+        double avgFitness = islands.stream()
+            .flatMap(island -> island.population.stream())
             .mapToDouble(Individual::getFitness)
             .average()
             .orElse(0.0);
 
-        int conflicts = fitnessEvaluator.getConflictCount(bestSolution.getSchedule());
+        int conflicts = bestSolution.getGenome().getConflictCount();
 
         GAProgress progress = new GAProgress(
             generation,
@@ -480,20 +549,8 @@ public class GeneticAlgorithm {
     private void applyBestSolution(Schedule schedule) {
         if (bestSolution == null) return;
 
-        Schedule bestSchedule = bestSolution.getSchedule();
-        List<ScheduleSlot> originalSlots = schedule.getSlots();
-        List<ScheduleSlot> bestSlots = bestSchedule.getSlots();
-
         // Apply best slot assignments to original schedule
-        for (int i = 0; i < Math.min(originalSlots.size(), bestSlots.size()); i++) {
-            ScheduleSlot original = originalSlots.get(i);
-            ScheduleSlot best = bestSlots.get(i);
-
-            original.setDayOfWeek(best.getDayOfWeek());
-            original.setStartTime(best.getStartTime());
-            original.setEndTime(best.getEndTime());
-            original.setRoom(best.getRoom());
-        }
+        bestSolution.getGenome().applyTo();
     }
 
     // ========================================================================
@@ -504,18 +561,30 @@ public class GeneticAlgorithm {
      * Individual in the population (candidate solution)
      */
     public static class Individual {
-        private Schedule schedule;
+        private ScheduleGenome genome;
         private Double fitness;
 
-        public Individual(Schedule schedule) {
-            this.schedule = schedule;
+        public Individual(ScheduleGenome genome) {
+            this.genome = genome;
         }
 
-        public Schedule getSchedule() { return schedule; }
+        public ScheduleGenome getGenome() { return genome; }
         public Double getFitness() { return fitness; }
         public void setFitness(Double fitness) { this.fitness = fitness; }
     }
 
+    /**
+     * Sub-population evolving on its own random stream
+     */
+    private static class Island {
+        private final SplittableRandom random;
+        private List<Individual> population = new ArrayList<>();
+
+        private Island(SplittableRandom random) {
+            this.random = random;
+        }
+    }
+
     /**
      * Progress information
      */
@@ -4,21 +4,26 @@ import com.heronix.exception.ImportException;
 import com.heronix.model.domain.*;
 import com.heronix.model.dto.ImportResult;
 import com.heronix.repository.*;
+import com.heronix.service.BulkWriteService;
 import com.heronix.service.LenientImportService;
+import com.heronix.service.parser.StreamingSheetReader;
+import com.heronix.service.parser.StreamingSheetReader.SheetRow;
 
 import lombok.extern.slf4j.Slf4j;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.*;
-import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -30,6 +35,18 @@ import java.util.stream.Collectors;
  * ✅ FIXED: Correct DataIssue constructor usage (no incomplete list)
  * ✅ FIXED: Repository methods use findBy().isPresent() pattern
  * ✅ FIXED: Warnings track incomplete records
+ *
+ * STREAMING IMPORT (Phase 15 - Performance Optimizations):
+ * - Rows are read one at a time by StreamingSheetReader (SAX for .xlsx,
+ *   line by line for CSV) on a parser thread, at most
+ *   heronix.import.queue-capacity rows ahead of validation
+ * - Duplicates are checked against the keys already stored, loaded once
+ *   per import, plus the keys accepted earlier in the file
+ * - Accepted rows are saved heronix.import.max-batch-size at a time, one
+ *   transaction per chunk, as JDBC batches through BulkWriteService (the
+ *   four entities have pooled-sequence IDs). If a chunk fails it is rolled
+ *   back and its rows are saved one by one, so errors are still reported
+ *   per row
  * 
  * @author Heronix Scheduling System Team
  * @version 4.1.0 - COMPILATION FIXES
@@ -43,6 +60,7 @@ public class LenientImportServiceImpl implements LenientImportService {
     private final TeacherRepository teacherRepository;
     private final StudentRepository studentRepository;
     private final CourseRepository courseRepository;
+    private final BulkWriteService bulkWriteService;
 
     @Lazy
     @Autowired
@@ -53,11 +71,13 @@ public class LenientImportServiceImpl implements LenientImportService {
             RoomRepository roomRepository,
             TeacherRepository teacherRepository,
             StudentRepository studentRepository,
-            CourseRepository courseRepository) {
+            CourseRepository courseRepository,
+            BulkWriteService bulkWriteService) {
         this.roomRepository = roomRepository;
         this.teacherRepository = teacherRepository;
         this.studentRepository = studentRepository;
         this.courseRepository = courseRepository;
+        this.bulkWriteService = bulkWriteService;
     }
 
     private static final int DEFAULT_ROOM_CAPACITY = 30;
@@ -67,6 +87,14 @@ public class LenientImportServiceImpl implements LenientImportService {
     private static final String DEFAULT_GRADE_LEVEL = "9";
     private static final int DEFAULT_MAX_STUDENTS = 30;
 
+    // Rows saved per transaction
+    @Value("${heronix.import.max-batch-size:1000}")
+    private int chunkSize = 1000;
+
+    // Rows parsed ahead of validation
+    @Value("${heronix.import.queue-capacity:1000}")
+    private int queueCapacity = 1000;
+
     @Override
     public ImportResult importRoomsLenient(MultipartFile file) throws ImportException {
         // ✅ NULL SAFE: Validate file parameter
@@ -155,17 +183,15 @@ public class LenientImportServiceImpl implements LenientImportService {
         ImportResult result = new ImportResult("CSV Lenient Import");
         result.start();
 
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-
-            String headerLine = reader.readLine();
-            if (headerLine == null) {
+        try (StreamingSheetReader rows = StreamingSheetReader.csv(inputStream, queueCapacity)) {
+            SheetRow header = rows.next();
+            if (header == null) {
                 throw new ImportException("CSV file is empty");
             }
 
             // ✅ NULL SAFE: Check headers are not null before using
-            String[] headers = parseCSVLine(headerLine);
-            if (headers == null || headers.length == 0) {
+            String[] headers = header.values();
+            if (headers.length == 0) {
                 throw new ImportException("CSV file has no headers");
             }
 
@@ -179,99 +205,7 @@ public class LenientImportServiceImpl implements LenientImportService {
 
             log.info("🔍 Detected entity type: {}", entityType);
 
-            int autoGeneratedCount = 1;
-            String line;
-            int rowNumber = 1;
-
-            while ((line = reader.readLine()) != null) {
-                rowNumber++;
-                if (line.trim().isEmpty())
-                    continue;
-
-                // ✅ NULL SAFE: Check values array is not null before parsing
-                String[] values = parseCSVLine(line);
-                if (values == null) continue;
-
-                try {
-                    switch (entityType.toLowerCase()) {
-                        case "student" -> {
-                            StudentImportResult studentResult = parseStudentFromCSV(
-                                    values, columnMap, rowNumber, autoGeneratedCount);
-                            // ✅ NULL SAFE: Check result is not null before using
-                            if (studentResult != null && studentResult.student() != null) {
-                                StudentSaveResult saveResult = self.saveStudentInNewTransaction(studentResult);
-                                if (saveResult.saved()) {
-                                    result.incrementSuccess();
-                                    if (saveResult.needsReview()) {
-                                        result.addWarning("Row " + rowNumber + " - " + saveResult.name() +
-                                                ": Missing " + saveResult.missingFields());
-                                    }
-                                    autoGeneratedCount++;
-                                } else {
-                                    result.addError("Row " + rowNumber + ": " + saveResult.error());
-                                }
-                            }
-                        }
-                        case "teacher" -> {
-                            TeacherImportResult teacherResult = parseTeacherFromCSV(
-                                    values, columnMap, rowNumber, autoGeneratedCount);
-                            // ✅ NULL SAFE: Check result is not null before using
-                            if (teacherResult != null && teacherResult.teacher() != null) {
-                                TeacherSaveResult saveResult = self.saveTeacherInNewTransaction(teacherResult);
-                                if (saveResult.saved()) {
-                                    result.incrementSuccess();
-                                    if (saveResult.needsReview()) {
-                                        result.addWarning("Row " + rowNumber + " - " + saveResult.name() +
-                                                ": Missing " + saveResult.missingFields());
-                                    }
-                                    autoGeneratedCount++;
-                                } else {
-                                    result.addError("Row " + rowNumber + ": " + saveResult.error());
-                                }
-                            }
-                        }
-                        case "course" -> {
-                            CourseImportResult courseResult = parseCourseFromCSV(
-                                    values, columnMap, rowNumber, autoGeneratedCount);
-                            // ✅ NULL SAFE: Check result is not null before using
-                            if (courseResult != null && courseResult.course() != null) {
-                                CourseSaveResult saveResult = self.saveCourseInNewTransaction(courseResult);
-                                if (saveResult.saved()) {
-                                    result.incrementSuccess();
-                                    if (saveResult.needsReview()) {
-                                        result.addWarning("Row " + rowNumber + " - " + saveResult.courseName() +
-                                                ": Missing " + saveResult.missingFields());
-                                    }
-                                    autoGeneratedCount++;
-                                } else {
-                                    result.addError("Row " + rowNumber + ": " + saveResult.error());
-                                }
-                            }
-                        }
-                        case "room" -> {
-                            RoomImportResult roomResult = parseRoomFromCSV(
-                                    values, columnMap, rowNumber, autoGeneratedCount);
-                            // ✅ NULL SAFE: Check result is not null before using
-                            if (roomResult != null && roomResult.room() != null) {
-                                RoomSaveResult saveResult = self.saveRoomInNewTransaction(roomResult);
-                                if (saveResult.saved()) {
-                                    result.incrementSuccess();
-                                    if (saveResult.needsReview()) {
-                                        result.addWarning("Row " + rowNumber + " - " + saveResult.roomNumber() +
-                                                ": Missing " + saveResult.missingFields());
-                                    }
-                                    autoGeneratedCount++;
-                                } else {
-                                    result.addError("Row " + rowNumber + ": " + saveResult.error());
-                                }
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    result.addError("Row " + rowNumber + ": " + e.getMessage());
-                    log.error("❌ Error processing row {}: {}", rowNumber, e.getMessage());
-                }
-            }
+            importRows(rows, columnMap, entityImport(entityType), result);
 
             result.complete();
             logImportSummary(result);
@@ -290,115 +224,22 @@ public class LenientImportServiceImpl implements LenientImportService {
         ImportResult result = new ImportResult("Excel Lenient Import");
         result.start();
 
-        try (Workbook workbook = new XSSFWorkbook(inputStream)) {
-            Sheet sheet = workbook.getSheetAt(0);
-
-            // ✅ NULL SAFE: Validate sheet is not null
-            if (sheet == null) {
-                throw new ImportException("Excel file has no sheets");
-            }
-
-            if (sheet.getPhysicalNumberOfRows() == 0) {
+        try (StreamingSheetReader rows = StreamingSheetReader.excel(inputStream, queueCapacity)) {
+            SheetRow header = rows.next();
+            if (header == null) {
                 throw new ImportException("Excel file is empty");
             }
 
-            Row headerRow = sheet.getRow(sheet.getFirstRowNum());
-            // ✅ NULL SAFE: Validate header row is not null
-            if (headerRow == null) {
+            // ✅ NULL SAFE: Validate header row has columns
+            if (header.isBlank()) {
                 throw new ImportException("Excel file has no header row");
             }
 
-            Map<String, Integer> columnMap = buildColumnMapFromRow(headerRow);
-
-            log.info("📊 Processing {} rows from Excel", sheet.getPhysicalNumberOfRows() - 1);
+            Map<String, Integer> columnMap = buildColumnMap(header.values());
 
-            int autoGeneratedCount = 1;
+            log.info("📊 Found {} columns in Excel header row {}", header.values().length, header.rowNumber());
 
-            for (int i = headerRow.getRowNum() + 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row == null)
-                    continue;
-
-                try {
-                    switch (entityType.toLowerCase()) {
-                        case "student" -> {
-                            StudentImportResult studentResult = parseStudentFromRowLenient(
-                                    row, columnMap, i, autoGeneratedCount);
-                            // ✅ NULL SAFE: Check result is not null before using
-                            if (studentResult != null && studentResult.student() != null) {
-                                StudentSaveResult saveResult = self.saveStudentInNewTransaction(studentResult);
-                                if (saveResult.saved()) {
-                                    result.incrementSuccess();
-                                    if (saveResult.needsReview()) {
-                                        result.addWarning("Row " + i + " - " + saveResult.name() +
-                                                ": Missing " + saveResult.missingFields());
-                                    }
-                                    autoGeneratedCount++;
-                                } else {
-                                    result.addError("Row " + i + ": " + saveResult.error());
-                                }
-                            }
-                        }
-                        case "teacher" -> {
-                            TeacherImportResult teacherResult = parseTeacherFromRowLenient(
-                                    row, columnMap, i, autoGeneratedCount);
-                            // ✅ NULL SAFE: Check result is not null before using
-                            if (teacherResult != null && teacherResult.teacher() != null) {
-                                TeacherSaveResult saveResult = self.saveTeacherInNewTransaction(teacherResult);
-                                if (saveResult.saved()) {
-                                    result.incrementSuccess();
-                                    if (saveResult.needsReview()) {
-                                        result.addWarning("Row " + i + " - " + saveResult.name() +
-                                                ": Missing " + saveResult.missingFields());
-                                    }
-                                    autoGeneratedCount++;
-                                } else {
-                                    result.addError("Row " + i + ": " + saveResult.error());
-                                }
-                            }
-                        }
-                        case "course" -> {
-                            CourseImportResult courseResult = parseCourseFromRowLenient(
-                                    row, columnMap, i, autoGeneratedCount);
-                            // ✅ NULL SAFE: Check result is not null before using
-                            if (courseResult != null && courseResult.course() != null) {
-                                CourseSaveResult saveResult = self.saveCourseInNewTransaction(courseResult);
-                                if (saveResult.saved()) {
-                                    result.incrementSuccess();
-                                    if (saveResult.needsReview()) {
-                                        result.addWarning("Row " + i + " - " + saveResult.courseName() +
-                                                ": Missing " + saveResult.missingFields());
-                                    }
-                                    autoGeneratedCount++;
-                                } else {
-                                    result.addError("Row " + i + ": " + saveResult.error());
-                                }
-                            }
-                        }
-                        case "room" -> {
-                            RoomImportResult roomResult = parseRoomFromRowLenient(
-                                    row, columnMap, i, autoGeneratedCount);
-                            // ✅ NULL SAFE: Check result is not null before using
-                            if (roomResult != null && roomResult.room() != null) {
-                                RoomSaveResult saveResult = self.saveRoomInNewTransaction(roomResult);
-                                if (saveResult.saved()) {
-                                    result.incrementSuccess();
-                                    if (saveResult.needsReview()) {
-                                        result.addWarning("Row " + i + " - " + saveResult.roomNumber() +
-                                                ": Missing " + saveResult.missingFields());
-                                    }
-                                    autoGeneratedCount++;
-                                } else {
-                                    result.addError("Row " + i + ": " + saveResult.error());
-                                }
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    result.addError("Row " + i + ": " + e.getMessage());
-                    log.error("❌ Error processing row {}: {}", i, e.getMessage());
-                }
-            }
+            importRows(rows, columnMap, entityImport(entityType), result);
 
             result.complete();
             logImportSummary(result);
@@ -411,6 +252,135 @@ public class LenientImportServiceImpl implements LenientImportService {
         return result;
     }
 
+    // ========================================================================
+    // STREAMING PIPELINE
+    // ========================================================================
+
+    /**
+     * Validate rows as the parser delivers them and save them in chunks
+     */
+    private <T> void importRows(StreamingSheetReader rows, Map<String, Integer> columnMap,
+            EntityImport<T> entityImport, ImportResult result) throws IOException {
+
+        // Keys already stored, plus those accepted from this file
+        Set<String> keys = new HashSet<>(entityImport.existingKeys().get());
+        log.info("🔑 Loaded {} existing {} values for duplicate checks", keys.size(), entityImport.keyName());
+
+        List<PendingRow<T>> chunk = new ArrayList<>();
+        int autoGeneratedCount = 1;
+        int rowCount = 0;
+        SheetRow row;
+
+        while ((row = rows.next()) != null) {
+            if (row.isBlank())
+                continue;
+            rowCount++;
+
+            try {
+                ParsedRow<T> parsed = entityImport.parser().parse(row.values(), columnMap, autoGeneratedCount);
+                String key = entityImport.key().apply(parsed.entity());
+                if (key != null && !keys.add(key)) {
+                    result.addError("Row " + row.rowNumber() + ": Duplicate " + entityImport.keyName() + ": " + key);
+                    continue;
+                }
+                chunk.add(new PendingRow<>(row.rowNumber(), parsed, key));
+                autoGeneratedCount++;
+            } catch (Exception e) {
+                result.addError("Row " + row.rowNumber() + ": " + e.getMessage());
+                log.error("❌ Error processing row {}: {}", row.rowNumber(), e.getMessage());
+            }
+
+            if (chunk.size() >= chunkSize) {
+                saveChunk(chunk, entityImport, keys, result);
+                chunk = new ArrayList<>();
+            }
+        }
+        saveChunk(chunk, entityImport, keys, result);
+
+        log.info("📊 Processed {} rows", rowCount);
+    }
+
+    /**
+     * Save a chunk in one transaction, or row by row if that fails so the
+     * failure is reported against the row that caused it
+     */
+    private <T> void saveChunk(List<PendingRow<T>> chunk, EntityImport<T> entityImport,
+            Set<String> keys, ImportResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<T> entities = chunk.stream().map(pending -> pending.parsed().entity()).toList();
+        try {
+            self.saveAllInNewTransaction(entities);
+            chunk.forEach(pending -> recordSaved(pending, entityImport, result));
+            return;
+        } catch (Exception e) {
+            log.warn("⚠️ Saving {} rows in one transaction failed ({}), saving them one at a time",
+                    chunk.size(), e.getMessage());
+        }
+
+        for (PendingRow<T> pending : chunk) {
+            T entity = pending.parsed().entity();
+            // IDs handed out by the rolled back transaction
+            entityImport.resetId().accept(entity);
+            try {
+                self.saveInNewTransaction(entityImport.repository(), entity);
+                recordSaved(pending, entityImport, result);
+            } catch (Exception e) {
+                if (pending.key() != null) {
+                    keys.remove(pending.key());
+                }
+                result.addError("Row " + pending.rowNumber() + ": Save failed: " + e.getMessage());
+                log.error("❌ Failed to save row {}: {}", pending.rowNumber(), e.getMessage());
+            }
+        }
+    }
+
+    private <T> void recordSaved(PendingRow<T> pending, EntityImport<T> entityImport, ImportResult result) {
+        result.incrementSuccess();
+        if (pending.parsed().needsReview()) {
+            result.addWarning("Row " + pending.rowNumber() + " - " +
+                    entityImport.displayName().apply(pending.parsed().entity()) +
+                    ": Missing " + pending.parsed().missingFields());
+        }
+    }
+
+    private EntityImport<?> entityImport(String entityType) throws ImportException {
+        String type = (entityType != null) ? entityType.toLowerCase() : "";
+        return switch (type) {
+            case "student" -> new EntityImport<Student>("Student ID", studentRepository,
+                    () -> studentRepository.findAllStudentIds(),
+                    Student::getStudentId,
+                    student -> ((student.getFirstName() != null) ? student.getFirstName() : "") + " " +
+                            ((student.getLastName() != null) ? student.getLastName() : ""),
+                    this::parseStudent,
+                    student -> student.setId(null));
+            case "teacher" -> new EntityImport<Teacher>("Employee ID", teacherRepository,
+                    () -> teacherRepository.findAllEmployeeIds(),
+                    Teacher::getEmployeeId,
+                    teacher -> (teacher.getName() != null) ? teacher.getName() : "Unknown",
+                    this::parseTeacher,
+                    teacher -> {
+                        teacher.setId(null);
+                        teacher.setVersion(null);
+                    });
+            case "course" -> new EntityImport<Course>("Course Code", courseRepository,
+                    () -> courseRepository.findAllCourseCodes(),
+                    Course::getCourseCode,
+                    course -> (course.getCourseName() != null) ? course.getCourseName() : "Unknown",
+                    this::parseCourse,
+                    course -> course.setId(null));
+            case "room" -> new EntityImport<Room>("Room Number", roomRepository,
+                    () -> roomRepository.findAllRoomNumbers(),
+                    Room::getRoomNumber,
+                    room -> (room.getRoomNumber() != null) ? room.getRoomNumber() : "Unknown",
+                    this::parseRoom,
+                    room -> room.setId(null));
+            default -> throw new ImportException("Unsupported entity type: " + entityType);
+        };
+    }
+
     // ========================================================================
     // SMART COLUMN MAPPING
     // ========================================================================
@@ -448,38 +418,6 @@ public class LenientImportServiceImpl implements LenientImportService {
         return map;
     }
 
-    private Map<String, Integer> buildColumnMapFromRow(Row row) {
-        Map<String, Integer> map = new HashMap<>();
-
-        if (row == null)
-            return map;
-
-        for (Cell cell : row) {
-            // ✅ NULL SAFE: Skip null cells
-            if (cell == null) continue;
-
-            String value = getCellValueAsString(cell);
-            if (value != null && !value.trim().isEmpty()) {
-                int colIndex = cell.getColumnIndex();
-
-                map.put(value.toLowerCase().trim(), colIndex);
-
-                List<String> variations = generateColumnVariations(value);
-                // ✅ NULL SAFE: Filter null variations before processing
-                if (variations != null) {
-                    for (String variation : variations) {
-                        if (variation != null) {
-                            map.putIfAbsent(variation, colIndex);
-                        }
-                    }
-                }
-            }
-        }
-
-        log.debug("📋 Excel column map: {} entries", map.size());
-        return map;
-    }
-
     private List<String> generateColumnVariations(String columnName) {
         List<String> variations = new ArrayList<>();
         String lower = columnName.toLowerCase().trim();
@@ -544,8 +482,8 @@ public class LenientImportServiceImpl implements LenientImportService {
     // STUDENT PARSING
     // ========================================================================
 
-    private StudentImportResult parseStudentFromCSV(String[] values, Map<String, Integer> columnMap,
-            int rowNumber, int autoGeneratedCount) {
+    private ParsedRow<Student> parseStudent(String[] values, Map<String, Integer> columnMap,
+            int autoGeneratedCount) {
         Student student = new Student();
         List<String> missingFields = new ArrayList<>();
         boolean needsReview = false;
@@ -593,64 +531,12 @@ public class LenientImportServiceImpl implements LenientImportService {
 
         student.setActive(true);
 
-        return new StudentImportResult(student, needsReview,
-                String.join(", ", missingFields), missingFields);
-    }
-
-    private StudentImportResult parseStudentFromRowLenient(Row row, Map<String, Integer> columnMap,
-            int rowNumber, int autoGeneratedCount) {
-        Student student = new Student();
-        List<String> missingFields = new ArrayList<>();
-        boolean needsReview = false;
-
-        String studentId = getCellValue(row, columnMap, "studentid", "student_id", "id");
-        if (studentId == null || studentId.trim().isEmpty()) {
-            studentId = "STU-" + String.format("%05d", autoGeneratedCount);
-            missingFields.add("Student ID");
-            needsReview = true;
-        }
-        student.setStudentId(studentId);
-
-        String firstName = getCellValue(row, columnMap, "firstname", "first_name");
-        if (firstName == null || firstName.trim().isEmpty()) {
-            firstName = "FirstName" + autoGeneratedCount;
-            missingFields.add("First Name");
-            needsReview = true;
-        }
-        student.setFirstName(firstName);
-
-        String lastName = getCellValue(row, columnMap, "lastname", "last_name");
-        if (lastName == null || lastName.trim().isEmpty()) {
-            lastName = "LastName" + autoGeneratedCount;
-            missingFields.add("Last Name");
-            needsReview = true;
-        }
-        student.setLastName(lastName);
-
-        String gradeLevel = getCellValue(row, columnMap, "gradelevel", "grade_level");
-        if (gradeLevel == null || gradeLevel.trim().isEmpty()) {
-            gradeLevel = DEFAULT_GRADE_LEVEL;
-            missingFields.add("Grade Level");
-            needsReview = true;
-        }
-        student.setGradeLevel(gradeLevel);
-
-        String email = getCellValue(row, columnMap, "email");
-        if (email != null && !email.trim().isEmpty()) {
-            student.setEmail(email);
-        }
-
-        student.setActive(true);
-
-        return new StudentImportResult(student, needsReview,
+        return new ParsedRow<>(student, needsReview,
                 String.join(", ", missingFields), missingFields);
     }
 
-    // Similar parsing methods for Teacher, Course, Room...
-    // (Abbreviated for space - include full implementations in actual file)
-
-    private TeacherImportResult parseTeacherFromCSV(String[] values, Map<String, Integer> columnMap,
-            int rowNumber, int autoGeneratedCount) {
+    private ParsedRow<Teacher> parseTeacher(String[] values, Map<String, Integer> columnMap,
+            int autoGeneratedCount) {
         Teacher teacher = new Teacher();
         List<String> missingFields = new ArrayList<>();
         boolean needsReview = false;
@@ -681,48 +567,12 @@ public class LenientImportServiceImpl implements LenientImportService {
 
         teacher.setActive(true);
 
-        return new TeacherImportResult(teacher, needsReview,
-                String.join(", ", missingFields), missingFields);
-    }
-
-    private TeacherImportResult parseTeacherFromRowLenient(Row row, Map<String, Integer> columnMap,
-            int rowNumber, int autoGeneratedCount) {
-        Teacher teacher = new Teacher();
-        List<String> missingFields = new ArrayList<>();
-        boolean needsReview = false;
-
-        String name = getCellValue(row, columnMap, "name", "teachername");
-        if (name == null || name.trim().isEmpty()) {
-            name = "Teacher-AUTO-" + autoGeneratedCount;
-            missingFields.add("Name");
-            needsReview = true;
-        }
-        teacher.setName(name);
-
-        String employeeId = getCellValue(row, columnMap, "employeeid", "employee_id", "id");
-        if (employeeId == null || employeeId.trim().isEmpty()) {
-            employeeId = "EMP-" + String.format("%05d", autoGeneratedCount);
-            missingFields.add("Employee ID");
-            needsReview = true;
-        }
-        teacher.setEmployeeId(employeeId);
-
-        String department = getCellValue(row, columnMap, "department", "dept");
-        if (department == null || department.trim().isEmpty()) {
-            department = DEFAULT_DEPARTMENT;
-            missingFields.add("Department");
-            needsReview = true;
-        }
-        teacher.setDepartment(department);
-
-        teacher.setActive(true);
-
-        return new TeacherImportResult(teacher, needsReview,
+        return new ParsedRow<>(teacher, needsReview,
                 String.join(", ", missingFields), missingFields);
     }
 
-    private CourseImportResult parseCourseFromCSV(String[] values, Map<String, Integer> columnMap,
-            int rowNumber, int autoGeneratedCount) {
+    private ParsedRow<Course> parseCourse(String[] values, Map<String, Integer> columnMap,
+            int autoGeneratedCount) {
         Course course = new Course();
         List<String> missingFields = new ArrayList<>();
         boolean needsReview = false;
@@ -746,41 +596,12 @@ public class LenientImportServiceImpl implements LenientImportService {
         course.setMaxStudents(DEFAULT_MAX_STUDENTS);
         course.setActive(true);
 
-        return new CourseImportResult(course, needsReview,
+        return new ParsedRow<>(course, needsReview,
                 String.join(", ", missingFields), missingFields);
     }
 
-    private CourseImportResult parseCourseFromRowLenient(Row row, Map<String, Integer> columnMap,
-            int rowNumber, int autoGeneratedCount) {
-        Course course = new Course();
-        List<String> missingFields = new ArrayList<>();
-        boolean needsReview = false;
-
-        String courseCode = getCellValue(row, columnMap, "coursecode", "course_code", "code");
-        if (courseCode == null || courseCode.trim().isEmpty()) {
-            courseCode = "CRS-" + String.format("%04d", autoGeneratedCount);
-            missingFields.add("Course Code");
-            needsReview = true;
-        }
-        course.setCourseCode(courseCode);
-
-        String courseName = getCellValue(row, columnMap, "coursename", "course_name", "name");
-        if (courseName == null || courseName.trim().isEmpty()) {
-            courseName = "Course-" + courseCode;
-            missingFields.add("Course Name");
-            needsReview = true;
-        }
-        course.setCourseName(courseName);
-
-        course.setMaxStudents(DEFAULT_MAX_STUDENTS);
-        course.setActive(true);
-
-        return new CourseImportResult(course, needsReview,
-                String.join(", ", missingFields), missingFields);
-    }
-
-    private RoomImportResult parseRoomFromCSV(String[] values, Map<String, Integer> columnMap,
-            int rowNumber, int autoGeneratedCount) {
+    private ParsedRow<Room> parseRoom(String[] values, Map<String, Integer> columnMap,
+            int autoGeneratedCount) {
         Room room = new Room();
         List<String> missingFields = new ArrayList<>();
         boolean needsReview = false;
@@ -804,195 +625,22 @@ public class LenientImportServiceImpl implements LenientImportService {
             room.setType(com.heronix.model.enums.RoomType.CLASSROOM);
         }
 
-        return new RoomImportResult(room, needsReview,
-                String.join(", ", missingFields), missingFields);
-    }
-
-    private RoomImportResult parseRoomFromRowLenient(Row row, Map<String, Integer> columnMap,
-            int rowNumber, int autoGeneratedCount) {
-        Room room = new Room();
-        List<String> missingFields = new ArrayList<>();
-        boolean needsReview = false;
-
-        String roomNumber = getCellValue(row, columnMap, "roomnumber", "room_number", "room");
-        if (roomNumber == null || roomNumber.trim().isEmpty()) {
-            roomNumber = "ROOM-AUTO-" + String.format("%03d", autoGeneratedCount);
-            missingFields.add("Room Number");
-            needsReview = true;
-        }
-        room.setRoomNumber(roomNumber);
-
-        room.setBuilding(DEFAULT_BUILDING);
-        room.setFloor(DEFAULT_FLOOR);
-        room.setCapacity(DEFAULT_ROOM_CAPACITY);
-
-        // ✅ FIX: Set default RoomType to prevent null values (December 14, 2025)
-        // This matches the behavior of RoomManagementController.handleAddRoom()
-        // and prevents data quality issues with null roomType
-        if (room.getType() == null) {
-            room.setType(com.heronix.model.enums.RoomType.CLASSROOM);
-        }
-
-        return new RoomImportResult(room, needsReview,
+        return new ParsedRow<>(room, needsReview,
                 String.join(", ", missingFields), missingFields);
     }
 
     // ========================================================================
-    // SAVE METHODS - FIXED: Use findBy().isPresent() pattern
+    // SAVE METHODS - Called through self so each runs in its own transaction
     // ========================================================================
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public StudentSaveResult saveStudentInNewTransaction(StudentImportResult importResult) {
-        try {
-            // ✅ NULL SAFE: Validate import result
-            if (importResult == null || importResult.student() == null) {
-                return new StudentSaveResult(false, "Unknown", false, null, null,
-                        "Invalid import result");
-            }
-
-            Student student = importResult.student();
-
-            // ✅ NULL SAFE: Check student ID exists before duplicate check
-            if (student.getStudentId() != null &&
-                studentRepository.findByStudentId(student.getStudentId()).isPresent()) {
-                // ✅ NULL SAFE: Safe name extraction with defaults
-                String firstName = (student.getFirstName() != null) ? student.getFirstName() : "";
-                String lastName = (student.getLastName() != null) ? student.getLastName() : "";
-                return new StudentSaveResult(false,
-                        firstName + " " + lastName,
-                        false, null, null,
-                        "Duplicate Student ID: " + student.getStudentId());
-            }
-
-            studentRepository.save(student);
-
-            // ✅ NULL SAFE: Safe name extraction with defaults
-            String firstName = (student.getFirstName() != null) ? student.getFirstName() : "";
-            String lastName = (student.getLastName() != null) ? student.getLastName() : "";
-            return new StudentSaveResult(true,
-                    firstName + " " + lastName,
-                    importResult.needsReview(),
-                    importResult.missingFields(),
-                    importResult.missingFieldsList(),
-                    null);
-
-        } catch (Exception e) {
-            log.error("❌ Failed to save student: {}", e.getMessage());
-            return new StudentSaveResult(false, "Unknown", false, null, null,
-                    "Save failed: " + e.getMessage());
-        }
+    public <T> void saveAllInNewTransaction(List<T> entities) {
+        bulkWriteService.insertAll(entities);
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public TeacherSaveResult saveTeacherInNewTransaction(TeacherImportResult importResult) {
-        try {
-            // ✅ NULL SAFE: Validate import result
-            if (importResult == null || importResult.teacher() == null) {
-                return new TeacherSaveResult(false, "Unknown", false, null, null,
-                        "Invalid import result");
-            }
-
-            Teacher teacher = importResult.teacher();
-
-            // ✅ NULL SAFE: Check employee ID exists before duplicate check
-            if (teacher.getEmployeeId() != null &&
-                teacherRepository.findByEmployeeId(teacher.getEmployeeId()).isPresent()) {
-                // ✅ NULL SAFE: Safe name extraction with default
-                String name = (teacher.getName() != null) ? teacher.getName() : "Unknown";
-                return new TeacherSaveResult(false, name,
-                        false, null, null,
-                        "Duplicate Employee ID: " + teacher.getEmployeeId());
-            }
-
-            teacherRepository.save(teacher);
-
-            // ✅ NULL SAFE: Safe name extraction with default
-            String name = (teacher.getName() != null) ? teacher.getName() : "Unknown";
-            return new TeacherSaveResult(true, name,
-                    importResult.needsReview(),
-                    importResult.missingFields(),
-                    importResult.missingFieldsList(),
-                    null);
-
-        } catch (Exception e) {
-            log.error("❌ Failed to save teacher: {}", e.getMessage());
-            return new TeacherSaveResult(false, "Unknown", false, null, null,
-                    "Save failed: " + e.getMessage());
-        }
-    }
-
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public CourseSaveResult saveCourseInNewTransaction(CourseImportResult importResult) {
-        try {
-            // ✅ NULL SAFE: Validate import result
-            if (importResult == null || importResult.course() == null) {
-                return new CourseSaveResult(false, "Unknown", false, null, null,
-                        "Invalid import result");
-            }
-
-            Course course = importResult.course();
-
-            // ✅ NULL SAFE: Check course code exists before duplicate check
-            if (course.getCourseCode() != null &&
-                courseRepository.findByCourseCode(course.getCourseCode()).isPresent()) {
-                // ✅ NULL SAFE: Safe course name extraction with default
-                String courseName = (course.getCourseName() != null) ? course.getCourseName() : "Unknown";
-                return new CourseSaveResult(false, courseName,
-                        false, null, null,
-                        "Duplicate Course Code: " + course.getCourseCode());
-            }
-
-            courseRepository.save(course);
-
-            // ✅ NULL SAFE: Safe course name extraction with default
-            String courseName = (course.getCourseName() != null) ? course.getCourseName() : "Unknown";
-            return new CourseSaveResult(true, courseName,
-                    importResult.needsReview(),
-                    importResult.missingFields(),
-                    importResult.missingFieldsList(),
-                    null);
-
-        } catch (Exception e) {
-            log.error("❌ Failed to save course: {}", e.getMessage());
-            return new CourseSaveResult(false, "Unknown", false, null, null,
-                    "Save failed: " + e.getMessage());
-        }
-    }
-
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public RoomSaveResult saveRoomInNewTransaction(RoomImportResult importResult) {
-        try {
-            // ✅ NULL SAFE: Validate import result
-            if (importResult == null || importResult.room() == null) {
-                return new RoomSaveResult(false, "Unknown", false, null, null,
-                        "Invalid import result");
-            }
-
-            Room room = importResult.room();
-
-            // ✅ NULL SAFE: Check room number exists before duplicate check
-            if (room.getRoomNumber() != null &&
-                roomRepository.findByRoomNumber(room.getRoomNumber()).isPresent()) {
-                return new RoomSaveResult(false, room.getRoomNumber(),
-                        false, null, null,
-                        "Duplicate Room Number: " + room.getRoomNumber());
-            }
-
-            roomRepository.save(room);
-
-            // ✅ NULL SAFE: Safe room number extraction with default
-            String roomNumber = (room.getRoomNumber() != null) ? room.getRoomNumber() : "Unknown";
-            return new RoomSaveResult(true, roomNumber,
-                    importResult.needsReview(),
-                    importResult.missingFields(),
-                    importResult.missingFieldsList(),
-                    null);
-
-        } catch (Exception e) {
-            log.error("❌ Failed to save room: {}", e.getMessage());
-            return new RoomSaveResult(false, "Unknown", false, null, null,
-                    "Save failed: " + e.getMessage());
-        }
+    public <T> void saveInNewTransaction(CrudRepository<T, Long> repository, T entity) {
+        repository.save(entity);
     }
 
     // ========================================================================
@@ -1021,82 +669,6 @@ public class LenientImportServiceImpl implements LenientImportService {
         return null;
     }
 
-    private String getCellValue(Row row, Map<String, Integer> columnMap, String... possibleNames) {
-        // ✅ NULL SAFE: Validate parameters
-        if (row == null || columnMap == null || possibleNames == null) {
-            return null;
-        }
-
-        for (String name : possibleNames) {
-            // ✅ NULL SAFE: Skip null names
-            if (name == null) continue;
-
-            Integer colIndex = columnMap.get(name.toLowerCase());
-            if (colIndex != null) {
-                Cell cell = row.getCell(colIndex);
-                String value = getCellValueAsString(cell);
-                if (value != null && !value.trim().isEmpty()) {
-                    return value.trim();
-                }
-            }
-        }
-        return null;
-    }
-
-    private String getCellValueAsString(Cell cell) {
-        if (cell == null)
-            return null;
-
-        return switch (cell.getCellType()) {
-            case STRING -> cell.getStringCellValue();
-            case NUMERIC -> {
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    yield cell.getDateCellValue().toString();
-                } else {
-                    double numValue = cell.getNumericCellValue();
-                    if (numValue == (long) numValue) {
-                        yield String.valueOf((long) numValue);
-                    } else {
-                        yield String.valueOf(numValue);
-                    }
-                }
-            }
-            case BOOLEAN -> String.valueOf(cell.getBooleanCellValue());
-            case FORMULA -> {
-                try {
-                    yield String.valueOf(cell.getNumericCellValue());
-                } catch (Exception e) {
-                    try {
-                        yield cell.getStringCellValue();
-                    } catch (Exception ex) {
-                        yield "";
-                    }
-                }
-            }
-            default -> "";
-        };
-    }
-
-    private String[] parseCSVLine(String line) {
-        List<String> values = new ArrayList<>();
-        StringBuilder current = new StringBuilder();
-        boolean inQuotes = false;
-
-        for (char c : line.toCharArray()) {
-            if (c == '"') {
-                inQuotes = !inQuotes;
-            } else if (c == ',' && !inQuotes) {
-                values.add(current.toString().trim());
-                current = new StringBuilder();
-            } else {
-                current.append(c);
-            }
-        }
-        values.add(current.toString().trim());
-
-        return values.toArray(new String[0]);
-    }
-
     private String detectEntityType(String[] headers) {
         // ✅ NULL SAFE: Validate headers array
         if (headers == null || headers.length == 0) {
@@ -1138,35 +710,23 @@ public class LenientImportServiceImpl implements LenientImportService {
     // HELPER RECORDS
     // ========================================================================
 
-    private record StudentImportResult(Student student, boolean needsReview,
-            String missingFields, List<String> missingFieldsList) {
-    }
-
-    private record StudentSaveResult(boolean saved, String name, boolean needsReview,
-            String missingFields, List<String> missingFieldsList, String error) {
-    }
-
-    private record TeacherImportResult(Teacher teacher, boolean needsReview,
-            String missingFields, List<String> missingFieldsList) {
-    }
-
-    private record TeacherSaveResult(boolean saved, String name, boolean needsReview,
-            String missingFields, List<String> missingFieldsList, String error) {
-    }
-
-    private record CourseImportResult(Course course, boolean needsReview,
-            String missingFields, List<String> missingFieldsList) {
+    /**
+     * How one kind of record is parsed, checked for duplicates and saved
+     */
+    private record EntityImport<T>(String keyName, CrudRepository<T, Long> repository,
+            Supplier<List<String>> existingKeys, Function<T, String> key,
+            Function<T, String> displayName, RowParser<T> parser, Consumer<T> resetId) {
     }
 
-    private record CourseSaveResult(boolean saved, String courseName, boolean needsReview,
-            String missingFields, List<String> missingFieldsList, String error) {
+    @FunctionalInterface
+    private interface RowParser<T> {
+        ParsedRow<T> parse(String[] values, Map<String, Integer> columnMap, int autoGeneratedCount);
     }
 
-    private record RoomImportResult(Room room, boolean needsReview,
+    private record ParsedRow<T>(T entity, boolean needsReview,
             String missingFields, List<String> missingFieldsList) {
     }
 
-    private record RoomSaveResult(boolean saved, String roomNumber, boolean needsReview,
-            String missingFields, List<String> missingFieldsList, String error) {
+    private record PendingRow<T>(int rowNumber, ParsedRow<T> parsed, String key) {
     }
 }
\ No newline at end of file
@@ -0,0 +1,475 @@
+package com.heronix.service.impl;
+
+import com.heronix.model.domain.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * Schedule Conflict Index
+ * In-memory index of one schedule's slots, used to answer conflict queries
+ * without rescanning the schedule_slots table.
+ *
+ * Slots are bucketed into "lanes" keyed by (teacher, day), (room, day) and,
+ * through their enrollments, (student, day). Each lane is kept sorted by start
+ * time, so finding every slot that shares a teacher, room or student with a
+ * given slot only touches that resource's day (typically 6-8 slots) instead of
+ * the whole schedule. Lanes are day-wide rather than period-wide so that
+ * partially overlapping periods (block days, staggered lunches) are still caught.
+ *
+ * The index is updated incrementally: after changing a slot's teacher, room,
+ * day or time call {@link #updateSlot(ScheduleSlot)} (or use
+ * {@link #moveSlot(ScheduleSlot, DayOfWeek, LocalTime, LocalTime)}) and only the
+ * lanes the slot left and joined are touched.
+ *
+ * Not thread-safe - callers that mutate an index from several threads must
+ * synchronize externally.
+ *
+ * Location: src/main/java/com/heronix/service/impl/ScheduleConflictIndex.java
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 7B - Conflict Detection
+ */
+public class ScheduleConflictIndex {
+
+    /** Day code used for slots that have no day of week assigned yet */
+    private static final int NO_DAY = 7;
+
+    private static final Comparator<ScheduleSlot> BY_START_TIME =
+        Comparator.comparing(ScheduleSlot::getStartTime, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private static final Comparator<StudentEnrollment> BY_SLOT_START_TIME =
+        Comparator.comparing(e -> e.getScheduleSlot().getStartTime(),
+            Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final Schedule schedule;
+    private final List<ScheduleSlot> slots = new ArrayList<>();
+    private final Map<ScheduleSlot, IndexedSlot> indexedSlots = new IdentityHashMap<>();
+
+    private final Map<Long, List<ScheduleSlot>> teacherLanes = new HashMap<>();
+    private final Map<Long, List<ScheduleSlot>> roomLanes = new HashMap<>();
+    private final Map<Long, List<StudentEnrollment>> studentLanes = new HashMap<>();
+    private final Map<Long, Teacher> teachers = new LinkedHashMap<>();
+
+    private final Map<ScheduleSlot, List<StudentEnrollment>> enrollmentsBySlot = new IdentityHashMap<>();
+    private final Map<Long, Integer> activeEnrollmentCounts = new HashMap<>();
+    private final List<CourseSection> sections;
+
+    // ========================================================================
+    // CONSTRUCTION
+    // ========================================================================
+
+    /**
+     * Build an index for a schedule
+     *
+     * @param schedule    the schedule being indexed (used as the owner of detected conflicts)
+     * @param slots       the schedule's slots
+     * @param enrollments student enrollments for the schedule (may be empty for unsaved schedules)
+     * @param sections    course sections checked for under-enrollment
+     */
+    public ScheduleConflictIndex(Schedule schedule,
+                                 Collection<ScheduleSlot> slots,
+                                 Collection<StudentEnrollment> enrollments,
+                                 Collection<CourseSection> sections) {
+        this.schedule = schedule;
+        this.sections = sections != null ? new ArrayList<>(sections) : new ArrayList<>();
+
+        if (enrollments != null) {
+            for (StudentEnrollment enrollment : enrollments) {
+                indexEnrollment(enrollment);
+            }
+        }
+
+        if (slots != null) {
+            for (ScheduleSlot slot : slots) {
+                addSlot(slot);
+            }
+        }
+
+        // Enrollments may reference slots outside the indexed slot list;
+        // they still take part in student lanes at their slot's current day
+        for (Map.Entry<ScheduleSlot, List<StudentEnrollment>> entry : enrollmentsBySlot.entrySet()) {
+            ScheduleSlot slot = entry.getKey();
+            if (!indexedSlots.containsKey(slot) && slot.getDayOfWeek() != null) {
+                for (StudentEnrollment enrollment : entry.getValue()) {
+                    insertSorted(studentLanes.computeIfAbsent(
+                        laneKey(enrollment.getStudent().getId(), dayCode(slot.getDayOfWeek())), k -> new ArrayList<>()),
+                        enrollment, BY_SLOT_START_TIME);
+                }
+            }
+        }
+    }
+
+    // ========================================================================
+    // INCREMENTAL MAINTENANCE
+    // ========================================================================
+
+    /**
+     * Add a slot to the index. Adding a slot that is already indexed re-buckets it.
+     */
+    public void addSlot(ScheduleSlot slot) {
+        if (slot == null) {
+            return;
+        }
+        if (indexedSlots.containsKey(slot)) {
+            updateSlot(slot);
+            return;
+        }
+
+        slots.add(slot);
+        IndexedSlot indexed = new IndexedSlot();
+        indexedSlots.put(slot, indexed);
+        bucket(slot, indexed);
+    }
+
+    /**
+     * Re-bucket a slot after its teacher, room, day or time changed.
+     * Only the lanes the slot left and the lanes it joined are touched.
+     */
+    public void updateSlot(ScheduleSlot slot) {
+        IndexedSlot indexed = slot != null ? indexedSlots.get(slot) : null;
+        if (indexed == null) {
+            addSlot(slot);
+            return;
+        }
+
+        unbucket(slot, indexed);
+        bucket(slot, indexed);
+    }
+
+    /**
+     * Move a slot to a new day and time and update the index in one step
+     */
+    public void moveSlot(ScheduleSlot slot, DayOfWeek day, LocalTime startTime, LocalTime endTime) {
+        slot.setDayOfWeek(day);
+        slot.setStartTime(startTime);
+        slot.setEndTime(endTime);
+        updateSlot(slot);
+    }
+
+    /**
+     * Remove a slot from the index
+     */
+    public void removeSlot(ScheduleSlot slot) {
+        IndexedSlot indexed = slot != null ? indexedSlots.remove(slot) : null;
+        if (indexed == null) {
+            return;
+        }
+
+        unbucket(slot, indexed);
+        for (int i = 0; i < slots.size(); i++) {
+            if (slots.get(i) == slot) {
+                slots.remove(i);
+                break;
+            }
+        }
+    }
+
+    private void bucket(ScheduleSlot slot, IndexedSlot indexed) {
+        int day = dayCode(slot.getDayOfWeek());
+        indexed.day = day;
+
+        Teacher teacher = slot.getTeacher();
+        if (teacher != null && teacher.getId() != null) {
+            teachers.putIfAbsent(teacher.getId(), teacher);
+            indexed.teacherLane = laneKey(teacher.getId(), day);
+            insertSorted(teacherLanes.computeIfAbsent(indexed.teacherLane, k -> new ArrayList<>()),
+                slot, BY_START_TIME);
+        } else {
+            indexed.teacherLane = null;
+        }
+
+        Room room = slot.getRoom();
+        if (room != null && room.getId() != null) {
+            indexed.roomLane = laneKey(room.getId(), day);
+            insertSorted(roomLanes.computeIfAbsent(indexed.roomLane, k -> new ArrayList<>()),
+                slot, BY_START_TIME);
+        } else {
+            indexed.roomLane = null;
+        }
+
+        if (day != NO_DAY) {
+            for (StudentEnrollment enrollment : enrollmentsBySlot.getOrDefault(slot, Collections.emptyList())) {
+                insertSorted(studentLanes.computeIfAbsent(
+                    laneKey(enrollment.getStudent().getId(), day), k -> new ArrayList<>()),
+                    enrollment, BY_SLOT_START_TIME);
+            }
+        }
+    }
+
+    private void unbucket(ScheduleSlot slot, IndexedSlot indexed) {
+        if (indexed.teacherLane != null) {
+            removeFromLane(teacherLanes, indexed.teacherLane, slot);
+        }
+        if (indexed.roomLane != null) {
+            removeFromLane(roomLanes, indexed.roomLane, slot);
+        }
+        if (indexed.day != NO_DAY) {
+            for (StudentEnrollment enrollment : enrollmentsBySlot.getOrDefault(slot, Collections.emptyList())) {
+                removeFromLane(studentLanes, laneKey(enrollment.getStudent().getId(), indexed.day), enrollment);
+            }
+        }
+    }
+
+    private void indexEnrollment(StudentEnrollment enrollment) {
+        if (enrollment == null || !enrollment.isActive() || enrollment.getScheduleSlot() == null) {
+            return;
+        }
+
+        ScheduleSlot slot = enrollment.getScheduleSlot();
+        if (slot.getId() != null) {
+            activeEnrollmentCounts.merge(slot.getId(), 1, Integer::sum);
+        }
+
+        if (enrollment.getStudent() == null || enrollment.getStudent().getId() == null) {
+            return;
+        }
+
+        enrollmentsBySlot.computeIfAbsent(slot, k -> new ArrayList<>()).add(enrollment);
+    }
+
+    // ========================================================================
+    // QUERIES
+    // ========================================================================
+
+    public Schedule getSchedule() {
+        return schedule;
+    }
+
+    public List<ScheduleSlot> getSlots() {
+        return Collections.unmodifiableList(slots);
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    public boolean contains(ScheduleSlot slot) {
+        return slot != null && indexedSlots.containsKey(slot);
+    }
+
+    public List<CourseSection> getSections() {
+        return Collections.unmodifiableList(sections);
+    }
+
+    /**
+     * Teachers that have at least one indexed slot, in first-seen order
+     */
+    public Collection<Teacher> getTeachers() {
+        return Collections.unmodifiableCollection(teachers.values());
+    }
+
+    /**
+     * A teacher's slots on one day, sorted by start time
+     */
+    public List<ScheduleSlot> getTeacherSlots(Teacher teacher, DayOfWeek day) {
+        if (teacher == null || teacher.getId() == null || day == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(
+            teacherLanes.getOrDefault(laneKey(teacher.getId(), dayCode(day)), Collections.emptyList()));
+    }
+
+    /**
+     * A teacher's scheduled slots for the whole week, sorted by day and start time.
+     * Slots without a day of week are not included.
+     */
+    public List<ScheduleSlot> getTeacherWeek(Teacher teacher) {
+        List<ScheduleSlot> week = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            week.addAll(getTeacherSlots(teacher, day));
+        }
+        return week;
+    }
+
+    /**
+     * A room's slots on one day, sorted by start time
+     */
+    public List<ScheduleSlot> getRoomSlots(Room room, DayOfWeek day) {
+        if (room == null || room.getId() == null || day == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(
+            roomLanes.getOrDefault(laneKey(room.getId(), dayCode(day)), Collections.emptyList()));
+    }
+
+    /**
+     * Number of active enrollments in a slot
+     */
+    public int getEnrollmentCount(ScheduleSlot slot) {
+        if (slot == null || slot.getId() == null) {
+            return 0;
+        }
+        return activeEnrollmentCounts.getOrDefault(slot.getId(), 0);
+    }
+
+    /**
+     * Slots taught by the same teacher on the same day whose times overlap the given slot.
+     * The slot itself (or a slot with the same ID) is excluded.
+     */
+    public List<ScheduleSlot> findTeacherOverlaps(ScheduleSlot slot) {
+        if (slot.getTeacher() == null || slot.getTeacher().getId() == null || slot.getDayOfWeek() == null) {
+            return Collections.emptyList();
+        }
+        return findOverlaps(teacherLanes.get(laneKey(slot.getTeacher().getId(), dayCode(slot.getDayOfWeek()))), slot);
+    }
+
+    /**
+     * Slots in the same room on the same day whose times overlap the given slot.
+     * The slot itself (or a slot with the same ID) is excluded.
+     */
+    public List<ScheduleSlot> findRoomOverlaps(ScheduleSlot slot) {
+        if (slot.getRoom() == null || slot.getRoom().getId() == null || slot.getDayOfWeek() == null) {
+            return Collections.emptyList();
+        }
+        return findOverlaps(roomLanes.get(laneKey(slot.getRoom().getId(), dayCode(slot.getDayOfWeek()))), slot);
+    }
+
+    /**
+     * Visit every pair of slots that share a teacher and overlap in time
+     *
+     * @param includeUnscheduled also pair up slots that have no day of week
+     *                           (they are compared on time alone)
+     */
+    public void forEachTeacherOverlap(boolean includeUnscheduled, BiConsumer<ScheduleSlot, ScheduleSlot> consumer) {
+        forEachOverlap(teacherLanes, includeUnscheduled, consumer);
+    }
+
+    /**
+     * Visit every pair of slots that share a room and overlap in time
+     *
+     * @param includeUnscheduled also pair up slots that have no day of week
+     *                           (they are compared on time alone)
+     */
+    public void forEachRoomOverlap(boolean includeUnscheduled, BiConsumer<ScheduleSlot, ScheduleSlot> consumer) {
+        forEachOverlap(roomLanes, includeUnscheduled, consumer);
+    }
+
+    /**
+     * Visit every pair of active enrollments of the same student whose slots overlap
+     */
+    public void forEachStudentOverlap(BiConsumer<StudentEnrollment, StudentEnrollment> consumer) {
+        for (List<StudentEnrollment> lane : studentLanes.values()) {
+            for (int i = 0; i < lane.size(); i++) {
+                ScheduleSlot first = lane.get(i).getScheduleSlot();
+                if (first.getStartTime() == null || first.getEndTime() == null) {
+                    continue;
+                }
+                for (int j = i + 1; j < lane.size(); j++) {
+                    ScheduleSlot second = lane.get(j).getScheduleSlot();
+                    if (second.getStartTime() == null || !second.getStartTime().isBefore(first.getEndTime())) {
+                        break;
+                    }
+                    if (timesOverlap(first, second)) {
+                        consumer.accept(lane.get(i), lane.get(j));
+                    }
+                }
+            }
+        }
+    }
+
+    // ========================================================================
+    // HELPER METHODS
+    // ========================================================================
+
+    private static void forEachOverlap(Map<Long, List<ScheduleSlot>> lanes, boolean includeUnscheduled,
+                                       BiConsumer<ScheduleSlot, ScheduleSlot> consumer) {
+        for (Map.Entry<Long, List<ScheduleSlot>> entry : lanes.entrySet()) {
+            if (!includeUnscheduled && (int) (entry.getKey() & 7) == NO_DAY) {
+                continue;
+            }
+
+            List<ScheduleSlot> lane = entry.getValue();
+            for (int i = 0; i < lane.size(); i++) {
+                ScheduleSlot first = lane.get(i);
+                if (first.getStartTime() == null || first.getEndTime() == null) {
+                    continue;
+                }
+                // Lane is sorted by start time, so stop at the first slot starting after this one ends
+                for (int j = i + 1; j < lane.size(); j++) {
+                    ScheduleSlot second = lane.get(j);
+                    if (second.getStartTime() == null || !second.getStartTime().isBefore(first.getEndTime())) {
+                        break;
+                    }
+                    if (timesOverlap(first, second)) {
+                        consumer.accept(first, second);
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<ScheduleSlot> findOverlaps(List<ScheduleSlot> lane, ScheduleSlot slot) {
+        if (lane == null || lane.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<ScheduleSlot> overlaps = new ArrayList<>();
+        for (ScheduleSlot other : lane) {
+            if (other == slot || (slot.getId() != null && slot.getId().equals(other.getId()))) {
+                continue;
+            }
+            if (other.getStartTime() == null || slot.getEndTime() == null ||
+                !other.getStartTime().isBefore(slot.getEndTime())) {
+                break;
+            }
+            if (timesOverlap(slot, other)) {
+                overlaps.add(other);
+            }
+        }
+        return overlaps;
+    }
+
+    private static boolean timesOverlap(ScheduleSlot slot1, ScheduleSlot slot2) {
+        if (slot1.getStartTime() == null || slot1.getEndTime() == null ||
+            slot2.getStartTime() == null || slot2.getEndTime() == null) {
+            return false;
+        }
+        return slot1.getStartTime().isBefore(slot2.getEndTime()) &&
+               slot2.getStartTime().isBefore(slot1.getEndTime());
+    }
+
+    private static <T> void insertSorted(List<T> lane, T item, Comparator<? super T> comparator) {
+        int position = lane.size();
+        while (position > 0 && comparator.compare(lane.get(position - 1), item) > 0) {
+            position--;
+        }
+        lane.add(position, item);
+    }
+
+    private static <T> void removeFromLane(Map<Long, List<T>> lanes, Long key, T item) {
+        List<T> lane = lanes.get(key);
+        if (lane == null) {
+            return;
+        }
+        for (int i = 0; i < lane.size(); i++) {
+            if (lane.get(i) == item) {
+                lane.remove(i);
+                break;
+            }
+        }
+        if (lane.isEmpty()) {
+            lanes.remove(key);
+        }
+    }
+
+    private static int dayCode(DayOfWeek day) {
+        return day != null ? day.ordinal() : NO_DAY;
+    }
+
+    private static long laneKey(long entityId, int dayCode) {
+        return (entityId << 3) | dayCode;
+    }
+
+    /**
+     * Lanes a slot was bucketed into, so it can be removed after its fields change
+     */
+    private static final class IndexedSlot {
+        private Long teacherLane;
+        private Long roomLane;
+        private int day;
+    }
+}
@@ -0,0 +1,855 @@
+package com.heronix.service.impl;
+
+import com.heronix.model.domain.*;
+import com.heronix.model.enums.ConflictSeverity;
+import com.heronix.model.enums.ConflictType;
+import com.heronix.model.enums.RoomType;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Schedule Genome
+ * Compact, array-based encoding of a schedule's slot placements with
+ * incremental fitness scoring, used by the genetic algorithm.
+ *
+ * Each slot is one gene: day, start and end (seconds of day) and a room index,
+ * held in a {@link CompactSchedule}, the primitive-array encoding the other
+ * optimizers share. Teachers and courses never change during optimization, so
+ * they are encoded once in a {@link Layout} shared by every genome of a run.
+ *
+ * Operators change genes through {@link #setTime}, {@link #setDay},
+ * {@link #setRoom}, {@link #swapTimes} and {@link #copyGene}. Each change only
+ * marks the teacher and rooms it touched; those are rescored on the next
+ * {@link #fitness()} call. The score itself is kept as penalty counters - the
+ * number of conflicts in each (severity, type, affected entities) class - so
+ * evaluating a genome is a short sum instead of a conflict detection run.
+ *
+ * The counters reproduce the checks {@code ConflictDetectorServiceImpl.detectAllConflicts}
+ * runs on an unsaved working copy (which has no enrollments), scored with the
+ * same penalties as {@link FitnessEvaluator#evaluate}. Changes to those checks
+ * must be mirrored here.
+ *
+ * Not thread-safe; genomes are cheap to {@link #copy()}. Once scored by
+ * {@link #fitness()}, a genome that is no longer changed may be used as a
+ * {@link #copy()} or {@link #copyGene} source from several threads.
+ *
+ * Location: src/main/java/com/heronix/service/impl/ScheduleGenome.java
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 7C - Schedule Optimization
+ */
+public class ScheduleGenome {
+
+    /** Day code for slots with no day of week */
+    public static final int NO_DAY = CompactSchedule.NO_DAY;
+
+    /** Time value for slots with no start or end time */
+    public static final int NO_TIME = CompactSchedule.NO_TIME;
+
+    /** Index value for slots with no room (or no teacher / course) */
+    public static final int NONE = CompactSchedule.NONE;
+
+    private static final double PERFECT_SCORE = 10000.0;
+
+    private static final int LUNCH_START = 11 * 3600;
+    private static final int LUNCH_END = 13 * 3600;
+    private static final int MIN_LUNCH_MINUTES = 30;
+    private static final int PREP_PERIOD_THRESHOLD = 7;
+    private static final int LUNCH_CHECK_THRESHOLD = 5;
+
+    // Penalty classes (consecutive-class limits add one class per distinct limit)
+    private static final int TEACHER_CRITICAL = 0;  // teacher time overlap / double-booked
+    private static final int ROOM_CRITICAL = 1;     // room time overlap / double-booked
+    private static final int TEACHER_LOW = 2;       // back-to-back without break, subject mismatch
+    private static final int TEACHER_MEDIUM = 3;    // missing lunch, missing prep period
+    private static final int TEACHER_HIGH = 4;      // excessive teaching hours
+    private static final int ROOM_MEDIUM = 5;       // lab course outside a lab
+    private static final int ROOM_LOW = 6;          // subject room mismatch
+    private static final int FIXED_CLASSES = 7;
+
+    // Per-teacher terms
+    private static final int TERM_CRITICAL = 0;
+    private static final int TERM_LOW = 1;
+    private static final int TERM_MEDIUM = 2;
+    private static final int TERM_HIGH = 3;
+    private static final int TERM_CONSECUTIVE = 4;
+    private static final int TEACHER_TERMS = 5;
+
+    private final Layout layout;
+
+    // Genes (views of the arrays in genes)
+    private final CompactSchedule genes;
+    private final int[] day;
+    private final int[] start;
+    private final int[] end;
+    private final int[] room;
+
+    // Slots per room as intrusive doubly-linked lists
+    private final int[] roomHead;
+    private final int[] nextInRoom;
+    private final int[] prevInRoom;
+    private final int[] roomUsage;
+
+    // Penalty counters
+    private final int[] teacherTerms;
+    private final int[] roomConflicts;
+    private final int[] counters;
+
+    // Pending rescoring
+    private final boolean[] teacherDirty;
+    private final int[] dirtyTeachers;
+    private int dirtyTeacherCount;
+    private final boolean[] roomDirty;
+    private final int[] dirtyRooms;
+    private int dirtyRoomCount;
+    private boolean utilizationDirty;
+    private double utilizationBonus;
+
+    // Scratch space for ordering one teacher's slots
+    private final int[] scratch;
+
+    // ========================================================================
+    // CONSTRUCTION
+    // ========================================================================
+
+    /**
+     * Encode a schedule
+     *
+     * @param schedule       the schedule to encode; its slots are the ones {@link #applyTo()} writes back to
+     * @param penalties      penalty for one conflict of a given severity, type and affected entity count
+     * @param fixedPenalty   penalty of conflicts that don't depend on slot placement (e.g. under-enrollment)
+     * @param fixedConflicts number of those conflicts
+     */
+    ScheduleGenome(Schedule schedule, PenaltyFunction penalties, double fixedPenalty, int fixedConflicts) {
+        this(CompactSchedule.of(schedule.getSlots()), penalties, fixedPenalty, fixedConflicts);
+    }
+
+    /**
+     * Encode the placements of a compact schedule; the genome works on its own copy
+     *
+     * @param placements     the placements to start from
+     * @param penalties      penalty for one conflict of a given severity, type and affected entity count
+     * @param fixedPenalty   penalty of conflicts that don't depend on slot placement (e.g. under-enrollment)
+     * @param fixedConflicts number of those conflicts
+     */
+    ScheduleGenome(CompactSchedule placements, PenaltyFunction penalties, double fixedPenalty, int fixedConflicts) {
+        this.layout = new Layout(placements.index, penalties, fixedPenalty, fixedConflicts);
+
+        int slotCount = layout.slots.size();
+        int roomCount = layout.rooms.length;
+        int teacherCount = layout.teacherSlots.length;
+
+        genes = placements.copy();
+        day = genes.day;
+        start = genes.start;
+        end = genes.end;
+        room = genes.room;
+        roomHead = new int[roomCount];
+        nextInRoom = new int[slotCount];
+        prevInRoom = new int[slotCount];
+        roomUsage = new int[roomCount];
+        teacherTerms = new int[teacherCount * TEACHER_TERMS];
+        roomConflicts = new int[roomCount];
+        counters = new int[layout.classPenalty.length];
+        teacherDirty = new boolean[teacherCount];
+        dirtyTeachers = new int[teacherCount];
+        roomDirty = new boolean[roomCount];
+        dirtyRooms = new int[roomCount];
+        scratch = new int[layout.maxTeacherSlots];
+
+        Arrays.fill(roomHead, NONE);
+
+        // Link every slot into its room's list
+        for (int i = 0; i < slotCount; i++) {
+            int roomIndex = room[i];
+            room[i] = NONE;
+            setRoom(i, roomIndex);
+        }
+
+        for (int t = 0; t < teacherCount; t++) {
+            markTeacher(t);
+        }
+        utilizationDirty = true;
+    }
+
+    private ScheduleGenome(ScheduleGenome other) {
+        this.layout = other.layout;
+        this.genes = other.genes.copy();
+        this.day = genes.day;
+        this.start = genes.start;
+        this.end = genes.end;
+        this.room = genes.room;
+        this.roomHead = other.roomHead.clone();
+        this.nextInRoom = other.nextInRoom.clone();
+        this.prevInRoom = other.prevInRoom.clone();
+        this.roomUsage = other.roomUsage.clone();
+        this.teacherTerms = other.teacherTerms.clone();
+        this.roomConflicts = other.roomConflicts.clone();
+        this.counters = other.counters.clone();
+        this.teacherDirty = new boolean[other.teacherDirty.length];
+        this.dirtyTeachers = new int[other.dirtyTeachers.length];
+        this.roomDirty = new boolean[other.roomDirty.length];
+        this.dirtyRooms = new int[other.dirtyRooms.length];
+        this.utilizationDirty = other.utilizationDirty;
+        this.utilizationBonus = other.utilizationBonus;
+        this.scratch = new int[other.scratch.length];
+    }
+
+    /**
+     * Independent copy of this genome (shares the immutable layout)
+     */
+    public ScheduleGenome copy() {
+        flush();
+        return new ScheduleGenome(this);
+    }
+
+    // ========================================================================
+    // GENES
+    // ========================================================================
+
+    public int size() {
+        return day.length;
+    }
+
+    public int getRoomCount() {
+        return layout.rooms.length;
+    }
+
+    public int getDay(int slot) {
+        return day[slot];
+    }
+
+    public int getStart(int slot) {
+        return start[slot];
+    }
+
+    public int getEnd(int slot) {
+        return end[slot];
+    }
+
+    public int getRoom(int slot) {
+        return room[slot];
+    }
+
+    /**
+     * Move a slot to a new day and time
+     *
+     * @param dayCode  {@link DayOfWeek#ordinal()} or {@link #NO_DAY}
+     * @param startSec start as seconds of day, or {@link #NO_TIME}
+     * @param endSec   end as seconds of day, or {@link #NO_TIME}
+     */
+    public void setTime(int slot, int dayCode, int startSec, int endSec) {
+        if (day[slot] == dayCode && start[slot] == startSec && end[slot] == endSec) {
+            return;
+        }
+
+        day[slot] = dayCode;
+        start[slot] = startSec;
+        end[slot] = endSec;
+
+        markTeacher(layout.slotTeacher[slot]);
+        markRoom(room[slot]);
+    }
+
+    /**
+     * Move a slot to another day, keeping its time
+     */
+    public void setDay(int slot, int dayCode) {
+        setTime(slot, dayCode, start[slot], end[slot]);
+    }
+
+    /**
+     * Move a slot to another room
+     *
+     * @param roomIndex index in this genome's room table, or {@link #NONE}
+     */
+    public void setRoom(int slot, int roomIndex) {
+        int old = room[slot];
+        if (old == roomIndex) {
+            return;
+        }
+
+        if (old != NONE) {
+            unlinkRoom(slot, old);
+            roomUsage[layout.usageBucket[old]]--;
+            markRoom(old);
+            countRoomMismatch(slot, old, -1);
+        }
+
+        room[slot] = roomIndex;
+
+        if (roomIndex != NONE) {
+            linkRoom(slot, roomIndex);
+            roomUsage[layout.usageBucket[roomIndex]]++;
+            markRoom(roomIndex);
+            countRoomMismatch(slot, roomIndex, 1);
+        }
+
+        utilizationDirty = true;
+    }
+
+    /**
+     * Exchange the day and time of two slots (rooms stay put)
+     */
+    public void swapTimes(int slot1, int slot2) {
+        int tempDay = day[slot1];
+        int tempStart = start[slot1];
+        int tempEnd = end[slot1];
+
+        setTime(slot1, day[slot2], start[slot2], end[slot2]);
+        setTime(slot2, tempDay, tempStart, tempEnd);
+    }
+
+    /**
+     * Copy one slot's day, time and room from another genome of the same schedule
+     */
+    public void copyGene(int slot, ScheduleGenome other) {
+        setTime(slot, other.day[slot], other.start[slot], other.end[slot]);
+        setRoom(slot, other.room[slot]);
+    }
+
+    // ========================================================================
+    // FITNESS
+    // ========================================================================
+
+    /**
+     * Fitness of the current genes. Higher is better; same scale as {@link FitnessEvaluator#evaluate}.
+     */
+    public double fitness() {
+        flush();
+
+        double penalty = layout.fixedPenalty;
+        for (int k = 0; k < counters.length; k++) {
+            penalty += counters[k] * layout.classPenalty[k];
+        }
+
+        double fitness = PERFECT_SCORE - penalty + utilizationBonus() + layout.balanceBonus;
+        return Math.max(0, fitness);
+    }
+
+    /**
+     * Number of conflicts in the current genes; same as {@link FitnessEvaluator#getConflictCount}
+     */
+    public int getConflictCount() {
+        flush();
+
+        int total = layout.fixedConflicts;
+        for (int counter : counters) {
+            total += counter;
+        }
+        return total;
+    }
+
+    // ========================================================================
+    // DECODING
+    // ========================================================================
+
+    /**
+     * Write the genes back to the slots of the schedule this genome was encoded from
+     */
+    public void applyTo() {
+        genes.applyTo();
+    }
+
+    /**
+     * Copy of the genes as a plain compact schedule, e.g. to hand over to another optimizer
+     */
+    public CompactSchedule toCompactSchedule() {
+        return genes.copy();
+    }
+
+    public static int dayCode(DayOfWeek dayOfWeek) {
+        return CompactSchedule.dayCode(dayOfWeek);
+    }
+
+    public static int timeCode(LocalTime time) {
+        return CompactSchedule.timeCode(time);
+    }
+
+    // ========================================================================
+    // INCREMENTAL RESCORING
+    // ========================================================================
+
+    private void markTeacher(int teacher) {
+        if (teacher != NONE && !teacherDirty[teacher]) {
+            teacherDirty[teacher] = true;
+            dirtyTeachers[dirtyTeacherCount++] = teacher;
+        }
+    }
+
+    private void markRoom(int roomIndex) {
+        if (roomIndex != NONE && layout.roomIndexed[roomIndex] && !roomDirty[roomIndex]) {
+            roomDirty[roomIndex] = true;
+            dirtyRooms[dirtyRoomCount++] = roomIndex;
+        }
+    }
+
+    private void flush() {
+        // Scored genomes are left untouched, so they can be shared read-only
+        if (dirtyTeacherCount == 0 && dirtyRoomCount == 0) {
+            return;
+        }
+
+        for (int i = 0; i < dirtyTeacherCount; i++) {
+            int teacher = dirtyTeachers[i];
+            teacherDirty[teacher] = false;
+            rescoreTeacher(teacher);
+        }
+        dirtyTeacherCount = 0;
+
+        for (int i = 0; i < dirtyRoomCount; i++) {
+            int roomIndex = dirtyRooms[i];
+            roomDirty[roomIndex] = false;
+            rescoreRoom(roomIndex);
+        }
+        dirtyRoomCount = 0;
+    }
+
+    /**
+     * Recount every teacher-based conflict for one teacher: time overlaps,
+     * double-bookings, back-to-back classes, missing lunch, consecutive classes,
+     * excessive hours and missing prep periods
+     */
+    private void rescoreTeacher(int teacher) {
+        int[] members = layout.teacherSlots[teacher];
+        int n = members.length;
+
+        // Order by day, then start time (missing times last), then slot order -
+        // the same order the conflict index keeps its lanes in
+        System.arraycopy(members, 0, scratch, 0, n);
+        for (int i = 1; i < n; i++) {
+            int slot = scratch[i];
+            int j = i - 1;
+            while (j >= 0 && compareSlots(scratch[j], slot) > 0) {
+                scratch[j + 1] = scratch[j];
+                j--;
+            }
+            scratch[j + 1] = slot;
+        }
+
+        int critical = 0;
+        int low = 0;
+        int medium = 0;
+        int high = 0;
+        int consecutive = 0;
+
+        // Per-day checks
+        int groupStart = 0;
+        while (groupStart < n) {
+            int groupDay = day[scratch[groupStart]];
+            int groupEnd = groupStart + 1;
+            while (groupEnd < n && day[scratch[groupEnd]] == groupDay) {
+                groupEnd++;
+            }
+
+            int overlaps = countOverlaps(groupStart, groupEnd);
+            if (groupDay == NO_DAY) {
+                // Unscheduled slots only take part in the time overlap check
+                critical += overlaps;
+            } else {
+                // Time overlap + double-booked
+                critical += 2 * overlaps;
+
+                int periods = groupEnd - groupStart;
+                if (periods >= LUNCH_CHECK_THRESHOLD && !hasLunchBreak(groupStart, groupEnd)) {
+                    medium++;
+                }
+                if (periods > layout.maxPeriodsPerDay[teacher]) {
+                    high++;
+                }
+                if (periods >= PREP_PERIOD_THRESHOLD) {
+                    medium++;
+                }
+            }
+            groupStart = groupEnd;
+        }
+
+        // Week checks (scheduled slots only)
+        int weekEnd = n;
+        while (weekEnd > 0 && day[scratch[weekEnd - 1]] == NO_DAY) {
+            weekEnd--;
+        }
+
+        int consecutiveCount = 1;
+        for (int i = 0; i < weekEnd - 1; i++) {
+            int current = scratch[i];
+            int next = scratch[i + 1];
+
+            boolean backToBack = day[current] == day[next] &&
+                end[current] != NO_TIME && start[next] != NO_TIME &&
+                end[current] == start[next];
+
+            if (backToBack && layout.checkBackToBack[teacher]) {
+                low++;
+            }
+
+            // Excessive consecutive classes are reported once per teacher
+            if (consecutive == 0) {
+                if (backToBack) {
+                    consecutiveCount++;
+                    if (consecutiveCount > layout.maxConsecutive[teacher]) {
+                        consecutive = 1;
+                    }
+                } else {
+                    consecutiveCount = 1;
+                }
+            }
+        }
+
+        int base = teacher * TEACHER_TERMS;
+        counters[TEACHER_CRITICAL] += critical - teacherTerms[base + TERM_CRITICAL];
+        counters[TEACHER_LOW] += low - teacherTerms[base + TERM_LOW];
+        counters[TEACHER_MEDIUM] += medium - teacherTerms[base + TERM_MEDIUM];
+        counters[TEACHER_HIGH] += high - teacherTerms[base + TERM_HIGH];
+        counters[layout.consecutiveClass[teacher]] += consecutive - teacherTerms[base + TERM_CONSECUTIVE];
+
+        teacherTerms[base + TERM_CRITICAL] = critical;
+        teacherTerms[base + TERM_LOW] = low;
+        teacherTerms[base + TERM_MEDIUM] = medium;
+        teacherTerms[base + TERM_HIGH] = high;
+        teacherTerms[base + TERM_CONSECUTIVE] = consecutive;
+    }
+
+    /**
+     * Recount room time overlaps and double-bookings for one room
+     */
+    private void rescoreRoom(int roomIndex) {
+        int conflicts = 0;
+
+        for (int a = roomHead[roomIndex]; a != NONE; a = nextInRoom[a]) {
+            for (int b = nextInRoom[a]; b != NONE; b = nextInRoom[b]) {
+                if (day[a] != day[b] || !timesOverlap(a, b)) {
+                    continue;
+                }
+                // Double-booked (scheduled slots only)
+                if (day[a] != NO_DAY) {
+                    conflicts++;
+                }
+                // Room time overlap, unless already reported as a teacher overlap
+                int teacher = layout.slotTeacher[a];
+                if (teacher == NONE || teacher != layout.slotTeacher[b]) {
+                    conflicts++;
+                }
+            }
+        }
+
+        counters[ROOM_CRITICAL] += conflicts - roomConflicts[roomIndex];
+        roomConflicts[roomIndex] = conflicts;
+    }
+
+    private int countOverlaps(int from, int to) {
+        int overlaps = 0;
+        for (int i = from; i < to; i++) {
+            for (int j = i + 1; j < to; j++) {
+                if (timesOverlap(scratch[i], scratch[j])) {
+                    overlaps++;
+                }
+            }
+        }
+        return overlaps;
+    }
+
+    private boolean hasLunchBreak(int from, int to) {
+        for (int i = from; i < to - 1; i++) {
+            int current = scratch[i];
+            int next = scratch[i + 1];
+
+            if (end[current] != NO_TIME && start[next] != NO_TIME &&
+                end[current] < LUNCH_END && start[next] > LUNCH_START &&
+                (start[next] - end[current]) / 60 >= MIN_LUNCH_MINUTES) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int compareSlots(int a, int b) {
+        if (day[a] != day[b]) {
+            return Integer.compare(day[a], day[b]);
+        }
+        if (start[a] != start[b]) {
+            // Missing start times sort last
+            if (start[a] == NO_TIME) return 1;
+            if (start[b] == NO_TIME) return -1;
+            return Integer.compare(start[a], start[b]);
+        }
+        return Integer.compare(a, b);
+    }
+
+    private boolean timesOverlap(int a, int b) {
+        return start[a] != NO_TIME && end[a] != NO_TIME && start[b] != NO_TIME && end[b] != NO_TIME &&
+               start[a] < end[b] && start[b] < end[a];
+    }
+
+    private void countRoomMismatch(int slot, int roomIndex, int sign) {
+        int course = layout.slotCourse[slot];
+        if (course == NONE) {
+            return;
+        }
+        int code = layout.roomMismatch[course * layout.rooms.length + roomIndex];
+        counters[ROOM_MEDIUM] += sign * (code & 1);
+        counters[ROOM_LOW] += sign * (code >> 1);
+    }
+
+    private double utilizationBonus() {
+        if (!utilizationDirty) {
+            return utilizationBonus;
+        }
+        utilizationDirty = false;
+        utilizationBonus = 0.0;
+
+        int used = 0;
+        for (int usage : roomUsage) {
+            if (usage > 0) {
+                used++;
+            }
+        }
+        if (used == 0) {
+            return utilizationBonus;
+        }
+
+        // Reward balanced room usage (not overusing single rooms)
+        double avgUsage = day.length / (double) used;
+        double sum = 0.0;
+        for (int usage : roomUsage) {
+            if (usage > 0) {
+                sum += Math.pow(usage - avgUsage, 2);
+            }
+        }
+        double variance = sum / used;
+        utilizationBonus = 1.0 / (1.0 + Math.sqrt(variance)) * 50;
+        return utilizationBonus;
+    }
+
+    private void linkRoom(int slot, int roomIndex) {
+        int head = roomHead[roomIndex];
+        prevInRoom[slot] = NONE;
+        nextInRoom[slot] = head;
+        if (head != NONE) {
+            prevInRoom[head] = slot;
+        }
+        roomHead[roomIndex] = slot;
+    }
+
+    private void unlinkRoom(int slot, int roomIndex) {
+        int prev = prevInRoom[slot];
+        int next = nextInRoom[slot];
+        if (prev != NONE) {
+            nextInRoom[prev] = next;
+        } else {
+            roomHead[roomIndex] = next;
+        }
+        if (next != NONE) {
+            prevInRoom[next] = prev;
+        }
+        prevInRoom[slot] = NONE;
+        nextInRoom[slot] = NONE;
+    }
+
+    // ========================================================================
+    // SUPPORTING CLASSES
+    // ========================================================================
+
+    /**
+     * Penalty for one conflict of a given severity, type and number of affected entities
+     */
+    @FunctionalInterface
+    interface PenaltyFunction {
+        double penalty(ConflictSeverity severity, ConflictType type, int affectedCount);
+    }
+
+    /**
+     * Everything about a schedule that optimization doesn't change, shared by all its genomes
+     */
+    private static final class Layout {
+        private final List<ScheduleSlot> slots;
+        private final int[] slotTeacher;
+        private final int[] slotCourse;
+        private final int[] slotRoom;
+        private final Room[] slotRoomEntities;
+
+        private final Room[] rooms;
+        private final boolean[] roomIndexed;
+        private final int[] usageBucket;
+        private final byte[] roomMismatch;
+
+        private final int[][] teacherSlots;
+        private final int maxTeacherSlots;
+        private final boolean[] checkBackToBack;
+        private final int[] maxConsecutive;
+        private final int[] maxPeriodsPerDay;
+        private final int[] consecutiveClass;
+
+        private final double[] classPenalty;
+        private final double fixedPenalty;
+        private final int fixedConflicts;
+        private final double balanceBonus;
+
+        private Layout(CompactSchedule.Index index, PenaltyFunction penalties, double fixedPenalty, int fixedConflicts) {
+            this.slots = index.slots;
+            this.slotTeacher = index.slotTeacher;
+            this.slotRoom = index.slotRoom;
+            this.slotRoomEntities = index.slotRoomEntities;
+            this.rooms = index.rooms;
+            this.roomIndexed = index.roomIndexed;
+            // Room usage is counted by room ID, so all unsaved rooms share one count
+            this.usageBucket = index.roomKey;
+
+            int n = slots.size();
+            slotCourse = new int[n];
+            List<Teacher> teachers = Arrays.asList(index.teachers);
+            Map<Course, Integer> courseIndex = new IdentityHashMap<>();
+            List<Course> courses = new ArrayList<>();
+            Map<Long, Integer> teacherSlotCounts = new HashMap<>();
+
+            for (int i = 0; i < n; i++) {
+                ScheduleSlot slot = slots.get(i);
+
+                Teacher teacher = slot.getTeacher();
+                if (teacher != null) {
+                    teacherSlotCounts.merge(teacher.getId(), 1, Integer::sum);
+                }
+
+                Course course = slot.getCourse();
+                if (course != null) {
+                    slotCourse[i] = courseIndex.computeIfAbsent(course, c -> {
+                        courses.add(c);
+                        return courses.size() - 1;
+                    });
+                } else {
+                    slotCourse[i] = NONE;
+                }
+            }
+
+            roomMismatch = new byte[courses.size() * rooms.length];
+            for (int c = 0; c < courses.size(); c++) {
+                for (int r = 0; r < rooms.length; r++) {
+                    roomMismatch[c * rooms.length + r] = roomMismatchCode(courses.get(c), rooms[r]);
+                }
+            }
+
+            // Penalty classes
+            List<Double> classes = new ArrayList<>(List.of(
+                penalties.penalty(ConflictSeverity.CRITICAL, ConflictType.TEACHER_OVERLOAD, 3),
+                penalties.penalty(ConflictSeverity.CRITICAL, ConflictType.ROOM_DOUBLE_BOOKING, 3),
+                penalties.penalty(ConflictSeverity.LOW, ConflictType.TEACHER_OVERLOAD, 3),
+                penalties.penalty(ConflictSeverity.MEDIUM, ConflictType.TEACHER_OVERLOAD, 1),
+                penalties.penalty(ConflictSeverity.HIGH, ConflictType.TEACHER_OVERLOAD, 1),
+                penalties.penalty(ConflictSeverity.MEDIUM, ConflictType.ROOM_DOUBLE_BOOKING, 3),
+                penalties.penalty(ConflictSeverity.LOW, ConflictType.ROOM_DOUBLE_BOOKING, 3)
+            ));
+
+            // Teachers
+            int teacherCount = teachers.size();
+            int[] slotCounts = new int[teacherCount];
+            for (int teacher : slotTeacher) {
+                if (teacher != NONE) {
+                    slotCounts[teacher]++;
+                }
+            }
+            teacherSlots = new int[teacherCount][];
+            for (int t = 0; t < teacherCount; t++) {
+                teacherSlots[t] = new int[slotCounts[t]];
+            }
+            int[] fill = new int[teacherCount];
+            for (int i = 0; i < n; i++) {
+                if (slotTeacher[i] != NONE) {
+                    teacherSlots[slotTeacher[i]][fill[slotTeacher[i]]++] = i;
+                }
+            }
+            maxTeacherSlots = Arrays.stream(slotCounts).max().orElse(0);
+
+            checkBackToBack = new boolean[teacherCount];
+            maxConsecutive = new int[teacherCount];
+            maxPeriodsPerDay = new int[teacherCount];
+            consecutiveClass = new int[teacherCount];
+            Map<Integer, Integer> consecutiveClasses = new HashMap<>();
+
+            for (int t = 0; t < teacherCount; t++) {
+                Teacher teacher = teachers.get(t);
+                checkBackToBack[t] = teacher.getPreferredBreakMinutes() != null && teacher.getPreferredBreakMinutes() > 0;
+                maxConsecutive[t] = teacher.getMaxConsecutiveHours() != null ? teacher.getMaxConsecutiveHours() : 4;
+                maxPeriodsPerDay[t] = teacher.getMaxPeriodsPerDay() != null ? teacher.getMaxPeriodsPerDay() : 7;
+
+                // Reported when the run first exceeds the limit; affects the run's slots plus the teacher
+                int affected = Math.max(maxConsecutive[t] + 1, 2) + 1;
+                consecutiveClass[t] = consecutiveClasses.computeIfAbsent(affected, a -> {
+                    classes.add(penalties.penalty(ConflictSeverity.MEDIUM, ConflictType.TEACHER_OVERLOAD, a));
+                    return classes.size() - 1;
+                });
+            }
+
+            classPenalty = classes.stream().mapToDouble(Double::doubleValue).toArray();
+
+            // Subject mismatches depend only on teacher and course
+            int subjectMismatches = 0;
+            for (ScheduleSlot slot : slots) {
+                if (isSubjectMismatch(slot.getTeacher(), slot.getCourse())) {
+                    subjectMismatches++;
+                }
+            }
+            this.fixedPenalty = fixedPenalty + subjectMismatches * classPenalty[TEACHER_LOW];
+            this.fixedConflicts = fixedConflicts + subjectMismatches;
+
+            // Teacher workload balance depends only on teacher assignments
+            double bonus = 0.0;
+            if (n > 0 && !teacherSlotCounts.isEmpty()) {
+                double avgSlots = n / (double) teacherSlotCounts.size();
+                double variance = teacherSlotCounts.values().stream()
+                    .mapToDouble(count -> Math.pow(count - avgSlots, 2))
+                    .average()
+                    .orElse(0.0);
+                bonus = 1.0 / (1.0 + Math.sqrt(variance)) * 50;
+            }
+            this.balanceBonus = bonus;
+        }
+
+        /**
+         * Room type checks for a course in a room: bit 0 = lab required but not a lab,
+         * bits 1-2 = number of subject room mismatches (science / computer)
+         */
+        private static byte roomMismatchCode(Course course, Room room) {
+            int code = 0;
+            RoomType roomType = room.getRoomType();
+
+            if (course.isRequiresLab() && roomType != null && roomType != RoomType.LAB &&
+                roomType != RoomType.COMPUTER_LAB && roomType != RoomType.SCIENCE_LAB) {
+                code |= 1;
+            }
+
+            if (course.getSubject() != null) {
+                String subject = course.getSubject().toLowerCase();
+                int subjectMismatches = 0;
+
+                if ((subject.contains("science") || subject.contains("chemistry") ||
+                     subject.contains("physics") || subject.contains("biology")) &&
+                    roomType != null && roomType != RoomType.SCIENCE_LAB && roomType != RoomType.LAB) {
+                    subjectMismatches++;
+                }
+
+                if ((subject.contains("computer") || subject.contains("programming") ||
+                     subject.contains("technology")) &&
+                    roomType != null && roomType != RoomType.COMPUTER_LAB) {
+                    subjectMismatches++;
+                }
+
+                code |= subjectMismatches << 1;
+            }
+
+            return (byte) code;
+        }
+
+        private static boolean isSubjectMismatch(Teacher teacher, Course course) {
+            if (teacher == null || course == null ||
+                teacher.getDepartment() == null || course.getSubject() == null) {
+                return false;
+            }
+            String teacherDept = teacher.getDepartment().toLowerCase().trim();
+            String courseSubject = course.getSubject().toLowerCase().trim();
+            return !teacherDept.contains(courseSubject) && !courseSubject.contains(teacherDept);
+        }
+    }
+}
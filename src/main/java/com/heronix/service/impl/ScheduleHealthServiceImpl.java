@@ -3,6 +3,7 @@ package com.heronix.service.impl;
 import com.heronix.model.domain.*;
 import com.heronix.model.dto.ScheduleHealthMetrics;
 import com.heronix.repository.*;
+import com.heronix.repository.spec.AggregateQueries;
 import com.heronix.service.ScheduleHealthService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -44,6 +45,9 @@ public class ScheduleHealthServiceImpl implements ScheduleHealthService {
     @Autowired
     private ConflictMatrixRepository conflictMatrixRepository;
 
+    @Autowired
+    private AggregateQueries aggregateQueries;
+
     // ========== MAIN CALCULATION METHODS ==========
 
     @Override
@@ -147,39 +151,29 @@ public class ScheduleHealthServiceImpl implements ScheduleHealthService {
 
     @Override
     public Double calculateBalanceScore(Schedule schedule) {
-        // Get all course sections
-        List<CourseSection> sections = courseSectionRepository.findAll();
+        // Section count and enrollment range per course, grouped in the database
+        Map<Long, AggregateQueries.Summary> enrollmentByCourse = aggregateQueries.summarizeBy(
+            CourseSection.class, null,
+            AggregateQueries.Column.attribute("course.id"),
+            AggregateQueries.Column.attribute("currentEnrollment"));
 
-        if (sections.isEmpty()) {
+        if (enrollmentByCourse.isEmpty()) {
             return 100.0; // No sections = perfect balance
         }
 
-        // Group sections by course
-        // ✅ NULL SAFE: Filter null sections and check course exists
-        Map<Long, List<CourseSection>> sectionsByCourse = sections.stream()
-            .filter(s -> s != null && s.getCourse() != null && s.getCourse().getId() != null)
-            .collect(Collectors.groupingBy(s -> s.getCourse().getId()));
-
         int unbalancedCourses = 0;
         int totalMultiSectionCourses = 0;
 
-        for (List<CourseSection> courseSections : sectionsByCourse.values()) {
-            if (courseSections.size() < 2) {
+        // ✅ NULL SAFE: Skip sections without a course (null key)
+        for (Map.Entry<Long, AggregateQueries.Summary> entry : enrollmentByCourse.entrySet()) {
+            if (entry.getKey() == null || entry.getValue().count() < 2) {
                 continue; // Skip single-section courses
             }
 
             totalMultiSectionCourses++;
 
             // Check balance (tolerance: 3 students)
-            int minEnrollment = courseSections.stream()
-                .mapToInt(CourseSection::getCurrentEnrollment)
-                .min().orElse(0);
-
-            int maxEnrollment = courseSections.stream()
-                .mapToInt(CourseSection::getCurrentEnrollment)
-                .max().orElse(0);
-
-            if (maxEnrollment - minEnrollment > 3) {
+            if (entry.getValue().spread() > 3) {
                 unbalancedCourses++;
             }
         }
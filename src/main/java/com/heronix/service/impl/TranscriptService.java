@@ -3,6 +3,7 @@ package com.heronix.service.impl;
 import com.heronix.model.domain.*;
 import com.heronix.repository.TranscriptRepository;
 import com.heronix.repository.StudentRepository;
+import com.heronix.service.GpaRankTable;
 import lombok.Data;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
@@ -33,6 +34,7 @@ public class TranscriptService {
 
     private final TranscriptRepository transcriptRepository;
     private final StudentRepository studentRepository;
+    private final GpaRankTable gpaRankTable;
 
     /**
      * Generate full transcript for a student
@@ -160,6 +162,9 @@ public class TranscriptService {
 
     /**
      * Get class rank
+     *
+     * Ranks by weighted GPA within the student's grade level, read from the
+     * materialized {@link GpaRankTable}. Students without grades rank last.
      */
     public ClassRankInfo getClassRank(Long studentId) {
         // ✅ NULL SAFE: Validate studentId parameter
@@ -172,47 +177,23 @@ public class TranscriptService {
 
         String gradeLevel = student.getGradeLevel();
 
-        // Get all students in same grade level
-        List<Student> classmates = studentRepository.findByGradeLevel(gradeLevel);
-        // ✅ NULL SAFE: Validate classmates list
-        if (classmates == null) {
-            classmates = new ArrayList<>();
-        }
-
-        // Calculate GPAs for all students
-        List<StudentGpaInfo> gpas = new ArrayList<>();
-        for (Student s : classmates) {
-            // ✅ NULL SAFE: Skip null students or students with null ID
-            if (s == null || s.getId() == null) continue;
-            BigDecimal gpa = calculateWeightedGpa(s.getId());
-            if (gpa != null) {
-                gpas.add(new StudentGpaInfo(s.getId(), gpa));
-            }
-        }
-
-        // Sort by GPA descending
-        gpas.sort((a, b) -> b.getGpa().compareTo(a.getGpa()));
-
-        // Find student's rank
-        int rank = 1;
-        for (StudentGpaInfo info : gpas) {
-            if (info.getStudentId().equals(studentId)) {
-                break;
-            }
-            rank++;
-        }
+        GpaRankTable.Standing standing = gpaRankTable.getStanding(studentId).orElse(null);
+        int totalStudents = standing != null ? standing.classSize() : gpaRankTable.getClassSize(gradeLevel);
+        int rank = standing != null ? standing.rank() : totalStudents + 1;
 
-        BigDecimal studentGpa = calculateWeightedGpa(studentId);
-        BigDecimal percentile = gpas.isEmpty() ? BigDecimal.ZERO :
-            new BigDecimal(100 - (rank * 100.0 / gpas.size()))
+        BigDecimal studentGpa = standing != null
+            ? BigDecimal.valueOf(standing.weightedGpa()).setScale(3, RoundingMode.HALF_UP)
+            : BigDecimal.ZERO;
+        BigDecimal percentile = totalStudents == 0 ? BigDecimal.ZERO :
+            new BigDecimal(100 - (rank * 100.0 / totalStudents))
                 .setScale(1, RoundingMode.HALF_UP);
 
         return ClassRankInfo.builder()
             .studentId(studentId)
             .rank(rank)
-            .totalStudents(gpas.size())
+            .totalStudents(totalStudents)
             .gradeLevel(gradeLevel)
-            .gpa(studentGpa != null ? studentGpa : BigDecimal.ZERO)
+            .gpa(studentGpa)
             .percentile(percentile)
             .build();
     }
@@ -337,13 +318,6 @@ public class TranscriptService {
         private BigDecimal yearGpa;
     }
 
-    @Data
-    @AllArgsConstructor
-    private static class StudentGpaInfo {
-        private Long studentId;
-        private BigDecimal gpa;
-    }
-
     @Data
     @Builder
     @NoArgsConstructor
@@ -1,6 +1,7 @@
 // Location: src/main/java/com/heronix/service/impl/UserServiceImpl.java
 package com.heronix.service.impl;
 
+import com.heronix.event.UserAccessChangedEvent;
 import com.heronix.model.domain.User;
 import com.heronix.model.enums.Permission;
 import com.heronix.model.enums.Role;
@@ -8,6 +9,7 @@ import com.heronix.repository.UserRepository;
 import com.heronix.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -32,6 +34,7 @@ import java.util.regex.Pattern;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
     /**
@@ -129,7 +132,9 @@ public class UserServiceImpl implements UserService {
             throw new IllegalArgumentException("User not found with ID: " + id);
         }
 
+        Optional<User> user = userRepository.findById(id);
         userRepository.deleteById(id);
+        user.ifPresent(deleted -> accessChanged(deleted, "deleted"));
         log.info("User deleted successfully");
     }
 
@@ -158,6 +163,7 @@ public class UserServiceImpl implements UserService {
         // Set new password
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        accessChanged(user, "password changed");
 
         log.info("Password changed successfully for user: {}", user.getUsername());
     }
@@ -173,6 +179,7 @@ public class UserServiceImpl implements UserService {
         user.setPassword(passwordEncoder.encode(newPassword));
         user.setCredentialsNonExpired(true);
         userRepository.save(user);
+        accessChanged(user, "password reset");
 
         log.info("Password reset successfully for user: {}", user.getUsername());
     }
@@ -187,6 +194,7 @@ public class UserServiceImpl implements UserService {
 
         user.setAccountNonLocked(false);
         userRepository.save(user);
+        accessChanged(user, "account locked");
 
         log.info("Account locked: {}", user.getUsername());
     }
@@ -331,6 +339,7 @@ public class UserServiceImpl implements UserService {
 
         user.setPrimaryRole(role);
         userRepository.save(user);
+        accessChanged(user, "role changed");
 
         log.info("Role {} assigned to user: {}", role, user.getUsername());
     }
@@ -359,6 +368,7 @@ public class UserServiceImpl implements UserService {
 
         user.removePermission(permission);
         userRepository.save(user);
+        accessChanged(user, "permission revoked");
 
         log.info("Permission {} revoked from user: {}", permission, user.getUsername());
     }
@@ -507,6 +517,7 @@ public class UserServiceImpl implements UserService {
 
         user.setEnabled(false);
         userRepository.save(user);
+        accessChanged(user, "account disabled");
 
         log.info("Account disabled: {}", user.getUsername());
     }
@@ -521,4 +532,12 @@ public class UserServiceImpl implements UserService {
         // Use SecurityContext for JavaFX desktop app
         return com.heronix.security.SecurityContext.getCurrentUser().orElse(null);
     }
+
+    /**
+     * Tokens already issued to the user stop working once the change commits
+     * (see JwtTokenService)
+     */
+    private void accessChanged(User user, String reason) {
+        eventPublisher.publishEvent(new UserAccessChangedEvent(this, user.getUsername(), reason));
+    }
 }
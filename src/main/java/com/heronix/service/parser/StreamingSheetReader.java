@@ -0,0 +1,351 @@
+package com.heronix.service.parser;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+/**
+ * Streaming Sheet Reader
+ *
+ * Reads the rows of a CSV or Excel upload one at a time. Parsing runs on a
+ * thread of its own that stays at most {@code capacity} rows ahead of the
+ * caller (a bounded queue), so reading overlaps with whatever the caller
+ * does with the rows, and an import holds a few hundred rows in memory
+ * however large the file is.
+ *
+ * - CSV: read line by line; values are split on commas outside double
+ *   quotes and trimmed. Blank lines are skipped
+ * - XLSX: the first sheet is parsed with POI's SAX event API
+ *   (XSSFSheetXMLHandler) rather than loaded as a workbook. The upload is
+ *   copied to a temp file first so the zip isn't buffered in memory either
+ * - XLS: loaded with HSSF (the format holds at most 65,536 rows)
+ *
+ * Cell values are formatted as Excel displays them. CSV rows are numbered
+ * by line, the header being line 1; Excel rows by their 0-based sheet index.
+ * The first row returned is the header row.
+ *
+ * Usage:
+ * <code>
+ * try (StreamingSheetReader rows = StreamingSheetReader.excel(inputStream, 1000)) {
+ *     SheetRow header = rows.next();
+ *     SheetRow row;
+ *     while ((row = rows.next()) != null) {
+ *         ...
+ *     }
+ * }
+ * </code>
+ *
+ * Not thread-safe; one reader per import.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@Slf4j
+public class StreamingSheetReader implements Closeable {
+
+    /**
+     * One row of the sheet
+     *
+     * @param rowNumber Line number (CSV) or 0-based row index (Excel)
+     * @param values    Cell values by column; missing cells are empty strings
+     */
+    public record SheetRow(int rowNumber, String[] values) {
+
+        public boolean isBlank() {
+            for (String value : values) {
+                if (value != null && !value.isBlank()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Parser {
+        void parse(Consumer<SheetRow> rows) throws Exception;
+    }
+
+    /**
+     * Thrown on the parser thread to stop parsing once the reader is closed
+     */
+    private static final class Cancelled extends RuntimeException {
+        Cancelled() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final SheetRow END = new SheetRow(-1, new String[0]);
+
+    private final BlockingQueue<SheetRow> queue;
+    private final Thread parserThread;
+    private volatile Throwable failure;
+    private volatile boolean closed;
+    private boolean finished;
+
+    private StreamingSheetReader(int capacity, String name, Parser parser, Path tempFile) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.parserThread = new Thread(() -> run(parser, tempFile), name);
+        this.parserThread.setDaemon(true);
+        this.parserThread.start();
+    }
+
+    /**
+     * Read a CSV file (UTF-8)
+     *
+     * @param inputStream CSV content; closed by the reader
+     * @param capacity    Rows parsed ahead of the caller
+     */
+    public static StreamingSheetReader csv(InputStream inputStream, int capacity) {
+        return new StreamingSheetReader(capacity, "import-csv-parser", rows -> parseCsv(inputStream, rows), null);
+    }
+
+    /**
+     * Read the first sheet of an Excel file (.xlsx or .xls)
+     *
+     * @param inputStream Excel content; copied to a temp file, then closed
+     * @param capacity    Rows parsed ahead of the caller
+     * @throws IOException if the content can't be copied or isn't an Excel file
+     */
+    public static StreamingSheetReader excel(InputStream inputStream, int capacity) throws IOException {
+        Path tempFile = Files.createTempFile("heronix-import-", ".xl");
+        try (inputStream) {
+            Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            FileMagic magic = FileMagic.valueOf(tempFile.toFile());
+            Parser parser = switch (magic) {
+                case OOXML -> rows -> parseXlsx(tempFile, rows);
+                case OLE2 -> rows -> parseXls(tempFile, rows);
+                default -> throw new IOException("Not an Excel file (" + magic + ")");
+            };
+            return new StreamingSheetReader(capacity, "import-excel-parser", parser, tempFile);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Next row, waiting for the parser if it hasn't got there yet
+     *
+     * @return The row, or null at the end of the sheet
+     * @throws IOException if the file couldn't be parsed
+     */
+    public SheetRow next() throws IOException {
+        if (finished) {
+            return null;
+        }
+        SheetRow row;
+        try {
+            row = queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading import file");
+        }
+        if (row != END) {
+            return row;
+        }
+        finished = true;
+        Throwable error = failure;
+        if (error instanceof IOException io) {
+            throw io;
+        }
+        if (error != null) {
+            throw new IOException(error.getMessage(), error);
+        }
+        return null;
+    }
+
+    /**
+     * Stop the parser; the rest of the file is skipped
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            parserThread.interrupt();
+        }
+    }
+
+    // ========================================================================
+    // PARSER THREAD
+    // ========================================================================
+
+    private void run(Parser parser, Path tempFile) {
+        try {
+            parser.parse(this::emit);
+        } catch (Cancelled e) {
+            // Closed by the caller
+        } catch (Throwable e) {
+            failure = e;
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    log.warn("Could not delete import temp file {}: {}", tempFile, e.getMessage());
+                }
+            }
+            if (!closed) {
+                try {
+                    queue.put(END);
+                } catch (InterruptedException e) {
+                    // Closed while the caller wasn't reading
+                }
+            }
+        }
+    }
+
+    private void emit(SheetRow row) {
+        if (closed) {
+            throw new Cancelled();
+        }
+        try {
+            queue.put(row);
+        } catch (InterruptedException e) {
+            throw new Cancelled();
+        }
+    }
+
+    // ========================================================================
+    // CSV
+    // ========================================================================
+
+    private static void parseCsv(InputStream inputStream, Consumer<SheetRow> rows) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            if (line == null) {
+                return;
+            }
+            rows.accept(new SheetRow(1, parseCsvLine(line)));
+
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!line.isBlank()) {
+                    rows.accept(new SheetRow(lineNumber, parseCsvLine(line)));
+                }
+            }
+        }
+    }
+
+    private static String[] parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inQuotes = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                inQuotes = !inQuotes;
+            } else if (c == ',' && !inQuotes) {
+                values.add(current.toString().trim());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString().trim());
+
+        return values.toArray(new String[0]);
+    }
+
+    // ========================================================================
+    // EXCEL
+    // ========================================================================
+
+    private static void parseXlsx(Path file, Consumer<SheetRow> rows) throws Exception {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader xssfReader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = xssfReader.getStylesTable();
+
+            Iterator<InputStream> sheets = xssfReader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new IOException("Excel file has no sheets");
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, strings, new RowHandler(rows), new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        }
+    }
+
+    private static void parseXls(Path file, Consumer<SheetRow> rows) throws IOException {
+        try (Workbook workbook = WorkbookFactory.create(file.toFile(), null, true)) {
+            if (workbook.getNumberOfSheets() == 0) {
+                throw new IOException("Excel file has no sheets");
+            }
+            DataFormatter formatter = new DataFormatter();
+            FormulaEvaluator evaluator = workbook.getCreationHelper().createFormulaEvaluator();
+
+            for (Row row : workbook.getSheetAt(0)) {
+                String[] values = new String[Math.max(0, row.getLastCellNum())];
+                for (int col = 0; col < values.length; col++) {
+                    values[col] = formatter.formatCellValue(row.getCell(col), evaluator);
+                }
+                rows.accept(new SheetRow(row.getRowNum(), values));
+            }
+        }
+    }
+
+    /**
+     * Collects the cells of each row reported by the SAX sheet handler
+     */
+    private static final class RowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final Consumer<SheetRow> rows;
+        private final List<String> values = new ArrayList<>();
+        private int column;
+
+        RowHandler(Consumer<SheetRow> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            values.clear();
+            column = -1;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            rows.accept(new SheetRow(rowNum, values.toArray(new String[0])));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            column = cellReference != null ? new CellReference(cellReference).getCol() : column + 1;
+            while (values.size() < column) {
+                values.add("");
+            }
+            values.add(formattedValue != null ? formattedValue : "");
+        }
+    }
+}
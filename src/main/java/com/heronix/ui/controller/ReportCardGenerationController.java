@@ -7,6 +7,7 @@ import com.heronix.repository.StudentRepository;
 import com.heronix.service.DistrictSettingsService;
 import com.heronix.service.GradebookService;
 import com.heronix.service.GradeService;
+import com.heronix.service.ReportCardBatchService;
 import com.heronix.service.ReportCardPdfService;
 import com.heronix.service.impl.AttendanceService;
 import javafx.application.Platform;
@@ -63,6 +64,9 @@ public class ReportCardGenerationController {
     @Autowired
     private ReportCardPdfService reportCardPdfService;
 
+    @Autowired
+    private ReportCardBatchService reportCardBatchService;
+
     // Header Components
     @FXML private ComboBox<GradingPeriodItem> gradingPeriodComboBox;
     @FXML private ComboBox<String> academicYearComboBox;
@@ -708,30 +712,24 @@ public class ReportCardGenerationController {
                     Long termId = period != null ? period.getDbId() : null;
                     ReportCardPdfService.ReportCardOptions options = buildPdfOptions();
 
-                    int total = selected.size();
-                    int successCount = 0;
-                    for (int i = 0; i < total; i++) {
-                        StudentReportData student = selected.get(i);
-                        updateMessage("Exporting " + student.getName() + " (" + (i + 1) + "/" + total + ")");
-                        updateProgress(i, total);
+                    List<Long> studentIds = selected.stream()
+                            .map(StudentReportData::getDbId)
+                            .collect(Collectors.toList());
+                    Path zipFile = dir.toPath().resolve("ReportCards_" +
+                            LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")) + ".zip");
 
-                        try {
-                            byte[] pdfBytes = reportCardPdfService.generateReportCardPdf(
-                                    student.getDbId(), termId, options);
+                    // Chunked and parallel; progress arrives after each chunk
+                    ReportCardBatchService.BatchResult result = reportCardBatchService.generateBatch(
+                            studentIds, termId, options, ReportCardBatchService.OutputFormat.ZIP, zipFile,
+                            (completed, total) -> {
+                                updateMessage("Exporting report cards (" + completed + "/" + total + ")");
+                                updateProgress(completed, total);
+                            });
 
-                            File outputFile = new File(dir, student.getStudentId() + "_ReportCard.pdf");
-                            try (FileOutputStream fos = new FileOutputStream(outputFile)) {
-                                fos.write(pdfBytes);
-                            }
-                            successCount++;
-                        } catch (Exception e) {
-                            log.warn("Failed to export report card for {}: {}", student.getName(), e.getMessage());
-                        }
-                    }
-                    updateProgress(total, total);
-                    int finalCount = successCount;
                     Platform.runLater(() -> {
-                        statusLabel.setText("Exported " + finalCount + " report cards to " + dir.getName());
+                        statusLabel.setText("Exported " + result.generated() + " report cards to " +
+                                zipFile.getFileName() + (result.failedStudentIds().isEmpty() ? ""
+                                        : " (" + result.failedStudentIds().size() + " failed)"));
                     });
                     return null;
                 }
@@ -1,6 +1,7 @@
 package com.heronix.ui.controller;
 
 import com.heronix.model.domain.Student;
+import com.heronix.monitoring.SqlActivity;
 import com.heronix.model.domain.TranscriptRecord;
 import com.heronix.repository.StudentRepository;
 import com.heronix.service.impl.TranscriptService;
@@ -125,7 +126,7 @@ public class TranscriptManagementController {
         setStatus("Searching...");
         showProgress(true);
 
-        new Thread(() -> {
+        new Thread(SqlActivity.wrap(SqlActivity.Kind.TASK, "Transcripts: search students", () -> {
             try {
                 List<Student> results = studentRepository.searchByName(query.trim());
                 Platform.runLater(() -> {
@@ -155,14 +156,14 @@ public class TranscriptManagementController {
                     showProgress(false);
                 });
             }
-        }).start();
+        })).start();
     }
 
     private void loadTranscript(Long studentDbId) {
         setStatus("Loading transcript...");
         showProgress(true);
 
-        new Thread(() -> {
+        new Thread(SqlActivity.wrap(SqlActivity.Kind.TASK, "Transcripts: load transcript", () -> {
             try {
                 StudentTranscript transcript = transcriptService.generateTranscript(studentDbId);
                 ClassRankInfo rankInfo = null;
@@ -198,7 +199,7 @@ public class TranscriptManagementController {
                     showProgress(false);
                 });
             }
-        }).start();
+        })).start();
     }
 
     private void populateStudentInfo(StudentTranscript t, ClassRankInfo rank, GraduationStatus grad) {
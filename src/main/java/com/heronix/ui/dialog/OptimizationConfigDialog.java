@@ -44,6 +44,9 @@ public class OptimizationConfigDialog extends Dialog<OptimizationConfig> {
     // Performance Settings
     private CheckBox parallelProcessingCheck;
     private Spinner<Integer> threadCountSpinner;
+    private Spinner<Integer> islandCountSpinner;
+    private Spinner<Integer> migrationIntervalSpinner;
+    private TextField randomSeedField;
 
     // Constraint Weights
     private Map<ConstraintType, Spinner<Integer>> constraintWeightSpinners;
@@ -374,6 +377,43 @@ public class OptimizationConfigDialog extends Dialog<OptimizationConfig> {
         grid.add(threadLabel, 0, row);
         grid.add(threadCountSpinner, 1, row++);
 
+        // Island Count
+        Label islandLabel = new Label("Islands:");
+        Label islandDesc = new Label("(Independent populations that exchange their best schedules, 1 = disabled)");
+        islandDesc.setStyle("-fx-font-size: 10px; -fx-text-fill: gray;");
+        islandCountSpinner = new Spinner<>(1, 16, 1, 1);
+        islandCountSpinner.setEditable(true);
+        islandCountSpinner.setMaxWidth(Double.MAX_VALUE);
+        islandCountSpinner.valueProperty().addListener((obs, oldValue, newValue) ->
+            migrationIntervalSpinner.setDisable(newValue == null || newValue <= 1));
+
+        VBox islandBox = new VBox(5, islandCountSpinner, islandDesc);
+
+        grid.add(islandLabel, 0, row);
+        grid.add(islandBox, 1, row++);
+
+        // Migration Interval
+        Label migrationLabel = new Label("Migration Interval:");
+        migrationIntervalSpinner = new Spinner<>(1, 1000, 25, 5);
+        migrationIntervalSpinner.setEditable(true);
+        migrationIntervalSpinner.setMaxWidth(Double.MAX_VALUE);
+        migrationIntervalSpinner.setDisable(true);
+
+        grid.add(migrationLabel, 0, row);
+        grid.add(migrationIntervalSpinner, 1, row++);
+
+        // Random Seed
+        Label seedLabel = new Label("Random Seed:");
+        Label seedDesc = new Label("(Same seed = same result, blank = random)");
+        seedDesc.setStyle("-fx-font-size: 10px; -fx-text-fill: gray;");
+        randomSeedField = new TextField();
+        randomSeedField.setPromptText("e.g. 42");
+
+        VBox seedBox = new VBox(5, randomSeedField, seedDesc);
+
+        grid.add(seedLabel, 0, row);
+        grid.add(seedBox, 1, row++);
+
         // Make grid columns grow
         ColumnConstraints col1 = new ColumnConstraints();
         col1.setHgrow(Priority.NEVER);
@@ -415,6 +455,13 @@ public class OptimizationConfigDialog extends Dialog<OptimizationConfig> {
         parallelProcessingCheck.setSelected(initialConfig.getUseParallelProcessing());
         threadCountSpinner.getValueFactory().setValue(initialConfig.getThreadCount());
         threadCountSpinner.setDisable(!initialConfig.getUseParallelProcessing());
+        if (initialConfig.getIslandCount() != null) {
+            islandCountSpinner.getValueFactory().setValue(initialConfig.getIslandCount());
+        }
+        if (initialConfig.getMigrationInterval() != null) {
+            migrationIntervalSpinner.getValueFactory().setValue(initialConfig.getMigrationInterval());
+        }
+        randomSeedField.setText(initialConfig.getRandomSeed() != null ? initialConfig.getRandomSeed().toString() : "");
 
         // Constraint weights
         for (Map.Entry<ConstraintType, Spinner<Integer>> entry : constraintWeightSpinners.entrySet()) {
@@ -465,7 +512,18 @@ public class OptimizationConfigDialog extends Dialog<OptimizationConfig> {
 
         // Performance settings
         builder.useParallelProcessing(parallelProcessingCheck.isSelected())
-               .threadCount(threadCountSpinner.getValue());
+               .threadCount(threadCountSpinner.getValue())
+               .islandCount(islandCountSpinner.getValue())
+               .migrationInterval(migrationIntervalSpinner.getValue());
+
+        String seed = randomSeedField.getText() != null ? randomSeedField.getText().trim() : "";
+        if (!seed.isEmpty()) {
+            try {
+                builder.randomSeed(Long.parseLong(seed));
+            } catch (NumberFormatException e) {
+                // Ignore invalid seed - run stays random
+            }
+        }
 
         // Build config
         OptimizationConfig config = builder.build();
@@ -0,0 +1,98 @@
+package com.heronix.util;
+
+import com.heronix.api.dto.CursorPageDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset Cursor
+ *
+ * Position in a keyset-paginated list: the sort key of the last row
+ * returned. The next page is read with a seek predicate on that key
+ * ("WHERE id &gt; :afterId ORDER BY id") instead of an OFFSET, so every page
+ * costs the same however deep the client goes, and rows inserted or
+ * deleted meanwhile don't shift pages.
+ *
+ * Cursors are handed to clients as opaque URL-safe strings, so the sort key
+ * of an endpoint can change without breaking them.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+public record KeysetCursor(String sortValue, long id) {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private static final String VERSION = "k1";
+    private static final String SEPARATOR = "|";
+
+    public static KeysetCursor of(long id) {
+        return new KeysetCursor(null, id);
+    }
+
+    public static KeysetCursor of(Object sortValue, long id) {
+        return new KeysetCursor(String.valueOf(sortValue), id);
+    }
+
+    /**
+     * @return Opaque cursor string
+     */
+    public String encode() {
+        String raw = VERSION + SEPARATOR + id + SEPARATOR + (sortValue != null ? sortValue : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor received from a client
+     *
+     * @param cursor Opaque cursor string, or null/blank for the first page
+     * @return Cursor, or null for the first page
+     * @throws IllegalArgumentException if the cursor wasn't issued by {@link #encode()}
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new KeysetCursor(parts[2].isEmpty() ? null : parts[2], Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            // Also covers bad Base64 and NumberFormatException
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * Clamp a requested page size to 1..MAX_LIMIT
+     */
+    public static int clampLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * Build a page from rows fetched with limit + 1: the extra row only says
+     * whether there is a next page and is not returned
+     *
+     * @param rows Rows in sort order, at most limit + 1
+     * @param limit Page size
+     * @param cursorOf Sort key of a row
+     */
+    public static <T> CursorPageDTO<T> page(List<T> rows, int limit, Function<T, KeysetCursor> cursorOf) {
+        boolean hasMore = rows.size() > limit;
+        List<T> items = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? cursorOf.apply(items.get(items.size() - 1)).encode() : null;
+        return new CursorPageDTO<>(List.copyOf(items), nextCursor, hasMore, limit);
+    }
+}
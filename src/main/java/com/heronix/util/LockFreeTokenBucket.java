@@ -0,0 +1,198 @@
+package com.heronix.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Lock-Free Token Bucket
+ *
+ * Token bucket whose whole state - tokens left and the time of the last
+ * refill - is packed into one long and updated with a single CAS, so
+ * concurrent requests for the same key never block and nothing is
+ * allocated per request:
+ *
+ *   | tokens (24 bits) | last refill, ms since creation (40 bits) |
+ *
+ * Tokens refill continuously: an empty bucket is full again after
+ * {@code periodMillis}. Refills are computed on access from the elapsed
+ * time; the part of a token not yet earned is kept by advancing the refill
+ * time only by the time the added tokens account for.
+ *
+ * A bucket created with {@link #leased} never refills by itself; tokens are
+ * added with {@link #add} (leases from a shared store).
+ *
+ * Times are passed in by the caller (epoch milliseconds) so that one clock
+ * read serves every bucket a request touches.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+public final class LockFreeTokenBucket {
+
+    private static final int TIME_BITS = 40;
+    private static final long TIME_MASK = (1L << TIME_BITS) - 1;
+
+    public static final long MAX_CAPACITY = (1L << (Long.SIZE - TIME_BITS)) - 1;
+    public static final long MAX_PERIOD_MILLIS = 1L << 36;
+
+    private static final VarHandle STATE;
+
+    static {
+        try {
+            STATE = MethodHandles.lookup().findVarHandle(LockFreeTokenBucket.class, "state", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final long capacity;
+    private final long periodMillis;
+    private final long epochMillis;
+
+    @SuppressWarnings("unused") // Accessed through STATE
+    private volatile long state;
+
+    private LockFreeTokenBucket(long capacity, long periodMillis, long initialTokens, long nowMillis) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ": " + capacity);
+        }
+        if (periodMillis < 0 || periodMillis > MAX_PERIOD_MILLIS) {
+            throw new IllegalArgumentException("Invalid refill period: " + periodMillis + " ms");
+        }
+        this.capacity = capacity;
+        this.periodMillis = periodMillis;
+        this.epochMillis = nowMillis;
+        this.state = pack(initialTokens, 0);
+    }
+
+    /**
+     * Full bucket that refills from empty to capacity in periodMillis
+     */
+    public static LockFreeTokenBucket full(long capacity, long periodMillis, long nowMillis) {
+        if (periodMillis < 1) {
+            throw new IllegalArgumentException("Refill period must be positive: " + periodMillis + " ms");
+        }
+        return new LockFreeTokenBucket(capacity, periodMillis, capacity, nowMillis);
+    }
+
+    /**
+     * Empty bucket holding up to capacity tokens added with {@link #add}
+     */
+    public static LockFreeTokenBucket leased(long capacity, long nowMillis) {
+        return new LockFreeTokenBucket(capacity, 0, 0, nowMillis);
+    }
+
+    // ========================================================================
+    // TOKENS
+    // ========================================================================
+
+    /**
+     * Take permits if that many are available
+     *
+     * @return Tokens left after taking them, or -1 if not enough were available
+     */
+    public long tryAcquire(long permits, long nowMillis) {
+        long now = relative(nowMillis);
+        while (true) {
+            long current = (long) STATE.getVolatile(this);
+            long refilled = refill(current, now);
+            long tokens = refilled >>> TIME_BITS;
+            if (tokens < permits) {
+                return -1;
+            }
+            long next = pack(tokens - permits, refilled & TIME_MASK);
+            if (STATE.compareAndSet(this, current, next)) {
+                return tokens - permits;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Put tokens back (a request denied by another limit) or add leased
+     * tokens, up to capacity
+     */
+    public void add(long permits, long nowMillis) {
+        long now = relative(nowMillis);
+        while (true) {
+            long current = (long) STATE.getVolatile(this);
+            long refilled = refill(current, now);
+            long tokens = Math.min(capacity, (refilled >>> TIME_BITS) + permits);
+            if (STATE.compareAndSet(this, current, pack(tokens, refilled & TIME_MASK))) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Tokens available now
+     */
+    public long available(long nowMillis) {
+        return refill((long) STATE.getVolatile(this), relative(nowMillis)) >>> TIME_BITS;
+    }
+
+    /**
+     * Time until the bucket is full again (0 for a leased bucket)
+     */
+    public long millisUntilFull(long nowMillis) {
+        if (periodMillis == 0) {
+            return 0;
+        }
+        long missing = capacity - available(nowMillis);
+        return (missing * periodMillis + capacity - 1) / capacity;
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    public long periodMillis() {
+        return periodMillis;
+    }
+
+    // ========================================================================
+    // HELPER METHODS
+    // ========================================================================
+
+    /**
+     * State with the tokens earned since the last refill added
+     */
+    private long refill(long current, long now) {
+        long tokens = current >>> TIME_BITS;
+        long last = current & TIME_MASK;
+        if (periodMillis == 0) {
+            return current;
+        }
+        if (tokens >= capacity) {
+            // Full: earning restarts from now
+            return last == now ? current : pack(capacity, now);
+        }
+        long elapsed = now - last;
+        if (elapsed <= 0) {
+            return current;
+        }
+        if (elapsed >= periodMillis) {
+            return pack(capacity, now);
+        }
+        long earned = elapsed * capacity / periodMillis;
+        if (earned == 0) {
+            return current;
+        }
+        long refilled = tokens + earned;
+        if (refilled >= capacity) {
+            return pack(capacity, now);
+        }
+        return pack(refilled, last + earned * periodMillis / capacity);
+    }
+
+    private long relative(long nowMillis) {
+        long now = nowMillis - epochMillis;
+        return now < 0 ? 0 : Math.min(now, TIME_MASK);
+    }
+
+    private static long pack(long tokens, long time) {
+        return tokens << TIME_BITS | time;
+    }
+}
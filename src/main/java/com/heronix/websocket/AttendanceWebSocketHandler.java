@@ -17,6 +17,7 @@ import java.util.Map;
  *
  * Message Types:
  * - ATTENDANCE_RECORDED - New attendance record created
+ * - CLASS_ATTENDANCE_RECORDED - A class period's attendance recorded at once
  * - ATTENDANCE_UPDATED - Existing record modified
  * - ATTENDANCE_DELETED - Record removed
  * - DASHBOARD_REFRESH - Trigger dashboard data refresh
@@ -67,6 +68,33 @@ public class AttendanceWebSocketHandler {
         triggerDashboardRefresh();
     }
 
+    /**
+     * Broadcast a whole class period's attendance as one message, instead of
+     * one message (and dashboard refresh) per student
+     *
+     * @param courseId Course ID
+     * @param date Attendance date
+     * @param periodNumber Period number
+     * @param inserted New records
+     * @param updated Existing records whose status changed
+     * @param statusCounts Number of students by status
+     */
+    public void broadcastClassAttendanceRecorded(Long courseId, String date, Integer periodNumber,
+                                                 int inserted, int updated, Map<String, Long> statusCounts) {
+        Map<String, Object> message = new HashMap<>();
+        message.put("type", "CLASS_ATTENDANCE_RECORDED");
+        message.put("timestamp", LocalDateTime.now().toString());
+        message.put("courseId", courseId);
+        message.put("date", date);
+        message.put("periodNumber", periodNumber);
+        message.put("inserted", inserted);
+        message.put("updated", updated);
+        message.put("statusCounts", statusCounts);
+
+        sendToTopic("/topic/attendance", message);
+        triggerDashboardRefresh();
+    }
+
     /**
      * Broadcast attendance record update
      *
@@ -0,0 +1,16 @@
+-- ============================================================================
+-- Pooled ID sequences for the bulk-write tables
+-- ============================================================================
+-- attendance_records, assignment_grades, student_enrollments, audit_logs and
+-- qr_attendance_log allocate IDs from these sequences (allocationSize = 500)
+-- instead of their IDENTITY columns, so Hibernate can batch their inserts.
+-- The existing id columns keep their identity default and accept explicit IDs.
+--
+-- IdSequenceAligner moves each sequence past the table's MAX(id) on startup.
+-- ============================================================================
+
+CREATE SEQUENCE IF NOT EXISTS attendance_records_seq START WITH 1 INCREMENT BY 500;
+CREATE SEQUENCE IF NOT EXISTS assignment_grades_seq START WITH 1 INCREMENT BY 500;
+CREATE SEQUENCE IF NOT EXISTS student_enrollments_seq START WITH 1 INCREMENT BY 500;
+CREATE SEQUENCE IF NOT EXISTS audit_logs_seq START WITH 1 INCREMENT BY 500;
+CREATE SEQUENCE IF NOT EXISTS qr_attendance_log_seq START WITH 1 INCREMENT BY 500;
@@ -0,0 +1,9 @@
+-- ============================================================================
+-- Date index for attendance_records
+-- ============================================================================
+-- School-wide attendance reports and the report cache's data-version check
+-- filter attendance_records by attendance_date alone; the existing indexes
+-- lead with student_id or course_id and can't serve a date range.
+-- ============================================================================
+
+CREATE INDEX IF NOT EXISTS idx_attendance_date ON attendance_records (attendance_date);
@@ -0,0 +1,12 @@
+-- ============================================================================
+-- Key ID for api_keys
+-- ============================================================================
+-- New API keys embed a public key ID (hx_live_{keyId}_{secret}) so that
+-- authentication finds the key with one indexed lookup and checks one hash,
+-- instead of checking every active key. Keys issued before this have no key
+-- ID and are still accepted.
+-- ============================================================================
+
+ALTER TABLE api_keys ADD COLUMN IF NOT EXISTS key_id VARCHAR(16);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_api_key_key_id ON api_keys (key_id);
@@ -0,0 +1,13 @@
+-- ============================================================================
+-- Shared rate limit buckets
+-- ============================================================================
+-- Used only with heronix.rate-limit.shared.enabled=true: nodes lease blocks
+-- of tokens from these rows so that a limit holds across the cluster.
+-- tokens and refilled_at (epoch ms) follow the in-memory token bucket.
+-- ============================================================================
+
+CREATE TABLE IF NOT EXISTS rate_limit_buckets (
+    bucket_key VARCHAR(255) PRIMARY KEY,
+    tokens BIGINT NOT NULL,
+    refilled_at BIGINT NOT NULL
+);
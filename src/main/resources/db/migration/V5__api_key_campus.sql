@@ -0,0 +1,9 @@
+-- ============================================================================
+-- Campus of an API key
+-- ============================================================================
+-- The campus-wide rate limit is charged only for principals whose campus the
+-- server has verified: the API key's campus_id or the JWT campusId claim.
+-- Keys without a campus are not charged to any campus.
+-- ============================================================================
+
+ALTER TABLE api_keys ADD COLUMN IF NOT EXISTS campus_id VARCHAR(50);
@@ -0,0 +1,15 @@
+-- ============================================================================
+-- Pooled ID sequences for the import tables
+-- ============================================================================
+-- students, teachers, courses and rooms allocate IDs from these sequences
+-- (allocationSize = 500) instead of their IDENTITY columns, so the lenient
+-- import can write its chunks as JDBC batches through BulkWriteService.
+-- The existing id columns keep their identity default and accept explicit IDs.
+--
+-- IdSequenceAligner moves each sequence past the table's MAX(id) on startup.
+-- ============================================================================
+
+CREATE SEQUENCE IF NOT EXISTS students_seq START WITH 1 INCREMENT BY 500;
+CREATE SEQUENCE IF NOT EXISTS teachers_seq START WITH 1 INCREMENT BY 500;
+CREATE SEQUENCE IF NOT EXISTS courses_seq START WITH 1 INCREMENT BY 500;
+CREATE SEQUENCE IF NOT EXISTS rooms_seq START WITH 1 INCREMENT BY 500;
@@ -0,0 +1,29 @@
+-- ============================================================================
+-- One conflict_matrix row per course pair and schedule year
+-- ============================================================================
+-- The pair was unique across years, so generating one year's matrix had to
+-- take over the rows of every other year. The unique constraint now includes
+-- schedule_year and each year keeps its own rows.
+--
+-- The old constraint was named by Hibernate, so it is found by its columns.
+-- ============================================================================
+
+DO $$
+DECLARE
+    pair_constraint TEXT;
+BEGIN
+    FOR pair_constraint IN
+        SELECT c.conname
+        FROM pg_constraint c
+        WHERE c.conrelid = 'conflict_matrix'::regclass
+          AND c.contype = 'u'
+          AND (SELECT array_agg(a.attname::TEXT ORDER BY a.attname)
+               FROM pg_attribute a
+               WHERE a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)) = ARRAY['course1_id', 'course2_id']
+    LOOP
+        EXECUTE format('ALTER TABLE conflict_matrix DROP CONSTRAINT %I', pair_constraint);
+    END LOOP;
+END $$;
+
+ALTER TABLE conflict_matrix
+    ADD CONSTRAINT uk_conflict_matrix_pair_year UNIQUE (course1_id, course2_id, schedule_year);
@@ -0,0 +1,12 @@
+-- ============================================================================
+-- Event ID for audit_logs
+-- ============================================================================
+-- Each audit event carries an ID assigned when it is created. The audit
+-- pipeline skips events whose ID is already stored, so a batch written again
+-- from the spill file after a failure (or a crash mid-replay) is not
+-- inserted twice. Rows written before this have no event ID.
+-- ============================================================================
+
+ALTER TABLE audit_logs ADD COLUMN IF NOT EXISTS event_id VARCHAR(36);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_audit_event_id ON audit_logs (event_id);
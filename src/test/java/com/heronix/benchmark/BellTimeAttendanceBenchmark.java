@@ -0,0 +1,207 @@
+package com.heronix.benchmark;
+
+import com.heronix.model.domain.AttendanceRecord;
+import com.heronix.model.domain.AttendanceRecord.AttendanceStatus;
+import com.heronix.model.domain.Course;
+import com.heronix.model.domain.Student;
+import com.heronix.repository.AttendanceRepository;
+import com.heronix.repository.CourseRepository;
+import com.heronix.repository.StudentRepository;
+import com.heronix.service.BulkWriteService;
+import com.heronix.service.impl.AttendanceService;
+import com.heronix.testutil.TestDataBuilder;
+import com.heronix.websocket.AttendanceWebSocketHandler;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bell-Time Attendance Load Test
+ * Simulates the first minutes of a period: 120 teachers submitting attendance
+ * for their 30-student classes at the same time, against an in-memory H2
+ * database with the application's mappings and a 20-connection pool.
+ *
+ * - legacy: the previous recordClassAttendance, one findById and one save
+ *   per student
+ * - bulk: AttendanceService.recordClassAttendance - one roster query, one
+ *   existing-records query, one batched insert and one aggregated broadcast
+ *
+ * Each operation is one teacher's submission; every submission is for a new
+ * period, so both paths insert 30 rows. Run in sample-time mode with 120
+ * threads; read p0.99 for the slowest submissions during the rush, and the
+ * broadcast count printed at the end of each trial.
+ *
+ * Run: mvn test-compile exec:exec -Pbenchmark -Dbenchmark.includes=BellTimeAttendanceBenchmark
+ *
+ * Location: src/test/java/com/heronix/benchmark/BellTimeAttendanceBenchmark.java
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(BellTimeAttendanceBenchmark.TEACHERS)
+@Fork(1)
+public class BellTimeAttendanceBenchmark {
+
+    static final int TEACHERS = 120;
+    static final int CLASS_SIZE = 30;
+    static final int PERIODS_PER_DAY = 8;
+
+    private static final AttendanceStatus[] STATUSES = AttendanceStatus.values();
+
+    private EntityManagerFactory entityManagerFactory;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager sharedEntityManager;
+    private StudentRepository studentRepository;
+    private AttendanceRepository attendanceRepository;
+    private AttendanceService attendanceService;
+
+    private final List<Long> courseIds = new ArrayList<>();
+    private final List<Long> studentIds = new ArrayList<>();
+    private final AtomicInteger nextTeacher = new AtomicInteger();
+    private final LongAdder broadcasts = new LongAdder();
+
+    /**
+     * One teacher and their class
+     */
+    @State(Scope.Thread)
+    public static class Teacher {
+        Long courseId;
+        List<Long> roster;
+        int submissions;
+        Random random;
+
+        @Setup(Level.Trial)
+        public void setUp(BellTimeAttendanceBenchmark benchmark) {
+            int teacher = benchmark.nextTeacher.getAndIncrement() % TEACHERS;
+            courseId = benchmark.courseIds.get(teacher);
+            roster = benchmark.studentIds.subList(teacher * CLASS_SIZE, (teacher + 1) * CLASS_SIZE);
+            random = new Random(teacher);
+        }
+
+        /**
+         * Mostly present, with a few absences and tardies
+         */
+        Map<Long, AttendanceStatus> takeAttendance() {
+            Map<Long, AttendanceStatus> statuses = new LinkedHashMap<>();
+            for (Long studentId : roster) {
+                int roll = random.nextInt(20);
+                statuses.put(studentId, roll < 17 ? AttendanceStatus.PRESENT : STATUSES[roll % STATUSES.length]);
+            }
+            return statuses;
+        }
+
+        /**
+         * Next period, moving to the next day after the last period
+         */
+        LocalDate nextPeriodDate(LocalDate firstDay) {
+            return firstDay.plusDays(submissions / PERIODS_PER_DAY);
+        }
+
+        int nextPeriod() {
+            return submissions++ % PERIODS_PER_DAY + 1;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entityManagerFactory = BenchmarkDatabase.create("belltime", 20);
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+
+        sharedEntityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(sharedEntityManager);
+        studentRepository = repositoryFactory.getRepository(StudentRepository.class);
+        attendanceRepository = repositoryFactory.getRepository(AttendanceRepository.class);
+        CourseRepository courseRepository = repositoryFactory.getRepository(CourseRepository.class);
+
+        BulkWriteService bulkWriteService = new BulkWriteService();
+        ReflectionTestUtils.setField(bulkWriteService, "entityManager", sharedEntityManager);
+        ReflectionTestUtils.setField(bulkWriteService, "batchSize", 1000);
+
+        SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate((message, timeout) -> {
+            broadcasts.increment();
+            return true;
+        });
+        attendanceService = new AttendanceService(attendanceRepository, studentRepository, courseRepository,
+                bulkWriteService, new AttendanceWebSocketHandler(messagingTemplate));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int t = 0; t < TEACHERS; t++) {
+                courseIds.add(courseRepository.save(TestDataBuilder.aCourse()
+                        .withId(null)
+                        .withCourseCode("BELL" + t)
+                        .build()).getId());
+            }
+            for (int s = 0; s < TEACHERS * CLASS_SIZE; s++) {
+                studentIds.add(studentRepository.save(TestDataBuilder.aStudent()
+                        .withId(null)
+                        .withStudentId("S" + (100000 + s))
+                        .withEmail("s" + s + "@school.edu")
+                        .build()).getId());
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%n%d WebSocket messages sent%n", broadcasts.sumThenReset());
+        entityManagerFactory.close();
+    }
+
+    // ========================================================================
+    // BENCHMARKS
+    // ========================================================================
+
+    @Benchmark
+    public List<AttendanceRecord> legacy(Teacher teacher) {
+        LocalDate date = teacher.nextPeriodDate(LocalDate.of(2025, 1, 6));
+        int period = teacher.nextPeriod();
+        Map<Long, AttendanceStatus> statuses = teacher.takeAttendance();
+
+        return transactionTemplate.execute(status -> {
+            List<AttendanceRecord> records = new ArrayList<>();
+            for (Map.Entry<Long, AttendanceStatus> entry : statuses.entrySet()) {
+                Student student = studentRepository.findById(entry.getKey()).orElse(null);
+                if (student != null) {
+                    records.add(attendanceRepository.save(AttendanceRecord.builder()
+                            .student(student)
+                            .course(sharedEntityManager.getReference(Course.class, teacher.courseId))
+                            .attendanceDate(date)
+                            .periodNumber(period)
+                            .status(entry.getValue())
+                            .recordedBy("legacy")
+                            .build()));
+                }
+            }
+            return records;
+        });
+    }
+
+    @Benchmark
+    public List<AttendanceRecord> bulk(Teacher teacher) {
+        // A different year, so both paths insert rather than update each other's rows
+        LocalDate date = teacher.nextPeriodDate(LocalDate.of(2075, 1, 7));
+        int period = teacher.nextPeriod();
+        Map<Long, AttendanceStatus> statuses = teacher.takeAttendance();
+
+        return transactionTemplate.execute(status ->
+                attendanceService.recordClassAttendance(teacher.courseId, date, period, statuses, "bulk"));
+    }
+}
@@ -0,0 +1,134 @@
+package com.heronix.benchmark;
+
+import com.heronix.model.domain.*;
+import com.heronix.repository.CourseSectionRepository;
+import com.heronix.service.impl.ConflictDetectorServiceImpl;
+import com.heronix.service.impl.FitnessEvaluator;
+import com.heronix.service.impl.ScheduleGenome;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Fitness Evaluation Benchmark
+ * Compares scoring a genetic algorithm offspring with the conflict detector
+ * (FitnessEvaluator.evaluate on a cloned working copy) against the incremental
+ * ScheduleGenome score, on a synthetic 1,000-slot schedule.
+ *
+ * Each operation mutates ~1% of the slots and rescores, as one offspring does.
+ *
+ * Run: mvn test-compile exec:exec -Pbenchmark -Dbenchmark.includes=FitnessEvaluationBenchmark
+ *
+ * Location: src/test/java/com/heronix/benchmark/FitnessEvaluationBenchmark.java
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 7C - Schedule Optimization
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FitnessEvaluationBenchmark {
+
+    private static final int PERIODS_PER_DAY = 8;
+
+    @Param({"1000"})
+    private int slotCount;
+
+    private FitnessEvaluator evaluator;
+    private OptimizationConfig config;
+    private Schedule workingCopy;
+    private ScheduleGenome genome;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = new Random(42);
+
+        CourseSectionRepository courseSectionRepository = mock(CourseSectionRepository.class);
+        when(courseSectionRepository.findAll()).thenReturn(Collections.emptyList());
+
+        ConflictDetectorServiceImpl conflictDetector = new ConflictDetectorServiceImpl();
+        ReflectionTestUtils.setField(conflictDetector, "courseSectionRepository", courseSectionRepository);
+
+        evaluator = new FitnessEvaluator(conflictDetector);
+        config = new OptimizationConfig();
+
+        int teacherCount = Math.max(1, slotCount / 25);
+        int roomCount = Math.max(1, slotCount / 30);
+
+        List<Teacher> teachers = new ArrayList<>();
+        for (int i = 0; i < teacherCount; i++) {
+            Teacher teacher = new Teacher();
+            teacher.setId((long) i + 1);
+            teacher.setName("Teacher " + i);
+            teacher.setDepartment(i % 2 == 0 ? "Mathematics" : "Science");
+            teachers.add(teacher);
+        }
+
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < roomCount; i++) {
+            Room room = new Room();
+            room.setId((long) i + 1);
+            room.setRoomNumber("R" + i);
+            rooms.add(room);
+        }
+
+        Course course = new Course();
+        course.setCourseName("Algebra I");
+        course.setSubject("Mathematics");
+
+        // Unsaved working copy, like the optimizer's clones
+        workingCopy = new Schedule();
+        workingCopy.setScheduleName("Benchmark Schedule");
+        List<ScheduleSlot> slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            int period = random.nextInt(PERIODS_PER_DAY);
+            ScheduleSlot slot = new ScheduleSlot();
+            slot.setSchedule(workingCopy);
+            slot.setTeacher(teachers.get(random.nextInt(teachers.size())));
+            slot.setRoom(rooms.get(random.nextInt(rooms.size())));
+            slot.setCourse(course);
+            slot.setDayOfWeek(DayOfWeek.values()[random.nextInt(5)]);
+            slot.setStartTime(LocalTime.of(8, 0).plusMinutes(period * 50L));
+            slot.setEndTime(LocalTime.of(8, 45).plusMinutes(period * 50L));
+            slots.add(slot);
+        }
+        workingCopy.setSlots(slots);
+
+        genome = evaluator.encode(workingCopy, config);
+    }
+
+    @Benchmark
+    public double detectorOffspring() {
+        List<ScheduleSlot> slots = workingCopy.getSlots();
+        for (int i = 0; i < slots.size() / 100; i++) {
+            ScheduleSlot slot = slots.get(random.nextInt(slots.size()));
+            int period = random.nextInt(PERIODS_PER_DAY);
+            slot.setDayOfWeek(DayOfWeek.values()[random.nextInt(5)]);
+            slot.setStartTime(LocalTime.of(8, 0).plusMinutes(period * 50L));
+            slot.setEndTime(LocalTime.of(8, 45).plusMinutes(period * 50L));
+        }
+        return evaluator.evaluate(workingCopy, config);
+    }
+
+    @Benchmark
+    public double genomeOffspring() {
+        ScheduleGenome offspring = genome.copy();
+        for (int i = 0; i < offspring.size() / 100; i++) {
+            int start = (8 * 60 + random.nextInt(PERIODS_PER_DAY) * 50) * 60;
+            offspring.setTime(random.nextInt(offspring.size()), random.nextInt(5), start, start + 45 * 60);
+        }
+        return offspring.fitness();
+    }
+}
@@ -0,0 +1,176 @@
+package com.heronix.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.heronix.repository.StudentRepository;
+import com.heronix.service.ListQueryService;
+import com.heronix.testutil.TestDataBuilder;
+import com.heronix.util.KeysetCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * List Pagination Benchmark
+ * Compares the student list endpoints on 50,000 students in an in-memory H2
+ * database with the application's mappings; each operation is one request,
+ * query and JSON serialization included.
+ *
+ * - findAllEntities: the current list endpoints, findAll() of every entity
+ * - offsetPage: a 50-row Pageable page of entities at a random depth
+ * - keysetPage: ListQueryService.listStudents, a 50-row projected page at a
+ *   random cursor
+ *
+ * The response size of each is printed at setup. Entities are serialized
+ * with their lazy associations left out, so the findAll() and offsetPage
+ * payloads are lower bounds.
+ *
+ * Run: mvn test-compile exec:exec -Pbenchmark -Dbenchmark.includes=ListPaginationBenchmark
+ *
+ * Location: src/test/java/com/heronix/benchmark/ListPaginationBenchmark.java
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class ListPaginationBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"50000"})
+    private int studentCount;
+
+    private EntityManagerFactory entityManagerFactory;
+    private TransactionTemplate readOnly;
+    private StudentRepository studentRepository;
+    private ListQueryService listQueryService;
+    private ObjectMapper objectMapper;
+
+    private final List<Long> studentIds = new ArrayList<>();
+    private final Random random = new Random(42);
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        entityManagerFactory = BenchmarkDatabase.create("listpagination", 4);
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        EntityManager sharedEntityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        studentRepository = new JpaRepositoryFactory(sharedEntityManager).getRepository(StudentRepository.class);
+        listQueryService = new ListQueryService(studentRepository, null, null, null, null, null, null);
+        objectMapper = objectMapper();
+
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+        for (int batch = 0; batch < studentCount; batch += 1000) {
+            int first = batch;
+            write.executeWithoutResult(status -> {
+                for (int s = first; s < Math.min(first + 1000, studentCount); s++) {
+                    studentIds.add(studentRepository.save(TestDataBuilder.aStudent()
+                            .withId(null)
+                            .withStudentId("S" + (100000 + s))
+                            .withEmail("s" + s + "@district.org")
+                            .withGradeLevel(String.valueOf(9 + s % 4))
+                            .build()).getId());
+                }
+            });
+        }
+
+        System.out.printf("%nResponse size: findAll %,d KB, offset page %,d KB, keyset page %,d KB%n",
+                findAllEntities().length / 1024, offsetPage().length / 1024, keysetPage().length / 1024);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    // ========================================================================
+    // BENCHMARKS
+    // ========================================================================
+
+    @Benchmark
+    public byte[] findAllEntities() {
+        return readOnly.execute(status -> serialize(studentRepository.findAll()));
+    }
+
+    @Benchmark
+    public byte[] offsetPage() {
+        int page = random.nextInt(studentCount / PAGE_SIZE);
+        return readOnly.execute(status ->
+                serialize(studentRepository.findAll(PageRequest.of(page, PAGE_SIZE)).getContent()));
+    }
+
+    @Benchmark
+    public byte[] keysetPage() {
+        String cursor = KeysetCursor.of(studentIds.get(random.nextInt(studentIds.size()))).encode();
+        return serialize(listQueryService.listStudents(cursor, PAGE_SIZE, null, null));
+    }
+
+    // ========================================================================
+    // SERIALIZATION
+    // ========================================================================
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Spring Boot's defaults, plus: unloaded lazy associations are skipped
+     * rather than loaded or failed on
+     */
+    private static ObjectMapper objectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+        mapper.registerModule(new SimpleModule().setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config,
+                                                             BeanDescription description,
+                                                             List<BeanPropertyWriter> properties) {
+                return properties.stream().<BeanPropertyWriter>map(LoadedPropertyWriter::new).toList();
+            }
+        }));
+        return mapper;
+    }
+
+    private static final class LoadedPropertyWriter extends BeanPropertyWriter {
+
+        LoadedPropertyWriter(BeanPropertyWriter base) {
+            super(base);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider provider) throws Exception {
+            if (Hibernate.isInitialized(get(bean))) {
+                super.serializeAsField(bean, gen, provider);
+            }
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package com.heronix.benchmark;
+
+import com.heronix.model.domain.*;
+import com.heronix.model.dto.DashboardMetrics;
+import com.heronix.model.enums.CertificationType;
+import com.heronix.model.enums.EducationLevel;
+import com.heronix.model.enums.RoomType;
+import com.heronix.repository.*;
+import com.heronix.repository.spec.AggregateQueries;
+import com.heronix.repository.spec.CourseSpecifications;
+import com.heronix.service.DashboardMetricsService;
+import com.heronix.service.impl.EnrollmentForecastingServiceImpl;
+import com.heronix.testutil.TestDataBuilder;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Query Pushdown Benchmark
+ * Compares the findAll()-then-filter reads that were replaced by
+ * Specifications and AggregateQueries, on a district the size of the
+ * realistic sample dataset (82 rooms, 75 teachers, 271 courses, 1,500
+ * students with 7 enrollments each, two years of course requests) in an
+ * in-memory H2 database with the application's mappings.
+ *
+ * - dashboard: DashboardMetricsService.calculateMetrics, uncached
+ * - studentCourses: the courses of one student (GradebookService)
+ * - gradeForecast: EnrollmentForecastingService.forecastEnrollmentByGrade
+ * - growthRate: EnrollmentForecastingService.calculateGrowthRate
+ *
+ * Each has a legacy variant, the previous in-memory implementation, and a
+ * pushdown variant, the current one. The *FirstRequest benchmarks run the
+ * dashboard once per fresh JVM, as on application startup, where the
+ * legacy path also pays for loading and initializing every entity class.
+ *
+ * Both dashboard variants are checked to return the same counts at setup.
+ *
+ * Run: mvn test-compile exec:exec -Pbenchmark -Dbenchmark.includes=QueryPushdownBenchmark
+ *
+ * Location: src/test/java/com/heronix/benchmark/QueryPushdownBenchmark.java
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class QueryPushdownBenchmark {
+
+    // Realistic sample dataset
+    private static final int ROOMS = 82;
+    private static final int TEACHERS = 75;
+    private static final int COURSES = 271;
+    private static final int STUDENTS = 1500;
+    private static final int COURSES_PER_STUDENT = 7;
+
+    private static final String[] SUBJECTS = {
+        "English", "Mathematics", "Science", "Social Studies", "History",
+        "Biology", "Chemistry", "Art", "Spanish", "Physical Education"
+    };
+
+    private static final int YEAR = LocalDate.now().getYear();
+
+    private EntityManagerFactory entityManagerFactory;
+    private TransactionTemplate readOnly;
+    private CourseRepository courseRepository;
+    private TeacherRepository teacherRepository;
+    private StudentRepository studentRepository;
+    private CourseRequestRepository courseRequestRepository;
+    private DashboardMetricsService dashboardMetricsService;
+    private EnrollmentForecastingServiceImpl forecastingService;
+
+    private final List<Long> studentIds = new ArrayList<>();
+    private final Random random = new Random(42);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entityManagerFactory = BenchmarkDatabase.create("querypushdown", 4);
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        EntityManager sharedEntityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(sharedEntityManager);
+        courseRepository = repositoryFactory.getRepository(CourseRepository.class);
+        teacherRepository = repositoryFactory.getRepository(TeacherRepository.class);
+        studentRepository = repositoryFactory.getRepository(StudentRepository.class);
+        courseRequestRepository = repositoryFactory.getRepository(CourseRequestRepository.class);
+
+        AggregateQueries aggregateQueries = new AggregateQueries();
+        ReflectionTestUtils.setField(aggregateQueries, "entityManager", sharedEntityManager);
+
+        dashboardMetricsService = new DashboardMetricsService();
+        ReflectionTestUtils.setField(dashboardMetricsService, "courseRepository", courseRepository);
+        ReflectionTestUtils.setField(dashboardMetricsService, "teacherRepository", teacherRepository);
+
+        forecastingService = new EnrollmentForecastingServiceImpl();
+        ReflectionTestUtils.setField(forecastingService, "studentRepository", studentRepository);
+        ReflectionTestUtils.setField(forecastingService, "courseRepository", courseRepository);
+        ReflectionTestUtils.setField(forecastingService, "courseRequestRepository", courseRequestRepository);
+        ReflectionTestUtils.setField(forecastingService, "aggregateQueries", aggregateQueries);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> seed(sharedEntityManager));
+
+        DashboardMetrics legacy = dashboardLegacy();
+        DashboardMetrics pushdown = dashboardPushdown();
+        if (!counts(legacy).equals(counts(pushdown))) {
+            throw new IllegalStateException("Dashboard counts differ: legacy " + counts(legacy)
+                    + ", pushdown " + counts(pushdown));
+        }
+        System.out.printf("%nDashboard counts: %s%n", counts(pushdown));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+    }
+
+    // ========================================================================
+    // BENCHMARKS
+    // ========================================================================
+
+    @Benchmark
+    public DashboardMetrics dashboardLegacy() {
+        return readOnly.execute(status -> legacyMetrics());
+    }
+
+    @Benchmark
+    public DashboardMetrics dashboardPushdown() {
+        return readOnly.execute(status -> dashboardMetricsService.calculateMetrics());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(5)
+    public DashboardMetrics dashboardFirstRequestLegacy() {
+        return dashboardLegacy();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(5)
+    public DashboardMetrics dashboardFirstRequestPushdown() {
+        return dashboardPushdown();
+    }
+
+    @Benchmark
+    public int studentCoursesLegacy() {
+        Long studentId = randomStudentId();
+        return readOnly.execute(status -> {
+            Student student = studentRepository.findById(studentId).orElseThrow();
+            return courseRepository.findAll().stream()
+                    .filter(c -> c.getStudents() != null && c.getStudents().contains(student))
+                    .toList()
+                    .size();
+        });
+    }
+
+    @Benchmark
+    public int studentCoursesPushdown() {
+        Long studentId = randomStudentId();
+        return readOnly.execute(status ->
+                courseRepository.findAll(CourseSpecifications.enrolls(studentId)).size());
+    }
+
+    @Benchmark
+    public Map<String, Long> gradeForecastLegacy() {
+        return readOnly.execute(status -> studentRepository.findAll().stream()
+                .filter(student -> student != null && student.isActive())
+                .filter(student -> student.getGradeLevel() != null)
+                .collect(Collectors.groupingBy(Student::getGradeLevel, Collectors.counting())));
+    }
+
+    @Benchmark
+    public Map<String, Integer> gradeForecastPushdown() {
+        return readOnly.execute(status -> forecastingService.forecastEnrollmentByGrade(YEAR));
+    }
+
+    @Benchmark
+    public long growthRateLegacy() {
+        return readOnly.execute(status -> {
+            List<CourseRequest> allRequests = courseRequestRepository.findAll();
+            long count1 = allRequests.stream().filter(r -> Objects.equals(r.getRequestYear(), YEAR - 1)).count();
+            long count2 = allRequests.stream().filter(r -> Objects.equals(r.getRequestYear(), YEAR)).count();
+            return count2 - count1;
+        });
+    }
+
+    @Benchmark
+    public double growthRatePushdown() {
+        return readOnly.execute(status -> forecastingService.calculateGrowthRate(YEAR - 1, YEAR));
+    }
+
+    // ========================================================================
+    // LEGACY DASHBOARD
+    // ========================================================================
+
+    /**
+     * The counts of the previous DashboardMetricsService: every course and
+     * every teacher with their courses, filtered in memory
+     */
+    private DashboardMetrics legacyMetrics() {
+        DashboardMetrics metrics = new DashboardMetrics();
+        List<Course> allCourses = courseRepository.findAll();
+        metrics.setTotalCourses(allCourses.size());
+        metrics.setFullyAssignedCourses(allCourses.stream().filter(Course::isFullyAssigned).count());
+        metrics.setPartiallyAssignedCourses(allCourses.stream().filter(Course::isPartiallyAssigned).count());
+        metrics.setUnassignedCourses(allCourses.stream().filter(Course::isUnassigned).count());
+
+        List<Teacher> allTeachers = teacherRepository.findAllWithCourses();
+        List<Course> courses = courseRepository.findAll();
+        metrics.setOverloadedTeachersCount(allTeachers.stream().filter(Teacher::isOverloaded).count());
+        metrics.setUnderutilizedTeachersCount(allTeachers.stream().filter(Teacher::isUnderutilized).count());
+        metrics.setCertificationMismatchCount(courses.stream()
+                .filter(c -> c.getTeacher() != null && c.getSubject() != null)
+                .filter(c -> !c.getTeacher().getCertifiedSubjects().contains(c.getSubject()))
+                .count());
+        metrics.setLabRoomIssuesCount(courses.stream()
+                .filter(c -> c.getRoom() != null && requiresLab(c) && !isLabRoom(c.getRoom()))
+                .count());
+        metrics.setCapacityIssuesCount(courses.stream()
+                .filter(c -> c.getRoom() != null)
+                .filter(c -> c.getMaxStudents() > c.getRoom().getCapacity())
+                .count());
+        return metrics;
+    }
+
+    private static boolean requiresLab(Course course) {
+        String subject = course.getSubject().toLowerCase();
+        return subject.contains("science") || subject.contains("chemistry") || subject.contains("biology")
+                || subject.contains("physics") || subject.contains("lab");
+    }
+
+    private static boolean isLabRoom(Room room) {
+        return room.getRoomType() == RoomType.LAB || room.getRoomType() == RoomType.SCIENCE_LAB
+                || room.getRoomType() == RoomType.COMPUTER_LAB;
+    }
+
+    private static List<Long> counts(DashboardMetrics metrics) {
+        return List.of(metrics.getTotalCourses(), metrics.getFullyAssignedCourses(),
+                metrics.getPartiallyAssignedCourses(), metrics.getUnassignedCourses(),
+                metrics.getOverloadedTeachersCount(), metrics.getUnderutilizedTeachersCount(),
+                metrics.getCertificationMismatchCount(), metrics.getLabRoomIssuesCount(),
+                metrics.getCapacityIssuesCount());
+    }
+
+    // ========================================================================
+    // DATASET
+    // ========================================================================
+
+    private void seed(EntityManager entityManager) {
+        List<Room> rooms = new ArrayList<>();
+        for (int r = 0; r < ROOMS; r++) {
+            Room room = TestDataBuilder.aRoom()
+                    .withId(null)
+                    .withRoomNumber("R" + (100 + r))
+                    .withCapacity(24 + r % 12)
+                    .build();
+            room.setType(r % 8 == 0 ? RoomType.SCIENCE_LAB : r % 13 == 0 ? RoomType.COMPUTER_LAB : RoomType.CLASSROOM);
+            entityManager.persist(room);
+            rooms.add(room);
+        }
+
+        List<Teacher> teachers = new ArrayList<>();
+        for (int t = 0; t < TEACHERS; t++) {
+            Teacher teacher = TestDataBuilder.aTeacher()
+                    .withId(null)
+                    .withEmployeeId("EMP" + (1000 + t))
+                    .withLastName("Teacher" + t)
+                    .withEmail("t" + t + "@district.org")
+                    .withCertifications(new ArrayList<>())
+                    .build();
+            // Every fourth teacher isn't certified in the subject they teach
+            SubjectCertification certification = new SubjectCertification();
+            certification.setSubject(SUBJECTS[(t + (t % 4 == 0 ? 1 : 0)) % SUBJECTS.length]);
+            certification.setCertificationType(CertificationType.PROFESSIONAL);
+            certification.setCertificationNumber("CERT-" + t);
+            certification.setExpirationDate(LocalDate.now().plusYears(3));
+            certification.setTeacher(teacher);
+            teacher.getSubjectCertifications().add(certification);
+            entityManager.persist(teacher);
+            teachers.add(teacher);
+        }
+
+        List<Course> courses = new ArrayList<>();
+        for (int c = 0; c < COURSES; c++) {
+            Course course = TestDataBuilder.aCourse()
+                    .withId(null)
+                    .withCourseCode("C" + (1000 + c))
+                    .withCourseName("Course " + c)
+                    .withSubject(SUBJECTS[c % SUBJECTS.length])
+                    .withMaxStudents(25 + c % 10)
+                    .build();
+            course.setLevel(EducationLevel.HIGH_SCHOOL);
+            // The first five teachers are overloaded, the last five have no courses
+            int teacher = c < 30 ? c % 5 : c % (TEACHERS - 5);
+            if (c % 20 != 0) {
+                course.setTeacher(teachers.get(teacher));
+            }
+            if (c % 7 != 0) {
+                course.setRoom(rooms.get(c % ROOMS));
+            }
+            entityManager.persist(course);
+            courses.add(course);
+        }
+
+        for (int s = 0; s < STUDENTS; s++) {
+            Student student = TestDataBuilder.aStudent()
+                    .withId(null)
+                    .withStudentId("S" + (100000 + s))
+                    .withEmail("s" + s + "@district.org")
+                    .withGradeLevel(String.valueOf(9 + s % 4))
+                    .build();
+            for (int e = 0; e < COURSES_PER_STUDENT; e++) {
+                student.getEnrolledCourses().add(courses.get((s * COURSES_PER_STUDENT + e * 31) % COURSES));
+            }
+            entityManager.persist(student);
+            studentIds.add(student.getId());
+
+            for (Course course : student.getEnrolledCourses()) {
+                for (int year = YEAR - 1; year <= YEAR; year++) {
+                    CourseRequest request = new CourseRequest();
+                    request.setStudent(student);
+                    request.setCourse(course);
+                    request.setRequestYear(year);
+                    entityManager.persist(request);
+                }
+            }
+
+            if (s % 100 == 99) {
+                entityManager.flush();
+                entityManager.clear();
+                courses.replaceAll(course -> entityManager.getReference(Course.class, course.getId()));
+            }
+        }
+    }
+
+    private Long randomStudentId() {
+        return studentIds.get(random.nextInt(studentIds.size()));
+    }
+}
@@ -0,0 +1,79 @@
+package com.heronix.benchmark;
+
+import com.heronix.service.RateLimitService;
+import com.heronix.service.RateLimitService.Decision;
+import com.heronix.service.RateLimitService.Limit;
+import com.heronix.service.RateLimitService.Tier;
+import com.heronix.util.LockFreeTokenBucket;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate Limiter Benchmark
+ * Measures the per-request cost of RateLimitService with four threads
+ * calling at once; the target is well under 1 µs per request.
+ *
+ * - hotKey: every thread on the same API key (CAS contention on one bucket)
+ * - hierarchical: API key, owner and campus limits checked together
+ * - manyKeys: requests spread over 50,000 client IPs
+ *
+ * Limits are set to the largest bucket size. A bucket that runs dry during
+ * the run denies requests: same key lookup and refill, without the CAS.
+ *
+ * Run: mvn test-compile exec:exec -Pbenchmark -Dbenchmark.includes=RateLimiterBenchmark
+ *
+ * Location: src/test/java/com/heronix/benchmark/RateLimiterBenchmark.java
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private static final int CLIENTS = 50_000;
+
+    private static final Limit API_KEY = Limit.perMinute("apikey", LockFreeTokenBucket.MAX_CAPACITY);
+    private static final Limit OWNER = Limit.perMinute("owner", LockFreeTokenBucket.MAX_CAPACITY);
+    private static final Limit CAMPUS = Limit.perMinute("campus", LockFreeTokenBucket.MAX_CAPACITY);
+    private static final Limit IP = Limit.perMinute("ip", LockFreeTokenBucket.MAX_CAPACITY);
+
+    private RateLimitService rateLimitService;
+    private List<Tier> tiers;
+    private String[] clients;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rateLimitService = new RateLimitService(100_000, 5, Optional.empty());
+        tiers = List.of(new Tier(API_KEY, "42"), new Tier(OWNER, "partner1"), new Tier(CAMPUS, "3"));
+        clients = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clients[i] = "10.1." + (i >> 8) + "." + (i & 0xFF);
+        }
+    }
+
+    @Benchmark
+    public Decision hotKey() {
+        return rateLimitService.tryAcquire(API_KEY, "42");
+    }
+
+    @Benchmark
+    public Decision hierarchical() {
+        return rateLimitService.tryAcquire(tiers);
+    }
+
+    @Benchmark
+    public Decision manyKeys() {
+        return rateLimitService.tryAcquire(IP, clients[ThreadLocalRandom.current().nextInt(CLIENTS)]);
+    }
+}
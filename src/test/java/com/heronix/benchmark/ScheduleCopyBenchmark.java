@@ -0,0 +1,123 @@
+package com.heronix.benchmark;
+
+import com.heronix.model.domain.*;
+import com.heronix.service.impl.CompactSchedule;
+import com.heronix.service.impl.EnhancedSolverService;
+import com.heronix.service.impl.EnhancedSolverService.SimulatedAnnealingConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedule Copy Benchmark
+ * Measures the cost of the optimizers' working copies on a synthetic 1,000-slot
+ * schedule: a detached entity copy (a new ScheduleSlot per slot) against a
+ * CompactSchedule copy into a reused buffer, plus a full simulated annealing run.
+ *
+ * Read the gc.alloc.rate.norm column (bytes per operation, from the GC
+ * profiler the benchmark profile enables). annealingRun only uses the public
+ * solver API, so the same class can be run on an earlier revision for a
+ * before/after comparison.
+ *
+ * Run: mvn test-compile exec:exec -Pbenchmark -Dbenchmark.includes=ScheduleCopyBenchmark
+ *
+ * Location: src/test/java/com/heronix/benchmark/ScheduleCopyBenchmark.java
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 14 - Solver Optimizations
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScheduleCopyBenchmark {
+
+    private static final int PERIODS_PER_DAY = 8;
+
+    @Param({"1000"})
+    private int slotCount;
+
+    private List<ScheduleSlot> slots;
+    private CompactSchedule compact;
+    private CompactSchedule buffer;
+    private EnhancedSolverService solver;
+    private SimulatedAnnealingConfig annealingConfig;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+
+        int teacherCount = Math.max(1, slotCount / 25);
+        int roomCount = Math.max(1, slotCount / 30);
+
+        List<Teacher> teachers = new ArrayList<>();
+        for (int i = 0; i < teacherCount; i++) {
+            Teacher teacher = new Teacher();
+            teacher.setId((long) i + 1);
+            teacher.setName("Teacher " + i);
+            teachers.add(teacher);
+        }
+
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < roomCount; i++) {
+            Room room = new Room();
+            room.setId((long) i + 1);
+            room.setRoomNumber("R" + i);
+            rooms.add(room);
+        }
+
+        slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            int period = random.nextInt(PERIODS_PER_DAY);
+            ScheduleSlot slot = new ScheduleSlot();
+            slot.setTeacher(teachers.get(random.nextInt(teachers.size())));
+            slot.setRoom(rooms.get(random.nextInt(rooms.size())));
+            slot.setDayOfWeek(DayOfWeek.values()[random.nextInt(5)]);
+            slot.setStartTime(LocalTime.of(8, 0).plusHours(period));
+            slot.setEndTime(LocalTime.of(9, 0).plusHours(period));
+            slots.add(slot);
+        }
+
+        compact = CompactSchedule.of(slots);
+        buffer = compact.copy();
+
+        // The solver doesn't use its repositories
+        solver = new EnhancedSolverService(null, null, null, null);
+        annealingConfig = SimulatedAnnealingConfig.builder()
+            .maxIterations(1000)
+            .build();
+    }
+
+    @Benchmark
+    public List<ScheduleSlot> entityCopy() {
+        List<ScheduleSlot> copy = new ArrayList<>(slots.size());
+        for (ScheduleSlot slot : slots) {
+            ScheduleSlot clone = new ScheduleSlot();
+            clone.setTeacher(slot.getTeacher());
+            clone.setRoom(slot.getRoom());
+            clone.setCourse(slot.getCourse());
+            clone.setDayOfWeek(slot.getDayOfWeek());
+            clone.setStartTime(slot.getStartTime());
+            clone.setEndTime(slot.getEndTime());
+            copy.add(clone);
+        }
+        return copy;
+    }
+
+    @Benchmark
+    public CompactSchedule compactCopy() {
+        buffer.copyFrom(compact);
+        return buffer;
+    }
+
+    @Benchmark
+    public double annealingRun() {
+        return solver.optimizeWithSimulatedAnnealing(slots, annealingConfig).getFinalScore();
+    }
+}
@@ -0,0 +1,118 @@
+package com.heronix.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test for TieredCacheManager
+ * Verifies per-cache settings, weight bounds, the disk tier and refresh-after-write
+ */
+class TieredCacheManagerTest {
+
+    @TempDir
+    Path spillDirectory;
+
+    private ApplicationProperties.Cache settings;
+
+    @BeforeEach
+    void setUp() {
+        settings = new ApplicationProperties.Cache();
+        settings.getSpill().setDirectory(spillDirectory.toString());
+    }
+
+    @Test
+    void testRegisteredAndUnknownCaches_ShouldBothResolve() {
+        settings.getSpecs().put("fromProperties", new ApplicationProperties.Cache.CacheSpec());
+        TieredCacheManager manager = createManager();
+
+        assertTrue(manager.getCacheNames().containsAll(List.of("dashboardMetrics", "fromProperties")));
+        assertNotNull(manager.getCache("notRegistered"));
+        assertTrue(manager.getCacheNames().contains("notRegistered"));
+    }
+
+    @Test
+    void testMaximumWeight_ShouldEvictAndRecordStats() {
+        settings.getSpecs().put("dashboardMetrics", spec(10L, false, null));
+        TieredCache cache = (TieredCache) createManager().getCache("dashboardMetrics");
+
+        for (int i = 0; i < 50; i++) {
+            cache.put(i, "value " + i);
+        }
+        cache.getNativeCache().cleanUp();
+
+        assertTrue(cache.getNativeCache().estimatedSize() <= 10);
+        assertTrue(cache.getNativeCache().stats().evictionCount() >= 40);
+    }
+
+    @Test
+    void testSpill_ShouldPromoteEvictedEntriesFromDisk() {
+        settings.getSpecs().put("dashboardMetrics", spec(5L, true, null));
+        TieredCache cache = (TieredCache) createManager().getCache("dashboardMetrics");
+
+        for (int i = 0; i < 20; i++) {
+            cache.put(i, new ArrayList<>(List.of("value " + i)));
+        }
+        cache.getNativeCache().cleanUp();
+
+        assertTrue(cache.getSpillStore().getWrites() > 0);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(List.of("value " + i), cache.get(i, List.class), "key " + i);
+        }
+        assertTrue(cache.getSpillStore().getHits() > 0);
+
+        cache.clear();
+        assertEquals(0, cache.getSpillStore().getEntryCount());
+        assertEquals(0, cache.getSpillStore().getBytes());
+    }
+
+    @Test
+    void testRefreshAfterWrite_ShouldReturnStaleValueAndReload() throws Exception {
+        settings.getSpecs().put("dashboardMetrics", spec(null, false, Duration.ofMillis(1)));
+        TieredCacheManager manager = new TieredCacheManager(settings, List.of("dashboardMetrics"), Runnable::run);
+        manager.afterPropertiesSet();
+        TieredCache cache = (TieredCache) manager.getCache("dashboardMetrics");
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(1, cache.get("key", loads::incrementAndGet));
+        Thread.sleep(5);
+
+        // The stale value is returned; the reload runs on the (direct) refresh executor
+        assertEquals(1, cache.get("key", loads::incrementAndGet));
+        assertEquals(2, cache.get("key", Integer.class));
+        assertEquals(1, cache.getRefreshCount());
+    }
+
+    @Test
+    void testWeigh_ShouldCountElements() {
+        assertEquals(1, TieredCacheManager.weigh("short"));
+        assertEquals(4, TieredCacheManager.weigh(List.of(1, 2, 3)));
+        assertEquals(3, TieredCacheManager.weigh(new byte[2048]));
+    }
+
+    // ========================================================================
+    // HELPER METHODS
+    // ========================================================================
+
+    private TieredCacheManager createManager() {
+        TieredCacheManager manager = new TieredCacheManager(settings, List.of("dashboardMetrics"));
+        manager.afterPropertiesSet();
+        return manager;
+    }
+
+    private ApplicationProperties.Cache.CacheSpec spec(Long maximumWeight, boolean spill, Duration refresh) {
+        ApplicationProperties.Cache.CacheSpec spec = new ApplicationProperties.Cache.CacheSpec();
+        spec.setMaximumWeight(maximumWeight);
+        spec.setSpill(spill);
+        spec.setRefreshAfterWrite(refresh);
+        return spec;
+    }
+}
@@ -0,0 +1,121 @@
+package com.heronix.monitoring;
+
+import com.heronix.testutil.SqlBudget;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Unit Tests for SqlActivity
+ *
+ * Runs queries through SqlActivityDataSource on an in-memory H2 database and
+ * checks the counts, the N+1 / repeated statement findings and the
+ * SqlBudget assertions built on them.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+class SqlActivityTest {
+
+    private static final String FIND_NAME = "SELECT name FROM course WHERE id = ?";
+
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:sqlactivity;DB_CLOSE_DELAY=-1");
+        jdbc = new JdbcTemplate(new SqlActivityDataSource(h2));
+        jdbc.execute("CREATE TABLE course (id BIGINT PRIMARY KEY, name VARCHAR(50))");
+        for (long id = 1; id <= 20; id++) {
+            jdbc.update("INSERT INTO course (id, name) VALUES (?, ?)", id, "Course " + id);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbc.execute("DROP TABLE course");
+    }
+
+    @Test
+    void testQueryPerKey_FlaggedAsNPlusOne() {
+        SqlActivity activity = SqlActivity.measure(SqlActivity.Kind.TEST, "loop", () -> {
+            for (long id = 1; id <= 12; id++) {
+                jdbc.queryForObject(FIND_NAME, String.class, id);
+            }
+        });
+
+        assertThat(activity.getStatements()).isEqualTo(12);
+        assertThat(activity.getRowsFetched()).isEqualTo(12);
+        assertThat(activity.findings(10)).singleElement().satisfies(finding -> {
+            assertThat(finding.type()).isEqualTo(SqlActivity.Finding.Type.N_PLUS_ONE);
+            assertThat(finding.sql()).isEqualTo(FIND_NAME);
+            assertThat(finding.distinctParameters()).isEqualTo(12);
+        });
+        assertThat(SqlActivity.current()).isNull();
+    }
+
+    @Test
+    void testSameQuerySameKey_FlaggedAsRepeated() {
+        SqlActivity activity = SqlActivity.measure(SqlActivity.Kind.TEST, "repeat", () -> {
+            for (int i = 0; i < 5; i++) {
+                jdbc.queryForObject(FIND_NAME, String.class, 7L);
+            }
+        });
+
+        assertThat(activity.findings(3)).extracting(SqlActivity.Finding::type)
+                .containsExactly(SqlActivity.Finding.Type.REPEATED);
+    }
+
+    @Test
+    void testInlineLiterals_NormalizedToOneStatement() {
+        SqlActivity activity = SqlActivity.measure(SqlActivity.Kind.TEST, "literals", () -> {
+            jdbc.queryForList("SELECT name FROM course WHERE id IN (1, 2, 3)", String.class);
+            jdbc.queryForList("SELECT  name FROM course WHERE id IN (4,5)", String.class);
+            jdbc.queryForList("SELECT name FROM course WHERE name = 'Course 9'", String.class);
+        });
+
+        assertThat(activity.getRowsFetched()).isEqualTo(6);
+        assertThat(activity.getExecutionsByStatement()).containsExactly(
+                entry("SELECT name FROM course WHERE id IN (?)", 2),
+                entry("SELECT name FROM course WHERE name = ?", 1));
+    }
+
+    @Test
+    void testNestedScope_CountedInOuterScope() {
+        SqlActivity outer = SqlActivity.begin(SqlActivity.Kind.TEST, "outer");
+        try {
+            jdbc.queryForObject(FIND_NAME, String.class, 1L);
+            SqlActivity nested = SqlActivity.measure(SqlActivity.Kind.ASYNC, "inner",
+                    () -> jdbc.queryForObject(FIND_NAME, String.class, 2L));
+
+            assertThat(nested.getStatements()).isEqualTo(1);
+            assertThat(SqlActivity.current()).isSameAs(outer);
+        } finally {
+            outer.finish();
+        }
+        assertThat(outer.getStatements()).isEqualTo(2);
+    }
+
+    @Test
+    void testSqlBudget_OverBudgetOrNPlusOne_FailsWithStatements() {
+        SqlBudget.measure(() -> jdbc.queryForList("SELECT id FROM course", Long.class))
+                .hasAtMostStatements(1)
+                .hasNoNPlusOne();
+
+        assertThatThrownBy(() -> SqlBudget.measure(() -> List.of(1L, 2L, 3L)
+                        .forEach(id -> jdbc.queryForObject(FIND_NAME, String.class, id)))
+                .hasNoNPlusOne())
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("N_PLUS_ONE x3: " + FIND_NAME);
+    }
+}
@@ -0,0 +1,138 @@
+package com.heronix.security;
+
+import com.heronix.model.domain.ApiKey;
+import com.heronix.service.ApiKeyService;
+import com.heronix.service.ApiKeyUsageRecorder;
+import com.heronix.service.JwtTokenService;
+import com.heronix.service.RateLimitService;
+import com.heronix.service.RateLimitService.Limit;
+import com.heronix.service.SecurityAuditService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit Tests for RateLimitFilter
+ *
+ * Tests that the campus-wide limit is charged only for principals whose
+ * campus was verified, never for a campus named by the request, and that
+ * a request's API key is validated once for both API key filters.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@ExtendWith(MockitoExtension.class)
+class RateLimitFilterTest {
+
+    private static final Limit CAMPUS = Limit.perHour("campus", 1);
+
+    @Mock(lenient = true)
+    private ApiKeyService apiKeyService;
+
+    @Mock
+    private JwtTokenService jwtTokenService;
+
+    @Mock
+    private SecurityAuditService auditService;
+
+    @Mock
+    private ApiKeyUsageRecorder apiKeyUsageRecorder;
+
+    private RateLimitService rateLimitService;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitService = new RateLimitService(1000, 5, Optional.empty());
+        filter = new RateLimitFilter(rateLimitService, apiKeyService, jwtTokenService, auditService,
+            1000, 100, 10_000, CAMPUS.capacity());
+    }
+
+    @Test
+    void testAnonymousRequestWithCampusHeader_DoesNotConsumeCampusLimit() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            MockHttpServletRequest request = request("10.0.0." + i);
+            request.addHeader("X-Campus-Id", "7");
+
+            assertThat(filter(request).getStatus()).isEqualTo(200);
+        }
+
+        assertThat(rateLimitService.getRemainingRequests(CAMPUS, "7")).isEqualTo(1);
+    }
+
+    @Test
+    void testUnverifiedApiKeyWithCampusHeader_DoesNotConsumeCampusLimit() throws Exception {
+        when(apiKeyService.validateApiKey(anyString())).thenReturn(Optional.empty());
+        MockHttpServletRequest request = request("10.0.0.1");
+        request.addHeader("X-API-Key", "hx_live_0123456789abcdef_forged");
+        request.addHeader("X-Campus-Id", "7");
+
+        assertThat(filter(request).getStatus()).isEqualTo(200);
+        assertThat(rateLimitService.getRemainingRequests(CAMPUS, "7")).isEqualTo(1);
+    }
+
+    @Test
+    void testVerifiedApiKeys_ShareTheirCampusLimit() throws Exception {
+        when(apiKeyService.validateApiKey("hx_live_key1")).thenReturn(Optional.of(key(1L, "7")));
+        when(apiKeyService.validateApiKey("hx_live_key2")).thenReturn(Optional.of(key(2L, "7")));
+
+        MockHttpServletRequest first = request("10.0.0.1");
+        first.addHeader("X-API-Key", "hx_live_key1");
+        MockHttpServletRequest second = request("10.0.0.2");
+        second.addHeader("X-API-Key", "hx_live_key2");
+
+        assertThat(filter(first).getStatus()).isEqualTo(200);
+        assertThat(filter(second).getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void testApiKey_ValidatedOnceForRateLimitAndAuthentication() throws Exception {
+        when(apiKeyService.validateApiKey("hx_live_key1")).thenReturn(Optional.of(key(1L, null)));
+        MockHttpServletRequest request = request("10.0.0.1");
+        request.addHeader("X-API-Key", "hx_live_key1");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) ->
+            new ApiKeyAuthenticationFilter(apiKeyService, apiKeyUsageRecorder)
+                .doFilter(req, res, new MockFilterChain()));
+
+        verify(apiKeyService, times(1)).validateApiKey("hx_live_key1");
+        verify(apiKeyUsageRecorder).record(1L);
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletRequest request(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/students");
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+
+    private MockHttpServletResponse filter(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private ApiKey key(Long id, String campusId) {
+        return ApiKey.builder()
+            .id(id)
+            .userId("partner" + id)
+            .campusId(campusId)
+            .rateLimit(1000)
+            .build();
+    }
+}
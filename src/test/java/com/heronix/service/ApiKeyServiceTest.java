@@ -0,0 +1,126 @@
+package com.heronix.service;
+
+import com.heronix.model.domain.ApiKey;
+import com.heronix.repository.ApiKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit Tests for ApiKeyService validation
+ *
+ * Tests the key ID format, the indexed lookup, the verified-key cache and
+ * its eviction, and keys issued in the legacy format.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@ExtendWith(MockitoExtension.class)
+class ApiKeyServiceTest {
+
+    @Mock(lenient = true)
+    private ApiKeyRepository apiKeyRepository;
+
+    private ApiKeyService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ApiKeyService(apiKeyRepository, Duration.ofMinutes(1), 100, Duration.ofSeconds(10));
+        when(apiKeyRepository.save(any(ApiKey.class))).thenAnswer(invocation -> {
+            ApiKey key = invocation.getArgument(0);
+            if (key.getId() == null) {
+                key.setId(7L);
+            }
+            return key;
+        });
+    }
+
+    private ApiKeyService.ApiKeyGenerationResult generate() {
+        ApiKeyService.ApiKeyGenerationResult result = service.generateApiKey("partner1", "SIS sync", null,
+                Set.of("read:students"), 1000, null, Set.of(), false);
+        ApiKey stored = result.apiKeyEntity();
+        when(apiKeyRepository.findByKeyId(stored.getKeyId())).thenReturn(Optional.of(stored));
+        when(apiKeyRepository.findById(stored.getId())).thenReturn(Optional.of(stored));
+        return result;
+    }
+
+    @Test
+    void testGeneratedKey_EmbedsKeyId_AndValidatesWithOneLookup() {
+        ApiKeyService.ApiKeyGenerationResult result = generate();
+        String keyId = result.apiKeyEntity().getKeyId();
+
+        assertThat(result.plainTextKey()).startsWith("hx_live_" + keyId + "_");
+        assertThat(keyId).matches("[0-9a-f]{16}");
+
+        Optional<ApiKey> first = service.validateApiKey(result.plainTextKey());
+        Optional<ApiKey> second = service.validateApiKey(result.plainTextKey());
+
+        assertThat(first).get().extracting(ApiKey::getUserId).isEqualTo("partner1");
+        assertThat(second).get().extracting(ApiKey::getScopes).isEqualTo(Set.of("read:students"));
+        verify(apiKeyRepository, times(1)).findByKeyId(keyId);
+        verify(apiKeyRepository, never()).findAll();
+    }
+
+    @Test
+    void testWrongSecretForKnownKeyId_RejectedAndNotCached() {
+        ApiKeyService.ApiKeyGenerationResult result = generate();
+        String forged = "hx_live_" + result.apiKeyEntity().getKeyId() + "_not-the-secret";
+
+        assertThat(service.validateApiKey(forged)).isEmpty();
+        assertThat(service.validateApiKey("hx_live")).isEmpty();
+        assertThat(service.validateApiKey(result.plainTextKey())).isPresent();
+    }
+
+    @Test
+    void testUnknownKeyId_RejectedWithoutLegacyCheck_AndRejectionCached() {
+        String forged = "hx_live_0123456789abcdef_Zm9yZ2VkLXNlY3JldA";
+        when(apiKeyRepository.findByKeyId("0123456789abcdef")).thenReturn(Optional.empty());
+
+        assertThat(service.validateApiKey(forged)).isEmpty();
+        assertThat(service.validateApiKey(forged)).isEmpty();
+
+        verify(apiKeyRepository, times(1)).findByKeyId("0123456789abcdef");
+        verify(apiKeyRepository, never()).findByKeyPrefixAndKeyIdIsNullAndActiveTrue(anyString());
+    }
+
+    @Test
+    void testRevokedKey_EvictedFromCache() {
+        ApiKeyService.ApiKeyGenerationResult result = generate();
+        assertThat(service.validateApiKey(result.plainTextKey())).isPresent();
+
+        service.revokeApiKey(result.apiKeyEntity().getId());
+
+        assertThat(service.validateApiKey(result.plainTextKey())).isEmpty();
+    }
+
+    @Test
+    void testLegacyKeyWithoutKeyId_StillValid() {
+        String legacyKey = "hx_test_Zm9vYmFyYmF6cXV4cXV1eC1sZWdhY3kta2V5";
+        ApiKey legacy = ApiKey.builder()
+                .id(3L)
+                .name("Legacy")
+                .keyPrefix("hx_test")
+                .keyHash(new BCryptPasswordEncoder(4).encode(legacyKey))
+                .userId("partner2")
+                .build();
+        when(apiKeyRepository.findByKeyId(anyString())).thenReturn(Optional.empty());
+        when(apiKeyRepository.findByKeyPrefixAndKeyIdIsNullAndActiveTrue("hx_test")).thenReturn(List.of(legacy));
+
+        assertThat(service.validateApiKey(legacyKey)).get().extracting(ApiKey::getUserId).isEqualTo("partner2");
+        assertThat(service.validateApiKey(legacyKey + "x")).isEmpty();
+    }
+}
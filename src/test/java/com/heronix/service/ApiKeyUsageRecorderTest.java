@@ -0,0 +1,70 @@
+package com.heronix.service;
+
+import com.heronix.repository.ApiKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit Tests for ApiKeyUsageRecorder
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@ExtendWith(MockitoExtension.class)
+class ApiKeyUsageRecorderTest {
+
+    @Mock(lenient = true)
+    private ApiKeyRepository apiKeyRepository;
+
+    @Mock(lenient = true)
+    private PlatformTransactionManager transactionManager;
+
+    private ApiKeyUsageRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new ApiKeyUsageRecorder(apiKeyRepository, transactionManager);
+    }
+
+    @Test
+    void testFlush_OneUpdatePerKeyWithAggregatedCount() {
+        for (int i = 0; i < 250; i++) {
+            recorder.record(1L);
+        }
+        recorder.record(2L);
+
+        assertThat(recorder.flush()).isEqualTo(2);
+        assertThat(recorder.flush()).isZero();
+
+        verify(apiKeyRepository).addUsage(eq(1L), eq(250L), any(LocalDateTime.class));
+        verify(apiKeyRepository).addUsage(eq(2L), eq(1L), any(LocalDateTime.class));
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void testFailedFlush_CountsKeptForNextFlush() {
+        doThrow(new RuntimeException("Connection refused")).doReturn(1)
+                .when(apiKeyRepository).addUsage(anyLong(), anyLong(), any());
+        recorder.record(1L);
+        recorder.record(1L);
+
+        assertThat(recorder.flush()).isZero();
+        recorder.record(1L);
+        assertThat(recorder.flush()).isEqualTo(1);
+
+        verify(apiKeyRepository).addUsage(eq(1L), eq(3L), any(LocalDateTime.class));
+    }
+}
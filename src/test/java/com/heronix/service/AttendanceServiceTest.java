@@ -9,6 +9,7 @@ import com.heronix.service.impl.AttendanceService.ChronicAbsenceAlert;
 import com.heronix.service.impl.AttendanceService.DailyAttendanceReport;
 import com.heronix.testutil.BaseServiceTest;
 import com.heronix.testutil.TestDataBuilder;
+import com.heronix.websocket.AttendanceWebSocketHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -45,6 +46,15 @@ class AttendanceServiceTest extends BaseServiceTest {
     @Mock(lenient = true)
     private StudentRepository studentRepository;
 
+    @Mock(lenient = true)
+    private CourseRepository courseRepository;
+
+    @Mock(lenient = true)
+    private BulkWriteService bulkWriteService;
+
+    @Mock(lenient = true)
+    private AttendanceWebSocketHandler attendanceWebSocketHandler;
+
     @InjectMocks
     private AttendanceService service;
 
@@ -173,8 +183,7 @@ class AttendanceServiceTest extends BaseServiceTest {
         Map<Long, AttendanceStatus> statuses = new HashMap<>();
         statuses.put(1L, AttendanceStatus.PRESENT);
 
-        when(studentRepository.findById(anyLong())).thenReturn(Optional.of(testStudent));
-        when(attendanceRepository.save(any(AttendanceRecord.class))).thenReturn(testRecord);
+        when(studentRepository.findAllById(anyCollection())).thenReturn(List.of(testStudent));
 
         // When/Then: Should not throw
         assertDoesNotThrow(() ->
@@ -188,8 +197,7 @@ class AttendanceServiceTest extends BaseServiceTest {
         Map<Long, AttendanceStatus> statuses = new HashMap<>();
         statuses.put(1L, AttendanceStatus.PRESENT);
 
-        when(studentRepository.findById(anyLong())).thenReturn(Optional.of(testStudent));
-        when(attendanceRepository.save(any(AttendanceRecord.class))).thenReturn(testRecord);
+        when(studentRepository.findAllById(anyCollection())).thenReturn(List.of(testStudent));
 
         // When/Then: Should not throw
         assertDoesNotThrow(() ->
@@ -203,8 +211,7 @@ class AttendanceServiceTest extends BaseServiceTest {
         Map<Long, AttendanceStatus> statuses = new HashMap<>();
         statuses.put(1L, AttendanceStatus.PRESENT);
 
-        when(studentRepository.findById(anyLong())).thenReturn(Optional.of(testStudent));
-        when(attendanceRepository.save(any(AttendanceRecord.class))).thenReturn(testRecord);
+        when(studentRepository.findAllById(anyCollection())).thenReturn(List.of(testStudent));
 
         // When/Then: Should not throw
         assertDoesNotThrow(() ->
@@ -233,8 +240,7 @@ class AttendanceServiceTest extends BaseServiceTest {
         statuses.put(1L, AttendanceStatus.PRESENT);
         statuses.put(null, AttendanceStatus.ABSENT); // Null key
 
-        when(studentRepository.findById(1L)).thenReturn(Optional.of(testStudent));
-        when(attendanceRepository.save(any(AttendanceRecord.class))).thenReturn(testRecord);
+        when(studentRepository.findAllById(anyCollection())).thenReturn(List.of(testStudent));
 
         // When
         List<AttendanceRecord> result = service.recordClassAttendance(
@@ -245,6 +251,49 @@ class AttendanceServiceTest extends BaseServiceTest {
         assertEquals(1, result.size()); // Only the valid entry should be processed
     }
 
+    @Test
+    void testRecordClassAttendance_ShouldBatchNewRecordsAndUpdateExisting() {
+        // Given: student 1 already marked PRESENT this period, student 2 new, student 99 unknown
+        Student secondStudent = TestDataBuilder.aStudent().withId(2L).build();
+        Map<Long, AttendanceStatus> statuses = new LinkedHashMap<>();
+        statuses.put(1L, AttendanceStatus.TARDY);
+        statuses.put(2L, AttendanceStatus.ABSENT);
+        statuses.put(99L, AttendanceStatus.PRESENT);
+
+        when(studentRepository.findAllById(anyCollection())).thenReturn(List.of(testStudent, secondStudent));
+        when(attendanceRepository.findClassPeriodRecords(eq(1L), eq(testDate), eq(1), anyCollection()))
+            .thenReturn(List.of(testRecord));
+
+        // When
+        List<AttendanceRecord> result = service.recordClassAttendance(
+            1L, testDate, 1, statuses, "teacher@school.edu");
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(AttendanceStatus.TARDY, testRecord.getStatus());
+        verify(bulkWriteService).insertAll(argThat(records -> records.size() == 1));
+        verify(studentRepository, never()).findById(anyLong());
+        verify(attendanceRepository, never()).save(any(AttendanceRecord.class));
+        verify(attendanceWebSocketHandler, times(1)).broadcastClassAttendanceRecorded(
+            1L, testDate.toString(), 1, 1, 1, Map.of("ABSENT", 1L, "TARDY", 1L));
+    }
+
+    @Test
+    void testRecordClassAttendance_WhenNothingChanged_ShouldNotBroadcast() {
+        // Given
+        when(studentRepository.findAllById(anyCollection())).thenReturn(List.of(testStudent));
+        when(attendanceRepository.findClassPeriodRecords(eq(1L), eq(testDate), eq(1), anyCollection()))
+            .thenReturn(List.of(testRecord));
+
+        // When
+        List<AttendanceRecord> result = service.recordClassAttendance(
+            1L, testDate, 1, Map.of(1L, AttendanceStatus.PRESENT), "teacher@school.edu");
+
+        // Then
+        assertEquals(List.of(testRecord), result);
+        verifyNoInteractions(attendanceWebSocketHandler);
+    }
+
     // ========================================================================
     // NULL SAFETY TESTS - getStudentAttendanceSummary()
     // ========================================================================
@@ -520,18 +569,17 @@ class AttendanceServiceTest extends BaseServiceTest {
             .withLastName("Smith")
             .build();
 
-        when(studentRepository.findById(1L)).thenReturn(Optional.of(testStudent));
-        when(studentRepository.findById(2L)).thenReturn(Optional.of(student2));
-        when(attendanceRepository.save(any(AttendanceRecord.class))).thenReturn(testRecord);
+        when(studentRepository.findAllById(anyCollection())).thenReturn(List.of(testStudent, student2));
 
         // When
         List<AttendanceRecord> result = service.recordClassAttendance(
             1L, testDate, 1, statuses, "teacher@school.edu");
 
-        // Then
+        // Then: One roster query and one batch insert
         assertNotNull(result);
         assertEquals(2, result.size());
-        verify(attendanceRepository, times(2)).save(any(AttendanceRecord.class));
+        verify(studentRepository, times(1)).findAllById(anyCollection());
+        verify(bulkWriteService).insertAll(argThat(records -> records.size() == 2));
     }
 
     @Test
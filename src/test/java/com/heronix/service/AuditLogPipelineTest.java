@@ -0,0 +1,288 @@
+package com.heronix.service;
+
+import com.heronix.model.domain.AuditLog;
+import com.heronix.model.domain.AuditLog.AuditAction;
+import com.heronix.repository.AuditLogRepository;
+import com.heronix.util.MpscRingBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit Tests for AuditLogPipeline
+ *
+ * Tests batching, spilling when the buffer is full or the database fails,
+ * replay of the spill file (skipping rows already stored, quarantining rows
+ * the database rejects, and picking up rows spilled meanwhile), durable actions
+ * reaching disk before submit returns, and the ring buffer under concurrent
+ * producers.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@ExtendWith(MockitoExtension.class)
+class AuditLogPipelineTest {
+
+    @Mock(lenient = true)
+    private BulkWriteService bulkWriteService;
+
+    @Mock(lenient = true)
+    private AuditLogRepository auditLogRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private AuditLogPipeline pipeline(int capacity, int batchSize, long maxSpillBytes) {
+        return new AuditLogPipeline(bulkWriteService, auditLogRepository,
+                EnumSet.of(AuditAction.LOGIN_FAILURE, AuditAction.RATE_LIMIT_EXCEEDED),
+                capacity, batchSize, Duration.ofSeconds(1),
+                tempDir.resolve("audit-spill.jsonl"), maxSpillBytes);
+    }
+
+    private static AuditLog auditLog(long entityId) {
+        return AuditLog.builder()
+                .username("teacher1")
+                .action(AuditAction.GRADE_UPDATE)
+                .entityType("Grade")
+                .entityId(entityId)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<AuditLog>> insertedBatches() {
+        ArgumentCaptor<Collection<AuditLog>> batches = ArgumentCaptor.forClass(Collection.class);
+        verify(bulkWriteService, atLeast(0)).insertAll(batches.capture());
+        return batches.getAllValues().stream().map(batch -> (List<AuditLog>) new ArrayList<>(batch)).toList();
+    }
+
+    @Test
+    void testFlush_WritesBufferedRowsInBatches() {
+        AuditLogPipeline pipeline = pipeline(16, 2, 1024);
+        for (long id = 1; id <= 5; id++) {
+            pipeline.submit(auditLog(id));
+        }
+
+        pipeline.flush();
+
+        assertThat(insertedBatches()).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(pipeline.getWrittenCount()).isEqualTo(5);
+        assertThat(pipeline.getQueueSize()).isZero();
+    }
+
+    @Test
+    void testBufferFull_RowSpilledThenReplayed() {
+        AuditLogPipeline pipeline = pipeline(2, 10, 64 * 1024);
+        LocalDateTime timestamp = LocalDateTime.of(2025, 9, 2, 8, 30);
+        AuditLog overflow = auditLog(3);
+        overflow.setTimestamp(timestamp);
+
+        pipeline.submit(auditLog(1));
+        pipeline.submit(auditLog(2));
+        pipeline.submit(overflow);
+
+        assertThat(pipeline.getSpilledCount()).isEqualTo(1);
+        assertThat(tempDir.resolve("audit-spill.jsonl")).exists();
+
+        pipeline.flush();
+
+        List<List<AuditLog>> batches = insertedBatches();
+        assertThat(batches).hasSize(2);
+        AuditLog replayed = batches.get(1).get(0);
+        assertThat(replayed.getEntityId()).isEqualTo(3L);
+        assertThat(replayed.getTimestamp()).isEqualTo(timestamp);
+        assertThat(replayed.getUsername()).isEqualTo("teacher1");
+        assertThat(pipeline.getWrittenCount()).isEqualTo(3);
+        assertThat(Files.exists(tempDir.resolve("audit-spill.jsonl"))).isFalse();
+        assertThat(Files.exists(tempDir.resolve("audit-spill.jsonl.replay"))).isFalse();
+    }
+
+    @Test
+    void testDatabaseDown_BatchSpilledAndReplayedOnNextFlush() {
+        AuditLogPipeline pipeline = pipeline(16, 10, 64 * 1024);
+        doThrow(new RuntimeException("Connection refused")).doReturn(null)
+                .when(bulkWriteService).insertAll(any());
+
+        pipeline.submit(auditLog(1));
+        pipeline.submit(auditLog(2));
+        pipeline.flush();
+
+        assertThat(pipeline.getWrittenCount()).isZero();
+        assertThat(pipeline.getSpilledCount()).isEqualTo(2);
+
+        pipeline.flush();
+
+        assertThat(pipeline.getWrittenCount()).isEqualTo(2);
+        assertThat(insertedBatches().get(1)).extracting(AuditLog::getEntityId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void testReplay_SkipsRowsAlreadyStored() {
+        AuditLogPipeline pipeline = pipeline(16, 10, 64 * 1024);
+        // The first insert commits, but the error reaches the pipeline anyway
+        doThrow(new RuntimeException("Connection reset")).doReturn(null)
+                .when(bulkWriteService).insertAll(any());
+        AuditLog committed = auditLog(1);
+        AuditLog lost = auditLog(2);
+
+        pipeline.submit(committed);
+        pipeline.submit(lost);
+        pipeline.flush();
+        when(auditLogRepository.findStoredEventIds(any())).thenReturn(List.of(committed.getEventId()));
+        pipeline.flush();
+
+        assertThat(insertedBatches().get(1)).extracting(AuditLog::getEventId)
+                .containsExactly(lost.getEventId());
+        assertThat(pipeline.getDuplicateCount()).isEqualTo(1);
+        assertThat(pipeline.getWrittenCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testReplay_RejectedRowQuarantined_RowsBehindItInserted() throws Exception {
+        AuditLogPipeline pipeline = pipeline(16, 10, 64 * 1024);
+        doAnswer(invocation -> {
+            Collection<AuditLog> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(row -> row.getEntityId() == 2L)) {
+                throw new DataIntegrityViolationException("value too long for type character varying(100)",
+                        new SQLException("value too long for type character varying(100)", "22001"));
+            }
+            return null;
+        }).when(bulkWriteService).insertAll(any());
+        AuditLog rejected = auditLog(2);
+
+        pipeline.submit(auditLog(1));
+        pipeline.submit(rejected);
+        pipeline.submit(auditLog(3));
+        pipeline.flush();
+        pipeline.flush();
+
+        assertThat(pipeline.getQuarantinedCount()).isEqualTo(1);
+        assertThat(pipeline.getWrittenCount()).isEqualTo(2);
+        assertThat(Files.readString(tempDir.resolve("audit-spill.jsonl.rejected")))
+                .contains(rejected.getEventId());
+        assertThat(Files.exists(tempDir.resolve("audit-spill.jsonl.replay"))).isFalse();
+
+        pipeline.flush();
+
+        assertThat(pipeline.getWrittenCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testReplay_RowsSpilledBehindAPendingReplayFile_AreReplayed() throws Exception {
+        // Previous run: a replay failed, then more rows were spilled
+        doThrow(new RuntimeException("Connection refused")).when(bulkWriteService).insertAll(any());
+        AuditLogPipeline previousRun = pipeline(16, 2, 64 * 1024);
+        for (long id = 1; id <= 3; id++) {
+            previousRun.submit(auditLog(id));
+        }
+        previousRun.flush();
+        Files.move(tempDir.resolve("audit-spill.jsonl"), tempDir.resolve("audit-spill.jsonl.replay"));
+        previousRun.submit(auditLog(4));
+        previousRun.flush();
+
+        doReturn(null).when(bulkWriteService).insertAll(any());
+        clearInvocations(bulkWriteService);
+        AuditLogPipeline pipeline = pipeline(16, 2, 64 * 1024);
+        pipeline.flush();
+        pipeline.flush();
+
+        assertThat(insertedBatches()).extracting(List::size).containsExactly(2, 1, 1);
+        assertThat(insertedBatches().stream().flatMap(List::stream).map(AuditLog::getEntityId))
+                .containsExactly(1L, 2L, 3L, 4L);
+        assertThat(Files.exists(tempDir.resolve("audit-spill.jsonl"))).isFalse();
+        assertThat(Files.exists(tempDir.resolve("audit-spill.jsonl.replay"))).isFalse();
+    }
+
+    @Test
+    void testDurableAction_OnDiskBeforeSubmitReturns() throws Exception {
+        AuditLogPipeline pipeline = pipeline(16, 10, 64 * 1024);
+        AuditLog loginFailure = AuditLog.builder()
+                .username("intruder")
+                .action(AuditAction.LOGIN_FAILURE)
+                .success(false)
+                .build();
+
+        pipeline.submit(loginFailure);
+
+        assertThat(pipeline.getQueueSize()).isZero();
+        assertThat(pipeline.getDurableCount()).isEqualTo(1);
+        assertThat(Files.readString(tempDir.resolve("audit-spill.jsonl")))
+                .contains(loginFailure.getEventId());
+
+        pipeline.flush();
+
+        assertThat(insertedBatches()).singleElement().satisfies(batch ->
+                assertThat(batch).extracting(AuditLog::getEventId).containsExactly(loginFailure.getEventId()));
+        assertThat(pipeline.getWrittenCount()).isEqualTo(1);
+    }
+
+    @Test
+    void testSpillFileFull_RowDropped() {
+        AuditLogPipeline pipeline = pipeline(2, 10, 10);
+
+        pipeline.submit(auditLog(1));
+        pipeline.submit(auditLog(2));
+        pipeline.submit(auditLog(3));
+
+        assertThat(pipeline.getDroppedCount()).isEqualTo(1);
+        assertThat(pipeline.getSpilledCount()).isZero();
+    }
+
+    @Test
+    void testRingBuffer_ConcurrentProducers_EveryElementOnce() throws Exception {
+        MpscRingBuffer<Long> buffer = new MpscRingBuffer<>(1000);
+        assertThat(buffer.capacity()).isEqualTo(1024);
+
+        int producers = 4;
+        int perProducer = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            long first = (long) p * perProducer;
+            executor.submit(() -> {
+                start.await();
+                for (long value = first; value < first + perProducer; value++) {
+                    while (!buffer.offer(value)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+        }
+
+        Set<Long> seen = ConcurrentHashMap.newKeySet();
+        start.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (seen.size() < producers * perProducer && System.nanoTime() < deadline) {
+            buffer.drainTo(seen::add, 256);
+        }
+        executor.shutdown();
+
+        assertThat(seen).hasSize(producers * perProducer);
+        assertThat(buffer.poll()).isNull();
+    }
+}
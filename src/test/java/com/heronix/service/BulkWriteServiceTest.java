@@ -0,0 +1,120 @@
+package com.heronix.service;
+
+import com.heronix.model.domain.AttendanceRecord;
+import com.heronix.model.domain.AttendanceRecord.AttendanceStatus;
+import com.heronix.service.BulkWriteService.BulkWriteResult;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for BulkWriteService
+ *
+ * Tests chunked flushing, the session batch size, and natural-key upserts
+ */
+class BulkWriteServiceTest {
+
+    private EntityManager entityManager;
+    private Session session;
+    private BulkWriteService bulkWriteService;
+
+    @BeforeEach
+    void setUp() {
+        entityManager = mock(EntityManager.class);
+        session = mock(Session.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.getJdbcBatchSize()).thenReturn(20);
+
+        bulkWriteService = new BulkWriteService();
+        ReflectionTestUtils.setField(bulkWriteService, "entityManager", entityManager);
+        ReflectionTestUtils.setField(bulkWriteService, "batchSize", 2);
+    }
+
+    @Test
+    void testInsertAll_ShouldFlushAndDetachEachChunk() {
+        List<AttendanceRecord> records = List.of(record("a"), record("b"), record("c"), record("d"), record("e"));
+
+        BulkWriteResult result = bulkWriteService.insertAll(records);
+
+        assertEquals(5, result.inserted());
+        assertEquals(0, result.updated());
+        records.forEach(record -> verify(entityManager).persist(record));
+        records.forEach(record -> verify(entityManager).detach(record));
+        // Once for pending changes, then once per chunk of 2
+        verify(entityManager, times(4)).flush();
+
+        InOrder inOrder = inOrder(session);
+        inOrder.verify(session).setJdbcBatchSize(2);
+        inOrder.verify(session).setJdbcBatchSize(20);
+    }
+
+    @Test
+    void testInsertAll_WithNoEntities_ShouldNotTouchSession() {
+        BulkWriteResult result = bulkWriteService.insertAll(List.of());
+
+        assertEquals(0, result.total());
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void testUpsertAll_ShouldUpdateMatchesAndInsertTheRest() {
+        AttendanceRecord stored = record("a");
+        stored.setId(1L);
+        AttendanceRecord incomingA = record("a");
+        incomingA.setStatus(AttendanceStatus.TARDY);
+        AttendanceRecord incomingB = record("b");
+        AttendanceRecord incomingC = record("c");
+        List<Collection<String>> lookups = new ArrayList<>();
+
+        BulkWriteResult result = bulkWriteService.upsertAll(List.of(incomingA, incomingB, incomingC),
+            AttendanceRecord::getRecordedBy,
+            keys -> {
+                lookups.add(List.copyOf(keys));
+                return keys.contains("a") ? List.of(stored) : List.of();
+            },
+            (incoming, existing) -> existing.setStatus(incoming.getStatus()));
+
+        assertEquals(2, result.inserted());
+        assertEquals(1, result.updated());
+        assertEquals(AttendanceStatus.TARDY, stored.getStatus());
+        assertEquals(List.of(List.of("a", "b"), List.of("c")), lookups);
+        verify(entityManager, never()).persist(incomingA);
+        verify(entityManager).persist(incomingB);
+        verify(entityManager).persist(incomingC);
+        verify(entityManager).detach(stored);
+    }
+
+    @Test
+    void testUpsertAll_WithDuplicateKeys_ShouldKeepTheLast() {
+        AttendanceRecord first = record("a");
+        AttendanceRecord last = record("a");
+        last.setStatus(AttendanceStatus.ABSENT);
+
+        BulkWriteResult result = bulkWriteService.upsertAll(List.of(first, last),
+            AttendanceRecord::getRecordedBy, keys -> List.of(), (incoming, existing) -> { });
+
+        assertEquals(1, result.inserted());
+        verify(entityManager).persist(last);
+        verify(entityManager, never()).persist(first);
+        verify(entityManager, times(1)).persist(any());
+    }
+
+    // ========================================================================
+    // HELPER METHODS
+    // ========================================================================
+
+    private static AttendanceRecord record(String recordedBy) {
+        return AttendanceRecord.builder().recordedBy(recordedBy).build();
+    }
+}
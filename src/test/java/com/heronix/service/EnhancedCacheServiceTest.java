@@ -0,0 +1,112 @@
+package com.heronix.service;
+
+import com.heronix.dto.CacheStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for EnhancedCacheService
+ *
+ * Tests expiry on read, weight-based eviction, single-flight loading and statistics
+ */
+class EnhancedCacheServiceTest {
+
+    private static final long MAX_MEMORY_BYTES = 10_000;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private EnhancedCacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        cacheService = new EnhancedCacheService(MAX_MEMORY_BYTES, nanos::get);
+    }
+
+    @Test
+    void testGet_AfterTtl_ShouldMissWithoutCleanup() {
+        cacheService.put("short", "value", 60L);
+        cacheService.put("long", "value", 3600L);
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(61));
+
+        assertEquals(Optional.empty(), cacheService.get("short"));
+        assertEquals(Optional.of("value"), cacheService.get("long"));
+    }
+
+    @Test
+    void testPut_OverMaxWeight_ShouldEvictBySize() {
+        for (int i = 0; i < 500; i++) {
+            cacheService.put("key" + i, "x".repeat(50)); // 100 bytes each
+        }
+        cacheService.cleanupExpired();
+
+        CacheStatistics stats = cacheService.getStatistics();
+        assertTrue(stats.getCurrentMemoryBytes() <= MAX_MEMORY_BYTES);
+        assertTrue(stats.getEvictionBySizeCount() >= 400);
+        assertEquals(MAX_MEMORY_BYTES, stats.getMaxMemoryBytes());
+    }
+
+    @Test
+    void testGetOrCompute_ConcurrentMisses_ShouldRunSupplierOnce() throws Exception {
+        int threads = 8;
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cacheService.getOrCompute("report", () -> {
+                        calls.incrementAndGet();
+                        sleep(100);
+                        return "loaded";
+                    }, 60L);
+                }));
+            }
+            start.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("loaded", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, calls.get());
+        assertEquals(1L, cacheService.getStatistics().getLoadCount());
+    }
+
+    @Test
+    void testStatistics_ShouldCountHitsMissesAndInvalidations() {
+        cacheService.put("a", "1");
+        cacheService.put("b", "2");
+        cacheService.get("a");
+        cacheService.get("missing");
+
+        assertEquals(2, cacheService.invalidateByPattern("[ab]"));
+
+        CacheStatistics stats = cacheService.getStatistics();
+        assertEquals(1L, stats.getHitCount());
+        assertEquals(1L, stats.getMissCount());
+        assertEquals(2L, stats.getEvictionByInvalidationCount());
+        assertEquals(0, cacheService.size());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
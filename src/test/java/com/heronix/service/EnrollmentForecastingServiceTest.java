@@ -6,8 +6,8 @@ import com.heronix.model.domain.CourseSection;
 import com.heronix.model.domain.Student;
 import com.heronix.repository.CourseRepository;
 import com.heronix.repository.CourseRequestRepository;
-import com.heronix.repository.CourseSectionRepository;
 import com.heronix.repository.StudentRepository;
+import com.heronix.repository.spec.AggregateQueries;
 import com.heronix.service.impl.EnrollmentForecastingServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -48,7 +48,7 @@ class EnrollmentForecastingServiceTest {
     private CourseRequestRepository courseRequestRepository;
 
     @Mock
-    private CourseSectionRepository courseSectionRepository;
+    private AggregateQueries aggregateQueries;
 
     @InjectMocks
     private EnrollmentForecastingServiceImpl forecastingService;
@@ -56,7 +56,7 @@ class EnrollmentForecastingServiceTest {
     private Course testCourse;
     private Student testStudent;
     private CourseRequest testRequest;
-    private CourseSection testSection;
+    private Map<Long, Long> sectionCapacity;
 
     @BeforeEach
     void setUp() {
@@ -82,11 +82,8 @@ class EnrollmentForecastingServiceTest {
         testRequest.setStudent(testStudent);
         testRequest.setRequestYear(LocalDate.now().getYear());
 
-        // Create test section
-        testSection = new CourseSection();
-        testSection.setId(1L);
-        testSection.setCourse(testCourse);
-        testSection.setMaxEnrollment(25);
+        // One 25-seat section of the test course
+        sectionCapacity = Map.of(1L, 25L);
     }
 
     @Test
@@ -119,15 +116,9 @@ class EnrollmentForecastingServiceTest {
     @Test
     void testForecastEnrollmentByGrade_ReturnsAllGrades() {
         // Arrange
-        List<Student> students = new ArrayList<>();
-        for (int i = 0; i < 100; i++) {
-            Student s = new Student();
-            s.setId((long) i);
-            s.setGradeLevel(String.valueOf(9 + (i % 4))); // Grades 9-12
-            s.setActive(true);
-            students.add(s);
-        }
-        when(studentRepository.findAll()).thenReturn(students);
+        // 100 active students, 25 per grade 9-12
+        when(aggregateQueries.<Student, String>countBy(eq(Student.class), any(), any()))
+            .thenReturn(Map.of("9", 25L, "10", 25L, "11", 25L, "12", 25L));
         int targetYear = LocalDate.now().getYear() + 1;
 
         // Act
@@ -262,23 +253,9 @@ class EnrollmentForecastingServiceTest {
         int year1 = LocalDate.now().getYear() - 1;
         int year2 = LocalDate.now().getYear();
 
-        List<CourseRequest> allRequests = new ArrayList<>();
-
-        // Year 1: 100 requests
-        for (int i = 0; i < 100; i++) {
-            CourseRequest req = new CourseRequest();
-            req.setRequestYear(year1);
-            allRequests.add(req);
-        }
-
-        // Year 2: 120 requests
-        for (int i = 0; i < 120; i++) {
-            CourseRequest req = new CourseRequest();
-            req.setRequestYear(year2);
-            allRequests.add(req);
-        }
-
-        when(courseRequestRepository.findAll()).thenReturn(allRequests);
+        // Year 1: 100 requests, year 2: 120 requests
+        when(aggregateQueries.<CourseRequest, Integer>countBy(eq(CourseRequest.class), any(), any()))
+            .thenReturn(Map.of(year1, 100L, year2, 120L));
 
         // Act
         double growthRate = forecastingService.calculateGrowthRate(year1, year2);
@@ -296,8 +273,8 @@ class EnrollmentForecastingServiceTest {
         List<CourseRequest> requests = Arrays.asList(testRequest);
         when(courseRequestRepository.findByCourse(any())).thenReturn(requests);
 
-        List<CourseSection> sections = Arrays.asList(testSection);
-        when(courseSectionRepository.findAll()).thenReturn(sections);
+        when(aggregateQueries.<CourseSection, Long>sumBy(eq(CourseSection.class), isNull(), any(), any()))
+            .thenReturn(sectionCapacity);
 
         int targetYear = LocalDate.now().getYear() + 1;
 
@@ -324,8 +301,8 @@ class EnrollmentForecastingServiceTest {
         }
         when(courseRequestRepository.findByCourse(any())).thenReturn(requests);
 
-        List<CourseSection> sections = Arrays.asList(testSection);
-        when(courseSectionRepository.findAll()).thenReturn(sections);
+        when(aggregateQueries.<CourseSection, Long>sumBy(eq(CourseSection.class), isNull(), any(), any()))
+            .thenReturn(sectionCapacity);
         when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
 
         int targetYear = LocalDate.now().getYear() + 1;
@@ -341,10 +318,12 @@ class EnrollmentForecastingServiceTest {
     void testGetForecastingReport_ContainsKeyMetrics() {
         // Arrange
         when(studentRepository.count()).thenReturn(500L);
-        when(studentRepository.findAll()).thenReturn(Arrays.asList(testStudent));
+        when(aggregateQueries.<Student, String>countBy(eq(Student.class), any(), any()))
+            .thenReturn(Map.of("10", 1L));
         when(courseRepository.findAll()).thenReturn(Arrays.asList(testCourse));
         when(courseRequestRepository.findByCourse(any())).thenReturn(Arrays.asList(testRequest));
-        when(courseSectionRepository.findAll()).thenReturn(Arrays.asList(testSection));
+        when(aggregateQueries.<CourseSection, Long>sumBy(eq(CourseSection.class), isNull(), any(), any()))
+            .thenReturn(sectionCapacity);
 
         int targetYear = LocalDate.now().getYear() + 1;
 
@@ -0,0 +1,133 @@
+package com.heronix.service;
+
+import com.heronix.event.EntityChangeEvent;
+import com.heronix.model.domain.*;
+import com.heronix.service.GlobalSearchIndex.Hit;
+import com.heronix.service.GlobalSearchIndex.Kind;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for GlobalSearchIndex
+ *
+ * Tests ranking, top-k limits, typo tolerance and updates from entity change events
+ */
+class GlobalSearchIndexTest {
+
+    private static final Set<Kind> ALL = EnumSet.allOf(Kind.class);
+
+    private GlobalSearchIndex index;
+    private Student johnSmith;
+
+    @BeforeEach
+    void setUp() {
+        List<Student> students = new ArrayList<>();
+        johnSmith = student(1L, "S1001", "John", "Smith");
+        students.add(johnSmith);
+        students.add(student(2L, "S1002", "Jane", "Smithson"));
+        for (long i = 3; i <= 100; i++) {
+            students.add(student(i, "S" + (1000 + i), "Student" + i, "Garcia"));
+        }
+
+        Teacher inactive = new Teacher();
+        inactive.setId(1L);
+        inactive.setFirstName("Retired");
+        inactive.setLastName("Smith");
+        inactive.setActive(false);
+
+        Course algebra = new Course();
+        algebra.setId(1L);
+        algebra.setCourseCode("MATH101");
+        algebra.setCourseName("Algebra I");
+
+        Room room = new Room();
+        room.setId(1L);
+        room.setRoomNumber("101");
+
+        index = new GlobalSearchIndex(null, null, null, null);
+        index.rebuild(students, List.of(inactive), List.of(algebra), List.of(room));
+    }
+
+    @Test
+    void testSearch_ShouldRankExactMatchesFirst() {
+        List<Hit> hits = index.search("101", EnumSet.of(Kind.ROOM, Kind.COURSE), 10);
+
+        assertEquals(List.of(new Hit(Kind.ROOM, 1L, 1.0), new Hit(Kind.COURSE, 1L, 0.9)), hits);
+    }
+
+    @Test
+    void testSearch_ShouldMatchFullNameAndPrefixes() {
+        assertEquals(List.of(new Hit(Kind.STUDENT, 1L, 0.8)), index.search("john smith", ALL, 10));
+        assertEquals(List.of(1L, 2L), ids(index.search("smi", ALL, 10)));
+        assertEquals(2, index.search("j", ALL, 10).size());
+    }
+
+    @Test
+    void testSearch_ShouldReturnTopKOnly() {
+        List<Hit> hits = index.search("garcia", ALL, 5);
+
+        assertEquals(5, hits.size());
+        assertEquals(List.of(3L, 4L, 5L, 6L, 7L), ids(hits));
+    }
+
+    @Test
+    void testSearch_ShouldTolerateTypos() {
+        List<Hit> hits = index.search("smiht", ALL, 10);
+
+        assertEquals(List.of(1L, 2L), ids(hits));
+        assertTrue(hits.get(0).score() < 0.5);
+        assertEquals(Kind.COURSE, index.search("algebar", ALL, 10).get(0).kind());
+        assertTrue(index.search("S1O01", ALL, 10).isEmpty());
+    }
+
+    @Test
+    void testSearch_ShouldSkipInactiveTeachersAndFilterKinds() {
+        assertTrue(index.search("retired", ALL, 10).isEmpty());
+        assertTrue(index.search("smith", EnumSet.of(Kind.COURSE), 10).isEmpty());
+    }
+
+    @Test
+    void testEntityChanges_ShouldUpdateIndex() {
+        johnSmith.setLastName("Doe");
+        index.onEntityChanged(new EntityChangeEvent(this, johnSmith, EntityChangeEvent.ChangeType.SAVED));
+
+        assertEquals(List.of(1L), ids(index.search("john doe", ALL, 10)));
+        assertEquals(List.of(2L), ids(index.search("smith", ALL, 10)));
+
+        index.onEntityChanged(new EntityChangeEvent(this, johnSmith, EntityChangeEvent.ChangeType.DELETED));
+
+        assertTrue(index.search("john", ALL, 10).isEmpty());
+        assertEquals(101, index.size());
+    }
+
+    @Test
+    void testWithinEdits_ShouldAllowOneEditOrTransposition() {
+        assertTrue(GlobalSearchIndex.withinEdits("smiht", "smith", 1));
+        assertTrue(GlobalSearchIndex.withinEdits("smiht", "smithson", 1));
+        assertTrue(GlobalSearchIndex.withinEdits("garxia", "garcia", 1));
+        assertFalse(GlobalSearchIndex.withinEdits("gracai", "garcia", 1));
+    }
+
+    // ========================================================================
+    // HELPER METHODS
+    // ========================================================================
+
+    private static List<Long> ids(List<Hit> hits) {
+        return hits.stream().map(Hit::id).toList();
+    }
+
+    private static Student student(Long id, String studentId, String firstName, String lastName) {
+        Student student = new Student();
+        student.setId(id);
+        student.setStudentId(studentId);
+        student.setFirstName(firstName);
+        student.setLastName(lastName);
+        student.setEmail(studentId.toLowerCase() + "@school.org");
+        student.setGradeLevel("10");
+        return student;
+    }
+}
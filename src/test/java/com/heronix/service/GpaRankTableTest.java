@@ -0,0 +1,149 @@
+package com.heronix.service;
+
+import com.heronix.event.EntityChangeEvent;
+import com.heronix.model.domain.Student;
+import com.heronix.model.domain.StudentGrade;
+import com.heronix.service.GpaCalculationService.StudentGpa;
+import com.heronix.service.GpaRankTable.Standing;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for GpaRankTable
+ *
+ * Tests ranks with ties, and incremental refresh on grade and student changes,
+ * with repeated grade changes for a student coalesced into one recalculation
+ */
+class GpaRankTableTest {
+
+    private GpaCalculationService gpaCalculationService;
+    private GpaRankTable rankTable;
+
+    @BeforeEach
+    void setUp() {
+        gpaCalculationService = mock(GpaCalculationService.class);
+        rankTable = new GpaRankTable(gpaCalculationService);
+        rankTable.rebuild(List.of(
+            gpa(1L, "11", 3.9),
+            gpa(2L, "11", 3.5),
+            gpa(3L, "11", 3.5),
+            gpa(4L, "11", 2.0),
+            gpa(5L, "10", 4.5)));
+    }
+
+    @Test
+    void testGetStanding_ShouldRankByWeightedGpaWithinGradeLevel() {
+        assertEquals(1, rank(1L));
+        assertEquals(2, rank(2L));
+        assertEquals(2, rank(3L));
+        assertEquals(4, rank(4L));
+        assertEquals(1, rank(5L));
+
+        assertEquals(4, rankTable.getClassSize("11"));
+        assertEquals(1, rankTable.getClassSize("10"));
+        assertEquals(Optional.empty(), rankTable.getStanding(99L));
+    }
+
+    @Test
+    void testGradeChange_ShouldRefreshOnlyThatStudent() {
+        when(gpaCalculationService.calculateGpaById(4L)).thenReturn(Optional.of(gpa(4L, "11", 4.0)));
+
+        rankTable.onEntityChanged(new EntityChangeEvent(this, grade(4L), EntityChangeEvent.ChangeType.SAVED));
+        assertEquals(4, rank(4L));
+        rankTable.refreshChanged();
+
+        assertEquals(1, rank(4L));
+        assertEquals(2, rank(1L));
+        assertEquals(3, rank(2L));
+        verify(gpaCalculationService).calculateGpaById(4L);
+        verify(gpaCalculationService, never()).calculateGpas(any());
+    }
+
+    @Test
+    void testGradeDeleted_WithNoGradesLeft_ShouldRemoveStudent() {
+        when(gpaCalculationService.calculateGpaById(1L)).thenReturn(Optional.empty());
+
+        rankTable.onEntityChanged(new EntityChangeEvent(this, grade(1L), EntityChangeEvent.ChangeType.DELETED));
+        rankTable.refreshChanged();
+
+        assertEquals(Optional.empty(), rankTable.getStanding(1L));
+        assertEquals(3, rankTable.getClassSize("11"));
+        assertEquals(1, rank(2L));
+    }
+
+    @Test
+    void testManyGradeChanges_ShouldRecalculateEachStudentOnce() {
+        when(gpaCalculationService.calculateGpaById(2L)).thenReturn(Optional.of(gpa(2L, "11", 4.2)));
+        when(gpaCalculationService.calculateGpaById(4L)).thenReturn(Optional.of(gpa(4L, "11", 2.5)));
+
+        for (int i = 0; i < 8; i++) {
+            rankTable.onEntityChanged(new EntityChangeEvent(this, grade(2L), EntityChangeEvent.ChangeType.SAVED));
+        }
+        rankTable.onEntityChanged(new EntityChangeEvent(this, grade(4L), EntityChangeEvent.ChangeType.SAVED));
+
+        assertEquals(2, rankTable.refreshChanged());
+        assertEquals(0, rankTable.refreshChanged());
+        assertEquals(1, rank(2L));
+        verify(gpaCalculationService, times(1)).calculateGpaById(2L);
+        verify(gpaCalculationService, times(1)).calculateGpaById(4L);
+    }
+
+    @Test
+    void testStudentChange_ShouldMoveBetweenGradeLevels() {
+        Student student = student(5L);
+        student.setGradeLevel("11");
+
+        rankTable.onEntityChanged(new EntityChangeEvent(this, student, EntityChangeEvent.ChangeType.SAVED));
+
+        assertEquals(1, rank(5L));
+        assertEquals(5, rankTable.getClassSize("11"));
+        assertEquals(0, rankTable.getClassSize("10"));
+
+        rankTable.onEntityChanged(new EntityChangeEvent(this, student, EntityChangeEvent.ChangeType.DELETED));
+
+        assertEquals(Optional.empty(), rankTable.getStanding(5L));
+        assertEquals(1, rank(1L));
+    }
+
+    @Test
+    void testEnsureBuilt_ShouldLoadFromOneBatchCalculation() {
+        GpaRankTable lazyTable = new GpaRankTable(gpaCalculationService);
+        when(gpaCalculationService.calculateGpas(null)).thenReturn(Map.of(1L, gpa(1L, "9", 3.0)));
+
+        Standing standing = lazyTable.getStanding(1L).orElseThrow();
+
+        assertEquals(new Standing(1L, "9", 1, 1, 3.0, 3.0), standing);
+        verify(gpaCalculationService, times(1)).calculateGpas(null);
+    }
+
+    // ========================================================================
+    // HELPER METHODS
+    // ========================================================================
+
+    private int rank(Long studentId) {
+        return rankTable.getStanding(studentId).orElseThrow().rank();
+    }
+
+    private static StudentGpa gpa(Long studentId, String gradeLevel, double weightedGpa) {
+        return new StudentGpa(studentId, gradeLevel, Math.min(weightedGpa, 4.0), weightedGpa, weightedGpa, Map.of());
+    }
+
+    private static Student student(Long id) {
+        Student student = new Student();
+        student.setId(id);
+        return student;
+    }
+
+    private static StudentGrade grade(Long studentId) {
+        StudentGrade grade = new StudentGrade();
+        grade.setStudent(student(studentId));
+        return grade;
+    }
+}
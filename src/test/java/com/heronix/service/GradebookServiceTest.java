@@ -4,8 +4,11 @@ import com.heronix.model.domain.*;
 import com.heronix.model.domain.AssignmentGrade.GradeStatus;
 import com.heronix.model.domain.GradingCategory.CategoryType;
 import com.heronix.repository.*;
+import com.heronix.service.GradebookService.BulkGradeResult;
 import com.heronix.service.GradebookService.CategoryGrade;
 import com.heronix.service.GradebookService.ClassGradebook;
+import com.heronix.service.GradebookService.GradeEntry;
+import com.heronix.service.GradebookService.ReportCard;
 import com.heronix.service.GradebookService.StudentCourseGrade;
 import com.heronix.testutil.BaseServiceTest;
 import com.heronix.testutil.TestDataBuilder;
@@ -53,6 +56,12 @@ class GradebookServiceTest extends BaseServiceTest {
     @Mock(lenient = true)
     private StudentRepository studentRepository;
 
+    @Mock(lenient = true)
+    private StudentGradeRepository studentGradeRepository;
+
+    @Mock(lenient = true)
+    private BulkWriteService bulkWriteService;
+
     @InjectMocks
     private GradebookService service;
 
@@ -428,11 +437,9 @@ class GradebookServiceTest extends BaseServiceTest {
         Map<Long, Double> scores = new HashMap<>();
         scores.put(1L, null);
 
-        when(studentRepository.findById(anyLong())).thenReturn(Optional.of(testStudent));
+        when(studentRepository.findAllById(anyCollection())).thenReturn(List.of(testStudent));
         when(assignmentRepository.findById(anyLong())).thenReturn(Optional.of(testAssignment));
-        when(gradeRepository.findByStudentIdAndAssignmentId(anyLong(), anyLong()))
-            .thenReturn(Optional.empty());
-        when(gradeRepository.save(any(AssignmentGrade.class))).thenReturn(testGrade);
+        when(gradeRepository.findByAssignmentIdAndStudentIdIn(anyLong(), anyCollection())).thenReturn(List.of());
 
         // When
         int result = service.bulkEnterGrades(1L, scores);
@@ -645,17 +652,99 @@ class GradebookServiceTest extends BaseServiceTest {
         scores.put(1L, 95.0);
         scores.put(2L, 88.0);
 
-        when(studentRepository.findById(anyLong())).thenReturn(Optional.of(testStudent));
+        Student secondStudent = TestDataBuilder.aStudent().withId(2L).build();
+        when(studentRepository.findAllById(anyCollection())).thenReturn(List.of(testStudent, secondStudent));
         when(assignmentRepository.findById(anyLong())).thenReturn(Optional.of(testAssignment));
-        when(gradeRepository.findByStudentIdAndAssignmentId(anyLong(), anyLong()))
-            .thenReturn(Optional.empty());
-        when(gradeRepository.save(any(AssignmentGrade.class))).thenReturn(testGrade);
+        when(gradeRepository.findByAssignmentIdAndStudentIdIn(anyLong(), anyCollection())).thenReturn(List.of());
 
         // When
         int result = service.bulkEnterGrades(1L, scores);
 
-        // Then
+        // Then: One batch insert instead of a save per student
         assertEquals(2, result);
-        verify(gradeRepository, times(2)).save(any(AssignmentGrade.class));
+        verify(bulkWriteService).insertAll(argThat(grades -> grades.size() == 2));
+        verify(gradeRepository, never()).save(any(AssignmentGrade.class));
+        verify(studentRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void testBulkEnterGrades_ShouldDiffAgainstExistingGrades() {
+        // Given: student 1 already has 95 (graded today), student 2 has 70, student 3 has none
+        Student secondStudent = TestDataBuilder.aStudent().withId(2L).build();
+        Student thirdStudent = TestDataBuilder.aStudent().withId(3L).build();
+        LocalDate today = LocalDate.now();
+        testGrade.setSubmittedDate(today);
+        AssignmentGrade secondGrade = AssignmentGrade.builder()
+            .id(2L).student(secondStudent).assignment(testAssignment)
+            .score(70.0).status(GradeStatus.GRADED).submittedDate(today).build();
+
+        when(assignmentRepository.findById(1L)).thenReturn(Optional.of(testAssignment));
+        when(studentRepository.findAllById(anyCollection()))
+            .thenReturn(List.of(testStudent, secondStudent, thirdStudent));
+        when(gradeRepository.findByAssignmentIdAndStudentIdIn(eq(1L), anyCollection()))
+            .thenReturn(List.of(testGrade, secondGrade));
+
+        // When
+        BulkGradeResult result = service.enterGrades(1L, List.of(
+            new GradeEntry(1L, 95.0, today, null),
+            new GradeEntry(2L, 82.0, today, null),
+            new GradeEntry(3L, 90.0, today, null),
+            new GradeEntry(99L, 50.0, today, null)));
+
+        // Then
+        assertEquals(1, result.getInserted());
+        assertEquals(1, result.getUpdated());
+        assertEquals(1, result.getUnchanged());
+        assertEquals(List.of(99L), result.getSkippedStudentIds());
+        assertEquals(82.0, secondGrade.getScore());
+
+        // Course grades recalculated once, for the two changed students only
+        assertEquals(Set.of(2L, 3L), result.getCourseGrades().keySet());
+        verify(gradeRepository).findForGradebookCalculationByStudents(
+            argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(2L, 3L))), eq(1L));
+        verify(gradeRepository, never()).findForGradebookCalculation(anyLong(), anyLong());
+        verify(categoryRepository, times(1)).findByCourseIdAndActiveTrueOrderByDisplayOrder(1L);
+    }
+
+    @Test
+    void testGenerateReportCards_ShouldLoadChunkInSetBasedQueries() {
+        // Given: two students in the same course, one with a teacher comment
+        testCourse.setCredits(1.0);
+        Student secondStudent = TestDataBuilder.aStudent().withId(2L).withFirstName("Jane").build();
+        AssignmentGrade secondGrade = AssignmentGrade.builder()
+            .id(2L).student(secondStudent).assignment(testAssignment)
+            .score(55.0).status(GradeStatus.GRADED).build();
+
+        when(studentRepository.findAllById(anyCollection())).thenReturn(List.of(testStudent, secondStudent));
+        when(courseRepository.findEnrollmentsByStudentIds(anyCollection())).thenReturn(List.of(
+            new Object[] {1L, testCourse}, new Object[] {2L, testCourse}));
+        when(categoryRepository.findByCourseIdInAndActiveTrueOrderByDisplayOrder(anyCollection()))
+            .thenReturn(List.of(testCategory));
+        when(gradeRepository.findForGradebookCalculationByStudentsAndCourses(anyCollection(), anyCollection()))
+            .thenReturn(List.of(testGrade, secondGrade));
+        when(studentGradeRepository.findCommentsByStudentIds(anyCollection()))
+            .thenReturn(List.<Object[]>of(new Object[] {1L, 1L, "Excellent effort"}));
+
+        // When
+        Map<Long, ReportCard> result = service.generateReportCards(List.of(1L, 2L, 99L), 3L);
+
+        // Then: unknown students are skipped, the rest are graded from the chunk's data
+        assertEquals(List.of(1L, 2L), new ArrayList<>(result.keySet()));
+        ReportCard first = result.get(1L);
+        assertEquals("A", first.getCourseGrades().get(0).getLetterGrade());
+        assertEquals("Excellent effort", first.getCourseGrades().get(0).getComments());
+        assertEquals(1.0, first.getCreditsEarned());
+        assertEquals("Term 3", first.getTermName());
+
+        ReportCard second = result.get(2L);
+        assertNull(second.getCourseGrades().get(0).getComments());
+        assertEquals(0.0, second.getCreditsEarned());
+        assertEquals("ACADEMIC_PROBATION", second.getAcademicStanding());
+
+        // One query of each kind for the whole chunk
+        verify(gradeRepository, times(1)).findForGradebookCalculationByStudentsAndCourses(anyCollection(), anyCollection());
+        verify(gradeRepository, never()).findForGradebookCalculation(anyLong(), anyLong());
+        verify(courseRepository, never()).findAll();
+        verify(studentRepository, never()).findById(anyLong());
     }
 }
@@ -0,0 +1,111 @@
+package com.heronix.service;
+
+import com.heronix.event.UserAccessChangedEvent;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit Tests for JwtTokenService
+ *
+ * Tests single-parse verification, the verified-token cache and token
+ * revocation (one token, and all tokens of a user).
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+class JwtTokenServiceTest {
+
+    private static final String SECRET = "test-secret-key-minimum-32-characters-long";
+
+    private JwtTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new JwtTokenService(SECRET, 1, 7, 100, Duration.ofMinutes(15));
+    }
+
+    @Test
+    void testVerify_ReturnsAllClaims_AndGettersAgree() {
+        String token = service.generateAccessToken("teacher1",
+                new String[]{"TEACHER"}, new String[]{"read:students", "write:grades"});
+
+        JwtTokenService.VerifiedToken verified = service.verify(token).orElseThrow();
+
+        assertThat(verified.userId()).isEqualTo("teacher1");
+        assertThat(verified.roles()).containsExactly("TEACHER");
+        assertThat(verified.permissions()).containsExactly("read:students", "write:grades");
+        assertThat(verified.tokenType()).isEqualTo("access");
+        assertThat(verified.expiresAt()).isAfter(Instant.now());
+        assertThat(service.verify(token)).contains(verified);
+        assertThat(service.getRolesFromToken(token)).containsExactly("TEACHER");
+        assertThat(service.validateToken(token)).isTrue();
+    }
+
+    @Test
+    void testVerify_ExpiredOrTamperedOrForeignToken_Rejected() {
+        String expired = token("teacher1", Instant.now().minus(2, ChronoUnit.HOURS));
+        String token = service.generateAccessToken("teacher1", new String[]{"TEACHER"}, new String[0]);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+        String foreign = new JwtTokenService("another-secret-key-minimum-32-characters", 1, 7, 100,
+                Duration.ofMinutes(15)).generateAccessToken("teacher1", new String[]{"ADMIN"}, new String[0]);
+
+        assertThat(service.verify(expired)).isEmpty();
+        assertThat(service.verify(tampered)).isEmpty();
+        assertThat(service.verify(foreign)).isEmpty();
+        assertThat(service.verify("")).isEmpty();
+        assertThatThrownBy(() -> service.getUserIdFromToken(expired)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void testRevoke_CachedTokenRejected() {
+        String token = service.generateAccessToken("teacher1", new String[]{"TEACHER"}, new String[0]);
+        String other = service.generateRefreshToken("teacher1");
+        assertThat(service.validateToken(token)).isTrue();
+
+        service.revoke(token);
+
+        assertThat(service.validateToken(token)).isFalse();
+        assertThat(service.validateToken(other)).isTrue();
+    }
+
+    @Test
+    void testUserAccessChanged_RevokesOlderTokensOnly() {
+        Instant earlier = Instant.now().minusSeconds(5);
+        String older = token("teacher1", earlier);
+        String colleague = token("teacher2", earlier);
+        assertThat(service.validateToken(older)).isTrue();
+
+        service.onUserAccessChanged(new UserAccessChangedEvent(this, "teacher1", "password changed"));
+
+        assertThat(service.validateToken(older)).isFalse();
+        assertThat(service.validateToken(colleague)).isTrue();
+
+        // Same second as the change: a login right after it keeps working
+        Instant now = Instant.now();
+        String fresh = token("teacher1", now);
+        service.revokeTokensIssuedBefore("teacher1", now);
+        assertThat(service.validateToken(fresh)).isTrue();
+    }
+
+    private static String token(String userId, Instant issuedAt) {
+        return Jwts.builder()
+                .subject(userId)
+                .issuedAt(Date.from(issuedAt))
+                .expiration(Date.from(issuedAt.plus(1, ChronoUnit.HOURS)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), Jwts.SIG.HS256)
+                .compact();
+    }
+}
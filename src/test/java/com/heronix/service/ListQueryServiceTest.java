@@ -0,0 +1,114 @@
+package com.heronix.service;
+
+import com.heronix.api.dto.AuditLogRowDTO;
+import com.heronix.api.dto.CursorPageDTO;
+import com.heronix.api.dto.StudentRowDTO;
+import com.heronix.model.domain.AuditLog.AuditAction;
+import com.heronix.model.domain.AuditLog.AuditSeverity;
+import com.heronix.repository.*;
+import com.heronix.util.KeysetCursor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit Tests for ListQueryService
+ *
+ * Tests that pages are fetched with one extra row, that the next cursor
+ * seeks past the last row returned, and that bad cursors are rejected.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@ExtendWith(MockitoExtension.class)
+class ListQueryServiceTest {
+
+    @Mock(lenient = true)
+    private StudentRepository studentRepository;
+
+    @Mock(lenient = true)
+    private TeacherRepository teacherRepository;
+
+    @Mock(lenient = true)
+    private CourseRepository courseRepository;
+
+    @Mock(lenient = true)
+    private CourseSectionRepository courseSectionRepository;
+
+    @Mock(lenient = true)
+    private AttendanceRepository attendanceRepository;
+
+    @Mock(lenient = true)
+    private StudentGradeRepository studentGradeRepository;
+
+    @Mock(lenient = true)
+    private AuditLogRepository auditLogRepository;
+
+    @InjectMocks
+    private ListQueryService listQueryService;
+
+    private static List<StudentRowDTO> students(long firstId, int count) {
+        List<StudentRowDTO> rows = new ArrayList<>();
+        for (long id = firstId; id < firstId + count; id++) {
+            rows.add(new StudentRowDTO(id, "S" + id, "First", "Last", "10", null, true));
+        }
+        return rows;
+    }
+
+    @Test
+    void testListStudents_MoreRows_ReturnsPageAndCursorOfLastRow() {
+        when(studentRepository.findRowsAfter(eq(0L), isNull(), isNull(), eq(PageRequest.of(0, 3))))
+                .thenReturn(students(1, 3));
+
+        CursorPageDTO<StudentRowDTO> page = listQueryService.listStudents(null, 2, null, null);
+
+        assertThat(page.items()).extracting(StudentRowDTO::id).containsExactly(1L, 2L);
+        assertThat(page.hasMore()).isTrue();
+        assertThat(KeysetCursor.decode(page.nextCursor()).id()).isEqualTo(2L);
+
+        when(studentRepository.findRowsAfter(eq(2L), isNull(), isNull(), any())).thenReturn(students(3, 1));
+
+        CursorPageDTO<StudentRowDTO> last = listQueryService.listStudents(page.nextCursor(), 2, null, null);
+
+        assertThat(last.items()).extracting(StudentRowDTO::id).containsExactly(3L);
+        assertThat(last.hasMore()).isFalse();
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    void testListAuditLogs_NextPage_SeeksBeforeLastTimestampAndId() {
+        LocalDateTime timestamp = LocalDateTime.of(2025, 9, 2, 8, 30);
+        when(auditLogRepository.findRowsBefore(any(), anyLong(), any(), any(), any())).thenReturn(List.of(
+                new AuditLogRowDTO(9L, timestamp, "admin", AuditAction.LOGIN_SUCCESS, null, null, true,
+                        AuditSeverity.INFO),
+                new AuditLogRowDTO(7L, timestamp, "admin", AuditAction.LOGIN_SUCCESS, null, null, true,
+                        AuditSeverity.INFO)));
+
+        CursorPageDTO<AuditLogRowDTO> page = listQueryService.listAuditLogs(null, 1, null, null);
+        listQueryService.listAuditLogs(page.nextCursor(), 1, "admin", null);
+
+        verify(auditLogRepository).findRowsBefore(eq(timestamp), eq(9L), eq("admin"), isNull(), any());
+    }
+
+    @Test
+    void testListStudents_TamperedCursor_Rejected() {
+        assertThatThrownBy(() -> listQueryService.listStudents("not-a-cursor", 50, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+        assertThat(KeysetCursor.clampLimit(100_000)).isEqualTo(KeysetCursor.MAX_LIMIT);
+    }
+}
@@ -0,0 +1,154 @@
+package com.heronix.service;
+
+import com.heronix.service.RateLimitService.Decision;
+import com.heronix.service.RateLimitService.Limit;
+import com.heronix.service.RateLimitService.Tier;
+import com.heronix.util.LockFreeTokenBucket;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit Tests for RateLimitService
+ *
+ * Tests refill, hierarchical limits, token leases in shared mode and the
+ * lock-free bucket under concurrent requests.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@ExtendWith(MockitoExtension.class)
+class RateLimitServiceTest {
+
+    private static final long START = 1_767_225_600_000L;
+
+    @Mock(lenient = true)
+    private RateLimitLeaseStore leaseStore;
+
+    private final AtomicLong clock = new AtomicLong(START);
+
+    private RateLimitService service(RateLimitLeaseStore store) {
+        return new RateLimitService(1000, 5, store, clock::get);
+    }
+
+    @Test
+    void testTryAcquire_DeniesWhenEmptyAndRefillsOverPeriod() {
+        RateLimitService service = service(null);
+        Limit login = Limit.perMinute("login", 3);
+
+        assertThat(service.tryAcquire(login, "10.0.0.1").remaining()).isEqualTo(2);
+        service.tryAcquire(login, "10.0.0.1");
+        service.tryAcquire(login, "10.0.0.1");
+        Decision denied = service.tryAcquire(login, "10.0.0.1");
+
+        assertThat(denied.allowed()).isFalse();
+        assertThat(denied.resetTime()).isEqualTo((START + 60_000) / 1000);
+        assertThat(service.tryAcquire(login, "10.0.0.2").allowed()).isTrue();
+
+        // One token every 20 seconds
+        clock.addAndGet(19_999);
+        assertThat(service.tryAcquire(login, "10.0.0.1").allowed()).isFalse();
+        clock.addAndGet(1);
+        assertThat(service.tryAcquire(login, "10.0.0.1").allowed()).isTrue();
+        assertThat(service.tryAcquire(login, "10.0.0.1").allowed()).isFalse();
+    }
+
+    @Test
+    void testTryAcquireTiers_DeniedTierReturnsTokensToEarlierTiers() {
+        RateLimitService service = service(null);
+        Limit apiKey = Limit.perHour("apikey", 10);
+        Limit campus = Limit.perHour("campus", 1);
+        List<Tier> tiers = List.of(new Tier(apiKey, "42"), new Tier(campus, "7"));
+
+        Decision allowed = service.tryAcquire(tiers);
+        Decision denied = service.tryAcquire(tiers);
+
+        assertThat(allowed.allowed()).isTrue();
+        assertThat(allowed.limit()).isEqualTo(campus);
+        assertThat(allowed.remaining()).isZero();
+        assertThat(denied.allowed()).isFalse();
+        assertThat(denied.limit()).isEqualTo(campus);
+        assertThat(service.getRemainingRequests(apiKey, "42")).isEqualTo(9);
+    }
+
+    @Test
+    void testClearRateLimit_RemovesEveryLimitOfIdentifier() {
+        RateLimitService service = service(null);
+        Limit api = Limit.perMinute("api", 1);
+        Limit report = Limit.perHour("report", 1);
+        service.tryAcquire(api, "teacher1");
+        service.tryAcquire(report, "teacher1");
+        service.tryAcquire(api, "teacher2");
+
+        service.clearRateLimit("teacher1");
+
+        assertThat(service.tryAcquire(api, "teacher1").allowed()).isTrue();
+        assertThat(service.tryAcquire(report, "teacher1").allowed()).isTrue();
+        assertThat(service.tryAcquire(api, "teacher2").allowed()).isFalse();
+    }
+
+    @Test
+    void testSharedMode_SpendsLeasesLocallyAndFallsBackWhenStoreFails() {
+        RateLimitService service = service(leaseStore);
+        Limit api = Limit.perHour("api", 100);
+        when(leaseStore.lease(anyString(), eq(100L), eq(3_600_000L), eq(5L), anyLong()))
+                .thenReturn(5L)
+                .thenReturn(0L)
+                .thenThrow(new RuntimeException("Connection refused"));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(service.tryAcquire(api, "partner").allowed()).isTrue();
+        }
+        assertThat(service.tryAcquire(api, "partner").allowed()).isFalse();
+        assertThat(service.tryAcquire(api, "partner").allowed()).isTrue();
+        // Store not retried while it is known to be down
+        assertThat(service.tryAcquire(api, "partner").allowed()).isTrue();
+
+        verify(leaseStore, times(3)).lease(anyString(), anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void testTokenBucket_ConcurrentRequests_GrantExactlyCapacity() throws Exception {
+        LockFreeTokenBucket bucket = LockFreeTokenBucket.full(10_000, 3_600_000, START);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> granted = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            granted.add(executor.submit(() -> {
+                start.await();
+                int count = 0;
+                for (int i = 0; i < 2_000; i++) {
+                    if (bucket.tryAcquire(1, START) >= 0) {
+                        count++;
+                    }
+                }
+                return count;
+            }));
+        }
+
+        start.countDown();
+        int total = 0;
+        for (Future<Integer> future : granted) {
+            total += future.get();
+        }
+        executor.shutdown();
+
+        assertThat(total).isEqualTo(10_000);
+        assertThat(bucket.available(START)).isZero();
+        assertThat(bucket.available(START + 360)).isEqualTo(1);
+    }
+}
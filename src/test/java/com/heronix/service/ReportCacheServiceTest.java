@@ -0,0 +1,149 @@
+package com.heronix.service;
+
+import com.heronix.model.domain.ReportHistory.ReportFormat;
+import com.heronix.model.domain.ReportHistory.ReportType;
+import com.heronix.repository.AttendanceRepository;
+import com.heronix.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit Tests for ReportCacheService
+ *
+ * Tests the memory and disk tiers: reports survive a restart, both tiers
+ * stay within their capacity, large reports stream from disk, and keys
+ * change when the attendance they cover changes.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@ExtendWith(MockitoExtension.class)
+class ReportCacheServiceTest {
+
+    @Mock(lenient = true)
+    private AttendanceRepository attendanceRepository;
+
+    @Mock(lenient = true)
+    private StudentRepository studentRepository;
+
+    @TempDir
+    Path cacheDir;
+
+    private ReportCacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        when(attendanceRepository.findDataVersion(any(), any()))
+                .thenReturn(Collections.singletonList(new Object[]{10L, LocalDateTime.of(2025, 9, 2, 8, 0)}));
+        when(studentRepository.findDataVersion())
+                .thenReturn(Collections.singletonList(new Object[]{500L, LocalDateTime.of(2025, 8, 20, 12, 0)}));
+        cacheService = newService(1024, 10_000);
+    }
+
+    private ReportCacheService newService(long maxMemoryReportSize, long diskCapacity) {
+        ReportCacheService service = new ReportCacheService(attendanceRepository, studentRepository);
+        ReflectionTestUtils.setField(service, "maxMemoryReportSize", maxMemoryReportSize);
+        ReflectionTestUtils.setField(service, "memoryCapacity", 4096L);
+        ReflectionTestUtils.setField(service, "diskCapacity", diskCapacity);
+        service.openDiskStore(cacheDir);
+        return service;
+    }
+
+    private static byte[] report(int size, int fill) {
+        byte[] data = new byte[size];
+        Arrays.fill(data, (byte) fill);
+        return data;
+    }
+
+    @Test
+    void testCacheReport_AfterRestart_ServedFromDisk() {
+        cacheService.cacheReport("daily", report(100, 1), null);
+        cacheService.cacheReport("large", report(5000, 2), null);
+
+        ReportCacheService restarted = newService(1024, 10_000);
+
+        assertThat(restarted.getCachedReport("daily")).isEqualTo(report(100, 1));
+        assertThat(restarted.getCachedReport("large")).isEqualTo(report(5000, 2));
+        assertThat(restarted.getOverallStatistics().getDiskHits()).isEqualTo(2);
+        // The small report was promoted; the second read comes from memory
+        restarted.getCachedReport("daily");
+        assertThat(restarted.getOverallStatistics().getMemoryHits()).isEqualTo(1);
+    }
+
+    @Test
+    void testCacheReport_IdenticalContent_StoredOnce() {
+        cacheService.cacheReport("a", report(3000, 7), null);
+        cacheService.cacheReport("b", report(3000, 7), null);
+
+        assertThat(cacheService.getCacheSize()).isEqualTo(2);
+        assertThat(cacheService.getCachedDiskSize()).isEqualTo(3000);
+
+        cacheService.invalidateCache("a");
+        assertThat(cacheService.getCachedReport("b")).isEqualTo(report(3000, 7));
+        assertThat(cacheService.getCachedDiskSize()).isEqualTo(3000);
+    }
+
+    @Test
+    void testCacheReport_OverCapacity_EvictsLeastRecentlyUsed() {
+        cacheService.cacheReport("first", report(4000, 1), null);
+        cacheService.cacheReport("second", report(4000, 2), null);
+        cacheService.getCachedReport("first");
+        cacheService.cacheReport("third", report(4000, 3), null);
+
+        assertThat(cacheService.getCachedDiskSize()).isLessThanOrEqualTo(10_000);
+        assertThat(cacheService.getCachedReport("first")).isNotNull();
+        assertThat(cacheService.getCachedReport("second")).isNull();
+        assertThat(cacheService.getCachedReport("third")).isNotNull();
+
+        // Memory tier: 5 reports of 1000 bytes against 4096 bytes of capacity
+        for (int i = 0; i < 5; i++) {
+            cacheService.cacheReport("small" + i, report(1000, i), null);
+        }
+        assertThat(cacheService.getCachedMemorySize()).isLessThanOrEqualTo(4096);
+        assertThat(cacheService.getOverallStatistics().getEvictions()).isPositive();
+    }
+
+    @Test
+    void testWriteCachedReport_LargeReport_TransferredFromDisk() throws Exception {
+        cacheService.cacheReport("large", report(8000, 9), null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThat(cacheService.writeCachedReport("large", out)).isTrue();
+        assertThat(out.toByteArray()).isEqualTo(report(8000, 9));
+        assertThat(cacheService.writeCachedReport("missing", new ByteArrayOutputStream())).isFalse();
+        assertThat(cacheService.getOverallStatistics().getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void testGenerateCacheKey_AttendanceChanged_NewKey() {
+        String before = cacheService.generateCacheKey(ReportType.DAILY_ATTENDANCE, ReportFormat.EXCEL,
+                "2025-09-02", "2025-09-02");
+        assertThat(cacheService.generateCacheKey(ReportType.DAILY_ATTENDANCE, ReportFormat.EXCEL,
+                "2025-09-02", "2025-09-02")).isEqualTo(before);
+
+        when(attendanceRepository.findDataVersion(LocalDate.of(2025, 9, 2), LocalDate.of(2025, 9, 2)))
+                .thenReturn(List.<Object[]>of(new Object[]{10L, LocalDateTime.of(2025, 9, 2, 9, 15)}));
+
+        String after = cacheService.generateCacheKey(ReportType.DAILY_ATTENDANCE, ReportFormat.EXCEL,
+                "2025-09-02", "2025-09-02");
+        assertThat(after).isNotEqualTo(before).startsWith("DAILY_ATTENDANCE_EXCEL_2025-09-02_2025-09-02@");
+    }
+}
@@ -0,0 +1,202 @@
+package com.heronix.service;
+
+import com.heronix.model.domain.Student;
+import com.heronix.repository.StudentRepository;
+import com.heronix.service.ReportCardBatchService.BatchResult;
+import com.heronix.service.ReportCardBatchService.OutputFormat;
+import com.heronix.service.ReportCardPdfService.ReportCardOptions;
+import com.heronix.service.impl.AttendanceService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit Tests for ReportCardBatchService
+ *
+ * Tests that chunks rendered in parallel are written in student order with
+ * every card present, and that a student whose card fails to render is
+ * reported without stopping the rest of the batch.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+@ExtendWith(MockitoExtension.class)
+class ReportCardBatchServiceTest {
+
+    @Mock(lenient = true)
+    private GradebookService gradebookService;
+
+    @Mock(lenient = true)
+    private ReportCardPdfService reportCardPdfService;
+
+    @Mock
+    private AttendanceService attendanceService;
+
+    @Mock
+    private GradeService gradeService;
+
+    @Mock(lenient = true)
+    private StudentRepository studentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private ReportCardBatchService service;
+
+    @TempDir
+    Path tempDir;
+
+    private ExecutorService executor;
+
+    private final ReportCardOptions options = ReportCardOptions.builder()
+            .showAttendance(false)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        ReflectionTestUtils.setField(service, "reportCardExecutor", executor);
+        ReflectionTestUtils.setField(service, "chunkSize", 3);
+        ReflectionTestUtils.setField(service, "maxChunksInFlight", 3);
+
+        when(gradebookService.generateReportCards(anyCollection(), any())).thenAnswer(invocation -> {
+            Map<Long, GradebookService.ReportCard> reportCards = new LinkedHashMap<>();
+            for (Long id : invocation.<Collection<Long>>getArgument(0)) {
+                reportCards.put(id, GradebookService.ReportCard.builder()
+                        .studentId(id)
+                        .studentNumber("S" + id)
+                        .build());
+            }
+            return reportCards;
+        });
+        when(studentRepository.findAllById(anyIterable())).thenAnswer(invocation ->
+                StreamSupport.stream(invocation.<Iterable<Long>>getArgument(0).spliterator(), false)
+                        .map(id -> {
+                            Student student = new Student();
+                            student.setId(id);
+                            return student;
+                        })
+                        .toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Render each card as its student number; the first chunk is slowed down
+     * so later chunks finish before it
+     */
+    private void renderCards(long failingStudentId) {
+        doAnswer(invocation -> {
+            GradebookService.ReportCard reportCard = invocation.getArgument(0);
+            if (reportCard.getStudentId() == failingStudentId) {
+                throw new IllegalStateException("Font not found");
+            }
+            if (reportCard.getStudentId() <= 3) {
+                Thread.sleep(100);
+            }
+            invocation.<OutputStream>getArgument(6)
+                    .write(reportCard.getStudentNumber().getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(reportCardPdfService).writeReportCardPdf(any(), any(), any(), anyInt(), any(), any(), any());
+    }
+
+    private static List<Long> studentIds(int count) {
+        return LongStream.rangeClosed(1, count).boxed().toList();
+    }
+
+    private static Map<String, String> zipEntries(Path zip) throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream in = new ZipInputStream(Files.newInputStream(zip))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+
+    @Test
+    void testGenerateBatch_ChunksWrittenInStudentOrder() throws IOException {
+        renderCards(-1);
+        Path output = tempDir.resolve("cards.zip");
+        List<Integer> progress = new CopyOnWriteArrayList<>();
+
+        BatchResult result = service.generateBatch(studentIds(10), 1L, options, OutputFormat.ZIP, output,
+                (completed, total) -> progress.add(completed));
+
+        List<String> expected = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            expected.add("S" + id + "_ReportCard.pdf");
+        }
+        Map<String, String> entries = zipEntries(output);
+        assertThat(entries.keySet()).containsExactlyElementsOf(expected);
+        assertThat(entries).containsEntry("S4_ReportCard.pdf", "S4");
+        assertThat(result.requested()).isEqualTo(10);
+        assertThat(result.generated()).isEqualTo(10);
+        assertThat(result.failedStudentIds()).isEmpty();
+        assertThat(progress).containsExactly(3, 6, 9, 10);
+        verify(gradebookService, times(4)).generateReportCards(anyCollection(), eq(1L));
+    }
+
+    @Test
+    void testGenerateBatch_RenderFailure_OtherStudentsStillGenerated() throws IOException {
+        renderCards(5);
+        Path output = tempDir.resolve("cards.zip");
+
+        BatchResult result = service.generateBatch(studentIds(7), 1L, options, OutputFormat.ZIP, output, null);
+
+        assertThat(zipEntries(output).keySet()).containsExactly(
+                "S1_ReportCard.pdf", "S2_ReportCard.pdf", "S3_ReportCard.pdf", "S4_ReportCard.pdf",
+                "S6_ReportCard.pdf", "S7_ReportCard.pdf");
+        assertThat(result.generated()).isEqualTo(6);
+        assertThat(result.failedStudentIds()).containsExactly(5L);
+    }
+
+    @Test
+    void testGenerateBatch_ChunkLoadFailure_ReportsWholeChunk() throws IOException {
+        renderCards(-1);
+        when(gradebookService.generateReportCards(argThat((Collection<Long> ids) -> ids.contains(4L)), any()))
+                .thenThrow(new IllegalStateException("Connection refused"));
+        Path output = tempDir.resolve("cards.zip");
+
+        BatchResult result = service.generateBatch(studentIds(7), 1L, options, OutputFormat.ZIP, output, null);
+
+        assertThat(zipEntries(output).keySet()).containsExactly(
+                "S1_ReportCard.pdf", "S2_ReportCard.pdf", "S3_ReportCard.pdf", "S7_ReportCard.pdf");
+        assertThat(result.failedStudentIds()).containsExactly(4L, 5L, 6L);
+    }
+}
@@ -0,0 +1,111 @@
+package com.heronix.service.export;
+
+import com.heronix.service.export.StreamingSpreadsheetWriter.JobStats;
+import com.heronix.service.export.StreamingSpreadsheetWriter.SheetWriter;
+import com.heronix.service.export.StreamingSpreadsheetWriter.Style;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static com.heronix.service.export.StreamingSpreadsheetWriter.styled;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit Tests for StreamingSpreadsheetWriter
+ *
+ * Tests that reports larger than the row window come out complete, that cell
+ * styles are shared rather than created per cell, and that the job
+ * statistics match what was written.
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+class StreamingSpreadsheetWriterTest {
+
+    private static final int ROWS = StreamingSpreadsheetWriter.ROW_WINDOW * 5 + 7;
+
+    @Test
+    void testWriteTo_MultipleSheetsLargerThanWindow_AllRowsReadable() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JobStats stats;
+
+        try (StreamingSpreadsheetWriter writer = new StreamingSpreadsheetWriter("test report")) {
+            SheetWriter first = writer.sheet("First");
+            first.title("Report Title", 3);
+            first.blankRow();
+            first.header("ID", "Name", "Rate");
+            for (int i = 0; i < ROWS; i++) {
+                first.row(Style.DATA, (long) i, "Student " + i, styled(0.5, Style.PERCENT));
+            }
+
+            SheetWriter second = writer.sheet("Second");
+            second.header("Label", "Value");
+            second.row("Total", ROWS);
+
+            stats = writer.writeTo(out);
+        }
+
+        assertThat(stats.sheets()).isEqualTo(2);
+        assertThat(stats.rows()).isEqualTo(1 + 1 + ROWS + 1 + 1);
+        assertThat(stats.bytesWritten()).isEqualTo(out.size());
+        assertThat(stats.peakHeapBytes()).isPositive();
+
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet first = workbook.getSheet("First");
+            assertThat(first.getRow(0).getCell(0).getStringCellValue()).isEqualTo("Report Title");
+            assertThat(first.getMergedRegions()).hasSize(1);
+            assertThat(first.getRow(1)).isNull();
+            assertThat(first.getRow(2).getCell(0).getStringCellValue()).isEqualTo("ID");
+
+            Row last = first.getRow(3 + ROWS - 1);
+            assertThat(last.getCell(0).getNumericCellValue()).isEqualTo(ROWS - 1);
+            assertThat(last.getCell(1).getStringCellValue()).isEqualTo("Student " + (ROWS - 1));
+            assertThat(last.getCell(2).getCellStyle().getDataFormatString()).isEqualTo("0.00%");
+
+            Sheet second = workbook.getSheet("Second");
+            assertThat(second.getRow(1).getCell(1).getNumericCellValue()).isEqualTo(ROWS);
+        }
+    }
+
+    @Test
+    void testStyles_SharedAcrossCellsAndSheets() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (StreamingSpreadsheetWriter writer = new StreamingSpreadsheetWriter("style report")) {
+            for (int s = 0; s < 3; s++) {
+                SheetWriter sheet = writer.sheet("Sheet " + s);
+                sheet.header("A", "B");
+                for (int i = 0; i < ROWS; i++) {
+                    sheet.row(Style.DATA, i, i * 2);
+                }
+            }
+            writer.writeTo(out);
+        }
+
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            // Default style plus HEADER and DATA, however many cells use them
+            assertThat(workbook.getNumCellStyles()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void testRow_NullWithoutStyle_LeavesCellEmpty() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (StreamingSpreadsheetWriter writer = new StreamingSpreadsheetWriter("null report")) {
+            writer.sheet("Sheet").row("Generated:", "today", null, "Total:", 5);
+            writer.writeTo(out);
+        }
+
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Row row = workbook.getSheetAt(0).getRow(0);
+            assertThat(row.getCell(2)).isNull();
+            assertThat(row.getCell(4).getNumericCellValue()).isEqualTo(5.0);
+        }
+    }
+}
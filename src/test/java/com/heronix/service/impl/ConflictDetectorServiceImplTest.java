@@ -156,7 +156,7 @@ class ConflictDetectorServiceImplTest {
         testSection.setScheduleYear(2025);
 
         // Default mock setups
-        when(scheduleSlotRepository.findAll()).thenReturn(new ArrayList<>());
+        when(scheduleSlotRepository.findByScheduleId(anyLong())).thenReturn(new ArrayList<>());
         when(studentEnrollmentRepository.findByScheduleId(anyLong())).thenReturn(new ArrayList<>());
         when(conflictRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
     }
@@ -167,7 +167,7 @@ class ConflictDetectorServiceImplTest {
 
     @Test
     void testDetectAllConflicts_WithNoConflicts_ShouldReturnEmptyList() {
-        when(scheduleSlotRepository.findAll()).thenReturn(Arrays.asList(testSlot1));
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1));
         when(studentEnrollmentRepository.findByScheduleSlotId(1L)).thenReturn(Arrays.asList(testEnrollment));
         when(courseSectionRepository.findAll()).thenReturn(Arrays.asList(testSection));
 
@@ -189,7 +189,7 @@ class ConflictDetectorServiceImplTest {
         overlappingSlot.setRoom(testRoom); // Same room
         overlappingSlot.setTeacher(testTeacher); // Same teacher
 
-        when(scheduleSlotRepository.findAll()).thenReturn(Arrays.asList(testSlot1, overlappingSlot));
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1, overlappingSlot));
         when(courseSectionRepository.findAll()).thenReturn(new ArrayList<>());
 
         List<Conflict> result = service.detectAllConflicts(testSchedule);
@@ -210,7 +210,7 @@ class ConflictDetectorServiceImplTest {
         overlappingSlot.setRoom(new Room()); // Different room
         overlappingSlot.getRoom().setId(2L);
 
-        when(scheduleSlotRepository.findAll()).thenReturn(Arrays.asList(testSlot1, overlappingSlot));
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1, overlappingSlot));
         when(studentEnrollmentRepository.findByScheduleSlotId(1L)).thenReturn(new ArrayList<>());
 
         List<Conflict> result = service.detectConflictsForSlot(testSlot1);
@@ -235,7 +235,7 @@ class ConflictDetectorServiceImplTest {
         overlappingSlot.getTeacher().setId(2L);
         overlappingSlot.getTeacher().setName("Bob Smith");
 
-        when(scheduleSlotRepository.findAll()).thenReturn(Arrays.asList(testSlot1, overlappingSlot));
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1, overlappingSlot));
         when(studentEnrollmentRepository.findByScheduleSlotId(1L)).thenReturn(new ArrayList<>());
 
         List<Conflict> result = service.detectConflictsForSlot(testSlot1);
@@ -256,12 +256,13 @@ class ConflictDetectorServiceImplTest {
         for (int i = 0; i < 25; i++) {
             StudentEnrollment enrollment = new StudentEnrollment();
             enrollment.setId((long) i);
+            enrollment.setScheduleSlot(testSlot1);
             enrollment.setStatus(EnrollmentStatus.ACTIVE);
             enrollments.add(enrollment);
         }
 
-        when(scheduleSlotRepository.findAll()).thenReturn(new ArrayList<>());
-        when(studentEnrollmentRepository.findByScheduleSlotId(1L)).thenReturn(enrollments);
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(new ArrayList<>());
+        when(studentEnrollmentRepository.findByScheduleId(1L)).thenReturn(enrollments);
 
         List<Conflict> result = service.detectConflictsForSlot(testSlot1);
 
@@ -290,6 +291,71 @@ class ConflictDetectorServiceImplTest {
         assertFalse(result);
     }
 
+    // ========================================================================
+    // CONFLICT INDEX TESTS
+    // ========================================================================
+
+    @Test
+    void testDetectAllConflicts_ShouldLoadScheduleOnce() {
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1, testSlot2));
+        when(courseSectionRepository.findAll()).thenReturn(new ArrayList<>());
+
+        service.detectAllConflicts(testSchedule);
+
+        verify(scheduleSlotRepository, times(1)).findByScheduleId(1L);
+        verify(studentEnrollmentRepository, times(1)).findByScheduleId(1L);
+        verify(courseSectionRepository, times(1)).findAll();
+        verify(scheduleSlotRepository, never()).findAll();
+        verify(studentEnrollmentRepository, never()).findByScheduleSlotId(anyLong());
+    }
+
+    @Test
+    void testOpenConflictIndex_ShouldDetectWithoutDatabaseAccess() {
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1, testSlot2));
+        when(courseSectionRepository.findAll()).thenReturn(new ArrayList<>());
+
+        service.openConflictIndex(testSchedule);
+        clearInvocations(scheduleSlotRepository, studentEnrollmentRepository, courseSectionRepository);
+
+        service.detectAllConflicts(testSchedule);
+        service.detectConflictsForSlot(testSlot1);
+
+        verifyNoInteractions(scheduleSlotRepository, studentEnrollmentRepository, courseSectionRepository);
+    }
+
+    @Test
+    void testUpdateConflictIndex_AfterMovingSlot_ShouldDetectNewOverlap() {
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1, testSlot2));
+        service.openConflictIndex(testSchedule);
+
+        assertTrue(service.detectTeacherOverloads(testSchedule).isEmpty());
+
+        // Move slot 2 on top of slot 1
+        testSlot2.setStartTime(LocalTime.of(9, 30));
+        testSlot2.setEndTime(LocalTime.of(10, 30));
+        service.updateConflictIndex(testSlot2);
+
+        assertEquals(1, service.detectTeacherOverloads(testSchedule).size());
+
+        // Move it to another day
+        testSlot2.setDayOfWeek(DayOfWeek.TUESDAY);
+        service.updateConflictIndex(testSlot2);
+
+        assertTrue(service.detectTeacherOverloads(testSchedule).isEmpty());
+    }
+
+    @Test
+    void testCloseConflictIndex_ShouldReloadFromDatabase() {
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1));
+        service.openConflictIndex(testSchedule);
+        service.closeConflictIndex(testSchedule);
+        clearInvocations(scheduleSlotRepository);
+
+        service.detectTimeOverlaps(testSchedule);
+
+        verify(scheduleSlotRepository).findByScheduleId(1L);
+    }
+
     // ========================================================================
     // TIME-BASED DETECTION TESTS
     // ========================================================================
@@ -306,7 +372,7 @@ class ConflictDetectorServiceImplTest {
         overlapping.setRoom(new Room());
         overlapping.getRoom().setId(2L);
 
-        when(scheduleSlotRepository.findAll()).thenReturn(Arrays.asList(testSlot1, overlapping));
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1, overlapping));
 
         List<Conflict> result = service.detectTimeOverlaps(testSchedule);
 
@@ -319,7 +385,7 @@ class ConflictDetectorServiceImplTest {
         testTeacher.setPreferredBreakMinutes(15);
         // testSlot2 starts right when testSlot1 ends (back-to-back)
 
-        when(scheduleSlotRepository.findAll()).thenReturn(Arrays.asList(testSlot1, testSlot2));
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1, testSlot2));
 
         List<Conflict> result = service.detectBackToBackViolations(testSchedule);
 
@@ -332,7 +398,7 @@ class ConflictDetectorServiceImplTest {
     void testDetectBackToBackViolations_WithNoBreakPreference_ShouldNotDetect() {
         testTeacher.setPreferredBreakMinutes(0);
 
-        when(scheduleSlotRepository.findAll()).thenReturn(Arrays.asList(testSlot1, testSlot2));
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1, testSlot2));
 
         List<Conflict> result = service.detectBackToBackViolations(testSchedule);
 
@@ -355,7 +421,7 @@ class ConflictDetectorServiceImplTest {
             slots.add(slot);
         }
 
-        when(scheduleSlotRepository.findAll()).thenReturn(slots);
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(slots);
         when(teacherRepository.findById(1L)).thenReturn(Optional.of(testTeacher));
 
         List<Conflict> result = service.detectMissingLunchBreaks(testSchedule);
@@ -382,7 +448,7 @@ class ConflictDetectorServiceImplTest {
             slots.add(slot);
         }
 
-        when(scheduleSlotRepository.findAll()).thenReturn(slots);
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(slots);
 
         List<Conflict> result = service.detectExcessiveConsecutiveClasses(testSchedule);
 
@@ -406,7 +472,7 @@ class ConflictDetectorServiceImplTest {
         doubleBooked.setTeacher(new Teacher());
         doubleBooked.getTeacher().setId(2L);
 
-        when(scheduleSlotRepository.findAll()).thenReturn(Arrays.asList(testSlot1, doubleBooked));
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1, doubleBooked));
 
         List<Conflict> result = service.detectRoomDoubleBookings(testSchedule);
 
@@ -425,12 +491,13 @@ class ConflictDetectorServiceImplTest {
         for (int i = 0; i < 25; i++) {
             StudentEnrollment enrollment = new StudentEnrollment();
             enrollment.setId((long) i);
+            enrollment.setScheduleSlot(testSlot1);
             enrollment.setStatus(EnrollmentStatus.ACTIVE);
             enrollments.add(enrollment);
         }
 
-        when(scheduleSlotRepository.findAll()).thenReturn(Arrays.asList(testSlot1));
-        when(studentEnrollmentRepository.findByScheduleSlotId(1L)).thenReturn(enrollments);
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1));
+        when(studentEnrollmentRepository.findByScheduleId(1L)).thenReturn(enrollments);
 
         List<Conflict> result = service.detectRoomCapacityViolations(testSchedule);
 
@@ -443,7 +510,7 @@ class ConflictDetectorServiceImplTest {
         testCourse.setRequiresLab(true);
         testRoom.setRoomType(RoomType.CLASSROOM); // Not a lab
 
-        when(scheduleSlotRepository.findAll()).thenReturn(Arrays.asList(testSlot1));
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1));
 
         List<Conflict> result = service.detectRoomTypeMismatches(testSchedule);
 
@@ -457,7 +524,7 @@ class ConflictDetectorServiceImplTest {
         testCourse.setRequiresLab(false);
         testRoom.setRoomType(RoomType.CLASSROOM);
 
-        when(scheduleSlotRepository.findAll()).thenReturn(Arrays.asList(testSlot1));
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1));
 
         List<Conflict> result = service.detectRoomTypeMismatches(testSchedule);
 
@@ -471,7 +538,7 @@ class ConflictDetectorServiceImplTest {
         testCourse.setRequiredResources("projector");
         testRoom.setHasProjector(false);
 
-        when(scheduleSlotRepository.findAll()).thenReturn(Arrays.asList(testSlot1));
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1));
 
         List<Conflict> result = service.detectEquipmentUnavailability(testSchedule);
 
@@ -485,7 +552,7 @@ class ConflictDetectorServiceImplTest {
         testRoom.setHasComputers(false);
         testRoom.setHasProjector(true);
 
-        when(scheduleSlotRepository.findAll()).thenReturn(Arrays.asList(testSlot1));
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1));
 
         List<Conflict> result = service.detectEquipmentUnavailability(testSchedule);
 
@@ -509,7 +576,7 @@ class ConflictDetectorServiceImplTest {
         doubleBooked.setRoom(new Room());
         doubleBooked.getRoom().setId(2L);
 
-        when(scheduleSlotRepository.findAll()).thenReturn(Arrays.asList(testSlot1, doubleBooked));
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1, doubleBooked));
 
         List<Conflict> result = service.detectTeacherOverloads(testSchedule);
 
@@ -534,7 +601,7 @@ class ConflictDetectorServiceImplTest {
             slots.add(slot);
         }
 
-        when(scheduleSlotRepository.findAll()).thenReturn(slots);
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(slots);
 
         List<Conflict> result = service.detectExcessiveTeachingHours(testSchedule);
 
@@ -557,7 +624,7 @@ class ConflictDetectorServiceImplTest {
             slots.add(slot);
         }
 
-        when(scheduleSlotRepository.findAll()).thenReturn(slots);
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(slots);
         when(teacherRepository.findById(1L)).thenReturn(Optional.of(testTeacher));
 
         List<Conflict> result = service.detectMissingPreparationPeriods(testSchedule);
@@ -571,7 +638,7 @@ class ConflictDetectorServiceImplTest {
         testTeacher.setDepartment("English");
         testCourse.setSubject("Mathematics");
 
-        when(scheduleSlotRepository.findAll()).thenReturn(Arrays.asList(testSlot1));
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1));
 
         List<Conflict> result = service.detectSubjectMismatches(testSchedule);
 
@@ -590,7 +657,7 @@ class ConflictDetectorServiceImplTest {
         testSlot2.setRoom(building2Room);
         testSlot2.setStartTime(LocalTime.of(10, 0)); // Right after slot1 ends
 
-        when(scheduleSlotRepository.findAll()).thenReturn(Arrays.asList(testSlot1, testSlot2));
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1, testSlot2));
 
         List<Conflict> result = service.detectTeacherTravelTimeIssues(testSchedule);
 
@@ -681,12 +748,13 @@ class ConflictDetectorServiceImplTest {
         for (int i = 0; i < 30; i++) {
             StudentEnrollment enrollment = new StudentEnrollment();
             enrollment.setId((long) i);
+            enrollment.setScheduleSlot(testSlot1);
             enrollment.setStatus(EnrollmentStatus.ACTIVE);
             enrollments.add(enrollment);
         }
 
-        when(scheduleSlotRepository.findAll()).thenReturn(Arrays.asList(testSlot1));
-        when(studentEnrollmentRepository.findByScheduleSlotId(1L)).thenReturn(enrollments);
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1));
+        when(studentEnrollmentRepository.findByScheduleId(1L)).thenReturn(enrollments);
 
         List<Conflict> result = service.detectSectionOverEnrollment(testSchedule);
 
@@ -749,7 +817,7 @@ class ConflictDetectorServiceImplTest {
         newSlot.setTeacher(testTeacher);
         newSlot.setRoom(testRoom);
 
-        when(scheduleSlotRepository.findAll()).thenReturn(Arrays.asList(testSlot1));
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1));
         when(studentEnrollmentRepository.findByScheduleSlotId(99L)).thenReturn(new ArrayList<>());
 
         List<Conflict> result = service.detectPotentialConflicts(testSchedule, newSlot);
@@ -760,7 +828,7 @@ class ConflictDetectorServiceImplTest {
 
     @Test
     void testValidateSchedule_ShouldReturnValidationResult() {
-        when(scheduleSlotRepository.findAll()).thenReturn(Arrays.asList(testSlot1));
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(Arrays.asList(testSlot1));
         when(courseSectionRepository.findAll()).thenReturn(new ArrayList<>());
 
         ValidationResult result = service.validateSchedule(testSchedule);
@@ -801,7 +869,7 @@ class ConflictDetectorServiceImplTest {
 
     @Test
     void testRefreshConflicts_ShouldClearAndDetectNew() {
-        when(scheduleSlotRepository.findAll()).thenReturn(new ArrayList<>());
+        when(scheduleSlotRepository.findByScheduleId(1L)).thenReturn(new ArrayList<>());
         when(courseSectionRepository.findAll()).thenReturn(new ArrayList<>());
 
         List<Conflict> result = service.refreshConflicts(testSchedule);
@@ -5,11 +5,13 @@ import com.heronix.repository.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -37,6 +39,9 @@ class ConflictMatrixServiceImplTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
     @InjectMocks
     private ConflictMatrixServiceImpl service;
 
@@ -123,7 +128,10 @@ class ConflictMatrixServiceImplTest {
         service.generateConflictMatrix(2025);
 
         verify(conflictMatrixRepository).deleteAll(anyList());
-        verify(conflictMatrixRepository, atLeastOnce()).save(any(ConflictMatrix.class));
+        List<Object[]> inserts = capturedBatch("INSERT");
+        assertEquals(1, inserts.size());
+        assertArrayEquals(new Object[] {1L, 2L, 1}, Arrays.copyOf(inserts.get(0), 3));
+        verify(conflictMatrixRepository, never()).save(any(ConflictMatrix.class));
     }
 
     @Test
@@ -149,31 +157,111 @@ class ConflictMatrixServiceImplTest {
 
         service.generateConflictMatrix(2025);
 
-        // Should save conflicts for both students
-        verify(conflictMatrixRepository, atLeast(2)).save(any(ConflictMatrix.class));
+        // Both students count towards the same pair row
+        List<Object[]> inserts = capturedBatch("INSERT");
+        assertEquals(1, inserts.size());
+        assertEquals(2, inserts.get(0)[2]);
+        assertEquals(2 * 100.0 / 25, inserts.get(0)[3]);
     }
 
     @Test
     void testGenerateConflictMatrix_WithSingletonCourses_ShouldMarkSingletonConflicts() {
         request2.setCourse(singletonCourse);
 
-        ConflictMatrix singletonConflict = new ConflictMatrix();
-        singletonConflict.setCourse1(course1);
-        singletonConflict.setCourse2(singletonCourse);
-        singletonConflict.setConflictCount(5);
-        singletonConflict.setIsSingletonConflict(false);
+        List<CourseRequest> requests = Arrays.asList(request1, request2);
+
+        when(courseRequestRepository.findPendingRequestsForYear(2025)).thenReturn(requests);
+        when(conflictMatrixRepository.findByScheduleYear(2025)).thenReturn(new ArrayList<>());
+
+        service.generateConflictMatrix(2025);
+
+        Object[] row = capturedBatch("INSERT").get(0);
+        assertEquals(true, row[4]);
+        assertEquals(10, row[5]);
+    }
 
+    @Test
+    void testGenerateConflictMatrix_WithExistingPairRow_ShouldUpdateIt() {
         List<CourseRequest> requests = Arrays.asList(request1, request2);
 
         when(courseRequestRepository.findPendingRequestsForYear(2025)).thenReturn(requests);
-        when(conflictMatrixRepository.findByScheduleYear(2025))
-            .thenReturn(Arrays.asList(singletonConflict));
+        when(conflictMatrixRepository.findByScheduleYear(2025)).thenReturn(new ArrayList<>());
+        when(conflictMatrixRepository.findCoursePairIdsForYear(2025))
+            .thenReturn(List.<Object[]>of(new Object[] {7L, 2L, 1L}));
 
         service.generateConflictMatrix(2025);
 
-        verify(conflictMatrixRepository, atLeastOnce()).save(argThat(conflict ->
-            conflict != null && Boolean.TRUE.equals(conflict.getIsSingletonConflict())
-        ));
+        List<Object[]> updates = capturedBatch("UPDATE");
+        assertEquals(1, updates.size());
+        assertEquals(1, updates.get(0)[0]);
+        assertEquals(7L, updates.get(0)[5]);
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("INSERT"), anyList());
+    }
+
+    @Test
+    void testGenerateConflictMatrix_WithPairRowOfOtherYear_ShouldInsertAndLeaveItAlone() {
+        List<CourseRequest> requests = Arrays.asList(request1, request2);
+
+        when(courseRequestRepository.findPendingRequestsForYear(2026)).thenReturn(requests);
+        when(conflictMatrixRepository.findByScheduleYear(2026)).thenReturn(new ArrayList<>());
+        when(conflictMatrixRepository.findCoursePairIdsForYear(2026)).thenReturn(List.of());
+
+        service.generateConflictMatrix(2026);
+
+        List<Object[]> inserts = capturedBatch("INSERT");
+        assertEquals(1, inserts.size());
+        assertEquals(2026, inserts.get(0)[6]);
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("UPDATE"), anyList());
+        verify(conflictMatrixRepository).findCoursePairIdsForYear(2026);
+    }
+
+    @Test
+    void testGenerateConflictMatrix_WithManyStudents_ShouldCountInParallel() {
+        List<Course> courses = new ArrayList<>();
+        for (long id = 1; id <= 40; id++) {
+            Course course = new Course();
+            course.setId(id);
+            course.setCourseName("Course " + id);
+            course.setCurrentEnrollment(1000);
+            courses.add(course);
+        }
+
+        List<CourseRequest> requests = new ArrayList<>();
+        for (long studentId = 1; studentId <= 6000; studentId++) {
+            Student student = new Student();
+            student.setId(studentId);
+            for (int k = 0; k < 8; k++) {
+                CourseRequest request = new CourseRequest();
+                request.setStudent(student);
+                request.setCourse(courses.get((int) ((studentId * 7 + k * 5) % 40)));
+                requests.add(request);
+            }
+        }
+
+        when(courseRequestRepository.findPendingRequestsForYear(2025)).thenReturn(requests);
+        when(conflictMatrixRepository.findByScheduleYear(2025)).thenReturn(new ArrayList<>());
+
+        service.generateConflictMatrix(2025);
+
+        // Every student requests 8 distinct courses: 28 pairs each
+        int total = capturedBatch("INSERT").stream().mapToInt(row -> (Integer) row[2]).sum();
+        assertEquals(6000 * 28, total);
+    }
+
+    @Test
+    void testGetConflictHeatmap_AfterGenerate_ShouldServeFromMemory() {
+        List<CourseRequest> requests = Arrays.asList(request1, request2);
+
+        when(courseRequestRepository.findPendingRequestsForYear(2025)).thenReturn(requests);
+        when(conflictMatrixRepository.findByScheduleYear(2025)).thenReturn(new ArrayList<>());
+
+        service.generateConflictMatrix(2025);
+        Map<String, Map<String, Integer>> result = service.getConflictHeatmap(2025);
+
+        assertEquals(1, result.get("Algebra I").get("English I"));
+        assertEquals(1, result.get("English I").get("Algebra I"));
+        // Only the clear before generating reads the year's rows
+        verify(conflictMatrixRepository, times(1)).findByScheduleYear(2025);
     }
 
     @Test
@@ -578,4 +666,11 @@ class ConflictMatrixServiceImplTest {
             assertNotNull(e);
         }
     }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> capturedBatch(String statement) {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith(statement), captor.capture());
+        return captor.getValue();
+    }
 }
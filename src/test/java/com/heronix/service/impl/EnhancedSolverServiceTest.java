@@ -0,0 +1,151 @@
+package com.heronix.service.impl;
+
+import com.heronix.model.domain.*;
+import com.heronix.service.impl.EnhancedSolverService.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for EnhancedSolverService
+ *
+ * The searches run on compact copies with an incremental energy model; the
+ * returned slots must carry the reported best score, scored the way the
+ * entity-based energy scored them.
+ */
+class EnhancedSolverServiceTest {
+
+    private static final double TOLERANCE = 1e-9;
+
+    private EnhancedSolverService solver;
+
+    @BeforeEach
+    void setUp() {
+        solver = new EnhancedSolverService(null, null, null, null);
+    }
+
+    @Test
+    void testSimulatedAnnealing_ShouldReturnSlotsWithBestEnergy() {
+        List<ScheduleSlot> slots = createSlots();
+        double initial = entityEnergy(slots);
+
+        OptimizationResult result = solver.optimizeWithSimulatedAnnealing(slots,
+            SimulatedAnnealingConfig.builder().maxIterations(2000).build());
+
+        assertEquals(initial, result.getInitialScore(), TOLERANCE);
+        assertTrue(result.getFinalScore() < initial);
+        assertSame(slots.get(0), result.getOptimizedSchedule().get(0));
+        assertEquals(result.getFinalScore(), entityEnergy(result.getOptimizedSchedule()), TOLERANCE);
+        assertEquals(result.getIterations(), result.getEvaluations());
+        assertTrue(result.getIterationsPerSecond() > 0);
+    }
+
+    @Test
+    void testTabuSearch_ShouldReturnSlotsWithBestEnergy() {
+        List<ScheduleSlot> slots = createSlots();
+
+        OptimizationResult result = solver.optimizeWithTabuSearch(slots,
+            TabuSearchConfig.builder().maxIterations(200).build());
+
+        assertTrue(result.getFinalScore() < result.getInitialScore());
+        assertEquals(result.getFinalScore(), entityEnergy(result.getOptimizedSchedule()), TOLERANCE);
+        assertEquals(200L * 20, result.getEvaluations());
+    }
+
+    @Test
+    void testSimulatedAnnealing_WithTimeLimit_ShouldStopEarly() {
+        OptimizationResult result = solver.optimizeWithSimulatedAnnealing(createSlots(),
+            SimulatedAnnealingConfig.builder()
+                .minTemperature(0)
+                .coolingRate(1.0)
+                .maxIterations(Integer.MAX_VALUE)
+                .timeLimitMs(50)
+                .build());
+
+        assertTrue(result.getIterations() < Integer.MAX_VALUE);
+        assertTrue(result.getEvaluationsPerSecond() > 0);
+    }
+
+    @Test
+    void testIslandModel_ShouldApplyOnlyTheBestIsland() {
+        List<ScheduleSlot> slots = createSlots();
+
+        OptimizationResult result = solver.optimizeWithIslandModel(slots,
+            IslandModelConfig.builder().numIslands(3).iterationsPerIsland(500).build());
+
+        assertNotNull(result);
+        assertEquals("Island Model (Parallel)", result.getAlgorithm());
+        assertEquals(result.getFinalScore(), entityEnergy(slots), TOLERANCE);
+    }
+
+    // ========================================================================
+    // HELPER METHODS
+    // ========================================================================
+
+    /**
+     * Reference energy on the entities: 100 per teacher / room double-booking
+     * plus ten times the standard deviation of teacher workloads
+     */
+    private double entityEnergy(List<ScheduleSlot> slots) {
+        Map<String, Integer> teacherSlots = new HashMap<>();
+        Map<String, Integer> roomSlots = new HashMap<>();
+        Map<Long, Integer> teacherLoads = new HashMap<>();
+
+        for (ScheduleSlot slot : slots) {
+            if (slot.getTeacher() != null && slot.getDayOfWeek() != null && slot.getStartTime() != null) {
+                teacherSlots.merge(slot.getTeacher().getId() + "-" + slot.getDayOfWeek() + "-" + slot.getStartTime(),
+                    1, Integer::sum);
+            }
+            if (slot.getRoom() != null && slot.getDayOfWeek() != null && slot.getStartTime() != null) {
+                roomSlots.merge(slot.getRoom().getId() + "-" + slot.getDayOfWeek() + "-" + slot.getStartTime(),
+                    1, Integer::sum);
+            }
+            if (slot.getTeacher() != null) {
+                teacherLoads.merge(slot.getTeacher().getId(), 1, Integer::sum);
+            }
+        }
+
+        double energy = 0;
+        for (int count : teacherSlots.values()) {
+            energy += (count - 1) * 100;
+        }
+        for (int count : roomSlots.values()) {
+            energy += (count - 1) * 100;
+        }
+        double avgLoad = teacherLoads.values().stream().mapToInt(Integer::intValue).average().orElse(0);
+        double variance = teacherLoads.values().stream()
+            .mapToDouble(load -> Math.pow(load - avgLoad, 2))
+            .average().orElse(0);
+        return energy + Math.sqrt(variance) * 10;
+    }
+
+    /**
+     * 30 slots for five teachers in four rooms, all on Monday at 9:00
+     */
+    private List<ScheduleSlot> createSlots() {
+        List<ScheduleSlot> slots = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            Teacher teacher = new Teacher();
+            teacher.setId((long) (i % 5) + 1);
+            teacher.setName("Teacher " + (i % 5));
+
+            Room room = new Room();
+            room.setId((long) (i % 4) + 1);
+            room.setRoomNumber("R" + (i % 4));
+
+            ScheduleSlot slot = new ScheduleSlot();
+            slot.setTeacher(i == 29 ? null : teacher);
+            slot.setRoom(room);
+            slot.setDayOfWeek(DayOfWeek.MONDAY);
+            slot.setStartTime(LocalTime.of(9, 0));
+            slot.setEndTime(LocalTime.of(10, 0));
+            slots.add(slot);
+        }
+        return slots;
+    }
+}
@@ -5,6 +5,7 @@ import com.heronix.model.domain.CourseRequest;
 import com.heronix.model.domain.CourseSection;
 import com.heronix.model.domain.Student;
 import com.heronix.repository.*;
+import com.heronix.repository.spec.AggregateQueries;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +19,8 @@ import java.util.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -39,32 +42,17 @@ class EnrollmentForecastingServiceImplTest {
     private CourseRequestRepository courseRequestRepository;
 
     @Mock(lenient = true)
-    private CourseSectionRepository courseSectionRepository;
+    private AggregateQueries aggregateQueries;
 
     @InjectMocks
     private EnrollmentForecastingServiceImpl service;
 
-    private Student testStudent1;
-    private Student testStudent2;
     private Course testCourse;
     private CourseRequest testRequest;
-    private CourseSection testSection;
+    private Map<Long, Long> sectionCapacity;
 
     @BeforeEach
     void setUp() {
-        // Setup test students
-        testStudent1 = new Student();
-        testStudent1.setId(1L);
-        testStudent1.setStudentId("S001");
-        testStudent1.setGradeLevel("9");
-        testStudent1.setActive(true);
-
-        testStudent2 = new Student();
-        testStudent2.setId(2L);
-        testStudent2.setStudentId("S002");
-        testStudent2.setGradeLevel("10");
-        testStudent2.setActive(true);
-
         // Setup test course
         testCourse = new Course();
         testCourse.setId(1L);
@@ -78,11 +66,8 @@ class EnrollmentForecastingServiceImplTest {
         testRequest.setCourse(testCourse);
         testRequest.setRequestYear(2024);
 
-        // Setup test course section
-        testSection = new CourseSection();
-        testSection.setId(1L);
-        testSection.setCourse(testCourse);
-        testSection.setMaxEnrollment(25);
+        // Setup one 25-seat section of the test course
+        sectionCapacity = Map.of(1L, 25L);
 
         // Configure repository mocks
         when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
@@ -139,8 +124,7 @@ class EnrollmentForecastingServiceImplTest {
 
     @Test
     void testForecastEnrollmentByGrade_ShouldReturnGradeMap() {
-        List<Student> students = Arrays.asList(testStudent1, testStudent2);
-        when(studentRepository.findAll()).thenReturn(students);
+        stubActiveStudentsByGrade(Map.of("9", 1L, "10", 1L));
 
         int currentYear = LocalDate.now().getYear();
         Map<String, Integer> result = service.forecastEnrollmentByGrade(currentYear);
@@ -153,45 +137,41 @@ class EnrollmentForecastingServiceImplTest {
     }
 
     @Test
-    void testForecastEnrollmentByGrade_WithNullStudents_ShouldFilterThem() {
-        List<Student> students = Arrays.asList(testStudent1, null, testStudent2);
-        when(studentRepository.findAll()).thenReturn(students);
+    void testForecastEnrollmentByGrade_WithNoStudents_ShouldReturnZeroForEachGrade() {
+        stubActiveStudentsByGrade(Map.of());
 
         int currentYear = LocalDate.now().getYear();
         Map<String, Integer> result = service.forecastEnrollmentByGrade(currentYear);
 
         assertNotNull(result);
         assertEquals(4, result.size()); // All 4 grades present
+        assertEquals(0, result.get("9"));
     }
 
     @Test
-    void testForecastEnrollmentByGrade_WithNullGradeLevels_ShouldFilterThem() {
-        testStudent1.setGradeLevel(null);
-
-        List<Student> students = Arrays.asList(testStudent1, testStudent2);
-        when(studentRepository.findAll()).thenReturn(students);
+    void testForecastEnrollmentByGrade_WithOtherGradeLevels_ShouldIgnoreThem() {
+        Map<String, Long> counts = new HashMap<>();
+        counts.put(null, 5L);
+        counts.put("K", 5L);
+        counts.put("10", 1L);
+        stubActiveStudentsByGrade(counts);
 
         int currentYear = LocalDate.now().getYear();
         Map<String, Integer> result = service.forecastEnrollmentByGrade(currentYear);
 
         assertNotNull(result);
-        // Grade 10 should have 1 student (with attrition applied)
-        assertNotNull(result.get("10"));
+        assertEquals(4, result.size());
+        assertEquals(1, result.get("10"));
     }
 
     @Test
-    void testForecastEnrollmentByGrade_WithInactiveStudents_ShouldFilterThem() {
-        testStudent1.setActive(false);
-
-        List<Student> students = Arrays.asList(testStudent1, testStudent2);
-        when(studentRepository.findAll()).thenReturn(students);
+    void testForecastEnrollmentByGrade_WithFutureYear_ShouldApplyAttrition() {
+        stubActiveStudentsByGrade(Map.of("10", 100L));
 
-        int currentYear = LocalDate.now().getYear();
-        Map<String, Integer> result = service.forecastEnrollmentByGrade(currentYear);
+        int nextYear = LocalDate.now().getYear() + 1;
+        Map<String, Integer> result = service.forecastEnrollmentByGrade(nextYear);
 
-        assertNotNull(result);
-        // Only testStudent2 should be counted
-        assertNotNull(result.get("10"));
+        assertEquals(97, result.get("10")); // 3% attrition
     }
 
     // ========================================================================
@@ -414,45 +394,25 @@ class EnrollmentForecastingServiceImplTest {
 
     @Test
     void testCalculateGrowthRate_WithGrowth_ShouldReturnPositive() {
-        CourseRequest req2023 = new CourseRequest();
-        req2023.setRequestYear(2023);
-
-        CourseRequest req2024_1 = new CourseRequest();
-        req2024_1.setRequestYear(2024);
-
-        CourseRequest req2024_2 = new CourseRequest();
-        req2024_2.setRequestYear(2024);
-
-        when(courseRequestRepository.findAll())
-                .thenReturn(Arrays.asList(req2023, req2024_1, req2024_2));
+        stubRequestsByYear(Map.of(2023, 1L, 2024, 2L));
 
         double result = service.calculateGrowthRate(2023, 2024);
 
-        assertTrue(result > 0); // Should be 100% (from 1 to 2)
+        assertEquals(100.0, result, 0.001); // From 1 to 2
     }
 
     @Test
     void testCalculateGrowthRate_WithDecline_ShouldReturnNegative() {
-        CourseRequest req2023_1 = new CourseRequest();
-        req2023_1.setRequestYear(2023);
-
-        CourseRequest req2023_2 = new CourseRequest();
-        req2023_2.setRequestYear(2023);
-
-        CourseRequest req2024 = new CourseRequest();
-        req2024.setRequestYear(2024);
-
-        when(courseRequestRepository.findAll())
-                .thenReturn(Arrays.asList(req2023_1, req2023_2, req2024));
+        stubRequestsByYear(Map.of(2023, 2L, 2024, 1L));
 
         double result = service.calculateGrowthRate(2023, 2024);
 
-        assertTrue(result < 0); // Should be -50% (from 2 to 1)
+        assertEquals(-50.0, result, 0.001); // From 2 to 1
     }
 
     @Test
     void testCalculateGrowthRate_WithNoDataForYear1_ShouldReturnZero() {
-        when(courseRequestRepository.findAll()).thenReturn(new ArrayList<>());
+        stubRequestsByYear(Map.of());
 
         double result = service.calculateGrowthRate(2023, 2024);
 
@@ -461,10 +421,7 @@ class EnrollmentForecastingServiceImplTest {
 
     @Test
     void testCalculateGrowthRate_WithNoDataForYear2_ShouldReturnZero() {
-        CourseRequest req2023 = new CourseRequest();
-        req2023.setRequestYear(2023);
-
-        when(courseRequestRepository.findAll()).thenReturn(Arrays.asList(req2023));
+        stubRequestsByYear(Map.of(2023, 1L));
 
         double result = service.calculateGrowthRate(2023, 2024);
 
@@ -478,10 +435,10 @@ class EnrollmentForecastingServiceImplTest {
     @Test
     void testGetForecastingReport_ShouldIncludeAllMetrics() {
         when(studentRepository.count()).thenReturn(1000L);
-        when(studentRepository.findAll()).thenReturn(Arrays.asList(testStudent1, testStudent2));
+        stubActiveStudentsByGrade(Map.of("9", 1L, "10", 1L));
         when(courseRepository.findAll()).thenReturn(Arrays.asList(testCourse));
         when(courseRequestRepository.findByCourse(any())).thenReturn(new ArrayList<>());
-        when(courseSectionRepository.findAll()).thenReturn(new ArrayList<>());
+        stubSectionCapacity(Map.of());
 
         int currentYear = LocalDate.now().getYear();
         Map<String, Object> result = service.getForecastingReport(currentYear);
@@ -503,7 +460,7 @@ class EnrollmentForecastingServiceImplTest {
     void testHasAdequateCapacity_WithSufficientCapacity_ShouldReturnTrue() {
         when(courseRepository.findAll()).thenReturn(Arrays.asList(testCourse));
         when(courseRequestRepository.findByCourse(any())).thenReturn(new ArrayList<>());
-        when(courseSectionRepository.findAll()).thenReturn(Arrays.asList(testSection));
+        stubSectionCapacity(sectionCapacity);
 
         int currentYear = LocalDate.now().getYear();
         boolean result = service.hasAdequateCapacity(currentYear);
@@ -523,7 +480,7 @@ class EnrollmentForecastingServiceImplTest {
 
         when(courseRepository.findAll()).thenReturn(Arrays.asList(testCourse));
         when(courseRequestRepository.findByCourse(any())).thenReturn(requests);
-        when(courseSectionRepository.findAll()).thenReturn(Arrays.asList(testSection));
+        stubSectionCapacity(sectionCapacity);
 
         int currentYear = LocalDate.now().getYear();
         boolean result = service.hasAdequateCapacity(currentYear);
@@ -546,7 +503,7 @@ class EnrollmentForecastingServiceImplTest {
 
         when(courseRepository.findAll()).thenReturn(Arrays.asList(testCourse));
         when(courseRequestRepository.findByCourse(any())).thenReturn(requests);
-        when(courseSectionRepository.findAll()).thenReturn(Arrays.asList(testSection));
+        stubSectionCapacity(sectionCapacity);
 
         int currentYear = LocalDate.now().getYear();
         Map<String, String> result = service.getCapacityWarnings(currentYear);
@@ -567,7 +524,7 @@ class EnrollmentForecastingServiceImplTest {
 
         when(courseRepository.findAll()).thenReturn(Arrays.asList(testCourse));
         when(courseRequestRepository.findByCourse(any())).thenReturn(requests);
-        when(courseSectionRepository.findAll()).thenReturn(Arrays.asList(testSection));
+        stubSectionCapacity(sectionCapacity);
 
         int currentYear = LocalDate.now().getYear();
         Map<String, String> result = service.getCapacityWarnings(currentYear);
@@ -588,7 +545,7 @@ class EnrollmentForecastingServiceImplTest {
 
         when(courseRepository.findAll()).thenReturn(Arrays.asList(testCourse));
         when(courseRequestRepository.findByCourse(any())).thenReturn(requests);
-        when(courseSectionRepository.findAll()).thenReturn(Arrays.asList(testSection));
+        stubSectionCapacity(sectionCapacity);
 
         int currentYear = LocalDate.now().getYear();
         Map<String, String> result = service.getCapacityWarnings(currentYear);
@@ -603,7 +560,7 @@ class EnrollmentForecastingServiceImplTest {
         when(courseRepository.findById(1L)).thenReturn(Optional.empty());
         when(courseRepository.findAll()).thenReturn(Arrays.asList(testCourse));
         when(courseRequestRepository.findByCourse(any())).thenReturn(Arrays.asList(testRequest));
-        when(courseSectionRepository.findAll()).thenReturn(new ArrayList<>());
+        stubSectionCapacity(Map.of());
 
         int currentYear = LocalDate.now().getYear();
         Map<String, String> result = service.getCapacityWarnings(currentYear);
@@ -734,4 +691,22 @@ class EnrollmentForecastingServiceImplTest {
         assertTrue(result >= 0);
         assertTrue(result < 20); // Reasonable upper bound
     }
+
+    // ========================================================================
+    // HELPER METHODS
+    // ========================================================================
+
+    private void stubActiveStudentsByGrade(Map<String, Long> counts) {
+        when(aggregateQueries.<Student, String>countBy(eq(Student.class), any(), any())).thenReturn(counts);
+    }
+
+    private void stubRequestsByYear(Map<Integer, Long> counts) {
+        when(aggregateQueries.<CourseRequest, Integer>countBy(eq(CourseRequest.class), any(), any()))
+                .thenReturn(counts);
+    }
+
+    private void stubSectionCapacity(Map<Long, Long> capacity) {
+        when(aggregateQueries.<CourseSection, Long>sumBy(eq(CourseSection.class), isNull(), any(), any()))
+                .thenReturn(capacity);
+    }
 }
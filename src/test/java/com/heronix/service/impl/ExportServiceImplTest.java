@@ -3,13 +3,19 @@ package com.heronix.service.impl;
 import com.heronix.model.domain.*;
 import com.heronix.model.enums.ExportFormat;
 import com.heronix.repository.*;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
@@ -34,6 +40,7 @@ import static org.mockito.Mockito.*;
  * - Rooms list export (Excel, CSV)
  * - Students list export (Excel, CSV)
  * - Events export (iCal, CSV)
+ * - Streaming exports (keyset pages, CSV and Excel)
  * - Null safety and edge cases
  *
  * @author Heronix Scheduling System Testing Team
@@ -52,6 +59,9 @@ class ExportServiceImplTest {
     @Mock(lenient = true)
     private RoomRepository roomRepository;
 
+    @Mock(lenient = true)
+    private StudentRepository studentRepository;
+
     @InjectMocks
     private ExportServiceImpl service;
 
@@ -519,4 +529,65 @@ class ExportServiceImplTest {
         assertNotNull(result);
         assertTrue(result.length > 0);
     }
+
+    // ========================================================================
+    // STREAMING EXPORTS
+    // ========================================================================
+
+    @Test
+    void testStreamStudents_ShouldReadKeysetPagesUntilAShortPage() throws IOException {
+        ReflectionTestUtils.setField(service, "exportPageSize", 2);
+        when(studentRepository.findExportRowsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+            new Object[] {1L, "S1", "Ann", "Lee", "ann@school.edu", "9", true},
+            new Object[] {2L, "S2", "Bo", "Ng, Jr.", null, "10", false}));
+        when(studentRepository.findExportRowsAfter(eq(2L), any(Pageable.class))).thenReturn(List.<Object[]>of(
+            new Object[] {5L, "S5", "Cy", "Ray", "cy@school.edu", "11", true}));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.streamStudents(ExportFormat.CSV, out);
+
+        assertEquals("ID,Student ID,First Name,Last Name,Email,Level,Active\n" +
+            "1,S1,Ann,Lee,ann@school.edu,9,true\n" +
+            "2,S2,Bo,\"Ng, Jr.\",,10,false\n" +
+            "5,S5,Cy,Ray,cy@school.edu,11,true\n", out.toString());
+        verify(studentRepository, times(2)).findExportRowsAfter(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void testStreamStudents_ToExcel_ShouldWriteAReadableWorkbook() throws IOException {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= 250; id++) {
+            rows.add(new Object[] {id, "S" + id, "First", "Last", null, "9", true});
+        }
+        when(studentRepository.findExportRowsAfter(eq(0L), any(Pageable.class))).thenReturn(rows);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.streamStudents(ExportFormat.EXCEL, out);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet sheet = workbook.getSheet("Students");
+            assertEquals(250, sheet.getLastRowNum());
+            assertEquals("Student ID", sheet.getRow(0).getCell(1).getStringCellValue());
+            assertEquals(250.0, sheet.getRow(250).getCell(0).getNumericCellValue());
+            assertTrue(sheet.getRow(250).getCell(6).getBooleanCellValue());
+        }
+    }
+
+    @Test
+    void testStreamRooms_NullActive_ShouldExportAsFalse() throws IOException {
+        when(roomRepository.findExportRowsAfter(eq(0L), any(Pageable.class))).thenReturn(List.<Object[]>of(
+            new Object[] {1L, "101", "Main", 30, "CLASSROOM", null, null}));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.streamRooms(ExportFormat.CSV, out);
+
+        assertEquals("ID,Room Number,Building,Capacity,Room Type,Equipment,Active\n" +
+            "1,101,Main,30,CLASSROOM,,false\n", out.toString());
+    }
+
+    @Test
+    void testStreamRooms_AsPdf_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+            () -> service.streamRooms(ExportFormat.PDF, new ByteArrayOutputStream()));
+    }
 }
@@ -0,0 +1,145 @@
+package com.heronix.service.impl;
+
+import com.heronix.model.domain.*;
+import com.heronix.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for GeneticAlgorithm
+ *
+ * Tests seeded reproducibility across thread counts and the island model
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class GeneticAlgorithmTest {
+
+    @Mock
+    private ConflictRepository conflictRepository;
+
+    @Mock
+    private ScheduleSlotRepository scheduleSlotRepository;
+
+    @Mock
+    private StudentEnrollmentRepository studentEnrollmentRepository;
+
+    @Mock
+    private CourseSectionRepository courseSectionRepository;
+
+    @InjectMocks
+    private ConflictDetectorServiceImpl conflictDetector;
+
+    private FitnessEvaluator fitnessEvaluator;
+
+    @BeforeEach
+    void setUp() {
+        when(courseSectionRepository.findAll()).thenReturn(Collections.emptyList());
+        fitnessEvaluator = new FitnessEvaluator(conflictDetector);
+    }
+
+    @Test
+    void testRun_WithSeed_ShouldBeReproducibleAcrossThreadCounts() {
+        Schedule sequential = createSchedule();
+        Schedule parallel = createSchedule();
+
+        OptimizationResult sequentialResult =
+            new GeneticAlgorithm(createConfig(1, 1), fitnessEvaluator).run(sequential, null);
+        OptimizationResult parallelResult =
+            new GeneticAlgorithm(createConfig(4, 1), fitnessEvaluator).run(parallel, null);
+
+        assertTrue(sequentialResult.wasSuccessful());
+        assertEquals(sequentialResult.getBestFitness(), parallelResult.getBestFitness());
+        assertSameSlots(sequential, parallel);
+    }
+
+    @Test
+    void testRun_WithIslands_ShouldBeReproducibleAndNotWorsen() {
+        Schedule first = createSchedule();
+        Schedule second = createSchedule();
+
+        OptimizationResult firstResult =
+            new GeneticAlgorithm(createConfig(4, 3), fitnessEvaluator).run(first, null);
+        OptimizationResult secondResult =
+            new GeneticAlgorithm(createConfig(2, 3), fitnessEvaluator).run(second, null);
+
+        assertTrue(firstResult.wasSuccessful());
+        assertTrue(firstResult.getFinalFitness() >= firstResult.getInitialFitness());
+        assertEquals(firstResult.getGenerationsExecuted(), secondResult.getGenerationsExecuted());
+        assertEquals(firstResult.getBestFitness(), secondResult.getBestFitness());
+        assertSameSlots(first, second);
+    }
+
+    // ========================================================================
+    // HELPER METHODS
+    // ========================================================================
+
+    private OptimizationConfig createConfig(int threads, int islands) {
+        OptimizationConfig config = new OptimizationConfig();
+        config.setPopulationSize(24);
+        config.setMaxGenerations(30);
+        config.setEliteSize(2);
+        config.setTournamentSize(3);
+        config.setStagnationLimit(1000);
+        config.setMaxRuntimeSeconds(600);
+        config.setUseParallelProcessing(threads > 1);
+        config.setThreadCount(threads);
+        config.setIslandCount(islands);
+        config.setMigrationInterval(5);
+        config.setRandomSeed(42L);
+        return config;
+    }
+
+    private void assertSameSlots(Schedule expected, Schedule actual) {
+        for (int i = 0; i < expected.getSlots().size(); i++) {
+            ScheduleSlot a = expected.getSlots().get(i);
+            ScheduleSlot b = actual.getSlots().get(i);
+            assertEquals(a.getDayOfWeek(), b.getDayOfWeek(), "slot " + i);
+            assertEquals(a.getStartTime(), b.getStartTime(), "slot " + i);
+            assertEquals(a.getEndTime(), b.getEndTime(), "slot " + i);
+        }
+    }
+
+    /**
+     * Unsaved schedule with every class at the same time, so the GA has overlaps to remove
+     */
+    private Schedule createSchedule() {
+        Schedule schedule = new Schedule();
+        schedule.setScheduleName("GA Schedule");
+
+        List<ScheduleSlot> slots = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Teacher teacher = new Teacher();
+            teacher.setId((long) (i % 4) + 1);
+            teacher.setName("Teacher " + (i % 4));
+
+            Room room = new Room();
+            room.setId((long) (i % 5) + 1);
+            room.setRoomNumber("R" + (i % 5));
+
+            ScheduleSlot slot = new ScheduleSlot();
+            slot.setSchedule(schedule);
+            slot.setTeacher(teacher);
+            slot.setRoom(room);
+            slot.setDayOfWeek(DayOfWeek.MONDAY);
+            slot.setStartTime(LocalTime.of(9, 0));
+            slot.setEndTime(LocalTime.of(9, 50));
+            slots.add(slot);
+        }
+        schedule.setSlots(slots);
+
+        return schedule;
+    }
+}
@@ -0,0 +1,126 @@
+package com.heronix.service.impl;
+
+import com.heronix.model.domain.*;
+import com.heronix.model.enums.EnrollmentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ScheduleConflictIndex
+ *
+ * Tests lane bucketing, incremental moves and overlap queries
+ */
+class ScheduleConflictIndexTest {
+
+    private Schedule schedule;
+    private Teacher teacher;
+    private Room room;
+    private ScheduleSlot slot1;
+    private ScheduleSlot slot2;
+    private ScheduleSlot slot3;
+
+    @BeforeEach
+    void setUp() {
+        schedule = new Schedule();
+        schedule.setId(1L);
+
+        teacher = new Teacher();
+        teacher.setId(1L);
+        teacher.setName("Jane Doe");
+
+        room = new Room();
+        room.setId(1L);
+        room.setRoomNumber("101");
+
+        slot1 = createSlot(1L, DayOfWeek.MONDAY, 9, 0, 10, 0);
+        slot2 = createSlot(2L, DayOfWeek.MONDAY, 10, 0, 11, 0);
+        slot3 = createSlot(3L, DayOfWeek.TUESDAY, 9, 0, 10, 0);
+    }
+
+    @Test
+    void testFindTeacherOverlaps_WithAdjacentSlots_ShouldReturnEmpty() {
+        ScheduleConflictIndex index = new ScheduleConflictIndex(schedule,
+            Arrays.asList(slot1, slot2, slot3), null, null);
+
+        assertTrue(index.findTeacherOverlaps(slot1).isEmpty());
+        assertTrue(index.findRoomOverlaps(slot2).isEmpty());
+        assertEquals(2, index.getTeacherSlots(teacher, DayOfWeek.MONDAY).size());
+        assertEquals(3, index.getTeacherWeek(teacher).size());
+    }
+
+    @Test
+    void testMoveSlot_ShouldOnlyMatchNewDay() {
+        ScheduleConflictIndex index = new ScheduleConflictIndex(schedule,
+            Arrays.asList(slot1, slot2, slot3), null, null);
+
+        index.moveSlot(slot3, DayOfWeek.MONDAY, LocalTime.of(9, 30), LocalTime.of(10, 30));
+
+        assertEquals(Arrays.asList(slot1, slot2), index.findTeacherOverlaps(slot3));
+        assertTrue(index.getTeacherSlots(teacher, DayOfWeek.TUESDAY).isEmpty());
+
+        List<ScheduleSlot[]> pairs = new ArrayList<>();
+        index.forEachRoomOverlap(false, (a, b) -> pairs.add(new ScheduleSlot[] {a, b}));
+        assertEquals(2, pairs.size());
+    }
+
+    @Test
+    void testRemoveSlot_ShouldDropFromLanes() {
+        ScheduleConflictIndex index = new ScheduleConflictIndex(schedule,
+            Arrays.asList(slot1, slot2), null, null);
+
+        index.removeSlot(slot2);
+
+        assertEquals(1, index.size());
+        assertFalse(index.contains(slot2));
+        assertEquals(List.of(slot1), index.getRoomSlots(room, DayOfWeek.MONDAY));
+    }
+
+    @Test
+    void testForEachStudentOverlap_ShouldFollowMovedSlots() {
+        Student student = new Student();
+        student.setId(1L);
+
+        StudentEnrollment enrollment1 = createEnrollment(1L, student, slot1);
+        StudentEnrollment enrollment2 = createEnrollment(2L, student, slot3);
+
+        ScheduleConflictIndex index = new ScheduleConflictIndex(schedule,
+            Arrays.asList(slot1, slot3), Arrays.asList(enrollment1, enrollment2), null);
+
+        List<StudentEnrollment> seen = new ArrayList<>();
+        index.forEachStudentOverlap((a, b) -> seen.add(a));
+        assertTrue(seen.isEmpty());
+
+        index.moveSlot(slot3, DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(10, 0));
+        index.forEachStudentOverlap((a, b) -> seen.add(a));
+        assertEquals(1, seen.size());
+        assertEquals(1, index.getEnrollmentCount(slot1));
+    }
+
+    private ScheduleSlot createSlot(Long id, DayOfWeek day, int startHour, int startMinute,
+                                    int endHour, int endMinute) {
+        ScheduleSlot slot = new ScheduleSlot();
+        slot.setId(id);
+        slot.setSchedule(schedule);
+        slot.setTeacher(teacher);
+        slot.setRoom(room);
+        slot.setDayOfWeek(day);
+        slot.setStartTime(LocalTime.of(startHour, startMinute));
+        slot.setEndTime(LocalTime.of(endHour, endMinute));
+        return slot;
+    }
+
+    private StudentEnrollment createEnrollment(Long id, Student student, ScheduleSlot slot) {
+        StudentEnrollment enrollment = new StudentEnrollment();
+        enrollment.setId(id);
+        enrollment.setStudent(student);
+        enrollment.setScheduleSlot(slot);
+        enrollment.setStatus(EnrollmentStatus.ACTIVE);
+        return enrollment;
+    }
+}
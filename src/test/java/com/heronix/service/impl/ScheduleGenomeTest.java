@@ -0,0 +1,270 @@
+package com.heronix.service.impl;
+
+import com.heronix.model.domain.*;
+import com.heronix.model.enums.ConstraintType;
+import com.heronix.model.enums.RoomType;
+import com.heronix.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for ScheduleGenome
+ *
+ * Regression corpus: the incremental genome score must match
+ * FitnessEvaluator.evaluate (backed by the real conflict detector)
+ * on randomly generated schedules, before and after gene changes.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ScheduleGenomeTest {
+
+    private static final double TOLERANCE = 1e-6;
+    private static final int CORPUS_SIZE = 25;
+
+    @Mock
+    private ConflictRepository conflictRepository;
+
+    @Mock
+    private ScheduleSlotRepository scheduleSlotRepository;
+
+    @Mock
+    private StudentEnrollmentRepository studentEnrollmentRepository;
+
+    @Mock
+    private CourseSectionRepository courseSectionRepository;
+
+    @InjectMocks
+    private ConflictDetectorServiceImpl conflictDetector;
+
+    private FitnessEvaluator evaluator;
+    private OptimizationConfig config;
+
+    @BeforeEach
+    void setUp() {
+        CourseSection underEnrolled = new CourseSection();
+        underEnrolled.setSectionNumber("1");
+        underEnrolled.setScheduleYear(2025);
+        underEnrolled.setCurrentEnrollment(4);
+        underEnrolled.setMinEnrollment(10);
+
+        CourseSection healthy = new CourseSection();
+        healthy.setSectionNumber("2");
+        healthy.setScheduleYear(2025);
+        healthy.setCurrentEnrollment(20);
+        healthy.setMinEnrollment(10);
+
+        when(courseSectionRepository.findAll()).thenReturn(Arrays.asList(underEnrolled, healthy));
+
+        evaluator = new FitnessEvaluator(conflictDetector);
+
+        // Keep penalties small so random schedules don't all clamp to a fitness of 0
+        config = new OptimizationConfig();
+        config.setConstraintWeight(ConstraintType.NO_TEACHER_OVERLAP, 1);
+        config.setConstraintWeight(ConstraintType.NO_ROOM_OVERLAP, 1);
+        config.setConstraintWeight(ConstraintType.ROOM_CAPACITY, 1);
+    }
+
+    @Test
+    void testFitness_ShouldMatchEvaluatorOnCorpus() {
+        for (int seed = 1; seed <= CORPUS_SIZE; seed++) {
+            Schedule schedule = createSchedule(new Random(seed));
+            ScheduleGenome genome = evaluator.encode(schedule, config);
+
+            assertMatchesEvaluator(schedule, genome, "seed " + seed);
+        }
+    }
+
+    @Test
+    void testGeneChanges_ShouldMatchEvaluatorAfterApply() {
+        for (int seed = 1; seed <= CORPUS_SIZE; seed++) {
+            Random random = new Random(seed);
+            Schedule schedule = createSchedule(random);
+            ScheduleGenome genome = evaluator.encode(schedule, config);
+
+            ScheduleGenome donor = genome.copy();
+            for (int i = 0; i < genome.size(); i++) {
+                randomChange(donor, random);
+            }
+
+            for (int step = 1; step <= 200; step++) {
+                int slot = random.nextInt(genome.size());
+                if (random.nextInt(5) == 0) {
+                    genome.copyGene(slot, donor);
+                } else {
+                    randomChange(genome, random);
+                }
+
+                if (step % 20 == 0) {
+                    genome.applyTo();
+                    assertMatchesEvaluator(schedule, genome, "seed " + seed + ", step " + step);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testCopy_ShouldBeIndependent() {
+        Schedule schedule = createSchedule(new Random(7));
+        ScheduleGenome genome = evaluator.encode(schedule, config);
+        double fitness = genome.fitness();
+
+        ScheduleGenome copy = genome.copy();
+        for (int i = 0; i < copy.size(); i++) {
+            copy.setTime(i, DayOfWeek.MONDAY.ordinal(), 9 * 3600, 10 * 3600);
+        }
+
+        assertTrue(copy.fitness() < fitness);
+        assertEquals(fitness, genome.fitness(), TOLERANCE);
+    }
+
+    @Test
+    void testApplyTo_ShouldRestoreOriginalRoomInstances() {
+        Schedule schedule = createSchedule(new Random(3));
+        List<Room> originalRooms = new ArrayList<>();
+        for (ScheduleSlot slot : schedule.getSlots()) {
+            originalRooms.add(slot.getRoom());
+        }
+
+        ScheduleGenome genome = evaluator.encode(schedule, config);
+        int room = genome.getRoom(0);
+        genome.setRoom(0, ScheduleGenome.NONE);
+        genome.applyTo();
+        assertNull(schedule.getSlots().get(0).getRoom());
+
+        genome.setRoom(0, room);
+        genome.applyTo();
+        for (int i = 0; i < originalRooms.size(); i++) {
+            assertSame(originalRooms.get(i), schedule.getSlots().get(i).getRoom());
+        }
+    }
+
+    // ========================================================================
+    // HELPER METHODS
+    // ========================================================================
+
+    private void assertMatchesEvaluator(Schedule schedule, ScheduleGenome genome, String context) {
+        double expected = evaluator.evaluate(schedule, config);
+        assertTrue(expected > 0, "Corpus schedule should not clamp to zero: " + context);
+        assertEquals(expected, genome.fitness(), TOLERANCE, context);
+        assertEquals(evaluator.getConflictCount(schedule), genome.getConflictCount(), context);
+    }
+
+    private void randomChange(ScheduleGenome genome, Random random) {
+        int slot = random.nextInt(genome.size());
+        switch (random.nextInt(4)) {
+            case 0 -> {
+                int day = random.nextInt(10) == 0 ? ScheduleGenome.NO_DAY : random.nextInt(3);
+                int start = random.nextInt(10) == 0 ? ScheduleGenome.NO_TIME : randomStart(random);
+                int end = start == ScheduleGenome.NO_TIME ? ScheduleGenome.NO_TIME : start + randomLength(random);
+                genome.setTime(slot, day, start, end);
+            }
+            case 1 -> genome.setDay(slot, random.nextInt(3));
+            case 2 -> genome.setRoom(slot, random.nextInt(genome.getRoomCount() + 1) - 1);
+            default -> genome.swapTimes(slot, random.nextInt(genome.size()));
+        }
+    }
+
+    /**
+     * Dense unsaved schedule: ~90 slots for four teachers over three days, on a
+     * 30-minute grid so overlaps, back-to-back runs and full days all occur
+     */
+    private Schedule createSchedule(Random random) {
+        Schedule schedule = new Schedule();
+        schedule.setScheduleName("Corpus Schedule");
+
+        List<Teacher> teachers = Arrays.asList(
+            createTeacher(1L, "Mathematics", 10, 2, 5),
+            createTeacher(2L, "Science", 0, null, null),
+            createTeacher(3L, null, 30, 4, 7),
+            createTeacher(null, "Computer Science", 15, 3, 6)
+        );
+
+        List<Room> rooms = Arrays.asList(
+            createRoom(1L, RoomType.CLASSROOM),
+            createRoom(2L, RoomType.LAB),
+            createRoom(3L, RoomType.SCIENCE_LAB),
+            createRoom(4L, RoomType.COMPUTER_LAB),
+            createRoom(5L, null),
+            createRoom(null, RoomType.CLASSROOM),
+            createRoom(null, RoomType.LAB)
+        );
+
+        List<Course> courses = Arrays.asList(
+            createCourse("Mathematics", false),
+            createCourse("Biology", true),
+            createCourse("Computer Science", true),
+            createCourse("Programming", false),
+            createCourse(null, true)
+        );
+
+        List<ScheduleSlot> slots = new ArrayList<>();
+        int slotCount = 80 + random.nextInt(20);
+        for (int i = 0; i < slotCount; i++) {
+            ScheduleSlot slot = new ScheduleSlot();
+            slot.setSchedule(schedule);
+            slot.setTeacher(random.nextInt(20) == 0 ? null : teachers.get(random.nextInt(teachers.size())));
+            slot.setRoom(random.nextInt(20) == 0 ? null : rooms.get(random.nextInt(rooms.size())));
+            slot.setCourse(random.nextInt(20) == 0 ? null : courses.get(random.nextInt(courses.size())));
+            slot.setDayOfWeek(random.nextInt(20) == 0 ? null : DayOfWeek.values()[random.nextInt(3)]);
+
+            if (random.nextInt(20) != 0) {
+                int start = randomStart(random);
+                slot.setStartTime(LocalTime.ofSecondOfDay(start));
+                slot.setEndTime(LocalTime.ofSecondOfDay(start + randomLength(random)));
+            }
+            slots.add(slot);
+        }
+        schedule.setSlots(slots);
+
+        return schedule;
+    }
+
+    private int randomStart(Random random) {
+        return (8 * 60 + random.nextInt(14) * 30) * 60; // 8:00 - 14:30
+    }
+
+    private int randomLength(Random random) {
+        return (random.nextBoolean() ? 30 : 60) * 60;
+    }
+
+    private Teacher createTeacher(Long id, String department, Integer preferredBreak,
+                                  Integer maxConsecutive, Integer maxPeriods) {
+        Teacher teacher = new Teacher();
+        teacher.setId(id);
+        teacher.setName("Teacher " + id);
+        teacher.setDepartment(department);
+        teacher.setPreferredBreakMinutes(preferredBreak);
+        teacher.setMaxConsecutiveHours(maxConsecutive);
+        teacher.setMaxPeriodsPerDay(maxPeriods);
+        return teacher;
+    }
+
+    private Room createRoom(Long id, RoomType type) {
+        Room room = new Room();
+        room.setId(id);
+        room.setRoomNumber("Room " + id);
+        room.setRoomType(type);
+        return room;
+    }
+
+    private Course createCourse(String subject, boolean requiresLab) {
+        Course course = new Course();
+        course.setCourseName(subject != null ? subject + " I" : "Elective");
+        course.setSubject(subject);
+        course.setRequiresLab(requiresLab);
+        return course;
+    }
+}
@@ -3,6 +3,8 @@ package com.heronix.service.impl;
 import com.heronix.model.domain.*;
 import com.heronix.model.dto.ScheduleHealthMetrics;
 import com.heronix.repository.*;
+import com.heronix.repository.spec.AggregateQueries;
+import com.heronix.repository.spec.AggregateQueries.Summary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +18,8 @@ import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -51,6 +55,9 @@ class ScheduleHealthServiceImplTest {
     @Mock
     private ConflictMatrixRepository conflictMatrixRepository;
 
+    @Mock
+    private AggregateQueries aggregateQueries;
+
     @InjectMocks
     private ScheduleHealthServiceImpl service;
 
@@ -313,7 +320,7 @@ class ScheduleHealthServiceImplTest {
     @Test
     void testCalculateBalanceScore_WithBalancedSections_ShouldReturn100() {
         // Sections differ by only 1 student (within tolerance of 3)
-        when(courseSectionRepository.findAll()).thenReturn(Arrays.asList(testSection1, testSection2));
+        stubEnrollmentByCourse(Map.of(1L, new Summary(2, 51, 25, 26)));
 
         Double result = service.calculateBalanceScore(testSchedule);
 
@@ -322,19 +329,19 @@ class ScheduleHealthServiceImplTest {
 
     @Test
     void testCalculateBalanceScore_WithUnbalancedSections_ShouldPenalize() {
-        // Sections differ by more than 3 students
-        testSection2.setCurrentEnrollment(30); // 30 - 25 = 5 > 3
-
-        when(courseSectionRepository.findAll()).thenReturn(Arrays.asList(testSection1, testSection2));
+        // Sections differ by more than 3 students: 30 - 25 = 5 > 3
+        stubEnrollmentByCourse(Map.of(
+            1L, new Summary(2, 55, 25, 30),
+            2L, new Summary(3, 60, 19, 21)));
 
         Double result = service.calculateBalanceScore(testSchedule);
 
-        assertTrue(result < 100.0);
+        assertEquals(50.0, result);
     }
 
     @Test
     void testCalculateBalanceScore_WithSingleSection_ShouldReturn100() {
-        when(courseSectionRepository.findAll()).thenReturn(Arrays.asList(testSection1));
+        stubEnrollmentByCourse(Map.of(1L, new Summary(1, 25, 25, 25)));
 
         Double result = service.calculateBalanceScore(testSchedule);
 
@@ -343,7 +350,7 @@ class ScheduleHealthServiceImplTest {
 
     @Test
     void testCalculateBalanceScore_WithEmptySections_ShouldReturn100() {
-        when(courseSectionRepository.findAll()).thenReturn(Collections.emptyList());
+        stubEnrollmentByCourse(Map.of());
 
         Double result = service.calculateBalanceScore(testSchedule);
 
@@ -352,21 +359,24 @@ class ScheduleHealthServiceImplTest {
 
     @Test
     void testCalculateBalanceScore_WithNullCourse_ShouldFilterOut() {
-        testSection1.setCourse(null);
-        when(courseSectionRepository.findAll()).thenReturn(Arrays.asList(testSection1, testSection2));
+        // Sections without a course are grouped under a null key
+        Map<Long, Summary> enrollment = new HashMap<>();
+        enrollment.put(null, new Summary(2, 40, 10, 30));
+        enrollment.put(1L, new Summary(2, 51, 25, 26));
+        stubEnrollmentByCourse(enrollment);
 
         Double result = service.calculateBalanceScore(testSchedule);
 
-        assertNotNull(result);
+        assertEquals(100.0, result);
     }
 
     @Test
-    void testCalculateBalanceScore_WithNullSection_ShouldFilterOut() {
-        when(courseSectionRepository.findAll()).thenReturn(Arrays.asList(testSection1, null, testSection2));
+    void testCalculateBalanceScore_WithNullEnrollments_ShouldNotPenalize() {
+        stubEnrollmentByCourse(Map.of(1L, new Summary(2, 0, null, null)));
 
         Double result = service.calculateBalanceScore(testSchedule);
 
-        assertNotNull(result);
+        assertEquals(100.0, result);
     }
 
     // ========================================================================
@@ -740,4 +750,13 @@ class ScheduleHealthServiceImplTest {
 
         assertEquals(0, result.getTotalConflicts());
     }
+
+    // ========================================================================
+    // HELPER METHODS
+    // ========================================================================
+
+    private void stubEnrollmentByCourse(Map<Long, Summary> enrollment) {
+        when(aggregateQueries.<CourseSection, Long>summarizeBy(eq(CourseSection.class), isNull(), any(), any()))
+            .thenReturn(enrollment);
+    }
 }
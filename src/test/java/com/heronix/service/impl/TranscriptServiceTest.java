@@ -4,6 +4,7 @@ import com.heronix.model.domain.Student;
 import com.heronix.model.domain.TranscriptRecord;
 import com.heronix.repository.TranscriptRepository;
 import com.heronix.repository.StudentRepository;
+import com.heronix.service.GpaRankTable;
 import com.heronix.service.impl.TranscriptService.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,6 +43,9 @@ class TranscriptServiceTest {
     @Mock(lenient = true)
     private StudentRepository studentRepository;
 
+    @Mock(lenient = true)
+    private GpaRankTable gpaRankTable;
+
     @InjectMocks
     private TranscriptService service;
 
@@ -308,77 +312,46 @@ class TranscriptServiceTest {
     }
 
     @Test
-    void testGetClassRank_WithNullClassmatesList_ShouldHandleGracefully() {
+    void testGetClassRank_WithEmptyClass_ShouldReturnRank1() {
         when(studentRepository.findById(1L)).thenReturn(Optional.of(testStudent));
-        when(studentRepository.findByGradeLevel("11")).thenReturn(null);
-        when(transcriptRepository.calculateWeightedGpa(1L)).thenReturn(new BigDecimal("3.5"));
+        when(gpaRankTable.getStanding(1L)).thenReturn(Optional.empty());
+        when(gpaRankTable.getClassSize("11")).thenReturn(0);
 
         ClassRankInfo result = service.getClassRank(1L);
 
         assertNotNull(result);
         assertEquals(1, result.getRank());
         assertEquals(0, result.getTotalStudents());
+        assertEquals(BigDecimal.ZERO, result.getPercentile());
     }
 
     @Test
-    void testGetClassRank_WithEmptyClassmatesList_ShouldReturnRank1() {
+    void testGetClassRank_WithoutGrades_ShouldRankAfterClassmates() {
         when(studentRepository.findById(1L)).thenReturn(Optional.of(testStudent));
-        when(studentRepository.findByGradeLevel("11")).thenReturn(new ArrayList<>());
-        when(transcriptRepository.calculateWeightedGpa(1L)).thenReturn(new BigDecimal("3.5"));
+        when(gpaRankTable.getStanding(1L)).thenReturn(Optional.empty());
+        when(gpaRankTable.getClassSize("11")).thenReturn(2);
 
         ClassRankInfo result = service.getClassRank(1L);
 
-        assertNotNull(result);
-        assertEquals(1, result.getRank());
-    }
-
-    @Test
-    void testGetClassRank_WithNullStudentsInList_ShouldSkipNulls() {
-        List<Student> classmates = new ArrayList<>();
-        classmates.add(testStudent);
-        classmates.add(null);  // Null student should be skipped
-        classmates.add(new Student());  // Student with null ID should be skipped
-
-        when(studentRepository.findById(1L)).thenReturn(Optional.of(testStudent));
-        when(studentRepository.findByGradeLevel("11")).thenReturn(classmates);
-        when(transcriptRepository.calculateWeightedGpa(1L)).thenReturn(new BigDecimal("3.5"));
-
-        assertDoesNotThrow(() -> service.getClassRank(1L));
+        assertEquals(3, result.getRank());
+        assertEquals(2, result.getTotalStudents());
+        assertEquals(BigDecimal.ZERO, result.getGpa());
     }
 
     @Test
     void testGetClassRank_WithValidData_ShouldReturnRankInfo() {
-        Student student2 = new Student();
-        student2.setId(2L);
-        student2.setGradeLevel("11");
-
         when(studentRepository.findById(1L)).thenReturn(Optional.of(testStudent));
-        when(studentRepository.findByGradeLevel("11")).thenReturn(Arrays.asList(testStudent, student2));
-        when(transcriptRepository.calculateWeightedGpa(1L)).thenReturn(new BigDecimal("3.5"));
-        when(transcriptRepository.calculateWeightedGpa(2L)).thenReturn(new BigDecimal("3.0"));
+        when(gpaRankTable.getStanding(1L)).thenReturn(Optional.of(
+            new GpaRankTable.Standing(1L, "11", 1, 2, 3.5, 3.2)));
 
         ClassRankInfo result = service.getClassRank(1L);
 
         assertNotNull(result);
         assertEquals(1, result.getRank());
         assertEquals(2, result.getTotalStudents());
-    }
-
-    @Test
-    void testGetClassRank_WithNullGpaInList_ShouldSkipNullGpas() {
-        Student student2 = new Student();
-        student2.setId(2L);
-        student2.setGradeLevel("11");
-
-        when(studentRepository.findById(1L)).thenReturn(Optional.of(testStudent));
-        when(studentRepository.findByGradeLevel("11")).thenReturn(Arrays.asList(testStudent, student2));
-        when(transcriptRepository.calculateWeightedGpa(1L)).thenReturn(new BigDecimal("3.5"));
-        when(transcriptRepository.calculateWeightedGpa(2L)).thenReturn(null);  // Null GPA should be skipped
-
-        ClassRankInfo result = service.getClassRank(1L);
-
-        assertNotNull(result);
-        assertEquals(1, result.getTotalStudents());  // Only 1 student with valid GPA
+        assertEquals(new BigDecimal("3.500"), result.getGpa());
+        assertEquals(new BigDecimal("50.0"), result.getPercentile());
+        verify(studentRepository, never()).findByGradeLevel(any());
     }
 
     // ==================== checkGraduationRequirements() Tests ====================
@@ -1,5 +1,6 @@
 package com.heronix.service.impl;
 
+import com.heronix.event.UserAccessChangedEvent;
 import com.heronix.model.domain.User;
 import com.heronix.model.enums.Permission;
 import com.heronix.model.enums.Role;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -46,6 +48,9 @@ class UserServiceImplTest {
     @Mock(lenient = true)
     private UserRepository userRepository;
 
+    @Mock(lenient = true)
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserServiceImpl service;
 
@@ -270,6 +275,7 @@ class UserServiceImplTest {
             service.changePassword(1L, "Test@123", "NewPass@123"));
 
         verify(userRepository).save(any(User.class));
+        verify(eventPublisher).publishEvent(any(UserAccessChangedEvent.class));
     }
 
     @Test
@@ -0,0 +1,91 @@
+package com.heronix.testutil;
+
+import com.heronix.monitoring.SqlActivity;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * SQL Budget assertions
+ *
+ * Runs code in a {@link SqlActivity} scope and fails the test if it used
+ * more statements or entities than budgeted, or ran N+1 / repeated
+ * statements. Needs the SqlActivityDataSource around the test DataSource
+ * (installed by SqlActivityConfig in a Spring context).
+ *
+ * Example:
+ *   SqlBudget.measure(() -> alertGenerationService.generateAlertsForAllAtRiskStudents())
+ *       .hasAtMostStatements(10)
+ *       .hasNoNPlusOne();
+ *
+ * @author Heronix Scheduling System Team
+ * @version 1.0.0
+ * @since Phase 15 - Performance Optimizations
+ */
+public final class SqlBudget {
+
+    // Executions of one statement that count as a pattern in a test
+    public static final int DEFAULT_REPEAT_THRESHOLD = 3;
+
+    private final SqlActivity activity;
+
+    private SqlBudget(SqlActivity activity) {
+        this.activity = activity;
+    }
+
+    public static SqlBudget measure(Runnable work) {
+        return measure("test", work);
+    }
+
+    public static SqlBudget measure(String name, Runnable work) {
+        return new SqlBudget(SqlActivity.measure(SqlActivity.Kind.TEST, name, work));
+    }
+
+    // ========================================================================
+    // ASSERTIONS
+    // ========================================================================
+
+    public SqlBudget hasAtMostStatements(int max) {
+        if (activity.getStatements() > max) {
+            fail("Expected at most " + max + " statements");
+        }
+        return this;
+    }
+
+    public SqlBudget hasAtMostEntitiesLoaded(int max) {
+        if (activity.getEntitiesLoaded() > max) {
+            fail("Expected at most " + max + " entities loaded");
+        }
+        return this;
+    }
+
+    public SqlBudget hasNoNPlusOne() {
+        return hasNo(SqlActivity.Finding.Type.N_PLUS_ONE, DEFAULT_REPEAT_THRESHOLD);
+    }
+
+    public SqlBudget hasNoRepeatedStatements() {
+        return hasNo(SqlActivity.Finding.Type.REPEATED, DEFAULT_REPEAT_THRESHOLD);
+    }
+
+    public SqlBudget hasNo(SqlActivity.Finding.Type type, int threshold) {
+        List<SqlActivity.Finding> found = activity.findings(threshold).stream()
+                .filter(finding -> finding.type() == type)
+                .toList();
+        if (!found.isEmpty()) {
+            fail("Expected no " + type + " statements, found:\n  "
+                    + found.stream().map(SqlActivity.Finding::toString).collect(Collectors.joining("\n  ")));
+        }
+        return this;
+    }
+
+    public SqlActivity activity() {
+        return activity;
+    }
+
+    private void fail(String message) {
+        String statements = activity.getExecutionsByStatement().entrySet().stream()
+                .map(entry -> entry.getValue() + " x " + entry.getKey())
+                .collect(Collectors.joining("\n  "));
+        throw new AssertionError(message + "\n" + activity + "\nStatements:\n  " + statements);
+    }
+}